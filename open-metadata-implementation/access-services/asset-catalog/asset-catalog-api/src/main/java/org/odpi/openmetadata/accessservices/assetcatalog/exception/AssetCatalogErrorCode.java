@@ -25,6 +25,11 @@ import org.odpi.openmetadata.frameworks.auditlog.messagesets.ExceptionMessageSet
  */
 public enum AssetCatalogErrorCode implements ExceptionMessageSet {
 
+    SEARCH_INDEX_NOT_CONFIGURED(400, "OMAS-ASSET-CATALOG-400-001 ",
+            "The search index is not configured for the Asset Catalog OMAS in server {0}",
+            "The system is unable to rebuild the search index.",
+            "Set the SearchIndexDirectory option in the configuration of the Asset Catalog OMAS and restart the server."),
+
     OMRS_NOT_INITIALIZED(404, "OMAS-ASSET-CATALOG-404-001 ",
             "The open metadata repository services are not initialized for server {0}",
             "The system is unable to connect to the open metadata property server.",
@@ -3,6 +3,8 @@
 package org.odpi.openmetadata.accessservices.assetcatalog.admin;
 
 import org.odpi.openmetadata.accessservices.assetcatalog.auditlog.AssetCatalogAuditCode;
+import org.odpi.openmetadata.accessservices.assetcatalog.index.AssetCatalogSearchIndex;
+import org.odpi.openmetadata.accessservices.assetcatalog.listener.AssetCatalogOMRSTopicListener;
 import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
@@ -22,8 +24,10 @@ import java.util.List;
 public class AssetCatalogAdmin extends AccessServiceAdmin {
 
     public static final String SUPPORTED_TYPES_FOR_SEARCH = "SupportedTypesForSearch";
+    public static final String SEARCH_INDEX_DIRECTORY = "SearchIndexDirectory";
     private AuditLog auditLog;
     private AssetCatalogServicesInstance instance;
+    private AssetCatalogSearchIndex searchIndex;
 
 
     /**
@@ -53,11 +57,34 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
 
             List<String> supportedTypesForSearch = getSupportedTypesForSearchOption(accessServiceConfigurationProperties);
 
+            String searchIndexDirectory = getSearchIndexDirectoryOption(accessServiceConfigurationProperties);
+            if (searchIndexDirectory != null) {
+                searchIndex = new AssetCatalogSearchIndex(accessServiceConfigurationProperties.getAccessServiceName(),
+                        repositoryConnector.getRepositoryHelper(), searchIndexDirectory);
+            }
+
             instance = new AssetCatalogServicesInstance(repositoryConnector, supportedZones, auditLog, serverUserName,
-                    accessServiceConfigurationProperties.getAccessServiceName(), supportedTypesForSearch);
+                    accessServiceConfigurationProperties.getAccessServiceName(), supportedTypesForSearch, searchIndex);
+
+            if (searchIndex != null) {
+                AssetCatalogOMRSTopicListener omrsTopicListener = new AssetCatalogOMRSTopicListener(
+                        accessServiceConfigurationProperties.getAccessServiceName(), searchIndex, auditLog);
+                super.registerWithEnterpriseTopic(accessServiceConfigurationProperties.getAccessServiceName(),
+                        instance.getServerName(),
+                        enterpriseOMRSTopicConnector,
+                        omrsTopicListener,
+                        auditLog);
+
+                if (!searchIndex.isBuilt()) {
+                    buildSearchIndex(searchIndexDirectory, serverUserName);
+                }
+            }
 
             auditLog.logMessage(actionDescription, AssetCatalogAuditCode.SERVICE_INITIALIZED.getMessageDefinition());
         } catch (Exception error) {
+            if (searchIndex != null) {
+                searchIndex.close();
+            }
             auditLog.logException(actionDescription, AssetCatalogAuditCode.SERVICE_INSTANCE_FAILURE.getMessageDefinition(), error);
 
             super.throwUnexpectedInitializationException(actionDescription, AccessServiceDescription.ASSET_CATALOG_OMAS.getAccessServiceFullName(), error);
@@ -72,6 +99,10 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
             instance.shutdown();
         }
 
+        if (searchIndex != null) {
+            searchIndex.close();
+        }
+
         if (auditLog != null) {
             final String actionDescription = "shutdown";
 
@@ -79,6 +110,40 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
         }
     }
 
+    /**
+     * Build the new search index from the repositories in the background. Searches use the repositories until
+     * the index is built.
+     *
+     * @param searchIndexDirectory directory of the search index
+     * @param serverUserName       user id to use for the repository calls
+     */
+    private void buildSearchIndex(String searchIndexDirectory, String serverUserName) {
+        final String actionDescription = "buildSearchIndex";
+
+        Thread builder = new Thread(() -> {
+            auditLog.logMessage(actionDescription, AssetCatalogAuditCode.SEARCH_INDEX_REBUILDING.getMessageDefinition(searchIndexDirectory));
+            try {
+                int numberOfEntities = instance.getAssetCatalogHandler().rebuildSearchIndex(serverUserName);
+                auditLog.logMessage(actionDescription, AssetCatalogAuditCode.SEARCH_INDEX_REBUILT.getMessageDefinition(String.valueOf(numberOfEntities)));
+            } catch (Exception error) {
+                auditLog.logException(actionDescription, AssetCatalogAuditCode.SEARCH_INDEX_REBUILD_FAILURE.getMessageDefinition(error.getMessage()), error);
+            }
+        }, "AssetCatalogSearchIndexBuilder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    private String getSearchIndexDirectoryOption(AccessServiceConfig accessServiceConfigurationProperties) {
+        if (accessServiceConfigurationProperties.getAccessServiceOptions() != null) {
+            Object searchIndexDirectory = accessServiceConfigurationProperties.getAccessServiceOptions().get(SEARCH_INDEX_DIRECTORY);
+            if (searchIndexDirectory instanceof String) {
+                return (String) searchIndexDirectory;
+            }
+        }
+
+        return null;
+    }
+
     private List<String> getSupportedTypesForSearchOption(AccessServiceConfig accessServiceConfigurationProperties) {
         if (accessServiceConfigurationProperties.getAccessServiceOptions() != null) {
             Object supportedTypesProperty = accessServiceConfigurationProperties.getAccessServiceOptions().get(SUPPORTED_TYPES_FOR_SEARCH);
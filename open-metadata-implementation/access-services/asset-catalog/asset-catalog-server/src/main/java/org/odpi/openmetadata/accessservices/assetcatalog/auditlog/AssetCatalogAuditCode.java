@@ -43,7 +43,25 @@ public enum AssetCatalogAuditCode implements AuditLogMessageSet {
             OMRSAuditLogRecordSeverity.SHUTDOWN,
             "The Asset Catalog Open Metadata Access Service (OMAS) is shutting down its instance for server {0}",
             "The local server has requested shut down of an Asset Catalog OMAS instance.",
-            "No action is required.  This is part of the normal operation of the service.");
+            "No action is required.  This is part of the normal operation of the service."),
+
+    SEARCH_INDEX_REBUILDING("OMAS-ASSET-CATALOG-0005",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The Asset Catalog Open Metadata Access Service (OMAS) is building its search index in directory {0}",
+            "The search index is created from the entities in the repositories.  Searches use the repositories until it is built.",
+            "No action is required.  This is part of the normal operation of the service."),
+
+    SEARCH_INDEX_REBUILT("OMAS-ASSET-CATALOG-0006",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The Asset Catalog Open Metadata Access Service (OMAS) has built its search index with {0} entities",
+            "Searches use the search index, which is kept current with the events from the cohorts.",
+            "No action is required.  This is part of the normal operation of the service."),
+
+    SEARCH_INDEX_REBUILD_FAILURE("OMAS-ASSET-CATALOG-0007",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The Asset Catalog Open Metadata Access Service (OMAS) is unable to build its search index; error message is {0}",
+            "Searches use the repositories instead of the search index.",
+            "Review the error message to determine the cause of the problem.  Once this is resolved, rebuild the search index.");
 
 
     private AuditLogMessageDefinition messageDefinition;
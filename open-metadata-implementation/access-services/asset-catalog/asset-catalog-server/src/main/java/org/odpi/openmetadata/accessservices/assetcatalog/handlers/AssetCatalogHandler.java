@@ -6,6 +6,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.odpi.openmetadata.accessservices.assetcatalog.builders.AssetConverter;
 import org.odpi.openmetadata.accessservices.assetcatalog.exception.AssetCatalogErrorCode;
 import org.odpi.openmetadata.accessservices.assetcatalog.exception.AssetCatalogException;
+import org.odpi.openmetadata.accessservices.assetcatalog.index.AssetCatalogSearchIndex;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetDescription;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetElement;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetElements;
@@ -30,6 +31,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
@@ -38,9 +40,11 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorExceptio
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -64,10 +68,10 @@ public class AssetCatalogHandler {
     private final RepositoryErrorHandler errorHandler;
     private final CommonHandler commonHandler;
     private AssetConverter assetConverter;
-    private List<String> defaultSearchTypes = new ArrayList<>(Arrays.asList(GLOSSARY_TERM_GUID, ASSET_GUID, SCHEMA_ELEMENT_GUID));
     private List<String> supportedTypesForSearch = new ArrayList<>(Arrays.asList(GLOSSARY_TERM, ASSET, SCHEMA_ELEMENT));
 
     private List<String> supportedZones;
+    private AssetCatalogSearchIndex searchIndex;
 
     /**
      * Construct the handler information needed to interact with the repository services
@@ -80,10 +84,12 @@ public class AssetCatalogHandler {
      * @param errorHandler            provides common validation routines for the other handler classes
      * @param supportedZones          configurable list of zones that Asset Catalog is allowed to serve Assets from
      * @param supportedTypesForSearch configurable list of supported types used for search
+     * @param searchIndex             the search index used by searchByType, or null to search the repositories
      */
     public AssetCatalogHandler(String serverUserName, String sourceName, InvalidParameterHandler invalidParameterHandler,
                                RepositoryHandler repositoryHandler, OMRSRepositoryHelper repositoryHelper,
-                               RepositoryErrorHandler errorHandler, List<String> supportedZones, List<String> supportedTypesForSearch) {
+                               RepositoryErrorHandler errorHandler, List<String> supportedZones, List<String> supportedTypesForSearch,
+                               AssetCatalogSearchIndex searchIndex) {
         this.serverUserName = serverUserName;
         this.sourceName = sourceName;
         this.invalidParameterHandler = invalidParameterHandler;
@@ -96,6 +102,7 @@ public class AssetCatalogHandler {
             this.supportedTypesForSearch = supportedTypesForSearch;
         }
         this.assetConverter = new AssetConverter(sourceName, repositoryHelper);
+        this.searchIndex = searchIndex;
     }
 
     /**
@@ -386,12 +393,15 @@ public class AssetCatalogHandler {
         invalidParameterHandler.validateObject(searchParameters, SEARCH_PARAMETER, methodName);
         invalidParameterHandler.validatePaging(searchParameters.getFrom(), searchParameters.getPageSize(), methodName);
 
-        List<EntityDetail> result;
-        if (CollectionUtils.isNotEmpty(searchParameters.getEntityTypes())) {
-            List<String> typesFilter = commonHandler.getTypesGUID(userId, searchParameters.getEntityTypes());
-            result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, typesFilter);
-        } else {
-            result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, defaultSearchTypes);
+        List<EntityDetail> result = searchIndexedEntities(userId, searchCriteria, searchParameters);
+        if (result == null) {
+            if (CollectionUtils.isNotEmpty(searchParameters.getEntityTypes())) {
+                List<String> typesFilter = commonHandler.getTypesGUID(userId, searchParameters.getEntityTypes());
+                result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, typesFilter);
+            } else {
+                result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters,
+                        commonHandler.getTypesGUID(userId, supportedTypesForSearch));
+            }
         }
 
         List<AssetElements> list = new ArrayList<>();
@@ -414,6 +424,39 @@ public class AssetCatalogHandler {
         return list;
     }
 
+    /**
+     * Rebuild the search index from the repositories. This recovers an index that has missed events.
+     *
+     * @param userId user identifier that issues the call
+     * @return the number of entities in the search index
+     * @throws AssetCatalogException      the search index is not configured
+     * @throws InvalidParameterException  the user identifier is null
+     * @throws PropertyServerException    the entities can not be retrieved from the repositories or the index can not be written
+     * @throws UserNotAuthorizedException the user is not authorized to retrieve the entities
+     */
+    public int rebuildSearchIndex(String userId)
+            throws AssetCatalogException, InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        String methodName = "rebuildSearchIndex";
+        invalidParameterHandler.validateUserId(userId, methodName);
+
+        if (searchIndex == null) {
+            throw new AssetCatalogException(AssetCatalogErrorCode.SEARCH_INDEX_NOT_CONFIGURED.getMessageDefinition(serverUserName),
+                    this.getClass().getName(),
+                    methodName);
+        }
+
+        try {
+            return searchIndex.rebuild(userId, commonHandler.getOMRSMetadataCollection(),
+                    commonHandler.getTypesGUID(userId, supportedTypesForSearch));
+        } catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException e) {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        } catch (IOException | FunctionNotSupportedException | org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException
+                | PropertyErrorException | TypeErrorException | PagingErrorException | RepositoryErrorException e) {
+            errorHandler.handleRepositoryError(e, methodName);
+        }
+        return 0;
+    }
+
     /**
      * @param userId            user identifier that issues the call
      * @param entityGUID        the identifier of the entity
@@ -554,6 +597,58 @@ public class AssetCatalogHandler {
         return result;
     }
 
+    /**
+     * Return the page of entities found with the search index, or null if the search can not be answered by the index:
+     * the index is not configured or not built, the search is case sensitive or sequenced by a property,
+     * a searched type is not indexed or the search criteria has no words.
+     */
+    private List<EntityDetail> searchIndexedEntities(String userId,
+                                                     String searchCriteria,
+                                                     SearchParameters searchParameters)
+            throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException,
+            org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException {
+        if (searchIndex == null || !searchIndex.isBuilt() || !searchParameters.isCaseInsensitive()
+                || searchParameters.getSequencingProperty() != null) {
+            return null;
+        }
+
+        Set<String> typeNames;
+        if (CollectionUtils.isNotEmpty(searchParameters.getEntityTypes())) {
+            typeNames = new HashSet<>(searchParameters.getEntityTypes());
+        } else {
+            typeNames = new HashSet<>(supportedTypesForSearch);
+        }
+        for (String typeName : typeNames) {
+            if (!searchIndex.isIndexedType(commonHandler.collectSuperTypes(userId, typeName))) {
+                return null;
+            }
+        }
+
+        List<String> guids;
+        try {
+            guids = searchIndex.search(searchCriteria, typeNames, supportedZones,
+                    searchParameters.getLimitResultsByClassification(), searchParameters.getFrom(), searchParameters.getPageSize());
+        } catch (IOException e) {
+            log.error("Unable to search the Asset Catalog search index, searching the repositories", e);
+            return null;
+        }
+        if (guids == null) {
+            return null;
+        }
+
+        OMRSMetadataCollection metadataCollection = commonHandler.getOMRSMetadataCollection();
+        List<EntityDetail> result = new ArrayList<>();
+        for (String guid : guids) {
+            try {
+                result.add(metadataCollection.getEntityDetail(userId, guid));
+            } catch (EntityNotKnownException | EntityProxyOnlyException e) {
+                log.debug("The entity {} is no longer available and is removed from the search index", guid);
+                searchIndex.removeEntity(guid);
+            }
+        }
+        return result;
+    }
+
     private void getContextForSchemaElement(String userId,
                                             EntityDetail entityDetail,
                                             AssetElement assetElement)
@@ -31,6 +31,7 @@ import java.util.stream.Collectors;
 import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.ASSET_ZONE_MEMBERSHIP;
 import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.GUID_PARAMETER;
 import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.REFERENCEABLE;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.ZONE_MEMBERSHIP;
 
 /**
  * Common  Handler supports the lookup types and metadata collection.
@@ -39,7 +40,6 @@ import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.R
  */
 public class CommonHandler {
 
-    public static final String ZONE_MEMBERSHIP = "zoneMembership";
     private final String sourceName;
     private final RepositoryHandler repositoryHandler;
     private final OMRSRepositoryHelper repositoryHelper;
@@ -0,0 +1,433 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.index;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.util.CharTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.ASSET;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.ASSET_ZONE_MEMBERSHIP;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.DESCRIPTION;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.DISPLAY_NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.GLOSSARY_TERM;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.QUALIFIED_NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.SCHEMA_ELEMENT;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.ZONE_MEMBERSHIP;
+
+/**
+ * AssetCatalogSearchIndex is an embedded Lucene index of the glossary terms, assets and schema elements that
+ * the Asset Catalog OMAS searches. The names, display names, descriptions and qualified names are tokenised,
+ * and the type names (including the super types), zones and classifications are indexed as facets so that the
+ * type, zone and classification filters are applied before the results are ranked (BM25) and paged.
+ * <p>
+ * The index is kept current from the OMRS events received by the access service. It can be rebuilt from the
+ * repositories, which is done the first time the index is created and is needed to recover an index that has
+ * missed events (for example because the server stopped before the latest changes were committed).
+ */
+public class AssetCatalogSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetCatalogSearchIndex.class);
+
+    private static final List<String> INDEXED_TYPES = Collections.unmodifiableList(Arrays.asList(GLOSSARY_TERM, ASSET, SCHEMA_ELEMENT));
+
+    private static final String GUID_FIELD = "guid";
+    private static final String TYPE_FIELD = "type";
+    private static final String ZONE_FIELD = "zone";
+    private static final String UNZONED_FIELD = "unzoned";
+    private static final String CLASSIFICATION_FIELD = "classification";
+    private static final String NAME_FIELD = "name";
+    private static final String QUALIFIED_NAME_FIELD = "qualifiedName";
+    private static final String DESCRIPTION_FIELD = "description";
+    private static final String TRUE = "true";
+
+    private static final String BUILT_PROPERTY = "built";
+    private static final int COMMIT_INTERVAL = 100;
+    private static final int REBUILD_PAGE_SIZE = 100;
+    private static final int MAXIMUM_SEARCH_TOKENS = 64;
+
+    private final String sourceName;
+    private final OMRSRepositoryHelper repositoryHelper;
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+
+    private volatile boolean built;
+    private int uncommittedChanges = 0;
+
+    /**
+     * Open (or create) the search index in a local directory.
+     *
+     * @param sourceName       name of the component
+     * @param repositoryHelper provides utilities for manipulating the repository services objects
+     * @param indexDirectory   path of the directory that holds the index
+     * @throws IOException the index can not be opened
+     */
+    public AssetCatalogSearchIndex(String sourceName, OMRSRepositoryHelper repositoryHelper, String indexDirectory)
+            throws IOException {
+        this.sourceName = sourceName;
+        this.repositoryHelper = repositoryHelper;
+        this.directory = FSDirectory.open(Paths.get(indexDirectory));
+        this.analyzer = new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                Tokenizer tokenizer = CharTokenizer.fromTokenCharPredicate(Character::isLetterOrDigit);
+                return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+            }
+        };
+
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+
+        this.indexWriter = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(indexWriter, null);
+        this.built = isMarkedBuilt(indexWriter.getLiveCommitData());
+    }
+
+    /**
+     * Return whether the index has been built from the repositories. Until it has, searches should use the
+     * repositories.
+     *
+     * @return true if the index can be used for searches
+     */
+    public boolean isBuilt() {
+        return built;
+    }
+
+    /**
+     * Return whether searches for the given types can be answered by the index.
+     *
+     * @param typeNames the names of the searched types together with their super types
+     * @return true if the types are glossary terms, assets or schema elements
+     */
+    public boolean isIndexedType(Collection<String> typeNames) {
+        return CollectionUtils.containsAny(INDEXED_TYPES, typeNames);
+    }
+
+    /**
+     * Add or replace an entity in the index. Entities that are not active, or are not glossary terms, assets or
+     * schema elements, are removed from the index.
+     *
+     * @param entityDetail the entity
+     */
+    public void indexEntity(EntityDetail entityDetail) {
+        if (entityDetail == null || entityDetail.getGUID() == null) {
+            return;
+        }
+
+        try {
+            Set<String> typeNames = getTypeNames(entityDetail.getType());
+            if (entityDetail.getStatus() != InstanceStatus.ACTIVE || !isIndexedType(typeNames)) {
+                indexWriter.deleteDocuments(new Term(GUID_FIELD, entityDetail.getGUID()));
+            } else {
+                indexWriter.updateDocument(new Term(GUID_FIELD, entityDetail.getGUID()), buildDocument(entityDetail, typeNames));
+            }
+            changed();
+        } catch (IOException | RuntimeException e) {
+            log.error("Unable to index the entity {}", entityDetail.getGUID(), e);
+        }
+    }
+
+    /**
+     * Remove an entity from the index.
+     *
+     * @param guid unique identifier of the entity
+     */
+    public void removeEntity(String guid) {
+        if (guid == null) {
+            return;
+        }
+
+        try {
+            indexWriter.deleteDocuments(new Term(GUID_FIELD, guid));
+            changed();
+        } catch (IOException | RuntimeException e) {
+            log.error("Unable to remove the entity {} from the index", guid, e);
+        }
+    }
+
+    /**
+     * Return a page of the unique identifiers of the entities that match the search criteria, ranked by relevance.
+     * All the words in the search criteria must match a word, or the start of a word, in the name, display name,
+     * qualified name or description of the entity.
+     *
+     * @param searchCriteria                 the words to search for
+     * @param typeNames                      the entity must have one of these types (or a sub type)
+     * @param supportedZones                 the entity must be in one of these zones, or in no zone; empty for all zones
+     * @param limitResultsByClassification   the entity must have at least one of these classifications
+     * @param from                           the starting element number of the page
+     * @param pageSize                       maximum number of elements in the page; 0 for all the elements
+     * @return the unique identifiers of the entities in the page; null if the search criteria has no words
+     * @throws IOException the index can not be read
+     */
+    public List<String> search(String searchCriteria, Collection<String> typeNames, List<String> supportedZones,
+                               List<String> limitResultsByClassification, int from, int pageSize) throws IOException {
+        List<String> tokens = getTokens(searchCriteria);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String token : tokens) {
+            query.add(buildTokenQuery(token), BooleanClause.Occur.MUST);
+        }
+
+        query.add(buildAnyOfQuery(TYPE_FIELD, typeNames), BooleanClause.Occur.FILTER);
+
+        if (CollectionUtils.isNotEmpty(supportedZones)) {
+            BooleanQuery.Builder zoneQuery = new BooleanQuery.Builder();
+            zoneQuery.add(new TermQuery(new Term(UNZONED_FIELD, TRUE)), BooleanClause.Occur.SHOULD);
+            for (String zone : supportedZones) {
+                zoneQuery.add(new TermQuery(new Term(ZONE_FIELD, zone)), BooleanClause.Occur.SHOULD);
+            }
+            query.add(zoneQuery.build(), BooleanClause.Occur.FILTER);
+        }
+
+        if (CollectionUtils.isNotEmpty(limitResultsByClassification)) {
+            query.add(buildAnyOfQuery(CLASSIFICATION_FIELD, limitResultsByClassification), BooleanClause.Occur.FILTER);
+        }
+
+        searcherManager.maybeRefresh();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int numberOfHits = pageSize == 0 ? Math.max(1, searcher.getIndexReader().maxDoc()) : from + pageSize;
+            TopDocs topDocs = searcher.search(query.build(), numberOfHits);
+
+            List<String> guids = new ArrayList<>();
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = from; i < scoreDocs.length; i++) {
+                guids.add(searcher.doc(scoreDocs[i].doc).get(GUID_FIELD));
+            }
+            return guids;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Replace the content of the index with the glossary terms, assets and schema elements retrieved from the
+     * repositories.
+     *
+     * @param userId             user identifier that issues the call
+     * @param metadataCollection the metadata collection used to retrieve the entities
+     * @param typeGUIDs          the unique identifiers of the indexed types
+     * @return the number of entities in the index
+     * @throws IOException the index can not be written
+     * @throws UserNotAuthorizedException    the user is not authorized to retrieve the entities
+     * @throws FunctionNotSupportedException the repository does not support the search
+     * @throws InvalidParameterException     a parameter of the search is not valid
+     * @throws PropertyErrorException        the search properties are not valid for the type
+     * @throws TypeErrorException            a type is not known
+     * @throws PagingErrorException          the paging parameters are not valid
+     * @throws RepositoryErrorException      there is a problem communicating with the metadata repository
+     */
+    public synchronized int rebuild(String userId, OMRSMetadataCollection metadataCollection, List<String> typeGUIDs)
+            throws IOException, UserNotAuthorizedException, FunctionNotSupportedException, InvalidParameterException,
+            PropertyErrorException, TypeErrorException, PagingErrorException, RepositoryErrorException {
+        built = false;
+        indexWriter.deleteAll();
+        commit();
+
+        for (String typeGUID : typeGUIDs) {
+            int from = 0;
+            List<EntityDetail> page;
+            do {
+                page = metadataCollection.findEntitiesByPropertyValue(userId, typeGUID, ".*", from,
+                        Collections.singletonList(InstanceStatus.ACTIVE), null, null, null,
+                        SequencingOrder.ANY, REBUILD_PAGE_SIZE);
+                if (page != null) {
+                    page.forEach(this::indexEntity);
+                    from += page.size();
+                }
+            } while (page != null && page.size() == REBUILD_PAGE_SIZE);
+        }
+
+        built = true;
+        commit();
+
+        int numberOfEntities = indexWriter.numDocs();
+        log.info("Rebuilt the Asset Catalog search index with {} entities", numberOfEntities);
+        return numberOfEntities;
+    }
+
+    /**
+     * Commit the pending changes and close the index.
+     */
+    public void close() {
+        try {
+            commit();
+            searcherManager.close();
+            indexWriter.close();
+            directory.close();
+        } catch (IOException | RuntimeException e) {
+            log.error("Unable to close the Asset Catalog search index", e);
+        }
+    }
+
+    private Document buildDocument(EntityDetail entityDetail, Set<String> typeNames) {
+        final String methodName = "buildDocument";
+
+        Document document = new Document();
+        document.add(new StringField(GUID_FIELD, entityDetail.getGUID(), Field.Store.YES));
+        for (String typeName : typeNames) {
+            document.add(new StringField(TYPE_FIELD, typeName, Field.Store.NO));
+        }
+
+        InstanceProperties properties = entityDetail.getProperties();
+        addTextField(document, NAME_FIELD, repositoryHelper.getStringProperty(sourceName, NAME, properties, methodName));
+        addTextField(document, NAME_FIELD, repositoryHelper.getStringProperty(sourceName, DISPLAY_NAME, properties, methodName));
+        addTextField(document, QUALIFIED_NAME_FIELD, repositoryHelper.getStringProperty(sourceName, QUALIFIED_NAME, properties, methodName));
+        addTextField(document, DESCRIPTION_FIELD, repositoryHelper.getStringProperty(sourceName, DESCRIPTION, properties, methodName));
+
+        List<String> zones = null;
+        if (entityDetail.getClassifications() != null) {
+            for (Classification classification : entityDetail.getClassifications()) {
+                document.add(new StringField(CLASSIFICATION_FIELD, classification.getName(), Field.Store.NO));
+                if (ASSET_ZONE_MEMBERSHIP.equals(classification.getName())) {
+                    zones = repositoryHelper.getStringArrayProperty(sourceName, ZONE_MEMBERSHIP,
+                            classification.getProperties(), methodName);
+                }
+            }
+        }
+
+        if (CollectionUtils.isEmpty(zones)) {
+            document.add(new StringField(UNZONED_FIELD, TRUE, Field.Store.NO));
+        } else {
+            for (String zone : zones) {
+                document.add(new StringField(ZONE_FIELD, zone, Field.Store.NO));
+            }
+        }
+
+        return document;
+    }
+
+    private void addTextField(Document document, String fieldName, String value) {
+        if (value != null) {
+            document.add(new TextField(fieldName, value, Field.Store.NO));
+        }
+    }
+
+    private Query buildTokenQuery(String token) {
+        BooleanQuery.Builder tokenQuery = new BooleanQuery.Builder();
+        tokenQuery.add(new BoostQuery(new TermQuery(new Term(NAME_FIELD, token)), 3f), BooleanClause.Occur.SHOULD);
+        tokenQuery.add(new BoostQuery(new TermQuery(new Term(QUALIFIED_NAME_FIELD, token)), 2f), BooleanClause.Occur.SHOULD);
+        tokenQuery.add(new TermQuery(new Term(DESCRIPTION_FIELD, token)), BooleanClause.Occur.SHOULD);
+        tokenQuery.add(new PrefixQuery(new Term(NAME_FIELD, token)), BooleanClause.Occur.SHOULD);
+        tokenQuery.add(new PrefixQuery(new Term(QUALIFIED_NAME_FIELD, token)), BooleanClause.Occur.SHOULD);
+        tokenQuery.add(new PrefixQuery(new Term(DESCRIPTION_FIELD, token)), BooleanClause.Occur.SHOULD);
+        return tokenQuery.build();
+    }
+
+    private Query buildAnyOfQuery(String fieldName, Collection<String> values) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String value : values) {
+            query.add(new TermQuery(new Term(fieldName, value)), BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    private List<String> getTokens(String searchCriteria) throws IOException {
+        Set<String> tokens = new LinkedHashSet<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(NAME_FIELD, searchCriteria)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken() && tokens.size() < MAXIMUM_SEARCH_TOKENS) {
+                tokens.add(term.toString());
+            }
+            tokenStream.end();
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private Set<String> getTypeNames(InstanceType instanceType) {
+        Set<String> typeNames = new HashSet<>();
+        if (instanceType != null) {
+            typeNames.add(instanceType.getTypeDefName());
+            if (instanceType.getTypeDefSuperTypes() != null) {
+                for (TypeDefLink superType : instanceType.getTypeDefSuperTypes()) {
+                    typeNames.add(superType.getName());
+                }
+            }
+        }
+        return typeNames;
+    }
+
+    private synchronized void changed() throws IOException {
+        uncommittedChanges++;
+        if (uncommittedChanges >= COMMIT_INTERVAL) {
+            commit();
+        }
+    }
+
+    private synchronized void commit() throws IOException {
+        indexWriter.setLiveCommitData(Collections.singletonMap(BUILT_PROPERTY, String.valueOf(built)).entrySet());
+        indexWriter.commit();
+        uncommittedChanges = 0;
+    }
+
+    private boolean isMarkedBuilt(Iterable<Map.Entry<String, String>> commitData) {
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (BUILT_PROPERTY.equals(entry.getKey())) {
+                    return TRUE.equals(entry.getValue());
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,198 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.listener;
+
+import org.odpi.openmetadata.accessservices.assetcatalog.index.AssetCatalogSearchIndex;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+
+/**
+ * AssetCatalogOMRSTopicListener receives details of each OMRS event from the cohorts that the local server
+ * is connected to. It keeps the Asset Catalog search index current with the entity events.
+ */
+public class AssetCatalogOMRSTopicListener extends OMRSTopicListenerBase {
+
+    private final AssetCatalogSearchIndex searchIndex;
+
+    /**
+     * @param serviceName name of the access service
+     * @param searchIndex the search index that is updated with the entity events
+     * @param auditLog    logging destination
+     */
+    public AssetCatalogOMRSTopicListener(String serviceName, AssetCatalogSearchIndex searchIndex, AuditLog auditLog) {
+        super(serviceName, auditLog);
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public void processNewEntityEvent(String sourceName,
+                                      String originatorMetadataCollectionId,
+                                      String originatorServerName,
+                                      String originatorServerType,
+                                      String originatorOrganizationName,
+                                      EntityDetail entity) {
+        searchIndex.indexEntity(entity);
+    }
+
+    @Override
+    public void processUpdatedEntityEvent(String sourceName,
+                                          String originatorMetadataCollectionId,
+                                          String originatorServerName,
+                                          String originatorServerType,
+                                          String originatorOrganizationName,
+                                          EntityDetail oldEntity,
+                                          EntityDetail newEntity) {
+        searchIndex.indexEntity(newEntity);
+    }
+
+    @Override
+    public void processUndoneEntityEvent(String sourceName,
+                                         String originatorMetadataCollectionId,
+                                         String originatorServerName,
+                                         String originatorServerType,
+                                         String originatorOrganizationName,
+                                         EntityDetail entity) {
+        searchIndex.indexEntity(entity);
+    }
+
+    @Override
+    public void processClassifiedEntityEvent(String sourceName,
+                                             String originatorMetadataCollectionId,
+                                             String originatorServerName,
+                                             String originatorServerType,
+                                             String originatorOrganizationName,
+                                             EntityDetail entity) {
+        searchIndex.indexEntity(entity);
+    }
+
+    @Override
+    public void processDeclassifiedEntityEvent(String sourceName,
+                                               String originatorMetadataCollectionId,
+                                               String originatorServerName,
+                                               String originatorServerType,
+                                               String originatorOrganizationName,
+                                               EntityDetail entity) {
+        searchIndex.indexEntity(entity);
+    }
+
+    @Override
+    public void processReclassifiedEntityEvent(String sourceName,
+                                               String originatorMetadataCollectionId,
+                                               String originatorServerName,
+                                               String originatorServerType,
+                                               String originatorOrganizationName,
+                                               EntityDetail entity) {
+        searchIndex.indexEntity(entity);
+    }
+
+    @Override
+    public void processDeletedEntityEvent(String sourceName,
+                                          String originatorMetadataCollectionId,
+                                          String originatorServerName,
+                                          String originatorServerType,
+                                          String originatorOrganizationName,
+                                          EntityDetail entity) {
+        if (entity != null) {
+            searchIndex.removeEntity(entity.getGUID());
+        }
+    }
+
+    @Override
+    public void processPurgedEntityEvent(String sourceName,
+                                         String originatorMetadataCollectionId,
+                                         String originatorServerName,
+                                         String originatorServerType,
+                                         String originatorOrganizationName,
+                                         String typeDefGUID,
+                                         String typeDefName,
+                                         String instanceGUID) {
+        searchIndex.removeEntity(instanceGUID);
+    }
+
+    @Override
+    public void processDeletePurgedEntityEvent(String sourceName,
+                                               String originatorMetadataCollectionId,
+                                               String originatorServerName,
+                                               String originatorServerType,
+                                               String originatorOrganizationName,
+                                               EntityDetail entity) {
+        if (entity != null) {
+            searchIndex.removeEntity(entity.getGUID());
+        }
+    }
+
+    @Override
+    public void processRestoredEntityEvent(String sourceName,
+                                           String originatorMetadataCollectionId,
+                                           String originatorServerName,
+                                           String originatorServerType,
+                                           String originatorOrganizationName,
+                                           EntityDetail entity) {
+        searchIndex.indexEntity(entity);
+    }
+
+    @Override
+    public void processReIdentifiedEntityEvent(String sourceName,
+                                               String originatorMetadataCollectionId,
+                                               String originatorServerName,
+                                               String originatorServerType,
+                                               String originatorOrganizationName,
+                                               String originalEntityGUID,
+                                               EntityDetail entity) {
+        searchIndex.removeEntity(originalEntityGUID);
+        searchIndex.indexEntity(entity);
+    }
+
+    @Override
+    public void processReTypedEntityEvent(String sourceName,
+                                          String originatorMetadataCollectionId,
+                                          String originatorServerName,
+                                          String originatorServerType,
+                                          String originatorOrganizationName,
+                                          TypeDefSummary originalTypeDefSummary,
+                                          EntityDetail entity) {
+        searchIndex.indexEntity(entity);
+    }
+
+    @Override
+    public void processReHomedEntityEvent(String sourceName,
+                                          String originatorMetadataCollectionId,
+                                          String originatorServerName,
+                                          String originatorServerType,
+                                          String originatorOrganizationName,
+                                          String originalHomeMetadataCollectionId,
+                                          EntityDetail entity) {
+        searchIndex.indexEntity(entity);
+    }
+
+    @Override
+    public void processRefreshEntityEvent(String sourceName,
+                                          String originatorMetadataCollectionId,
+                                          String originatorServerName,
+                                          String originatorServerType,
+                                          String originatorOrganizationName,
+                                          EntityDetail entity) {
+        searchIndex.indexEntity(entity);
+    }
+
+    /**
+     * Index, or remove from the index, each entity in a batch of instances. The index holds entities only, so the
+     * relationships in the batch do not change it.
+     */
+    @Override
+    public void processInstanceBatchEvent(String sourceName,
+                                          String originatorMetadataCollectionId,
+                                          String originatorServerName,
+                                          String originatorServerType,
+                                          String originatorOrganizationName,
+                                          InstanceGraph instances) {
+        if (instances != null && instances.getEntities() != null) {
+            for (EntityDetail entity : instances.getEntities()) {
+                searchIndex.indexEntity(entity);
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.odpi.openmetadata.accessservices.assetcatalog.handlers.AssetCatalogHa
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetDescription;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.AssetElements;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.body.SearchParameters;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetCatalogOMASAPIResponse;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetCatalogSupportedTypes;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetDescriptionListResponse;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetDescriptionResponse;
@@ -323,6 +324,37 @@ public class AssetCatalogRESTService {
         return response;
     }
 
+    /**
+     * Rebuild the search index used by searchByType from the repositories.
+     * This recovers an index that has missed events from the cohorts.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId     the unique identifier for the user
+     * @return void response or the exception raised while the index was rebuilt
+     */
+    public AssetCatalogOMASAPIResponse rebuildSearchIndex(String serverName, String userId) {
+        String methodName = "rebuildSearchIndex";
+        log.debug(CALLING_METHOD, methodName);
+
+        AssetCatalogOMASAPIResponse response = new AssetCatalogOMASAPIResponse();
+        try {
+            AssetCatalogHandler assetCatalogHandler = instanceHandler.getAssetCatalogHandler(userId, serverName, methodName);
+            assetCatalogHandler.rebuildSearchIndex(userId);
+        } catch (AssetCatalogException e) {
+            exceptionHandler.captureAssetCatalogExeption(response, e);
+        } catch (org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException e) {
+            restExceptionHandler.captureUserNotAuthorizedException(response, e);
+        } catch (org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException e) {
+            restExceptionHandler.captureInvalidParameterException(response, e);
+        } catch (org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException e) {
+            restExceptionHandler.capturePropertyServerException(response, e);
+        }
+
+        log.debug(METHOD_WITH_RESPONSE, methodName, response);
+
+        return response;
+    }
+
     /**
      * Return the full context of an asset/glossary term based on its identifier.
      * The response contains the list of the connections assigned to the asset.
@@ -0,0 +1,164 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.index;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AssetCatalogSearchIndexTest {
+
+    private static final String SOURCE_NAME = "Asset Catalog OMAS";
+    private static final String ASSET = "Asset";
+    private static final String GLOSSARY_TERM = "GlossaryTerm";
+    private static final String DATA_LAKE_ZONE = "data-lake";
+    private static final String QUARANTINE_ZONE = "quarantine";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private OMRSRepositoryHelper repositoryHelper;
+    private AssetCatalogSearchIndex searchIndex;
+
+    @Before
+    public void before() throws IOException {
+        repositoryHelper = mock(OMRSRepositoryHelper.class);
+        when(repositoryHelper.getStringProperty(anyString(), anyString(), any(), anyString()))
+                .thenAnswer(invocation -> getStringValue(invocation.getArgument(2), invocation.getArgument(1)));
+        when(repositoryHelper.getStringArrayProperty(anyString(), anyString(), any(), anyString()))
+                .thenAnswer(invocation -> Collections.singletonList(getStringValue(invocation.getArgument(2), invocation.getArgument(1))));
+        searchIndex = new AssetCatalogSearchIndex(SOURCE_NAME, repositoryHelper, folder.getRoot().getPath());
+    }
+
+    @After
+    public void after() {
+        searchIndex.close();
+    }
+
+    @Test
+    public void searchRanksMatchesAndFiltersTypes() throws IOException {
+        searchIndex.indexEntity(mockEntity("guid-1", "Asset", "Customer accounts", "(host)=h1::(database)=crm", null));
+        searchIndex.indexEntity(mockEntity("guid-2", "Asset", "Orders", "(host)=h1::(database)=customer-orders", null));
+        searchIndex.indexEntity(mockEntity("guid-3", "GlossaryTerm", "Customer", "glossary.customer", null));
+
+        assertEquals(Arrays.asList("guid-1", "guid-2"),
+                searchIndex.search("Cust", Collections.singletonList(ASSET), null, null, 0, 10));
+        assertEquals(Collections.singletonList("guid-3"),
+                searchIndex.search("customer", Collections.singletonList(GLOSSARY_TERM), null, null, 0, 10));
+        assertEquals(Collections.singletonList("guid-2"),
+                searchIndex.search("Cust", Collections.singletonList(ASSET), null, null, 1, 10));
+        assertEquals(Collections.singletonList("guid-1"),
+                searchIndex.search("customer accounts", Arrays.asList(ASSET, GLOSSARY_TERM), null, null, 0, 10));
+        assertNull(searchIndex.search("--", Collections.singletonList(ASSET), null, null, 0, 10));
+    }
+
+    @Test
+    public void searchFiltersZonesBeforePaging() throws IOException {
+        searchIndex.indexEntity(mockEntity("guid-1", "Asset", "Customer accounts", "crm.accounts", QUARANTINE_ZONE));
+        searchIndex.indexEntity(mockEntity("guid-2", "Asset", "Customer orders", "crm.orders", DATA_LAKE_ZONE));
+        searchIndex.indexEntity(mockEntity("guid-3", "Asset", "Customer contacts", "crm.contacts", null));
+
+        List<String> guids = searchIndex.search("customer", Collections.singletonList(ASSET),
+                Collections.singletonList(DATA_LAKE_ZONE), null, 0, 2);
+
+        assertEquals(2, guids.size());
+        assertFalse(guids.contains("guid-1"));
+    }
+
+    @Test
+    public void searchMatchesAnyOfTheClassifications() throws IOException {
+        EntityDetail confidentialEntity = mockEntity("guid-2", "Asset", "Customer orders", "crm.orders", null);
+        Classification confidentiality = new Classification();
+        confidentiality.setName("Confidentiality");
+        confidentialEntity.setClassifications(Collections.singletonList(confidentiality));
+
+        searchIndex.indexEntity(mockEntity("guid-1", "Asset", "Customer accounts", "crm.accounts", DATA_LAKE_ZONE));
+        searchIndex.indexEntity(confidentialEntity);
+        searchIndex.indexEntity(mockEntity("guid-3", "Asset", "Customer contacts", "crm.contacts", null));
+
+        List<String> guids = searchIndex.search("customer", Collections.singletonList(ASSET), null,
+                Arrays.asList("AssetZoneMembership", "Confidentiality"), 0, 10);
+
+        assertEquals(2, guids.size());
+        assertFalse(guids.contains("guid-3"));
+    }
+
+    @Test
+    public void deletedEntitiesAreRemoved() throws IOException {
+        EntityDetail entityDetail = mockEntity("guid-1", "Asset", "Customer accounts", "crm.accounts", null);
+        searchIndex.indexEntity(entityDetail);
+        searchIndex.indexEntity(mockEntity("guid-2", "Asset", "Customer orders", "crm.orders", null));
+
+        entityDetail.setStatus(InstanceStatus.DELETED);
+        searchIndex.indexEntity(entityDetail);
+        searchIndex.removeEntity("guid-2");
+
+        assertEquals(Collections.emptyList(),
+                searchIndex.search("customer", Collections.singletonList(ASSET), null, null, 0, 10));
+    }
+
+    private EntityDetail mockEntity(String guid, String typeName, String name, String qualifiedName, String zone) {
+        EntityDetail entityDetail = new EntityDetail();
+        entityDetail.setGUID(guid);
+        entityDetail.setStatus(InstanceStatus.ACTIVE);
+
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefName(typeName);
+        TypeDefLink superType = new TypeDefLink();
+        superType.setName("Referenceable");
+        instanceType.setTypeDefSuperTypes(Collections.singletonList(superType));
+        entityDetail.setType(instanceType);
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty("name", mockStringValue(name));
+        properties.setProperty("qualifiedName", mockStringValue(qualifiedName));
+        entityDetail.setProperties(properties);
+
+        if (zone != null) {
+            Classification classification = new Classification();
+            classification.setName("AssetZoneMembership");
+            InstanceProperties classificationProperties = new InstanceProperties();
+            classificationProperties.setProperty("zoneMembership", mockStringValue(zone));
+            classification.setProperties(classificationProperties);
+            entityDetail.setClassifications(Collections.singletonList(classification));
+        }
+
+        return entityDetail;
+    }
+
+    private PrimitivePropertyValue mockStringValue(String value) {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+        propertyValue.setPrimitiveValue(value);
+        return propertyValue;
+    }
+
+    private String getStringValue(InstanceProperties properties, String propertyName) {
+        if (properties == null || properties.getPropertyValue(propertyName) == null) {
+            return null;
+        }
+        return (String) ((PrimitivePropertyValue) properties.getPropertyValue(propertyName)).getPrimitiveValue();
+    }
+}
@@ -0,0 +1,64 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.listener;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.odpi.openmetadata.accessservices.assetcatalog.index.AssetCatalogSearchIndex;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+public class AssetCatalogOMRSTopicListenerTest {
+
+    private static final String SERVICE_NAME = "Asset Catalog OMAS";
+    private static final String SOURCE_NAME = "cohort";
+
+    private AssetCatalogSearchIndex searchIndex;
+    private AssetCatalogOMRSTopicListener listener;
+
+    @Before
+    public void before() {
+        searchIndex = mock(AssetCatalogSearchIndex.class);
+        listener = new AssetCatalogOMRSTopicListener(SERVICE_NAME, searchIndex, null);
+    }
+
+    @Test
+    public void batchEventIndexesEachEntity() {
+        EntityDetail newEntity = mockEntity("guid-1", InstanceStatus.ACTIVE);
+        EntityDetail deletedEntity = mockEntity("guid-2", InstanceStatus.DELETED);
+
+        InstanceGraph instances = new InstanceGraph();
+        instances.setEntities(Arrays.asList(newEntity, deletedEntity));
+        instances.setRelationships(Collections.singletonList(new Relationship()));
+
+        listener.processInstanceBatchEvent(SOURCE_NAME, null, null, null, null, instances);
+
+        verify(searchIndex).indexEntity(newEntity);
+        verify(searchIndex).indexEntity(deletedEntity);
+        verifyNoMoreInteractions(searchIndex);
+    }
+
+    @Test
+    public void emptyBatchEventIsIgnored() {
+        listener.processInstanceBatchEvent(SOURCE_NAME, null, null, null, null, new InstanceGraph());
+        listener.processInstanceBatchEvent(SOURCE_NAME, null, null, null, null, null);
+
+        verifyNoMoreInteractions(searchIndex);
+    }
+
+    private EntityDetail mockEntity(String guid, InstanceStatus status) {
+        EntityDetail entityDetail = new EntityDetail();
+        entityDetail.setGUID(guid);
+        entityDetail.setStatus(status);
+        return entityDetail;
+    }
+}
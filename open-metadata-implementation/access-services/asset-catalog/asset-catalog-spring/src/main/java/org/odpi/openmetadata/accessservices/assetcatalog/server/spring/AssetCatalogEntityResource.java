@@ -5,6 +5,7 @@ package org.odpi.openmetadata.accessservices.assetcatalog.server.spring;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.body.SearchParameters;
+import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetCatalogOMASAPIResponse;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetCatalogSupportedTypes;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetDescriptionListResponse;
 import org.odpi.openmetadata.accessservices.assetcatalog.model.rest.responses.AssetDescriptionResponse;
@@ -193,6 +194,19 @@ public class AssetCatalogEntityResource {
     }
 
 
+    /**
+     * Rebuild the search index used by the search operation from the repositories.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId     the unique identifier for the user
+     * @return void response or the exception raised while the index was rebuilt
+     */
+    @PostMapping(path = "/search-index/rebuild", produces = MediaType.APPLICATION_JSON_VALUE)
+    public AssetCatalogOMASAPIResponse rebuildSearchIndex(@PathVariable("serverName") String serverName,
+                                                          @PathVariable("userId") String userId) {
+        return assetService.rebuildSearchIndex(serverName, userId);
+    }
+
     /**
      * Return the full context of an asset/glossary term based on its identifier.
      * The response contains the list of the connections assigned to the asset.
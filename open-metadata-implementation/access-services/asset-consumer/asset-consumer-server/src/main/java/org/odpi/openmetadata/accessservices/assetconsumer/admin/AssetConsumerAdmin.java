@@ -68,6 +68,18 @@ public class AssetConsumerAdmin extends AccessServiceAdmin
                                                               repositoryConnector.getMaxPageSize());
             this.serverName = instance.getServerName();
 
+            int repositoryCacheSize = this.extractRepositoryCacheSize(accessServiceConfig.getAccessServiceOptions(),
+                                                                      accessServiceConfig.getAccessServiceName(),
+                                                                      auditLog);
+            if (repositoryCacheSize > 0)
+            {
+                instance.enableRepositoryCache(repositoryCacheSize,
+                                               this.extractRepositoryCacheTimeToLive(accessServiceConfig.getAccessServiceOptions(),
+                                                                                     accessServiceConfig.getAccessServiceName(),
+                                                                                     auditLog),
+                                               omrsTopicConnector);
+            }
+
             /*
              * Only set up the listening and event publishing if requested in the config.
              */
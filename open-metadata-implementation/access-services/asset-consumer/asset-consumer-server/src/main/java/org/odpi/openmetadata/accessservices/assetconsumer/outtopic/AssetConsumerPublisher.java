@@ -2,7 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.assetconsumer.outtopic;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.assetconsumer.events.AssetConsumerEvent;
 import org.odpi.openmetadata.accessservices.assetconsumer.events.NewAssetEvent;
 import org.odpi.openmetadata.accessservices.assetconsumer.events.UpdatedAssetEvent;
@@ -12,6 +11,7 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.odpi.openmetadata.repositoryservices.events.OpenMetadataEventSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
@@ -136,7 +136,6 @@ public class AssetConsumerPublisher
      */
     private String getJSONPayload(AssetConsumerEvent event)
     {
-        ObjectMapper objectMapper = new ObjectMapper();
         String       jsonString   = null;
 
         /*
@@ -144,7 +143,7 @@ public class AssetConsumerPublisher
          */
         try
         {
-            jsonString = objectMapper.writeValueAsString(event);
+            jsonString = OpenMetadataEventSerializer.toJSON(event);
         }
         catch (Throwable  error)
         {
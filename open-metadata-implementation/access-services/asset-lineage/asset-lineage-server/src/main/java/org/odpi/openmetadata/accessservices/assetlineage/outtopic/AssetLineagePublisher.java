@@ -3,8 +3,6 @@
 package org.odpi.openmetadata.accessservices.assetlineage.outtopic;
 
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections4.MapUtils;
 import org.odpi.openmetadata.accessservices.assetlineage.event.AssetLineageEventHeader;
 import org.odpi.openmetadata.accessservices.assetlineage.event.AssetLineageEventType;
@@ -24,9 +22,11 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFCheckedExceptionBase;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.events.OpenMetadataEventSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
@@ -73,7 +73,7 @@ public class AssetLineagePublisher {
      *
      * @param entityDetail entity to get context
      */
-    public void publishProcessContext(EntityDetail entityDetail) throws OCFCheckedExceptionBase, JsonProcessingException {
+    public void publishProcessContext(EntityDetail entityDetail) throws OCFCheckedExceptionBase, IOException {
         Map<String, Set<GraphContext>> processContext = processContextHandler.getProcessContext(serverUserName, entityDetail.getGUID());
         LineageEvent event = new LineageEvent();
         event.setAssetContext(processContext);
@@ -81,7 +81,7 @@ public class AssetLineagePublisher {
         publishEvent(event);
     }
 
-    public void publishAssetContext(EntityDetail entityDetail) throws OCFCheckedExceptionBase, JsonProcessingException {
+    public void publishAssetContext(EntityDetail entityDetail) throws OCFCheckedExceptionBase, IOException {
         String technicalGuid = entityDetail.getGUID();
         AssetContext assetContext = this.assetContextHandler.getAssetContext(serverUserName, technicalGuid, entityDetail.getType().getTypeDefName());
         Map<String, Set<GraphContext>> context = this.glossaryHandler.getGlossaryTerm(technicalGuid, serverUserName, assetContext, this.superTypesRetriever);
@@ -94,7 +94,7 @@ public class AssetLineagePublisher {
         publishEvent(event);
     }
 
-    public void publishClassificationContext(EntityDetail entityDetail) throws OCFCheckedExceptionBase, JsonProcessingException {
+    public void publishClassificationContext(EntityDetail entityDetail) throws OCFCheckedExceptionBase, IOException {
         Map<String, Set<GraphContext>> classificationContext = this.classificationHandler.buildClassificationContext(entityDetail);
         if (MapUtils.isEmpty(classificationContext)) {
             log.debug("No lineage classifications were found for the entity {} ", entityDetail.getGUID());
@@ -113,11 +113,11 @@ public class AssetLineagePublisher {
      * @param lineageRelationship the LineageRelationship to be published
      * @param eventType           the type on the event
      * @throws ConnectorCheckedException unable to send the event due to connectivity issue
-     * @throws JsonProcessingException   exception parsing the event json
+     * @throws IOException               unable to convert the event to json
      */
     public void publishLineageRelationshipEvent(LineageRelationship lineageRelationship, AssetLineageEventType eventType) throws
             ConnectorCheckedException,
-            JsonProcessingException {
+            IOException {
 
         LineageRelationshipEvent event = new LineageRelationshipEvent();
         event.setLineageRelationship(lineageRelationship);
@@ -130,12 +130,11 @@ public class AssetLineagePublisher {
      *
      * @param event event to send
      */
-    public void publishEvent(AssetLineageEventHeader event) throws JsonProcessingException, ConnectorCheckedException {
+    public void publishEvent(AssetLineageEventHeader event) throws IOException, ConnectorCheckedException {
         if (outTopicConnector == null)
             return;
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        outTopicConnector.sendEvent(objectMapper.writeValueAsString(event));
+        outTopicConnector.sendEvent(OpenMetadataEventSerializer.toJSON(event));
         log.debug("Asset Lineage OMAS has published an event of type {} ", event.getAssetLineageEventType());
     }
 }
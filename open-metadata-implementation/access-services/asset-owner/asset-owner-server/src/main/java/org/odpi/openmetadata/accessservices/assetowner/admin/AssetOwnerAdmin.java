@@ -72,6 +72,18 @@ public class AssetOwnerAdmin extends AccessServiceAdmin
                                                            repositoryConnector.getMaxPageSize());
             this.serverName = instance.getServerName();
 
+            int repositoryCacheSize = this.extractRepositoryCacheSize(accessServiceConfig.getAccessServiceOptions(),
+                                                                      accessServiceConfig.getAccessServiceName(),
+                                                                      auditLog);
+            if (repositoryCacheSize > 0)
+            {
+                instance.enableRepositoryCache(repositoryCacheSize,
+                                               this.extractRepositoryCacheTimeToLive(accessServiceConfig.getAccessServiceOptions(),
+                                                                                     accessServiceConfig.getAccessServiceName(),
+                                                                                     auditLog),
+                                               omrsTopicConnector);
+            }
+
             auditLog.logMessage(actionDescription,
                                 AssetOwnerAuditCode.SERVICE_INITIALIZED.getMessageDefinition(serverName),
                                 accessServiceConfig.toString());
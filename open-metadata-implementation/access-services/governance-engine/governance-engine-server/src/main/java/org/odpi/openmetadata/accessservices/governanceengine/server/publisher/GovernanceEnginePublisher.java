@@ -2,15 +2,16 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.accessservices.governanceengine.server.publisher;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.accessservices.governanceengine.api.events.GovernanceEngineEvent;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.odpi.openmetadata.repositoryservices.events.OpenMetadataEventSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+
 /**
  * GovernanceEnginePublisher is responsible for publishing events about governed asset components .  It is called
  * when an interesting OMRS Event is added to the Enterprise OMRS Topic.
@@ -36,11 +37,9 @@ public class GovernanceEnginePublisher {
     }
 
     private String eventToString(GovernanceEngineEvent engineEvent) {
-        ObjectMapper mapper = new ObjectMapper();
-
         try {
-            return mapper.writeValueAsString(engineEvent);
-        } catch (JsonProcessingException e) {
+            return OpenMetadataEventSerializer.toJSON(engineEvent);
+        } catch (IOException e) {
             log.error("[Governance Engine] Unable to map the event {} to string.", engineEvent);
         }
 
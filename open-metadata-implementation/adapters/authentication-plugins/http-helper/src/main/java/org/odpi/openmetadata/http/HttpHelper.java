@@ -17,7 +17,9 @@ public class HttpHelper {
 
     /**
      * Allows using self signed certificates https connections
-     * makes all the clients and servers trusted no matter the certificate
+     * makes all the clients and servers trusted no matter the certificate.
+     * The all-trusting context is also made the JVM's default SSL context so that
+     * HTTP clients that do not use HttpsURLConnection trust them too
      */
     public static void noStrictSSL(){
 
@@ -43,6 +45,7 @@ public class HttpHelper {
             SSLContext sc = SSLContext.getInstance("SSL");
             sc.init(null, trustAllCerts, new java.security.SecureRandom());
             HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
+            SSLContext.setDefault(sc);
             HttpsURLConnection.setDefaultHostnameVerifier ((hostname, session) -> true);
         } catch (GeneralSecurityException e) {
             LOGGER.error("The configuration for no strict SSL went wrong");
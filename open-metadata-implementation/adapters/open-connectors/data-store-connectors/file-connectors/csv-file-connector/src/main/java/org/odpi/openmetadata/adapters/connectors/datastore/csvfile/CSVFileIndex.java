@@ -0,0 +1,226 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.csvfile;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+
+/**
+ * CSVFileIndex records the offset of the start of each row in a CSV file so that any row can be read without
+ * reading the rows before it.  The index is built by a single pass through the file.  It can be saved in a file
+ * next to the CSV file and is only reused while the length and last modified time of the CSV file are unchanged.
+ * <p>
+ *     Rows that only contain white space at the end of the file are not counted.
+ * </p>
+ */
+class CSVFileIndex
+{
+    private static final int indexFileVersion = 1;
+
+    private final long   fileLength;
+    private final long   lastModified;
+    private final char   quoteChar;
+    private final long[] rowOffsets;
+    private final int    rowCount;
+
+
+    /**
+     * Constructor used by build() and load().
+     *
+     * @param fileLength length of the indexed file
+     * @param lastModified last modified time of the indexed file
+     * @param quoteChar quote character used to find the rows
+     * @param rowOffsets offset of each row followed by the offset of the end of the last row
+     * @param rowCount number of rows
+     */
+    private CSVFileIndex(long   fileLength,
+                         long   lastModified,
+                         char   quoteChar,
+                         long[] rowOffsets,
+                         int    rowCount)
+    {
+        this.fileLength   = fileLength;
+        this.lastModified = lastModified;
+        this.quoteChar    = quoteChar;
+        this.rowOffsets   = rowOffsets;
+        this.rowCount     = rowCount;
+    }
+
+
+    /**
+     * Build the index by reading through the file.
+     *
+     * @param file CSV file
+     * @param quoteChar quote character for the file
+     * @param charset character set of the file
+     * @return new index
+     * @throws IOException problem reading the file
+     */
+    static CSVFileIndex build(File    file,
+                              char    quoteChar,
+                              Charset charset) throws IOException
+    {
+        long   fileLength   = file.length();
+        long   lastModified = file.lastModified();
+        long[] rowOffsets   = new long[1024];
+        int    rowCount     = 0;
+        int    usedRowCount = 0;
+
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            CSVRecordReader recordReader = new CSVRecordReader(fileChannel, 0, quoteChar, charset);
+
+            while (recordReader.nextRecord(false))
+            {
+                if (rowCount + 1 >= rowOffsets.length)
+                {
+                    rowOffsets = Arrays.copyOf(rowOffsets, rowOffsets.length * 2);
+                }
+
+                rowOffsets[rowCount] = recordReader.getRecordStart();
+                rowCount ++;
+                rowOffsets[rowCount] = recordReader.getRecordEnd();
+
+                if (! recordReader.isRecordBlank())
+                {
+                    usedRowCount = rowCount;
+                }
+            }
+        }
+
+        return new CSVFileIndex(fileLength, lastModified, quoteChar, rowOffsets, usedRowCount);
+    }
+
+
+    /**
+     * Read an index that was saved for the file.
+     *
+     * @param indexFile saved index
+     * @param file CSV file
+     * @param quoteChar quote character for the file
+     * @return index or null if the saved index is missing or out of date
+     */
+    static CSVFileIndex load(File indexFile,
+                             File file,
+                             char quoteChar)
+    {
+        if (! indexFile.isFile())
+        {
+            return null;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile))))
+        {
+            if (input.readInt() != indexFileVersion)
+            {
+                return null;
+            }
+
+            long fileLength   = input.readLong();
+            long lastModified = input.readLong();
+            char savedQuote   = input.readChar();
+            int  rowCount     = input.readInt();
+
+            if ((fileLength != file.length()) || (lastModified != file.lastModified()) || (savedQuote != quoteChar) || (rowCount < 0))
+            {
+                return null;
+            }
+
+            long[] rowOffsets = new long[rowCount + 1];
+
+            for (int i = 0; i <= rowCount; i++)
+            {
+                rowOffsets[i] = input.readLong();
+            }
+
+            return new CSVFileIndex(fileLength, lastModified, quoteChar, rowOffsets, rowCount);
+        }
+        catch (IOException error)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * Save the index so it can be reused.
+     *
+     * @param indexFile destination
+     * @throws IOException problem writing the file
+     */
+    void save(File indexFile) throws IOException
+    {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile))))
+        {
+            output.writeInt(indexFileVersion);
+            output.writeLong(fileLength);
+            output.writeLong(lastModified);
+            output.writeChar(quoteChar);
+            output.writeInt(rowCount);
+
+            for (int i = 0; i <= rowCount; i++)
+            {
+                output.writeLong(rowOffsets[i]);
+            }
+        }
+    }
+
+
+    /**
+     * Return whether the index still describes the file.
+     *
+     * @param file CSV file
+     * @return boolean
+     */
+    boolean isCurrent(File file)
+    {
+        return (file.length() == fileLength) && (file.lastModified() == lastModified);
+    }
+
+
+    /**
+     * Return the number of rows in the file.
+     *
+     * @return count
+     */
+    int getRowCount()
+    {
+        return rowCount;
+    }
+
+
+    /**
+     * Return the offset of the start of a row.
+     *
+     * @param rowNumber row number starting at 0
+     * @return byte offset
+     */
+    long getRowStart(int rowNumber)
+    {
+        return rowOffsets[rowNumber];
+    }
+
+
+    /**
+     * Return the offset of the byte following a row (including its new line).
+     *
+     * @param rowNumber row number starting at 0
+     * @return byte offset
+     */
+    long getRowEnd(int rowNumber)
+    {
+        return rowOffsets[rowNumber + 1];
+    }
+}
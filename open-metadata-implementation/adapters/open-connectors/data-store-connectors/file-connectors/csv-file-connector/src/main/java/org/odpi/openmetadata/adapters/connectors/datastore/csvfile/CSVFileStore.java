@@ -9,6 +9,7 @@ import org.odpi.openmetadata.adapters.connectors.datastore.csvfile.ffdc.exceptio
 
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * CSVFileStore defines the specific connector api for working with
@@ -42,8 +43,8 @@ public interface CSVFileStore extends BasicFileStore
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The first call scans the file to build an index of the records
+     * that is reused until the file changes.
      *
      * @return count
      * @throws FileException there is a problem accessing the file
@@ -74,4 +75,18 @@ public interface CSVFileStore extends BasicFileStore
      * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
      */
     List<String>      readRecord(int  rowNumber) throws FileException, FileReadException;
+
+
+    /**
+     * Return the data records in the file in order, starting with record 0.  The file is read as the stream is
+     * consumed so this is the efficient way to process every record.  A record that only contains white space is
+     * returned as null, as it is by readRecord.  The stream should be closed once it is no longer needed.
+     * An error reading the file part way through the stream is thrown as an UncheckedIOException.
+     *
+     * @param columnNames names of the columns to return, in the order they are needed; null returns all columns
+     * @return stream of records, each record is the list of values for the requested columns
+     * @throws FileException there is a problem accessing the file
+     * @throws FileReadException unable to find or open the file, or one of the column names is not known
+     */
+    Stream<List<String>> streamRecords(List<String> columnNames) throws FileException, FileReadException;
 }
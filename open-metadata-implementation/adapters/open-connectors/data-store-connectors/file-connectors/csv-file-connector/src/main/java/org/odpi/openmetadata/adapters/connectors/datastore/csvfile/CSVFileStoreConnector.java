@@ -12,13 +12,27 @@ import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
  * CSVFileStoreConnector works with structured files to retrieve simple tables of data.
+ * <p>
+ *     The first request for a record or the record count builds an index of the offset of each row in the file.
+ *     After that, each record is read directly from its offset.  The index is rebuilt if the file changes.  It can
+ *     be saved in a file next to the CSV file (with the .index suffix) so it is reused by later connector instances.
+ *     Code that processes every record should use streamRecords, which reads the file once from start to end.
+ * </p>
  */
 public class CSVFileStoreConnector extends BasicFileStoreConnector implements CSVFileStore
 {
@@ -28,6 +42,17 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private List<String>   columnNames       = null;
     private char           delimiterChar     = ',';
     private char           quoteChar         = '"';
+    private boolean        cacheRecordIndex  = false;
+    private Charset        charset           = Charset.defaultCharset();
+
+    /*
+     * The index of the rows in the file and the channel used to read them.  They are replaced together
+     * when the file changes.
+     */
+    private CSVFileIndex   recordIndex       = null;
+    private FileChannel    recordChannel     = null;
+
+    private static final String indexFileSuffix = ".index";
 
     /*
      * Variables used for logging and debug.
@@ -54,6 +79,7 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
             Object  columnNamesProperty   = configurationProperties.get(CSVFileStoreProvider.columnNamesProperty);
             Object  delimiterCharProperty = configurationProperties.get(CSVFileStoreProvider.delimiterCharacterProperty);
             Object  quoteCharProperty     = configurationProperties.get(CSVFileStoreProvider.quoteCharacterProperty);
+            Object  cacheIndexProperty    = configurationProperties.get(CSVFileStoreProvider.cacheRecordIndexProperty);
 
             if (columnNamesProperty != null)
             {
@@ -79,6 +105,11 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
             {
                 quoteChar = (char)quoteCharProperty;
             }
+
+            if (cacheIndexProperty != null)
+            {
+                cacheRecordIndex = Boolean.parseBoolean(cacheIndexProperty.toString());
+            }
         }
 
         if (endpoint != null)
@@ -127,8 +158,8 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The first call scans the file to build an index of the records
+     * that is reused until the file changes.
      *
      * @return count
      * @throws FileException problem accessing the file
@@ -138,24 +169,68 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     {
         final String  methodName = "getRecordCount";
 
-        long    rowCount = 0;
+        long    rowCount = getRecordIndex(methodName).getRowCount();
 
-        File fileStore = getFile(methodName);
+        if ((rowCount > 0) && (columnNames == null))
+        {
+            rowCount = rowCount - 1;
+        }
+
+        return rowCount;
+    }
+
+
+    /**
+     * Return the index of the rows in the file, building it if this is the first request or the file has changed.
+     * The index is loaded from the index file if caching is enabled and the index file is up to date.
+     *
+     * @param methodName calling method
+     * @return index
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to read the file
+     */
+    private synchronized CSVFileIndex getRecordIndex(String methodName) throws FileException, FileReadException
+    {
+        File fileStore = super.getFile(methodName);
+
+        if ((recordIndex != null) && (recordIndex.isCurrent(fileStore)))
+        {
+            return recordIndex;
+        }
+
+        this.closeRecordChannel();
 
         try
         {
-            Scanner scanner  = new Scanner(fileStore);
-            while (scanner.hasNext())
+            File         indexFile = new File(fileStore.getPath() + indexFileSuffix);
+            CSVFileIndex newIndex  = null;
+
+            if (cacheRecordIndex)
             {
-                scanner.nextLine();
-                rowCount ++;
+                newIndex = CSVFileIndex.load(indexFile, fileStore, quoteChar);
             }
-            scanner.close();
 
-            if ((rowCount > 0) && (columnNames == null))
+            if (newIndex == null)
             {
-                rowCount = rowCount - 1;
+                newIndex = CSVFileIndex.build(fileStore, quoteChar, charset);
+
+                if (cacheRecordIndex)
+                {
+                    try
+                    {
+                        newIndex.save(indexFile);
+                    }
+                    catch (IOException error)
+                    {
+                        log.debug("Unable to save index file " + indexFile.getPath() + ": " + error.getMessage());
+                    }
+                }
             }
+
+            recordChannel = FileChannel.open(fileStore.toPath(), StandardOpenOption.READ);
+            recordIndex   = newIndex;
+
+            return recordIndex;
         }
         catch (IOException  error)
         {
@@ -166,8 +241,29 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
                                         error,
                                         fileStoreName);
         }
+    }
 
-        return rowCount;
+
+    /**
+     * Close the channel used to read records.
+     */
+    private synchronized void closeRecordChannel()
+    {
+        if (recordChannel != null)
+        {
+            try
+            {
+                recordChannel.close();
+            }
+            catch (IOException error)
+            {
+                log.debug("Ignoring exception closing file " + fileStoreName + ": " + error.getMessage());
+            }
+
+            recordChannel = null;
+        }
+
+        recordIndex = null;
     }
 
 
@@ -234,34 +330,97 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private List<String>      readRow(int     recordLocation,
                                       String  methodName) throws FileException, FileReadException
     {
+        FileChannel  fileChannel;
+        CSVFileIndex index;
 
-        File fileStore = super.getFile(methodName);
+        synchronized (this)
+        {
+            index       = getRecordIndex(methodName);
+            fileChannel = recordChannel;
+        }
+
+        if ((recordLocation < 0) || (recordLocation >= index.getRowCount()))
+        {
+            throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
+                                                                                                      Integer.toString(recordLocation)),
+                                        this.getClass().getName(),
+                                        methodName,
+                                        fileStoreName);
+        }
 
         try
         {
-            Scanner scanner        = new Scanner(fileStore);
+            long       rowStart  = index.getRowStart(recordLocation);
+            ByteBuffer rowBuffer = ByteBuffer.allocate((int)(index.getRowEnd(recordLocation) - rowStart));
 
-            int rowCounter = 0;
-            while (scanner.hasNext())
+            while (rowBuffer.hasRemaining())
             {
-                if (rowCounter == recordLocation)
-                {
-                    return parseRecord(scanner.nextLine());
-                }
-                else
+                if (fileChannel.read(rowBuffer, rowStart + rowBuffer.position()) < 0)
                 {
-                    scanner.nextLine();
+                    break;
                 }
-                rowCounter ++;
             }
-            scanner.close();
 
-            throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
-                                                                                                      Integer.toString(recordLocation)),
+            return parseRecord(CSVRecordReader.decodeRecord(rowBuffer.array(), rowBuffer.position(), charset));
+        }
+        catch (IOException  error)
+        {
+            throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
+                                                                                                               error.getMessage()),
                                         this.getClass().getName(),
                                         methodName,
+                                        error,
                                         fileStoreName);
+        }
+    }
+
+
+    /**
+     * Return the data records in the file in order, starting with record 0.  The file is read as the stream is
+     * consumed.  A record that only contains white space is returned as null, as it is by readRecord.
+     * The stream should be closed once it is no longer needed.
+     *
+     * @param requestedColumnNames names of the columns to return, in the order they are needed; null returns all columns
+     * @return stream of records, each record is the list of values for the requested columns
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find or open the file, or one of the column names is not known
+     */
+    public Stream<List<String>> streamRecords(List<String> requestedColumnNames) throws FileException, FileReadException
+    {
+        final String  methodName = "streamRecords";
+
+        File  fileStore       = super.getFile(methodName);
+        int[] columnPositions = null;
+
+        if (requestedColumnNames != null)
+        {
+            List<String> fileColumnNames = this.getColumnNames();
+
+            columnPositions = new int[requestedColumnNames.size()];
+
+            for (int i = 0; i < requestedColumnNames.size(); i++)
+            {
+                columnPositions[i] = fileColumnNames.indexOf(requestedColumnNames.get(i));
+
+                if (columnPositions[i] < 0)
+                {
+                    throw new FileReadException(CSVFileConnectorErrorCode.UNKNOWN_COLUMN.getMessageDefinition(requestedColumnNames.get(i),
+                                                                                                              fileColumnNames.toString(),
+                                                                                                              fileStoreName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                fileStoreName);
+                }
+            }
+        }
+
+        try
+        {
+            RecordIterator recordIterator = new RecordIterator(FileChannel.open(fileStore.toPath(), StandardOpenOption.READ),
+                                                               columnPositions);
 
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(recordIterator, Spliterator.ORDERED), false)
+                                .onClose(recordIterator::close);
         }
         catch (IOException  error)
         {
@@ -276,8 +435,9 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
 
 
     /**
-     * Step through the record, character by character, extracting each column and enduring that escaped double quotes
-     * and other tricks found in CSV files are handled.
+     * Step through the record, character by character, extracting each column.  A value may be enclosed in quote
+     * characters, in which case it may contain the delimiter and new lines, and a quote character within it is written
+     * as two quote characters.
      *
      * @param fileRecord a single record from the CSV file store
      * @return an array of column values extracted from the record
@@ -289,66 +449,45 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
             return null;
         }
 
-        List<String> result = new ArrayList<>();
-        StringBuffer currentValue = new StringBuffer();
-
-        boolean inQuotes = false;
-        boolean startCollectingCharacters = false;
-        boolean doubleQuotesInColumn = false;
+        List<String>  result       = new ArrayList<>();
+        StringBuilder currentValue = new StringBuilder();
+        boolean       inQuotes     = false;
+        int           length       = fileRecord.length();
 
-        char[] characters = fileRecord.toCharArray();
-
-        for (char character : characters)
+        for (int i = 0; i < length; i++)
         {
+            char character = fileRecord.charAt(i);
+
             if (inQuotes)
             {
-                startCollectingCharacters = true;
                 if (character == quoteChar)
                 {
-                    inQuotes = false;
-                    doubleQuotesInColumn = false;
-                }
-                else
-                {
-                    if (character == '\"')
+                    if ((i + 1 < length) && (fileRecord.charAt(i + 1) == quoteChar))
                     {
-                        if (!doubleQuotesInColumn)
-                        {
-                            currentValue.append(character);
-                            doubleQuotesInColumn = true;
-                        }
+                        currentValue.append(quoteChar);
+                        i++;
                     }
                     else
                     {
-                        currentValue.append(character);
+                        inQuotes = false;
                     }
-
+                }
+                else
+                {
+                    currentValue.append(character);
                 }
             }
             else
             {
                 if (character == quoteChar)
                 {
-
                     inQuotes = true;
-
-                    if (characters[0] != '"' && quoteChar == '\"')
-                    {
-                        currentValue.append('"');
-                    }
-
-                    if (startCollectingCharacters)
-                    {
-                        currentValue.append('"');
-                    }
                 }
                 else if (character == delimiterChar)
                 {
                     result.add(currentValue.toString());
 
-                    currentValue = new StringBuffer();
-                    startCollectingCharacters = false;
-
+                    currentValue = new StringBuilder();
                 }
                 else if (character == '\n')
                 {
@@ -359,7 +498,6 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
                     currentValue.append(character);
                 }
             }
-
         }
 
         result.add(currentValue.toString());
@@ -373,6 +511,8 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
      */
     public void disconnect()
     {
+        this.closeRecordChannel();
+
         try
         {
             super.disconnect();
@@ -384,4 +524,159 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
 
         log.debug("Closing Structured File Store");
     }
+
+
+    /**
+     * RecordIterator reads the records of the file for streamRecords.  Blank records are held back until a record
+     * with content is found so that the blank rows at the end of the file are not returned.  This matches the
+     * record count returned by getRecordCount.
+     */
+    private class RecordIterator implements Iterator<List<String>>, Closeable
+    {
+        private final FileChannel        fileChannel;
+        private final CSVRecordReader    recordReader;
+        private final int[]              columnPositions;
+        private final List<List<String>> blankRecords = new LinkedList<>();
+        private final List<List<String>> readyRecords = new LinkedList<>();
+        private       boolean            endOfFile    = false;
+
+
+        /**
+         * Set up the iterator.  The column names are skipped if they are in the file.
+         *
+         * @param fileChannel open file
+         * @param columnPositions positions of the requested columns or null for all columns
+         * @throws IOException problem reading the column names
+         */
+        RecordIterator(FileChannel fileChannel,
+                       int[]       columnPositions) throws IOException
+        {
+            this.fileChannel     = fileChannel;
+            this.columnPositions = columnPositions;
+            this.recordReader    = new CSVRecordReader(fileChannel, 0, quoteChar, charset);
+
+            if (columnNames == null)
+            {
+                try
+                {
+                    endOfFile = ! recordReader.nextRecord(false);
+                }
+                catch (IOException error)
+                {
+                    this.close();
+                    throw error;
+                }
+            }
+        }
+
+
+        /**
+         * Return whether there is another record.
+         *
+         * @return boolean
+         */
+        @Override
+        public boolean hasNext()
+        {
+            if (! readyRecords.isEmpty())
+            {
+                return true;
+            }
+
+            try
+            {
+                while ((! endOfFile) && (recordReader.nextRecord(true)))
+                {
+                    List<String> record = this.selectColumns(parseRecord(recordReader.getRecord()));
+
+                    if (recordReader.isRecordBlank())
+                    {
+                        blankRecords.add(record);
+                    }
+                    else
+                    {
+                        readyRecords.addAll(blankRecords);
+                        readyRecords.add(record);
+                        blankRecords.clear();
+
+                        return true;
+                    }
+                }
+            }
+            catch (IOException error)
+            {
+                throw new UncheckedIOException(error);
+            }
+
+            endOfFile = true;
+            blankRecords.clear();
+
+            return false;
+        }
+
+
+        /**
+         * Return the next record.
+         *
+         * @return list of values for the requested columns (null for a blank record)
+         */
+        @Override
+        public List<String> next()
+        {
+            if (! this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+
+            return readyRecords.remove(0);
+        }
+
+
+        /**
+         * Return the requested columns from a record.
+         *
+         * @param record all of the values in the record
+         * @return requested values
+         */
+        private List<String> selectColumns(List<String> record)
+        {
+            if ((record == null) || (columnPositions == null))
+            {
+                return record;
+            }
+
+            List<String> selectedValues = new ArrayList<>(columnPositions.length);
+
+            for (int columnPosition : columnPositions)
+            {
+                if (columnPosition < record.size())
+                {
+                    selectedValues.add(record.get(columnPosition));
+                }
+                else
+                {
+                    selectedValues.add(null);
+                }
+            }
+
+            return selectedValues;
+        }
+
+
+        /**
+         * Close the file.
+         */
+        @Override
+        public void close()
+        {
+            try
+            {
+                fileChannel.close();
+            }
+            catch (IOException error)
+            {
+                log.debug("Ignoring exception closing file " + fileStoreName + ": " + error.getMessage());
+            }
+        }
+    }
 }
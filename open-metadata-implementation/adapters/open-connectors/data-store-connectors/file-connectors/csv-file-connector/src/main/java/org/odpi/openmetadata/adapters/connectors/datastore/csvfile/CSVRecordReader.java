@@ -0,0 +1,196 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.csvfile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+
+/**
+ * CSVRecordReader steps forward through the records of a CSV file.  A record ends at a new line character that is
+ * not inside a quoted value, so a quoted value may span several lines.  The reader works on the bytes of the file
+ * so it can report the offset of each record without decoding it.
+ */
+class CSVRecordReader
+{
+    private static final int bufferSize = 64 * 1024;
+
+    private final FileChannel fileChannel;
+    private final int         quoteByte;
+    private final Charset     charset;
+    private final ByteBuffer  buffer = ByteBuffer.allocate(bufferSize);
+
+    private long    readPosition;
+    private long    recordStart  = 0;
+    private boolean recordBlank  = true;
+    private byte[]  recordBytes  = new byte[256];
+    private int     recordLength = 0;
+
+
+    /**
+     * Set up the reader.
+     *
+     * @param fileChannel open file
+     * @param startOffset offset of the first record to read
+     * @param quoteChar character used to quote values (only ASCII quote characters can hide new lines)
+     * @param charset character set of the file
+     */
+    CSVRecordReader(FileChannel fileChannel,
+                    long        startOffset,
+                    char        quoteChar,
+                    Charset     charset)
+    {
+        this.fileChannel  = fileChannel;
+        this.quoteByte    = (quoteChar < 0x80) ? quoteChar : -1;
+        this.charset      = charset;
+        this.readPosition = startOffset;
+
+        buffer.limit(0);
+    }
+
+
+    /**
+     * Move to the next record.
+     *
+     * @param keepContent should the bytes of the record be saved for getRecord()
+     * @return false if there are no more records
+     * @throws IOException problem reading the file
+     */
+    boolean nextRecord(boolean keepContent) throws IOException
+    {
+        boolean inQuotes     = false;
+        boolean recordFound  = false;
+
+        recordStart  = readPosition - buffer.remaining();
+        recordBlank  = true;
+        recordLength = 0;
+
+        while (true)
+        {
+            if (! buffer.hasRemaining())
+            {
+                buffer.clear();
+
+                int count = fileChannel.read(buffer, readPosition);
+
+                buffer.flip();
+
+                if (count <= 0)
+                {
+                    /*
+                     * The last record in the file does not need to end with a new line.
+                     */
+                    return recordFound;
+                }
+
+                readPosition = readPosition + count;
+            }
+
+            byte character = buffer.get();
+
+            recordFound = true;
+
+            if (character == quoteByte)
+            {
+                inQuotes = ! inQuotes;
+            }
+            else if ((character == '\n') && (! inQuotes))
+            {
+                return true;
+            }
+
+            if ((recordBlank) && (! Character.isWhitespace(character)))
+            {
+                recordBlank = false;
+            }
+
+            if (keepContent)
+            {
+                if (recordLength == recordBytes.length)
+                {
+                    recordBytes = Arrays.copyOf(recordBytes, recordLength * 2);
+                }
+
+                recordBytes[recordLength] = character;
+                recordLength ++;
+            }
+        }
+    }
+
+
+    /**
+     * Return the offset in the file of the current record.
+     *
+     * @return byte offset
+     */
+    long getRecordStart()
+    {
+        return recordStart;
+    }
+
+
+    /**
+     * Return the offset in the file of the byte following the current record (including its new line).
+     *
+     * @return byte offset
+     */
+    long getRecordEnd()
+    {
+        return readPosition - buffer.remaining();
+    }
+
+
+    /**
+     * Return whether the current record only contains white space.
+     *
+     * @return boolean
+     */
+    boolean isRecordBlank()
+    {
+        return recordBlank;
+    }
+
+
+    /**
+     * Return the current record without its line ending.  This is only available if the record was read
+     * with keepContent set.
+     *
+     * @return record text
+     */
+    String getRecord()
+    {
+        return decodeRecord(recordBytes, recordLength, charset);
+    }
+
+
+    /**
+     * Turn the bytes of a record into a string, removing the line ending.
+     *
+     * @param recordBytes bytes of the record
+     * @param recordLength number of bytes in use
+     * @param charset character set of the file
+     * @return record text
+     */
+    static String decodeRecord(byte[]  recordBytes,
+                               int     recordLength,
+                               Charset charset)
+    {
+        int length = recordLength;
+
+        if ((length > 0) && (recordBytes[length - 1] == '\n'))
+        {
+            length --;
+        }
+
+        if ((length > 0) && (recordBytes[length - 1] == '\r'))
+        {
+            length --;
+        }
+
+        return new String(recordBytes, 0, length, charset);
+    }
+}
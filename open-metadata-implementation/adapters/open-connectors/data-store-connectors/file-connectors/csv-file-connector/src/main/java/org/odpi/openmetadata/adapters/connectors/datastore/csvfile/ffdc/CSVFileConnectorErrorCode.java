@@ -43,6 +43,10 @@ public enum CSVFileConnectorErrorCode implements ExceptionMessageSet
             "File {0} does not have {1} rows",
             "The connector is unable to retrieve the requested record because the file is too short.",
             "Ensure the record number requested is within the size of the file.  Method getRecordCount will provide information on the number of data records in the file"),
+    UNKNOWN_COLUMN(400, "CSV-FILE-CONNECTOR-400-005",
+            "Column {0} is not one of the columns {1} of file {2}",
+            "The connector is unable to return the requested columns.",
+            "Request the records using the column names returned by method getColumnNames."),
     FILE_NOT_FOUND(404, "CSV-FILE-CONNECTOR-404-001",
              "The file named {0} in the Connection object {1} does not exist",
              "The connector is unable to open the structure file.",
@@ -10,8 +10,14 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorTyp
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.io.FileWriter;
+import java.io.Writer;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -206,6 +212,114 @@ public class CSVFileStoreConnectorTest
         }
     }
 
+    @Test public void testStreamRecords() throws Exception
+    {
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(resourcesDirectory + complexColumnsWithColumnNamesFile));
+        connector.start();
+
+        List<List<String>> streamedRecords;
+
+        try (Stream<List<String>> records = connector.streamRecords(null))
+        {
+            streamedRecords = records.collect(Collectors.toList());
+        }
+
+        assertEquals(streamedRecords.size(), connector.getRecordCount());
+
+        for (int i = 0; i < streamedRecords.size(); i++)
+        {
+            assertEquals(streamedRecords.get(i), connector.readRecord(i));
+        }
+
+        try (Stream<List<String>> records = connector.streamRecords(Arrays.asList("JobTitle", "RecId")))
+        {
+            List<String> record = records.skip(3).findFirst().orElse(null);
+
+            assertEquals(record, Arrays.asList("Data Steward, \"New\" Clinical Trials", "4"));
+        }
+
+        try
+        {
+            connector.streamRecords(Collections.singletonList("NotAColumn"));
+            assertTrue(false);
+        }
+        catch (FileReadException error)
+        {
+            assertTrue(error.getMessage().startsWith("CSV-FILE-CONNECTOR-400-005"));
+        }
+
+        connector.disconnect();
+    }
+
+
+    @Test public void testMultiLineRecordsAndCachedIndex() throws Exception
+    {
+        File csvFile   = File.createTempFile("MultiLineRecords", ".csv");
+        File indexFile = new File(csvFile.getPath() + ".index");
+
+        try
+        {
+            try (Writer writer = new FileWriter(csvFile))
+            {
+                writer.write("Id,Description\r\n1,\"First line\nSecond line\"\r\n2,Plain\r\n\r\n3,Last\n\n  \n");
+            }
+
+            Connection          connectionBean          = getConnection(csvFile.getPath());
+            Map<String, Object> configurationProperties = new HashMap<>();
+
+            configurationProperties.put(CSVFileStoreProvider.cacheRecordIndexProperty, "true");
+            connectionBean.setConfigurationProperties(configurationProperties);
+
+            CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+            connector.initialize(UUID.randomUUID().toString(), new ConnectionProperties(connectionBean));
+            connector.start();
+
+            assertEquals(connector.getRecordCount(), 4);
+            assertEquals(connector.readRecord(0), Arrays.asList("1", "First line\nSecond line"));
+            assertEquals(connector.readRecord(1), Arrays.asList("2", "Plain"));
+            assertEquals(connector.readRecord(2), null);
+            assertEquals(connector.readRecord(3), Arrays.asList("3", "Last"));
+            assertTrue(indexFile.isFile());
+
+            try (Stream<List<String>> records = connector.streamRecords(null))
+            {
+                assertEquals(records.collect(Collectors.toList()),
+                             Arrays.asList(Arrays.asList("1", "First line\nSecond line"), Arrays.asList("2", "Plain"), null, Arrays.asList("3", "Last")));
+            }
+
+            connector.disconnect();
+
+            /*
+             * A new connector uses the saved index until the file changes.
+             */
+            connector = new CSVFileStoreConnector();
+            connector.initialize(UUID.randomUUID().toString(), new ConnectionProperties(connectionBean));
+            connector.start();
+
+            assertEquals(connector.readRecord(3), Arrays.asList("3", "Last"));
+
+            try (Writer writer = new FileWriter(csvFile, true))
+            {
+                writer.write("4,Added\n");
+            }
+
+            assertTrue(csvFile.setLastModified(csvFile.lastModified() + 2000));
+            assertEquals(connector.getRecordCount(), 7);
+            assertEquals(connector.readRecord(6), Arrays.asList("4", "Added"));
+
+            connector.disconnect();
+        }
+        finally
+        {
+            assertTrue(csvFile.delete());
+            assertTrue(indexFile.delete());
+        }
+    }
+
+
     @Test public void testNullFileName()
     {
         CSVFileStoreConnector connector = new CSVFileStoreConnector();
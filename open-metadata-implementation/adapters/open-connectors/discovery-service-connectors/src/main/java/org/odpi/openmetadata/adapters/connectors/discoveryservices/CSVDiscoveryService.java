@@ -11,8 +11,10 @@ import org.odpi.openmetadata.frameworks.discovery.properties.*;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 
 /**
@@ -150,7 +152,7 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
             DiscoveryAnnotationStore annotationStore = discoveryContext.getAnnotationStore();
             int                      size            = 0;
             int                      delimiterCount  = 0;
-            long                     recordCount     = assetConnector.getRecordCount();
+            long                     recordCount     = 0;
 
             SchemaAnalysisAnnotation  schemaAnnotation      = new SchemaAnalysisAnnotation();
 
@@ -194,31 +196,41 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
                 size = size + delimiterCount;
 
-                for (int recordNumber=0; recordNumber < recordCount ; recordNumber++)
+                /*
+                 * The records are read in a single pass through the file.
+                 */
+                try (Stream<List<String>> records = assetConnector.streamRecords(null))
                 {
-                    List<String>  recordValues = assetConnector.readRecord(recordNumber);
+                    Iterator<List<String>> recordIterator = records.iterator();
 
-                    if ((recordValues != null) && (! recordValues.isEmpty()))
+                    while (recordIterator.hasNext())
                     {
-                        int columnPosition = 0;
-                        int recordLength = 0;
+                        List<String>  recordValues = recordIterator.next();
 
-                        for (String fieldValue : recordValues)
+                        recordCount++;
+
+                        if ((recordValues != null) && (! recordValues.isEmpty()))
                         {
-                            DataField             dataField   = dataFields.get(columnPosition);
-                            DataProfileAnnotation dataProfile = dataProfiles.get(columnPosition);
+                            int columnPosition = 0;
+                            int recordLength = 0;
 
-                            dataField.setDataFieldType(this.getDataFieldType(dataField.getDataFieldType(), fieldValue));
+                            for (String fieldValue : recordValues)
+                            {
+                                DataField             dataField   = dataFields.get(columnPosition);
+                                DataProfileAnnotation dataProfile = dataProfiles.get(columnPosition);
 
-                            dataProfile.setValueCount(this.getValueCount(dataProfile.getValueCount(), fieldValue));
-                            dataProfile.setValueList(this.getValueList(dataProfile.getValueList(), fieldValue));
+                                dataField.setDataFieldType(this.getDataFieldType(dataField.getDataFieldType(), fieldValue));
 
-                            recordLength = recordLength + fieldValue.length();
+                                dataProfile.setValueCount(this.getValueCount(dataProfile.getValueCount(), fieldValue));
+                                dataProfile.setValueList(this.getValueList(dataProfile.getValueList(), fieldValue));
 
-                            columnPosition++;
-                        }
+                                recordLength = recordLength + fieldValue.length();
 
-                        size = size + recordLength + delimiterCount;
+                                columnPosition++;
+                            }
+
+                            size = size + recordLength + delimiterCount;
+                        }
                     }
                 }
 
@@ -229,6 +241,10 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
                     annotationStore.addAnnotationToDataField(dataFieldGUID, dataProfiles.get(columnNumber));
                 }
             }
+            else
+            {
+                recordCount = assetConnector.getRecordCount();
+            }
 
             DataSourcePhysicalStatusAnnotation measurementAnnotation = new DataSourcePhysicalStatusAnnotation();
             Map<String, String>                measurementProperties = new HashMap<>();
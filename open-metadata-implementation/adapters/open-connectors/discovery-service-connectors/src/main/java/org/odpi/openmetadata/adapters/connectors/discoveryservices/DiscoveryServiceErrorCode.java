@@ -36,6 +36,23 @@ public enum DiscoveryServiceErrorCode implements ExceptionMessageSet
                                "a discovery request type that is compatible with the asset, or changing the discovery service " +
                                "associated with the discovery request type to one that supports this type of asset."),
 
+    DUPLICATE_EMBEDDED_SERVICE_NAME(400, "OMAG-DISCOVERY-SERVICE-400-002",
+             "Discovery pipeline {0} has more than one embedded discovery service named {1}",
+             "The discovery pipeline terminates without running any of its embedded discovery services.",
+             "The dependencies between embedded discovery services are declared using the qualified names of their connections.  " +
+                               "Give each embedded connection of the discovery pipeline a unique qualified name."),
+
+    UNKNOWN_DEPENDENCY(400, "OMAG-DISCOVERY-SERVICE-400-003",
+             "Discovery pipeline {0} declares that discovery service {1} depends on discovery service {2}, which is not one of its embedded discovery services {3}",
+             "The discovery pipeline terminates without running any of its embedded discovery services.",
+             "Correct the discoveryServiceDependencies configuration property of the discovery pipeline's connection so that it only names " +
+                               "its embedded discovery services."),
+
+    CIRCULAR_DEPENDENCY(400, "OMAG-DISCOVERY-SERVICE-400-004",
+             "The dependencies declared for discovery pipeline {0} form a cycle between discovery services {1}",
+             "The discovery pipeline terminates without running any of its embedded discovery services since none of the services in the cycle can start.",
+             "Remove the cycle from the discoveryServiceDependencies configuration property of the discovery pipeline's connection."),
+
     NO_ASSET(500, "OMAG-DISCOVERY-SERVICE-500-001 ",
             "No information about the asset {0} has been returned from the asset store for discovery service {1}.",
             "The discovery service terminates without running any automated metadata discovery function.",
@@ -45,6 +62,17 @@ public enum DiscoveryServiceErrorCode implements ExceptionMessageSet
              "No type name is available for the asset passed to discovery service {0}.  The full asset contents are: {1}.",
              "The discovery service terminates without running any automated metadata discovery function.",
              "This is an unexpected condition because if the metadata server was unavailable, an exception would have been caught."),
+
+    EMBEDDED_SERVICE_FAILED(500, "OMAG-DISCOVERY-SERVICE-500-003",
+             "Discovery service {0} running in discovery pipeline {1} failed with exception {2} and message {3}",
+             "The discovery pipeline waits for its other running discovery services to complete, skips the discovery services that depend " +
+                               "on the failed service and then terminates.",
+             "Use the exception message to diagnose the failure of the discovery service.  Once it is resolved, rerun the discovery request."),
+
+    PIPELINE_INTERRUPTED(500, "OMAG-DISCOVERY-SERVICE-500-004",
+             "Discovery pipeline {0} was interrupted while waiting for its embedded discovery services to complete",
+             "The discovery pipeline cancels the embedded discovery services that have not completed and terminates.",
+             "This is normally caused by the discovery server shutting down.  Rerun the discovery request once the server is running again."),
         ;
 
 
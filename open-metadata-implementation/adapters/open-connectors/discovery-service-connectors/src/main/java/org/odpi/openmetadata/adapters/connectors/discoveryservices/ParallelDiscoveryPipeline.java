@@ -0,0 +1,398 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryService;
+import org.odpi.openmetadata.frameworks.discovery.ffdc.DiscoveryServiceException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ParallelDiscoveryPipeline is a discovery pipeline that runs its embedded discovery services concurrently
+ * against the same discovery context.  The discoveryServiceDependencies configuration property declares which
+ * embedded discovery services must complete before another one starts.  It maps the name of an embedded discovery
+ * service to the list of names of the services it depends on.  The name of an embedded discovery service is the
+ * qualified name of its connection (or display name if there is no qualified name, or its position in the list of
+ * embedded connections if neither is set).  Discovery services with no dependencies between them run at the same time,
+ * so the pipeline takes as long as its longest chain of dependent discovery services rather than the sum of all of them.
+ *
+ * If an embedded discovery service fails, the discovery services that depend on it are not run.  The pipeline waits
+ * for the discovery services that are already running and then throws an exception for the first failure.
+ */
+public class ParallelDiscoveryPipeline extends AuditableDiscoveryPipeline
+{
+    private static final AtomicInteger pipelineCount = new AtomicInteger(0);
+
+
+    /**
+     * This implementation runs the supplied discovery services on a pool of threads, starting each one once
+     * the discovery services it depends on have completed.
+     *
+     * @throws ConnectorCheckedException there is a problem within the discovery service.
+     */
+    protected void runDiscoveryPipeline() throws ConnectorCheckedException
+    {
+        final String methodName = "runDiscoveryPipeline";
+
+        Map<String, DiscoveryService> discoveryServices = this.getNamedDiscoveryServices(methodName);
+        Map<String, List<String>>     dependencies      = this.getDependencies(discoveryServices, methodName);
+        List<String>                  runOrder          = this.getRunOrder(discoveryServices, dependencies, methodName);
+
+        ExecutorService executor = Executors.newFixedThreadPool(this.getMaxParallelDiscoveryServices(discoveryServices.size()),
+                                                                this.getThreadFactory());
+
+        Map<String, CompletableFuture<Void>> runningServices = new LinkedHashMap<>();
+
+        try
+        {
+            for (String embeddedDiscoveryServiceName : runOrder)
+            {
+                DiscoveryService        embeddedDiscoveryService = discoveryServices.get(embeddedDiscoveryServiceName);
+                List<CompletableFuture> prerequisites            = new ArrayList<>();
+
+                for (String prerequisiteName : dependencies.get(embeddedDiscoveryServiceName))
+                {
+                    prerequisites.add(runningServices.get(prerequisiteName));
+                }
+
+                /*
+                 * The run of a discovery service completes exceptionally, without starting it, if any of
+                 * its prerequisites fail.
+                 */
+                CompletableFuture<Void> run = CompletableFuture.allOf(prerequisites.toArray(new CompletableFuture[0]))
+                                                               .thenRunAsync(() -> runDiscoveryService(embeddedDiscoveryServiceName, embeddedDiscoveryService),
+                                                                             executor);
+                runningServices.put(embeddedDiscoveryServiceName, run);
+            }
+
+            this.waitForDiscoveryServices(runningServices, methodName);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Run a single embedded discovery service.  This method is called on one of the pipeline's threads.
+     *
+     * @param embeddedDiscoveryServiceName name of the embedded discovery service
+     * @param embeddedDiscoveryService discovery service to run
+     */
+    private void runDiscoveryService(String           embeddedDiscoveryServiceName,
+                                     DiscoveryService embeddedDiscoveryService)
+    {
+        try
+        {
+            embeddedDiscoveryService.setDiscoveryContext(super.discoveryContext);
+            embeddedDiscoveryService.setDiscoveryServiceName(embeddedDiscoveryServiceName);
+            embeddedDiscoveryService.start();
+            embeddedDiscoveryService.disconnect();
+        }
+        catch (ConnectorCheckedException error)
+        {
+            throw new CompletionException(error);
+        }
+    }
+
+
+    /**
+     * Wait for all of the embedded discovery services to complete (or be skipped) and then report the first failure.
+     *
+     * @param runningServices map of embedded discovery service name to its run
+     * @param methodName calling method
+     * @throws ConnectorCheckedException an embedded discovery service failed or the pipeline was interrupted
+     */
+    private void waitForDiscoveryServices(Map<String, CompletableFuture<Void>> runningServices,
+                                          String                               methodName) throws ConnectorCheckedException
+    {
+        try
+        {
+            CompletableFuture.allOf(runningServices.values().toArray(new CompletableFuture[0])).get();
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+
+            for (CompletableFuture<Void> run : runningServices.values())
+            {
+                run.cancel(true);
+            }
+
+            throw new DiscoveryServiceException(DiscoveryServiceErrorCode.PIPELINE_INTERRUPTED.getMessageDefinition(discoveryServiceName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
+        }
+        catch (ExecutionException error)
+        {
+            /*
+             * Handled below so that the failure is reported against the first discovery service that failed
+             * rather than one that was skipped.
+             */
+        }
+
+        for (Map.Entry<String, CompletableFuture<Void>> runningService : runningServices.entrySet())
+        {
+            try
+            {
+                runningService.getValue().join();
+            }
+            catch (CompletionException error)
+            {
+                Throwable cause = (error.getCause() == null) ? error : error.getCause();
+
+                if (cause instanceof ConnectorCheckedException)
+                {
+                    throw (ConnectorCheckedException) cause;
+                }
+
+                throw new DiscoveryServiceException(DiscoveryServiceErrorCode.EMBEDDED_SERVICE_FAILED.getMessageDefinition(runningService.getKey(),
+                                                                                                                           discoveryServiceName,
+                                                                                                                           cause.getClass().getName(),
+                                                                                                                           cause.getMessage()),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    cause);
+            }
+        }
+    }
+
+
+    /**
+     * Return the embedded discovery services mapped by name in the order they were supplied.
+     *
+     * @param methodName calling method
+     * @return map of name to discovery service
+     * @throws DiscoveryServiceException two embedded discovery services have the same name
+     */
+    private Map<String, DiscoveryService> getNamedDiscoveryServices(String methodName) throws DiscoveryServiceException
+    {
+        Map<String, DiscoveryService> discoveryServices = new LinkedHashMap<>();
+
+        int position = 0;
+
+        for (DiscoveryService embeddedDiscoveryService : super.embeddedDiscoveryServices)
+        {
+            if (embeddedDiscoveryService != null)
+            {
+                String               embeddedDiscoveryServiceName = Integer.toString(position);
+                ConnectionProperties connectionProperties         = embeddedDiscoveryService.getConnection();
+
+                if (connectionProperties != null)
+                {
+                    if (connectionProperties.getQualifiedName() != null)
+                    {
+                        embeddedDiscoveryServiceName = connectionProperties.getQualifiedName();
+                    }
+                    else if (connectionProperties.getDisplayName() != null)
+                    {
+                        embeddedDiscoveryServiceName = connectionProperties.getDisplayName();
+                    }
+                }
+
+                if (discoveryServices.put(embeddedDiscoveryServiceName, embeddedDiscoveryService) != null)
+                {
+                    throw new DiscoveryServiceException(DiscoveryServiceErrorCode.DUPLICATE_EMBEDDED_SERVICE_NAME.getMessageDefinition(discoveryServiceName,
+                                                                                                                                       embeddedDiscoveryServiceName),
+                                                        this.getClass().getName(),
+                                                        methodName);
+                }
+            }
+
+            position++;
+        }
+
+        return discoveryServices;
+    }
+
+
+    /**
+     * Extract the declared dependencies between the embedded discovery services from the configuration properties.
+     * The dependencies of a discovery service may be supplied as a list of names or a comma separated string.
+     *
+     * @param discoveryServices embedded discovery services
+     * @param methodName calling method
+     * @return map of discovery service name to the names of the discovery services it depends on
+     * @throws DiscoveryServiceException a dependency names an unknown discovery service
+     */
+    private Map<String, List<String>> getDependencies(Map<String, DiscoveryService> discoveryServices,
+                                                      String                        methodName) throws DiscoveryServiceException
+    {
+        Map<String, List<String>> dependencies = new HashMap<>();
+
+        for (String embeddedDiscoveryServiceName : discoveryServices.keySet())
+        {
+            dependencies.put(embeddedDiscoveryServiceName, new ArrayList<>());
+        }
+
+        Object dependenciesProperty = null;
+
+        if ((connectionProperties != null) && (connectionProperties.getConfigurationProperties() != null))
+        {
+            dependenciesProperty = connectionProperties.getConfigurationProperties().get(ParallelDiscoveryPipelineProvider.discoveryServiceDependenciesProperty);
+        }
+
+        if (dependenciesProperty instanceof Map)
+        {
+            for (Object dependencyEntry : ((Map<?, ?>) dependenciesProperty).entrySet())
+            {
+                Map.Entry<?, ?> dependency                   = (Map.Entry<?, ?>) dependencyEntry;
+                String          embeddedDiscoveryServiceName = String.valueOf(dependency.getKey());
+                List<String>    prerequisites                = new ArrayList<>();
+
+                if (dependency.getValue() instanceof List)
+                {
+                    for (Object prerequisite : (List<?>) dependency.getValue())
+                    {
+                        if (prerequisite != null)
+                        {
+                            prerequisites.add(prerequisite.toString().trim());
+                        }
+                    }
+                }
+                else if (dependency.getValue() != null)
+                {
+                    for (String prerequisite : dependency.getValue().toString().split(","))
+                    {
+                        if (! prerequisite.trim().isEmpty())
+                        {
+                            prerequisites.add(prerequisite.trim());
+                        }
+                    }
+                }
+
+                for (String prerequisite : prerequisites)
+                {
+                    if ((! discoveryServices.containsKey(embeddedDiscoveryServiceName)) || (! discoveryServices.containsKey(prerequisite)))
+                    {
+                        throw new DiscoveryServiceException(DiscoveryServiceErrorCode.UNKNOWN_DEPENDENCY.getMessageDefinition(discoveryServiceName,
+                                                                                                                              embeddedDiscoveryServiceName,
+                                                                                                                              prerequisite,
+                                                                                                                              discoveryServices.keySet().toString()),
+                                                            this.getClass().getName(),
+                                                            methodName);
+                    }
+
+                    dependencies.get(embeddedDiscoveryServiceName).add(prerequisite);
+                }
+            }
+        }
+
+        return dependencies;
+    }
+
+
+    /**
+     * Return the names of the discovery services in an order where each discovery service follows the discovery
+     * services it depends on.  Discovery services with no dependencies between them keep the order they were supplied in.
+     *
+     * @param discoveryServices embedded discovery services
+     * @param dependencies map of discovery service name to the names of the discovery services it depends on
+     * @param methodName calling method
+     * @return list of discovery service names
+     * @throws DiscoveryServiceException the dependencies form a cycle
+     */
+    private List<String> getRunOrder(Map<String, DiscoveryService> discoveryServices,
+                                     Map<String, List<String>>     dependencies,
+                                     String                        methodName) throws DiscoveryServiceException
+    {
+        List<String> runOrder  = new ArrayList<>();
+        List<String> remaining = new ArrayList<>(discoveryServices.keySet());
+
+        while (! remaining.isEmpty())
+        {
+            boolean progress = false;
+
+            for (String embeddedDiscoveryServiceName : new ArrayList<>(remaining))
+            {
+                if (runOrder.containsAll(dependencies.get(embeddedDiscoveryServiceName)))
+                {
+                    runOrder.add(embeddedDiscoveryServiceName);
+                    remaining.remove(embeddedDiscoveryServiceName);
+                    progress = true;
+                }
+            }
+
+            if (! progress)
+            {
+                throw new DiscoveryServiceException(DiscoveryServiceErrorCode.CIRCULAR_DEPENDENCY.getMessageDefinition(discoveryServiceName,
+                                                                                                                       remaining.toString()),
+                                                    this.getClass().getName(),
+                                                    methodName);
+            }
+        }
+
+        return runOrder;
+    }
+
+
+    /**
+     * Return the number of threads to run the embedded discovery services on.  This is one per discovery service
+     * unless the maxParallelDiscoveryServices configuration property sets a lower limit.
+     *
+     * @param discoveryServiceCount number of embedded discovery services
+     * @return number of threads
+     */
+    private int getMaxParallelDiscoveryServices(int discoveryServiceCount)
+    {
+        int maxParallelDiscoveryServices = discoveryServiceCount;
+
+        if ((connectionProperties != null) && (connectionProperties.getConfigurationProperties() != null))
+        {
+            Object maxParallelProperty = connectionProperties.getConfigurationProperties().get(ParallelDiscoveryPipelineProvider.maxParallelDiscoveryServicesProperty);
+
+            if (maxParallelProperty != null)
+            {
+                try
+                {
+                    maxParallelDiscoveryServices = Math.min(discoveryServiceCount, Integer.parseInt(maxParallelProperty.toString()));
+                }
+                catch (NumberFormatException error)
+                {
+                    /*
+                     * Ignore the property and run all of the discovery services in parallel.
+                     */
+                }
+            }
+        }
+
+        return Math.max(1, maxParallelDiscoveryServices);
+    }
+
+
+    /**
+     * Return the factory for the pipeline's threads.  The threads are named after the pipeline for diagnostics and
+     * do not prevent the JVM from exiting.
+     *
+     * @return thread factory
+     */
+    private ThreadFactory getThreadFactory()
+    {
+        final String        threadNamePrefix = "ParallelDiscoveryPipeline-" + pipelineCount.incrementAndGet() + "-";
+        final AtomicInteger threadCount      = new AtomicInteger(0);
+
+        return (runnable) ->
+        {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,57 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.discoveryservices;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.frameworks.discovery.DiscoveryServiceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ParallelDiscoveryPipelineProvider is the provider for the ParallelDiscoveryPipeline - an ODF discovery pipeline connector.
+ */
+public class ParallelDiscoveryPipelineProvider extends DiscoveryServiceProvider
+{
+    static final String  connectorTypeGUID = "41e1a00e-c199-4229-9fab-c0b580c2566e";
+    static final String  connectorTypeName = "Parallel Discovery Pipeline Connector";
+    static final String  connectorTypeDescription = "Connector supports the parallel execution of discovery services, respecting the dependencies between them.";
+
+    /**
+     * Map of embedded discovery service name to the list of names of the embedded discovery services that must complete before it starts.
+     */
+    public static final String  discoveryServiceDependenciesProperty = "discoveryServiceDependencies";
+
+    /**
+     * The maximum number of embedded discovery services to run at the same time.
+     */
+    public static final String  maxParallelDiscoveryServicesProperty = "maxParallelDiscoveryServices";
+
+    /**
+     * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
+     * discovery service implementation.
+     */
+    public ParallelDiscoveryPipelineProvider()
+    {
+        Class<?> connectorClass = ParallelDiscoveryPipeline.class;
+
+        super.setConnectorClassName(connectorClass.getName());
+
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(connectorTypeGUID);
+        connectorType.setQualifiedName(connectorTypeName);
+        connectorType.setDisplayName(connectorTypeName);
+        connectorType.setDescription(connectorTypeDescription);
+        connectorType.setConnectorProviderClassName(this.getClass().getName());
+
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(discoveryServiceDependenciesProperty);
+        recognizedConfigurationProperties.add(maxParallelDiscoveryServicesProperty);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
+        super.connectorTypeBean = connectorType;
+    }
+}
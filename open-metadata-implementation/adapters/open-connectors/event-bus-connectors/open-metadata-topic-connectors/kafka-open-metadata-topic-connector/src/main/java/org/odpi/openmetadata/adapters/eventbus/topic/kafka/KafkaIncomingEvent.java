@@ -10,6 +10,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.Inc
 public class KafkaIncomingEvent extends IncomingEvent
 {
     private final long offset;
+    private final int  partition;
     
     /**
      * Constructor
@@ -18,10 +19,24 @@ public class KafkaIncomingEvent extends IncomingEvent
      * @param offset the kafka offset of the message
      */
     public KafkaIncomingEvent(String json, long offset)
+    {
+        this(json, offset, 0);
+    }
+
+
+    /**
+     * Constructor
+     *
+     * @param json message content
+     * @param offset the kafka offset of the message
+     * @param partition the kafka partition that the message was read from
+     */
+    public KafkaIncomingEvent(String json, long offset, int partition)
     {
         //use the offset as the message id
         super(json, String.valueOf(offset));
         this.offset = offset;
+        this.partition = partition;
     }
 
     /**
@@ -33,4 +48,16 @@ public class KafkaIncomingEvent extends IncomingEvent
     {
         return offset;
     }
+
+
+    /**
+     * Gets the kafka partition of this message.  Messages from the same partition
+     * are delivered to the listeners in offset order.
+     *
+     * @return partition number
+     */
+    public int getPartition()
+    {
+        return partition;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,154 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * KafkaIncomingEventDispatcher delivers the events read from a subset of the topic's partitions to the
+ * listeners registered with the connector.  Each partition is handled by exactly one dispatcher so the events
+ * from a partition are delivered in the order they were read, while events from different partitions can be
+ * processed in parallel by separate dispatchers.
+ * <p>
+ * The consumer thread hands over events without taking a lock.  The dispatcher thread parks when its queue
+ * is empty and is woken as soon as a new event is added.  The number of queued events is bounded by the consumer,
+ * which pauses its partitions when the connector's queue depth reaches the configured maximum.
+ * </p>
+ */
+class KafkaIncomingEventDispatcher implements Runnable
+{
+    private static final Logger log = LoggerFactory.getLogger(KafkaIncomingEventDispatcher.class);
+
+    /*
+     * Upper limit on the time an idle dispatcher waits before checking whether it has been stopped.
+     */
+    private static final long idleWaitNanos = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Queue<KafkaIncomingEvent>      events = new ConcurrentLinkedQueue<>();
+    private final KafkaOpenMetadataTopicConnector connector;
+
+    private volatile boolean running          = true;
+    private volatile Thread  dispatcherThread = null;
+
+
+    /**
+     * Constructor for the dispatcher.
+     *
+     * @param connector connector holding the inbound listeners
+     */
+    KafkaIncomingEventDispatcher(KafkaOpenMetadataTopicConnector connector)
+    {
+        this.connector = connector;
+    }
+
+
+    /**
+     * Queue an event for delivery to the listeners.  This method does not block.
+     *
+     * @param event event read from one of the partitions handled by this dispatcher
+     */
+    void addEvent(KafkaIncomingEvent event)
+    {
+        events.offer(event);
+
+        Thread thread = dispatcherThread;
+        if (thread != null)
+        {
+            LockSupport.unpark(thread);
+        }
+    }
+
+
+    /**
+     * This is the method that provides the behaviour of the thread.
+     */
+    @Override
+    public void run()
+    {
+        dispatcherThread = Thread.currentThread();
+
+        while (running)
+        {
+            KafkaIncomingEvent event = events.poll();
+
+            if (event == null)
+            {
+                LockSupport.parkNanos(this, idleWaitNanos);
+            }
+            else
+            {
+                try
+                {
+                    connector.dispatchEvent(event);
+                }
+                catch (Throwable error)
+                {
+                    log.error("Bad exception dispatching event", error);
+                }
+            }
+        }
+
+        if (! events.isEmpty())
+        {
+            log.info("Dispatcher stopped with {} undelivered events", events.size());
+        }
+    }
+
+
+    /**
+     * The server is shutting down.
+     */
+    void stop()
+    {
+        running = false;
+
+        Thread thread = dispatcherThread;
+        if (thread != null)
+        {
+            LockSupport.unpark(thread);
+        }
+    }
+
+
+    /**
+     * DispatcherThreadFactory creates the named dispatcher threads for a topic.  They are daemon threads
+     * so that a dispatcher that is still delivering an event does not prevent the server from shutting down.
+     */
+    static class DispatcherThreadFactory implements ThreadFactory
+    {
+        private final String        threadHeader;
+        private final String        topicName;
+        private final AtomicInteger threadNumber = new AtomicInteger(0);
+
+        /**
+         * Constructor for the thread factory.
+         *
+         * @param threadHeader prefix for the thread names
+         * @param topicName name of the topic that the dispatchers deliver events from
+         */
+        DispatcherThreadFactory(String threadHeader,
+                                String topicName)
+        {
+            this.threadHeader = threadHeader;
+            this.topicName = topicName;
+        }
+
+        @Override
+        public Thread newThread(Runnable dispatcher)
+        {
+            Thread thread = new Thread(dispatcher, threadHeader + "Dispatcher-" + threadNumber.getAndIncrement() + "-" + topicName);
+
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -10,8 +10,9 @@ public enum KafkaOpenMetadataEventConsumerProperty
 {
 	/*
 	 * Controls the maximum size of the unprocessed kafka event queue. When this
-	 * size is reached, we will not poll for additional events unless a poll is
-	 * required to prevent Kafka from treating the consumer as dead.
+	 * size is reached, the consumer pauses its partitions so that no more events
+	 * are fetched.  It carries on polling so Kafka does not treat the consumer as dead,
+	 * and resumes the partitions once the queue has drained to half this size.
 	 */
 	MAX_QUEUE_SIZE("event_bus_max_queue_size", "100"),
 	
@@ -24,7 +25,11 @@ public enum KafkaOpenMetadataEventConsumerProperty
 	 * This parameter controls how close to the timeout we need to do be in order to force a poll.
 	 * 
 	 * The value provided as a number of milliseconds.
+	 *
+	 * No longer used: the consumer now polls continuously and pauses its partitions when the
+	 * unprocessed event queue is full.  The property is still recognized so existing configurations load.
 	 */
+	@Deprecated
 	CONSUMER_TIMEOUT_PREVENTION_SAFETY_WINDOW_MS("timeout_prevention_safety_window_ms", "30000"),
 	
 	/*
@@ -54,7 +59,15 @@ public enum KafkaOpenMetadataEventConsumerProperty
      * used if auto commit is disabled in the Kafka consumer. 
      * 
      */
-    COMMIT_CHECK_INTERVAL_MS("commit_check_interval_ms", "5000");
+    COMMIT_CHECK_INTERVAL_MS("commit_check_interval_ms", "5000"),
+
+    /**
+     * The number of threads that deliver incoming events to the topic listeners.  Each
+     * partition of the topic is handled by one thread so the events from a partition are
+     * always processed in the order they were written.  Events from different partitions
+     * may be processed in parallel when more than one thread is configured.
+     */
+    DISPATCH_THREADS("dispatch_threads", "1");
 
 	private String propertyName;
 	private String defaultValue;
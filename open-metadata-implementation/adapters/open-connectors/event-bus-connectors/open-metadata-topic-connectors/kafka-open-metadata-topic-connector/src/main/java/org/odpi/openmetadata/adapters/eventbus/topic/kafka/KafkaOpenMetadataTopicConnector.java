@@ -2,12 +2,13 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
@@ -37,8 +38,13 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
     private String       topicName          = null;
     private String       serverId           = null;
-    /* this buffer is for consumed events */
-    private List<IncomingEvent> incomingEventsList = Collections.synchronizedList(new ArrayList<>());
+    /* these dispatchers deliver the consumed events; each partition is handled by one dispatcher */
+    private KafkaIncomingEventDispatcher[] dispatchers = new KafkaIncomingEventDispatcher[0];
+
+    private final AtomicInteger queuedEventCount     = new AtomicInteger(0);
+    private final LongAdder     dispatchedEventCount = new LongAdder();
+    private final LongAdder     totalDispatchLatency = new LongAdder();
+    private final AtomicLong    maxDispatchLatency   = new AtomicLong(0);
 
     private KafkaProducerExecutor executor = null;
 
@@ -217,6 +223,16 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
         KafkaOpenMetadataEventConsumerConfiguration consumerConfig = new KafkaOpenMetadataEventConsumerConfiguration(consumerEgeriaProperties, auditLog);
         consumer = new KafkaOpenMetadataEventConsumer(topicName, serverId, consumerConfig, consumerProperties, this, auditLog);
         consumerThread = new Thread(consumer, threadHeader + "Consumer-" + topicName);
+
+        int dispatchThreads = Math.max(1, consumerConfig.getIntProperty(KafkaOpenMetadataEventConsumerProperty.DISPATCH_THREADS));
+        ThreadFactory dispatcherThreadFactory = new KafkaIncomingEventDispatcher.DispatcherThreadFactory(threadHeader, topicName);
+        dispatchers = new KafkaIncomingEventDispatcher[dispatchThreads];
+        for (int i = 0; i < dispatchThreads; i++)
+        {
+            dispatchers[i] = new KafkaIncomingEventDispatcher(this);
+            dispatcherThreadFactory.newThread(dispatchers[i]).start();
+        }
+
         consumerThread.start();
 
         producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, this, auditLog);
@@ -244,39 +260,52 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
 
     /**
-     * Look to see if there is one of more new events to process.
+     * Look to see if there is one of more new events to process.  The incoming events are
+     * delivered by the dispatcher threads rather than the listener thread of the superclass,
+     * so there is nothing to return.
      *
-     * @return a list of received events or null
+     * @return null
      */
     @Override
     protected List<IncomingEvent> checkForIncomingEvents()
     {
-        List<IncomingEvent> newEvents = null;
-
-        // This method is called periodically from a independent thread managed by OpenMetadataTopic
-        // (superclass) so it should not block.
-
-        if ((incomingEventsList != null) && (!incomingEventsList.isEmpty()))
-        {
-            log.debug("Checking for events.  Number of found events: {0}", incomingEventsList.size());
-            newEvents = new ArrayList<>(incomingEventsList);
-
-            // empty incomingEventsList otherwise same events will be sent again
-            incomingEventsList.removeAll(newEvents);
-        }
-
-        return newEvents;
+        return null;
     }
 
     /**
-     * Distribute events to other listeners.
+     * Distribute events to other listeners.  The event is queued on the dispatcher that
+     * handles its partition.  This method does not block.
      *
      * @param event object containing the event properties.
      */
-    void distributeToListeners(IncomingEvent event)
+    void distributeToListeners(KafkaIncomingEvent event)
     {
         log.debug("distribute event to listeners" + event);
-        incomingEventsList.add(event);
+        queuedEventCount.incrementAndGet();
+        dispatchers[event.getPartition() % dispatchers.length].addEvent(event);
+    }
+
+
+    /**
+     * Pass a queued event to the registered listeners.  This is called by the dispatcher threads.
+     *
+     * @param event object containing the event properties.
+     */
+    void dispatchEvent(KafkaIncomingEvent event)
+    {
+        long dispatchLatency = System.currentTimeMillis() - event.getCreationTime();
+
+        try
+        {
+            super.distributeEvent(event);
+        }
+        finally
+        {
+            queuedEventCount.decrementAndGet();
+            dispatchedEventCount.increment();
+            totalDispatchLatency.add(dispatchLatency);
+            maxDispatchLatency.accumulateAndGet(dispatchLatency, Math::max);
+        }
     }
 
 
@@ -292,6 +321,11 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
         consumer.safeCloseConsumer();
         producer.safeCloseProducer();
 
+        for (KafkaIncomingEventDispatcher dispatcher : dispatchers)
+        {
+            dispatcher.stop();
+        }
+
         super.disconnect();
 
         auditLog.logMessage(actionDescription, KafkaOpenMetadataTopicConnectorAuditCode.SERVICE_SHUTDOWN.getMessageDefinition(topicName));
@@ -303,6 +337,79 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
      * @return int
      */
     int getNumberOfUnprocessedEvents() {
-    	return incomingEventsList.size();
+    	return queuedEventCount.get();
+    }
+
+
+    /**
+     * Return the number of events that have been read from the topic and are waiting to be
+     * passed to the listeners.
+     *
+     * @return queue depth
+     */
+    public int getIncomingEventQueueDepth()
+    {
+        return queuedEventCount.get();
+    }
+
+
+    /**
+     * Return the number of events on the topic that the consumer has not read yet, summed over the
+     * partitions assigned to this server.  The value is taken from the Kafka consumer's metrics after each poll.
+     *
+     * @return number of events
+     */
+    public long getConsumerLag()
+    {
+        KafkaOpenMetadataEventConsumer currentConsumer = consumer;
+
+        if (currentConsumer == null)
+        {
+            return 0;
+        }
+
+        return currentConsumer.getConsumerLag();
+    }
+
+
+    /**
+     * Return the number of events that have been passed to the listeners since the connector started.
+     *
+     * @return event count
+     */
+    public long getDispatchedEventCount()
+    {
+        return dispatchedEventCount.sum();
+    }
+
+
+    /**
+     * Return the average time that events have waited between being read from the topic and being
+     * passed to the listeners.
+     *
+     * @return milliseconds
+     */
+    public long getAverageDispatchLatency()
+    {
+        long dispatched = dispatchedEventCount.sum();
+
+        if (dispatched == 0)
+        {
+            return 0;
+        }
+
+        return totalDispatchLatency.sum() / dispatched;
+    }
+
+
+    /**
+     * Return the longest time that an event has waited between being read from the topic and being
+     * passed to the listeners.
+     *
+     * @return milliseconds
+     */
+    public long getMaxDispatchLatency()
+    {
+        return maxDispatchLatency.get();
     }
 }
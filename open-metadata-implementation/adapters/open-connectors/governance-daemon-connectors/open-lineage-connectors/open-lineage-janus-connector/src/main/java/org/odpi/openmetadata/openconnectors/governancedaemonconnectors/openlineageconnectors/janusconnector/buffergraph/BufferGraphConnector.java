@@ -4,8 +4,10 @@ package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openline
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.janusgraph.core.JanusGraph;
 import org.odpi.openmetadata.accessservices.assetlineage.event.LineageEvent;
 import org.odpi.openmetadata.accessservices.assetlineage.model.GraphContext;
@@ -14,16 +16,25 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.odpi.openmetadata.governanceservers.openlineage.buffergraph.BufferGraphConnectorBase;
 import org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageException;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.factory.GraphFactory;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.maingraph.LineageResponseCache;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.ffdc.JanusConnectorException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.*;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.*;
@@ -31,16 +42,39 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 public class BufferGraphConnector extends BufferGraphConnectorBase {
 
     private static final Logger log = LoggerFactory.getLogger(BufferGraphConnector.class);
+
+    private static final String CONFIG_PROPERTY_PROCESS_BATCH_SIZE = "processBatchSize";
+    private static final String CONFIG_PROPERTY_PROCESS_MAPPING_THREADS = "processMappingThreads";
+    private static final int DEFAULT_PROCESS_BATCH_SIZE = 100;
+    private static final int DEFAULT_PROCESS_MAPPING_THREADS = 1;
+
     private JanusGraph bufferGraph;
     private GraphVertexMapper graphVertexMapper = new GraphVertexMapper();
     private JanusGraph mainGraph;
 
+    private int processBatchSize = DEFAULT_PROCESS_BATCH_SIZE;
+    private int processMappingThreads = DEFAULT_PROCESS_MAPPING_THREADS;
+
+    // Processes changed since they were last mapped to the main graph (guarded by itself)
+    private final Set<String> dirtyProcesses = new LinkedHashSet<>();
+    private volatile boolean initialScanComplete = false;
+
+    private volatile int lastRunProcessCount = 0;
+    private volatile int lastRunFailedCount = 0;
+    private volatile long lastRunDuration = 0;
+
     /**
      * Instantiates the graph based on the configuration passed.
      *
      */
     public void initializeGraphDB() throws OpenLineageException {
         GraphFactory graphFactory = new GraphFactory();
+
+        if (connectionProperties.getConfigurationProperties() != null) {
+            processBatchSize = getPositiveIntegerProperty(CONFIG_PROPERTY_PROCESS_BATCH_SIZE, DEFAULT_PROCESS_BATCH_SIZE);
+            processMappingThreads = getPositiveIntegerProperty(CONFIG_PROPERTY_PROCESS_MAPPING_THREADS, DEFAULT_PROCESS_MAPPING_THREADS);
+        }
+
         try {
             this.bufferGraph = graphFactory.openGraph(connectionProperties);
         } catch (JanusConnectorException error) {
@@ -65,19 +99,228 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
     }
 
 
+    /**
+     * Maps the processes that have changed since the last run from the bufferGraph to the mainGraph.  The first
+     * run after the connector starts maps every process in the bufferGraph since changes made before a restart
+     * are not known.  The processes are mapped in batches, each with its own transaction, and the batches are
+     * spread over the configured number of threads.  A batch that fails is mapped again on the next run.
+     */
     @Override
     public void schedulerTask(){
+        if (!initialScanComplete) {
+            markAllProcesses();
+        }
+
+        List<String> processes = takeDirtyProcesses();
+        if (processes.isEmpty()) {
+            log.debug("No processes have changed in the bufferGraph since the last run");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+
+        List<List<String>> batches = new ArrayList<>();
+        for (int index = 0; index < processes.size(); index += processBatchSize) {
+            batches.add(processes.subList(index, Math.min(index + processBatchSize, processes.size())));
+        }
+
+        int mappedCount = 0;
+        int threads = Math.min(processMappingThreads, batches.size());
+        if (threads <= 1) {
+            for (List<String> batch : batches) {
+                mappedCount += mapProcessBatch(batch);
+            }
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<Integer>> results = new ArrayList<>();
+                for (List<String> batch : batches) {
+                    results.add(executor.submit(() -> mapProcessBatch(batch)));
+                }
+                for (Future<Integer> result : results) {
+                    mappedCount += result.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Interrupted while mapping processes from bufferGraph to the mainGraph");
+            } catch (ExecutionException e) {
+                log.error("Something went wrong when trying to map processes from bufferGraph to the mainGraph. The error is {}", e.getMessage());
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        lastRunProcessCount = processes.size();
+        lastRunFailedCount = processes.size() - mappedCount;
+        lastRunDuration = System.currentTimeMillis() - start;
+
+        log.info("Mapped {} of {} changed processes from bufferGraph to the mainGraph in {} ms, {} processes waiting",
+                mappedCount, processes.size(), lastRunDuration, getBacklogSize());
+    }
+
+    /**
+     * Maps a batch of processes to the mainGraph in one bufferGraph transaction. The processes are
+     * marked as changed again if the batch fails so they are retried on the next run.
+     * @param guids - The unique identifiers of the processes
+     * @return The number of processes mapped
+     */
+    private int mapProcessBatch(List<String> guids) {
         GraphTraversalSource g = bufferGraph.traversal();
+        long start = System.currentTimeMillis();
         try {
-            List<Vertex> vertices = g.V().has(PROPERTY_KEY_LABEL, "Process").toList();
-            List<String> guidList = vertices.stream().map(v -> (String) v.property(PROPERTY_KEY_ENTITY_GUID).value()).collect(Collectors.toList());
-
-            guidList.forEach(process -> findInputColumns(g,process));
+            for (String guid : guids) {
+                if (checkIfVertexExist(g, guid)) {
+                    findInputColumns(g, guid);
+                }
+            }
             g.tx().commit();
-        }catch (Exception e){
-            log.error("Something went wrong when trying to map a process from bufferGraph to the mainGraph. The error is {}",e.getMessage());
+            log.debug("Mapped batch of {} processes in {} ms", guids.size(), System.currentTimeMillis() - start);
+            return guids.size();
+        } catch (Exception e) {
+            log.error("Something went wrong when trying to map a process from bufferGraph to the mainGraph. The error is {}", e.getMessage());
+            g.tx().rollback();
+            markProcessesDirty(guids);
+            return 0;
+        } finally {
+            LineageResponseCache.invalidate(mainGraph);
+        }
+    }
+
+    /**
+     * Marks every process in the bufferGraph to be mapped on the next run.
+     */
+    private void markAllProcesses() {
+        GraphTraversalSource g = bufferGraph.traversal();
+        try {
+            List<Object> guids = g.V().has(PROPERTY_KEY_LABEL, PROCESS).values(PROPERTY_KEY_ENTITY_GUID).toList();
+            g.tx().rollback();
+
+            synchronized (dirtyProcesses) {
+                guids.forEach(guid -> dirtyProcesses.add((String) guid));
+            }
+            initialScanComplete = true;
+        } catch (Exception e) {
+            log.error("Something went wrong when trying to find the processes in bufferGraph. The error is {}", e.getMessage());
+            g.tx().rollback();
+        }
+    }
+
+    /**
+     * Marks the processes whose lineage could be changed by the entities to be mapped on the next run.
+     * @param g - Graph traversal object
+     * @param guids - The unique identifiers of the changed entities
+     */
+    private void markAffectedProcesses(GraphTraversalSource g, Set<String> guids) {
+        Set<String> processes = new HashSet<>();
+        try {
+            guids.forEach(guid -> processes.addAll(findAffectedProcesses(g, guid)));
+            g.tx().rollback();
+        } catch (Exception e) {
+            log.error("Something went wrong when trying to find the processes related to changed entities in bufferGraph. The error is {}", e.getMessage());
             g.tx().rollback();
         }
+        markProcessesDirty(processes);
+    }
+
+    /**
+     * Returns the processes whose input or output ports lead to the entity. The search starts at the entity,
+     * the columns of a table or data file, and follows the lineage mappings, since any of these can change
+     * the columns that are mapped for a process. Each vertex is visited once so cycles and densely mapped
+     * columns do not multiply the work.
+     * @param g - Graph traversal object
+     * @param guid - The unique identifier of the changed entity
+     * @return The unique identifiers of the processes
+     */
+    List<String> findAffectedProcesses(GraphTraversalSource g, String guid) {
+        List<Vertex> entities = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).toList();
+
+        Set<Vertex> mapped = new HashSet<>(entities);
+        mapped.addAll(adjacentVertices(entities, Direction.IN, NESTED_SCHEMA_ATTRIBUTE));
+        mapped.addAll(adjacentVertices(adjacentVertices(entities, Direction.IN, ASSET_SCHEMA_TYPE), Direction.IN, ATTRIBUTE_FOR_SCHEMA));
+
+        Deque<Vertex> toVisit = new ArrayDeque<>(mapped);
+        while (!toVisit.isEmpty()) {
+            toVisit.poll().vertices(Direction.BOTH, LINEAGE_MAPPING).forEachRemaining(next -> {
+                if (mapped.add(next)) {
+                    toVisit.add(next);
+                }
+            });
+        }
+
+        Set<Vertex> portSchemaUsers = new HashSet<>(mapped);
+        portSchemaUsers.addAll(adjacentVertices(mapped, Direction.OUT, ATTRIBUTE_FOR_SCHEMA));
+
+        Set<Vertex> delegatedPorts = new HashSet<>(mapped);
+        delegatedPorts.addAll(adjacentVertices(portSchemaUsers, Direction.IN, PORT_SCHEMA));
+
+        Set<Vertex> processPorts = new HashSet<>(mapped);
+        processPorts.addAll(adjacentVertices(delegatedPorts, Direction.IN, PORT_DELEGATION));
+
+        Set<Vertex> candidates = new HashSet<>(mapped);
+        candidates.addAll(adjacentVertices(processPorts, Direction.IN, PROCESS_PORT));
+
+        List<String> guids = new ArrayList<>();
+        for (Vertex candidate : candidates) {
+            VertexProperty<Object> label = candidate.property(PROPERTY_KEY_LABEL);
+            if (label.isPresent() && PROCESS.equals(label.value())) {
+                guids.add((String) candidate.value(PROPERTY_KEY_ENTITY_GUID));
+            }
+        }
+        return guids;
+    }
+
+    private Set<Vertex> adjacentVertices(Collection<Vertex> vertices, Direction direction, String edgeLabel) {
+        Set<Vertex> adjacent = new HashSet<>();
+        vertices.forEach(vertex -> vertex.vertices(direction, edgeLabel).forEachRemaining(adjacent::add));
+        return adjacent;
+    }
+
+    private void markProcessesDirty(Iterable<String> guids) {
+        synchronized (dirtyProcesses) {
+            guids.forEach(dirtyProcesses::add);
+        }
+    }
+
+    private List<String> takeDirtyProcesses() {
+        synchronized (dirtyProcesses) {
+            List<String> processes = new ArrayList<>(dirtyProcesses);
+            dirtyProcesses.clear();
+            return processes;
+        }
+    }
+
+    /**
+     * Returns the number of changed processes waiting to be mapped to the mainGraph.
+     * @return The number of processes
+     */
+    public int getBacklogSize() {
+        synchronized (dirtyProcesses) {
+            return dirtyProcesses.size();
+        }
+    }
+
+    /**
+     * Returns the number of processes the last run tried to map.
+     * @return The number of processes
+     */
+    public int getLastRunProcessCount() {
+        return lastRunProcessCount;
+    }
+
+    /**
+     * Returns the number of processes the last run failed to map. These are retried on the next run.
+     * @return The number of processes
+     */
+    public int getLastRunFailedCount() {
+        return lastRunFailedCount;
+    }
+
+    /**
+     * Returns how long the last run took to map the changed processes.
+     * @return The duration in milliseconds
+     */
+    public long getLastRunDuration() {
+        return lastRunDuration;
     }
 
     /**
@@ -187,6 +430,17 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
                 log.error("An exception happened when trying to create vertices and relationships in BufferGraph. The error is", e);
             }
         });
+
+        markAffectedProcesses(g, getEntityGuids(verticesToBeAdded));
+    }
+
+    private Set<String> getEntityGuids(Set<GraphContext> graphContexts) {
+        Set<String> guids = new HashSet<>();
+        graphContexts.forEach(context -> {
+            guids.add(context.getFromVertex().getGuid());
+            guids.add(context.getToVertex().getGuid());
+        });
+        return guids;
     }
 
 
@@ -274,8 +528,19 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
         }
     }
 
+    /**
+     * Marks the processes related to the entities in the event to be mapped again on the next run.
+     * @param lineageEvent - event with the changed entities
+     */
     @Override
-    public void updateEntity(LineageEvent lineageEvent){}
+    public void updateEntity(LineageEvent lineageEvent){
+        GraphTraversalSource g = bufferGraph.traversal();
+
+        Set<GraphContext> graphContexts = new HashSet<>();
+        lineageEvent.getAssetContext().values().forEach(graphContexts::addAll);
+
+        markAffectedProcesses(g, getEntityGuids(graphContexts));
+    }
 
     @Override
     public void deleteEntity(String guid){
@@ -283,13 +548,18 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
 
         //TODO add check when we will have classifications to delete classifications first
         if(checkIfVertexExist(g,guid)){
-            g.V().has(PROPERTY_KEY_ENTITY_GUID,guid).drop();
+            List<String> processes = findAffectedProcesses(g, guid);
+            processes.remove(guid);
+
+            g.V().has(PROPERTY_KEY_ENTITY_GUID,guid).drop().iterate();
             g.tx().commit();
             log.debug("Vertex with guid {} deleted",guid);
-        }
-        g.tx().rollback();
-        log.debug("Vertex with guid did not delete {}",guid);
 
+            markProcessesDirty(processes);
+        } else {
+            g.tx().rollback();
+            log.debug("Vertex with guid did not delete {}",guid);
+        }
     }
 
     /**
@@ -333,6 +603,23 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
         }
     }
 
+    private int getPositiveIntegerProperty(String propertyName, int defaultValue) {
+        Object value = connectionProperties.getConfigurationProperties().get(propertyName);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.toString());
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            log.debug("Invalid value for configuration property {}", propertyName);
+        }
+        log.error("Configuration property {} must be a positive integer, using default {}", propertyName, defaultValue);
+        return defaultValue;
+    }
+
     private boolean checkIfVertexExist(GraphTraversalSource g,String guid){
         return g.V().has(PROPERTY_KEY_ENTITY_GUID,guid).hasNext();
     }
@@ -0,0 +1,130 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.maingraph;
+
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageEdge;
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVertex;
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVerticesAndEdges;
+import org.odpi.openmetadata.governanceservers.openlineage.model.Scope;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Least recently used cache of the lineage subgraphs returned by the MainGraphConnector, keyed by the queried guid,
+ * the scope and whether processes are included. The cache is registered against the mainGraph instance so that the
+ * BufferGraphConnector, which only knows the graph, can invalidate it each time it maps processes to the mainGraph.
+ */
+public class LineageResponseCache {
+
+    private static final Map<Object, LineageResponseCache> caches = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private final Map<String, LineageVerticesAndEdges> responses;
+    private long generation = 0;
+
+    private LineageResponseCache(int maximumSize) {
+        this.responses = new LinkedHashMap<String, LineageVerticesAndEdges>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LineageVerticesAndEdges> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Creates the cache for a mainGraph.
+     *
+     * @param mainGraph   The graph the cached subgraphs are taken from.
+     * @param maximumSize The maximum number of subgraphs to keep.
+     * @return the cache
+     */
+    static LineageResponseCache register(Object mainGraph, int maximumSize) {
+        LineageResponseCache cache = new LineageResponseCache(maximumSize);
+        caches.put(mainGraph, cache);
+        return cache;
+    }
+
+    /**
+     * Removes the cache for a mainGraph.
+     *
+     * @param mainGraph The graph the cached subgraphs are taken from.
+     */
+    static void unregister(Object mainGraph) {
+        caches.remove(mainGraph);
+    }
+
+    /**
+     * Discards the cached subgraphs for a mainGraph because the graph has changed. It does nothing if
+     * the graph does not have a cache.
+     *
+     * @param mainGraph The graph that has changed.
+     */
+    public static void invalidate(Object mainGraph) {
+        LineageResponseCache cache = caches.get(mainGraph);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns the generation of the cache. This changes each time the cache is cleared and is used to
+     * avoid caching a subgraph that was queried before the mainGraph changed.
+     *
+     * @return the generation
+     */
+    synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns a copy of the cached subgraph.
+     *
+     * @param guid             The guid of the queried node.
+     * @param scope            The lineage query.
+     * @param includeProcesses Whether processes are included.
+     * @return the subgraph or null if it is not cached
+     */
+    synchronized LineageVerticesAndEdges get(String guid, Scope scope, boolean includeProcesses) {
+        LineageVerticesAndEdges lineageVerticesAndEdges = responses.get(getKey(guid, scope, includeProcesses));
+        if (lineageVerticesAndEdges == null) {
+            return null;
+        }
+        return copy(lineageVerticesAndEdges);
+    }
+
+    /**
+     * Saves a copy of the subgraph unless the cache was cleared after the query started.
+     *
+     * @param guid                    The guid of the queried node.
+     * @param scope                   The lineage query.
+     * @param includeProcesses        Whether processes are included.
+     * @param queryGeneration         The generation of the cache when the query started.
+     * @param lineageVerticesAndEdges The subgraph.
+     */
+    synchronized void put(String guid, Scope scope, boolean includeProcesses, long queryGeneration,
+                          LineageVerticesAndEdges lineageVerticesAndEdges) {
+        if (queryGeneration == generation && lineageVerticesAndEdges != null) {
+            responses.put(getKey(guid, scope, includeProcesses), copy(lineageVerticesAndEdges));
+        }
+    }
+
+    private synchronized void clear() {
+        responses.clear();
+        generation++;
+    }
+
+    private String getKey(String guid, Scope scope, boolean includeProcesses) {
+        return scope.name() + ":" + includeProcesses + ":" + guid;
+    }
+
+    private LineageVerticesAndEdges copy(LineageVerticesAndEdges lineageVerticesAndEdges) {
+        Set<LineageVertex> lineageVertices = lineageVerticesAndEdges.getLineageVertices();
+        Set<LineageEdge> lineageEdges = lineageVerticesAndEdges.getLineageEdges();
+        return new LineageVerticesAndEdges(lineageVertices == null ? null : new HashSet<>(lineageVertices),
+                lineageEdges == null ? null : new HashSet<>(lineageEdges));
+    }
+}
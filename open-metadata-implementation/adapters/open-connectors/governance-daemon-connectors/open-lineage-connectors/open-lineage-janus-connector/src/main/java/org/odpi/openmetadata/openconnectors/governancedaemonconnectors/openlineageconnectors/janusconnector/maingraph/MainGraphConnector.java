@@ -36,8 +36,11 @@ public class MainGraphConnector extends MainGraphConnectorBase {
 
     private static final Logger log = LoggerFactory.getLogger(MainGraphConnector.class);
 
+    private static final String CONFIG_PROPERTY_LINEAGE_CACHE_SIZE = "lineageCacheSize";
+
     private JanusGraph mainGraph;
     private MainGraphConnectorHelper helper;
+    private LineageResponseCache lineageResponseCache;
 
     /**
      * {@inheritDoc}
@@ -57,6 +60,27 @@ public class MainGraphConnector extends MainGraphConnectorBase {
             );
         }
         this.helper = new MainGraphConnectorHelper(mainGraph);
+
+        int lineageCacheSize = getLineageCacheSize();
+        if (lineageCacheSize > 0) {
+            this.lineageResponseCache = LineageResponseCache.register(mainGraph, lineageCacheSize);
+        }
+    }
+
+    private int getLineageCacheSize() {
+        if (connectionProperties.getConfigurationProperties() == null) {
+            return 0;
+        }
+        Object value = connectionProperties.getConfigurationProperties().get(CONFIG_PROPERTY_LINEAGE_CACHE_SIZE);
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.toString());
+        } catch (NumberFormatException e) {
+            log.error("Configuration property {} must be an integer, the lineage cache is disabled", CONFIG_PROPERTY_LINEAGE_CACHE_SIZE);
+            return 0;
+        }
     }
 
     /**
@@ -84,6 +108,28 @@ public class MainGraphConnector extends MainGraphConnectorBase {
         edgeLabels.add(EDGE_LABEL_SEMANTIC);
         edgeLabels.add(includeProcesses ? EDGE_LABEL_DATAFLOW_WITH_PROCESS : EDGE_LABEL_DATAFLOW_WITHOUT_PROCESS);
 
+        LineageVerticesAndEdges lineageVerticesAndEdges = null;
+        long cacheGeneration = 0;
+
+        if (lineageResponseCache != null) {
+            cacheGeneration = lineageResponseCache.getGeneration();
+            lineageVerticesAndEdges = lineageResponseCache.get(guid, scope, includeProcesses);
+        }
+
+        if (lineageVerticesAndEdges == null) {
+            lineageVerticesAndEdges = queryLineage(scope, guid, edgeLabels);
+
+            if (lineageResponseCache != null) {
+                lineageResponseCache.put(guid, scope, includeProcesses, cacheGeneration, lineageVerticesAndEdges);
+            }
+        }
+
+        if (!displayNameMustContain.isEmpty())
+            helper.filterDisplayName(lineageVerticesAndEdges, displayNameMustContain);
+        return new LineageResponse(lineageVerticesAndEdges);
+    }
+
+    private LineageVerticesAndEdges queryLineage(Scope scope, String guid, List<String> edgeLabels) throws OpenLineageException {
         LineageVerticesAndEdges lineageVerticesAndEdges = null;
 
         switch (scope) {
@@ -103,9 +149,7 @@ public class MainGraphConnector extends MainGraphConnectorBase {
                 lineageVerticesAndEdges = helper.glossary(guid);
                 break;
         }
-        if (!displayNameMustContain.isEmpty())
-            helper.filterDisplayName(lineageVerticesAndEdges, displayNameMustContain);
-        return new LineageResponse(lineageVerticesAndEdges);
+        return lineageVerticesAndEdges;
     }
 
     /**
@@ -145,6 +189,9 @@ public class MainGraphConnector extends MainGraphConnectorBase {
 
     @Override
     public void disconnect() throws ConnectorCheckedException {
+        if (lineageResponseCache != null) {
+            LineageResponseCache.unregister(mainGraph);
+        }
         mainGraph.close();
         super.disconnect();
     }
@@ -2,8 +2,8 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.maingraph;
 
-import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
@@ -16,6 +16,9 @@ import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVertex;
 import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVerticesAndEdges;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -24,9 +27,6 @@ import java.util.Map;
 import java.util.Set;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.bothE;
-import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.inE;
-import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
-import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.until;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.CONDENSED_NODE_DISPLAY_NAME;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.EDGE_LABEL_CONDENSED;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.EDGE_LABEL_GLOSSARYTERM_TO_GLOSSARYTERM;
@@ -62,15 +62,12 @@ public class MainGraphConnectorHelper {
         String methodName = "MainGraphConnector.ultimateSource";
         GraphTraversalSource g = mainGraph.traversal();
 
-        List<Vertex> sourcesList = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).
-                until(inE(edgeLabels).count().is(0)).
-                repeat(inE(edgeLabels).outV().simplePath()).
-                dedup().toList();
+        Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
+        List<Vertex> sourcesList = new ArrayList<>();
+        collectLineage(originalQueriedVertex, Direction.IN, sourcesList, null, edgeLabels);
 
         detectProblematicCycle(methodName, sourcesList);
 
-        Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
-
         Set<LineageVertex> lineageVertices = new HashSet<>();
 
         Set<LineageEdge> lineageEdges = new HashSet<>();
@@ -95,14 +92,12 @@ public class MainGraphConnectorHelper {
         String methodName = "MainGraphConnector.ultimateDestination";
         GraphTraversalSource g = mainGraph.traversal();
 
-        List<Vertex> destinationsList = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).
-                until(outE(edgeLabels).count().is(0)).
-                repeat(outE(edgeLabels).inV().simplePath()).
-                dedup().toList();
+        Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
+        List<Vertex> destinationsList = new ArrayList<>();
+        collectLineage(originalQueriedVertex, Direction.OUT, destinationsList, null, edgeLabels);
 
         detectProblematicCycle(methodName, destinationsList);
 
-        Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
         LineageVertex queriedVertex = abstractVertex(originalQueriedVertex);
 
         Set<LineageVertex> lineageVertices = new HashSet<>();
@@ -126,17 +121,21 @@ public class MainGraphConnectorHelper {
     LineageVerticesAndEdges endToEnd(String guid, String... edgeLabels) {
         GraphTraversalSource g = mainGraph.traversal();
 
-        Graph endToEndGraph = (Graph)
-                g.V().has(PROPERTY_KEY_ENTITY_NODE_ID, guid).
-                        union(
-                                until(inE(edgeLabels).count().is(0)).
-                                        repeat((Traversal) inE(edgeLabels).subgraph("subGraph").outV().simplePath()),
-                                until(outE(edgeLabels).count().is(0)).
-                                        repeat((Traversal) outE(edgeLabels).subgraph("subGraph").inV().simplePath())
-                        ).cap("subGraph").next();
+        Vertex queriedNode = g.V().has(PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
 
-        LineageVerticesAndEdges lineageVerticesAndEdges = getLineageVerticesAndEdges(endToEndGraph);
-        return lineageVerticesAndEdges;
+        Set<Edge> edges = new HashSet<>();
+        collectLineage(queriedNode, Direction.IN, new ArrayList<>(), edges, edgeLabels);
+        collectLineage(queriedNode, Direction.OUT, new ArrayList<>(), edges, edgeLabels);
+
+        Map<Object, LineageVertex> lineageVertices = new HashMap<>();
+        Set<LineageEdge> lineageEdges = new HashSet<>();
+        for (Edge edge : edges) {
+            lineageVertices.computeIfAbsent(edge.outVertex().id(), id -> abstractVertex(edge.outVertex()));
+            lineageVertices.computeIfAbsent(edge.inVertex().id(), id -> abstractVertex(edge.inVertex()));
+            lineageEdges.add(abstractEdge(edge));
+        }
+
+        return new LineageVerticesAndEdges(new HashSet<>(lineageVertices.values()), lineageEdges);
     }
 
     /**
@@ -151,21 +150,17 @@ public class MainGraphConnectorHelper {
         String methodName = "MainGraphConnector.sourceAndDestination";
         GraphTraversalSource g = mainGraph.traversal();
 
-        List<Vertex> sourcesList = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).
-                until(inE(edgeLabels).count().is(0)).
-                repeat(inE(edgeLabels).outV().simplePath()).
-                dedup().toList();
+        Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
+        List<Vertex> sourcesList = new ArrayList<>();
+        collectLineage(originalQueriedVertex, Direction.IN, sourcesList, null, edgeLabels);
 
-        List<Vertex> destinationsList = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).
-                until(outE(edgeLabels).count().is(0)).
-                repeat(outE(edgeLabels).inV().simplePath()).
-                dedup().toList();
+        List<Vertex> destinationsList = new ArrayList<>();
+        collectLineage(originalQueriedVertex, Direction.OUT, destinationsList, null, edgeLabels);
 
         detectProblematicCycle(methodName, sourcesList);
         detectProblematicCycle(methodName, destinationsList);
 
 
-        Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
         LineageVertex queriedVertex = abstractVertex(originalQueriedVertex);
 
         Set<LineageVertex> lineageVertices = new HashSet<>();
@@ -230,6 +225,48 @@ public class MainGraphConnectorHelper {
         lineageVerticesAndEdges.setLineageEdges(lineageEdges);
     }
 
+    /**
+     * Walk the lineage edges from the queried node, visiting each node once. The cost depends on the number of
+     * nodes and edges in the lineage rather than the number of distinct paths through it, which grows
+     * exponentially in densely connected column lineage.
+     *
+     * @param queriedNode  The node the walk starts from.
+     * @param direction    IN to walk towards the sources, OUT to walk towards the destinations.
+     * @param endNodes     Receives the nodes that have no further lineage edges in the direction of the walk.
+     *                     These are the ultimate sources or destinations. It is the queried node if it has no lineage.
+     * @param edges        Receives every lineage edge that was followed (may be null).
+     * @param edgeLabels   Traversed edges
+     */
+    private void collectLineage(Vertex queriedNode, Direction direction, List<Vertex> endNodes, Set<Edge> edges,
+                                String... edgeLabels) {
+        Set<Object> visited = new HashSet<>();
+        Deque<Vertex> toVisit = new ArrayDeque<>();
+
+        visited.add(queriedNode.id());
+        toVisit.add(queriedNode);
+
+        while (!toVisit.isEmpty()) {
+            Vertex vertex = toVisit.poll();
+            Iterator<Edge> lineageEdges = vertex.edges(direction, edgeLabels);
+
+            if (!lineageEdges.hasNext()) {
+                endNodes.add(vertex);
+            }
+
+            while (lineageEdges.hasNext()) {
+                Edge edge = lineageEdges.next();
+                if (edges != null) {
+                    edges.add(edge);
+                }
+
+                Vertex next = direction == Direction.IN ? edge.outVertex() : edge.inVertex();
+                if (visited.add(next.id())) {
+                    toVisit.add(next);
+                }
+            }
+        }
+    }
+
     /**
      * Map a Tinkerpop vertex to the Open Lineage format.
      *
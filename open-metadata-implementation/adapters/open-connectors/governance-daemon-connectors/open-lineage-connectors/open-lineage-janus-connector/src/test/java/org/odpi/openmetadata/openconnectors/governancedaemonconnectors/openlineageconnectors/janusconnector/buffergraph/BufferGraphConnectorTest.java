@@ -0,0 +1,139 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.buffergraph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphFactory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.stream.Stream;
+
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.*;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.*;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that the buffer graph finds the processes affected by a changed entity by following the
+ * lineage mappings, including through cycles and densely mapped columns.
+ */
+public class BufferGraphConnectorTest {
+
+    private static final String COLUMN = "TabularColumn";
+    private static final String PORT_IMPLEMENTATION = "PortImplementation";
+    private static final String PORT_ALIAS = "PortAlias";
+    private static final String TABULAR_SCHEMA_TYPE = "TabularSchemaType";
+
+    private final BufferGraphConnector bufferGraphConnector = new BufferGraphConnector();
+    private Path graphDirectory;
+    private JanusGraph bufferGraph;
+
+    @BeforeMethod
+    public void openGraph() throws IOException {
+        graphDirectory = Files.createTempDirectory("buffer-graph-test");
+        bufferGraph = JanusGraphFactory.build()
+                .set("storage.backend", "berkeleyje")
+                .set("storage.directory", graphDirectory.toString())
+                .open();
+    }
+
+    @AfterMethod
+    public void closeGraph() throws IOException {
+        bufferGraph.close();
+        try (Stream<Path> files = Files.walk(graphDirectory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void testProcessFoundThroughLineageMappingCycle() {
+        GraphTraversalSource g = bufferGraph.traversal();
+
+        Vertex changed = addVertex(g, COLUMN, "changed");
+        Vertex c1 = addVertex(g, COLUMN, "c1");
+        Vertex c2 = addVertex(g, COLUMN, "c2");
+        Vertex mappedColumn = addVertex(g, COLUMN, "mappedColumn");
+        Vertex unrelated = addVertex(g, COLUMN, "unrelated");
+
+        g.addE(LINEAGE_MAPPING).from(changed).to(c1).next();
+        g.addE(LINEAGE_MAPPING).from(c1).to(c2).next();
+        g.addE(LINEAGE_MAPPING).from(c2).to(changed).next();
+        g.addE(LINEAGE_MAPPING).from(c2).to(mappedColumn).next();
+
+        Vertex schemaType = addVertex(g, TABULAR_SCHEMA_TYPE, "schemaType");
+        Vertex portImplementation = addVertex(g, PORT_IMPLEMENTATION, "portImplementation");
+        Vertex portAlias = addVertex(g, PORT_ALIAS, "portAlias");
+        Vertex process = addVertex(g, PROCESS, "process");
+        Vertex otherProcess = addVertex(g, PROCESS, "otherProcess");
+        Vertex otherPort = addVertex(g, PORT_IMPLEMENTATION, "otherPort");
+
+        g.addE(ATTRIBUTE_FOR_SCHEMA).from(mappedColumn).to(schemaType).next();
+        g.addE(PORT_SCHEMA).from(portImplementation).to(schemaType).next();
+        g.addE(PORT_DELEGATION).from(portAlias).to(portImplementation).next();
+        g.addE(PROCESS_PORT).from(process).to(portAlias).next();
+
+        g.addE(PROCESS_PORT).from(otherProcess).to(otherPort).next();
+        g.addE(PORT_SCHEMA).from(otherPort).to(unrelated).next();
+        g.tx().commit();
+
+        assertEquals(bufferGraphConnector.findAffectedProcesses(g, "changed"), Collections.singletonList("process"));
+        assertEquals(bufferGraphConnector.findAffectedProcesses(g, "unrelated"), Collections.emptyList());
+        assertEquals(new HashSet<>(bufferGraphConnector.findAffectedProcesses(g, "process")),
+                new HashSet<>(Collections.singletonList("process")));
+        g.tx().rollback();
+    }
+
+    /**
+     * Every column is mapped to every other column. A walk over every simple path would visit each of the
+     * factorial number of orderings; the walk must visit each column once.
+     */
+    @Test(timeOut = 30000)
+    public void testDenselyMappedColumns() {
+        GraphTraversalSource g = bufferGraph.traversal();
+        int columnCount = 14;
+
+        Vertex[] columns = new Vertex[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = addVertex(g, COLUMN, "c" + i);
+        }
+        for (int i = 0; i < columnCount; i++) {
+            for (int j = i + 1; j < columnCount; j++) {
+                g.addE(LINEAGE_MAPPING).from(columns[i]).to(columns[j]).next();
+            }
+        }
+
+        Vertex process = addVertex(g, PROCESS, "process");
+        Vertex processTwo = addVertex(g, PROCESS, "processTwo");
+        Vertex port = addVertex(g, PORT_ALIAS, "port");
+        Vertex portTwo = addVertex(g, PORT_ALIAS, "portTwo");
+        g.addE(PROCESS_PORT).from(process).to(port).next();
+        g.addE(PORT_DELEGATION).from(port).to(columns[columnCount - 1]).next();
+        g.addE(PROCESS_PORT).from(processTwo).to(portTwo).next();
+        g.addE(PORT_DELEGATION).from(portTwo).to(columns[columnCount / 2]).next();
+        g.tx().commit();
+
+        assertEquals(new HashSet<>(bufferGraphConnector.findAffectedProcesses(g, "c0")),
+                new HashSet<>(Arrays.asList("process", "processTwo")));
+        assertTrue(bufferGraphConnector.findAffectedProcesses(g, "missing").isEmpty());
+        g.tx().rollback();
+    }
+
+    private Vertex addVertex(GraphTraversalSource g, String label, String guid) {
+        return g.addV(label)
+                .property(PROPERTY_KEY_LABEL, label)
+                .property(PROPERTY_KEY_ENTITY_GUID, guid)
+                .next();
+    }
+}
@@ -0,0 +1,223 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+/**
+ * AuditLogSegment describes one segment file of the file based audit log store.  A segment holds the
+ * audit log records written during a window of time, one JSON record per line.  The description is stored in
+ * the index of the audit log store so that queries only need to read the segments that overlap the
+ * requested time period.
+ * <p>
+ * A segment that has been published to the queries is never changed.  The writer creates a new
+ * AuditLogSegment each time more records are added to the active segment.
+ * </p>
+ */
+class AuditLogSegment
+{
+    private String  fileName       = null;
+    private long    firstTimeStamp = 0L;
+    private long    lastTimeStamp  = 0L;
+    private long    recordCount    = 0L;
+    private long    length         = 0L;
+    private boolean compressed     = false;
+
+
+    /**
+     * Default constructor used when reading the index.
+     */
+    AuditLogSegment()
+    {
+    }
+
+
+    /**
+     * Constructor for a new segment.
+     *
+     * @param fileName name of the segment file within the audit log directory
+     * @param firstTimeStamp time stamp of the first record in the segment (milliseconds)
+     * @param lastTimeStamp time stamp of the latest record in the segment (milliseconds)
+     * @param recordCount number of records in the segment
+     * @param length number of bytes of records in the (uncompressed) segment file
+     * @param compressed is the segment file compressed with gzip
+     */
+    AuditLogSegment(String  fileName,
+                    long    firstTimeStamp,
+                    long    lastTimeStamp,
+                    long    recordCount,
+                    long    length,
+                    boolean compressed)
+    {
+        this.fileName = fileName;
+        this.firstTimeStamp = firstTimeStamp;
+        this.lastTimeStamp = lastTimeStamp;
+        this.recordCount = recordCount;
+        this.length = length;
+        this.compressed = compressed;
+    }
+
+
+    /**
+     * Return the name of the segment file within the audit log directory.
+     *
+     * @return file name
+     */
+    public String getFileName()
+    {
+        return fileName;
+    }
+
+
+    /**
+     * Set up the name of the segment file within the audit log directory.
+     *
+     * @param fileName file name
+     */
+    public void setFileName(String fileName)
+    {
+        this.fileName = fileName;
+    }
+
+
+    /**
+     * Return the time stamp of the earliest record in the segment.
+     *
+     * @return milliseconds since the epoch
+     */
+    public long getFirstTimeStamp()
+    {
+        return firstTimeStamp;
+    }
+
+
+    /**
+     * Set up the time stamp of the earliest record in the segment.
+     *
+     * @param firstTimeStamp milliseconds since the epoch
+     */
+    public void setFirstTimeStamp(long firstTimeStamp)
+    {
+        this.firstTimeStamp = firstTimeStamp;
+    }
+
+
+    /**
+     * Return the time stamp of the latest record in the segment.
+     *
+     * @return milliseconds since the epoch
+     */
+    public long getLastTimeStamp()
+    {
+        return lastTimeStamp;
+    }
+
+
+    /**
+     * Set up the time stamp of the latest record in the segment.
+     *
+     * @param lastTimeStamp milliseconds since the epoch
+     */
+    public void setLastTimeStamp(long lastTimeStamp)
+    {
+        this.lastTimeStamp = lastTimeStamp;
+    }
+
+
+    /**
+     * Return the number of records in the segment.
+     *
+     * @return count
+     */
+    public long getRecordCount()
+    {
+        return recordCount;
+    }
+
+
+    /**
+     * Set up the number of records in the segment.
+     *
+     * @param recordCount count
+     */
+    public void setRecordCount(long recordCount)
+    {
+        this.recordCount = recordCount;
+    }
+
+
+    /**
+     * Return the number of bytes of complete records in the uncompressed segment.  Readers of the active
+     * segment stop at this point so they never see a partly written record.
+     *
+     * @return byte count
+     */
+    public long getLength()
+    {
+        return length;
+    }
+
+
+    /**
+     * Set up the number of bytes of complete records in the uncompressed segment.
+     *
+     * @param length byte count
+     */
+    public void setLength(long length)
+    {
+        this.length = length;
+    }
+
+
+    /**
+     * Return whether the segment file is compressed with gzip.
+     *
+     * @return boolean flag
+     */
+    public boolean isCompressed()
+    {
+        return compressed;
+    }
+
+
+    /**
+     * Set up whether the segment file is compressed with gzip.
+     *
+     * @param compressed boolean flag
+     */
+    public void setCompressed(boolean compressed)
+    {
+        this.compressed = compressed;
+    }
+
+
+    /**
+     * Return whether any of the records in the segment could have been written in the time period.
+     *
+     * @param startTime start of time period (milliseconds)
+     * @param endTime end of time period (milliseconds)
+     * @return boolean flag
+     */
+    boolean overlaps(long startTime,
+                     long endTime)
+    {
+        return (recordCount > 0) && (lastTimeStamp >= startTime) && (firstTimeStamp <= endTime);
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "AuditLogSegment{" +
+                "fileName='" + fileName + '\'' +
+                ", firstTimeStamp=" + firstTimeStamp +
+                ", lastTimeStamp=" + lastTimeStamp +
+                ", recordCount=" + recordCount +
+                ", length=" + length +
+                ", compressed=" + compressed +
+                '}';
+    }
+}
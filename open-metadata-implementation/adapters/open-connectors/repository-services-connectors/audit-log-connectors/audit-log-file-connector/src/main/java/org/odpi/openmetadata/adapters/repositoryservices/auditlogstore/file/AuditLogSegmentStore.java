@@ -0,0 +1,936 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.events.OpenMetadataEventSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * AuditLogSegmentStore manages the files of the file based audit log store.  Audit log records are queued by
+ * the caller and written in batches by a background writer thread.  They are appended, one JSON record per line,
+ * to the active segment file.  The active segment is closed (rolled) when it reaches its maximum size or age,
+ * and optionally compressed with gzip.  The index file lists the closed segments along with the time period
+ * each one covers, so a query only reads the segments that overlap the requested time period.
+ * <p>
+ * Queries see every record that was queued before the query started.  They read the segments without blocking
+ * the writer, except for the short time when a segment is being rolled.
+ * </p>
+ */
+class AuditLogSegmentStore
+{
+    private static final Logger log = LoggerFactory.getLogger(AuditLogSegmentStore.class);
+
+    static final String SEGMENT_FILE_PREFIX    = "audit-log-segment-";
+    static final String SEGMENT_FILE_SUFFIX    = ".jsonl";
+    static final String COMPRESSED_FILE_SUFFIX = ".gz";
+    static final String INDEX_FILE_NAME        = "audit-log-index.json";
+
+    private static final String INDEX_TEMP_FILE_NAME = INDEX_FILE_NAME + ".tmp";
+
+    private static final long   WRITER_POLL_INTERVAL = 1000L;   /* milliseconds */
+    private static final long   FLUSH_TIMEOUT        = 30000L;  /* milliseconds */
+    private static final int    OUTPUT_BUFFER_SIZE   = 65536;
+
+    private final File    directory;
+    private final long    maxSegmentSize;
+    private final long    segmentRollInterval;
+    private final boolean compressSegments;
+    private final int     writerBatchSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final ObjectWriter recordWriter = OpenMetadataEventSerializer.getWriter(OMRSAuditLogRecord.class);
+    private final ObjectReader recordReader = OpenMetadataEventSerializer.getReader(OMRSAuditLogRecord.class);
+
+    private final BlockingQueue<OMRSAuditLogRecord> pendingRecords;
+    private final AtomicLong                        queuedRecordCount  = new AtomicLong(0);
+    private final Object                            writtenCountLock   = new Object();
+    private long                                    writtenRecordCount = 0;
+
+    /*
+     * The segment lock is held for write only while a segment is being moved from active to closed.
+     * Queries hold it for read while they scan the segments.
+     */
+    private final ReadWriteLock                     segmentLock    = new ReentrantReadWriteLock();
+    private volatile List<AuditLogSegment>          closedSegments = Collections.emptyList();
+    private volatile AuditLogSegment                activeSegment  = null;
+
+    /*
+     * These variables are only used by the writer thread.
+     */
+    private OutputStream activeOutput         = null;
+    private String       activeFileName       = null;
+    private long         activeCreateTime     = 0L;
+    private long         activeFirstTimeStamp = 0L;
+    private long         activeLastTimeStamp  = 0L;
+    private long         activeRecordCount    = 0L;
+    private long         activeLength         = 0L;
+
+    private volatile boolean running      = false;
+    private Thread           writerThread = null;
+
+
+    /**
+     * Constructor
+     *
+     * @param directory directory where the audit log files are stored
+     * @param maxSegmentSize number of bytes after which the active segment is rolled
+     * @param segmentRollInterval number of milliseconds after which the active segment is rolled (0 means never)
+     * @param compressSegments should rolled segments be compressed with gzip
+     * @param writerBatchSize maximum number of records written by the writer thread in one go
+     * @param writerQueueSize maximum number of records waiting for the writer thread before the callers wait
+     */
+    AuditLogSegmentStore(File    directory,
+                         long    maxSegmentSize,
+                         long    segmentRollInterval,
+                         boolean compressSegments,
+                         int     writerBatchSize,
+                         int     writerQueueSize)
+    {
+        this.directory = directory;
+        this.maxSegmentSize = maxSegmentSize;
+        this.segmentRollInterval = segmentRollInterval;
+        this.compressSegments = compressSegments;
+        this.writerBatchSize = writerBatchSize;
+        this.pendingRecords = new ArrayBlockingQueue<>(writerQueueSize);
+    }
+
+
+    /**
+     * Recover the segments left by a previous run and start the writer thread.
+     *
+     * @param writerThreadName name for the writer thread
+     * @throws IOException the directory can not be created or read
+     */
+    synchronized void start(String writerThreadName) throws IOException
+    {
+        if (running)
+        {
+            return;
+        }
+
+        FileUtils.forceMkdir(directory);
+        this.recoverSegments();
+
+        running = true;
+        writerThread = new Thread(this::runWriter, writerThreadName);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+
+    /**
+     * Write all of the queued records, close the active segment and stop the writer thread.
+     */
+    synchronized void stop()
+    {
+        if (! running)
+        {
+            return;
+        }
+
+        running = false;
+
+        try
+        {
+            writerThread.join();
+        }
+        catch (InterruptedException error)
+        {
+            log.debug("Interrupted waiting for the audit log writer to stop");
+            Thread.currentThread().interrupt();
+        }
+
+        writerThread = null;
+    }
+
+
+    /**
+     * Queue a record for the writer thread.  The caller waits if the queue is full.
+     *
+     * @param logRecord record to write
+     * @return false if the store is not running
+     * @throws InterruptedException the caller was interrupted while waiting for space in the queue
+     */
+    boolean addRecord(OMRSAuditLogRecord logRecord) throws InterruptedException
+    {
+        if (! running)
+        {
+            return false;
+        }
+
+        pendingRecords.put(logRecord);
+        queuedRecordCount.incrementAndGet();
+
+        return true;
+    }
+
+
+    /**
+     * Return the records from the segments that were written in the time period and match the filter.
+     * The records are returned in the order they were written.
+     *
+     * @param startTime start of the time period (milliseconds)
+     * @param endTime end of the time period (milliseconds)
+     * @param filter test for the records to return (null means all records in the time period)
+     * @param offset number of matching records to skip
+     * @param maximumRecords maximum number of records to return (0 means no limit)
+     * @return list of records (empty if none match)
+     * @throws IOException a segment could not be read
+     */
+    List<OMRSAuditLogRecord> findRecords(long                         startTime,
+                                         long                         endTime,
+                                         Predicate<OMRSAuditLogRecord> filter,
+                                         int                          offset,
+                                         int                          maximumRecords) throws IOException
+    {
+        this.waitForQueuedRecords();
+
+        List<OMRSAuditLogRecord> results      = new ArrayList<>();
+        long                     skipsNeeded  = offset;
+
+        segmentLock.readLock().lock();
+
+        try
+        {
+            for (AuditLogSegment segment : this.getSegments())
+            {
+                if (! segment.overlaps(startTime, endTime))
+                {
+                    continue;
+                }
+
+                /*
+                 * The index is enough to skip a segment that falls entirely within the paged-over records.
+                 */
+                if ((filter == null) &&
+                    (segment.getFirstTimeStamp() >= startTime) &&
+                    (segment.getLastTimeStamp() <= endTime) &&
+                    (segment.getRecordCount() <= skipsNeeded))
+                {
+                    skipsNeeded = skipsNeeded - segment.getRecordCount();
+                    continue;
+                }
+
+                try (BufferedReader reader = this.openSegment(segment))
+                {
+                    String line;
+
+                    while ((line = reader.readLine()) != null)
+                    {
+                        OMRSAuditLogRecord logRecord = this.parseRecord(line, segment);
+
+                        if (logRecord != null)
+                        {
+                            long recordTime = this.getRecordTime(logRecord, segment.getFirstTimeStamp());
+
+                            if ((recordTime >= startTime) && (recordTime <= endTime) &&
+                                ((filter == null) || (filter.test(logRecord))))
+                            {
+                                if (skipsNeeded > 0)
+                                {
+                                    skipsNeeded--;
+                                }
+                                else
+                                {
+                                    results.add(logRecord);
+
+                                    if ((maximumRecords > 0) && (results.size() >= maximumRecords))
+                                    {
+                                        return results;
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        finally
+        {
+            segmentLock.readLock().unlock();
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return the record with the requested unique identifier.  The segments are searched newest first.
+     *
+     * @param logRecordId unique identifier of the record
+     * @return record or null if it is not found
+     * @throws IOException a segment could not be read
+     */
+    OMRSAuditLogRecord findRecord(String logRecordId) throws IOException
+    {
+        this.waitForQueuedRecords();
+
+        segmentLock.readLock().lock();
+
+        try
+        {
+            List<AuditLogSegment> segments = this.getSegments();
+
+            for (int i = segments.size() - 1; i >= 0; i--)
+            {
+                AuditLogSegment segment = segments.get(i);
+
+                try (BufferedReader reader = this.openSegment(segment))
+                {
+                    String line;
+
+                    while ((line = reader.readLine()) != null)
+                    {
+                        /*
+                         * Only parse the lines that could contain the record.
+                         */
+                        if (line.contains(logRecordId))
+                        {
+                            OMRSAuditLogRecord logRecord = this.parseRecord(line, segment);
+
+                            if ((logRecord != null) && (logRecordId.equals(logRecord.getGUID())))
+                            {
+                                return logRecord;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        finally
+        {
+            segmentLock.readLock().unlock();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Wait until the writer thread has written all of the records that were queued before this call.
+     * This means a query sees the records stored before it.
+     */
+    private void waitForQueuedRecords()
+    {
+        long target   = queuedRecordCount.get();
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT;
+
+        synchronized (writtenCountLock)
+        {
+            while ((running) && (writtenRecordCount < target))
+            {
+                long waitTime = deadline - System.currentTimeMillis();
+
+                if (waitTime <= 0)
+                {
+                    log.debug("Timed out waiting for the audit log writer; query may miss the latest records");
+                    return;
+                }
+
+                try
+                {
+                    writtenCountLock.wait(waitTime);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the closed segments followed by the active segment (if any).
+     *
+     * @return list of segments in the order they were written
+     */
+    private List<AuditLogSegment> getSegments()
+    {
+        List<AuditLogSegment> segments = new ArrayList<>(closedSegments);
+        AuditLogSegment       active   = activeSegment;
+
+        if (active != null)
+        {
+            segments.add(active);
+        }
+
+        return segments;
+    }
+
+
+    /**
+     * Open a segment for reading.  Uncompressed segments are only read up to their recorded length so that
+     * a partly written record is never seen.
+     *
+     * @param segment segment to read
+     * @return reader for the lines of the segment
+     * @throws IOException the segment could not be opened
+     */
+    private BufferedReader openSegment(AuditLogSegment segment) throws IOException
+    {
+        InputStream inputStream = new FileInputStream(new File(directory, segment.getFileName()));
+
+        try
+        {
+            if (segment.isCompressed())
+            {
+                inputStream = new GZIPInputStream(inputStream);
+            }
+            else
+            {
+                inputStream = new BoundedInputStream(inputStream, segment.getLength());
+            }
+        }
+        catch (IOException error)
+        {
+            inputStream.close();
+            throw error;
+        }
+
+        return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Convert a line from a segment into an audit log record.  Lines that can not be parsed (for example,
+     * the last line of a segment that was being written when the server failed) are skipped.
+     *
+     * @param line line from the segment
+     * @param segment segment the line came from
+     * @return record or null if the line is not a valid record
+     */
+    private OMRSAuditLogRecord parseRecord(String          line,
+                                           AuditLogSegment segment)
+    {
+        if (line.isEmpty())
+        {
+            return null;
+        }
+
+        try
+        {
+            return recordReader.readValue(line);
+        }
+        catch (IOException error)
+        {
+            log.debug("Skipping unreadable line in audit log segment {}: {}", segment.getFileName(), error.getMessage());
+            return null;
+        }
+    }
+
+
+    /**
+     * Return the time stamp of a record.
+     *
+     * @param logRecord record
+     * @param defaultTime time to use if the record has no time stamp
+     * @return milliseconds since the epoch
+     */
+    private long getRecordTime(OMRSAuditLogRecord logRecord,
+                               long               defaultTime)
+    {
+        Date timeStamp = logRecord.getTimeStamp();
+
+        if (timeStamp == null)
+        {
+            return defaultTime;
+        }
+
+        return timeStamp.getTime();
+    }
+
+
+    /*
+     * ==========================================
+     * Writer thread
+     */
+
+    /**
+     * Main loop of the writer thread.  It takes all of the records waiting in the queue (up to the batch size),
+     * writes them to the active segment and flushes the file once for the whole batch.
+     */
+    private void runWriter()
+    {
+        List<OMRSAuditLogRecord> batch = new ArrayList<>(writerBatchSize);
+
+        while ((running) || (! pendingRecords.isEmpty()))
+        {
+            try
+            {
+                OMRSAuditLogRecord firstRecord = pendingRecords.poll(WRITER_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+
+                if (firstRecord != null)
+                {
+                    batch.add(firstRecord);
+                    pendingRecords.drainTo(batch, writerBatchSize - 1);
+
+                    this.writeBatch(batch);
+                    this.recordBatchWritten(batch.size());
+                    batch.clear();
+                }
+                else if ((activeOutput != null) && (this.isRollDue()))
+                {
+                    this.closeActiveSegment();
+                }
+            }
+            catch (InterruptedException error)
+            {
+                log.debug("Audit log writer interrupted");
+            }
+        }
+
+        this.closeActiveSegment();
+    }
+
+
+    /**
+     * Append a batch of records to the active segment, rolling the segment when it is full.
+     *
+     * @param batch records to write
+     */
+    private void writeBatch(List<OMRSAuditLogRecord> batch)
+    {
+        try
+        {
+            for (OMRSAuditLogRecord logRecord : batch)
+            {
+                byte[] recordBytes;
+
+                try
+                {
+                    recordBytes = recordWriter.writeValueAsBytes(logRecord);
+                }
+                catch (IOException error)
+                {
+                    log.error("Unable to convert audit log record {} to JSON", logRecord.getGUID(), error);
+                    continue;
+                }
+
+                if ((activeOutput != null) && (this.isRollDue()))
+                {
+                    this.closeActiveSegment();
+                }
+
+                long recordTime = this.getRecordTime(logRecord, System.currentTimeMillis());
+
+                if (activeOutput == null)
+                {
+                    this.openActiveSegment(recordTime);
+                }
+
+                activeOutput.write(recordBytes);
+                activeOutput.write('\n');
+
+                activeFirstTimeStamp = Math.min(activeFirstTimeStamp, recordTime);
+                activeLastTimeStamp = Math.max(activeLastTimeStamp, recordTime);
+                activeRecordCount++;
+                activeLength = activeLength + recordBytes.length + 1;
+            }
+
+            if (activeOutput != null)
+            {
+                activeOutput.flush();
+                this.publishActiveSegment();
+            }
+        }
+        catch (IOException error)
+        {
+            log.error("Unusable Server Audit Log Store :(", error);
+
+            /*
+             * The records after the last flush are lost.  Start a new segment for the next batch.
+             */
+            this.closeActiveSegment();
+        }
+    }
+
+
+    /**
+     * Update the count of written records and wake up any waiting queries.
+     *
+     * @param recordCount number of records in the batch
+     */
+    private void recordBatchWritten(int recordCount)
+    {
+        synchronized (writtenCountLock)
+        {
+            writtenRecordCount = writtenRecordCount + recordCount;
+            writtenCountLock.notifyAll();
+        }
+    }
+
+
+    /**
+     * Is the active segment full or old enough to be rolled?
+     *
+     * @return boolean flag
+     */
+    private boolean isRollDue()
+    {
+        if (activeLength >= maxSegmentSize)
+        {
+            return true;
+        }
+
+        return (segmentRollInterval > 0) && (System.currentTimeMillis() - activeCreateTime >= segmentRollInterval);
+    }
+
+
+    /**
+     * Create a new active segment.  The file name includes the creation time so that the files sort in the
+     * order they were written.
+     *
+     * @param firstTimeStamp time stamp of the first record for the segment
+     * @throws IOException the file could not be created
+     */
+    private void openActiveSegment(long firstTimeStamp) throws IOException
+    {
+        long   createTime = System.currentTimeMillis();
+        String fileName   = getSegmentFileName(createTime);
+
+        while ((new File(directory, fileName).exists()) ||
+               (new File(directory, fileName + COMPRESSED_FILE_SUFFIX).exists()))
+        {
+            createTime++;
+            fileName = getSegmentFileName(createTime);
+        }
+
+        activeOutput = new BufferedOutputStream(new FileOutputStream(new File(directory, fileName)), OUTPUT_BUFFER_SIZE);
+        activeFileName = fileName;
+        activeCreateTime = System.currentTimeMillis();
+        activeFirstTimeStamp = firstTimeStamp;
+        activeLastTimeStamp = firstTimeStamp;
+        activeRecordCount = 0L;
+        activeLength = 0L;
+    }
+
+
+    /**
+     * Return the file name for a segment created at the requested time.
+     *
+     * @param createTime creation time (milliseconds)
+     * @return file name
+     */
+    private static String getSegmentFileName(long createTime)
+    {
+        return SEGMENT_FILE_PREFIX + String.format("%013d", createTime) + SEGMENT_FILE_SUFFIX;
+    }
+
+
+    /**
+     * Make the records flushed to the active segment visible to queries.
+     */
+    private void publishActiveSegment()
+    {
+        activeSegment = new AuditLogSegment(activeFileName,
+                                            activeFirstTimeStamp,
+                                            activeLastTimeStamp,
+                                            activeRecordCount,
+                                            activeLength,
+                                            false);
+    }
+
+
+    /**
+     * Close the active segment, compress it if requested and add it to the index.
+     */
+    private void closeActiveSegment()
+    {
+        if (activeOutput == null)
+        {
+            return;
+        }
+
+        try
+        {
+            activeOutput.close();
+        }
+        catch (IOException error)
+        {
+            log.error("Unable to close audit log segment {}", activeFileName, error);
+        }
+
+        activeOutput = null;
+
+        if (activeRecordCount == 0)
+        {
+            activeSegment = null;
+            FileUtils.deleteQuietly(new File(directory, activeFileName));
+            return;
+        }
+
+        this.publishActiveSegment();
+
+        AuditLogSegment uncompressedSegment = activeSegment;
+        AuditLogSegment closedSegment       = uncompressedSegment;
+
+        if (compressSegments)
+        {
+            closedSegment = this.compressSegment(uncompressedSegment);
+        }
+
+        List<AuditLogSegment> newClosedSegments = new ArrayList<>(closedSegments);
+        newClosedSegments.add(closedSegment);
+
+        segmentLock.writeLock().lock();
+
+        try
+        {
+            closedSegments = Collections.unmodifiableList(newClosedSegments);
+            activeSegment = null;
+
+            if (closedSegment != uncompressedSegment)
+            {
+                FileUtils.deleteQuietly(new File(directory, uncompressedSegment.getFileName()));
+            }
+        }
+        finally
+        {
+            segmentLock.writeLock().unlock();
+        }
+
+        this.writeIndex(newClosedSegments);
+    }
+
+
+    /**
+     * Compress a segment with gzip.  If this fails, the uncompressed segment is kept.
+     *
+     * @param segment uncompressed segment
+     * @return compressed segment
+     */
+    private AuditLogSegment compressSegment(AuditLogSegment segment)
+    {
+        String compressedFileName = segment.getFileName() + COMPRESSED_FILE_SUFFIX;
+        File   compressedFile     = new File(directory, compressedFileName);
+
+        try (InputStream  inputStream  = new BoundedInputStream(new FileInputStream(new File(directory, segment.getFileName())),
+                                                                segment.getLength());
+             OutputStream outputStream = new GZIPOutputStream(new FileOutputStream(compressedFile), OUTPUT_BUFFER_SIZE))
+        {
+            IOUtils.copy(inputStream, outputStream);
+        }
+        catch (IOException error)
+        {
+            log.error("Unable to compress audit log segment {}", segment.getFileName(), error);
+            FileUtils.deleteQuietly(compressedFile);
+
+            return segment;
+        }
+
+        return new AuditLogSegment(compressedFileName,
+                                   segment.getFirstTimeStamp(),
+                                   segment.getLastTimeStamp(),
+                                   segment.getRecordCount(),
+                                   segment.getLength(),
+                                   true);
+    }
+
+
+    /*
+     * ==========================================
+     * Index
+     */
+
+    /**
+     * Save the list of closed segments.  The index is written to a temporary file first so that a failure
+     * never leaves a partly written index.
+     *
+     * @param segments closed segments
+     */
+    private void writeIndex(List<AuditLogSegment> segments)
+    {
+        File tempFile  = new File(directory, INDEX_TEMP_FILE_NAME);
+        File indexFile = new File(directory, INDEX_FILE_NAME);
+
+        try
+        {
+            objectMapper.writeValue(tempFile, segments);
+            Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (IOException error)
+        {
+            log.error("Unable to write audit log index {}", indexFile.getAbsolutePath(), error);
+        }
+    }
+
+
+    /**
+     * Read the index and reconcile it with the segment files in the directory.  Segment files that are not in
+     * the index (such as the active segment from a previous run that stopped without closing it) are
+     * scanned to work out their time period, compressed if requested and added to the index.
+     *
+     * @throws IOException the directory can not be read
+     */
+    private void recoverSegments() throws IOException
+    {
+        Map<String, AuditLogSegment> indexedSegments = new HashMap<>();
+        File                         indexFile       = new File(directory, INDEX_FILE_NAME);
+
+        if (indexFile.exists())
+        {
+            try
+            {
+                for (AuditLogSegment segment : objectMapper.readValue(indexFile, AuditLogSegment[].class))
+                {
+                    if ((segment != null) && (segment.getFileName() != null))
+                    {
+                        indexedSegments.put(segment.getFileName(), segment);
+                    }
+                }
+            }
+            catch (IOException error)
+            {
+                log.error("Unable to read audit log index {}; rebuilding it from the segment files", indexFile.getAbsolutePath(), error);
+            }
+        }
+
+        String[] fileNames = directory.list((dir, name) -> name.startsWith(SEGMENT_FILE_PREFIX));
+
+        if (fileNames == null)
+        {
+            throw new IOException("Unable to list audit log directory " + directory.getAbsolutePath());
+        }
+
+        Set<String>           segmentFileNames = new TreeSet<>(Arrays.asList(fileNames));
+        List<AuditLogSegment> segments         = new ArrayList<>();
+        boolean               indexChanged     = false;
+
+        for (String fileName : segmentFileNames)
+        {
+            AuditLogSegment segment = indexedSegments.remove(fileName);
+
+            if (segment == null)
+            {
+                if ((fileName.endsWith(COMPRESSED_FILE_SUFFIX)) &&
+                    (segmentFileNames.contains(fileName.substring(0, fileName.length() - COMPRESSED_FILE_SUFFIX.length()))))
+                {
+                    /*
+                     * Compression of this segment did not complete.  The uncompressed file is kept.
+                     */
+                    FileUtils.deleteQuietly(new File(directory, fileName));
+                    continue;
+                }
+
+                segment = this.scanSegment(fileName);
+                indexChanged = true;
+
+                if (segment.getRecordCount() == 0)
+                {
+                    FileUtils.deleteQuietly(new File(directory, fileName));
+                    continue;
+                }
+
+                if ((compressSegments) && (! segment.isCompressed()))
+                {
+                    AuditLogSegment compressedSegment = this.compressSegment(segment);
+
+                    if (compressedSegment != segment)
+                    {
+                        FileUtils.deleteQuietly(new File(directory, fileName));
+                        segment = compressedSegment;
+                    }
+                }
+            }
+
+            segments.add(segment);
+        }
+
+        if (! indexedSegments.isEmpty())
+        {
+            log.debug("Audit log segments {} are in the index but no longer exist", indexedSegments.keySet());
+            indexChanged = true;
+        }
+
+        segments.sort(Comparator.comparingLong(AuditLogSegment::getFirstTimeStamp).thenComparing(AuditLogSegment::getFileName));
+
+        closedSegments = Collections.unmodifiableList(segments);
+
+        if (indexChanged)
+        {
+            this.writeIndex(segments);
+        }
+    }
+
+
+    /**
+     * Read a segment file that is not in the index to find its time period and record count.
+     *
+     * @param fileName name of the segment file
+     * @return segment description
+     * @throws IOException the file could not be read
+     */
+    private AuditLogSegment scanSegment(String fileName) throws IOException
+    {
+        File            segmentFile = new File(directory, fileName);
+        boolean         compressed  = fileName.endsWith(COMPRESSED_FILE_SUFFIX);
+        AuditLogSegment segment     = new AuditLogSegment(fileName, segmentFile.lastModified(), 0L, 0L, segmentFile.length(), compressed);
+
+        long firstTimeStamp = Long.MAX_VALUE;
+        long lastTimeStamp  = Long.MIN_VALUE;
+        long recordCount    = 0L;
+        long length         = 0L;
+
+        try (BufferedReader reader = this.openSegment(segment))
+        {
+            String line;
+
+            while ((line = reader.readLine()) != null)
+            {
+                OMRSAuditLogRecord logRecord = this.parseRecord(line, segment);
+
+                if (logRecord != null)
+                {
+                    long recordTime = this.getRecordTime(logRecord, segmentFile.lastModified());
+
+                    firstTimeStamp = Math.min(firstTimeStamp, recordTime);
+                    lastTimeStamp = Math.max(lastTimeStamp, recordTime);
+                    recordCount++;
+                    length = length + line.getBytes(StandardCharsets.UTF_8).length + 1;
+                }
+            }
+        }
+
+        if (recordCount == 0)
+        {
+            return new AuditLogSegment(fileName, 0L, 0L, 0L, 0L, compressed);
+        }
+
+        /*
+         * An uncompressed segment may end with a partly written record.  Its length covers the whole file so
+         * that compression copies every complete record, and the partial record is skipped when read.
+         */
+        return new AuditLogSegment(fileName,
+                                   firstTimeStamp,
+                                   lastTimeStamp,
+                                   recordCount,
+                                   compressed ? length : segmentFile.length(),
+                                   compressed);
+    }
+}
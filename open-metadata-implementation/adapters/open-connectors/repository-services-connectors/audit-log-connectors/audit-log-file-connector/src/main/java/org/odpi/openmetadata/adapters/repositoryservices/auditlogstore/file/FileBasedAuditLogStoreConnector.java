@@ -2,9 +2,8 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.commons.io.FileUtils;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
@@ -18,19 +17,30 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * FileBasedAuditLogStoreConnector provides a connector implementation for a file based audit log.
- * The audit log is stored in a directory and each audit log record is stored as a file with a filename build
- * from the record's unique identifier (guid).
+ * The audit log is stored in a directory.  Audit log records are written in batches by a background thread
+ * to segment files that each hold one JSON record per line.  A new segment is started when the current one
+ * reaches its maximum size or age, and the closed segments can be compressed.  An index of the time
+ * period covered by each segment means that the queries only need to read the segments of interest.
  */
 public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorBase
 {
     private static final String defaultDirectoryTemplate = "omag.server.auditlog";
 
+    private static final long    defaultMaxSegmentSize      = 16L * 1024L * 1024L;
+    private static final long    defaultSegmentRollInterval = 60L * 60L;
+    private static final boolean defaultCompressSegments    = false;
+    private static final int     defaultWriterBatchSize     = 500;
+    private static final int     defaultWriterQueueSize     = 10000;
+
     private static final Logger log = LoggerFactory.getLogger(FileBasedAuditLogStoreConnector.class);
 
-    private String configStoreTemplateName  = null;
+    private String               configStoreTemplateName  = null;
+    private AuditLogSegmentStore segmentStore             = null;
 
 
     /**
@@ -42,7 +52,7 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
 
 
     /**
-     * Set up the name of the file store
+     * Set up the name of the file store and start the writer thread.
      *
      * @throws ConnectorCheckedException something went wrong
      */
@@ -63,11 +73,42 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
             configStoreTemplateName = defaultDirectoryTemplate;
         }
 
-        try
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        long    maxSegmentSize      = getLongProperty(configurationProperties,
+                                                      FileBasedAuditLogStoreProvider.maxSegmentSizeProperty,
+                                                      defaultMaxSegmentSize);
+        long    segmentRollInterval = getLongProperty(configurationProperties,
+                                                      FileBasedAuditLogStoreProvider.segmentRollIntervalProperty,
+                                                      defaultSegmentRollInterval);
+        int     writerBatchSize     = (int)getLongProperty(configurationProperties,
+                                                           FileBasedAuditLogStoreProvider.writerBatchSizeProperty,
+                                                           defaultWriterBatchSize);
+        int     writerQueueSize     = (int)getLongProperty(configurationProperties,
+                                                           FileBasedAuditLogStoreProvider.writerQueueSizeProperty,
+                                                           defaultWriterQueueSize);
+        boolean compressSegments    = defaultCompressSegments;
+
+        if (configurationProperties != null)
         {
-            File         configStoreDirectory = new File(configStoreTemplateName);
+            Object compressSegmentsProperty = configurationProperties.get(FileBasedAuditLogStoreProvider.compressSegmentsProperty);
 
-            FileUtils.forceMkdir(configStoreDirectory);
+            if (compressSegmentsProperty != null)
+            {
+                compressSegments = Boolean.parseBoolean(compressSegmentsProperty.toString());
+            }
+        }
+
+        segmentStore = new AuditLogSegmentStore(new File(configStoreTemplateName),
+                                                Math.max(maxSegmentSize, 1L),
+                                                Math.max(segmentRollInterval, 0L) * 1000L,
+                                                compressSegments,
+                                                Math.max(writerBatchSize, 1),
+                                                Math.max(writerQueueSize, 1));
+
+        try
+        {
+            segmentStore.start("FileBasedAuditLogWriter-" + configStoreTemplateName);
         }
         catch (IOException ioException)
         {
@@ -77,7 +118,44 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
 
 
     /**
-     * Store the audit log record in the audit log store.
+     * Return the value of a numeric configuration property.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is missing or not a number
+     * @return property value
+     */
+    private long getLongProperty(Map<String, Object> configurationProperties,
+                                 String              propertyName,
+                                 long                defaultValue)
+    {
+        if (configurationProperties != null)
+        {
+            Object propertyValue = configurationProperties.get(propertyName);
+
+            if (propertyValue instanceof Number)
+            {
+                return ((Number)propertyValue).longValue();
+            }
+            else if (propertyValue != null)
+            {
+                try
+                {
+                    return Long.parseLong(propertyValue.toString().trim());
+                }
+                catch (NumberFormatException error)
+                {
+                    log.error("Ignoring invalid value {} for audit log store property {}", propertyValue, propertyName);
+                }
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Store the audit log record in the audit log store.  The record is queued for the writer thread.
      *
      * @param logRecord  log record to store
      * @return unique identifier assigned to the log record
@@ -93,16 +171,15 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
         {
             try
             {
-                File configStoreFile =
-                        new File(configStoreTemplateName + "/log-record-" + logRecord.getGUID());
-                ObjectMapper objectMapper    = new ObjectMapper();
-
-                String configStoreFileContents = objectMapper.writeValueAsString(logRecord);
-                FileUtils.writeStringToFile(configStoreFile, configStoreFileContents, (String)null, false);
+                if ((segmentStore == null) || (! segmentStore.addRecord(logRecord)))
+                {
+                    log.error("Unusable Server Audit Log Store :( - unable to store log record {}", logRecord.getGUID());
+                }
             }
-            catch (IOException ioException)
+            catch (InterruptedException interruptedException)
             {
-                log.error("Unusable Server Audit Log Store :(", ioException);
+                log.error("Interrupted while storing log record {}", logRecord.getGUID());
+                Thread.currentThread().interrupt();
             }
         }
 
@@ -121,9 +198,29 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
     public OMRSAuditLogRecord getAuditLogRecord(String logRecordId) throws InvalidParameterException,
                                                                            RepositoryErrorException
     {
-        final String methodName = "getAuditLogRecord";
+        final String methodName    = "getAuditLogRecord";
+        final String parameterName = "logRecordId";
+
+        if (logRecordId == null)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NULL_LOG_RECORD.getMessageDefinition(getDestinationName()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                parameterName);
+        }
 
-        return null;
+        try
+        {
+            return getSegmentStore(methodName).findRecord(logRecordId);
+        }
+        catch (IOException ioException)
+        {
+            throw new RepositoryErrorException(OMRSErrorCode.AUDIT_LOG_STORE_NOT_AVAILABLE.getMessageDefinition(getDestinationName(),
+                                                                                                                 ioException.getMessage()),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               ioException);
+        }
     }
 
 
@@ -149,7 +246,7 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
     {
         final String methodName = "getAuditLogRecordsByTimeStamp";
 
-        return null;
+        return findRecords(methodName, startDate, endDate, null, offset, maximumRecords);
     }
 
 
@@ -177,7 +274,12 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
     {
         final String methodName = "getAuditLogRecordsBySeverity";
 
-        return null;
+        return findRecords(methodName,
+                           startDate,
+                           endDate,
+                           logRecord -> (severity == null) || (severity.equals(logRecord.getSeverity())),
+                           offset,
+                           maximumRecords);
     }
 
 
@@ -205,17 +307,125 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
     {
         final String methodName = "getAuditLogRecordsByComponent";
 
-        return null;
+        return findRecords(methodName,
+                           startDate,
+                           endDate,
+                           logRecord -> (component == null) ||
+                                        ((logRecord.getReportingComponent() != null) &&
+                                         (component.equals(logRecord.getReportingComponent().getComponentName()))),
+                           offset,
+                           maximumRecords);
+    }
+
+
+    /**
+     * Validate the parameters of a query and retrieve the matching records from the segments.
+     *
+     * @param methodName calling method
+     * @param startDate start of time period (null means the beginning of the log)
+     * @param endDate end of time period (null means no end)
+     * @param filter test for the records to return (null means all records in the time period)
+     * @param offset offset of full collection to begin the return results
+     * @param maximumRecords maximum number of log records to return (0 means no limit)
+     * @return list of log records or null if none match
+     * @throws InvalidParameterException the start date is after the end date
+     * @throws PagingErrorException the offset or the maximumRecords parameters are negative
+     * @throws RepositoryErrorException the audit log store is not available or could not be read
+     */
+    private List<OMRSAuditLogRecord> findRecords(String                        methodName,
+                                                 Date                          startDate,
+                                                 Date                          endDate,
+                                                 Predicate<OMRSAuditLogRecord> filter,
+                                                 int                           offset,
+                                                 int                           maximumRecords) throws InvalidParameterException,
+                                                                                                      PagingErrorException,
+                                                                                                      RepositoryErrorException
+    {
+        final String dateParameterName = "startDate";
+
+        if ((offset < 0) || (maximumRecords < 0))
+        {
+            throw new PagingErrorException(OMRSErrorCode.INVALID_AUDIT_LOG_PAGING.getMessageDefinition(methodName,
+                                                                                                       getDestinationName(),
+                                                                                                       Integer.toString(offset),
+                                                                                                       Integer.toString(maximumRecords)),
+                                           this.getClass().getName(),
+                                           methodName);
+        }
+
+        long startTime = (startDate == null) ? Long.MIN_VALUE : startDate.getTime();
+        long endTime   = (endDate == null) ? Long.MAX_VALUE : endDate.getTime();
+
+        if (startTime > endTime)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.INVALID_AUDIT_LOG_TIME_PERIOD.getMessageDefinition(methodName,
+                                                                                                                 getDestinationName(),
+                                                                                                                 startDate.toString(),
+                                                                                                                 endDate.toString()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                dateParameterName);
+        }
+
+        try
+        {
+            List<OMRSAuditLogRecord> results = getSegmentStore(methodName).findRecords(startTime,
+                                                                                        endTime,
+                                                                                        filter,
+                                                                                        offset,
+                                                                                        maximumRecords);
+
+            if (results.isEmpty())
+            {
+                return null;
+            }
+
+            return results;
+        }
+        catch (IOException ioException)
+        {
+            throw new RepositoryErrorException(OMRSErrorCode.AUDIT_LOG_STORE_NOT_AVAILABLE.getMessageDefinition(getDestinationName(),
+                                                                                                                 ioException.getMessage()),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               ioException);
+        }
+    }
+
+
+    /**
+     * Return the segment store, checking that the connector has been started.
+     *
+     * @param methodName calling method
+     * @return segment store
+     * @throws RepositoryErrorException the connector has not been started
+     */
+    private AuditLogSegmentStore getSegmentStore(String methodName) throws RepositoryErrorException
+    {
+        if (segmentStore == null)
+        {
+            throw new RepositoryErrorException(OMRSErrorCode.AUDIT_LOG_STORE_NOT_AVAILABLE.getMessageDefinition(getDestinationName(),
+                                                                                                                 "connector not started"),
+                                               this.getClass().getName(),
+                                               methodName);
+        }
+
+        return segmentStore;
     }
 
 
     /**
-     * Free up any resources held since the connector is no longer needed.
+     * Write any queued log records, close the current segment and stop the writer thread.
      *
      * @throws ConnectorCheckedException there is a problem within the connector.
      */
     public  void disconnect() throws ConnectorCheckedException
     {
+        if (segmentStore != null)
+        {
+            segmentStore.stop();
+        }
+
         super.disconnect();
     }
 }
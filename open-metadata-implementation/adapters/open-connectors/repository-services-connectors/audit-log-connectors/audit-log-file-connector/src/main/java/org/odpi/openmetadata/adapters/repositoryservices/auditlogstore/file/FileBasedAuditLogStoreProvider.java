@@ -5,6 +5,8 @@ package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreProviderBase;
 
+import java.util.List;
+
 /**
  * FileBasedAuditLogStoreProvider is the OCF connector provider for the file based audit log store.
  */
@@ -14,6 +16,12 @@ public class FileBasedAuditLogStoreProvider extends OMRSAuditLogStoreProviderBas
     private static final String  connectorTypeName = "File Based Audit Log Store Connector";
     private static final String  connectorTypeDescription = "Connector supports storing of audit log messages in a file.";
 
+    public static final String  maxSegmentSizeProperty      = "maxSegmentSize";
+    public static final String  segmentRollIntervalProperty = "segmentRollInterval";
+    public static final String  compressSegmentsProperty    = "compressSegments";
+    public static final String  writerBatchSizeProperty     = "writerBatchSize";
+    public static final String  writerQueueSizeProperty     = "writerQueueSize";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * audit log store implementation.
@@ -32,6 +40,15 @@ public class FileBasedAuditLogStoreProvider extends OMRSAuditLogStoreProviderBas
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = super.getRecognizedConfigurationProperties();
+        recognizedConfigurationProperties.add(maxSegmentSizeProperty);
+        recognizedConfigurationProperties.add(segmentRollIntervalProperty);
+        recognizedConfigurationProperties.add(compressSegmentsProperty);
+        recognizedConfigurationProperties.add(writerBatchSizeProperty);
+        recognizedConfigurationProperties.add(writerQueueSizeProperty);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
@@ -0,0 +1,295 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.events.OpenMetadataEventSerializer;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Validate that the segment store rolls, compresses, recovers and pages through its segment files.
+ */
+public class AuditLogSegmentStoreTest
+{
+    private static final long   baseTime        = 1500000000000L;
+    private static final long   smallSegment    = 1000L;
+    private static final long   largeSegment    = 1024L * 1024L;
+    private static final int    writerBatchSize = 10;
+    private static final int    writerQueueSize = 100;
+    private static final String threadName      = "AuditLogSegmentStoreTest";
+
+    private File directory = null;
+
+
+    @BeforeMethod
+    void createDirectory() throws IOException
+    {
+        directory = Files.createTempDirectory("audit-log-segment-store-test").toFile();
+    }
+
+
+    @AfterMethod
+    void deleteDirectory()
+    {
+        FileUtils.deleteQuietly(directory);
+    }
+
+
+    private OMRSAuditLogRecord getRecord(int recordNumber)
+    {
+        OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord();
+
+        logRecord.setGUID("record-" + recordNumber);
+        logRecord.setTimeStamp(new Date(baseTime + recordNumber));
+        logRecord.setMessageText("Test message " + recordNumber);
+
+        return logRecord;
+    }
+
+
+    private AuditLogSegmentStore startStore(long    maxSegmentSize,
+                                            long    segmentRollInterval,
+                                            boolean compressSegments) throws IOException
+    {
+        AuditLogSegmentStore store = new AuditLogSegmentStore(directory,
+                                                              maxSegmentSize,
+                                                              segmentRollInterval,
+                                                              compressSegments,
+                                                              writerBatchSize,
+                                                              writerQueueSize);
+
+        store.start(threadName);
+
+        return store;
+    }
+
+
+    private void addRecords(AuditLogSegmentStore store,
+                            int                  firstRecordNumber,
+                            int                  recordCount) throws InterruptedException
+    {
+        for (int i = firstRecordNumber; i < firstRecordNumber + recordCount; i++)
+        {
+            assertTrue(store.addRecord(getRecord(i)));
+        }
+    }
+
+
+    private List<String> getGUIDs(List<OMRSAuditLogRecord> logRecords)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (OMRSAuditLogRecord logRecord : logRecords)
+        {
+            guids.add(logRecord.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    private List<String> getExpectedGUIDs(int firstRecordNumber,
+                                          int recordCount)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (int i = firstRecordNumber; i < firstRecordNumber + recordCount; i++)
+        {
+            guids.add("record-" + i);
+        }
+
+        return guids;
+    }
+
+
+    private List<String> getSegmentFileNames(String suffix)
+    {
+        String[] fileNames = directory.list((dir, name) -> name.startsWith(AuditLogSegmentStore.SEGMENT_FILE_PREFIX) &&
+                                                           name.endsWith(suffix));
+
+        assertNotNull(fileNames);
+
+        return Arrays.asList(fileNames);
+    }
+
+
+    private AuditLogSegment[] readIndex() throws IOException
+    {
+        return new ObjectMapper().readValue(new File(directory, AuditLogSegmentStore.INDEX_FILE_NAME), AuditLogSegment[].class);
+    }
+
+
+    @Test
+    void testRollOnSize() throws Exception
+    {
+        AuditLogSegmentStore store = startStore(smallSegment, 0, false);
+
+        addRecords(store, 0, 30);
+
+        assertEquals(getGUIDs(store.findRecords(0, Long.MAX_VALUE, null, 0, 0)), getExpectedGUIDs(0, 30));
+        assertTrue(getSegmentFileNames(AuditLogSegmentStore.SEGMENT_FILE_SUFFIX).size() > 1);
+
+        store.stop();
+
+        long recordCount = 0;
+
+        for (AuditLogSegment segment : readIndex())
+        {
+            assertFalse(segment.isCompressed());
+            recordCount = recordCount + segment.getRecordCount();
+        }
+
+        assertEquals(recordCount, 30);
+    }
+
+
+    @Test
+    void testRollOnTime() throws Exception
+    {
+        AuditLogSegmentStore store = startStore(largeSegment, 100, false);
+
+        addRecords(store, 0, 1);
+        assertEquals(store.findRecords(0, Long.MAX_VALUE, null, 0, 0).size(), 1);
+
+        Thread.sleep(300);
+
+        addRecords(store, 1, 1);
+
+        assertEquals(getGUIDs(store.findRecords(0, Long.MAX_VALUE, null, 0, 0)), getExpectedGUIDs(0, 2));
+        assertEquals(getSegmentFileNames(AuditLogSegmentStore.SEGMENT_FILE_SUFFIX).size(), 2);
+        assertEquals(readIndex().length, 1);
+
+        store.stop();
+    }
+
+
+    @Test
+    void testCompression() throws Exception
+    {
+        AuditLogSegmentStore store = startStore(smallSegment, 0, true);
+
+        addRecords(store, 0, 30);
+
+        assertEquals(getGUIDs(store.findRecords(0, Long.MAX_VALUE, null, 0, 0)), getExpectedGUIDs(0, 30));
+
+        store.stop();
+
+        assertTrue(getSegmentFileNames(AuditLogSegmentStore.COMPRESSED_FILE_SUFFIX).size() > 1);
+        assertTrue(getSegmentFileNames(AuditLogSegmentStore.SEGMENT_FILE_SUFFIX).isEmpty());
+
+        for (AuditLogSegment segment : readIndex())
+        {
+            assertTrue(segment.isCompressed());
+        }
+
+        store = startStore(smallSegment, 0, true);
+
+        assertEquals(getGUIDs(store.findRecords(0, Long.MAX_VALUE, null, 0, 0)), getExpectedGUIDs(0, 30));
+        assertEquals(store.findRecord("record-17").getMessageText(), "Test message 17");
+
+        store.stop();
+    }
+
+
+    @Test
+    void testRecoveryOfPartialSegment() throws Exception
+    {
+        AuditLogSegmentStore store = startStore(largeSegment, 0, false);
+
+        addRecords(store, 0, 5);
+        store.stop();
+
+        /*
+         * Simulate a segment that was being written when the server failed.  It is not in the index and
+         * its last record is incomplete.
+         */
+        StringBuilder segmentContent = new StringBuilder();
+
+        for (int i = 5; i < 8; i++)
+        {
+            segmentContent.append(OpenMetadataEventSerializer.getWriter(OMRSAuditLogRecord.class).writeValueAsString(getRecord(i)));
+            segmentContent.append('\n');
+        }
+
+        segmentContent.append("{\"guid\":\"record-8\",\"timeSta");
+
+        File segmentFile = new File(directory, AuditLogSegmentStore.SEGMENT_FILE_PREFIX + "9999999999999" + AuditLogSegmentStore.SEGMENT_FILE_SUFFIX);
+
+        FileUtils.writeStringToFile(segmentFile, segmentContent.toString(), StandardCharsets.UTF_8);
+
+        store = startStore(largeSegment, 0, false);
+
+        assertEquals(getGUIDs(store.findRecords(0, Long.MAX_VALUE, null, 0, 0)), getExpectedGUIDs(0, 8));
+        assertNull(store.findRecord("record-8"));
+
+        AuditLogSegment[] index = readIndex();
+
+        assertEquals(index.length, 2);
+        assertEquals(index[1].getFileName(), segmentFile.getName());
+        assertEquals(index[1].getRecordCount(), 3);
+
+        /*
+         * New records go to a new segment after the recovered one.
+         */
+        addRecords(store, 8, 2);
+        assertEquals(getGUIDs(store.findRecords(0, Long.MAX_VALUE, null, 0, 0)), getExpectedGUIDs(0, 10));
+
+        store.stop();
+    }
+
+
+    @Test
+    void testPagingAcrossSegments() throws Exception
+    {
+        AuditLogSegmentStore store = startStore(smallSegment, 0, false);
+
+        addRecords(store, 0, 40);
+
+        assertEquals(getGUIDs(store.findRecords(0, Long.MAX_VALUE, null, 7, 15)), getExpectedGUIDs(7, 15));
+        assertTrue(getSegmentFileNames(AuditLogSegmentStore.SEGMENT_FILE_SUFFIX).size() > 3);
+        assertEquals(getGUIDs(store.findRecords(0, Long.MAX_VALUE, null, 35, 15)), getExpectedGUIDs(35, 5));
+        assertTrue(store.findRecords(0, Long.MAX_VALUE, null, 40, 15).isEmpty());
+
+        /*
+         * A time period that starts and ends part way through segments.
+         */
+        assertEquals(getGUIDs(store.findRecords(baseTime + 3, baseTime + 32, null, 2, 10)), getExpectedGUIDs(5, 10));
+
+        List<String> evenGUIDs = new ArrayList<>();
+
+        for (int i = 12; i < 32; i = i + 2)
+        {
+            evenGUIDs.add("record-" + i);
+        }
+
+        assertEquals(getGUIDs(store.findRecords(0,
+                                                Long.MAX_VALUE,
+                                                logRecord -> Integer.parseInt(logRecord.getGUID().substring(7)) % 2 == 0,
+                                                6,
+                                                10)),
+                     evenGUIDs);
+
+        store.stop();
+
+        store = startStore(smallSegment, 0, false);
+
+        assertEquals(getGUIDs(store.findRecords(0, Long.MAX_VALUE, null, 7, 15)), getExpectedGUIDs(7, 15));
+
+        store.stop();
+    }
+}
@@ -7,8 +7,10 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -72,13 +74,11 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
 
         try
         {
-            log.debug("Retrieving server configuration properties");
-
-            String configStoreFileContents = FileUtils.readFileToString(archiveStoreFile, "UTF-8");
+            log.debug("Retrieving open metadata archive contents");
 
             ObjectMapper objectMapper = new ObjectMapper();
 
-            newOpenMetadataArchive = objectMapper.readValue(configStoreFileContents, OpenMetadataArchive.class);
+            newOpenMetadataArchive = objectMapper.readValue(archiveStoreFile, OpenMetadataArchive.class);
         }
         catch (IOException ioException)
         {
@@ -95,6 +95,49 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
     }
 
 
+    /**
+     * Pass the contents of the archive to the processor one element at a time.  The file is parsed with the
+     * Jackson streaming API so the whole archive is never held in memory.
+     *
+     * @param contentProcessor receiver of the archive's elements
+     * @return false if the archive has no content or could not be read; true otherwise
+     */
+    @Override
+    public boolean streamArchiveContents(OpenMetadataArchiveContentProcessor   contentProcessor)
+    {
+        final String actionDescription = "Stream open metadata archive contents";
+
+        File    archiveStoreFile = new File(archiveStoreName);
+
+        try
+        {
+            log.debug("Streaming open metadata archive contents");
+
+            OpenMetadataArchiveStreamReader archiveReader = new OpenMetadataArchiveStreamReader(new ObjectMapper(), archiveStoreFile);
+
+            return archiveReader.readArchive(contentProcessor);
+        }
+        catch (IOException ioException)
+        {
+            /*
+             * The archive file is not found or is not valid.  Any content already passed to the processor remains.
+             */
+            log.error("Unusable open metadata archive " + archiveStoreName, ioException);
+
+            if (auditLog != null)
+            {
+                auditLog.logException(actionDescription,
+                                      OMRSAuditCode.UNREADABLE_ARCHIVE.getMessageDefinition(archiveStoreName,
+                                                                                            ioException.getClass().getName(),
+                                                                                            ioException.getMessage()),
+                                      ioException);
+            }
+
+            return false;
+        }
+    }
+
+
     /**
      * Set new contents into the archive.  This overrides any content previously stored.
      *
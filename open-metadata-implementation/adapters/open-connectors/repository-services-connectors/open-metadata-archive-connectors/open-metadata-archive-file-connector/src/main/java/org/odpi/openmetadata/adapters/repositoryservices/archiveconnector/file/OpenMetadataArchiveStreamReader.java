@@ -0,0 +1,328 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * OpenMetadataArchiveStreamReader reads an open metadata archive file with the Jackson streaming API and passes
+ * each element to an OpenMetadataArchiveContentProcessor as soon as it is parsed.  Only one element is held in
+ * memory at a time.
+ * <p>
+ * The processor expects the elements in a fixed order (header, then types, then instances).  Archives written
+ * by Egeria store the sections in that order.  To handle archives that are not, the reader first scans the file to
+ * find out which sections it has.  Any section that arrives before a section it depends on is held as a JSON tree
+ * until it can be processed.
+ * </p>
+ */
+class OpenMetadataArchiveStreamReader
+{
+    private static final String ARCHIVE_PROPERTIES     = "archiveProperties";
+    private static final String ARCHIVE_TYPE_STORE     = "archiveTypeStore";
+    private static final String ARCHIVE_INSTANCE_STORE = "archiveInstanceStore";
+    private static final String ATTRIBUTE_TYPE_DEFS    = "attributeTypeDefs";
+    private static final String NEW_TYPE_DEFS          = "newTypeDefs";
+    private static final String TYPE_DEF_PATCHES       = "typeDefPatches";
+    private static final String ENTITIES               = "entities";
+    private static final String RELATIONSHIPS          = "relationships";
+    private static final String CLASSIFICATIONS        = "classifications";
+
+    private static final String SECTION_SEPARATOR      = ".";
+
+
+    /**
+     * SectionProcessor processes the value of one field in the archive.  The parser is positioned on the
+     * first token of the value.
+     */
+    private interface SectionProcessor
+    {
+        void process(JsonParser parser) throws IOException;
+    }
+
+
+    private ObjectMapper objectMapper;
+    private File         archiveFile;
+
+
+    /**
+     * Constructor
+     *
+     * @param objectMapper mapper used to create the parser and deserialize each element
+     * @param archiveFile file containing the archive
+     */
+    OpenMetadataArchiveStreamReader(ObjectMapper objectMapper,
+                                    File         archiveFile)
+    {
+        this.objectMapper = objectMapper;
+        this.archiveFile = archiveFile;
+    }
+
+
+    /**
+     * Read the archive and pass its contents to the processor.
+     *
+     * @param contentProcessor receiver of the archive's elements
+     * @return false if the file does not contain a JSON object; true otherwise
+     * @throws IOException the file could not be read or parsed
+     */
+    boolean readArchive(OpenMetadataArchiveContentProcessor   contentProcessor) throws IOException
+    {
+        Set<String> presentSections = this.scanSections();
+
+        if (presentSections == null)
+        {
+            return false;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(archiveFile))
+        {
+            parser.nextToken();
+
+            this.processObject(parser, this.getArchiveSections(contentProcessor, presentSections), "", presentSections);
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Scan the file to find which sections of the archive are present (and not null).  Nested sections are
+     * recorded as "archiveTypeStore.newTypeDefs" etc.
+     *
+     * @return set of section names or null if the file does not contain a JSON object
+     * @throws IOException the file could not be read or parsed
+     */
+    private Set<String> scanSections() throws IOException
+    {
+        Set<String> presentSections = new HashSet<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(archiveFile))
+        {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+            {
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String    sectionName = parser.getCurrentName();
+                JsonToken token       = parser.nextToken();
+
+                if (token != JsonToken.VALUE_NULL)
+                {
+                    presentSections.add(sectionName);
+
+                    if ((token == JsonToken.START_OBJECT) &&
+                        ((ARCHIVE_TYPE_STORE.equals(sectionName)) || (ARCHIVE_INSTANCE_STORE.equals(sectionName))))
+                    {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME)
+                        {
+                            String nestedSectionName = parser.getCurrentName();
+
+                            if (parser.nextToken() != JsonToken.VALUE_NULL)
+                            {
+                                presentSections.add(sectionName + SECTION_SEPARATOR + nestedSectionName);
+                            }
+
+                            parser.skipChildren();
+                        }
+                    }
+                    else
+                    {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+
+        return presentSections;
+    }
+
+
+    /**
+     * Return the processors for the top level sections of the archive in the order they must be processed.
+     *
+     * @param contentProcessor receiver of the archive's elements
+     * @param presentSections sections found in the file
+     * @return map of section name to processor
+     */
+    private Map<String, SectionProcessor> getArchiveSections(OpenMetadataArchiveContentProcessor contentProcessor,
+                                                             Set<String>                         presentSections)
+    {
+        Map<String, SectionProcessor> sections = new LinkedHashMap<>();
+
+        sections.put(ARCHIVE_PROPERTIES,
+                     parser -> contentProcessor.processArchiveProperties(objectMapper.readValue(parser, OpenMetadataArchiveProperties.class)));
+
+        Map<String, SectionProcessor> typeStoreSections = new LinkedHashMap<>();
+
+        typeStoreSections.put(ATTRIBUTE_TYPE_DEFS,
+                              parser -> processArray(parser, AttributeTypeDef.class, contentProcessor::processAttributeTypeDef));
+        typeStoreSections.put(NEW_TYPE_DEFS,
+                              parser -> processArray(parser, TypeDef.class, contentProcessor::processNewTypeDef));
+        typeStoreSections.put(TYPE_DEF_PATCHES,
+                              parser -> processArray(parser, TypeDefPatch.class, contentProcessor::processTypeDefPatch));
+
+        sections.put(ARCHIVE_TYPE_STORE,
+                     parser -> processObject(parser, typeStoreSections, ARCHIVE_TYPE_STORE + SECTION_SEPARATOR, presentSections));
+
+        Map<String, SectionProcessor> instanceStoreSections = new LinkedHashMap<>();
+
+        instanceStoreSections.put(ENTITIES,
+                                  parser -> processArray(parser, EntityDetail.class, contentProcessor::processEntity));
+        instanceStoreSections.put(RELATIONSHIPS,
+                                  parser -> processArray(parser, Relationship.class, contentProcessor::processRelationship));
+        instanceStoreSections.put(CLASSIFICATIONS,
+                                  parser -> processArray(parser, ClassificationEntityExtension.class, contentProcessor::processClassification));
+
+        sections.put(ARCHIVE_INSTANCE_STORE,
+                     parser -> processObject(parser, instanceStoreSections, ARCHIVE_INSTANCE_STORE + SECTION_SEPARATOR, presentSections));
+
+        return sections;
+    }
+
+
+    /**
+     * Process the fields of a JSON object.  A section is processed as soon as it is read if all of the
+     * sections that must come before it have been processed.  Otherwise it is held until they have.
+     * Fields that are not sections are skipped.
+     *
+     * @param parser parser positioned at the start of the object
+     * @param sections processors for the sections of the object, in the order they must be processed
+     * @param sectionPrefix prefix for the section names in presentSections
+     * @param presentSections sections found in the file
+     * @throws IOException the file could not be read or parsed
+     */
+    private void processObject(JsonParser                    parser,
+                               Map<String, SectionProcessor> sections,
+                               String                        sectionPrefix,
+                               Set<String>                   presentSections) throws IOException
+    {
+        if (parser.currentToken() != JsonToken.START_OBJECT)
+        {
+            parser.skipChildren();
+            return;
+        }
+
+        List<String> sectionOrder = new ArrayList<>();
+
+        for (String sectionName : sections.keySet())
+        {
+            if (presentSections.contains(sectionPrefix + sectionName))
+            {
+                sectionOrder.add(sectionName);
+            }
+        }
+
+        Map<String, TreeNode> deferredSections = new HashMap<>();
+        int                   nextSection      = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String           sectionName      = parser.getCurrentName();
+            JsonToken        token            = parser.nextToken();
+            SectionProcessor sectionProcessor = sections.get(sectionName);
+
+            if ((sectionProcessor == null) || (token == JsonToken.VALUE_NULL))
+            {
+                parser.skipChildren();
+            }
+            else if ((nextSection < sectionOrder.size()) && (sectionName.equals(sectionOrder.get(nextSection))))
+            {
+                sectionProcessor.process(parser);
+                nextSection++;
+
+                while ((nextSection < sectionOrder.size()) && (deferredSections.containsKey(sectionOrder.get(nextSection))))
+                {
+                    String deferredSectionName = sectionOrder.get(nextSection);
+
+                    processTree(deferredSections.remove(deferredSectionName), sections.get(deferredSectionName));
+                    nextSection++;
+                }
+            }
+            else
+            {
+                deferredSections.put(sectionName, parser.readValueAsTree());
+            }
+        }
+
+        for (String sectionName : sectionOrder)
+        {
+            TreeNode deferredSection = deferredSections.remove(sectionName);
+
+            if (deferredSection != null)
+            {
+                processTree(deferredSection, sections.get(sectionName));
+            }
+        }
+    }
+
+
+    /**
+     * Process a section that was held as a JSON tree.
+     *
+     * @param section JSON tree for the section
+     * @param sectionProcessor processor for the section
+     * @throws IOException the section could not be parsed
+     */
+    private void processTree(TreeNode         section,
+                             SectionProcessor sectionProcessor) throws IOException
+    {
+        try (JsonParser treeParser = objectMapper.treeAsTokens(section))
+        {
+            treeParser.nextToken();
+            sectionProcessor.process(treeParser);
+        }
+    }
+
+
+    /**
+     * Deserialize each element of a JSON array in turn and pass it to the consumer.
+     *
+     * @param parser parser positioned at the start of the array
+     * @param elementClass class of the elements
+     * @param consumer receiver of each element
+     * @param <T> type of the elements
+     * @throws IOException the file could not be read or parsed
+     */
+    private <T> void processArray(JsonParser  parser,
+                                  Class<T>    elementClass,
+                                  Consumer<T> consumer) throws IOException
+    {
+        if (parser.currentToken() != JsonToken.START_ARRAY)
+        {
+            parser.skipChildren();
+            return;
+        }
+
+        JsonToken token = parser.nextToken();
+
+        while ((token != null) && (token != JsonToken.END_ARRAY))
+        {
+            T element = objectMapper.readValue(parser, elementClass);
+
+            if (element != null)
+            {
+                consumer.accept(element);
+            }
+
+            token = parser.nextToken();
+        }
+    }
+}
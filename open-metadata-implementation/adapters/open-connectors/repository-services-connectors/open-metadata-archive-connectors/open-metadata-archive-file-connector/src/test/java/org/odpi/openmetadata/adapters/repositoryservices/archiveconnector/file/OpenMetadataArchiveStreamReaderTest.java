@@ -0,0 +1,251 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Validate that the stream reader passes the archive elements to the processor in the documented order,
+ * whatever the order of the sections in the file, and that unreadable archives are reported.
+ */
+public class OpenMetadataArchiveStreamReaderTest
+{
+    private static final List<String> expectedElements = Arrays.asList("properties:TestArchive",
+                                                                       "typeDef:TestType",
+                                                                       "entity:entity-1",
+                                                                       "entity:entity-2",
+                                                                       "relationship:relationship-1");
+
+    private ObjectMapper objectMapper = new ObjectMapper();
+    private File         directory    = null;
+
+
+    @BeforeMethod
+    void createDirectory() throws IOException
+    {
+        directory = Files.createTempDirectory("open-metadata-archive-test").toFile();
+    }
+
+
+    @AfterMethod
+    void deleteDirectory()
+    {
+        FileUtils.deleteQuietly(directory);
+    }
+
+
+    private OpenMetadataArchive getArchive()
+    {
+        OpenMetadataArchiveProperties archiveProperties = new OpenMetadataArchiveProperties();
+        archiveProperties.setArchiveGUID("archive-guid");
+        archiveProperties.setArchiveName("TestArchive");
+
+        EntityDef entityDef = new EntityDef();
+        entityDef.setGUID("type-guid");
+        entityDef.setName("TestType");
+
+        OpenMetadataArchiveTypeStore typeStore = new OpenMetadataArchiveTypeStore();
+        typeStore.setNewTypeDefs(Collections.singletonList(entityDef));
+
+        EntityDetail entity1 = new EntityDetail();
+        entity1.setGUID("entity-1");
+
+        EntityDetail entity2 = new EntityDetail();
+        entity2.setGUID("entity-2");
+
+        Relationship relationship = new Relationship();
+        relationship.setGUID("relationship-1");
+
+        OpenMetadataArchiveInstanceStore instanceStore = new OpenMetadataArchiveInstanceStore();
+        instanceStore.setEntities(Arrays.asList(entity1, entity2));
+        instanceStore.setRelationships(Collections.singletonList(relationship));
+
+        OpenMetadataArchive archive = new OpenMetadataArchive();
+        archive.setArchiveProperties(archiveProperties);
+        archive.setArchiveTypeStore(typeStore);
+        archive.setArchiveInstanceStore(instanceStore);
+
+        return archive;
+    }
+
+
+    private File writeArchiveFile(String contents) throws IOException
+    {
+        File archiveFile = new File(directory, "test.archive.json");
+
+        FileUtils.writeStringToFile(archiveFile, contents, StandardCharsets.UTF_8);
+
+        return archiveFile;
+    }
+
+
+    private List<String> readArchive(File archiveFile, boolean expectedResult) throws IOException
+    {
+        RecordingProcessor processor = new RecordingProcessor();
+
+        assertEquals(new OpenMetadataArchiveStreamReader(objectMapper, archiveFile).readArchive(processor), expectedResult);
+
+        return processor.elements;
+    }
+
+
+    @Test
+    void testArchiveInStoredOrder() throws IOException
+    {
+        File archiveFile = writeArchiveFile(objectMapper.writeValueAsString(getArchive()));
+
+        assertEquals(readArchive(archiveFile, true), expectedElements);
+    }
+
+
+    @Test
+    void testReorderedSections() throws IOException
+    {
+        ObjectNode storedArchive = objectMapper.valueToTree(getArchive());
+        ObjectNode instanceStore = (ObjectNode) storedArchive.get("archiveInstanceStore");
+
+        ObjectNode reorderedInstanceStore = objectMapper.createObjectNode();
+        reorderedInstanceStore.set("relationships", instanceStore.get("relationships"));
+        reorderedInstanceStore.set("entities", instanceStore.get("entities"));
+
+        ObjectNode reorderedArchive = objectMapper.createObjectNode();
+        reorderedArchive.set("archiveInstanceStore", reorderedInstanceStore);
+        reorderedArchive.put("unknownSection", "ignored");
+        reorderedArchive.set("archiveTypeStore", storedArchive.get("archiveTypeStore"));
+        reorderedArchive.set("archiveProperties", storedArchive.get("archiveProperties"));
+
+        File archiveFile = writeArchiveFile(objectMapper.writeValueAsString(reorderedArchive));
+
+        assertEquals(readArchive(archiveFile, true), expectedElements);
+    }
+
+
+    @Test
+    void testTruncatedArchive() throws IOException
+    {
+        String archiveContents = objectMapper.writeValueAsString(getArchive());
+        File   archiveFile     = writeArchiveFile(archiveContents.substring(0, archiveContents.indexOf("entity-2")));
+
+        RecordingProcessor processor = new RecordingProcessor();
+
+        try
+        {
+            new OpenMetadataArchiveStreamReader(objectMapper, archiveFile).readArchive(processor);
+            fail("Truncated archive not detected");
+        }
+        catch (IOException error)
+        {
+            // expected
+        }
+
+        assertTrue(processor.elements.isEmpty());
+        assertFalse(getConnector(archiveFile).streamArchiveContents(new RecordingProcessor()));
+    }
+
+
+    @Test
+    void testEmptyArchive() throws IOException
+    {
+        File archiveFile = writeArchiveFile("");
+
+        assertTrue(readArchive(archiveFile, false).isEmpty());
+        assertFalse(getConnector(archiveFile).streamArchiveContents(new RecordingProcessor()));
+    }
+
+
+    @Test
+    void testMissingArchive()
+    {
+        assertFalse(getConnector(new File(directory, "missing.json")).streamArchiveContents(new RecordingProcessor()));
+    }
+
+
+    private FileBasedOpenMetadataArchiveStoreConnector getConnector(File archiveFile)
+    {
+        Endpoint endpoint = new Endpoint();
+        endpoint.setAddress(archiveFile.getPath());
+
+        Connection connection = new Connection();
+        connection.setEndpoint(endpoint);
+
+        FileBasedOpenMetadataArchiveStoreConnector connector = new FileBasedOpenMetadataArchiveStoreConnector();
+        connector.initialize("test-connector", new ConnectionProperties(connection));
+
+        return connector;
+    }
+
+
+    /**
+     * RecordingProcessor records the elements it receives in the order they arrive.
+     */
+    private static class RecordingProcessor implements OpenMetadataArchiveContentProcessor
+    {
+        private List<String> elements = new ArrayList<>();
+
+        public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+        {
+            elements.add("properties:" + archiveProperties.getArchiveName());
+        }
+
+        public void processAttributeTypeDef(AttributeTypeDef attributeTypeDef)
+        {
+            elements.add("attributeTypeDef:" + attributeTypeDef.getName());
+        }
+
+        public void processNewTypeDef(TypeDef typeDef)
+        {
+            elements.add("typeDef:" + typeDef.getName());
+        }
+
+        public void processTypeDefPatch(TypeDefPatch typeDefPatch)
+        {
+            elements.add("typeDefPatch:" + typeDefPatch.getTypeDefGUID());
+        }
+
+        public void processEntity(EntityDetail entity)
+        {
+            elements.add("entity:" + entity.getGUID());
+        }
+
+        public void processRelationship(Relationship relationship)
+        {
+            elements.add("relationship:" + relationship.getGUID());
+        }
+
+        public void processClassification(ClassificationEntityExtension classification)
+        {
+            elements.add("classification");
+        }
+    }
+}
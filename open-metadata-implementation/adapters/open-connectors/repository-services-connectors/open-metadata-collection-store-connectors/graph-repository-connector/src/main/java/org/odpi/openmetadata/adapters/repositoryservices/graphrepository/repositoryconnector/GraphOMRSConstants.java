@@ -226,6 +226,25 @@ public class GraphOMRSConstants {
 
 
 
+    /*
+     *  CONNECTOR CONFIGURATION PROPERTIES
+     *
+     *  These are read from the connection's configuration properties and removed before the remaining properties
+     *  are passed to the graph database as its storage configuration.
+     */
+
+    // The maximum number of reference copy saves that are committed in a single graph transaction. Saves that arrive
+    // while another thread is committing are queued and committed together. The default of 1 commits each save on its own.
+    public static final String CONFIG_PROPERTY_REFERENCE_COPY_BATCH_SIZE      = "referenceCopyBatchSize";
+
+    // The number of times a graph transaction is attempted when its commit fails because of lock contention.
+    public static final String CONFIG_PROPERTY_TRANSACTION_RETRY_LIMIT        = "transactionRetryLimit";
+
+    public static final int    DEFAULT_REFERENCE_COPY_BATCH_SIZE              = 1;
+    public static final int    DEFAULT_TRANSACTION_RETRY_LIMIT                = 5;
+
+
+
     public enum ElementType {
         Vertex,
         Edge
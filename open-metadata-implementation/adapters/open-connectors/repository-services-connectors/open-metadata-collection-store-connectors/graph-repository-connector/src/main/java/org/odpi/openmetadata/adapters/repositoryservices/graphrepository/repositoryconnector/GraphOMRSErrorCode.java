@@ -116,6 +116,10 @@ public enum GraphOMRSErrorCode implements ExceptionMessageSet
             "There is an already a relationship with GUID {0} so cannot honor request to create relationship in {1} method of class {2} to open metadata repository {3}",
             "The system is unable to perform the request because there is already a relationship with the same GUID.",
             "Correct the caller's code and retry the create request."),
+    TRANSACTION_NOT_COMMITTED(400, "OMRS-GRAPH-REPOSITORY-400-024",
+            "The graph transaction for the instance with GUID {0} could not be committed after {1} attempts in {2} method of class {3} to open metadata repository {4}",
+            "The system was unable to store the instance because the graph database rejected the transaction, for example because other requests held locks on the same elements.",
+            "Retry the request. If the problem persists, check the graph database and consider increasing the transactionRetryLimit configuration property of the repository connector."),
 
     ;
 
@@ -11,6 +11,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceBatchResult;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
@@ -36,6 +37,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidEntityExce
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidRelationshipException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidTypeDefException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSCheckedExceptionBase;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RelationshipConflictException;
@@ -50,7 +52,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -160,6 +164,91 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         final String methodName = "addEntity";
 
+        EntityDetail newEntity = this.getNewEntity(userId,
+                                                   entityTypeGUID,
+                                                   initialProperties,
+                                                   initialClassifications,
+                                                   initialStatus,
+                                                   methodName);
+
+        newEntity = graphStore.createEntityInStore(newEntity);
+
+        return newEntity;
+    }
+
+
+    // addEntities
+    public List<InstanceBatchResult> addEntities(String              userId,
+                                                 List<EntityDetail>  newEntities)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String methodName = "addEntities";
+
+        super.validateBatchParameters(userId, newEntities, "newEntities", methodName);
+
+        /*
+         * Validate each template and build the new entities.  All of the valid entities are then
+         * created in the graph in a single transaction.
+         */
+        InstanceBatchResult[] results       = new InstanceBatchResult[newEntities.size()];
+        List<Integer>         validIndexes  = new ArrayList<>();
+        List<EntityDetail>    entitiesToAdd = new ArrayList<>();
+
+        for (int index = 0; index < newEntities.size(); index++) {
+
+            EntityDetail template = newEntities.get(index);
+
+            try {
+                entitiesToAdd.add(this.getNewEntity(userId,
+                                                    super.getTemplateTypeGUID(template),
+                                                    template == null ? null : template.getProperties(),
+                                                    template == null ? null : template.getClassifications(),
+                                                    template == null ? null : template.getStatus(),
+                                                    methodName));
+                validIndexes.add(index);
+            }
+            catch (OMRSCheckedExceptionBase error) {
+                results[index] = super.getBatchErrorResult(error);
+            }
+        }
+
+        if (!entitiesToAdd.isEmpty()) {
+
+            List<OMRSCheckedExceptionBase> errors = graphStore.createEntitiesInStore(entitiesToAdd);
+
+            for (int index = 0; index < entitiesToAdd.size(); index++) {
+                if (errors.get(index) == null) {
+                    results[validIndexes.get(index)] = new InstanceBatchResult(entitiesToAdd.get(index));
+                }
+                else {
+                    results[validIndexes.get(index)] = super.getBatchErrorResult(errors.get(index));
+                }
+            }
+        }
+
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+
+    // getNewEntity - validate the parameters for a new entity and build it ready to store
+    private EntityDetail getNewEntity(String                userId,
+                                      String                entityTypeGUID,
+                                      InstanceProperties    initialProperties,
+                                      List<Classification>  initialClassifications,
+                                      InstanceStatus        initialStatus,
+                                      String                methodName)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            TypeErrorException,
+            PropertyErrorException,
+            ClassificationErrorException,
+            StatusNotSupportedException
+    {
         /*
          * Validate parameters
          */
@@ -193,8 +282,6 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
             newEntity.setStatus(initialStatus);
         }
 
-        newEntity = graphStore.createEntityInStore(newEntity);
-
         return newEntity;
     }
 
@@ -421,6 +508,100 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     {
         final String  methodName = "addRelationship";
 
+        Relationship relationship = this.getNewRelationship(userId,
+                                                            relationshipTypeGUID,
+                                                            initialProperties,
+                                                            entityOneGUID,
+                                                            entityTwoGUID,
+                                                            initialStatus,
+                                                            new HashMap<>(),
+                                                            methodName);
+
+        graphStore.createRelationshipInStore(relationship);
+
+        return relationship;
+    }
+
+
+    // addRelationships
+    public List<InstanceBatchResult> addRelationships(String              userId,
+                                                      List<Relationship>  newRelationships)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String methodName = "addRelationships";
+
+        super.validateBatchParameters(userId, newRelationships, "newRelationships", methodName);
+
+        /*
+         * Validate each template and build the new relationships.  All of the valid relationships are then
+         * created in the graph in a single transaction.  The proxies for the ends are only retrieved once
+         * for the batch.
+         */
+        InstanceBatchResult[]    results            = new InstanceBatchResult[newRelationships.size()];
+        List<Integer>            validIndexes       = new ArrayList<>();
+        List<Relationship>       relationshipsToAdd = new ArrayList<>();
+        Map<String, EntityProxy> entityProxies      = new HashMap<>();
+
+        for (int index = 0; index < newRelationships.size(); index++) {
+
+            Relationship template = newRelationships.get(index);
+
+            try {
+                relationshipsToAdd.add(this.getNewRelationship(userId,
+                                                               super.getTemplateTypeGUID(template),
+                                                               template == null ? null : template.getProperties(),
+                                                               template == null ? null : super.getTemplateEntityGUID(template.getEntityOneProxy()),
+                                                               template == null ? null : super.getTemplateEntityGUID(template.getEntityTwoProxy()),
+                                                               template == null ? null : template.getStatus(),
+                                                               entityProxies,
+                                                               methodName));
+                validIndexes.add(index);
+            }
+            catch (OMRSCheckedExceptionBase error) {
+                results[index] = super.getBatchErrorResult(error);
+            }
+        }
+
+        if (!relationshipsToAdd.isEmpty()) {
+
+            List<OMRSCheckedExceptionBase> errors = graphStore.createRelationshipsInStore(relationshipsToAdd);
+
+            for (int index = 0; index < relationshipsToAdd.size(); index++) {
+                if (errors.get(index) == null) {
+                    results[validIndexes.get(index)] = new InstanceBatchResult(relationshipsToAdd.get(index));
+                }
+                else {
+                    results[validIndexes.get(index)] = super.getBatchErrorResult(errors.get(index));
+                }
+            }
+        }
+
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+
+    // getNewRelationship - validate the parameters for a new relationship and build it ready to store
+    private Relationship getNewRelationship(String                    userId,
+                                            String                    relationshipTypeGUID,
+                                            InstanceProperties        initialProperties,
+                                            String                    entityOneGUID,
+                                            String                    entityTwoGUID,
+                                            InstanceStatus            initialStatus,
+                                            Map<String, EntityProxy>  entityProxies,
+                                            String                    methodName)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            TypeErrorException,
+            PropertyErrorException,
+            EntityNotKnownException,
+            StatusNotSupportedException,
+            UserNotAuthorizedException
+    {
         /*
          * Validate parameters
          */
@@ -446,18 +627,12 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         /*
          * Retrieve a proxy for entity 1
          */
-        EntityProxy entityOneProxy = graphStore.getEntityProxyFromStore(entityOneGUID);
-
-        repositoryValidator.validateEntityFromStore(repositoryName, entityOneGUID, entityOneProxy, methodName);
-        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entityOneProxy, methodName);
+        EntityProxy entityOneProxy = this.getRelationshipEnd(entityOneGUID, entityProxies, methodName);
 
         /*
          * Retrieve a proxy for entity 2
          */
-        EntityProxy entityTwoProxy = graphStore.getEntityProxyFromStore(entityTwoGUID);
-
-        repositoryValidator.validateEntityFromStore(repositoryName, entityTwoGUID, entityTwoProxy, methodName);
-        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entityTwoProxy, methodName);
+        EntityProxy entityTwoProxy = this.getRelationshipEnd(entityTwoGUID, entityProxies, methodName);
 
 
         repositoryValidator.validateRelationshipEnds(repositoryName, entityOneProxy, entityTwoProxy, typeDef, methodName);
@@ -473,12 +648,36 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
             relationship.setStatus(initialStatus);
         }
 
-        graphStore.createRelationshipInStore(relationship);
-
         return relationship;
     }
 
 
+    // getRelationshipEnd - retrieve and validate the proxy for one end of a new relationship, reusing any
+    // proxy that has already been retrieved for the same request
+    private EntityProxy getRelationshipEnd(String                    entityGUID,
+                                           Map<String, EntityProxy>  entityProxies,
+                                           String                    methodName)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            EntityNotKnownException
+    {
+        EntityProxy entityProxy = entityProxies.get(entityGUID);
+
+        if (entityProxy == null) {
+
+            entityProxy = graphStore.getEntityProxyFromStore(entityGUID);
+
+            repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entityProxy, methodName);
+            repositoryValidator.validateEntityIsNotDeleted(repositoryName, entityProxy, methodName);
+
+            entityProxies.put(entityGUID, entityProxy);
+        }
+
+        return entityProxy;
+    }
+
+
     // addExternalRelationship
     public Relationship addExternalRelationship(String               userId,
                                                 String               relationshipTypeGUID,
@@ -1213,6 +1412,9 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
          * Perform operation
          */
 
+        // Each type-specific search only needs to return enough results to fill the requested page
+        int maxResults = getMaxResults(fromEntityElement, pageSize);
+
         ArrayList<EntityDetail> returnEntities = null;
 
 
@@ -1243,7 +1445,9 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                 }
 
                 // Invoke a type specific search. The search will expect the regexp to match fully to the value.
-                List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByProperty(actualTypeName, matchProperties, matchCriteria, true);
+                List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByProperty(actualTypeName, matchProperties, matchCriteria, true,
+                                                                                              limitResultsByStatus, limitResultsByClassification,
+                                                                                              sequencingProperty, sequencingOrder, maxResults);
 
                 if (entitiesForCurrentType != null && !entitiesForCurrentType.isEmpty()) {
                     if (returnEntities == null) {
@@ -1348,6 +1552,9 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
          * Perform operation
          */
 
+        // Each type-specific search only needs to return enough results to fill the requested page
+        int maxResults = getMaxResults(fromRelationshipElement, pageSize);
+
         // There are no supertype/subtype hierarchies in relationship types, so only search the specified type or all types.
 
         List<Relationship> returnRelationships = null;
@@ -1361,7 +1568,8 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
             log.info("{}: search relationship type {}", methodName, specifiedTypeName);
 
-            returnRelationships = graphStore.findRelationshipsByProperty(specifiedTypeName, matchProperties, matchCriteria, true);
+            returnRelationships = graphStore.findRelationshipsByProperty(specifiedTypeName, matchProperties, matchCriteria, true,
+                                                                         limitResultsByStatus, sequencingProperty, sequencingOrder, maxResults);
 
         }
         else {
@@ -1380,7 +1588,8 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
                     // For this type, invoke a type specific search...
 
-                    List<Relationship> relationshipsForCurrentType = graphStore.findRelationshipsByProperty(actualTypeName, matchProperties, matchCriteria, true);
+                    List<Relationship> relationshipsForCurrentType = graphStore.findRelationshipsByProperty(actualTypeName, matchProperties, matchCriteria, true,
+                                                                                                                     limitResultsByStatus, sequencingProperty, sequencingOrder, maxResults);
 
                     if (relationshipsForCurrentType != null && !relationshipsForCurrentType.isEmpty()) {
                         if (returnRelationships == null) {
@@ -1420,6 +1629,25 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
 
 
+    /*
+     * Return the number of results a type-specific search must return so that, once the results for all types are
+     * merged and sequenced, the requested page can be filled. Zero means all of the matching results are needed.
+     */
+    private int getMaxResults(int fromElement,
+                              int pageSize)
+    {
+        if (pageSize <= 0) {
+            return 0;
+        }
+
+        long maxResults = (long) Math.max(fromElement, 0) + pageSize;
+        if (maxResults > Integer.MAX_VALUE) {
+            return 0;
+        }
+        return (int) maxResults;
+    }
+
+
     public  void validateTypeGUID(String sourceName,
                                   String guidParameterName,
                                   String guid,
@@ -1489,6 +1717,9 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
          * Perform operation
          */
 
+        // Each type-specific search only needs to return enough results to fill the requested page
+        int maxResults = getMaxResults(fromEntityElement, pageSize);
+
         List<EntityDetail> returnEntities = null;
 
         // Include subtypes
@@ -1523,7 +1754,9 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
 
                 // Do not tolerate substring matches - instead always the regex must match the whole value - i.e. set fullMatch parameter to true.
-                List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByProperty(actualTypeName, matchProperties, MatchCriteria.ANY, true);
+                List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByProperty(actualTypeName, matchProperties, MatchCriteria.ANY, true,
+                                                                                              limitResultsByStatus, limitResultsByClassification,
+                                                                                              sequencingProperty, sequencingOrder, maxResults);
 
 
                 if (entitiesForCurrentType != null && !entitiesForCurrentType.isEmpty()) {
@@ -1608,6 +1841,9 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         /*
          * Perform operation
          */
+
+        // Each type-specific search only needs to return enough results to fill the requested page
+        int maxResults = getMaxResults(fromRelationshipElement, pageSize);
         List<Relationship> foundRelationships = new ArrayList<>();
 
         // There are no supertype/subtype hierarchies in relationship types, so only search the specified type or all types.
@@ -1653,7 +1889,8 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
             InstanceProperties matchProperties = graphStore.constructMatchPropertiesForSearchCriteria(typeDef, searchCriteria, GraphOMRSConstants.ElementType.Edge);
 
             // Expect the regex to fully match the value
-            List<Relationship> relationshipsForCurrentType = graphStore.findRelationshipsByProperty(currentTypeName, matchProperties, MatchCriteria.ANY, true);
+            List<Relationship> relationshipsForCurrentType = graphStore.findRelationshipsByProperty(currentTypeName, matchProperties, MatchCriteria.ANY, true,
+                                                                                                             limitResultsByStatus, sequencingProperty, sequencingOrder, maxResults);
 
             if (relationshipsForCurrentType != null && !relationshipsForCurrentType.isEmpty()) {
                 if (returnRelationships == null) {
@@ -1908,6 +2145,9 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
          * Perform operation
          */
 
+        // Each type-specific search only needs to return enough results to fill the requested page
+        int maxResults = getMaxResults(fromEntityElement, pageSize);
+
 
         ArrayList<EntityDetail> returnEntities = null;
 
@@ -1940,7 +2180,9 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
                 // Find all entities of this type that have the matching classification.
                 //
-                List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByClassification(classificationName, matchClassificationProperties, matchCriteria, actualTypeName);
+                List<EntityDetail> entitiesForCurrentType = graphStore.findEntitiesByClassification(classificationName, matchClassificationProperties, matchCriteria, actualTypeName,
+                                                                                                    limitResultsByStatus, null,
+                                                                                                    sequencingProperty, sequencingOrder, maxResults);
 
 
                 if (entitiesForCurrentType != null && !entitiesForCurrentType.isEmpty()) {
@@ -3,6 +3,7 @@
 
 package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
@@ -13,8 +14,11 @@ import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.janusgraph.core.JanusGraph;
 import org.janusgraph.core.attribute.Text;
+import org.janusgraph.diskstorage.TemporaryBackendException;
+import org.janusgraph.diskstorage.locking.PermanentLockingException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
@@ -36,6 +40,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSCheckedExceptionBase;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
 import org.slf4j.Logger;
@@ -48,10 +53,15 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.P.within;
 import static org.apache.tinkerpop.gremlin.process.traversal.P.without;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.CONFIG_PROPERTY_REFERENCE_COPY_BATCH_SIZE;
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.CONFIG_PROPERTY_TRANSACTION_RETRY_LIMIT;
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.DEFAULT_REFERENCE_COPY_BATCH_SIZE;
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.DEFAULT_TRANSACTION_RETRY_LIMIT;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_CLASSIFICATION_CLASSIFICATION_NAME;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_GUID;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_IS_PROXY;
@@ -99,6 +109,17 @@ class GraphOMRSMetadataStore {
     private GraphOMRSEntityMapper entityMapper;
     private GraphOMRSClassificationMapper classificationMapper;
 
+    // Concurrency - the store is not synchronized. Each thread works in its own graph transaction (JanusGraph binds the
+    // transaction opened by instanceGraph.traversal() to the calling thread) and the graph's locks on the GUID indexes
+    // detect conflicting creates. A transaction that fails to commit because of lock contention is retried.
+
+    private int transactionRetryLimit  = DEFAULT_TRANSACTION_RETRY_LIMIT;
+    private int referenceCopyBatchSize = DEFAULT_REFERENCE_COPY_BATCH_SIZE;
+
+    // Reference copy saves waiting to be committed when batching is enabled - guarded by the list's monitor.
+    private final List<PendingReferenceCopy> pendingReferenceCopies = new ArrayList<>();
+    private boolean referenceCopyCommitInProgress = false;
+
 
 
     /**
@@ -126,6 +147,13 @@ class GraphOMRSMetadataStore {
         this.repositoryName = repositoryName;
         this.repositoryHelper = repositoryHelper;
 
+        // Take out the connector's own configuration properties - everything else is passed to the graph database
+        if (storageProperties != null) {
+            storageProperties = new HashMap<>(storageProperties);
+            transactionRetryLimit = getIntegerProperty(storageProperties.remove(CONFIG_PROPERTY_TRANSACTION_RETRY_LIMIT), DEFAULT_TRANSACTION_RETRY_LIMIT);
+            referenceCopyBatchSize = getIntegerProperty(storageProperties.remove(CONFIG_PROPERTY_REFERENCE_COPY_BATCH_SIZE), DEFAULT_REFERENCE_COPY_BATCH_SIZE);
+        }
+        log.debug("{} transactionRetryLimit {} referenceCopyBatchSize {}", methodName, transactionRetryLimit, referenceCopyBatchSize);
 
 
         try {
@@ -146,22 +174,191 @@ class GraphOMRSMetadataStore {
     }
 
 
+    // Return the positive integer value of a configuration property, or the default if it is not set or not valid.
+    private int getIntegerProperty(Object value, int defaultValue)
+    {
+        final String methodName = "getIntegerProperty";
+
+        int result = defaultValue;
+
+        if (value instanceof Number) {
+            result = ((Number) value).intValue();
+        } else if (value != null) {
+            try {
+                result = Integer.parseInt(value.toString().trim());
+            } catch (NumberFormatException e) {
+                log.error("{} ignoring invalid value {}", methodName, value);
+            }
+        }
+
+        return (result > 0) ? result : defaultValue;
+    }
+
+
+    // A unit of work to be performed in the calling thread's graph transaction. The work does not commit or roll
+    // back the transaction - that is the responsibility of performInTransaction.
+    //
+    @FunctionalInterface
+    private interface GraphWork {
+        void perform(GraphTraversalSource g) throws InvalidParameterException, RepositoryErrorException;
+    }
+
+
+    // Perform a unit of work in a graph transaction and commit it. If the commit fails because another transaction
+    // holds a lock on an element this transaction changed (for example two threads saving reference copies of the same
+    // entity), the transaction is rolled back and the work is performed again, up to transactionRetryLimit attempts.
+    // On the next attempt the work sees the other transaction's changes, so a clash on a GUID is reported (or the
+    // existing element is updated) in the normal way. An exception from the work itself is not retried.
+    //
+    private void performInTransaction(String guid, String methodName, GraphWork work)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        int attempt = 0;
+
+        while (true) {
+            attempt++;
+
+            GraphTraversalSource g = instanceGraph.traversal();
+
+            try {
+                work.perform(g);
+                g.tx().commit();
+                return;
+            }
+            catch (InvalidParameterException | RepositoryErrorException e) {
+                g.tx().rollback();
+                throw e;
+            }
+            catch (RuntimeException e) {
+                if (g.tx().isOpen()) {
+                    g.tx().rollback();
+                }
+
+                if (!isLockContention(e) || attempt >= transactionRetryLimit) {
+                    log.error("{} transaction for {} failed on attempt {}: {}", methodName, guid, attempt, e.getMessage());
+
+                    throw new RepositoryErrorException(GraphOMRSErrorCode.TRANSACTION_NOT_COMMITTED.getMessageDefinition(guid,
+                                                                                                                        Integer.toString(attempt),
+                                                                                                                        methodName,
+                                                                                                                        this.getClass().getName(),
+                                                                                                                        repositoryName),
+                            this.getClass().getName(),
+                            methodName, e);
+                }
+
+                log.debug("{} transaction for {} hit lock contention on attempt {} - retrying", methodName, guid, attempt);
+                backOff(attempt);
+            }
+        }
+    }
+
+
+    // Return true if the exception (or one of its causes) shows the transaction could not get or keep a lock.
+    private boolean isLockContention(Throwable e)
+    {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PermanentLockingException || cause instanceof TemporaryBackendException) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+
+    // Wait before retrying a transaction. The wait grows with each attempt and is randomized so that the competing
+    // threads do not collide again.
+    private void backOff(int attempt)
+    {
+        long maxWait = 10L << Math.min(attempt, 6);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxWait / 2, maxWait));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
     // A note on existence checking:
     // The MDC will NOT have already checked that there is not already an entity or entity proxy wth the same GUID.
     // Although we KNOW that this is an attempt to create a new entity and that the GUID has just been generated,
     // so we COULD re-spin it, we should NOT do that here - it should be in the MDC layer and RepoHelper layer.
     // Therefore if we get a GUID clash here we throw an exception.
     //
-    synchronized EntityDetail createEntityInStore(EntityDetail entity)
+    EntityDetail createEntityInStore(EntityDetail entity)
             throws
             RepositoryErrorException,
             InvalidParameterException
     {
         final String methodName = "createEntityInStore";
 
+        performInTransaction(entity.getGUID(), methodName, g -> addEntityToGraph(g, entity, methodName));
+
+        return entity;
+    }
+
+
+    // Create a batch of entities in a single graph transaction. The existence checks are the same as for
+    // createEntityInStore. The returned list has an entry for each entity - null if it was created or the
+    // exception that stopped it being created. A clash with an existing entity is detected before the graph is
+    // changed, so the rest of the batch can continue. If the mapper fails part way through an entity, the
+    // transaction is rolled back and the batch is created one entity at a time so that the failure is
+    // confined to the entity that caused it.
+    //
+    List<OMRSCheckedExceptionBase> createEntitiesInStore(List<EntityDetail> entities)
+    {
+        final String methodName = "createEntitiesInStore";
+
+        GraphTraversalSource           g      = instanceGraph.traversal();
+        List<OMRSCheckedExceptionBase> errors = new ArrayList<>(entities.size());
+
+        try {
+            for (EntityDetail entity : entities) {
+                try {
+                    addEntityToGraph(g, entity, methodName);
+                    errors.add(null);
+                }
+                catch (InvalidParameterException e) {
+                    errors.add(e);
+                }
+            }
+
+            g.tx().commit();
+        }
+        catch (Exception e) {
+            log.error("{} batch of {} entities rolled back: {}", methodName, entities.size(), e.getMessage());
+            g.tx().rollback();
+
+            errors.clear();
+            for (EntityDetail entity : entities) {
+                try {
+                    createEntityInStore(entity);
+                    errors.add(null);
+                }
+                catch (InvalidParameterException | RepositoryErrorException error) {
+                    errors.add(error);
+                }
+            }
+        }
+
+        return errors;
+    }
+
+
+    // Add the vertices for an entity and its classifications to the current graph transaction.
+    // The caller is responsible for committing or rolling back the transaction.
+    //
+    private void addEntityToGraph(GraphTraversalSource g, EntityDetail entity, String methodName)
+            throws
+            RepositoryErrorException,
+            InvalidParameterException
+    {
         Vertex vertex;
 
-        GraphTraversalSource g = instanceGraph.traversal();
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entity.getGUID());
 
         if (vertexIt.hasNext()) {
@@ -185,7 +382,6 @@ class GraphOMRSMetadataStore {
 
                 } else {
                     log.error("{} existing vertex apparently a proxy, but has local metadataCollectionId", methodName);
-                    g.tx().rollback();
 
                     final String parameterName = "metadataCollectionId";
 
@@ -198,7 +394,6 @@ class GraphOMRSMetadataStore {
                 }
             } else {
                 log.error("{} existing vertex for GUID {} and it is not a proxy", methodName, entity.getGUID());
-                g.tx().rollback();
 
                 String parameterName = "entity";
 
@@ -234,7 +429,6 @@ class GraphOMRSMetadataStore {
 
         } catch (Exception e) {
             log.error("{} Caught exception from entity mapper {}", methodName, e.getMessage());
-            g.tx().rollback();
 
             throw new RepositoryErrorException(GraphOMRSErrorCode.ENTITY_NOT_CREATED.getMessageDefinition(entity.getGUID(), methodName,
                                                                                                           this.getClass().getName(),
@@ -243,10 +437,6 @@ class GraphOMRSMetadataStore {
                     methodName, e);
         }
 
-
-        g.tx().commit();
-
-        return entity;
     }
 
     // A note on existence checking:
@@ -255,19 +445,29 @@ class GraphOMRSMetadataStore {
     // If the MDC found that an entity (of any description, entity, proxy or reference copy) is present - then it will not have asked you to create the proxy
     // So - if we do find that there is a GUID clash then throw exception.
     //
-    synchronized void createEntityProxyInStore(EntityProxy entityProxy)
+    void createEntityProxyInStore(EntityProxy entityProxy)
             throws
             RepositoryErrorException,
             InvalidParameterException
     {
         final String methodName = "createEntityProxyInStore";
 
-        GraphTraversalSource g = instanceGraph.traversal();
+        performInTransaction(entityProxy.getGUID(), methodName, g -> addEntityProxyToGraph(g, entityProxy, methodName));
+    }
+
+
+    // Add the vertices for an entity proxy and its classifications to the current graph transaction.
+    // The caller is responsible for committing or rolling back the transaction.
+    //
+    private void addEntityProxyToGraph(GraphTraversalSource g, EntityProxy entityProxy, String methodName)
+            throws
+            RepositoryErrorException,
+            InvalidParameterException
+    {
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityProxy.getGUID());
         if (vertexIt.hasNext()) {
             Vertex vertex = vertexIt.next();
             log.error("{} createEntityProxyInStore found existing vertex {}", methodName, vertex);
-            g.tx().rollback();
 
             throw new InvalidParameterException(GraphOMRSErrorCode.ENTITY_ALREADY_EXISTS.getMessageDefinition(entityProxy.getGUID(), methodName,
                                                                                                               this.getClass().getName(),
@@ -295,7 +495,6 @@ class GraphOMRSMetadataStore {
 
         } catch (Exception e) {
             log.error("{} Caught exception from entity mapper {}", methodName, e.getMessage());
-            g.tx().rollback();
 
             throw new RepositoryErrorException(GraphOMRSErrorCode.ENTITY_NOT_CREATED.getMessageDefinition(entityProxy.getGUID(), methodName,
                                                                                                           this.getClass().getName(),
@@ -304,8 +503,6 @@ class GraphOMRSMetadataStore {
                     methodName, e);
         }
 
-        g.tx().commit();
-
     }
 
 
@@ -347,7 +544,7 @@ class GraphOMRSMetadataStore {
      *         else
      *             error
      */
-    synchronized void saveEntityReferenceCopyToStore(EntityDetail entity)
+    void saveEntityReferenceCopyToStore(EntityDetail entity)
         throws
             InvalidParameterException,
             RepositoryErrorException
@@ -356,9 +553,24 @@ class GraphOMRSMetadataStore {
 
         final String methodName = "saveEntityReferenceCopyToStore";
 
+        if (referenceCopyBatchSize > 1) {
+            saveReferenceCopyInBatch(new PendingReferenceCopy(entity, null));
+        } else {
+            performInTransaction(entity.getGUID(), methodName, g -> saveEntityReferenceCopyToGraph(g, entity, methodName));
+        }
+    }
+
+
+    // Add or update the vertices for an entity reference copy in the current graph transaction.
+    // The caller is responsible for committing or rolling back the transaction.
+    //
+    private void saveEntityReferenceCopyToGraph(GraphTraversalSource g, EntityDetail entity, String methodName)
+        throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
         Vertex vertex;
 
-        GraphTraversalSource g = instanceGraph.traversal();
         Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entity.getGUID());
 
         if (vertexIt.hasNext()) {
@@ -383,7 +595,6 @@ class GraphOMRSMetadataStore {
                  */
 
                 log.error("{} found an existing vertex from a different source, with metadataCollectionId {}", methodName, vertexMetadataCollectionId);
-                g.tx().rollback();
 
                 throw new InvalidParameterException(GraphOMRSErrorCode.ENTITY_ALREADY_EXISTS.getMessageDefinition(entity.getGUID(), methodName,
                                                                                                                   this.getClass().getName(),
@@ -423,7 +634,6 @@ class GraphOMRSMetadataStore {
 
         } catch (Exception e) {
             log.error("{} Caught exception from entity mapper {}", methodName, e.getMessage());
-            g.tx().rollback();
 
             throw new RepositoryErrorException(GraphOMRSErrorCode.ENTITY_NOT_CREATED.getMessageDefinition(entity.getGUID(), methodName,
                                                                                                           this.getClass().getName(),
@@ -431,14 +641,11 @@ class GraphOMRSMetadataStore {
                     this.getClass().getName(),
                     methodName, e);
         }
-
-
-        g.tx().commit();
     }
 
 
 
-    synchronized EntityDetail getEntityDetailFromStore(String guid)
+    EntityDetail getEntityDetailFromStore(String guid)
             throws
             EntityNotKnownException,
             EntityProxyOnlyException,
@@ -521,7 +728,7 @@ class GraphOMRSMetadataStore {
         return entity;
     }
 
-    synchronized EntitySummary getEntitySummaryFromStore(String guid)
+    EntitySummary getEntitySummaryFromStore(String guid)
             throws
             EntityNotKnownException,
             RepositoryErrorException
@@ -581,7 +788,7 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized EntityProxy getEntityProxyFromStore(String guid)
+    EntityProxy getEntityProxyFromStore(String guid)
             throws
             RepositoryErrorException
     {
@@ -633,23 +840,80 @@ class GraphOMRSMetadataStore {
     // This method needs to locate the vertices so that the edge can be created in the graph.
     // If either of these fails then throw exception
     //
-    synchronized void createRelationshipInStore(Relationship relationship)
+    void createRelationshipInStore(Relationship relationship)
             throws
             RepositoryErrorException,
             InvalidParameterException
 
     {
-        String methodName = "createRelationshipInStore";
+        final String methodName = "createRelationshipInStore";
 
-        // Begin a graph transaction. Locate the vertices for the ends, and create an edge between them.
+        // In a graph transaction, locate the vertices for the ends, and create an edge between them.
+
+        performInTransaction(relationship.getGUID(), methodName, g -> addRelationshipToGraph(g, relationship, methodName));
+
+    }
 
-        GraphTraversalSource g = instanceGraph.traversal();
 
+    // Create a batch of relationships in a single graph transaction. The returned list has an entry for each
+    // relationship - null if it was created or the exception that stopped it being created. A clash with an
+    // existing relationship is detected before the graph is changed, so the rest of the batch can continue. Any
+    // other failure rolls back the transaction and the batch is created one relationship at a time so that the
+    // failure is confined to the relationship that caused it.
+    //
+    List<OMRSCheckedExceptionBase> createRelationshipsInStore(List<Relationship> relationships)
+    {
+        final String methodName = "createRelationshipsInStore";
+
+        GraphTraversalSource           g      = instanceGraph.traversal();
+        List<OMRSCheckedExceptionBase> errors = new ArrayList<>(relationships.size());
+
+        try {
+            for (Relationship relationship : relationships) {
+                try {
+                    addRelationshipToGraph(g, relationship, methodName);
+                    errors.add(null);
+                }
+                catch (InvalidParameterException e) {
+                    errors.add(e);
+                }
+            }
+
+            log.debug("{} Commit tx containing creation of {} edges", methodName, relationships.size());
+            g.tx().commit();
+        }
+        catch (Exception e) {
+            log.error("{} batch of {} relationships rolled back: {}", methodName, relationships.size(), e.getMessage());
+            g.tx().rollback();
+
+            errors.clear();
+            for (Relationship relationship : relationships) {
+                try {
+                    createRelationshipInStore(relationship);
+                    errors.add(null);
+                }
+                catch (InvalidParameterException | RepositoryErrorException error) {
+                    errors.add(error);
+                }
+            }
+        }
+
+        return errors;
+    }
+
+
+    // Add the edge for a relationship to the current graph transaction.
+    // The caller is responsible for committing or rolling back the transaction.
+    //
+    private void addRelationshipToGraph(GraphTraversalSource g, Relationship relationship, String methodName)
+            throws
+            RepositoryErrorException,
+            InvalidParameterException
+    {
         Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, relationship.getGUID());
         if (edgeIt.hasNext()) {
             Edge edge = edgeIt.next();
             log.error("{} found existing edge {}", methodName, edge);
-            g.tx().rollback();
 
             throw new InvalidParameterException(GraphOMRSErrorCode.RELATIONSHIP_ALREADY_EXISTS.getMessageDefinition(relationship.getGUID(),
                                                                                                                     methodName,
@@ -681,7 +945,6 @@ class GraphOMRSMetadataStore {
         // If either end vertex does not exist then abandon the attempt - there should be at least a proxy if not a full entity in the store for each end
         if (vertexOne == null || vertexTwo == null) {
             log.error("{} Could not find both ends for relationship {}", methodName, relationship.getGUID());
-            g.tx().rollback();
 
             throw new RepositoryErrorException(GraphOMRSErrorCode.RELATIONSHIP_NOT_CREATED.getMessageDefinition(relationship.getGUID(), methodName,
                                                                                                                 this.getClass().getName(),
@@ -698,7 +961,6 @@ class GraphOMRSMetadataStore {
 
         } catch (Exception e) {
             log.error("{} Caught exception from relationship mapper {}", methodName, e.getMessage());
-            g.tx().rollback();
 
 
             throw new RepositoryErrorException(GraphOMRSErrorCode.RELATIONSHIP_NOT_CREATED.getMessageDefinition(relationship.getGUID(), methodName,
@@ -708,9 +970,6 @@ class GraphOMRSMetadataStore {
                     methodName, e);
         }
 
-        log.debug("{} Commit tx containing creation of edge", methodName);
-        g.tx().commit();
-
     }
 
 
@@ -762,7 +1021,7 @@ class GraphOMRSMetadataStore {
      *       - else metadataCollectionId is not local and values match
      *             update existing edge by mapping relationship
      */
-    synchronized void saveRelationshipReferenceCopyToStore(Relationship relationship)
+    void saveRelationshipReferenceCopyToStore(Relationship relationship)
             throws
             InvalidParameterException,
             RepositoryErrorException
@@ -771,8 +1030,22 @@ class GraphOMRSMetadataStore {
 
         final String methodName = "saveRelationshipReferenceCopyToStore";
 
-        GraphTraversalSource g = instanceGraph.traversal();
+        if (referenceCopyBatchSize > 1) {
+            saveReferenceCopyInBatch(new PendingReferenceCopy(null, relationship));
+        } else {
+            performInTransaction(relationship.getGUID(), methodName, g -> saveRelationshipReferenceCopyToGraph(g, relationship, methodName));
+        }
+    }
+
 
+    // Add or update the edge for a relationship reference copy in the current graph transaction, adding proxies for
+    // any end entities that are not in the graph. The caller is responsible for committing or rolling back the transaction.
+    //
+    private void saveRelationshipReferenceCopyToGraph(GraphTraversalSource g, Relationship relationship, String methodName)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
         Vertex vertex;
 
         // Process end 1
@@ -797,7 +1070,7 @@ class GraphOMRSMetadataStore {
         }
         else {
             // Entity does not exist, create proxy
-            createEntityProxyInStore(entityOne);
+            addEntityProxyToGraph(g, entityOne, methodName);
         }
 
         // Process end 2
@@ -820,7 +1093,7 @@ class GraphOMRSMetadataStore {
         }
         else {
             // Entity does not exist, create proxy
-            createEntityProxyInStore(entityTwo);
+            addEntityProxyToGraph(g, entityTwo, methodName);
         }
 
 
@@ -845,7 +1118,6 @@ class GraphOMRSMetadataStore {
 
             // Error!!
             log.error("{} Could not locate or create vertex for entity with guid {} used in relationship {}", methodName, vertexOne==null?entityOne.getGUID():entityTwo.getGUID(),relationship.getGUID());
-            g.tx().rollback();
 
             throw new RepositoryErrorException(GraphOMRSErrorCode.RELATIONSHIP_NOT_CREATED.getMessageDefinition(relationship.getGUID(), methodName,
                                                                                                                 this.getClass().getName(),
@@ -883,7 +1155,6 @@ class GraphOMRSMetadataStore {
                  */
 
                 log.error("{} found an existing edge from a different source, with metadataCollectionId {}", methodName, edgeMetadataCollectionId);
-                g.tx().rollback();
 
                 final String parameterName = "relationship";
 
@@ -912,7 +1183,6 @@ class GraphOMRSMetadataStore {
         }
         catch (Exception e) {
             log.error("{} Caught exception from relationship mapper {}", methodName, e.getMessage());
-            g.tx().rollback();
 
             throw new RepositoryErrorException(GraphOMRSErrorCode.RELATIONSHIP_NOT_CREATED.getMessageDefinition(relationship.getGUID(),
                                                                                                                 methodName,
@@ -922,14 +1192,153 @@ class GraphOMRSMetadataStore {
                     methodName, e);
         }
 
-        log.debug("{} Commit tx containing creation or update of edge", methodName);
-        g.tx().commit();
     }
 
 
+    // A reference copy save that is waiting to be committed as part of a batch, and its outcome.
+    //
+    private static class PendingReferenceCopy {
+
+        private final EntityDetail             entity;
+        private final Relationship             relationship;
+        private       OMRSCheckedExceptionBase error = null;
+        private       boolean                  done  = false;
+
+        PendingReferenceCopy(EntityDetail entity, Relationship relationship) {
+            this.entity = entity;
+            this.relationship = relationship;
+        }
+
+        String getGUID() {
+            return (entity != null) ? entity.getGUID() : relationship.getGUID();
+        }
+    }
+
+
+    // Save a reference copy as part of a batch (group commit). The request is queued; if no other thread is committing
+    // a batch then this thread commits everything that is queued (up to referenceCopyBatchSize saves) in one graph
+    // transaction. Otherwise it waits - requests that arrive while a batch is being committed are committed together
+    // in the next batch. Either way the caller returns once its own save has been committed (or has failed), so the
+    // outcome is the same as for an unbatched save.
+    //
+    private void saveReferenceCopyInBatch(PendingReferenceCopy request)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        boolean interrupted = false;
+
+        synchronized (pendingReferenceCopies) {
+            pendingReferenceCopies.add(request);
+        }
+
+        while (true) {
+            List<PendingReferenceCopy> batch;
+
+            synchronized (pendingReferenceCopies) {
+                while (!request.done && referenceCopyCommitInProgress) {
+                    try {
+                        pendingReferenceCopies.wait();
+                    } catch (InterruptedException e) {
+                        // The save is already queued so keep waiting for its outcome
+                        interrupted = true;
+                    }
+                }
+
+                if (request.done) {
+                    break;
+                }
+
+                referenceCopyCommitInProgress = true;
 
+                int batchSize = Math.min(referenceCopyBatchSize, pendingReferenceCopies.size());
+                batch = new ArrayList<>(pendingReferenceCopies.subList(0, batchSize));
+                pendingReferenceCopies.subList(0, batchSize).clear();
+            }
 
-    synchronized Relationship getRelationshipFromStore(String guid)
+            try {
+                commitReferenceCopies(batch);
+            } finally {
+                synchronized (pendingReferenceCopies) {
+                    for (PendingReferenceCopy pending : batch) {
+                        pending.done = true;
+                    }
+                    referenceCopyCommitInProgress = false;
+                    pendingReferenceCopies.notifyAll();
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (request.error instanceof InvalidParameterException) {
+            throw (InvalidParameterException) request.error;
+        } else if (request.error instanceof RepositoryErrorException) {
+            throw (RepositoryErrorException) request.error;
+        }
+    }
+
+
+    // Commit a batch of reference copy saves in a single graph transaction. As for createEntitiesInStore, a save that
+    // is rejected before it changes the graph does not stop the rest of the batch. Any other failure rolls back the
+    // transaction and the saves are committed one at a time so that the failure is confined to the save that caused it.
+    //
+    private void commitReferenceCopies(List<PendingReferenceCopy> batch)
+    {
+        final String methodName = "commitReferenceCopies";
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        try {
+            for (PendingReferenceCopy pending : batch) {
+                try {
+                    saveReferenceCopyToGraph(g, pending);
+                }
+                catch (InvalidParameterException e) {
+                    pending.error = e;
+                }
+            }
+
+            log.debug("{} Commit tx containing {} reference copies", methodName, batch.size());
+            g.tx().commit();
+        }
+        catch (Exception e) {
+            log.error("{} batch of {} reference copies rolled back: {}", methodName, batch.size(), e.getMessage());
+            if (g.tx().isOpen()) {
+                g.tx().rollback();
+            }
+
+            for (PendingReferenceCopy pending : batch) {
+                try {
+                    pending.error = null;
+                    performInTransaction(pending.getGUID(), methodName, graph -> saveReferenceCopyToGraph(graph, pending));
+                }
+                catch (InvalidParameterException | RepositoryErrorException error) {
+                    pending.error = error;
+                }
+            }
+        }
+    }
+
+
+    private void saveReferenceCopyToGraph(GraphTraversalSource g, PendingReferenceCopy pending)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        if (pending.entity != null) {
+            saveEntityReferenceCopyToGraph(g, pending.entity, "saveEntityReferenceCopyToStore");
+        } else {
+            saveRelationshipReferenceCopyToGraph(g, pending.relationship, "saveRelationshipReferenceCopyToStore");
+        }
+    }
+
+
+
+
+    Relationship getRelationshipFromStore(String guid)
             throws RepositoryErrorException
     {
         String methodName = "getRelationshipFromStore";
@@ -994,7 +1403,7 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized void updateEntityInStore(EntityDetail entity)
+    void updateEntityInStore(EntityDetail entity)
             throws
             RepositoryErrorException
     {
@@ -1043,7 +1452,7 @@ class GraphOMRSMetadataStore {
 
     }
 
-    synchronized void updateEntityProxyInStore(EntityProxy entityProxy)
+    void updateEntityProxyInStore(EntityProxy entityProxy)
             throws
             RepositoryErrorException
     {
@@ -1174,7 +1583,7 @@ class GraphOMRSMetadataStore {
 
 
     // updateRelationshipInStore
-    synchronized void updateRelationshipInStore(Relationship relationship)
+    void updateRelationshipInStore(Relationship relationship)
             throws
             RepositoryErrorException
     {
@@ -1213,7 +1622,7 @@ class GraphOMRSMetadataStore {
     //
     // This method will remove the entity vertex and any classifier edges and classification vertices linked off it
 
-    synchronized void removeEntityFromStore(String entityGUID)
+    void removeEntityFromStore(String entityGUID)
     {
         final String methodName = "removeEntityFromStore";
 
@@ -1263,7 +1672,7 @@ class GraphOMRSMetadataStore {
     }
 
     // removeEntityProxyFromStore
-    synchronized void removeEntityProxyFromStore(String entityGUID)
+    void removeEntityProxyFromStore(String entityGUID)
     {
         final String methodName = "removeEntityProxyFromStore";
         // TODO - could capture existing entity and move it to 'history'
@@ -1315,7 +1724,7 @@ class GraphOMRSMetadataStore {
     }
 
     // removeRelationshipFromStore
-    synchronized void removeRelationshipFromStore(String relationshipGUID)
+    void removeRelationshipFromStore(String relationshipGUID)
     {
         final String methodName = "removeRelationshipFromStore";
         // TODO - could capture existing relationship and move it to 'history'
@@ -1335,7 +1744,7 @@ class GraphOMRSMetadataStore {
     }
 
     // getRelationshipsForEntity
-    synchronized List<Relationship> getRelationshipsForEntity(String entityGUID)
+    List<Relationship> getRelationshipsForEntity(String entityGUID)
 
             throws
             TypeErrorException,
@@ -1408,11 +1817,126 @@ class GraphOMRSMetadataStore {
     }
 
 
-    // findEntitiesByProperty
-    List<EntityDetail> findEntitiesByProperty(String             typeDefName,
-                                              InstanceProperties matchProperties,
-                                              MatchCriteria      matchCriteria,
-                                              Boolean            fullMatch)
+    /*
+     * Add the status filter to a find traversal so that the graph only returns elements the caller would retain.
+     * Soft-deleted elements are never returned by the find methods, so DELETED is always excluded. If the caller
+     * specified a list of statuses then the element's status must be one of them.
+     */
+    private <E extends Element> GraphTraversal<E, E> filterByStatus(GraphTraversal<E, E> gt,
+                                                                    String               statusKey,
+                                                                    List<InstanceStatus> limitResultsByStatus)
+    {
+        gt = gt.has(statusKey, without(InstanceStatus.DELETED.getOrdinal()));
+
+        if (limitResultsByStatus != null) {
+            List<Integer> statusOrdinals = new ArrayList<>();
+            for (InstanceStatus iStatus : limitResultsByStatus) {
+                if (iStatus != null) {
+                    statusOrdinals.add(iStatus.getOrdinal());
+                }
+            }
+            gt = gt.has(statusKey, within(statusOrdinals));
+        }
+
+        return gt;
+    }
+
+
+    /*
+     * Add the classification filter to an entity find traversal - an entity with any of the named classifications is accepted.
+     */
+    private GraphTraversal<Vertex, Vertex> filterByClassification(GraphTraversal<Vertex, Vertex> gt,
+                                                                  List<String>                   limitResultsByClassification)
+    {
+        if (limitResultsByClassification != null) {
+            gt = gt.where(out("Classifier").has(PROPERTY_KEY_CLASSIFICATION_CLASSIFICATION_NAME, within(limitResultsByClassification)));
+        }
+        return gt;
+    }
+
+
+    /*
+     * Return the graph property key to use to sequence the results for a type, or null if the graph cannot order by the property.
+     * The graph can only order by a primitive type-defined attribute. If the type does not have the property at all then all of
+     * its instances sort equally (the helper sorts instances without a value for the property first) so no ordering is needed.
+     */
+    private String getSequencingPropertyKey(TypeDef             typeDef,
+                                            Map<String, String> qualifiedPropertyNames,
+                                            String              propertyKeyPrefix,
+                                            String              sequencingProperty,
+                                            String              methodName)
+    {
+        if (typeDef == null || sequencingProperty == null || qualifiedPropertyNames.get(sequencingProperty) == null) {
+            return null;
+        }
+
+        List<TypeDefAttribute> propertiesDef = repositoryHelper.getAllPropertiesForTypeDef(repositoryName, typeDef, methodName);
+        if (propertiesDef != null) {
+            for (TypeDefAttribute propertyDef : propertiesDef) {
+                if (sequencingProperty.equals(propertyDef.getAttributeName())) {
+                    AttributeTypeDef atd = propertyDef.getAttributeType();
+                    if (atd != null && atd.getCategory() == PRIMITIVE) {
+                        return propertyKeyPrefix + qualifiedPropertyNames.get(sequencingProperty);
+                    }
+                    break;
+                }
+            }
+        }
+        return null;
+    }
+
+
+    /*
+     * Limit a find traversal so that it returns no more than maxResults elements, which must be enough to fill the
+     * caller's page. A maxResults of 0 means the caller needs all of the matching elements.
+     *
+     * If there is no sequencing key the first maxResults elements are as good as any others. If there is a sequencing key
+     * the traversal is split in two - the elements with a value for the property, ordered by that value, and the elements
+     * without a value (which the helper sorts first in ascending order and last in descending order). Each half is limited
+     * to maxResults elements, so between them they contain every element that can appear in the caller's page and the
+     * caller's formatting of the results makes the final (exact) selection.
+     */
+    private <E extends Element> List<GraphTraversal<E, E>> limitResults(GraphTraversal<E, E> gt,
+                                                                        String               sequencingKey,
+                                                                        SequencingOrder      sequencingOrder,
+                                                                        int                  maxResults)
+    {
+        final String methodName = "limitResults";
+
+        List<GraphTraversal<E, E>> traversals = new ArrayList<>();
+
+        if (maxResults <= 0) {
+            traversals.add(gt);
+        }
+        else if (sequencingKey == null) {
+            traversals.add(gt.limit(maxResults));
+        }
+        else {
+            Order order = (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING) ? Order.desc : Order.asc;
+
+            @SuppressWarnings("unchecked")
+            GraphTraversal<E, E> unsetTraversal = (GraphTraversal<E, E>) gt.asAdmin().clone();
+
+            traversals.add(gt.has(sequencingKey).order().by(sequencingKey, order).limit(maxResults));
+            traversals.add(unsetTraversal.hasNot(sequencingKey).limit(maxResults));
+        }
+
+        log.debug("{} traversals look like this --> {} ", methodName, traversals);
+
+        return traversals;
+    }
+
+
+    // findEntitiesByProperty - the status and classification filters, sequencing and page limit are evaluated by the graph
+    List<EntityDetail> findEntitiesByProperty(String               typeDefName,
+                                              InstanceProperties   matchProperties,
+                                              MatchCriteria        matchCriteria,
+                                              Boolean              fullMatch,
+                                              List<InstanceStatus> limitResultsByStatus,
+                                              List<String>         limitResultsByClassification,
+                                              String               sequencingProperty,
+                                              SequencingOrder      sequencingOrder,
+                                              int                  maxResults)
             throws
             RepositoryErrorException,
             InvalidParameterException
@@ -1433,6 +1957,9 @@ class GraphOMRSMetadataStore {
         // Only accept non-proxy entities:
         gt = gt.has(PROPERTY_KEY_ENTITY_IS_PROXY, false);
 
+        gt = filterByStatus(gt, PROPERTY_KEY_ENTITY_STATUS, limitResultsByStatus);
+        gt = filterByClassification(gt, limitResultsByClassification);
+
 
         /*
          *
@@ -1707,21 +2234,25 @@ class GraphOMRSMetadataStore {
         }
 
 
-        while (gt.hasNext()) {
-            Vertex vertex = gt.next();
-            log.debug("{} found vertex {}", methodName, vertex);
+        String sequencingKey = getSequencingPropertyKey(typeDef, qualifiedPropertyNames, PROPERTY_KEY_PREFIX_ENTITY, sequencingProperty, methodName);
 
-            EntityDetail entityDetail = new EntityDetail();
-            try {
-                // Check if we have stumbled on a proxy somehow, and if so avoid processing it.
-                Boolean isProxy = entityMapper.isProxy(vertex);
-                if (!isProxy) {
-                    entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
-                    entities.add(entityDetail);
+        for (GraphTraversal<Vertex, Vertex> limitedTraversal : limitResults(gt, sequencingKey, sequencingOrder, maxResults)) {
+            while (limitedTraversal.hasNext()) {
+                Vertex vertex = limitedTraversal.next();
+                log.debug("{} found vertex {}", methodName, vertex);
+
+                EntityDetail entityDetail = new EntityDetail();
+                try {
+                    // Check if we have stumbled on a proxy somehow, and if so avoid processing it.
+                    Boolean isProxy = entityMapper.isProxy(vertex);
+                    if (!isProxy) {
+                        entityMapper.mapVertexToEntityDetail(vertex, entityDetail);
+                        entities.add(entityDetail);
+                    }
+                } catch (Exception e) {
+                    log.error("{} caught exception from entity mapper, entity being ignored, {}", methodName, e.getMessage());
+                    continue;
                 }
-            } catch (Exception e) {
-                log.error("{} caught exception from entity mapper, entity being ignored, {}", methodName, e.getMessage());
-                continue;
             }
         }
 
@@ -1902,11 +2433,15 @@ class GraphOMRSMetadataStore {
 
 
 
-    // findRelationshipsByProperty
-    List<Relationship> findRelationshipsByProperty(String             typeDefName,
-                                                   InstanceProperties matchProperties,
-                                                   MatchCriteria      matchCriteria,
-                                                   Boolean            fullMatch)
+    // findRelationshipsByProperty - the status filter, sequencing and page limit are evaluated by the graph
+    List<Relationship> findRelationshipsByProperty(String               typeDefName,
+                                                   InstanceProperties   matchProperties,
+                                                   MatchCriteria        matchCriteria,
+                                                   Boolean              fullMatch,
+                                                   List<InstanceStatus> limitResultsByStatus,
+                                                   String               sequencingProperty,
+                                                   SequencingOrder      sequencingOrder,
+                                                   int                  maxResults)
             throws
             RepositoryErrorException,
             InvalidParameterException
@@ -1924,6 +2459,8 @@ class GraphOMRSMetadataStore {
             gt = gt.has(PROPERTY_KEY_RELATIONSHIP_TYPE_NAME, typeDefName);
         }
 
+        gt = filterByStatus(gt, PROPERTY_KEY_RELATIONSHIP_STATUS, limitResultsByStatus);
+
         /*
          *
          * There are two origins of properties stored on an instance vertex in the graph -
@@ -2197,45 +2734,49 @@ class GraphOMRSMetadataStore {
         }
 
 
-        while (gt.hasNext()) {
-            Edge edge = gt.next();
-            log.debug("{} found edge {}", methodName, edge);
-            Relationship relationship = new Relationship();
-            relationshipMapper.mapEdgeToRelationship(edge, relationship);
+        String sequencingKey = getSequencingPropertyKey(typeDef, qualifiedPropertyNames, PROPERTY_KEY_PREFIX_RELATIONSHIP, sequencingProperty, methodName);
 
-            // Set the relationship ends...
-            try {
-                Vertex vertexOne = edge.outVertex();
-                Vertex vertexTwo = edge.inVertex();
+        for (GraphTraversal<Edge, Edge> limitedTraversal : limitResults(gt, sequencingKey, sequencingOrder, maxResults)) {
+            while (limitedTraversal.hasNext()) {
+                Edge edge = limitedTraversal.next();
+                log.debug("{} found edge {}", methodName, edge);
+                Relationship relationship = new Relationship();
+                relationshipMapper.mapEdgeToRelationship(edge, relationship);
 
-                // Doesn't matter whether vertices represent proxy entities or full entities - retrieve the entities as proxies
-                if (vertexOne != null) {
-                    log.debug("{} entity vertex {}", methodName, vertexOne);
-                    EntityProxy entityOneProxy = new EntityProxy();
-                    entityMapper.mapVertexToEntityProxy(vertexOne, entityOneProxy);
-                    log.debug("{} entityOneProxy {}", methodName, entityOneProxy);
-                    relationship.setEntityOneProxy(entityOneProxy);
-                }
-                if (vertexTwo != null) {
-                    log.debug("{} entity vertex {}", methodName, vertexTwo);
-                    EntityProxy entityTwoProxy = new EntityProxy();
-                    entityMapper.mapVertexToEntityProxy(vertexTwo, entityTwoProxy);
-                    log.debug("{} entityTwoProxy {}", methodName, entityTwoProxy);
-                    relationship.setEntityTwoProxy(entityTwoProxy);
-                }
+                // Set the relationship ends...
+                try {
+                    Vertex vertexOne = edge.outVertex();
+                    Vertex vertexTwo = edge.inVertex();
 
-            } catch (Exception e) {
-                log.error("{} Caught exception from entity mapper {}", methodName, e.getMessage());
-                g.tx().rollback();
+                    // Doesn't matter whether vertices represent proxy entities or full entities - retrieve the entities as proxies
+                    if (vertexOne != null) {
+                        log.debug("{} entity vertex {}", methodName, vertexOne);
+                        EntityProxy entityOneProxy = new EntityProxy();
+                        entityMapper.mapVertexToEntityProxy(vertexOne, entityOneProxy);
+                        log.debug("{} entityOneProxy {}", methodName, entityOneProxy);
+                        relationship.setEntityOneProxy(entityOneProxy);
+                    }
+                    if (vertexTwo != null) {
+                        log.debug("{} entity vertex {}", methodName, vertexTwo);
+                        EntityProxy entityTwoProxy = new EntityProxy();
+                        entityMapper.mapVertexToEntityProxy(vertexTwo, entityTwoProxy);
+                        log.debug("{} entityTwoProxy {}", methodName, entityTwoProxy);
+                        relationship.setEntityTwoProxy(entityTwoProxy);
+                    }
 
-                throw new RepositoryErrorException(GraphOMRSErrorCode.RELATIONSHIP_PROPERTIES_ERROR.getMessageDefinition(relationship.getGUID(), methodName,
-                                                                                                                         this.getClass().getName(),
-                                                                                                                         repositoryName),
-                        this.getClass().getName(),
-                        methodName, e);
-            }
+                } catch (Exception e) {
+                    log.error("{} Caught exception from entity mapper {}", methodName, e.getMessage());
+                    g.tx().rollback();
+
+                    throw new RepositoryErrorException(GraphOMRSErrorCode.RELATIONSHIP_PROPERTIES_ERROR.getMessageDefinition(relationship.getGUID(), methodName,
+                                                                                                                             this.getClass().getName(),
+                                                                                                                             repositoryName),
+                            this.getClass().getName(),
+                            methodName, e);
+                }
 
-            relationships.add(relationship);
+                relationships.add(relationship);
+            }
         }
 
         g.tx().commit();
@@ -2507,11 +3048,16 @@ class GraphOMRSMetadataStore {
     }
 
 
-    // findEntitiesByClassification
-    public List<EntityDetail> findEntitiesByClassification(String             classificationName,
-                                                           InstanceProperties classificationProperties,
-                                                           MatchCriteria      matchCriteria,
-                                                           String             entityTypeName)
+    // findEntitiesByClassification - the status and classification filters, sequencing and page limit are evaluated by the graph
+    public List<EntityDetail> findEntitiesByClassification(String               classificationName,
+                                                           InstanceProperties   classificationProperties,
+                                                           MatchCriteria        matchCriteria,
+                                                           String               entityTypeName,
+                                                           List<InstanceStatus> limitResultsByStatus,
+                                                           List<String>         limitResultsByClassification,
+                                                           String               sequencingProperty,
+                                                           SequencingOrder      sequencingOrder,
+                                                           int                  maxResults)
             throws
             InvalidParameterException,
             RepositoryErrorException
@@ -2627,24 +3173,32 @@ class GraphOMRSMetadataStore {
 
 
         // Cannot return EntityProxy objects, so ensure that only traverse to a non-proxy entity vertex...
-        gt.in("Classifier").has(PROPERTY_KEY_ENTITY_IS_PROXY, false).has(PROPERTY_KEY_ENTITY_TYPE_NAME, entityTypeName);
+        gt = gt.in("Classifier").has(PROPERTY_KEY_ENTITY_IS_PROXY, false).has(PROPERTY_KEY_ENTITY_TYPE_NAME, entityTypeName);
 
+        gt = filterByStatus(gt, PROPERTY_KEY_ENTITY_STATUS, limitResultsByStatus);
+        gt = filterByClassification(gt, limitResultsByClassification);
 
-        while (gt.hasNext()) {
-            Vertex entityVertex = gt.next();
-            log.debug("{} found entity vertex {}", methodName, entityVertex);
+        TypeDef entityTypeDef = repositoryHelper.getTypeDefByName(repositoryName, entityTypeName);
+        Map<String, String> qualifiedEntityPropertyNames = mapperUtils.getQualifiedPropertyNamesForTypeDef(entityTypeDef, repositoryName, repositoryHelper);
+        String sequencingKey = getSequencingPropertyKey(entityTypeDef, qualifiedEntityPropertyNames, PROPERTY_KEY_PREFIX_ENTITY, sequencingProperty, methodName);
 
-            EntityDetail entityDetail = new EntityDetail();
-            try {
-                // Check if we have stumbled on a proxy somehow, and if so avoid processing it.
-                Boolean isProxy = entityMapper.isProxy(entityVertex);
-                if (!isProxy) {
-                    entityMapper.mapVertexToEntityDetail(entityVertex, entityDetail);
-                    entities.add(entityDetail);
+        for (GraphTraversal<Vertex, Vertex> limitedTraversal : limitResults(gt, sequencingKey, sequencingOrder, maxResults)) {
+            while (limitedTraversal.hasNext()) {
+                Vertex entityVertex = limitedTraversal.next();
+                log.debug("{} found entity vertex {}", methodName, entityVertex);
+
+                EntityDetail entityDetail = new EntityDetail();
+                try {
+                    // Check if we have stumbled on a proxy somehow, and if so avoid processing it.
+                    Boolean isProxy = entityMapper.isProxy(entityVertex);
+                    if (!isProxy) {
+                        entityMapper.mapVertexToEntityDetail(entityVertex, entityDetail);
+                        entities.add(entityDetail);
+                    }
+                } catch (Exception e) {
+                    log.error("{} caught exception from entity mapper - entity will be ignored, {}", methodName, e.getMessage());
+                    continue; // process the next vertex
                 }
-            } catch (Exception e) {
-                log.error("{} caught exception from entity mapper - entity will be ignored, {}", methodName, e.getMessage());
-                continue; // process the next vertex
             }
         }
 
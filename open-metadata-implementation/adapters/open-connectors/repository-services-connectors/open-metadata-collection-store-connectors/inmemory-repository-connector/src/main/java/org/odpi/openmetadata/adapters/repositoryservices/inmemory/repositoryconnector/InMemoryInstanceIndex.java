@@ -0,0 +1,181 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * InMemoryInstanceIndex maps a key (such as a type GUID, classification name or property value) to the GUIDs
+ * of the instances in the InMemoryOMRSMetadataStore that carry that key.  It also remembers the keys each
+ * instance was indexed under so that the entries can be removed without needing the original instance.
+ * Lookups do not lock.  Updates for a single instance must be serialized by the caller; updates to different
+ * instances may run concurrently.
+ */
+class InMemoryInstanceIndex
+{
+    private final Map<String, Set<String>>  keyToGUIDs = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>>  guidToKeys = new ConcurrentHashMap<>();
+
+
+    /**
+     * Default constructor
+     */
+    InMemoryInstanceIndex()
+    {
+    }
+
+
+    /**
+     * Index an instance under the supplied keys.  Any keys previously associated with the instance that are not
+     * in the new set are removed.  The new entries are added before the old ones are removed so that a concurrent
+     * lookup does not miss an instance that carries the key in both versions.
+     *
+     * @param guid - unique identifier of the instance
+     * @param keys - keys to index the instance under (null means none)
+     */
+    void addInstance(String       guid,
+                     Set<String>  keys)
+    {
+        if (guid == null)
+        {
+            return;
+        }
+
+        if ((keys == null) || (keys.isEmpty()))
+        {
+            removeInstance(guid);
+            return;
+        }
+
+        Set<String> newKeys = new HashSet<>(keys);
+
+        for (String key : newKeys)
+        {
+            keyToGUIDs.compute(key, (k, guids) ->
+            {
+                Set<String> updatedGUIDs = (guids == null) ? ConcurrentHashMap.newKeySet() : guids;
+
+                updatedGUIDs.add(guid);
+                return updatedGUIDs;
+            });
+        }
+
+        Set<String> oldKeys = guidToKeys.put(guid, newKeys);
+
+        if (oldKeys != null)
+        {
+            for (String key : oldKeys)
+            {
+                if (! newKeys.contains(key))
+                {
+                    removeGUIDFromKey(key, guid);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Remove all of the entries for an instance.
+     *
+     * @param guid - unique identifier of the instance
+     */
+    void removeInstance(String   guid)
+    {
+        if (guid == null)
+        {
+            return;
+        }
+
+        Set<String> keys = guidToKeys.remove(guid);
+
+        if (keys != null)
+        {
+            for (String key : keys)
+            {
+                removeGUIDFromKey(key, guid);
+            }
+        }
+    }
+
+
+    /**
+     * Return the GUIDs of the instances indexed under any of the supplied keys.
+     *
+     * @param keys - keys to look up
+     * @return set of instance GUIDs (empty if none match)
+     */
+    Set<String> getGUIDs(Collection<String>   keys)
+    {
+        Set<String>  results = new HashSet<>();
+
+        if (keys != null)
+        {
+            for (String key : keys)
+            {
+                if (key != null)
+                {
+                    Set<String> guids = keyToGUIDs.get(key);
+
+                    if (guids != null)
+                    {
+                        results.addAll(guids);
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return one instance for each key in the index.  This is used to test whether all of the
+     * instances for a key (for example, a type GUID) are of interest to a query.  The GUIDs for a key are
+     * tried in turn until the lookup returns an instance, so a sample that has been removed from the store
+     * since it was indexed is replaced by the next live instance with that key.
+     *
+     * @param instanceLookup - function returning the stored instance for a GUID (or null if it has been removed)
+     * @param <T> - type of instance
+     * @return map of key to a sample instance
+     */
+    <T> Map<String, T> getSamples(Function<String, T>   instanceLookup)
+    {
+        Map<String, T>  results = new HashMap<>();
+
+        for (Map.Entry<String, Set<String>> entry : keyToGUIDs.entrySet())
+        {
+            for (String guid : entry.getValue())
+            {
+                T instance = instanceLookup.apply(guid);
+
+                if (instance != null)
+                {
+                    results.put(entry.getKey(), instance);
+                    break;
+                }
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Remove an instance from the entry for a key, dropping the entry if it becomes empty.
+     *
+     * @param key - index key
+     * @param guid - unique identifier of the instance
+     */
+    private void removeGUIDFromKey(String   key,
+                                   String   guid)
+    {
+        keyToGUIDs.computeIfPresent(key, (k, guids) ->
+        {
+            guids.remove(guid);
+            return guids.isEmpty() ? null : guids;
+        });
+    }
+}
@@ -212,7 +212,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          */
-        EntityDetail  entity = repositoryStore.timeWarpEntityStore(asOfTime).get(guid);
+        EntityDetail  entity = repositoryStore.getEntity(guid, asOfTime);
         if (entity == null)
         {
             EntityProxy  entityProxy = repositoryStore.getEntityProxy(guid);
@@ -300,9 +300,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
 
         List<Relationship> entityRelationships = new ArrayList<>();
 
-        Map<String, Relationship>   relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
-
-        for (Relationship  storedRelationship : relationshipStore.values())
+        for (Relationship  storedRelationship : this.getCandidateRelationshipsForEntity(entityGUID, asOfTime))
         {
             if (storedRelationship != null)
             {
@@ -410,13 +408,17 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The secondary indexes in the repository store narrow the entities to test when the request is for
+         * the current values.  Every candidate is still fully validated against the request.
          */
         List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        List<EntityDetail>         candidateEntities = this.getCandidateEntities(entityTypeGUID,
+                                                                                 null,
+                                                                                 limitResultsByClassification,
+                                                                                 null,
+                                                                                 asOfTime);
 
-        for (EntityDetail  entity : entityStore.values())
+        for (EntityDetail  entity : candidateEntities)
         {
             if (entity != null)
             {
@@ -478,13 +480,17 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The secondary indexes in the repository store narrow the entities to test when the request is for
+         * the current values.  Every candidate is still fully validated against the request.
          */
         List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        List<EntityDetail>         candidateEntities = this.getCandidateEntities(entityTypeGUID,
+                                                                                 entitySubtypeGUIDs,
+                                                                                 null,
+                                                                                 null,
+                                                                                 asOfTime);
 
-        for (EntityDetail  entity : entityStore.values())
+        for (EntityDetail  entity : candidateEntities)
         {
             if (entity != null)
             {
@@ -580,16 +586,15 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The secondary indexes in the repository store narrow the entities to test when the request is for
+         * the current values.  Every candidate is still fully validated against the request.
          */
-        Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
         List<EntityDetail>          foundEntities = new ArrayList<>();
 
         List<String>                classificationList = new ArrayList<>();
         classificationList.add(classificationName);
 
-        for (EntityDetail  entity : entityStore.values())
+        for (EntityDetail  entity : this.getCandidateEntities(entityTypeGUID, null, classificationList, null, asOfTime))
         {
             if (entity != null)
             {
@@ -705,12 +710,18 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Process operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The secondary indexes in the repository store narrow the entities to test when the request is for
+         * the current values.  Every candidate is still fully validated against the request.
          */
         List<EntityDetail>   foundEntities = new ArrayList<>();
 
-        for (EntityDetail  entity : repositoryStore.timeWarpEntityStore(asOfTime).values())
+        List<EntityDetail>   candidateEntities = this.getCandidateEntities(entityTypeGUID,
+                                                                           null,
+                                                                           limitResultsByClassification,
+                                                                           searchCriteria,
+                                                                           asOfTime);
+
+        for (EntityDetail  entity : candidateEntities)
         {
             if (entity != null)
             {
@@ -832,7 +843,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          */
-        Relationship  relationship = repositoryStore.timeWarpRelationshipStore(asOfTime).get(guid);
+        Relationship  relationship = repositoryStore.getRelationship(guid, asOfTime);
 
         repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
         repositoryValidator.validateRelationshipIsNotDeleted(repositoryName, relationship, methodName);
@@ -883,13 +894,16 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored entities.
+         * The secondary indexes in the repository store narrow the relationships to test when the request is for
+         * the current values.  Every candidate is still fully validated against the request.
          */
         List<Relationship>         foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        List<Relationship>         candidateRelationships = this.getCandidateRelationships(relationshipTypeGUID,
+                                                                                           relationshipSubtypeGUIDs,
+                                                                                           null,
+                                                                                           asOfTime);
 
-        for (Relationship  relationship : relationshipStore.values())
+        for (Relationship  relationship : candidateRelationships)
         {
             if (relationship != null)
             {
@@ -988,13 +1002,16 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored entities.
+         * The secondary indexes in the repository store narrow the relationships to test when the request is for
+         * the current values.  Every candidate is still fully validated against the request.
          */
         List<Relationship>         foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        List<Relationship>         candidateRelationships = this.getCandidateRelationships(relationshipTypeGUID,
+                                                                                           null,
+                                                                                           null,
+                                                                                           asOfTime);
 
-        for (Relationship  relationship : relationshipStore.values())
+        for (Relationship  relationship : candidateRelationships)
         {
             if (relationship != null)
             {
@@ -1087,12 +1104,17 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored relationships.
+         * The secondary indexes in the repository store narrow the relationships to test when the request is for
+         * the current values.  Every candidate is still fully validated against the request.
          */
         List<Relationship>  foundRelationships = new ArrayList<>();
 
-        for (Relationship  relationship : repositoryStore.timeWarpRelationshipStore(asOfTime).values())
+        List<Relationship>  candidateRelationships = this.getCandidateRelationships(relationshipTypeGUID,
+                                                                                    null,
+                                                                                    searchCriteria,
+                                                                                    asOfTime);
+
+        for (Relationship  relationship : candidateRelationships)
         {
             if (relationship != null)
             {
@@ -1226,6 +1248,160 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return the entities that could match a search.  Historical (asOfTime) requests are not indexed so they
+     * receive every entity in the time-warped store.  Otherwise, the entities are narrowed using the repository
+     * store's indexes.  The result is a superset of the matching entities so the caller must still validate each one.
+     *
+     * @param entityTypeGUID unique identifier of the requested type (null means any type)
+     * @param entitySubtypeGUIDs optional list of subtypes to restrict the results to (null means any subtype)
+     * @param classificationNames the entity must have at least one of these classifications (null means no restriction)
+     * @param searchCriteria regular expression that at least one string property must match (null means no restriction)
+     * @param asOfTime time of the request (null means now)
+     * @return list of candidate entities
+     */
+    private List<EntityDetail> getCandidateEntities(String        entityTypeGUID,
+                                                    List<String>  entitySubtypeGUIDs,
+                                                    List<String>  classificationNames,
+                                                    String        searchCriteria,
+                                                    Date          asOfTime)
+    {
+        if (asOfTime != null)
+        {
+            return new ArrayList<>(repositoryStore.timeWarpEntityStore(asOfTime).values());
+        }
+
+        Set<String> candidateGUIDs = null;
+
+        if ((entityTypeGUID != null) || (entitySubtypeGUIDs != null))
+        {
+            List<String> matchingTypeGUIDs = new ArrayList<>();
+
+            for (Map.Entry<String, EntityDetail> sample : repositoryStore.getEntityTypeSamples().entrySet())
+            {
+                if (repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entitySubtypeGUIDs, sample.getValue()))
+                {
+                    matchingTypeGUIDs.add(sample.getKey());
+                }
+            }
+
+            candidateGUIDs = narrowCandidates(candidateGUIDs, repositoryStore.getEntityGUIDsByType(matchingTypeGUIDs));
+        }
+
+        if (classificationNames != null)
+        {
+            candidateGUIDs = narrowCandidates(candidateGUIDs, repositoryStore.getEntityGUIDsByClassification(classificationNames));
+        }
+
+        if ((searchCriteria != null) && (repositoryHelper.isExactMatchRegex(searchCriteria, false)))
+        {
+            String propertyValue = repositoryHelper.getUnqualifiedLiteralString(searchCriteria);
+
+            candidateGUIDs = narrowCandidates(candidateGUIDs, repositoryStore.getEntityGUIDsByPropertyValue(propertyValue));
+        }
+
+        if (candidateGUIDs == null)
+        {
+            return repositoryStore.getEntities();
+        }
+
+        return repositoryStore.getEntities(candidateGUIDs);
+    }
+
+
+    /**
+     * Return the relationships that could match a search.  As for entities, historical requests receive every
+     * relationship in the time-warped store and the caller must validate each candidate.
+     *
+     * @param relationshipTypeGUID unique identifier of the requested type (null means any type)
+     * @param relationshipSubtypeGUIDs optional list of subtypes to restrict the results to (null means any subtype)
+     * @param searchCriteria regular expression that at least one string property must match (null means no restriction)
+     * @param asOfTime time of the request (null means now)
+     * @return list of candidate relationships
+     */
+    private List<Relationship> getCandidateRelationships(String        relationshipTypeGUID,
+                                                         List<String>  relationshipSubtypeGUIDs,
+                                                         String        searchCriteria,
+                                                         Date          asOfTime)
+    {
+        if (asOfTime != null)
+        {
+            return new ArrayList<>(repositoryStore.timeWarpRelationshipStore(asOfTime).values());
+        }
+
+        Set<String> candidateGUIDs = null;
+
+        if ((relationshipTypeGUID != null) || (relationshipSubtypeGUIDs != null))
+        {
+            List<String> matchingTypeGUIDs = new ArrayList<>();
+
+            for (Map.Entry<String, Relationship> sample : repositoryStore.getRelationshipTypeSamples().entrySet())
+            {
+                if (repositoryValidator.verifyInstanceType(repositoryName, relationshipTypeGUID, relationshipSubtypeGUIDs, sample.getValue()))
+                {
+                    matchingTypeGUIDs.add(sample.getKey());
+                }
+            }
+
+            candidateGUIDs = narrowCandidates(candidateGUIDs, repositoryStore.getRelationshipGUIDsByType(matchingTypeGUIDs));
+        }
+
+        if ((searchCriteria != null) && (repositoryHelper.isExactMatchRegex(searchCriteria, false)))
+        {
+            String propertyValue = repositoryHelper.getUnqualifiedLiteralString(searchCriteria);
+
+            candidateGUIDs = narrowCandidates(candidateGUIDs, repositoryStore.getRelationshipGUIDsByPropertyValue(propertyValue));
+        }
+
+        if (candidateGUIDs == null)
+        {
+            return repositoryStore.getRelationships();
+        }
+
+        return repositoryStore.getRelationships(candidateGUIDs);
+    }
+
+
+    /**
+     * Return the relationships that could be attached to an entity.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @param asOfTime time of the request (null means now)
+     * @return list of candidate relationships
+     */
+    private List<Relationship> getCandidateRelationshipsForEntity(String   entityGUID,
+                                                                  Date     asOfTime)
+    {
+        if (asOfTime != null)
+        {
+            return new ArrayList<>(repositoryStore.timeWarpRelationshipStore(asOfTime).values());
+        }
+
+        return repositoryStore.getRelationships(repositoryStore.getRelationshipGUIDsForEntity(entityGUID));
+    }
+
+
+    /**
+     * Combine the guids from an index lookup with the candidates found so far.
+     *
+     * @param candidateGUIDs candidates so far (null means no restriction yet)
+     * @param indexedGUIDs guids returned from an index lookup
+     * @return narrowed set of candidates
+     */
+    private Set<String> narrowCandidates(Set<String>  candidateGUIDs,
+                                         Set<String>  indexedGUIDs)
+    {
+        if (candidateGUIDs == null)
+        {
+            return indexedGUIDs;
+        }
+
+        candidateGUIDs.retainAll(indexedGUIDs);
+
+        return candidateGUIDs;
+    }
+
+
     /* ======================================================
      * Group 4: Maintaining entity and relationship instances
      */
@@ -3,25 +3,67 @@
 package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
 
 
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector
+ * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector.  Alongside the
+ * stores for the current instances, it maintains secondary indexes (by type, by classification, by relationship
+ * end and by exact string property value) that are used to narrow the candidate instances for a search.
+ * The indexes only cover the current version of each instance.
+ *
+ * The stores are concurrent maps so reads do not take a lock.  Updates to an instance are serialized by a lock
+ * that is selected from a fixed set of locks using the instance's GUID.  This means updates to different
+ * instances rarely block one another.  Each instance's previous versions are kept in a chain, newest first, that
+ * is replaced (never changed) on update so that historical (asOfTime) queries can walk it without locking.
  */
 class InMemoryOMRSMetadataStore
 {
-    private String                                 repositoryName           = null;
-    private volatile Map<String, EntityDetail>     entityStore              = new HashMap<>();
-    private volatile Map<String, EntityProxy>      entityProxyStore         = new HashMap<>();
-    private volatile List<EntityDetail>            entityHistoryStore       = new ArrayList<>();
-    private volatile Map<String, Relationship>     relationshipStore        = new HashMap<>();
-    private volatile List<Relationship>            relationshipHistoryStore = new ArrayList<>();
+    private static final int  INSTANCE_LOCK_STRIPES = 64;
+
+    private String                                          repositoryName           = null;
+    private final Map<String, EntityDetail>                 entityStore              = new ConcurrentHashMap<>();
+    private final Map<String, EntityProxy>                  entityProxyStore         = new ConcurrentHashMap<>();
+    private final Map<String, InstanceVersion<EntityDetail>> entityHistoryStore      = new ConcurrentHashMap<>();
+    private final Map<String, Relationship>                 relationshipStore        = new ConcurrentHashMap<>();
+    private final Map<String, InstanceVersion<Relationship>> relationshipHistoryStore = new ConcurrentHashMap<>();
+    private final Object[]                                  instanceLocks            = new Object[INSTANCE_LOCK_STRIPES];
+
+    private final InMemoryInstanceIndex                     entityTypeIndex                = new InMemoryInstanceIndex();
+    private final InMemoryInstanceIndex                     entityClassificationIndex      = new InMemoryInstanceIndex();
+    private final InMemoryInstanceIndex                     entityPropertyValueIndex       = new InMemoryInstanceIndex();
+    private final InMemoryInstanceIndex                     relationshipTypeIndex          = new InMemoryInstanceIndex();
+    private final InMemoryInstanceIndex                     relationshipEndIndex           = new InMemoryInstanceIndex();
+    private final InMemoryInstanceIndex                     relationshipPropertyValueIndex = new InMemoryInstanceIndex();
+
+
+    /**
+     * InstanceVersion is a link in the (immutable) chain of previous versions of an instance.
+     *
+     * @param <T> type of instance
+     */
+    private static class InstanceVersion<T>
+    {
+        private final T                   instance;
+        private final InstanceVersion<T>  olderVersion;
+
+
+        /**
+         * Constructor
+         *
+         * @param instance - the stored version of the instance
+         * @param olderVersion - the version that preceded it (or null)
+         */
+        InstanceVersion(T                   instance,
+                        InstanceVersion<T>  olderVersion)
+        {
+            this.instance = instance;
+            this.olderVersion = olderVersion;
+        }
+    }
 
 
     /**
@@ -29,6 +71,10 @@ class InMemoryOMRSMetadataStore
      */
     InMemoryOMRSMetadataStore()
     {
+        for (int i = 0; i < INSTANCE_LOCK_STRIPES; i++)
+        {
+            instanceLocks[i] = new Object();
+        }
     }
 
 
@@ -48,7 +94,7 @@ class InMemoryOMRSMetadataStore
      *
      * @return list of EntityDetail objects
      */
-    synchronized List<EntityDetail>   getEntities()
+    List<EntityDetail>   getEntities()
     {
         return new ArrayList<>(entityStore.values());
     }
@@ -60,19 +106,38 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the entity
      * @return entity object
      */
-    synchronized EntityDetail  getEntity(String   guid)
+    EntityDetail  getEntity(String   guid)
     {
         return entityStore.get(guid);
     }
 
 
+    /**
+     * Return the entity identified by the guid as it was at the time supplied in the asOfTime parameter.
+     *
+     * @param guid - unique identifier for the entity
+     * @param asOfTime - time for the store (or null means now)
+     * @return entity object or null if the entity did not exist at that time
+     */
+    EntityDetail  getEntity(String   guid,
+                            Date     asOfTime)
+    {
+        if (asOfTime == null)
+        {
+            return entityStore.get(guid);
+        }
+
+        return getVersionAsOf(entityStore.get(guid), entityHistoryStore.get(guid), asOfTime);
+    }
+
+
     /**
      * Return the entity proxy identified by the guid.
      *
      * @param guid - unique identifier
      * @return entity proxy object
      */
-    synchronized EntityProxy  getEntityProxy(String   guid)
+    EntityProxy  getEntityProxy(String   guid)
     {
         return entityProxyStore.get(guid);
     }
@@ -80,85 +145,19 @@ class InMemoryOMRSMetadataStore
 
     /**
      * Return an entity store that contains entities as they were at the time supplied in the asOfTime
-     * parameter
+     * parameter.  When asOfTime is null, a read-only view of the current store is returned rather than a copy.
      *
      * @param asOfTime - time for the store (or null means now)
      * @return entity store for the requested time
      */
-    synchronized Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
+    Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
     {
         if (asOfTime == null)
         {
-            return new HashMap<>(entityStore);
+            return Collections.unmodifiableMap(entityStore);
         }
 
-        Map<String, EntityDetail>  timeWarpedEntityStore = new HashMap<>();
-
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (EntityDetail  entity : entityStore.values())
-        {
-            if (entity != null)
-            {
-                if (entity.getUpdateTime() != null)
-                {
-                    String entityGUID = entity.getGUID();
-
-                    if (entityGUID != null)
-                    {
-                        if (! entity.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedEntityStore.put(entityGUID, entity);
-                        }
-                    }
-                }
-                else if (entity.getCreateTime() != null)
-                {
-                    if (! entity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entity.getGUID(), entity);
-                    }
-                }
-            }
-        }
-
-        /*
-         * Now step through the history store picking up the versions of other entities that were active
-         * at the time of the asOfTime.
-         */
-        for (EntityDetail oldEntity : entityHistoryStore)
-        {
-            if (oldEntity != null)
-            {
-                String entityGUID = oldEntity.getGUID();
-
-                if (oldEntity.getUpdateTime() != null)
-                {
-                    if (! oldEntity.getUpdateTime().after(asOfTime))
-                    {
-                        EntityDetail newerEntity = timeWarpedEntityStore.put(entityGUID, oldEntity);
-
-                        if (newerEntity != null)
-                        {
-                            timeWarpedEntityStore.put(entityGUID, newerEntity);
-                        }
-                        break;
-                    }
-                }
-                else if (oldEntity.getCreateTime() != null)
-                {
-                    if (! oldEntity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entityGUID, oldEntity);
-                        break;
-                    }
-                }
-            }
-        }
-
-        return timeWarpedEntityStore;
+        return timeWarpStore(entityStore, entityHistoryStore, asOfTime);
     }
 
 
@@ -167,7 +166,7 @@ class InMemoryOMRSMetadataStore
      *
      * @return list of relationships
      */
-    synchronized List<Relationship>   getRelationships()
+    List<Relationship>   getRelationships()
     {
         return new ArrayList<>(relationshipStore.values());
     }
@@ -179,116 +178,224 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the relationship
      * @return relationship object
      */
-    protected synchronized Relationship  getRelationship(String   guid)
+    protected Relationship  getRelationship(String   guid)
     {
         return relationshipStore.get(guid);
     }
 
+
+    /**
+     * Return the relationship identified by the guid as it was at the time supplied in the asOfTime parameter.
+     *
+     * @param guid - unique identifier for the relationship
+     * @param asOfTime - time for the store (or null means now)
+     * @return relationship object or null if the relationship did not exist at that time
+     */
+    Relationship  getRelationship(String   guid,
+                                  Date     asOfTime)
+    {
+        if (asOfTime == null)
+        {
+            return relationshipStore.get(guid);
+        }
+
+        return getVersionAsOf(relationshipStore.get(guid), relationshipHistoryStore.get(guid), asOfTime);
+    }
+
+
     /**
      * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
-     * parameter
+     * parameter.  When asOfTime is null, a read-only view of the current store is returned rather than a copy.
      *
      * @param asOfTime - time for the store (or null means now)
      * @return relationship store for the requested time
      */
-    synchronized Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
+    Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
     {
         if (asOfTime == null)
         {
-            return new HashMap<>(relationshipStore);
+            return Collections.unmodifiableMap(relationshipStore);
         }
 
-        Map<String, Relationship>  timeWarpedRelationshipStore = new HashMap<>();
+        return timeWarpStore(relationshipStore, relationshipHistoryStore, asOfTime);
+    }
 
 
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (Relationship  relationship : relationshipStore.values())
+    /**
+     * Return the entities identified by the supplied guids.  Guids that are no longer in the store are ignored.
+     *
+     * @param guids - unique identifiers for the entities
+     * @return list of EntityDetail objects
+     */
+    List<EntityDetail>   getEntities(Set<String>   guids)
+    {
+        List<EntityDetail>  entities = new ArrayList<>();
+
+        for (String guid : guids)
         {
-            if (relationship != null)
-            {
-                if (relationship.getUpdateTime() != null)
-                {
-                    String relationshipGUID = relationship.getGUID();
+            EntityDetail entity = entityStore.get(guid);
 
-                    if (relationshipGUID != null)
-                    {
-                        if (! relationship.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, relationship);
-                        }
-                    }
-                }
-                else if (relationship.getCreateTime() != null)
-                {
-                    if (! relationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationship.getGUID(), relationship);
-                    }
-                }
+            if (entity != null)
+            {
+                entities.add(entity);
             }
         }
 
-        /*
-         * Now step through the history store picking up the versions of other relationships that were active
-         * at the time of the asOfTime.
-         */
-        for (Relationship oldRelationship : relationshipHistoryStore)
-        {
-            if (oldRelationship != null)
-            {
-                String relationshipGUID = oldRelationship.getGUID();
+        return entities;
+    }
 
-                if (oldRelationship.getUpdateTime() != null)
-                {
-                    if (! oldRelationship.getUpdateTime().after(asOfTime))
-                    {
-                        Relationship newerRelationship = timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
 
-                        if (newerRelationship != null)
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, newerRelationship);
-                        }
-                        break;
-                    }
-                }
-                else if (oldRelationship.getCreateTime() != null)
-                {
-                    if (! oldRelationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
-                        break;
-                    }
-                }
+    /**
+     * Return one entity for each of the entity types currently in the store.  Since the type checks are made
+     * on the type of an instance, the sample can be used to decide whether all of the entities of that
+     * type are of interest to a query.  If the sample entity for a type is removed while the samples are
+     * collected, the next entity of that type is used instead.
+     *
+     * @return map of type GUID to sample entity
+     */
+    Map<String, EntityDetail>   getEntityTypeSamples()
+    {
+        return entityTypeIndex.getSamples(entityStore::get);
+    }
+
+
+    /**
+     * Return the guids of the entities whose type is one of the supplied type GUIDs.  Subtypes are not
+     * expanded - the caller supplies all of the type GUIDs of interest.
+     *
+     * @param typeDefGUIDs - unique identifiers of the entity types
+     * @return set of entity guids
+     */
+    Set<String>   getEntityGUIDsByType(Collection<String>   typeDefGUIDs)
+    {
+        return entityTypeIndex.getGUIDs(typeDefGUIDs);
+    }
+
+
+    /**
+     * Return the guids of the entities that have at least one of the named classifications.
+     *
+     * @param classificationNames - names of the classifications
+     * @return set of entity guids
+     */
+    Set<String>   getEntityGUIDsByClassification(Collection<String>   classificationNames)
+    {
+        return entityClassificationIndex.getGUIDs(classificationNames);
+    }
+
+
+    /**
+     * Return the guids of the entities that have a string (or enum) property value that exactly matches
+     * the supplied value.  Nested struct, array and map values are included.
+     *
+     * @param propertyValue - exact value to match
+     * @return set of entity guids
+     */
+    Set<String>   getEntityGUIDsByPropertyValue(String   propertyValue)
+    {
+        return entityPropertyValueIndex.getGUIDs(Collections.singletonList(propertyValue));
+    }
+
+
+    /**
+     * Return the relationships identified by the supplied guids.  Guids that are no longer in the store are ignored.
+     *
+     * @param guids - unique identifiers for the relationships
+     * @return list of relationships
+     */
+    List<Relationship>   getRelationships(Set<String>   guids)
+    {
+        List<Relationship>  relationships = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            Relationship relationship = relationshipStore.get(guid);
+
+            if (relationship != null)
+            {
+                relationships.add(relationship);
             }
         }
 
-        return timeWarpedRelationshipStore;
+        return relationships;
     }
 
+
+    /**
+     * Return one relationship for each of the relationship types currently in the store.  If the sample
+     * relationship for a type is removed while the samples are collected, the next relationship of that
+     * type is used instead.
+     *
+     * @return map of type GUID to sample relationship
+     */
+    Map<String, Relationship>   getRelationshipTypeSamples()
+    {
+        return relationshipTypeIndex.getSamples(relationshipStore::get);
+    }
+
+
+    /**
+     * Return the guids of the relationships whose type is one of the supplied type GUIDs.
+     *
+     * @param typeDefGUIDs - unique identifiers of the relationship types
+     * @return set of relationship guids
+     */
+    Set<String>   getRelationshipGUIDsByType(Collection<String>   typeDefGUIDs)
+    {
+        return relationshipTypeIndex.getGUIDs(typeDefGUIDs);
+    }
+
+
+    /**
+     * Return the guids of the relationships that have the identified entity at either end.
+     *
+     * @param entityGUID - unique identifier of the entity
+     * @return set of relationship guids
+     */
+    Set<String>   getRelationshipGUIDsForEntity(String   entityGUID)
+    {
+        return relationshipEndIndex.getGUIDs(Collections.singletonList(entityGUID));
+    }
+
+
+    /**
+     * Return the guids of the relationships that have a string (or enum) property value that exactly matches
+     * the supplied value.
+     *
+     * @param propertyValue - exact value to match
+     * @return set of relationship guids
+     */
+    Set<String>   getRelationshipGUIDsByPropertyValue(String   propertyValue)
+    {
+        return relationshipPropertyValueIndex.getGUIDs(Collections.singletonList(propertyValue));
+    }
+
+
     /**
      * Create a new entity in the entity store.
      *
      * @param entity - new version of the entity
      * @return entity with potentially updated GUID
      */
-    synchronized EntityDetail createEntityInStore(EntityDetail    entity)
+    EntityDetail createEntityInStore(EntityDetail    entity)
     {
         /*
-         * There is a small chance the randomly generated GUID will clash with an existing relationship.
-         * If this happens a new GUID is generated for the relationship and the process repeats.
+         * There is a small chance the randomly generated GUID will clash with an existing entity.
+         * If this happens a new GUID is generated for the entity and the process repeats.
          */
-        EntityDetail existingEntity = entityStore.put(entity.getGUID(), entity);
-
-        while (existingEntity != null)
+        while (true)
         {
+            synchronized (getInstanceLock(entity.getGUID()))
+            {
+                if (entityStore.putIfAbsent(entity.getGUID(), entity) == null)
+                {
+                    indexEntity(entity);
+                    return entity;
+                }
+            }
+
             entity.setGUID(UUID.randomUUID().toString());
-            existingEntity = entityStore.put(entity.getGUID(), entity);
         }
-
-        return entity;
     }
 
 
@@ -298,21 +405,25 @@ class InMemoryOMRSMetadataStore
      * @param relationship - new version of the relationship
      * @return relationship with potentially updated GUID
      */
-    synchronized Relationship createRelationshipInStore(Relationship    relationship)
+    Relationship createRelationshipInStore(Relationship    relationship)
     {
         /*
          * There is a small chance the randomly generated GUID will clash with an existing relationship.
          * If this happens a new GUID is generated for the relationship and the process repeats.
          */
-        Relationship existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
-
-        while (existingRelationship != null)
+        while (true)
         {
+            synchronized (getInstanceLock(relationship.getGUID()))
+            {
+                if (relationshipStore.putIfAbsent(relationship.getGUID(), relationship) == null)
+                {
+                    indexRelationship(relationship);
+                    return relationship;
+                }
+            }
+
             relationship.setGUID(UUID.randomUUID().toString());
-            existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
         }
-
-        return relationship;
     }
 
 
@@ -321,7 +432,7 @@ class InMemoryOMRSMetadataStore
      *
      * @param entityProxy - entity proxy object to add
      */
-    synchronized void addEntityProxyToStore(EntityProxy    entityProxy)
+    void addEntityProxyToStore(EntityProxy    entityProxy)
     {
         entityProxyStore.put(entityProxy.getGUID(), entityProxy);
     }
@@ -329,17 +440,18 @@ class InMemoryOMRSMetadataStore
 
     /**
      * Maintain a history of entities as they are stored into the entity store to ensure old version can be restored.
-     * The history is maintained with the latest changes first in the list.
+     * The history is maintained with the latest changes first.
      *
      * @param entity - new version of the entity
      */
-    synchronized void updateEntityInStore(EntityDetail    entity)
+    void updateEntityInStore(EntityDetail    entity)
     {
-        EntityDetail    oldEntity = entityStore.put(entity.getGUID(), entity);
-
-        if (oldEntity != null)
+        synchronized (getInstanceLock(entity.getGUID()))
         {
-            entityHistoryStore.add(0, oldEntity);
+            EntityDetail    oldEntity = entityStore.put(entity.getGUID(), entity);
+
+            indexEntity(entity);
+            addToHistory(entityHistoryStore, entity.getGUID(), oldEntity);
         }
     }
 
@@ -349,7 +461,7 @@ class InMemoryOMRSMetadataStore
      *
      * @param entityProxy - entity proxy object to add
      */
-    synchronized void updateEntityProxyInStore(EntityProxy    entityProxy)
+    void updateEntityProxyInStore(EntityProxy    entityProxy)
     {
         entityProxyStore.put(entityProxy.getGUID(), entityProxy);
     }
@@ -357,18 +469,18 @@ class InMemoryOMRSMetadataStore
 
     /**
      * Maintain a history of relationships as they are stored into the relationship store to ensure old version
-     * can be restored.  The history is maintained with the latest changes first in the list.
+     * can be restored.  The history is maintained with the latest changes first.
      *
      * @param relationship - new version of the relationship
      */
-    synchronized void updateRelationshipInStore(Relationship    relationship)
+    void updateRelationshipInStore(Relationship    relationship)
     {
-
-        Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
-
-        if (oldRelationship != null)
+        synchronized (getInstanceLock(relationship.getGUID()))
         {
-            relationshipHistoryStore.add(0, oldRelationship);
+            Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
+
+            indexRelationship(relationship);
+            addToHistory(relationshipHistoryStore, relationship.getGUID(), oldRelationship);
         }
     }
 
@@ -379,9 +491,13 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - object to save
      */
-    synchronized void saveReferenceEntityToStore(EntityDetail    entity)
+    void saveReferenceEntityToStore(EntityDetail    entity)
     {
-        entityStore.put(entity.getGUID(), entity);
+        synchronized (getInstanceLock(entity.getGUID()))
+        {
+            entityStore.put(entity.getGUID(), entity);
+            indexEntity(entity);
+        }
     }
 
 
@@ -391,59 +507,60 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - object to save
      */
-    synchronized void saveReferenceRelationshipToStore(Relationship    relationship)
+    void saveReferenceRelationshipToStore(Relationship    relationship)
     {
-        relationshipStore.put(relationship.getGUID(), relationship);
+        synchronized (getInstanceLock(relationship.getGUID()))
+        {
+            relationshipStore.put(relationship.getGUID(), relationship);
+            indexRelationship(relationship);
+        }
     }
 
 
     /**
-     * Retrieve the previous version of a Relationship.  This is the first instance of this element that
-     * appears in the history.
+     * Retrieve the previous version of a Relationship.  This is the most recent version of this element
+     * in the history.
      *
      * @param guid - unique identifier for the required element
      * @return - previous version of this relationship - or null if not found
      */
-    synchronized Relationship retrievePreviousVersionOfRelationship(String   guid)
+    Relationship retrievePreviousVersionOfRelationship(String   guid)
     {
         if (guid != null)
         {
-            Relationship  currentVersionOfRelationship = relationshipStore.get(guid);
-
-            long versionNumber = 0;
-
-            if (currentVersionOfRelationship != null)
+            synchronized (getInstanceLock(guid))
             {
-                versionNumber = currentVersionOfRelationship.getVersion() + 1;
-            }
-
+                Relationship                  currentVersionOfRelationship = relationshipStore.get(guid);
+                InstanceVersion<Relationship> previousVersion              = relationshipHistoryStore.get(guid);
 
-            for (Relationship relationship : relationshipHistoryStore)
-            {
-                if (relationship != null)
+                if ((previousVersion != null) && (previousVersion.instance != null))
                 {
-                    if (guid.equals(relationship.getGUID()))
-                    {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = relationship.getVersion() + 1;
-                        }
-                        /*
-                         * Clone the head (most recent) version in the history, set its version number to the next version
-                         * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
-                         * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
-                         * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
-                         * updated longer ago than was really the case.
-                         */
-                        Relationship newRelationship = new Relationship(relationship);
-                        newRelationship.setVersion(versionNumber);
-                        Date restoreTime = new Date();
-                        newRelationship.setUpdateTime(restoreTime);
-                        relationshipStore.put(guid, newRelationship);
-                        relationshipHistoryStore.add(0, currentVersionOfRelationship);
-                        return newRelationship;
+                    long versionNumber;
 
+                    if (currentVersionOfRelationship != null)
+                    {
+                        versionNumber = currentVersionOfRelationship.getVersion() + 1;
+                    }
+                    else
+                    {
+                        versionNumber = previousVersion.instance.getVersion() + 1;
                     }
+
+                    /*
+                     * Clone the head (most recent) version in the history, set its version number to the next version
+                     * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
+                     * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
+                     * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
+                     * updated longer ago than was really the case.
+                     */
+                    Relationship newRelationship = new Relationship(previousVersion.instance);
+                    newRelationship.setVersion(versionNumber);
+                    Date restoreTime = new Date();
+                    newRelationship.setUpdateTime(restoreTime);
+                    relationshipStore.put(guid, newRelationship);
+                    indexRelationship(newRelationship);
+                    addToHistory(relationshipHistoryStore, guid, currentVersionOfRelationship);
+                    return newRelationship;
                 }
             }
         }
@@ -454,52 +571,49 @@ class InMemoryOMRSMetadataStore
 
     /**
      * Retrieve the previous version of an Entity from the history store and restore it in the entity store.
-     * This is the first instance of this element that appears in the history.
+     * This is the most recent version of this element in the history.
      *
      * @param guid - unique identifier for the required element
      * @return - previous version of this Entity - or null if not found
      */
-    synchronized EntityDetail retrievePreviousVersionOfEntity(String   guid)
+    EntityDetail retrievePreviousVersionOfEntity(String   guid)
     {
         if (guid != null)
         {
-            EntityDetail  currentVersionOfEntity = entityStore.get(guid);
-
-            long versionNumber = 0;
-
-            if (currentVersionOfEntity != null)
+            synchronized (getInstanceLock(guid))
             {
-                versionNumber = currentVersionOfEntity.getVersion() + 1;
-            }
+                EntityDetail                  currentVersionOfEntity = entityStore.get(guid);
+                InstanceVersion<EntityDetail> previousVersion        = entityHistoryStore.get(guid);
 
-            for (EntityDetail entity : entityHistoryStore)
-            {
-                if (entity != null)
+                if ((previousVersion != null) && (previousVersion.instance != null))
                 {
-                    if (guid.equals(entity.getGUID()))
-                    {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = entity.getVersion() + 1;
-                        }
-
-                        /*
-                         * Clone the head (most recent) version in the history, set its version number to the next version
-                         * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
-                         * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
-                         * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
-                         * updated longer ago than was really the case.
-                         *
-                         */
-                        EntityDetail newEntity = new EntityDetail(entity);
-                        newEntity.setVersion(versionNumber);
-                        Date restoreTime = new Date();
-                        newEntity.setUpdateTime(restoreTime);
-                        entityStore.put(guid, newEntity);
-                        entityHistoryStore.add(0, currentVersionOfEntity);
-                        return newEntity;
+                    long versionNumber;
 
+                    if (currentVersionOfEntity != null)
+                    {
+                        versionNumber = currentVersionOfEntity.getVersion() + 1;
                     }
+                    else
+                    {
+                        versionNumber = previousVersion.instance.getVersion() + 1;
+                    }
+
+                    /*
+                     * Clone the head (most recent) version in the history, set its version number to the next version
+                     * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
+                     * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
+                     * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
+                     * updated longer ago than was really the case.
+                     *
+                     */
+                    EntityDetail newEntity = new EntityDetail(previousVersion.instance);
+                    newEntity.setVersion(versionNumber);
+                    Date restoreTime = new Date();
+                    newEntity.setUpdateTime(restoreTime);
+                    entityStore.put(guid, newEntity);
+                    indexEntity(newEntity);
+                    addToHistory(entityHistoryStore, guid, currentVersionOfEntity);
+                    return newEntity;
                 }
             }
         }
@@ -513,10 +627,14 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - entity to remove
      */
-    synchronized void removeEntityFromStore(EntityDetail     entity)
+    void removeEntityFromStore(EntityDetail     entity)
     {
-        entityStore.remove(entity.getGUID());
-        entityHistoryStore.add(0, entity);
+        synchronized (getInstanceLock(entity.getGUID()))
+        {
+            entityStore.remove(entity.getGUID());
+            unindexEntity(entity.getGUID());
+            addToHistory(entityHistoryStore, entity.getGUID(), entity);
+        }
     }
 
 
@@ -525,13 +643,13 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - entity to remove
      */
-    synchronized void removeReferenceEntityFromStore(String     guid)
+    void removeReferenceEntityFromStore(String     guid)
     {
-        EntityDetail entity = entityStore.remove(guid);
-
-        if (entity != null)
+        synchronized (getInstanceLock(guid))
         {
-            entityHistoryStore.add(0, entity);
+            EntityDetail entity = entityStore.remove(guid);
+            unindexEntity(guid);
+            addToHistory(entityHistoryStore, guid, entity);
         }
     }
 
@@ -541,7 +659,7 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - entity proxy to remove
      */
-    synchronized void removeEntityProxyFromStore(String     guid)
+    void removeEntityProxyFromStore(String     guid)
     {
         entityProxyStore.remove(guid);
     }
@@ -552,10 +670,14 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - relationship to remove
      */
-    synchronized void removeRelationshipFromStore(Relationship     relationship)
+    void removeRelationshipFromStore(Relationship     relationship)
     {
-        relationshipStore.remove(relationship.getGUID());
-        relationshipHistoryStore.add(0, relationship);
+        synchronized (getInstanceLock(relationship.getGUID()))
+        {
+            relationshipStore.remove(relationship.getGUID());
+            unindexRelationship(relationship.getGUID());
+            addToHistory(relationshipHistoryStore, relationship.getGUID(), relationship);
+        }
     }
 
 
@@ -564,14 +686,318 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - relationship to remove
      */
-    synchronized void removeReferenceRelationshipFromStore(String     guid)
+    void removeReferenceRelationshipFromStore(String     guid)
+    {
+        synchronized (getInstanceLock(guid))
+        {
+            Relationship  relationship = relationshipStore.remove(guid);
+            unindexRelationship(guid);
+            addToHistory(relationshipHistoryStore, guid, relationship);
+        }
+    }
+
+
+    /**
+     * Return the lock that serializes updates to the instance with the supplied guid.
+     *
+     * @param guid - unique identifier of the instance
+     * @return lock object
+     */
+    private Object getInstanceLock(String   guid)
+    {
+        int hash = (guid == null) ? 0 : guid.hashCode();
+
+        return instanceLocks[(hash & 0x7fffffff) % INSTANCE_LOCK_STRIPES];
+    }
+
+
+    /**
+     * Push a version of an instance onto the front of its history chain.  This is called with the
+     * instance's lock held.
+     *
+     * @param historyStore - history store for the instance's category
+     * @param guid - unique identifier of the instance
+     * @param instance - version to add (nulls are ignored)
+     * @param <T> type of instance
+     */
+    private <T> void addToHistory(Map<String, InstanceVersion<T>> historyStore,
+                                  String                          guid,
+                                  T                               instance)
+    {
+        if ((guid != null) && (instance != null))
+        {
+            historyStore.put(guid, new InstanceVersion<>(instance, historyStore.get(guid)));
+        }
+    }
+
+
+    /**
+     * Return the version of an instance that was active at the requested time.  The current version is
+     * tested first and then the history is walked from the newest to the oldest version.
+     *
+     * @param currentVersion - current version (or null if the instance has been removed)
+     * @param history - chain of previous versions (or null)
+     * @param asOfTime - time of interest
+     * @param <T> type of instance
+     * @return matching version or null if the instance did not exist at that time
+     */
+    private <T extends InstanceAuditHeader> T getVersionAsOf(T                   currentVersion,
+                                                             InstanceVersion<T>  history,
+                                                             Date                asOfTime)
+    {
+        if ((currentVersion != null) && (isActiveAsOf(currentVersion, asOfTime)))
+        {
+            return currentVersion;
+        }
+
+        for (InstanceVersion<T> version = history; version != null; version = version.olderVersion)
+        {
+            if (isActiveAsOf(version.instance, asOfTime))
+            {
+                return version.instance;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Determine whether a version of an instance had been created or updated by the requested time.
+     *
+     * @param instance - version of an instance
+     * @param asOfTime - time of interest
+     * @return boolean flag
+     */
+    private boolean isActiveAsOf(InstanceAuditHeader   instance,
+                                 Date                  asOfTime)
+    {
+        if (instance.getUpdateTime() != null)
+        {
+            return ! instance.getUpdateTime().after(asOfTime);
+        }
+        else if (instance.getCreateTime() != null)
+        {
+            return ! instance.getCreateTime().after(asOfTime);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Build a store containing the versions of the instances that were active at the requested time.
+     *
+     * @param currentStore - store of current versions
+     * @param historyStore - store of previous versions
+     * @param asOfTime - time of interest
+     * @param <T> type of instance
+     * @return map of guid to instance
+     */
+    private <T extends InstanceAuditHeader> Map<String, T> timeWarpStore(Map<String, T>                   currentStore,
+                                                                         Map<String, InstanceVersion<T>>  historyStore,
+                                                                         Date                             asOfTime)
+    {
+        Map<String, T>  timeWarpedStore = new HashMap<>();
+        Set<String>     guids           = new HashSet<>(currentStore.keySet());
+
+        guids.addAll(historyStore.keySet());
+
+        for (String guid : guids)
+        {
+            T version = getVersionAsOf(currentStore.get(guid), historyStore.get(guid), asOfTime);
+
+            if (version != null)
+            {
+                timeWarpedStore.put(guid, version);
+            }
+        }
+
+        return timeWarpedStore;
+    }
+
+    /**
+     * Add (or refresh) the index entries for an entity.  This is called with the instance's lock held.
+     *
+     * @param entity - current version of the entity
+     */
+    private void indexEntity(EntityDetail   entity)
     {
-        Relationship  relationship = relationshipStore.remove(guid);
+        String guid = entity.getGUID();
+
+        Set<String>  typeKeys = new HashSet<>();
+        InstanceType type     = entity.getType();
 
-        if (relationship != null)
+        if ((type != null) && (type.getTypeDefGUID() != null))
         {
-            relationshipHistoryStore.add(0, relationship);
+            typeKeys.add(type.getTypeDefGUID());
         }
+
+        entityTypeIndex.addInstance(guid, typeKeys);
+
+        Set<String>          classificationKeys = new HashSet<>();
+        List<Classification> classifications    = entity.getClassifications();
+
+        if (classifications != null)
+        {
+            for (Classification classification : classifications)
+            {
+                if ((classification != null) && (classification.getName() != null))
+                {
+                    classificationKeys.add(classification.getName());
+                }
+            }
+        }
+
+        entityClassificationIndex.addInstance(guid, classificationKeys);
+
+        Set<String>  valueKeys = new HashSet<>();
+
+        collectStringValues(entity.getProperties(), valueKeys);
+        entityPropertyValueIndex.addInstance(guid, valueKeys);
     }
 
+
+    /**
+     * Remove the index entries for an entity.
+     *
+     * @param guid - unique identifier of the entity
+     */
+    private void unindexEntity(String   guid)
+    {
+        entityTypeIndex.removeInstance(guid);
+        entityClassificationIndex.removeInstance(guid);
+        entityPropertyValueIndex.removeInstance(guid);
+    }
+
+
+    /**
+     * Add (or refresh) the index entries for a relationship.  This is called with the instance's lock held.
+     *
+     * @param relationship - current version of the relationship
+     */
+    private void indexRelationship(Relationship   relationship)
+    {
+        String guid = relationship.getGUID();
+
+        Set<String>  typeKeys = new HashSet<>();
+        InstanceType type     = relationship.getType();
+
+        if ((type != null) && (type.getTypeDefGUID() != null))
+        {
+            typeKeys.add(type.getTypeDefGUID());
+        }
+
+        relationshipTypeIndex.addInstance(guid, typeKeys);
+
+        Set<String>  endKeys = new HashSet<>();
+
+        if ((relationship.getEntityOneProxy() != null) && (relationship.getEntityOneProxy().getGUID() != null))
+        {
+            endKeys.add(relationship.getEntityOneProxy().getGUID());
+        }
+
+        if ((relationship.getEntityTwoProxy() != null) && (relationship.getEntityTwoProxy().getGUID() != null))
+        {
+            endKeys.add(relationship.getEntityTwoProxy().getGUID());
+        }
+
+        relationshipEndIndex.addInstance(guid, endKeys);
+
+        Set<String>  valueKeys = new HashSet<>();
+
+        collectStringValues(relationship.getProperties(), valueKeys);
+        relationshipPropertyValueIndex.addInstance(guid, valueKeys);
+    }
+
+
+    /**
+     * Remove the index entries for a relationship.
+     *
+     * @param guid - unique identifier of the relationship
+     */
+    private void unindexRelationship(String   guid)
+    {
+        relationshipTypeIndex.removeInstance(guid);
+        relationshipEndIndex.removeInstance(guid);
+        relationshipPropertyValueIndex.removeInstance(guid);
+    }
+
+
+    /**
+     * Gather the string and enum values from a set of instance properties.  Struct, array and map values are
+     * processed recursively.  This mirrors the values that are tested when matching search criteria.
+     *
+     * @param properties - properties to process (may be null)
+     * @param values - set to add the values to
+     */
+    private void collectStringValues(InstanceProperties   properties,
+                                     Set<String>          values)
+    {
+        if (properties == null)
+        {
+            return;
+        }
+
+        Iterator<String>  propertyNames = properties.getPropertyNames();
+
+        while (propertyNames.hasNext())
+        {
+            InstancePropertyValue  propertyValue = properties.getPropertyValue(propertyNames.next());
+
+            if ((propertyValue == null) || (propertyValue.getInstancePropertyCategory() == null))
+            {
+                continue;
+            }
+
+            switch (propertyValue.getInstancePropertyCategory())
+            {
+                case PRIMITIVE:
+                    if (propertyValue instanceof PrimitivePropertyValue)
+                    {
+                        PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue)propertyValue;
+
+                        if ((primitivePropertyValue.getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING) &&
+                            (primitivePropertyValue.getPrimitiveValue() instanceof String))
+                        {
+                            values.add((String)primitivePropertyValue.getPrimitiveValue());
+                        }
+                    }
+                    break;
+
+                case ENUM:
+                    if (propertyValue instanceof EnumPropertyValue)
+                    {
+                        String enumValue = ((EnumPropertyValue)propertyValue).getSymbolicName();
+
+                        if (enumValue != null)
+                        {
+                            values.add(enumValue);
+                        }
+                    }
+                    break;
+
+                case STRUCT:
+                    if (propertyValue instanceof StructPropertyValue)
+                    {
+                        collectStringValues(((StructPropertyValue)propertyValue).getAttributes(), values);
+                    }
+                    break;
+
+                case ARRAY:
+                    if (propertyValue instanceof ArrayPropertyValue)
+                    {
+                        collectStringValues(((ArrayPropertyValue)propertyValue).getArrayValues(), values);
+                    }
+                    break;
+
+                case MAP:
+                    if (propertyValue instanceof MapPropertyValue)
+                    {
+                        collectStringValues(((MapPropertyValue)propertyValue).getMapValues(), values);
+                    }
+                    break;
+            }
+        }
+    }
 }
@@ -0,0 +1,205 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.*;
+
+
+/**
+ * Test the version history, indexes and concurrent behaviour of InMemoryOMRSMetadataStore.
+ */
+public class InMemoryOMRSMetadataStoreTest
+{
+    private static final String TYPE_1 = "type-1";
+    private static final String TYPE_2 = "type-2";
+
+    private static final int ENTITY_COUNT      = 1000;
+    private static final int THREAD_COUNT      = 8;
+    private static final int OPERATION_COUNT   = 20000;
+    private static final int READ_PERCENTAGE   = 90;
+
+
+    @Test
+    public void testAsOfTimeWalksHistory()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        EntityDetail version1 = getEntity("1111", TYPE_1, "first", 1, new Date(1000L), null);
+        store.createEntityInStore(version1);
+
+        EntityDetail version2 = getEntity("1111", TYPE_2, "second", 2, new Date(1000L), new Date(2000L));
+        store.updateEntityInStore(version2);
+
+        assertNull(store.getEntity("1111", new Date(500L)));
+        assertEquals(store.getEntity("1111", new Date(1500L)).getVersion(), 1L);
+        assertEquals(store.getEntity("1111", new Date(2500L)).getVersion(), 2L);
+        assertEquals(store.getEntity("1111", null).getVersion(), 2L);
+        assertEquals(store.timeWarpEntityStore(new Date(1500L)).get("1111").getVersion(), 1L);
+
+        assertTrue(store.getEntityGUIDsByType(Collections.singletonList(TYPE_2)).contains("1111"));
+        assertTrue(store.getEntityGUIDsByType(Collections.singletonList(TYPE_1)).isEmpty());
+        assertTrue(store.getEntityGUIDsByPropertyValue("second").contains("1111"));
+        assertTrue(store.getEntityGUIDsByPropertyValue("first").isEmpty());
+
+        EntityDetail restored = store.retrievePreviousVersionOfEntity("1111");
+        assertNotNull(restored);
+        assertEquals(restored.getVersion(), 3L);
+        assertTrue(store.getEntityGUIDsByPropertyValue("first").contains("1111"));
+
+        store.removeEntityFromStore(restored);
+        assertNull(store.getEntity("1111"));
+        assertTrue(store.getEntityGUIDsByType(Collections.singletonList(TYPE_1)).isEmpty());
+        assertEquals(store.getEntity("1111", new Date(2500L)).getVersion(), 2L);
+    }
+
+
+    /**
+     * A type sample that has been removed from the store but is still in the type index is replaced by
+     * the next live instance of the same type.
+     */
+    @Test
+    public void testTypeSampleSkipsRemovedInstance()
+    {
+        InMemoryInstanceIndex     typeIndex = new InMemoryInstanceIndex();
+        Map<String, EntityDetail> liveStore = new HashMap<>();
+
+        for (int i = 0; i < 5; i++)
+        {
+            typeIndex.addInstance("guid-" + i, Collections.singleton(TYPE_1));
+        }
+
+        typeIndex.addInstance("guid-5", Collections.singleton(TYPE_2));
+
+        liveStore.put("guid-3", getEntity("guid-3", TYPE_1, "live", 1, new Date(1000L), null));
+
+        Map<String, EntityDetail> samples = typeIndex.getSamples(liveStore::get);
+
+        assertEquals(samples.size(), 1);
+        assertEquals(samples.get(TYPE_1).getGUID(), "guid-3");
+        assertFalse(samples.containsKey(TYPE_2));
+    }
+
+
+    /**
+     * Run a mixed load of 90% reads and 10% updates from several threads and check that the indexes are
+     * consistent with the store afterwards.
+     *
+     * @throws Exception problem with the worker threads
+     */
+    @Test
+    public void testMixedReadWriteLoad() throws Exception
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        for (int i = 0; i < ENTITY_COUNT; i++)
+        {
+            store.createEntityInStore(getEntity("guid-" + i, TYPE_1, "value-" + i, 1, new Date(), null));
+        }
+
+        ExecutorService          executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Future<Long>>       results  = new ArrayList<>();
+        AtomicLong               reads    = new AtomicLong();
+
+        for (int thread = 0; thread < THREAD_COUNT; thread++)
+        {
+            final long seed = thread;
+
+            results.add(executor.submit(() ->
+            {
+                Random random = new Random(seed);
+                long   found  = 0;
+
+                for (int operation = 0; operation < OPERATION_COUNT; operation++)
+                {
+                    String guid = "guid-" + random.nextInt(ENTITY_COUNT);
+
+                    if (random.nextInt(100) < READ_PERCENTAGE)
+                    {
+                        if (store.getEntity(guid) != null)
+                        {
+                            found++;
+                        }
+                        reads.incrementAndGet();
+                    }
+                    else
+                    {
+                        EntityDetail current = store.getEntity(guid);
+                        String       type    = TYPE_1.equals(current.getType().getTypeDefGUID()) ? TYPE_2 : TYPE_1;
+
+                        store.updateEntityInStore(getEntity(guid,
+                                                            type,
+                                                            "value-" + guid,
+                                                            current.getVersion() + 1,
+                                                            current.getCreateTime(),
+                                                            new Date()));
+                    }
+                }
+
+                return found;
+            }));
+        }
+
+        long found = 0;
+        for (Future<Long> result : results)
+        {
+            found = found + result.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(found, reads.get());
+
+        Set<String> type1GUIDs = store.getEntityGUIDsByType(Collections.singletonList(TYPE_1));
+        Set<String> type2GUIDs = store.getEntityGUIDsByType(Collections.singletonList(TYPE_2));
+
+        assertEquals(type1GUIDs.size() + type2GUIDs.size(), ENTITY_COUNT);
+
+        for (EntityDetail entity : store.getEntities())
+        {
+            if (TYPE_1.equals(entity.getType().getTypeDefGUID()))
+            {
+                assertTrue(type1GUIDs.contains(entity.getGUID()));
+            }
+            else
+            {
+                assertTrue(type2GUIDs.contains(entity.getGUID()));
+            }
+        }
+    }
+
+
+    private EntityDetail getEntity(String guid,
+                                   String typeGUID,
+                                   String name,
+                                   long   version,
+                                   Date   createTime,
+                                   Date   updateTime)
+    {
+        InstanceType type = new InstanceType();
+        type.setTypeDefGUID(typeGUID);
+
+        PrimitivePropertyValue nameValue = new PrimitivePropertyValue();
+        nameValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        nameValue.setPrimitiveValue(name);
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty("name", nameValue);
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setType(type);
+        entity.setVersion(version);
+        entity.setCreateTime(createTime);
+        entity.setUpdateTime(updateTime);
+        entity.setProperties(properties);
+
+        return entity;
+    }
+}
@@ -19,6 +19,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The OMRSRESTMetadataCollection represents a remote metadata repository that supports the OMRS REST API.
@@ -127,6 +128,31 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Validate that the REST client is available for a non-blocking request.
+     *
+     * @param methodName calling method
+     * @param <T> type of the result of the request
+     * @return null if the client is available; otherwise a future that has completed with the exception
+     */
+    private <T> CompletableFuture<T> validateClientAsync(String methodName)
+    {
+        try
+        {
+            validateClient(methodName);
+        }
+        catch (RepositoryErrorException error)
+        {
+            CompletableFuture<T> response = new CompletableFuture<>();
+
+            response.completeExceptionally(error);
+            return response;
+        }
+
+        return null;
+    }
+
+
     /**
      * Validate that the metadata collection id from the remote server matches the one expected
      * locally.
@@ -883,6 +909,29 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the header, classifications and properties of a specific entity without blocking the calling thread.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guid   String unique identifier for the entity.
+     * @return future for the EntityDetail structure.  It completes exceptionally with the exceptions of
+     * {@link #getEntityDetail(String, String)}.
+     */
+    public CompletableFuture<EntityDetail> getEntityDetailAsync(String userId,
+                                                                String guid)
+    {
+        final String methodName  = "getEntityDetail";
+
+        CompletableFuture<EntityDetail> noClient = validateClientAsync(methodName);
+        if (noClient != null)
+        {
+            return noClient;
+        }
+
+        return omrsClient.getEntityDetailAsync(userId, guid);
+    }
+
+
     /**
      * Return a historical version of an entity includes the header, classifications and properties of the entity.
      *
@@ -1088,6 +1137,58 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a list of entities that match the supplied properties without blocking the calling thread.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties list of entity properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the match properties should be matched to the entities in the repository.
+     * @param fromEntityElement the starting element number of the entities to return.
+     * @param limitResultsByStatus statuses to restrict the results to.  Null means all status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.
+     * @return future for the list of entities matching the supplied criteria.  It completes exceptionally with the
+     * exceptions of {@link #findEntitiesByProperty}.
+     */
+    public CompletableFuture<List<EntityDetail>> findEntitiesByPropertyAsync(String                    userId,
+                                                                             String                    entityTypeGUID,
+                                                                             InstanceProperties        matchProperties,
+                                                                             MatchCriteria             matchCriteria,
+                                                                             int                       fromEntityElement,
+                                                                             List<InstanceStatus>      limitResultsByStatus,
+                                                                             List<String>              limitResultsByClassification,
+                                                                             Date                      asOfTime,
+                                                                             String                    sequencingProperty,
+                                                                             SequencingOrder           sequencingOrder,
+                                                                             int                       pageSize)
+    {
+        final String       methodName = "findEntitiesByProperty";
+
+        CompletableFuture<List<EntityDetail>> noClient = validateClientAsync(methodName);
+        if (noClient != null)
+        {
+            return noClient;
+        }
+
+        return omrsClient.findEntitiesByPropertyAsync(userId,
+                                                      entityTypeGUID,
+                                                      matchProperties,
+                                                      matchCriteria,
+                                                      fromEntityElement,
+                                                      limitResultsByStatus,
+                                                      limitResultsByClassification,
+                                                      asOfTime,
+                                                      sequencingProperty,
+                                                      sequencingOrder,
+                                                      pageSize);
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
@@ -1233,6 +1334,57 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a list of entities whose string based property values match the search criteria without blocking
+     * the calling thread.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String expression contained in any of the property values within the entities
+     *                       of the supplied type, (with a String property's value defined as a Java regular expression).
+     * @param fromEntityElement the starting element number of the entities to return.
+     * @param limitResultsByStatus statuses to restrict the results to.  Null means all status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.
+     * @return future for the list of entities matching the supplied criteria.  It completes exceptionally with the
+     * exceptions of {@link #findEntitiesByPropertyValue}.
+     */
+    public  CompletableFuture<List<EntityDetail>> findEntitiesByPropertyValueAsync(String                userId,
+                                                                                   String                entityTypeGUID,
+                                                                                   String                searchCriteria,
+                                                                                   int                   fromEntityElement,
+                                                                                   List<InstanceStatus>  limitResultsByStatus,
+                                                                                   List<String>          limitResultsByClassification,
+                                                                                   Date                  asOfTime,
+                                                                                   String                sequencingProperty,
+                                                                                   SequencingOrder       sequencingOrder,
+                                                                                   int                   pageSize)
+    {
+        final String methodName  = "findEntitiesByPropertyValue";
+
+        CompletableFuture<List<EntityDetail>> noClient = validateClientAsync(methodName);
+        if (noClient != null)
+        {
+            return noClient;
+        }
+
+        return omrsClient.findEntitiesByPropertyValueAsync(userId,
+                                                           entityTypeGUID,
+                                                           searchCriteria,
+                                                           fromEntityElement,
+                                                           limitResultsByStatus,
+                                                           limitResultsByClassification,
+                                                           asOfTime,
+                                                           sequencingProperty,
+                                                           sequencingOrder,
+                                                           pageSize);
+    }
+
+
     /**
      * Returns a boolean indicating if the relationship is stored in the metadata collection.
      *
@@ -2362,6 +2514,85 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Create a batch of new entities with a single call to the remote repository.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities templates for the new entities.
+     * @return list of results, one for each template.
+     * @throws InvalidParameterException the user id or the list is null, or the list is empty.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> addEntities(String             userId,
+                                                 List<EntityDetail> newEntities) throws InvalidParameterException,
+                                                                                        RepositoryErrorException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String methodName  = "addEntities";
+
+        validateClient(methodName);
+        return omrsClient.addEntities(userId, newEntities);
+    }
+
+
+    /**
+     * Create a batch of new relationships with a single call to the remote repository.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationships templates for the new relationships.
+     * @return list of results, one for each template.
+     * @throws InvalidParameterException the user id or the list is null, or the list is empty.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> addRelationships(String             userId,
+                                                      List<Relationship> newRelationships) throws InvalidParameterException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  FunctionNotSupportedException,
+                                                                                                  UserNotAuthorizedException
+    {
+        final String methodName  = "addRelationships";
+
+        validateClient(methodName);
+        return omrsClient.addRelationships(userId, newRelationships);
+    }
+
+
+    /**
+     * Add the same classification to each of a list of entities with a single call to the remote repository.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers (guids) of the entities to classify.
+     * @param classificationName String name for the classification.
+     * @param classificationProperties list of properties to set in each classification.
+     * @return list of results, one for each entity GUID.
+     * @throws InvalidParameterException the user id or the list is null, or the list is empty.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> classifyEntities(String             userId,
+                                                      List<String>       entityGUIDs,
+                                                      String             classificationName,
+                                                      InstanceProperties classificationProperties) throws InvalidParameterException,
+                                                                                                          RepositoryErrorException,
+                                                                                                          FunctionNotSupportedException,
+                                                                                                          UserNotAuthorizedException
+    {
+        final String methodName  = "classifyEntities";
+
+        validateClient(methodName);
+        return omrsClient.classifyEntities(userId, entityGUIDs, classificationName, classificationProperties);
+    }
+
+
     /* ======================================================================
      * Group 5: Change the control information in entities and relationships
      */
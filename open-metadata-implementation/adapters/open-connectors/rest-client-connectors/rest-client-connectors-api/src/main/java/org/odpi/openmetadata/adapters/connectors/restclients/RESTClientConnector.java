@@ -2,9 +2,12 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adapters.connectors.restclients;
 
+import org.odpi.openmetadata.adapters.connectors.restclients.ffdc.exceptions.RESTServerException;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 
-public abstract class RESTClientConnector extends ConnectorBase implements RESTClientCalls
+import java.util.concurrent.CompletableFuture;
+
+public abstract class RESTClientConnector extends ConnectorBase implements RESTClientCalls, RESTClientAsyncCalls
 {
     /**
      * Default constructor
@@ -13,4 +16,70 @@ public abstract class RESTClientConnector extends ConnectorBase implements RESTC
     {
         super();
     }
+
+
+    /**
+     * Issue a GET REST call that returns a response object.  This implementation issues the blocking call on the
+     * calling thread and returns a completed future.  Connectors that support non-blocking calls override it.
+     *
+     * @param <T> class name
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param params      a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object
+     */
+    public <T> CompletableFuture<T> callGetRESTCallAsync(String    methodName,
+                                                         Class<T>  returnClass,
+                                                         String    urlTemplate,
+                                                         Object... params)
+    {
+        CompletableFuture<T> response = new CompletableFuture<>();
+
+        try
+        {
+            response.complete(this.callGetRESTCall(methodName, returnClass, urlTemplate, params));
+        }
+        catch (RESTServerException error)
+        {
+            response.completeExceptionally(error);
+        }
+
+        return response;
+    }
+
+
+    /**
+     * Issue a POST REST call that returns a response object.  This implementation issues the blocking call on the
+     * calling thread and returns a completed future.  Connectors that support non-blocking calls override it.
+     *
+     * @param <T> class name
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate  template of the URL for the REST API call with place-holders for the parameters.
+     * @param requestBody request body for the request.
+     * @param params  a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object
+     */
+    public <T> CompletableFuture<T> callPostRESTCallAsync(String    methodName,
+                                                          Class<T>  returnClass,
+                                                          String    urlTemplate,
+                                                          Object    requestBody,
+                                                          Object... params)
+    {
+        CompletableFuture<T> response = new CompletableFuture<>();
+
+        try
+        {
+            response.complete(this.callPostRESTCall(methodName, returnClass, urlTemplate, requestBody, params));
+        }
+        catch (RESTServerException error)
+        {
+            response.completeExceptionally(error);
+        }
+
+        return response;
+    }
 }
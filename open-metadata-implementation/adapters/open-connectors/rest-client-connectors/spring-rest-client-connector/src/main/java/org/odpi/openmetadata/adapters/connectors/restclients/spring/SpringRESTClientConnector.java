@@ -14,14 +14,13 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.converter.HttpMessageConverter;
-import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -29,10 +28,11 @@ import java.util.List;
  */
 public class SpringRESTClientConnector extends RESTClientConnector
 {
-    private RestTemplate restTemplate;
-    private String       serverName               = null;
-    private String       serverPlatformURLRoot    = null;
-    private HttpHeaders  basicAuthorizationHeader = null;
+    private SpringRESTClientTransport transport                = null;
+    private RestTemplate              restTemplate             = null;
+    private String                    serverName               = null;
+    private String                    serverPlatformURLRoot    = null;
+    private HttpHeaders               basicAuthorizationHeader = null;
 
     private static final Logger log = LoggerFactory.getLogger(SpringRESTClientConnector.class);
 
@@ -42,26 +42,6 @@ public class SpringRESTClientConnector extends RESTClientConnector
     public SpringRESTClientConnector()
     {
         super();
-
-        /*
-         * Rather than creating a RestTemplate directly, the RestTemplateBuilder is used so that the
-         * uriTemplateHandler can be specified. The URI encoding is set to VALUES_ONLY so that the
-         * '+' character, which is used in queryParameters conveying searchCriteria, which can be a
-         * regex, is encoded as '+' and not converted to a space character.
-         * Prior to this change a regex containing a '+' character would be split into two space
-         * separated words. For example, the regex "name_0+7" (which would match name_07, name_007,
-         * name_0007, etc) would be sent to the server as "name_0 7".
-         */
-        DefaultUriBuilderFactory builderFactory = new DefaultUriBuilderFactory();
-        builderFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.VALUES_ONLY);
-        restTemplate = new RestTemplate();
-        restTemplate.setUriTemplateHandler(builderFactory);
-
-        /* Ensure that the REST template always uses UTF-8 */
-        List<HttpMessageConverter<?>> converters = restTemplate.getMessageConverters();
-        converters.removeIf(httpMessageConverter -> httpMessageConverter instanceof StringHttpMessageConverter);
-        converters.add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
-
     }
 
 
@@ -91,6 +71,10 @@ public class SpringRESTClientConnector extends RESTClientConnector
             this.serverName = null;
         }
 
+        this.transport = this.getTransport(serverPlatformURLRoot,
+                                           this.getTransportSettings(connectionProperties.getConfigurationProperties()));
+        this.restTemplate = transport.getRestTemplate();
+
         String     userId = connectionProperties.getUserId();
         String     password = connectionProperties.getClearPassword();
 
@@ -108,6 +92,131 @@ public class SpringRESTClientConnector extends RESTClientConnector
     }
 
 
+    /**
+     * Return the transport that issues the calls to the platform.  Connectors calling the same platform with the
+     * same settings share a transport, and hence its pool of connections.  Subclasses may override this method to
+     * plug in a transport of their own.
+     *
+     * @param serverPlatformURLRoot URL root of the platform that is called
+     * @param settings settings from the connection
+     * @return transport
+     */
+    protected SpringRESTClientTransport getTransport(String                                      serverPlatformURLRoot,
+                                                     SpringRESTClientTransport.TransportSettings settings)
+    {
+        return SpringRESTClientTransport.getTransport(serverPlatformURLRoot, settings);
+    }
+
+
+    /**
+     * Return the transport used by this connector.  It provides the connection pool and latency metrics
+     * for the platform.
+     *
+     * @return transport (null if the connector is not initialized)
+     */
+    public SpringRESTClientTransport getTransport()
+    {
+        return transport;
+    }
+
+
+    /**
+     * Extract the transport settings from the configuration properties of the connection.
+     * Settings that are not specified, or are not valid, keep their default values.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @return settings
+     */
+    private SpringRESTClientTransport.TransportSettings getTransportSettings(Map<String, Object> configurationProperties)
+    {
+        SpringRESTClientTransport.TransportSettings settings = new SpringRESTClientTransport.TransportSettings();
+
+        if (configurationProperties != null)
+        {
+            Object pooledConnections        = configurationProperties.get(SpringRESTClientConnectorProvider.pooledConnectionsProperty);
+            Object maxConnections           = configurationProperties.get(SpringRESTClientConnectorProvider.maxConnectionsProperty);
+            Object connectTimeout           = configurationProperties.get(SpringRESTClientConnectorProvider.connectTimeoutProperty);
+            Object readTimeout              = configurationProperties.get(SpringRESTClientConnectorProvider.readTimeoutProperty);
+            Object connectionRequestTimeout = configurationProperties.get(SpringRESTClientConnectorProvider.connectionRequestTimeoutProperty);
+            Object idleConnectionTimeout    = configurationProperties.get(SpringRESTClientConnectorProvider.idleConnectionTimeoutProperty);
+            Object compressRequests         = configurationProperties.get(SpringRESTClientConnectorProvider.compressRequestsProperty);
+
+            if (pooledConnections != null)
+            {
+                settings.setPooledConnections(Boolean.parseBoolean(pooledConnections.toString()));
+            }
+
+            settings.setMaxConnections(this.getIntegerSetting(SpringRESTClientConnectorProvider.maxConnectionsProperty,
+                                                              maxConnections,
+                                                              settings.getMaxConnections(),
+                                                              1));
+            settings.setConnectTimeout(this.getIntegerSetting(SpringRESTClientConnectorProvider.connectTimeoutProperty,
+                                                              connectTimeout,
+                                                              settings.getConnectTimeout(),
+                                                              0));
+            settings.setReadTimeout(this.getIntegerSetting(SpringRESTClientConnectorProvider.readTimeoutProperty,
+                                                           readTimeout,
+                                                           settings.getReadTimeout(),
+                                                           0));
+            settings.setConnectionRequestTimeout(this.getIntegerSetting(SpringRESTClientConnectorProvider.connectionRequestTimeoutProperty,
+                                                                        connectionRequestTimeout,
+                                                                        settings.getConnectionRequestTimeout(),
+                                                                        0));
+            settings.setIdleConnectionTimeout(this.getIntegerSetting(SpringRESTClientConnectorProvider.idleConnectionTimeoutProperty,
+                                                                     idleConnectionTimeout,
+                                                                     (int) settings.getIdleConnectionTimeout(),
+                                                                     1));
+
+            if (compressRequests != null)
+            {
+                settings.setCompressRequests(Boolean.parseBoolean(compressRequests.toString()));
+            }
+        }
+
+        return settings;
+    }
+
+
+    /**
+     * Convert a numeric configuration property.
+     *
+     * @param propertyName name of the configuration property
+     * @param propertyValue value from the connection
+     * @param defaultValue value to use if the property is missing or invalid
+     * @param minimumValue smallest valid value
+     * @return value
+     */
+    private int getIntegerSetting(String propertyName,
+                                  Object propertyValue,
+                                  int    defaultValue,
+                                  int    minimumValue)
+    {
+        if (propertyValue == null)
+        {
+            return defaultValue;
+        }
+
+        try
+        {
+            int value = (propertyValue instanceof Number) ? ((Number) propertyValue).intValue()
+                                                          : Integer.parseInt(propertyValue.toString().trim());
+
+            if (value >= minimumValue)
+            {
+                return value;
+            }
+        }
+        catch (NumberFormatException error)
+        {
+            // fall through to the warning
+        }
+
+        log.warn("Ignoring invalid value " + propertyValue + " for configuration property " + propertyName + ".");
+
+        return defaultValue;
+    }
+
+
     /**
      * Create the HTTP header for basic authorization.
      *
@@ -592,4 +701,168 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                           error);
         }
     }
+
+
+    /**
+     * Issue a GET REST call that returns a response object.  The call is issued through the transport's
+     * non-blocking HTTP client so no thread waits for the response.
+     *
+     * @param <T> type of the return object
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate template of the URL for the REST API call with place-holders for the parameters.
+     * @param params      a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object; it completes exceptionally with RESTServerException if
+     * something went wrong with the REST call stack.
+     */
+    @Override
+    public  <T> CompletableFuture<T> callGetRESTCallAsync(String    methodName,
+                                                          Class<T>  returnClass,
+                                                          String    urlTemplate,
+                                                          Object... params)
+    {
+        log.debug("Calling " + methodName + " asynchronously with URL template " + urlTemplate + " and parameters " + Arrays.toString(params) + ".");
+
+        HttpEntity<?> request = (basicAuthorizationHeader == null) ? HttpEntity.EMPTY : new HttpEntity<>(basicAuthorizationHeader);
+
+        return this.issueAsyncRESTCall(methodName, returnClass, urlTemplate, HttpMethod.GET, request, params);
+    }
+
+
+    /**
+     * Issue a POST REST call that returns a response object.  The call is issued through the transport's
+     * non-blocking HTTP client so no thread waits for the response.
+     *
+     * @param <T> type of the return object
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate  template of the URL for the REST API call with place-holders for the parameters.
+     * @param requestBody request body for the request.
+     * @param params  a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object; it completes exceptionally with RESTServerException if
+     * something went wrong with the REST call stack.
+     */
+    @Override
+    public  <T> CompletableFuture<T> callPostRESTCallAsync(String    methodName,
+                                                           Class<T>  returnClass,
+                                                           String    urlTemplate,
+                                                           Object    requestBody,
+                                                           Object... params)
+    {
+        log.debug("Calling " + methodName + " asynchronously with URL template " + urlTemplate + " and parameters " + Arrays.toString(params) + ".");
+
+        HttpEntity<?> request;
+
+        if (requestBody == null)
+        {
+            log.warn("Poorly formed POST call made by " + methodName);
+            request = (basicAuthorizationHeader == null) ? HttpEntity.EMPTY : new HttpEntity<>(basicAuthorizationHeader);
+        }
+        else
+        {
+            request = new HttpEntity<>(requestBody, basicAuthorizationHeader);
+        }
+
+        return this.issueAsyncRESTCall(methodName, returnClass, urlTemplate, HttpMethod.POST, request, params);
+    }
+
+
+    /**
+     * Issue a non-blocking REST call and convert its result to a CompletableFuture.
+     *
+     * @param <T> type of the return object
+     * @param methodName  name of the method being called.
+     * @param returnClass class of the response object.
+     * @param urlTemplate  template of the URL for the REST API call with place-holders for the parameters.
+     * @param httpMethod HTTP method to use
+     * @param request headers and body for the request
+     * @param params  a list of parameters that are slotted into the url template.
+     *
+     * @return future for the response object
+     */
+    @SuppressWarnings("deprecation")
+    private <T> CompletableFuture<T> issueAsyncRESTCall(String        methodName,
+                                                        Class<T>      returnClass,
+                                                        String        urlTemplate,
+                                                        HttpMethod    httpMethod,
+                                                        HttpEntity<?> request,
+                                                        Object...     params)
+    {
+        CompletableFuture<T> response  = new CompletableFuture<>();
+        long                 startTime = System.nanoTime();
+
+        try
+        {
+            ListenableFuture<ResponseEntity<T>> responseEntity = transport.getAsyncRestTemplate().exchange(urlTemplate,
+                                                                                                           httpMethod,
+                                                                                                           request,
+                                                                                                           returnClass,
+                                                                                                           params);
+            responseEntity.addCallback(
+                    result ->
+                    {
+                        transport.recordResponse(startTime);
+
+                        T responseObject = (result == null) ? null : result.getBody();
+
+                        if (responseObject != null)
+                        {
+                            log.debug("Returning from " + methodName + " with response object " + responseObject.toString() + ".");
+                        }
+                        else
+                        {
+                            log.debug("Returning from " + methodName + " with no response object.");
+                        }
+
+                        response.complete(responseObject);
+                    },
+                    error ->
+                    {
+                        transport.recordResponse(startTime);
+                        transport.recordFailure();
+                        response.completeExceptionally(this.getRESTServerException(methodName, urlTemplate, error));
+                    });
+        }
+        catch (Throwable error)
+        {
+            transport.recordFailure();
+            response.completeExceptionally(this.getRESTServerException(methodName, urlTemplate, error));
+        }
+
+        return response;
+    }
+
+
+    /**
+     * Create the exception that describes a failed REST call.
+     *
+     * @param methodName  name of the method being called.
+     * @param urlTemplate  template of the URL for the REST API call.
+     * @param error cause of the failure
+     * @return exception to return to the caller
+     */
+    private RESTServerException getRESTServerException(String    methodName,
+                                                       String    urlTemplate,
+                                                       Throwable error)
+    {
+        log.debug("Exception " + error.getClass().getName() + " with message " + error.getMessage() + " occurred during REST call for " + methodName + ".");
+
+        RESTClientConnectorErrorCode errorCode = RESTClientConnectorErrorCode.CLIENT_SIDE_REST_API_ERROR;
+        String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(error.getClass().getName(),
+                                                                                                 methodName,
+                                                                                                 urlTemplate,
+                                                                                                 serverName,
+                                                                                                 serverPlatformURLRoot,
+                                                                                                 error.getMessage());
+
+        return new RESTServerException(errorCode.getHTTPErrorCode(),
+                                       this.getClass().getName(),
+                                       methodName,
+                                       errorMessage,
+                                       errorCode.getSystemAction(),
+                                       errorCode.getUserAction(),
+                                       error);
+    }
 }
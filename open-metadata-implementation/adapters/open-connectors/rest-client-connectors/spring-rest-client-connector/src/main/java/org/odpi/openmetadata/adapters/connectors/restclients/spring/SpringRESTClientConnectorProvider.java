@@ -6,6 +6,9 @@ import org.odpi.openmetadata.adapters.connectors.restclients.RESTClientConnector
 import org.odpi.openmetadata.frameworks.connectors.ConnectorProviderBase;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * SpringRESTClientConnectorProvider provides the connector provider for the SpringRESTClientConnector.
@@ -16,6 +19,14 @@ public class SpringRESTClientConnectorProvider extends RESTClientConnectorProvid
     static final String  connectorTypeName = "Spring REST Client Connector";
     static final String  connectorTypeDescription = "Connector that calls the REST API of a remote server using Spring.";
 
+    public static final String  pooledConnectionsProperty        = "pooledConnections";
+    public static final String  maxConnectionsProperty           = "maxConnections";
+    public static final String  connectTimeoutProperty           = "connectTimeout";
+    public static final String  readTimeoutProperty              = "readTimeout";
+    public static final String  connectionRequestTimeoutProperty = "connectionRequestTimeout";
+    public static final String  idleConnectionTimeoutProperty    = "idleConnectionTimeout";
+    public static final String  compressRequestsProperty         = "compressRequests";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * REST Client Connector implementation.
@@ -34,6 +45,17 @@ public class SpringRESTClientConnectorProvider extends RESTClientConnectorProvid
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(pooledConnectionsProperty);
+        recognizedConfigurationProperties.add(maxConnectionsProperty);
+        recognizedConfigurationProperties.add(connectTimeoutProperty);
+        recognizedConfigurationProperties.add(readTimeoutProperty);
+        recognizedConfigurationProperties.add(connectionRequestTimeoutProperty);
+        recognizedConfigurationProperties.add(idleConnectionTimeoutProperty);
+        recognizedConfigurationProperties.add(compressRequestsProperty);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
@@ -0,0 +1,874 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultRoutePlanner;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.ssl.SSLContexts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsAsyncClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.web.client.AsyncRestTemplate;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.ProxySelector;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * SpringRESTClientTransport is the HTTP transport used by the SpringRESTClientConnector.  Each OMAS client,
+ * repository connector and federated query creates its own connector, so transports are shared: there is
+ * one transport for each platform URL root and combination of transport settings.  The transport records the
+ * number of calls, failures and the time taken to receive each response so that the cost of calls to a platform
+ * can be monitored.
+ *
+ * By default each call uses a JDK HttpURLConnection.  When the pooledConnections configuration property is set,
+ * the transport keeps a pool of keep-alive connections to the platform instead.  The pool is shared by every
+ * connector in the JVM that calls the platform, so its size (the maxConnections configuration property) must be
+ * larger than the number of threads that may call the platform at the same time - for example, the worker
+ * threads of the server's web container.  Calls that find every pooled connection in use wait for up to
+ * connectionRequestTimeout milliseconds for one to be released.
+ *
+ * Non-blocking calls are issued through a separate HTTP client that uses non-blocking I/O.  It is created the first
+ * time a connector using the transport issues a non-blocking call and has its own pool of connections to the platform.
+ */
+public class SpringRESTClientTransport
+{
+    /**
+     * Requests smaller than this are sent uncompressed even when request compression is enabled
+     * because compressing them costs more than it saves.
+     */
+    private static final int minimumCompressedRequestSize = 2048;
+
+    private static final Map<TransportSettings, SpringRESTClientTransport> sharedTransports = new HashMap<>();
+    private static final AtomicInteger                                      asyncThreadCount = new AtomicInteger();
+
+    private static final Logger log = LoggerFactory.getLogger(SpringRESTClientTransport.class);
+
+    private final TransportSettings                  settings;
+    private final RestTemplate                       restTemplate;
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    @SuppressWarnings("deprecation")
+    private AsyncRestTemplate                        asyncRestTemplate = null;
+
+    private final AtomicLong requestCount           = new AtomicLong();
+    private final AtomicLong failedRequestCount     = new AtomicLong();
+    private final AtomicLong compressedRequestCount = new AtomicLong();
+    private final AtomicLong totalLatencyNanos      = new AtomicLong();
+    private final AtomicLong maximumLatencyNanos    = new AtomicLong();
+
+
+    /**
+     * Return the transport for the platform.  Connectors calling the same platform with the same settings
+     * share the transport.
+     *
+     * @param serverPlatformURLRoot URL root of the platform that is called
+     * @param settings settings for the transport
+     * @return shared transport
+     */
+    public static SpringRESTClientTransport getTransport(String            serverPlatformURLRoot,
+                                                         TransportSettings settings)
+    {
+        TransportSettings transportKey = new TransportSettings(serverPlatformURLRoot, settings);
+
+        synchronized (sharedTransports)
+        {
+            SpringRESTClientTransport transport = sharedTransports.get(transportKey);
+
+            if (transport == null)
+            {
+                log.debug("Creating transport for platform " + serverPlatformURLRoot + " with settings " + transportKey + ".");
+
+                transport = new SpringRESTClientTransport(transportKey);
+                sharedTransports.put(transportKey, transport);
+            }
+
+            return transport;
+        }
+    }
+
+
+    /**
+     * Return the transports created so far.  This is used to report the connection pool and latency metrics
+     * of all of the platforms that this JVM calls.
+     *
+     * @return list of shared transports
+     */
+    public static List<SpringRESTClientTransport> getTransports()
+    {
+        synchronized (sharedTransports)
+        {
+            return new ArrayList<>(sharedTransports.values());
+        }
+    }
+
+
+    /**
+     * Build the RestTemplate for the transport.
+     *
+     * @param settings settings for the transport
+     */
+    private SpringRESTClientTransport(TransportSettings settings)
+    {
+        this.settings = settings;
+
+        /*
+         * Rather than relying on the default settings of the RestTemplate, the uriTemplateHandler is specified.
+         * The URI encoding is set to VALUES_ONLY so that the '+' character, which is used in queryParameters
+         * conveying searchCriteria, which can be a regex, is encoded as '+' and not converted to a space character.
+         * Prior to this change a regex containing a '+' character would be split into two space
+         * separated words. For example, the regex "name_0+7" (which would match name_07, name_007,
+         * name_0007, etc) would be sent to the server as "name_0 7".
+         */
+        DefaultUriBuilderFactory builderFactory = new DefaultUriBuilderFactory();
+        builderFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.VALUES_ONLY);
+
+        if (settings.isPooledConnections())
+        {
+            connectionManager = this.createConnectionManager();
+            restTemplate = new RestTemplate(this.createPooledRequestFactory());
+        }
+        else
+        {
+            SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+
+            requestFactory.setConnectTimeout(settings.getConnectTimeout());
+            requestFactory.setReadTimeout(settings.getReadTimeout());
+
+            connectionManager = null;
+            restTemplate = new RestTemplate(requestFactory);
+        }
+
+        restTemplate.setUriTemplateHandler(builderFactory);
+
+        /* Ensure that the REST template always uses UTF-8 */
+        List<HttpMessageConverter<?>> converters = restTemplate.getMessageConverters();
+        converters.removeIf(httpMessageConverter -> httpMessageConverter instanceof StringHttpMessageConverter);
+        converters.add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
+
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+        if (settings.isCompressRequests())
+        {
+            interceptors.add(this::compressRequest);
+        }
+        interceptors.add(this::recordLatency);
+        restTemplate.setInterceptors(interceptors);
+    }
+
+
+    /**
+     * Create the connection pool.  The SSL socket factory and host name verifier are taken from
+     * HttpsURLConnection so that the platform's strict.ssl setting applies to the pooled connections
+     * in the same way as it applies to the JDK connections.
+     *
+     * @return connection manager
+     */
+    private PoolingHttpClientConnectionManager createConnectionManager()
+    {
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", new SSLConnectionSocketFactory(HttpsURLConnection.getDefaultSSLSocketFactory(),
+                                                                  HttpsURLConnection.getDefaultHostnameVerifier()))
+                .build();
+
+        PoolingHttpClientConnectionManager poolingConnectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+
+        poolingConnectionManager.setMaxTotal(settings.getMaxConnections());
+        poolingConnectionManager.setDefaultMaxPerRoute(settings.getMaxConnections());
+
+        /*
+         * Connections that have been idle for a while may have been closed by the server.
+         */
+        poolingConnectionManager.setValidateAfterInactivity(2000);
+
+        return poolingConnectionManager;
+    }
+
+
+    /**
+     * Create the request factory that takes its connections from the pool.  The HTTP client asks for gzip
+     * or deflate encoded responses and decompresses them transparently.
+     *
+     * @return request factory
+     */
+    private HttpComponentsClientHttpRequestFactory createPooledRequestFactory()
+    {
+        RequestConfig requestConfig = RequestConfig.custom()
+                                                   .setConnectTimeout(settings.getConnectTimeout())
+                                                   .setSocketTimeout(settings.getReadTimeout())
+                                                   .setConnectionRequestTimeout(settings.getConnectionRequestTimeout())
+                                                   .build();
+
+        CloseableHttpClient httpClient = HttpClientBuilder.create()
+                                                          .setConnectionManager(connectionManager)
+                                                          .setDefaultRequestConfig(requestConfig)
+                                                          .setRoutePlanner(new SystemDefaultRoutePlanner(ProxySelector.getDefault()))
+                                                          .evictExpiredConnections()
+                                                          .evictIdleConnections(settings.getIdleConnectionTimeout(), TimeUnit.MILLISECONDS)
+                                                          .build();
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+
+    /**
+     * Compress the body of larger requests.  This is only enabled for platforms that accept
+     * gzip encoded requests.
+     *
+     * @param request request to send
+     * @param body body of the request
+     * @param execution rest of the request chain
+     * @return response
+     * @throws IOException problem sending the request
+     */
+    private ClientHttpResponse compressRequest(HttpRequest                request,
+                                               byte[]                     body,
+                                               ClientHttpRequestExecution execution) throws IOException
+    {
+        if ((body == null) || (body.length < minimumCompressedRequestSize))
+        {
+            return execution.execute(request, body);
+        }
+
+        ByteArrayOutputStream compressedBody = new ByteArrayOutputStream(body.length / 4);
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressedBody))
+        {
+            gzipOutputStream.write(body);
+        }
+
+        request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        compressedRequestCount.incrementAndGet();
+
+        return execution.execute(request, compressedBody.toByteArray());
+    }
+
+
+    /**
+     * Record the time taken to send the request and receive the response headers.
+     *
+     * @param request request to send
+     * @param body body of the request
+     * @param execution rest of the request chain
+     * @return response
+     * @throws IOException problem sending the request
+     */
+    private ClientHttpResponse recordLatency(HttpRequest                request,
+                                             byte[]                     body,
+                                             ClientHttpRequestExecution execution) throws IOException
+    {
+        long startTime = System.nanoTime();
+
+        try
+        {
+            return execution.execute(request, body);
+        }
+        catch (IOException error)
+        {
+            this.recordFailure();
+            throw error;
+        }
+        finally
+        {
+            this.recordResponse(startTime);
+        }
+    }
+
+
+    /**
+     * Record the time taken by a request.
+     *
+     * @param startTime value of System.nanoTime() when the request was sent
+     */
+    void recordResponse(long startTime)
+    {
+        long latency = System.nanoTime() - startTime;
+
+        requestCount.incrementAndGet();
+        totalLatencyNanos.addAndGet(latency);
+        maximumLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+
+
+    /**
+     * Record a request that failed before a response was received.
+     */
+    void recordFailure()
+    {
+        failedRequestCount.incrementAndGet();
+    }
+
+
+    /**
+     * Return the RestTemplate that issues the calls.  It is thread-safe and shared by all of the
+     * connectors using this transport.
+     *
+     * @return rest template
+     */
+    RestTemplate getRestTemplate()
+    {
+        return restTemplate;
+    }
+
+
+    /**
+     * Return the AsyncRestTemplate that issues non-blocking calls.  It shares the message converters and URI
+     * handling of the RestTemplate.  The non-blocking HTTP client behind it is created on first use.
+     *
+     * @return async rest template
+     * @throws IOReactorException the I/O threads of the non-blocking HTTP client could not be started
+     */
+    @SuppressWarnings("deprecation")
+    synchronized AsyncRestTemplate getAsyncRestTemplate() throws IOReactorException
+    {
+        if (asyncRestTemplate == null)
+        {
+            log.debug("Creating non-blocking HTTP client for platform " + settings.getServerPlatformURLRoot() + ".");
+
+            asyncRestTemplate = new AsyncRestTemplate(new HttpComponentsAsyncClientHttpRequestFactory(this.createAsyncClient()),
+                                                      restTemplate);
+        }
+
+        return asyncRestTemplate;
+    }
+
+
+    /**
+     * Create the non-blocking HTTP client.  It uses the same timeouts and connection limit as the blocking calls.
+     * The default SSL context is used with the host name verifier of HttpsURLConnection so that the platform's
+     * strict.ssl setting applies.  Its I/O threads are daemon threads so they do not keep client processes running.
+     *
+     * @return HTTP client
+     * @throws IOReactorException the I/O threads could not be started
+     */
+    private CloseableHttpAsyncClient createAsyncClient() throws IOReactorException
+    {
+        ThreadFactory threadFactory = runnable ->
+        {
+            Thread thread = new Thread(runnable, "SpringRESTClientTransport-IO-" + asyncThreadCount.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+
+        SSLContext sslContext;
+
+        try
+        {
+            sslContext = SSLContext.getDefault();
+        }
+        catch (NoSuchAlgorithmException error)
+        {
+            log.warn("Unable to retrieve the default SSL context; using the HTTP client's default: " + error.getMessage());
+
+            sslContext = SSLContexts.createDefault();
+        }
+
+        Registry<SchemeIOSessionStrategy> sessionStrategyRegistry = RegistryBuilder.<SchemeIOSessionStrategy>create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", new SSLIOSessionStrategy(sslContext, HttpsURLConnection.getDefaultHostnameVerifier()))
+                .build();
+
+        PoolingNHttpClientConnectionManager asyncConnectionManager =
+                new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT, threadFactory),
+                                                        sessionStrategyRegistry);
+
+        asyncConnectionManager.setMaxTotal(settings.getMaxConnections());
+        asyncConnectionManager.setDefaultMaxPerRoute(settings.getMaxConnections());
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                                                   .setConnectTimeout(settings.getConnectTimeout())
+                                                   .setSocketTimeout(settings.getReadTimeout())
+                                                   .setConnectionRequestTimeout(settings.getConnectionRequestTimeout())
+                                                   .build();
+
+        return HttpAsyncClientBuilder.create()
+                                     .setConnectionManager(asyncConnectionManager)
+                                     .setThreadFactory(threadFactory)
+                                     .setDefaultRequestConfig(requestConfig)
+                                     .setRoutePlanner(new SystemDefaultRoutePlanner(ProxySelector.getDefault()))
+                                     .build();
+    }
+
+
+    /**
+     * Return the URL root of the platform that this transport calls.
+     *
+     * @return url
+     */
+    public String getServerPlatformURLRoot()
+    {
+        return settings.getServerPlatformURLRoot();
+    }
+
+
+    /**
+     * Return the settings of the transport.
+     *
+     * @return settings
+     */
+    public TransportSettings getSettings()
+    {
+        return settings;
+    }
+
+
+    /**
+     * Return the number of pooled connections that are currently in use.
+     *
+     * @return count (0 if connections are not pooled)
+     */
+    public int getLeasedConnections()
+    {
+        PoolStats poolStats = this.getPoolStats();
+
+        return poolStats == null ? 0 : poolStats.getLeased();
+    }
+
+
+    /**
+     * Return the number of pooled connections that are open and idle.
+     *
+     * @return count (0 if connections are not pooled)
+     */
+    public int getAvailableConnections()
+    {
+        PoolStats poolStats = this.getPoolStats();
+
+        return poolStats == null ? 0 : poolStats.getAvailable();
+    }
+
+
+    /**
+     * Return the number of requests waiting for a pooled connection.  A steady value above zero
+     * means that maxConnections is too low for the load on this platform.
+     *
+     * @return count (0 if connections are not pooled)
+     */
+    public int getPendingConnectionRequests()
+    {
+        PoolStats poolStats = this.getPoolStats();
+
+        return poolStats == null ? 0 : poolStats.getPending();
+    }
+
+
+    /**
+     * Return the total number of requests sent through this transport.
+     *
+     * @return count
+     */
+    public long getRequestCount()
+    {
+        return requestCount.get();
+    }
+
+
+    /**
+     * Return the number of requests that failed before a response was received.
+     *
+     * @return count
+     */
+    public long getFailedRequestCount()
+    {
+        return failedRequestCount.get();
+    }
+
+
+    /**
+     * Return the number of requests that were sent gzip encoded.
+     *
+     * @return count
+     */
+    public long getCompressedRequestCount()
+    {
+        return compressedRequestCount.get();
+    }
+
+
+    /**
+     * Return the average time between sending a request and receiving its response headers.
+     *
+     * @return average latency in milliseconds
+     */
+    public double getAverageLatencyMillis()
+    {
+        long count = requestCount.get();
+
+        return count == 0 ? 0 : (totalLatencyNanos.get() / (double) count) / 1000000;
+    }
+
+
+    /**
+     * Return the longest time between sending a request and receiving its response headers.
+     *
+     * @return maximum latency in milliseconds
+     */
+    public double getMaximumLatencyMillis()
+    {
+        return maximumLatencyNanos.get() / (double) 1000000;
+    }
+
+
+    /**
+     * Return the statistics of the connection pool.
+     *
+     * @return pool statistics or null if connections are not pooled
+     */
+    private PoolStats getPoolStats()
+    {
+        if (connectionManager == null)
+        {
+            return null;
+        }
+
+        return connectionManager.getTotalStats();
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "SpringRESTClientTransport{" +
+                "settings=" + settings +
+                ", leasedConnections=" + getLeasedConnections() +
+                ", availableConnections=" + getAvailableConnections() +
+                ", pendingConnectionRequests=" + getPendingConnectionRequests() +
+                ", requestCount=" + getRequestCount() +
+                ", failedRequestCount=" + getFailedRequestCount() +
+                ", compressedRequestCount=" + getCompressedRequestCount() +
+                ", averageLatencyMillis=" + getAverageLatencyMillis() +
+                ", maximumLatencyMillis=" + getMaximumLatencyMillis() +
+                '}';
+    }
+
+
+    /**
+     * TransportSettings holds the configurable settings of a transport.  They are set from the configuration
+     * properties of the SpringRESTClientConnector's connection.
+     */
+    public static class TransportSettings
+    {
+        private String  serverPlatformURLRoot     = null;
+        private boolean pooledConnections         = false;
+        private int     maxConnections            = 500;
+        private int     connectTimeout            = 30000;
+        private int     readTimeout               = 0;
+        private int     connectionRequestTimeout  = 30000;
+        private long    idleConnectionTimeout     = 15000;
+        private boolean compressRequests          = false;
+
+
+        /**
+         * Default constructor
+         */
+        public TransportSettings()
+        {
+        }
+
+
+        /**
+         * Copy the settings for a specific platform.
+         *
+         * @param serverPlatformURLRoot URL root of the platform
+         * @param template settings to copy
+         */
+        TransportSettings(String serverPlatformURLRoot, TransportSettings template)
+        {
+            this.serverPlatformURLRoot = serverPlatformURLRoot;
+
+            if (template != null)
+            {
+                this.pooledConnections = template.pooledConnections;
+                this.maxConnections = template.maxConnections;
+                this.connectTimeout = template.connectTimeout;
+                this.readTimeout = template.readTimeout;
+                this.connectionRequestTimeout = template.connectionRequestTimeout;
+                this.idleConnectionTimeout = template.idleConnectionTimeout;
+                this.compressRequests = template.compressRequests;
+            }
+        }
+
+
+        /**
+         * Return the URL root of the platform.
+         *
+         * @return url
+         */
+        public String getServerPlatformURLRoot()
+        {
+            return serverPlatformURLRoot;
+        }
+
+
+        /**
+         * Return whether connections are pooled and kept alive (true) or a new JDK HttpURLConnection
+         * is used for each call (false).
+         *
+         * @return flag
+         */
+        public boolean isPooledConnections()
+        {
+            return pooledConnections;
+        }
+
+
+        /**
+         * Set up whether connections are pooled and kept alive.
+         *
+         * @param pooledConnections flag
+         */
+        public void setPooledConnections(boolean pooledConnections)
+        {
+            this.pooledConnections = pooledConnections;
+        }
+
+
+        /**
+         * Return the maximum number of pooled connections that are open to the platform.  This limit is shared
+         * by all of the connectors in the JVM that call the platform.
+         *
+         * @return count
+         */
+        public int getMaxConnections()
+        {
+            return maxConnections;
+        }
+
+
+        /**
+         * Set up the maximum number of connections that are open to the platform.
+         *
+         * @param maxConnections count
+         */
+        public void setMaxConnections(int maxConnections)
+        {
+            this.maxConnections = maxConnections;
+        }
+
+
+        /**
+         * Return the time allowed to open a connection.
+         *
+         * @return milliseconds (0 means no limit)
+         */
+        public int getConnectTimeout()
+        {
+            return connectTimeout;
+        }
+
+
+        /**
+         * Set up the time allowed to open a connection.
+         *
+         * @param connectTimeout milliseconds (0 means no limit)
+         */
+        public void setConnectTimeout(int connectTimeout)
+        {
+            this.connectTimeout = connectTimeout;
+        }
+
+
+        /**
+         * Return the time allowed between packets of the response.
+         *
+         * @return milliseconds (0 means no limit)
+         */
+        public int getReadTimeout()
+        {
+            return readTimeout;
+        }
+
+
+        /**
+         * Set up the time allowed between packets of the response.
+         *
+         * @param readTimeout milliseconds (0 means no limit)
+         */
+        public void setReadTimeout(int readTimeout)
+        {
+            this.readTimeout = readTimeout;
+        }
+
+
+        /**
+         * Return the time a request waits for a pooled connection when all of them are in use.
+         *
+         * @return milliseconds (0 means no limit)
+         */
+        public int getConnectionRequestTimeout()
+        {
+            return connectionRequestTimeout;
+        }
+
+
+        /**
+         * Set up the time a request waits for a pooled connection when all of them are in use.
+         *
+         * @param connectionRequestTimeout milliseconds (0 means no limit)
+         */
+        public void setConnectionRequestTimeout(int connectionRequestTimeout)
+        {
+            this.connectionRequestTimeout = connectionRequestTimeout;
+        }
+
+
+        /**
+         * Return the time after which idle pooled connections are closed.  This should be less than the
+         * keep-alive timeout of the platform.
+         *
+         * @return milliseconds
+         */
+        public long getIdleConnectionTimeout()
+        {
+            return idleConnectionTimeout;
+        }
+
+
+        /**
+         * Set up the time after which idle pooled connections are closed.
+         *
+         * @param idleConnectionTimeout milliseconds
+         */
+        public void setIdleConnectionTimeout(long idleConnectionTimeout)
+        {
+            this.idleConnectionTimeout = idleConnectionTimeout;
+        }
+
+
+        /**
+         * Return whether larger request bodies are sent gzip encoded.
+         *
+         * @return flag
+         */
+        public boolean isCompressRequests()
+        {
+            return compressRequests;
+        }
+
+
+        /**
+         * Set up whether larger request bodies are sent gzip encoded.  Only enable this for platforms
+         * that decompress requests.
+         *
+         * @param compressRequests flag
+         */
+        public void setCompressRequests(boolean compressRequests)
+        {
+            this.compressRequests = compressRequests;
+        }
+
+
+        /**
+         * Standard toString method.
+         *
+         * @return print out of variables in a JSON-style
+         */
+        @Override
+        public String toString()
+        {
+            return "TransportSettings{" +
+                    "serverPlatformURLRoot='" + serverPlatformURLRoot + '\'' +
+                    ", pooledConnections=" + pooledConnections +
+                    ", maxConnections=" + maxConnections +
+                    ", connectTimeout=" + connectTimeout +
+                    ", readTimeout=" + readTimeout +
+                    ", connectionRequestTimeout=" + connectionRequestTimeout +
+                    ", idleConnectionTimeout=" + idleConnectionTimeout +
+                    ", compressRequests=" + compressRequests +
+                    '}';
+        }
+
+
+        /**
+         * Compare the values of the supplied object with those stored in the current object.
+         *
+         * @param objectToCompare supplied object
+         * @return boolean result of comparison
+         */
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (objectToCompare == null || getClass() != objectToCompare.getClass())
+            {
+                return false;
+            }
+            TransportSettings that = (TransportSettings) objectToCompare;
+            return pooledConnections == that.pooledConnections &&
+                    maxConnections == that.maxConnections &&
+                    connectTimeout == that.connectTimeout &&
+                    readTimeout == that.readTimeout &&
+                    connectionRequestTimeout == that.connectionRequestTimeout &&
+                    idleConnectionTimeout == that.idleConnectionTimeout &&
+                    compressRequests == that.compressRequests &&
+                    Objects.equals(serverPlatformURLRoot, that.serverPlatformURLRoot);
+        }
+
+
+        /**
+         * Create a hash code for this element type.
+         *
+         * @return int hash code
+         */
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(serverPlatformURLRoot, pooledConnections, maxConnections, connectTimeout, readTimeout,
+                                connectionRequestTimeout, idleConnectionTimeout, compressRequests);
+        }
+    }
+}
@@ -24,7 +24,9 @@ public class DiscoveryEngineServicesConfig extends OMAGServerClientConfig
 {
     private static final long    serialVersionUID = 1L;
 
-    private List<String>  discoveryEngineNames = null;
+    private List<String>  discoveryEngineNames           = null;
+    private int           maxConcurrentDiscoveryRequests = 0;
+    private int           discoveryRequestQueueSize      = 0;
 
 
     /**
@@ -48,6 +50,8 @@ public class DiscoveryEngineServicesConfig extends OMAGServerClientConfig
         if (template != null)
         {
             discoveryEngineNames = template.getDiscoveryEngineNames();
+            maxConcurrentDiscoveryRequests = template.getMaxConcurrentDiscoveryRequests();
+            discoveryRequestQueueSize = template.getDiscoveryRequestQueueSize();
         }
     }
 
@@ -74,6 +78,52 @@ public class DiscoveryEngineServicesConfig extends OMAGServerClientConfig
     }
 
 
+    /**
+     * Return the maximum number of discovery requests that each discovery engine runs at the same time.
+     * Zero means the discovery engine uses its default (the number of processors).
+     *
+     * @return number of requests
+     */
+    public int getMaxConcurrentDiscoveryRequests()
+    {
+        return maxConcurrentDiscoveryRequests;
+    }
+
+
+    /**
+     * Set up the maximum number of discovery requests that each discovery engine runs at the same time.
+     *
+     * @param maxConcurrentDiscoveryRequests number of requests (zero for the default)
+     */
+    public void setMaxConcurrentDiscoveryRequests(int maxConcurrentDiscoveryRequests)
+    {
+        this.maxConcurrentDiscoveryRequests = maxConcurrentDiscoveryRequests;
+    }
+
+
+    /**
+     * Return the number of discovery requests that can wait for a free thread in each discovery engine.
+     * Further requests are rejected.  Zero means the discovery engine uses its default.
+     *
+     * @return number of requests
+     */
+    public int getDiscoveryRequestQueueSize()
+    {
+        return discoveryRequestQueueSize;
+    }
+
+
+    /**
+     * Set up the number of discovery requests that can wait for a free thread in each discovery engine.
+     *
+     * @param discoveryRequestQueueSize number of requests (zero for the default)
+     */
+    public void setDiscoveryRequestQueueSize(int discoveryRequestQueueSize)
+    {
+        this.discoveryRequestQueueSize = discoveryRequestQueueSize;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -84,6 +134,8 @@ public class DiscoveryEngineServicesConfig extends OMAGServerClientConfig
     {
         return super.toString() + "DiscoveryEngineServicesConfig{" +
                 ", discoveryEngineNames=" + discoveryEngineNames +
+                ", maxConcurrentDiscoveryRequests=" + maxConcurrentDiscoveryRequests +
+                ", discoveryRequestQueueSize=" + discoveryRequestQueueSize +
                 '}';
     }
 
@@ -109,7 +161,9 @@ public class DiscoveryEngineServicesConfig extends OMAGServerClientConfig
             return false;
         }
         DiscoveryEngineServicesConfig that = (DiscoveryEngineServicesConfig) objectToCompare;
-        return Objects.equals(discoveryEngineNames, that.discoveryEngineNames);
+        return maxConcurrentDiscoveryRequests == that.maxConcurrentDiscoveryRequests &&
+                discoveryRequestQueueSize == that.discoveryRequestQueueSize &&
+                Objects.equals(discoveryEngineNames, that.discoveryEngineNames);
     }
 
     /**
@@ -120,6 +174,6 @@ public class DiscoveryEngineServicesConfig extends OMAGServerClientConfig
     @Override
     public int hashCode()
     {
-        return Objects.hash(super.hashCode(), discoveryEngineNames);
+        return Objects.hash(super.hashCode(), discoveryEngineNames, maxConcurrentDiscoveryRequests, discoveryRequestQueueSize);
     }
 }
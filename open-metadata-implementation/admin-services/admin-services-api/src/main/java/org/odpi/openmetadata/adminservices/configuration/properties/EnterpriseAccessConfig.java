@@ -30,6 +30,14 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *         enterpriseOMRSTopicProtocolVersion - the protocol version for the events passed on the
  *                                            enterprise OMRS topic.
  *     </li>
+ *     <li>
+ *         maxFederationWorkerThreads - the maximum number of cohort members that each enterprise repository
+ *                                    connector calls concurrently on a federated query.  Zero means use the default.
+ *     </li>
+ *     <li>
+ *         federationMemberTimeout - the number of milliseconds that a federated query waits for each
+ *                                 cohort member to respond.  Zero means use the default.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -43,6 +51,8 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     private String                           enterpriseMetadataCollectionId     = null;
     private Connection                       enterpriseOMRSTopicConnection      = null;
     private OpenMetadataEventProtocolVersion enterpriseOMRSTopicProtocolVersion = null;
+    private int                              maxFederationWorkerThreads         = 0;
+    private long                             federationMemberTimeout            = 0;
 
 
     /**
@@ -179,6 +189,50 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the maximum number of cohort members that are called concurrently on a federated query.
+     *
+     * @return number of worker threads (zero means use the default)
+     */
+    public int getMaxFederationWorkerThreads()
+    {
+        return maxFederationWorkerThreads;
+    }
+
+
+    /**
+     * Set up the maximum number of cohort members that are called concurrently on a federated query.
+     *
+     * @param maxFederationWorkerThreads number of worker threads (zero means use the default)
+     */
+    public void setMaxFederationWorkerThreads(int maxFederationWorkerThreads)
+    {
+        this.maxFederationWorkerThreads = maxFederationWorkerThreads;
+    }
+
+
+    /**
+     * Return the number of milliseconds that a federated query waits for each cohort member to respond.
+     *
+     * @return milliseconds (zero means use the default)
+     */
+    public long getFederationMemberTimeout()
+    {
+        return federationMemberTimeout;
+    }
+
+
+    /**
+     * Set up the number of milliseconds that a federated query waits for each cohort member to respond.
+     *
+     * @param federationMemberTimeout milliseconds (zero means use the default)
+     */
+    public void setFederationMemberTimeout(long federationMemberTimeout)
+    {
+        this.federationMemberTimeout = federationMemberTimeout;
+    }
+
+
     /**
      * Standard toString method.
      *
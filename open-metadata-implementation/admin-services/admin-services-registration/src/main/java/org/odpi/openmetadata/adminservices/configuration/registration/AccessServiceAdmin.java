@@ -31,8 +31,9 @@ import java.util.UUID;
  */
 public abstract class AccessServiceAdmin
 {
-    private static  int defaultKarmaPointThreshold = 500;
-    private static  int defaultKarmaPointInterval  = 0;
+    private static  int defaultKarmaPointThreshold       = 500;
+    private static  int defaultKarmaPointInterval        = 0;
+    private static  int defaultRepositoryCacheTimeToLive = 60;
 
 
     /*
@@ -40,10 +41,12 @@ public abstract class AccessServiceAdmin
      * AccessServiceConfig as the accessServicesOptions.  Individual access services may support
      * additional properties.
      */
-    protected String   supportedZonesPropertyName      = "SupportedZones";      /* Common */
-    protected String   defaultZonesPropertyName        = "DefaultZones";        /* Common */
-    protected String   karmaPointPlateauPropertyName   = "KarmaPointPlateau";   /* Community Profile OMAS */
-    protected String   karmaPointIncrementPropertyName = "KarmaPointIncrement"; /* Community Profile OMAS */
+    protected String   supportedZonesPropertyName            = "SupportedZones";            /* Common */
+    protected String   defaultZonesPropertyName              = "DefaultZones";              /* Common */
+    protected String   repositoryCacheSizePropertyName       = "RepositoryCacheSize";       /* Common */
+    protected String   repositoryCacheTimeToLivePropertyName = "RepositoryCacheTimeToLive"; /* Common */
+    protected String   karmaPointPlateauPropertyName         = "KarmaPointPlateau";         /* Community Profile OMAS */
+    protected String   karmaPointIncrementPropertyName       = "KarmaPointIncrement";       /* Community Profile OMAS */
 
 
     /**
@@ -355,6 +358,106 @@ public abstract class AccessServiceAdmin
     }
 
 
+    /**
+     * Extract the maximum number of retrieved entities that the access service should cache from the access services option.
+     * The entities are only cached if this property is set.
+     *
+     * @param accessServiceOptions options passed to the access service.
+     * @param accessServiceFullName name of calling service
+     * @param auditLog audit log for error messages
+     * @return maximum number of cached results (0 means no caching)
+     * @throws OMAGConfigurationErrorException the repository cache size property is not a number.
+     */
+    protected int extractRepositoryCacheSize(Map<String, Object> accessServiceOptions,
+                                             String              accessServiceFullName,
+                                             AuditLog            auditLog) throws OMAGConfigurationErrorException
+    {
+        final String  methodName = "extractRepositoryCacheSize";
+
+        return this.extractIntegerOption(accessServiceOptions,
+                                         repositoryCacheSizePropertyName,
+                                         0,
+                                         accessServiceFullName,
+                                         auditLog,
+                                         methodName);
+    }
+
+
+    /**
+     * Extract the number of seconds that a retrieved entity can be returned from the access service's cache
+     * from the access services option.
+     *
+     * @param accessServiceOptions options passed to the access service.
+     * @param accessServiceFullName name of calling service
+     * @param auditLog audit log for error messages
+     * @return number of seconds
+     * @throws OMAGConfigurationErrorException the repository cache time to live property is not a number.
+     */
+    protected int extractRepositoryCacheTimeToLive(Map<String, Object> accessServiceOptions,
+                                                   String              accessServiceFullName,
+                                                   AuditLog            auditLog) throws OMAGConfigurationErrorException
+    {
+        final String  methodName = "extractRepositoryCacheTimeToLive";
+
+        return this.extractIntegerOption(accessServiceOptions,
+                                         repositoryCacheTimeToLivePropertyName,
+                                         defaultRepositoryCacheTimeToLive,
+                                         accessServiceFullName,
+                                         auditLog,
+                                         methodName);
+    }
+
+
+    /**
+     * Extract a numeric property from the access services option.
+     *
+     * @param accessServiceOptions options passed to the access service.
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set
+     * @param accessServiceFullName name of calling service
+     * @param auditLog audit log for error messages
+     * @param methodName calling method
+     * @return property value
+     * @throws OMAGConfigurationErrorException the property is not a number.
+     */
+    private int extractIntegerOption(Map<String, Object> accessServiceOptions,
+                                     String              propertyName,
+                                     int                 defaultValue,
+                                     String              accessServiceFullName,
+                                     AuditLog            auditLog,
+                                     String              methodName) throws OMAGConfigurationErrorException
+    {
+        if (accessServiceOptions == null)
+        {
+            return defaultValue;
+        }
+
+        Object   propertyValueObject = accessServiceOptions.get(propertyName);
+
+        if (propertyValueObject == null)
+        {
+            return defaultValue;
+        }
+
+        try
+        {
+            return Integer.parseInt(propertyValueObject.toString());
+        }
+        catch (Throwable error)
+        {
+            logBadConfigProperties(accessServiceFullName,
+                                   propertyName,
+                                   propertyValueObject.toString(),
+                                   auditLog,
+                                   methodName,
+                                   error);
+
+            /* unreachable */
+            return defaultValue;
+        }
+    }
+
+
     /**
      * Log that a property value is incorrect.
      *
@@ -16,14 +16,17 @@ import java.util.*;
 /**
  * OMAGServerInstance represents an instance of a service in an OMAG Server.
  * It is also responsible for registering itself in the instance map.
+ *
+ * The map of registered services is an immutable snapshot that is replaced each time a service is registered
+ * or unregistered.  This means the services can be looked up on each REST request without locking.
  */
 class OMAGServerInstance
 {
-    private String                                 serverName;
-    private List<OMAGServerInstanceHistory>        serverHistory      = new ArrayList<>();
-    private Map<String, OMAGServerServiceInstance> serviceInstanceMap = new HashMap<>();
-    private Date                                   serverStartTime    = new Date();
-    private OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
+    private final String                                    serverName;
+    private final List<OMAGServerInstanceHistory>           serverHistory      = new ArrayList<>();
+    private volatile Map<String, OMAGServerServiceInstance> serviceInstanceMap = Collections.emptyMap();
+    private Date                                            serverStartTime    = new Date();
+    private final OpenMetadataServerSecurityVerifier        securityVerifier   = new OpenMetadataServerSecurityVerifier();
 
 
     /**
@@ -62,7 +65,7 @@ class OMAGServerInstance
      *
      * @return list of service names
      */
-    synchronized List<String>  getRegisteredServices()
+    List<String>  getRegisteredServices()
     {
         Set<String>  keySet = serviceInstanceMap.keySet();
 
@@ -158,7 +161,7 @@ class OMAGServerInstance
      *
      * @return connector
      */
-    synchronized OpenMetadataServerSecurityVerifier  getSecurityVerifier()
+    OpenMetadataServerSecurityVerifier  getSecurityVerifier()
     {
         return securityVerifier;
     }
@@ -175,8 +178,12 @@ class OMAGServerInstance
     {
         if (serviceInstance != null)
         {
-            serviceInstanceMap.put(serviceName, serviceInstance);
             serviceInstance.setSecurityVerifier(securityVerifier);
+
+            Map<String, OMAGServerServiceInstance> newServiceInstanceMap = new HashMap<>(serviceInstanceMap);
+
+            newServiceInstanceMap.put(serviceName, serviceInstance);
+            serviceInstanceMap = Collections.unmodifiableMap(newServiceInstanceMap);
         }
     }
 
@@ -192,10 +199,10 @@ class OMAGServerInstance
      * @throws UserNotAuthorizedException calling user not authorized to call the request
      * @throws PropertyServerException service is not running in this server
      */
-    synchronized OMAGServerServiceInstance getRegisteredService(String    userId,
-                                                                String    serviceName,
-                                                                String    serviceOperationName) throws UserNotAuthorizedException,
-                                                                                                       PropertyServerException
+    OMAGServerServiceInstance getRegisteredService(String    userId,
+                                                   String    serviceName,
+                                                   String    serviceOperationName) throws UserNotAuthorizedException,
+                                                                                          PropertyServerException
     {
         try
         {
@@ -229,7 +236,13 @@ class OMAGServerInstance
      */
     synchronized  void unRegisterService(String   serviceName)
     {
-        serviceInstanceMap.remove(serviceName);
+        if (serviceInstanceMap.containsKey(serviceName))
+        {
+            Map<String, OMAGServerServiceInstance> newServiceInstanceMap = new HashMap<>(serviceInstanceMap);
+
+            newServiceInstanceMap.remove(serviceName);
+            serviceInstanceMap = Collections.unmodifiableMap(newServiceInstanceMap);
+        }
     }
 
 
@@ -244,11 +257,13 @@ class OMAGServerInstance
         this.serverHistory.add(new OMAGServerInstanceHistory(this.serverStartTime, new Date()));
         this.serverStartTime = null;
 
-        if (!serviceInstanceMap.isEmpty())
+        Map<String, OMAGServerServiceInstance> residualServiceInstanceMap = serviceInstanceMap;
+
+        if (!residualServiceInstanceMap.isEmpty())
         {
-            this.serviceInstanceMap = new HashMap<>();
+            this.serviceInstanceMap = Collections.emptyMap();
             throw new PropertyServerException(OMAGServerInstanceErrorCode.SERVICES_NOT_SHUTDOWN.getMessageDefinition(serverName,
-                                                                                                                     serviceInstanceMap.keySet().toString()),
+                                                                                                                     residualServiceInstanceMap.keySet().toString()),
                                               this.getClass().getName(),
                                               methodName);
         }
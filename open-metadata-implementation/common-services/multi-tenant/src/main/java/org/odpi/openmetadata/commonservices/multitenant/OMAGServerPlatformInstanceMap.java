@@ -17,18 +17,22 @@ import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityV
 import org.odpi.openmetadata.platformservices.properties.OMAGServerInstanceHistory;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * OMAGServerPlatformInstanceMap provides part of the mapping for inbound REST requests to the appropriate
  * service instances for the requested server.  It manages the server name to server instance mapping.
  * The map is maintained in a static so it is scoped to the class loader.
  *
- * Instances of this class call the synchronized static methods to work with the map.
+ * Instances of this class call the static methods to work with the map.  The maps of active and inactive
+ * servers are immutable snapshots.  The methods that start and stop servers are synchronized and publish
+ * a new snapshot when they change a map.  This means the methods used on each REST request read the
+ * current snapshot without locking.
  */
 public class OMAGServerPlatformInstanceMap
 {
-    private static Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>();
-    private static Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>();
+    private static final AtomicReference<Map<String, OMAGServerInstance>> activeServerInstanceMap   = new AtomicReference<>(Collections.emptyMap());
+    private static final AtomicReference<Map<String, OMAGServerInstance>> inActiveServerInstanceMap = new AtomicReference<>(Collections.emptyMap());
 
 
     /**
@@ -305,6 +309,44 @@ public class OMAGServerPlatformInstanceMap
     }
 
 
+    /**
+     * Publish a new snapshot of a server map with the server instance added or removed.  This is only
+     * called from the synchronized methods so that the changes from different threads are not lost.
+     *
+     * @param serverInstanceMap map to update
+     * @param serverName name of the server
+     * @param serverInstance server instance to add or null to remove the server
+     */
+    private static void updateServerInstanceMap(AtomicReference<Map<String, OMAGServerInstance>> serverInstanceMap,
+                                                String                                           serverName,
+                                                OMAGServerInstance                               serverInstance)
+    {
+        Map<String, OMAGServerInstance> newServerInstanceMap = new HashMap<>(serverInstanceMap.get());
+
+        if (serverInstance == null)
+        {
+            newServerInstanceMap.remove(serverName);
+        }
+        else
+        {
+            newServerInstanceMap.put(serverName, serverInstance);
+        }
+
+        serverInstanceMap.set(Collections.unmodifiableMap(newServerInstanceMap));
+    }
+
+
+    /**
+     * Forget all of the active and inactive servers.  This is used by the unit tests so that the
+     * servers started by one test are not seen by another.
+     */
+    static synchronized void clearServerInstanceMaps()
+    {
+        activeServerInstanceMap.set(Collections.emptyMap());
+        inActiveServerInstanceMap.set(Collections.emptyMap());
+    }
+
+
     /**
      * Return an active server instance object for the requested service.  The server instance
      * may be new, already active, or known but inactive.
@@ -317,14 +359,14 @@ public class OMAGServerPlatformInstanceMap
         /*
          * Is this a server that is currently running?
          */
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = activeServerInstanceMap.get().get(serverName);
 
         if (serverInstance == null)
         {
             /*
              * Is this a known server that is currently inactive?
              */
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = inActiveServerInstanceMap.get().get(serverName);
 
             if (serverInstance == null)
             {
@@ -332,15 +374,16 @@ public class OMAGServerPlatformInstanceMap
                  * New server for this platform
                  */
                 serverInstance = new OMAGServerInstance(serverName);
-                activeServerInstanceMap.put(serverName, serverInstance);
+                updateServerInstanceMap(activeServerInstanceMap, serverName, serverInstance);
             }
             else
             {
                 /*
-                 * Move the inactive server to active
+                 * Move the inactive server to active.  It is added to the active map first so
+                 * that it is always known to the readers.
                  */
-                activeServerInstanceMap.put(serverName, serverInstance);
-                inActiveServerInstanceMap.remove(serverName);
+                updateServerInstanceMap(activeServerInstanceMap, serverName, serverInstance);
+                updateServerInstanceMap(inActiveServerInstanceMap, serverName, null);
             }
         }
 
@@ -397,12 +440,12 @@ public class OMAGServerPlatformInstanceMap
      * @return boolean
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized boolean isServerInstanceActive(String  userId,
-                                                               String  serverName) throws UserNotAuthorizedException
+    private static boolean isServerInstanceActive(String  userId,
+                                                  String  serverName) throws UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
-        return (activeServerInstanceMap.get(serverName) != null);
+        return (activeServerInstanceMap.get().get(serverName) != null);
     }
 
 
@@ -417,13 +460,13 @@ public class OMAGServerPlatformInstanceMap
      * @return boolean
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized boolean isServerInstanceKnown(String  userId,
-                                                              String  serverName) throws UserNotAuthorizedException
+    private static boolean isServerInstanceKnown(String  userId,
+                                                 String  serverName) throws UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
-        return ((activeServerInstanceMap.get(serverName) != null) ||
-                (inActiveServerInstanceMap.get(serverName) != null));
+        return ((activeServerInstanceMap.get().get(serverName) != null) ||
+                (inActiveServerInstanceMap.get().get(serverName) != null));
     }
 
 
@@ -440,14 +483,14 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      * @throws PropertyServerException the service name is not know - indicating a logic error
      */
-    private static synchronized OMAGServerServiceInstance getInstanceForPlatform(String  userId,
-                                                                                 String  serverName,
-                                                                                 String  serviceName,
-                                                                                 String  serviceOperationName) throws InvalidParameterException,
-                                                                                                                      UserNotAuthorizedException,
-                                                                                                                      PropertyServerException
+    private static OMAGServerServiceInstance getInstanceForPlatform(String  userId,
+                                                                    String  serverName,
+                                                                    String  serviceName,
+                                                                    String  serviceOperationName) throws InvalidParameterException,
+                                                                                                         UserNotAuthorizedException,
+                                                                                                         PropertyServerException
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = activeServerInstanceMap.get().get(serverName);
 
         if (serverInstance != null)
         {
@@ -485,7 +528,7 @@ public class OMAGServerPlatformInstanceMap
      * @return list of OMAG server names
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String> getActiveServerListForPlatform(String userId) throws UserNotAuthorizedException
+    private static List<String> getActiveServerListForPlatform(String userId) throws UserNotAuthorizedException
     {
         try
         {
@@ -496,7 +539,7 @@ public class OMAGServerPlatformInstanceMap
             throw new UserNotAuthorizedException(error);
         }
 
-        Set<String>  activeServerSet = activeServerInstanceMap.keySet();
+        Set<String>  activeServerSet = activeServerInstanceMap.get().keySet();
 
         if (activeServerSet.isEmpty())
         {
@@ -516,7 +559,7 @@ public class OMAGServerPlatformInstanceMap
      * @return list of OMAG server names
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String> getKnownServerListForPlatform(String userId) throws UserNotAuthorizedException
+    private static List<String> getKnownServerListForPlatform(String userId) throws UserNotAuthorizedException
     {
         try
         {
@@ -527,8 +570,13 @@ public class OMAGServerPlatformInstanceMap
             throw new UserNotAuthorizedException(error);
         }
 
-        List<String> knownServerList = new ArrayList<>(activeServerInstanceMap.keySet());
-        knownServerList.addAll(inActiveServerInstanceMap.keySet());
+        /*
+         * A server that is moving from the active to the inactive map (or back) is in both maps for a moment.
+         */
+        Set<String> knownServerSet = new LinkedHashSet<>(activeServerInstanceMap.get().keySet());
+        knownServerSet.addAll(inActiveServerInstanceMap.get().keySet());
+
+        List<String> knownServerList = new ArrayList<>(knownServerSet);
 
         if (knownServerList.isEmpty())
         {
@@ -548,8 +596,8 @@ public class OMAGServerPlatformInstanceMap
      * @param serverInstance instance for the server
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized void validateUserAsServerInvestigator(String              userId,
-                                                                      OMAGServerInstance  serverInstance) throws UserNotAuthorizedException
+    private static void validateUserAsServerInvestigator(String              userId,
+                                                         OMAGServerInstance  serverInstance) throws UserNotAuthorizedException
     {
         if (serverInstance != null)
         {
@@ -577,17 +625,17 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  Date getServerStartTimeFromPlatform(String  userId,
-                                                                     String  serverName) throws InvalidParameterException,
-                                                                                                UserNotAuthorizedException
+    private static Date getServerStartTimeFromPlatform(String  userId,
+                                                       String  serverName) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException
     {
         final String  methodName = "getServerStartTimeFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = activeServerInstanceMap.get().get(serverName);
 
         if (serverInstance == null)
         {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = inActiveServerInstanceMap.get().get(serverName);
         }
 
         if (serverInstance != null)
@@ -614,17 +662,17 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  Date getServerEndTimeFromPlatform(String  userId,
-                                                                   String  serverName) throws InvalidParameterException,
-                                                                                              UserNotAuthorizedException
+    private static Date getServerEndTimeFromPlatform(String  userId,
+                                                     String  serverName) throws InvalidParameterException,
+                                                                                UserNotAuthorizedException
     {
         final String  methodName = "getServerEndTimeFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = activeServerInstanceMap.get().get(serverName);
 
         if (serverInstance == null)
         {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = inActiveServerInstanceMap.get().get(serverName);
         }
 
         if (serverInstance != null)
@@ -651,17 +699,17 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String  userId,
-                                                                                              String  serverName) throws InvalidParameterException,
-                                                                                                                         UserNotAuthorizedException
+    private static List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String  userId,
+                                                                                String  serverName) throws InvalidParameterException,
+                                                                                                           UserNotAuthorizedException
     {
         final String  methodName = "getServerHistoryFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = activeServerInstanceMap.get().get(serverName);
 
         if (serverInstance == null)
         {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = inActiveServerInstanceMap.get().get(serverName);
         }
 
         if (serverInstance != null)
@@ -687,13 +735,13 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the server name is not known
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String>   getActiveServiceListForServerOnPlatform(String userId,
-                                                                                       String serverName) throws InvalidParameterException,
-                                                                                                                 UserNotAuthorizedException
+    private static List<String>   getActiveServiceListForServerOnPlatform(String userId,
+                                                                          String serverName) throws InvalidParameterException,
+                                                                                                    UserNotAuthorizedException
     {
         final String  methodName = "getActiveServiceListForServerOnPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = activeServerInstanceMap.get().get(serverName);
 
         if (serverInstance != null)
         {
@@ -703,7 +751,7 @@ public class OMAGServerPlatformInstanceMap
         }
         else /* server is not active */
         {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = inActiveServerInstanceMap.get().get(serverName);
 
             if (serverInstance != null)
             {
@@ -728,7 +776,7 @@ public class OMAGServerPlatformInstanceMap
     private static synchronized void removeInstanceForPlatform(String   serverName,
                                                                String   serviceName)
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = activeServerInstanceMap.get().get(serverName);
 
         if (serverInstance != null)
         {
@@ -751,7 +799,7 @@ public class OMAGServerPlatformInstanceMap
                                                        String   methodName) throws InvalidParameterException,
                                                                                    PropertyServerException
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = activeServerInstanceMap.get().get(serverName);
 
         if (serverInstance == null)
         {
@@ -760,8 +808,12 @@ public class OMAGServerPlatformInstanceMap
         else
         {
             serverInstance.shutdown(methodName);
-            inActiveServerInstanceMap.put(serverName, serverInstance);
-            activeServerInstanceMap.remove(serverName);
+
+            /*
+             * The server is added to the inactive map first so that it is always known to the readers.
+             */
+            updateServerInstanceMap(inActiveServerInstanceMap, serverName, serverInstance);
+            updateServerInstanceMap(activeServerInstanceMap, serverName, null);
         }
     }
 
@@ -775,12 +827,12 @@ public class OMAGServerPlatformInstanceMap
      * @return OpenMetadataServerSecurityVerifier object - never null
      * @throws InvalidParameterException the server name is not known
      */
-    private static synchronized OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
-                                                                                                        String    serverName) throws InvalidParameterException
+    private static OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
+                                                                                           String    serverName) throws InvalidParameterException
     {
         final String  methodName = "getServerSecurityVerifierForPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = activeServerInstanceMap.get().get(serverName);
 
         if (serverInstance != null)
         {
@@ -3,9 +3,13 @@
 package org.odpi.openmetadata.commonservices.multitenant;
 
 import org.odpi.openmetadata.commonservices.multitenant.ffdc.OMAGServerInstanceErrorCode;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryCache;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryCacheEventListener;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryErrorHandler;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandlerAuditCode;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.PropertyServerException;
@@ -26,6 +30,7 @@ public class OMASServiceInstance extends AuditableServerServiceInstance
 
     protected RepositoryHandler       repositoryHandler;
     protected RepositoryErrorHandler  errorHandler;
+    protected RepositoryCache         repositoryCache = null;
 
     protected List<String>            supportedZones;
     protected List<String>            defaultZones;
@@ -145,6 +150,88 @@ public class OMASServiceInstance extends AuditableServerServiceInstance
     }
 
 
+    /**
+     * Set up a cache for the entities retrieved through the repository handler.  The cache is maintained
+     * from the OMRS instance events received from the enterprise OMRS topic.
+     *
+     * @param maxEntries maximum number of results to cache
+     * @param timeToLive number of seconds that a result can be returned from the cache
+     * @param omrsTopicConnector connector for receiving OMRS Events from the cohorts
+     */
+    public void enableRepositoryCache(int                maxEntries,
+                                      int                timeToLive,
+                                      OMRSTopicConnector omrsTopicConnector)
+    {
+        final String methodName = "enableRepositoryCache";
+
+        if ((repositoryHandler != null) && (maxEntries > 0) && (timeToLive > 0))
+        {
+            AuditLog auditLog = super.getAuditLog();
+
+            this.repositoryCache = new RepositoryCache(maxEntries, timeToLive * 1000L);
+
+            if (omrsTopicConnector != null)
+            {
+                omrsTopicConnector.registerListener(new RepositoryCacheEventListener(serviceName, auditLog, repositoryCache),
+                                                    serviceName);
+            }
+            else if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    RepositoryHandlerAuditCode.REPOSITORY_CACHE_NO_EVENTS.getMessageDefinition(serviceName, serverName));
+            }
+
+            repositoryHandler.setRepositoryCache(repositoryCache);
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    RepositoryHandlerAuditCode.REPOSITORY_CACHE_ENABLED.getMessageDefinition(serviceName,
+                                                                                                             serverName,
+                                                                                                             Integer.toString(maxEntries),
+                                                                                                             Integer.toString(timeToLive)));
+            }
+        }
+    }
+
+
+    /**
+     * Log the statistics of the repository cache (if any) and unregister the instance.
+     */
+    @Override
+    public void shutdown()
+    {
+        final String methodName = "shutdown";
+
+        if (repositoryCache != null)
+        {
+            AuditLog auditLog = super.getAuditLog();
+
+            if (repositoryHandler != null)
+            {
+                repositoryHandler.setRepositoryCache(null);
+            }
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    RepositoryHandlerAuditCode.REPOSITORY_CACHE_STATISTICS.getMessageDefinition(serviceName,
+                                                                                                                serverName,
+                                                                                                                Long.toString(repositoryCache.getHitCount()),
+                                                                                                                Long.toString(repositoryCache.getMissCount()),
+                                                                                                                String.format("%.1f", repositoryCache.getHitRate()),
+                                                                                                                Long.toString(repositoryCache.getEvictionCount()),
+                                                                                                                Long.toString(repositoryCache.getExpiryCount()),
+                                                                                                                Long.toString(repositoryCache.getInvalidationCount())));
+            }
+
+            repositoryCache.clear();
+        }
+
+        super.shutdown();
+    }
+
+
     /**
      * Return the server name. Used during OMAS initialization which is why the exception
      * is different.
@@ -0,0 +1,173 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.multitenant;
+
+import org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException;
+import org.odpi.openmetadata.commonservices.ffdc.exceptions.PropertyServerException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Validate that the OMAGServerPlatformInstanceMap routes requests to the right service instances while
+ * many threads are sending requests to 20 servers and one of the servers is being restarted.
+ */
+public class OMAGServerPlatformInstanceMapTest
+{
+    private static final String serverNamePrefix  = "PlatformInstanceMapTestServer";
+    private static final String serviceName       = "PlatformInstanceMapTestService";
+    private static final String userId            = "testUser";
+    private static final String operationName     = "testOperation";
+    private static final int    serverCount       = 20;
+    private static final int    requestsPerThread = 300;
+
+
+    /**
+     * Default constructor
+     */
+    public OMAGServerPlatformInstanceMapTest()
+    {
+
+    }
+
+
+    /**
+     * Remove the servers started by the test from the static server maps.
+     */
+    @AfterMethod
+    public void clearServerInstanceMaps()
+    {
+        OMAGServerPlatformInstanceMap.clearServerInstanceMaps();
+    }
+
+
+    /**
+     * Start a server and register the test service with it.
+     *
+     * @param platformInstanceMap map to update
+     * @param serverName name of the server
+     * @return service instance
+     * @throws Exception problem starting the server
+     */
+    private OMAGServerServiceInstance startServer(OMAGServerPlatformInstanceMap platformInstanceMap,
+                                                  String                        serverName) throws Exception
+    {
+        platformInstanceMap.startUpServerInstance(userId, serverName, null, null);
+
+        return new OMAGServerServiceInstance(serverName, serviceName, 100)
+        {
+        };
+    }
+
+
+    /**
+     * Send requests to the running servers from many threads while the first server is restarted.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testParallelRequestRouting() throws Exception
+    {
+        final OMAGServerPlatformInstanceMap platformInstanceMap = new OMAGServerPlatformInstanceMap();
+        final String[]                      serverNames         = new String[serverCount];
+        final OMAGServerServiceInstance[]   serviceInstances    = new OMAGServerServiceInstance[serverCount];
+
+        for (int i = 0; i < serverCount; i++)
+        {
+            serverNames[i] = serverNamePrefix + i;
+            serviceInstances[i] = startServer(platformInstanceMap, serverNames[i]);
+        }
+
+        final int           threadCount = 4;
+        final AtomicBoolean running     = new AtomicBoolean(true);
+        ExecutorService     executor    = Executors.newFixedThreadPool(threadCount + 1);
+
+        try
+        {
+            /*
+             * The first server is restarted over and over again while the requests are running.
+             */
+            Future<Integer> restarts = executor.submit(() ->
+            {
+                int restartCount = 0;
+
+                while (running.get())
+                {
+                    OMAGServerServiceInstance serviceInstance = platformInstanceMap.getServiceInstance(userId, serverNames[0], serviceName, operationName);
+
+                    serviceInstance.shutdown();
+                    platformInstanceMap.shutdownServerInstance(userId, serverNames[0], operationName);
+                    startServer(platformInstanceMap, serverNames[0]);
+                    restartCount++;
+                }
+
+                return restartCount;
+            });
+
+            List<Callable<Integer>> requests = new ArrayList<>();
+
+            for (int t = 0; t < threadCount; t++)
+            {
+                requests.add(() ->
+                {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                    for (int r = 0; r < requestsPerThread; r++)
+                    {
+                        int server = random.nextInt(serverCount);
+
+                        if (server == 0)
+                        {
+                            try
+                            {
+                                platformInstanceMap.getServiceInstance(userId, serverNames[0], serviceName, operationName);
+                            }
+                            catch (InvalidParameterException | PropertyServerException error)
+                            {
+                                /*
+                                 * Expected while the server is restarting.
+                                 */
+                            }
+                        }
+                        else
+                        {
+                            assertSame(platformInstanceMap.getServiceInstance(userId, serverNames[server], serviceName, operationName),
+                                       serviceInstances[server]);
+                        }
+                    }
+
+                    return requestsPerThread;
+                });
+            }
+
+            try
+            {
+                for (Future<Integer> result : executor.invokeAll(requests))
+                {
+                    assertEquals(result.get().intValue(), requestsPerThread);
+                }
+            }
+            finally
+            {
+                running.set(false);
+            }
+
+            restarts.get();
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -65,6 +65,11 @@ public enum OMAGOCFErrorCode implements ExceptionMessageSet
                             "The system is unable to create the required connector which means some of its services will not work.",
                             "Verify that the OMAG server is running and the OMAS service is correctly configured."),
 
+    RETRIEVAL_FAILED(500, "OMAG-OCF-500-003",
+                     "The {0} operation of the {1} service was unable to retrieve the {2} because of an unexpected {3} exception with message {4}",
+                     "The system is unable to return the requested metadata.",
+                     "Review the exception to determine why the retrieval failed.  Once the cause is resolved, retry the request."),
+
     ;
 
     private ExceptionMessageDefinition messageDefinition;
@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 /**
  * AssetHandler manages Asset objects and optionally connections in the property server.  It runs server-side in
@@ -3280,6 +3281,184 @@ public class AssetHandler
     }
 
 
+    /**
+     * Return the asset, its schema type and the number of each type of element attached to it.  The attachments
+     * are counted from a single retrieval of the asset's relationships rather than a retrieval for each type
+     * of attachment, and the schema type is retrieved while the asset and its relationships are being retrieved.
+     *
+     * @param userId calling user
+     * @param supportedZones override the default supported zones.
+     * @param assetGUID unique identifier of the asset object.
+     * @param connectionGUID unique identifier of the connection used to access the asset (or null).
+     * @param serviceName calling service
+     * @param methodName calling method
+     * @return asset summary
+     *
+     * @throws InvalidParameterException the parameters are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException problem accessing the property server
+     */
+    public AssetSummary getAssetSummary(String       userId,
+                                        List<String> supportedZones,
+                                        String       assetGUID,
+                                        String       connectionGUID,
+                                        String       serviceName,
+                                        String       methodName) throws InvalidParameterException,
+                                                                        PropertyServerException,
+                                                                        UserNotAuthorizedException
+    {
+        final String guidParameterName   = "assetGUID";
+        final String schemaRetrievalName = "schema type of asset ";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(assetGUID, guidParameterName, methodName);
+
+        Future<SchemaType> schemaTypeRetrieval = ParallelRetrievalExecutor.submit(() -> schemaTypeHandler.getSchemaTypeForAsset(userId,
+                                                                                                                              assetGUID,
+                                                                                                                              methodName));
+        AssetSummary assetSummary = new AssetSummary();
+
+        try
+        {
+            if (connectionGUID != null)
+            {
+                assetSummary.setAsset(this.getValidatedVisibleAsset(userId,
+                                                                    supportedZones,
+                                                                    assetGUID,
+                                                                    connectionGUID,
+                                                                    serviceName,
+                                                                    methodName));
+            }
+            else
+            {
+                assetSummary.setAsset(this.getValidatedVisibleAsset(userId,
+                                                                    supportedZones,
+                                                                    assetGUID,
+                                                                    serviceName,
+                                                                    methodName));
+            }
+
+            List<Relationship> relationships = repositoryHandler.getAllRelationshipsForEntity(userId,
+                                                                                              assetGUID,
+                                                                                              AssetMapper.ASSET_TYPE_NAME,
+                                                                                              methodName);
+            if (relationships != null)
+            {
+                for (Relationship relationship : relationships)
+                {
+                    if ((relationship != null) && (relationship.getType() != null))
+                    {
+                        this.countAttachment(userId, assetGUID, relationship, assetSummary, methodName);
+                    }
+                }
+            }
+        }
+        catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException error)
+        {
+            schemaTypeRetrieval.cancel(true);
+            throw error;
+        }
+
+        assetSummary.setSchemaType(ParallelRetrievalExecutor.getResult(schemaTypeRetrieval,
+                                                                       schemaRetrievalName + assetGUID,
+                                                                       serviceName,
+                                                                       methodName));
+
+        return assetSummary;
+    }
+
+
+    /**
+     * Add a relationship of the asset to the count for its type of attachment.  The feedback that is private
+     * to another user is not counted.
+     *
+     * @param userId calling user
+     * @param assetGUID unique identifier of the asset
+     * @param relationship relationship of the asset
+     * @param assetSummary summary to update
+     * @param methodName calling method
+     */
+    private void countAttachment(String       userId,
+                                 String       assetGUID,
+                                 Relationship relationship,
+                                 AssetSummary assetSummary,
+                                 String       methodName)
+    {
+        String relationshipTypeGUID = relationship.getType().getTypeDefGUID();
+
+        if (CertificationMapper.CERTIFICATION_OF_REFERENCEABLE_TYPE_GUID.equals(relationshipTypeGUID))
+        {
+            assetSummary.addCertification();
+        }
+        else if (CommentMapper.REFERENCEABLE_TO_COMMENT_TYPE_GUID.equals(relationshipTypeGUID))
+        {
+            if (commentHandler.visibleToUser(userId, relationship, methodName))
+            {
+                assetSummary.addComment();
+            }
+        }
+        else if (AssetMapper.ASSET_TO_CONNECTION_TYPE_GUID.equals(relationshipTypeGUID))
+        {
+            assetSummary.addConnection();
+        }
+        else if (ExternalIdentifierMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_GUID.equals(relationshipTypeGUID))
+        {
+            assetSummary.addExternalIdentifier();
+        }
+        else if (ExternalReferenceMapper.REFERENCEABLE_TO_EXT_REF_TYPE_GUID.equals(relationshipTypeGUID))
+        {
+            assetSummary.addExternalReference();
+        }
+        else if (InformalTagMapper.REFERENCEABLE_TO_TAG_TYPE_GUID.equals(relationshipTypeGUID))
+        {
+            if (informalTagHandler.visibleToUser(userId, relationship, methodName))
+            {
+                assetSummary.addInformalTag();
+            }
+        }
+        else if (LicenseMapper.LICENSE_OF_REFERENCEABLE_TYPE_GUID.equals(relationshipTypeGUID))
+        {
+            assetSummary.addLicense();
+        }
+        else if (LikeMapper.REFERENCEABLE_TO_LIKE_TYPE_GUID.equals(relationshipTypeGUID))
+        {
+            if (likeHandler.visibleToUser(userId, relationship, methodName))
+            {
+                assetSummary.addLike();
+            }
+        }
+        else if (LocationMapper.ASSET_LOCATION_TYPE_GUID.equals(relationshipTypeGUID))
+        {
+            assetSummary.addKnownLocation();
+        }
+        else if (NoteLogMapper.REFERENCEABLE_TO_NOTE_LOG_TYPE_GUID.equals(relationshipTypeGUID))
+        {
+            assetSummary.addNoteLog();
+        }
+        else if (RatingMapper.REFERENCEABLE_TO_RATING_TYPE_GUID.equals(relationshipTypeGUID))
+        {
+            if (ratingHandler.visibleToUser(userId, relationship, methodName))
+            {
+                assetSummary.addRating();
+            }
+        }
+        else if (RelatedMediaMapper.REFERENCEABLE_TO_RELATED_MEDIA_TYPE_GUID.equals(relationshipTypeGUID))
+        {
+            assetSummary.addRelatedMediaReference();
+        }
+
+        EntityProxy otherEnd = repositoryHandler.getOtherEnd(assetGUID, relationship);
+
+        if ((otherEnd != null) && (otherEnd.getType() != null))
+        {
+            if (repositoryHelper.isTypeOf(serviceName, otherEnd.getType().getTypeDefName(), AssetMapper.ASSET_TYPE_NAME))
+            {
+                assetSummary.addRelatedAsset();
+            }
+        }
+    }
+
+
     /**
      * Return the count of attached certifications.
      *
@@ -0,0 +1,342 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.handlers;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.SchemaType;
+
+/**
+ * AssetSummary is returned by the AssetHandler when the basic properties of an asset are requested.  It contains
+ * the asset, its schema type and the number of each type of element attached to the asset.  These counts allow
+ * the caller to page through the attached elements.
+ */
+public class AssetSummary
+{
+    private Asset      asset                      = null;
+    private SchemaType schemaType                 = null;
+    private int        certificationCount         = 0;
+    private int        commentCount               = 0;
+    private int        connectionCount            = 0;
+    private int        externalIdentifierCount    = 0;
+    private int        externalReferencesCount    = 0;
+    private int        informalTagCount           = 0;
+    private int        licenseCount               = 0;
+    private int        likeCount                  = 0;
+    private int        knownLocationsCount        = 0;
+    private int        noteLogsCount              = 0;
+    private int        ratingsCount               = 0;
+    private int        relatedAssetCount          = 0;
+    private int        relatedMediaReferenceCount = 0;
+
+
+    /**
+     * Default constructor
+     */
+    AssetSummary()
+    {
+    }
+
+
+    /**
+     * Return the asset.
+     *
+     * @return asset bean
+     */
+    public Asset getAsset()
+    {
+        return asset;
+    }
+
+
+    /**
+     * Set up the asset.
+     *
+     * @param asset asset bean
+     */
+    void setAsset(Asset asset)
+    {
+        this.asset = asset;
+    }
+
+
+    /**
+     * Return the schema type attached to the asset.
+     *
+     * @return schema type bean or null
+     */
+    public SchemaType getSchemaType()
+    {
+        return schemaType;
+    }
+
+
+    /**
+     * Set up the schema type attached to the asset.
+     *
+     * @param schemaType schema type bean or null
+     */
+    void setSchemaType(SchemaType schemaType)
+    {
+        this.schemaType = schemaType;
+    }
+
+
+    /**
+     * Return the number of certifications attached to the asset.
+     *
+     * @return count
+     */
+    public int getCertificationCount()
+    {
+        return certificationCount;
+    }
+
+
+    /**
+     * Add one to the number of certifications attached to the asset.
+     */
+    void addCertification()
+    {
+        certificationCount ++;
+    }
+
+
+    /**
+     * Return the number of comments attached to the asset that are visible to the caller.
+     *
+     * @return count
+     */
+    public int getCommentCount()
+    {
+        return commentCount;
+    }
+
+
+    /**
+     * Add one to the number of comments attached to the asset.
+     */
+    void addComment()
+    {
+        commentCount ++;
+    }
+
+
+    /**
+     * Return the number of connections attached to the asset.
+     *
+     * @return count
+     */
+    public int getConnectionCount()
+    {
+        return connectionCount;
+    }
+
+
+    /**
+     * Add one to the number of connections attached to the asset.
+     */
+    void addConnection()
+    {
+        connectionCount ++;
+    }
+
+
+    /**
+     * Return the number of external identifiers attached to the asset.
+     *
+     * @return count
+     */
+    public int getExternalIdentifierCount()
+    {
+        return externalIdentifierCount;
+    }
+
+
+    /**
+     * Add one to the number of external identifiers attached to the asset.
+     */
+    void addExternalIdentifier()
+    {
+        externalIdentifierCount ++;
+    }
+
+
+    /**
+     * Return the number of external references attached to the asset.
+     *
+     * @return count
+     */
+    public int getExternalReferencesCount()
+    {
+        return externalReferencesCount;
+    }
+
+
+    /**
+     * Add one to the number of external references attached to the asset.
+     */
+    void addExternalReference()
+    {
+        externalReferencesCount ++;
+    }
+
+
+    /**
+     * Return the number of informal tags attached to the asset that are visible to the caller.
+     *
+     * @return count
+     */
+    public int getInformalTagCount()
+    {
+        return informalTagCount;
+    }
+
+
+    /**
+     * Add one to the number of informal tags attached to the asset.
+     */
+    void addInformalTag()
+    {
+        informalTagCount ++;
+    }
+
+
+    /**
+     * Return the number of licenses attached to the asset.
+     *
+     * @return count
+     */
+    public int getLicenseCount()
+    {
+        return licenseCount;
+    }
+
+
+    /**
+     * Add one to the number of licenses attached to the asset.
+     */
+    void addLicense()
+    {
+        licenseCount ++;
+    }
+
+
+    /**
+     * Return the number of likes attached to the asset that are visible to the caller.
+     *
+     * @return count
+     */
+    public int getLikeCount()
+    {
+        return likeCount;
+    }
+
+
+    /**
+     * Add one to the number of likes attached to the asset.
+     */
+    void addLike()
+    {
+        likeCount ++;
+    }
+
+
+    /**
+     * Return the number of known locations of the asset.
+     *
+     * @return count
+     */
+    public int getKnownLocationsCount()
+    {
+        return knownLocationsCount;
+    }
+
+
+    /**
+     * Add one to the number of known locations of the asset.
+     */
+    void addKnownLocation()
+    {
+        knownLocationsCount ++;
+    }
+
+
+    /**
+     * Return the number of note logs attached to the asset.
+     *
+     * @return count
+     */
+    public int getNoteLogsCount()
+    {
+        return noteLogsCount;
+    }
+
+
+    /**
+     * Add one to the number of note logs attached to the asset.
+     */
+    void addNoteLog()
+    {
+        noteLogsCount ++;
+    }
+
+
+    /**
+     * Return the number of ratings attached to the asset that are visible to the caller.
+     *
+     * @return count
+     */
+    public int getRatingsCount()
+    {
+        return ratingsCount;
+    }
+
+
+    /**
+     * Add one to the number of ratings attached to the asset.
+     */
+    void addRating()
+    {
+        ratingsCount ++;
+    }
+
+
+    /**
+     * Return the number of assets related to the asset.
+     *
+     * @return count
+     */
+    public int getRelatedAssetCount()
+    {
+        return relatedAssetCount;
+    }
+
+
+    /**
+     * Add one to the number of assets related to the asset.
+     */
+    void addRelatedAsset()
+    {
+        relatedAssetCount ++;
+    }
+
+
+    /**
+     * Return the number of related media references attached to the asset.
+     *
+     * @return count
+     */
+    public int getRelatedMediaReferenceCount()
+    {
+        return relatedMediaReferenceCount;
+    }
+
+
+    /**
+     * Add one to the number of related media references attached to the asset.
+     */
+    void addRelatedMediaReference()
+    {
+        relatedMediaReferenceCount ++;
+    }
+}
@@ -0,0 +1,161 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.handlers;
+
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.ffdc.OMAGOCFErrorCode;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ParallelRetrievalExecutor runs the independent retrievals that make up a request, such as the schema type
+ * and the attachments of an asset, on a small pool of threads shared by all of the handlers in the server.
+ * A retrieval that is submitted from one of these threads runs on the submitting thread so that a retrieval
+ * never waits for a thread that is waiting for it.
+ */
+final class ParallelRetrievalExecutor
+{
+    private static final String threadNamePrefix = "OCFMetadataRetrieval-";
+
+    private static final AtomicInteger   threadCount = new AtomicInteger(0);
+    private static final ExecutorService executor    = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()),
+                                                                                    ParallelRetrievalExecutor::newRetrievalThread);
+
+
+    /**
+     * Static methods only.
+     */
+    private ParallelRetrievalExecutor()
+    {
+    }
+
+
+    /**
+     * Create a thread for the pool.  The threads do not prevent the JVM from exiting.
+     *
+     * @param retrievals work for the thread
+     * @return new thread
+     */
+    private static Thread newRetrievalThread(Runnable retrievals)
+    {
+        Thread thread = new RetrievalThread(retrievals, threadNamePrefix + threadCount.incrementAndGet());
+
+        thread.setDaemon(true);
+
+        return thread;
+    }
+
+
+    /**
+     * Start a retrieval.
+     *
+     * @param retrieval retrieval to run
+     * @param <T> type of the result
+     * @return future for the result of the retrieval
+     */
+    static <T> Future<T> submit(Callable<T> retrieval)
+    {
+        if (Thread.currentThread() instanceof RetrievalThread)
+        {
+            FutureTask<T> inlineRetrieval = new FutureTask<>(retrieval);
+
+            inlineRetrieval.run();
+            return inlineRetrieval;
+        }
+
+        return executor.submit(retrieval);
+    }
+
+
+    /**
+     * Wait for a retrieval to complete and return its result.  The exceptions thrown by the handlers are
+     * passed back to the caller unchanged.
+     *
+     * @param retrieval future for the retrieval
+     * @param retrievalName description of the retrieval for error messages
+     * @param serviceName calling service
+     * @param methodName calling method
+     * @param <T> type of the result
+     * @return result of the retrieval
+     *
+     * @throws InvalidParameterException  the parameters are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    static <T> T getResult(Future<T> retrieval,
+                           String    retrievalName,
+                           String    serviceName,
+                           String    methodName) throws InvalidParameterException,
+                                                        PropertyServerException,
+                                                        UserNotAuthorizedException
+    {
+        Throwable error;
+
+        try
+        {
+            return retrieval.get();
+        }
+        catch (ExecutionException executionError)
+        {
+            error = executionError.getCause();
+
+            if (error instanceof InvalidParameterException)
+            {
+                throw (InvalidParameterException) error;
+            }
+            else if (error instanceof PropertyServerException)
+            {
+                throw (PropertyServerException) error;
+            }
+            else if (error instanceof UserNotAuthorizedException)
+            {
+                throw (UserNotAuthorizedException) error;
+            }
+            else if (error == null)
+            {
+                error = executionError;
+            }
+        }
+        catch (InterruptedException interruptedError)
+        {
+            Thread.currentThread().interrupt();
+            retrieval.cancel(true);
+            error = interruptedError;
+        }
+
+        throw new PropertyServerException(OMAGOCFErrorCode.RETRIEVAL_FAILED.getMessageDefinition(methodName,
+                                                                                                 serviceName,
+                                                                                                 retrievalName,
+                                                                                                 error.getClass().getName(),
+                                                                                                 error.getMessage()),
+                                          ParallelRetrievalExecutor.class.getName(),
+                                          methodName,
+                                          error);
+    }
+
+
+    /**
+     * RetrievalThread identifies the threads of the pool.
+     */
+    private static class RetrievalThread extends Thread
+    {
+        /**
+         * Create the thread.
+         *
+         * @param retrievals work for the thread
+         * @param threadName name of the thread
+         */
+        RetrievalThread(Runnable retrievals, String threadName)
+        {
+            super(retrievals, threadName);
+        }
+    }
+}
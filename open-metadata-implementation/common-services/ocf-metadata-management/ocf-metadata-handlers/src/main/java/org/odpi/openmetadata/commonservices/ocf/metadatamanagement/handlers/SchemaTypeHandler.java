@@ -21,6 +21,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Future;
 
 /**
  * SchemaTypeHandler manages SchemaType objects.  It runs server-side in
@@ -564,6 +565,40 @@ public class SchemaTypeHandler
     }
 
 
+    /**
+     * Return the type of a schema attribute.
+     *
+     * @param userId calling user
+     * @param schemaAttributeEntity the schema attribute entity
+     * @param methodName calling method
+     *
+     * @return schemaType object or null
+     *
+     * @throws InvalidParameterException  the schemaType bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    private SchemaType getAttributeType(String       userId,
+                                        EntityDetail schemaAttributeEntity,
+                                        String       methodName) throws InvalidParameterException,
+                                                                         PropertyServerException,
+                                                                         UserNotAuthorizedException
+    {
+        EntityDetail  attributeTypeEntity = repositoryHandler.getEntityForRelationshipType(userId,
+                                                                                           schemaAttributeEntity.getGUID(),
+                                                                                           SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_NAME,
+                                                                                           SchemaElementMapper.ATTRIBUTE_TO_TYPE_RELATIONSHIP_TYPE_GUID,
+                                                                                           SchemaElementMapper.ATTRIBUTE_TO_TYPE_RELATIONSHIP_TYPE_NAME,
+                                                                                           methodName);
+        if (attributeTypeEntity != null)
+        {
+            return this.getSchemaTypeForAttribute(userId, attributeTypeEntity, methodName);
+        }
+
+        return null;
+    }
+
+
     /**
      * Returns a list of schema attributes for a schema type.
      *
@@ -586,7 +621,8 @@ public class SchemaTypeHandler
                                                                                 PropertyServerException,
                                                                                 UserNotAuthorizedException
     {
-        final String guidParameterName      = "schemaTypeGUID";
+        final String guidParameterName          = "schemaTypeGUID";
+        final String attributeTypeRetrievalName = "type of schema attribute ";
 
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateGUID(schemaTypeGUID, guidParameterName, methodName);
@@ -604,21 +640,33 @@ public class SchemaTypeHandler
 
         if (entities != null)
         {
+            /*
+             * The type of each attribute is retrieved independently of the others so the retrievals
+             * are run in parallel.
+             */
+            List<EntityDetail>       schemaAttributeEntities = new ArrayList<>();
+            List<Future<SchemaType>> attributeTypeRetrievals = new ArrayList<>();
+
             for (EntityDetail schemaAttributeEntity : entities)
             {
                 if (schemaAttributeEntity != null)
                 {
-                    EntityDetail  attributeTypeEntity = repositoryHandler.getEntityForRelationshipType(userId,
-                                                                                                       schemaAttributeEntity.getGUID(),
-                                                                                                       SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_NAME,
-                                                                                                       SchemaElementMapper.ATTRIBUTE_TO_TYPE_RELATIONSHIP_TYPE_GUID,
-                                                                                                       SchemaElementMapper.ATTRIBUTE_TO_TYPE_RELATIONSHIP_TYPE_NAME,
-                                                                                                       methodName);
-                    SchemaType   attributeType = null;
-                    if (attributeTypeEntity != null)
-                    {
-                        attributeType = this.getSchemaTypeForAttribute(userId, attributeTypeEntity, methodName);
-                    }
+                    schemaAttributeEntities.add(schemaAttributeEntity);
+                    attributeTypeRetrievals.add(ParallelRetrievalExecutor.submit(() -> this.getAttributeType(userId,
+                                                                                                             schemaAttributeEntity,
+                                                                                                             methodName)));
+                }
+            }
+
+            try
+            {
+                for (int i = 0; i < schemaAttributeEntities.size(); i++)
+                {
+                    EntityDetail schemaAttributeEntity = schemaAttributeEntities.get(i);
+                    SchemaType   attributeType         = ParallelRetrievalExecutor.getResult(attributeTypeRetrievals.get(i),
+                                                                                             attributeTypeRetrievalName + schemaAttributeEntity.getGUID(),
+                                                                                             serviceName,
+                                                                                             methodName);
 
                     SchemaAttributeConverter converter = new SchemaAttributeConverter(schemaAttributeEntity,
                                                                                       attributeType,
@@ -629,6 +677,13 @@ public class SchemaTypeHandler
                     results.add(converter.getBean());
                 }
             }
+            finally
+            {
+                for (Future<SchemaType> attributeTypeRetrieval : attributeTypeRetrievals)
+                {
+                    attributeTypeRetrieval.cancel(true);
+                }
+            }
         }
 
         if (results.isEmpty())
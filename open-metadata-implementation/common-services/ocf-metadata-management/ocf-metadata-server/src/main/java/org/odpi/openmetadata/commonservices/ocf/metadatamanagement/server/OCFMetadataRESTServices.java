@@ -247,37 +247,28 @@ public class OCFMetadataRESTServices
             AssetHandler assetHandler = instanceHandler.getAssetHandler(userId, serverName, methodName);
             auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
 
-            if (connectionGUID != null)
-            {
-                response.setAsset(assetHandler.getValidatedVisibleAsset(userId,
-                                                                        supportedZones,
-                                                                        assetGUID,
-                                                                        connectionGUID,
-                                                                        instanceHandler.getServiceName(serviceURLName),
-                                                                        methodName));
-            }
-            else
-            {
-                response.setAsset(assetHandler.getValidatedVisibleAsset(userId,
-                                                                        supportedZones,
-                                                                        assetGUID,
-                                                                        instanceHandler.getServiceName(serviceURLName),
-                                                                        methodName));
-            }
-            response.setCertificationCount(assetHandler.getCertificationCount(userId, assetGUID, methodName));
-            response.setCommentCount(assetHandler.getCommentCount(userId, assetGUID, methodName));
-            response.setConnectionCount(assetHandler.getConnectionCount(userId, assetGUID, methodName));
-            response.setExternalIdentifierCount(assetHandler.getExternalIdentifierCount(userId, assetGUID, methodName));
-            response.setExternalReferencesCount(assetHandler.getExternalReferencesCount(userId, assetGUID, methodName));
-            response.setInformalTagCount(assetHandler.getInformalTagCount(userId, assetGUID, methodName));
-            response.setLicenseCount(assetHandler.getLicenseCount(userId, assetGUID, methodName));
-            response.setLikeCount(assetHandler.getLikeCount(userId, assetGUID, methodName));
-            response.setKnownLocationsCount(assetHandler.getKnownLocationsCount(userId, assetGUID, methodName));
-            response.setNoteLogsCount(assetHandler.getNoteLogsCount(userId, assetGUID, methodName));
-            response.setRatingsCount(assetHandler.getRatingsCount(userId, assetGUID, methodName));
-            response.setRelatedAssetCount(assetHandler.getRelatedAssetCount(userId, assetGUID, methodName));
-            response.setRelatedMediaReferenceCount(assetHandler.getRelatedMediaReferenceCount(userId, assetGUID, methodName));
-            response.setSchemaType(assetHandler.getSchemaType(userId, assetGUID, methodName));
+            AssetSummary assetSummary = assetHandler.getAssetSummary(userId,
+                                                                     supportedZones,
+                                                                     assetGUID,
+                                                                     connectionGUID,
+                                                                     instanceHandler.getServiceName(serviceURLName),
+                                                                     methodName);
+
+            response.setAsset(assetSummary.getAsset());
+            response.setCertificationCount(assetSummary.getCertificationCount());
+            response.setCommentCount(assetSummary.getCommentCount());
+            response.setConnectionCount(assetSummary.getConnectionCount());
+            response.setExternalIdentifierCount(assetSummary.getExternalIdentifierCount());
+            response.setExternalReferencesCount(assetSummary.getExternalReferencesCount());
+            response.setInformalTagCount(assetSummary.getInformalTagCount());
+            response.setLicenseCount(assetSummary.getLicenseCount());
+            response.setLikeCount(assetSummary.getLikeCount());
+            response.setKnownLocationsCount(assetSummary.getKnownLocationsCount());
+            response.setNoteLogsCount(assetSummary.getNoteLogsCount());
+            response.setRatingsCount(assetSummary.getRatingsCount());
+            response.setRelatedAssetCount(assetSummary.getRelatedAssetCount());
+            response.setRelatedMediaReferenceCount(assetSummary.getRelatedMediaReferenceCount());
+            response.setSchemaType(assetSummary.getSchemaType());
         }
         catch (InvalidParameterException error)
         {
@@ -0,0 +1,985 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RepositoryCache holds the results of the most recent reads made through the RepositoryHandler for a single
+ * service in a server.  It is optional and is bounded both by the number of results it holds (the least recently
+ * used results are evicted first) and by the time each result is allowed to live.  The results are held for
+ * each user because the repositories may return different results to different users.
+ *
+ * Results are removed from the cache when the RepositoryHandler updates the instances they are built from,
+ * and when the OMRS instance events that describe a change to these instances are received
+ * (see RepositoryCacheEventListener).
+ *
+ * The results are spread over a number of segments, each with its own lock and its own share of the maximum
+ * number of results, so that reads for different results do not wait for one another.  Every invalidation
+ * moves the cache on to a new generation.  A caller captures the generation before it reads from the
+ * repositories and passes it with the result; the result is not saved if an invalidation happened
+ * in between, since it may have been read before the change.
+ */
+public class RepositoryCache
+{
+    private static final int MAX_SEGMENTS        = 16;
+    private static final int MIN_SEGMENT_ENTRIES = 64;
+
+    private int            maxEntries;
+    private long           timeToLive;
+    private CacheSegment[] segments;
+    private AtomicLong     generation = new AtomicLong(0);
+
+
+    /**
+     * Create the cache.
+     *
+     * @param maxEntries maximum number of results to hold
+     * @param timeToLive number of milliseconds that a result can be returned from the cache
+     */
+    public RepositoryCache(int  maxEntries,
+                           long timeToLive)
+    {
+        this.maxEntries = maxEntries;
+        this.timeToLive = timeToLive;
+
+        int segmentCount = 1;
+
+        while ((segmentCount < MAX_SEGMENTS) && (maxEntries / (segmentCount * 2) >= MIN_SEGMENT_ENTRIES))
+        {
+            segmentCount = segmentCount * 2;
+        }
+
+        this.segments = new CacheSegment[segmentCount];
+
+        for (int i = 0; i < segmentCount; i++)
+        {
+            segments[i] = new CacheSegment((maxEntries + segmentCount - 1) / segmentCount, timeToLive);
+        }
+    }
+
+
+    /**
+     * Return the current generation of the cache.  This must be called before the repositories are read
+     * and the value passed to the put method that saves the result.
+     *
+     * @return generation
+     */
+    public long getGeneration()
+    {
+        return generation.get();
+    }
+
+
+    /**
+     * Return the entity if it is cached for this user.
+     *
+     * @param userId calling user
+     * @param guid unique identifier of the entity
+     * @return copy of the cached entity or null if it is not cached
+     */
+    public EntityDetail getEntity(String userId,
+                                  String guid)
+    {
+        Object cachedValue = this.getValue(new CacheKey(CacheKeyType.ENTITY, userId, guid, null, null, 0, 0));
+
+        if (cachedValue == null)
+        {
+            return null;
+        }
+
+        return new EntityDetail((EntityDetail)cachedValue);
+    }
+
+
+    /**
+     * Save the entity retrieved for this user.
+     *
+     * @param userId calling user
+     * @param entity retrieved entity
+     * @param readGeneration generation of the cache before the entity was retrieved
+     */
+    public void putEntity(String       userId,
+                          EntityDetail entity,
+                          long         readGeneration)
+    {
+        if ((entity != null) && (entity.getGUID() != null))
+        {
+            Set<String> guids = new HashSet<>();
+
+            guids.add(entity.getGUID());
+
+            this.putValue(new CacheKey(CacheKeyType.ENTITY, userId, entity.getGUID(), null, null, 0, 0),
+                          new EntityDetail(entity),
+                          guids,
+                          readGeneration);
+        }
+    }
+
+
+    /**
+     * Return the entity that was found for the unique name if it is cached for this user.
+     *
+     * @param userId calling user
+     * @param entityTypeGUID type of entity searched for
+     * @param nameProperties name properties searched for
+     * @return copy of the cached entity or null if it is not cached
+     */
+    public EntityDetail getUniqueEntity(String             userId,
+                                        String             entityTypeGUID,
+                                        InstanceProperties nameProperties)
+    {
+        Object cachedValue = this.getValue(new CacheKey(CacheKeyType.UNIQUE_NAME, userId, null, entityTypeGUID, nameProperties, 0, 0));
+
+        if (cachedValue == null)
+        {
+            return null;
+        }
+
+        return new EntityDetail((EntityDetail)cachedValue);
+    }
+
+
+    /**
+     * Save the entity found for the unique name.  The result is removed when the entity changes or a new
+     * entity of the requested type (or one of its subtypes) is reported.  A name that is not found is not
+     * cached because the caller is likely to create the entity next.
+     *
+     * @param userId calling user
+     * @param entityTypeGUID type of entity searched for
+     * @param nameProperties name properties searched for
+     * @param entity retrieved entity
+     * @param readGeneration generation of the cache before the entity was retrieved
+     */
+    public void putUniqueEntity(String             userId,
+                                String             entityTypeGUID,
+                                InstanceProperties nameProperties,
+                                EntityDetail       entity,
+                                long               readGeneration)
+    {
+        if ((entityTypeGUID != null) && (nameProperties != null) && (entity != null) && (entity.getGUID() != null))
+        {
+            Set<String> guids = new HashSet<>();
+
+            guids.add(entity.getGUID());
+
+            this.putValue(new CacheKey(CacheKeyType.UNIQUE_NAME, userId, null, entityTypeGUID, new InstanceProperties(nameProperties), 0, 0),
+                          new EntityDetail(entity),
+                          guids,
+                          readGeneration);
+        }
+    }
+
+
+    /**
+     * Return the entities linked to the anchor entity by the relationship type if they are cached for this user.
+     *
+     * @param userId calling user
+     * @param anchorEntityGUID starting entity
+     * @param relationshipTypeGUID type of relationship followed
+     * @param startingFrom position of the page in the results
+     * @param pageSize size of the page
+     * @return copy of the cached entities (empty if no entities were found) or null if they are not cached
+     */
+    public List<EntityDetail> getRelatedEntities(String userId,
+                                                 String anchorEntityGUID,
+                                                 String relationshipTypeGUID,
+                                                 int    startingFrom,
+                                                 int    pageSize)
+    {
+        Object cachedValue = this.getValue(new CacheKey(CacheKeyType.RELATED_ENTITIES,
+                                                        userId,
+                                                        anchorEntityGUID,
+                                                        relationshipTypeGUID,
+                                                        null,
+                                                        startingFrom,
+                                                        pageSize));
+
+        if (cachedValue == null)
+        {
+            return null;
+        }
+
+        return copyEntities(cachedValue);
+    }
+
+
+    /**
+     * Save the entities linked to the anchor entity by the relationship type.  The result is removed when the
+     * anchor entity, one of the linked entities or one of the anchor entity's relationships changes.
+     *
+     * @param userId calling user
+     * @param anchorEntityGUID starting entity
+     * @param relationshipTypeGUID type of relationship followed
+     * @param startingFrom position of the page in the results
+     * @param pageSize size of the page
+     * @param relatedEntities retrieved entities
+     * @param readGeneration generation of the cache before the entities were retrieved
+     */
+    public void putRelatedEntities(String             userId,
+                                   String             anchorEntityGUID,
+                                   String             relationshipTypeGUID,
+                                   int                startingFrom,
+                                   int                pageSize,
+                                   List<EntityDetail> relatedEntities,
+                                   long               readGeneration)
+    {
+        if ((anchorEntityGUID != null) && (relatedEntities != null))
+        {
+            Set<String> guids = new HashSet<>();
+
+            guids.add(anchorEntityGUID);
+
+            for (EntityDetail relatedEntity : relatedEntities)
+            {
+                if ((relatedEntity == null) || (relatedEntity.getGUID() == null))
+                {
+                    return;
+                }
+
+                guids.add(relatedEntity.getGUID());
+            }
+
+            this.putValue(new CacheKey(CacheKeyType.RELATED_ENTITIES,
+                                       userId,
+                                       anchorEntityGUID,
+                                       relationshipTypeGUID,
+                                       null,
+                                       startingFrom,
+                                       pageSize),
+                          copyEntities(relatedEntities),
+                          guids,
+                          readGeneration);
+        }
+    }
+
+
+    /**
+     * Remove the results that are built from the entity.  If the type of the entity is supplied,
+     * the unique name results for this type, and its super types, are also removed since the entity
+     * may now have one of the names.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @param entityType type of the entity or null
+     */
+    public void invalidateEntity(String       entityGUID,
+                                 InstanceType entityType)
+    {
+        List<String> typeGUIDs = new ArrayList<>();
+
+        if (entityType != null)
+        {
+            typeGUIDs.add(entityType.getTypeDefGUID());
+
+            List<TypeDefLink> superTypes = entityType.getTypeDefSuperTypes();
+
+            if (superTypes != null)
+            {
+                for (TypeDefLink superType : superTypes)
+                {
+                    if (superType != null)
+                    {
+                        typeGUIDs.add(superType.getGUID());
+                    }
+                }
+            }
+        }
+
+        generation.incrementAndGet();
+
+        for (CacheSegment segment : segments)
+        {
+            synchronized (segment)
+            {
+                if (entityGUID != null)
+                {
+                    segment.removeKeys(segment.keysByGUID.get(entityGUID));
+                }
+
+                for (String typeGUID : typeGUIDs)
+                {
+                    segment.removeKeys(segment.keysByTypeGUID.get(typeGUID));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Remove the results that are built from the entities at either end of the relationship.  If the relationship
+     * is not known, all of the related entity results are removed.
+     *
+     * @param relationship changed relationship or null
+     */
+    public void invalidateRelationship(Relationship relationship)
+    {
+        if (relationship == null)
+        {
+            generation.incrementAndGet();
+
+            for (CacheSegment segment : segments)
+            {
+                synchronized (segment)
+                {
+                    List<CacheKey> relatedEntityKeys = new ArrayList<>();
+
+                    for (CacheKey key : segment.entries.keySet())
+                    {
+                        if (key.keyType == CacheKeyType.RELATED_ENTITIES)
+                        {
+                            relatedEntityKeys.add(key);
+                        }
+                    }
+
+                    segment.removeKeys(relatedEntityKeys);
+                }
+            }
+        }
+        else
+        {
+            this.invalidateRelationshipEnds(getGUID(relationship.getEntityOneProxy()),
+                                            getGUID(relationship.getEntityTwoProxy()));
+        }
+    }
+
+
+    /**
+     * Remove the results that are built from the entities at either end of a relationship.
+     *
+     * @param end1GUID unique identifier of the entity at end 1
+     * @param end2GUID unique identifier of the entity at end 2
+     */
+    public void invalidateRelationshipEnds(String end1GUID,
+                                           String end2GUID)
+    {
+        generation.incrementAndGet();
+
+        for (CacheSegment segment : segments)
+        {
+            synchronized (segment)
+            {
+                if (end1GUID != null)
+                {
+                    segment.removeKeys(segment.keysByGUID.get(end1GUID));
+                }
+
+                if (end2GUID != null)
+                {
+                    segment.removeKeys(segment.keysByGUID.get(end2GUID));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Remove all of the results from the cache.
+     */
+    public void clear()
+    {
+        generation.incrementAndGet();
+
+        for (CacheSegment segment : segments)
+        {
+            synchronized (segment)
+            {
+                segment.invalidationCount = segment.invalidationCount + segment.entries.size();
+
+                segment.entries.clear();
+                segment.keysByGUID.clear();
+                segment.keysByTypeGUID.clear();
+            }
+        }
+    }
+
+
+    /**
+     * Return the maximum number of results that the cache holds.
+     *
+     * @return count
+     */
+    public int getMaxEntries()
+    {
+        return maxEntries;
+    }
+
+
+    /**
+     * Return the number of milliseconds that a result can be returned from the cache.
+     *
+     * @return milliseconds
+     */
+    public long getTimeToLive()
+    {
+        return timeToLive;
+    }
+
+
+    /**
+     * Return the number of results in the cache.
+     *
+     * @return count
+     */
+    public int getSize()
+    {
+        int size = 0;
+
+        for (CacheSegment segment : segments)
+        {
+            synchronized (segment)
+            {
+                size = size + segment.entries.size();
+            }
+        }
+
+        return size;
+    }
+
+
+    /**
+     * Return the number of requests that were satisfied by the cache.
+     *
+     * @return count
+     */
+    public long getHitCount()
+    {
+        long count = 0;
+
+        for (CacheSegment segment : segments)
+        {
+            synchronized (segment)
+            {
+                count = count + segment.hitCount;
+            }
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Return the number of requests that had to be passed to the repositories.
+     *
+     * @return count
+     */
+    public long getMissCount()
+    {
+        long count = 0;
+
+        for (CacheSegment segment : segments)
+        {
+            synchronized (segment)
+            {
+                count = count + segment.missCount;
+            }
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Return the percentage of requests that were satisfied by the cache.
+     *
+     * @return percentage (0 if there have been no requests)
+     */
+    public double getHitRate()
+    {
+        long hitCount     = this.getHitCount();
+        long requestCount = hitCount + this.getMissCount();
+
+        if (requestCount == 0)
+        {
+            return 0;
+        }
+
+        return (hitCount * 100.0) / requestCount;
+    }
+
+
+    /**
+     * Return the number of results removed to make space for new results.
+     *
+     * @return count
+     */
+    public long getEvictionCount()
+    {
+        long count = 0;
+
+        for (CacheSegment segment : segments)
+        {
+            synchronized (segment)
+            {
+                count = count + segment.evictionCount;
+            }
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Return the number of results removed because their time to live was exceeded.
+     *
+     * @return count
+     */
+    public long getExpiryCount()
+    {
+        long count = 0;
+
+        for (CacheSegment segment : segments)
+        {
+            synchronized (segment)
+            {
+                count = count + segment.expiryCount;
+            }
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Return the number of results removed because the instances they are built from changed.
+     *
+     * @return count
+     */
+    public long getInvalidationCount()
+    {
+        long count = 0;
+
+        for (CacheSegment segment : segments)
+        {
+            synchronized (segment)
+            {
+                count = count + segment.invalidationCount;
+            }
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Return the segment that holds a result.
+     *
+     * @param key key of the result
+     * @return segment
+     */
+    private CacheSegment getSegment(CacheKey key)
+    {
+        int hash = key.hashCode();
+
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+
+    /**
+     * Return the value of a result that has not expired.
+     *
+     * @param key key of the result
+     * @return cached value or null
+     */
+    private Object getValue(CacheKey key)
+    {
+        CacheSegment segment = this.getSegment(key);
+
+        synchronized (segment)
+        {
+            return segment.getValue(key);
+        }
+    }
+
+
+    /**
+     * Add a result to the cache unless the cache has been invalidated since the result was read.
+     * The generation is checked while the segment is locked.  An invalidation that starts after the check
+     * has to wait for the lock, and so finds and removes the result.
+     *
+     * @param key key of the result
+     * @param value value of the result
+     * @param guids unique identifiers of the instances that the result is built from
+     * @param readGeneration generation of the cache before the result was read
+     */
+    private void putValue(CacheKey    key,
+                          Object      value,
+                          Set<String> guids,
+                          long        readGeneration)
+    {
+        CacheSegment segment = this.getSegment(key);
+
+        synchronized (segment)
+        {
+            if (generation.get() == readGeneration)
+            {
+                segment.putValue(key, value, guids);
+            }
+        }
+    }
+
+
+    /**
+     * Return the unique identifier of the entity at one end of a relationship.
+     *
+     * @param entityProxy end of the relationship
+     * @return unique identifier or null
+     */
+    private static String getGUID(EntityProxy entityProxy)
+    {
+        if (entityProxy == null)
+        {
+            return null;
+        }
+
+        return entityProxy.getGUID();
+    }
+
+
+    /**
+     * Take a copy of a list of entities so the callers can not change the cached values.
+     *
+     * @param entities list of entities
+     * @return new list of new entities
+     */
+    @SuppressWarnings("unchecked")
+    private static List<EntityDetail> copyEntities(Object entities)
+    {
+        List<EntityDetail> copies = new ArrayList<>();
+
+        for (EntityDetail entity : (List<EntityDetail>)entities)
+        {
+            copies.add(new EntityDetail(entity));
+        }
+
+        return copies;
+    }
+
+
+    /**
+     * The different types of result held in the cache.
+     */
+    private enum CacheKeyType
+    {
+        ENTITY,
+        UNIQUE_NAME,
+        RELATED_ENTITIES
+    }
+
+
+    /**
+     * CacheKey identifies a result in the cache.
+     */
+    private static class CacheKey
+    {
+        private CacheKeyType       keyType;
+        private String             userId;
+        private String             guid;
+        private String             typeGUID;
+        private InstanceProperties properties;
+        private int                startingFrom;
+        private int                pageSize;
+
+
+        /**
+         * Set up the key.
+         *
+         * @param keyType type of result
+         * @param userId calling user
+         * @param guid unique identifier of the entity or anchor entity
+         * @param typeGUID unique identifier of the entity type or relationship type
+         * @param properties name properties
+         * @param startingFrom position of the page in the results
+         * @param pageSize size of the page
+         */
+        CacheKey(CacheKeyType       keyType,
+                 String             userId,
+                 String             guid,
+                 String             typeGUID,
+                 InstanceProperties properties,
+                 int                startingFrom,
+                 int                pageSize)
+        {
+            this.keyType = keyType;
+            this.userId = userId;
+            this.guid = guid;
+            this.typeGUID = typeGUID;
+            this.properties = properties;
+            this.startingFrom = startingFrom;
+            this.pageSize = pageSize;
+        }
+
+
+        /**
+         * Compare the values of the supplied object with those stored in the current object.
+         *
+         * @param objectToCompare supplied object
+         * @return boolean result of comparison
+         */
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (objectToCompare == null || getClass() != objectToCompare.getClass())
+            {
+                return false;
+            }
+            CacheKey that = (CacheKey) objectToCompare;
+            return startingFrom == that.startingFrom &&
+                    pageSize == that.pageSize &&
+                    keyType == that.keyType &&
+                    Objects.equals(userId, that.userId) &&
+                    Objects.equals(guid, that.guid) &&
+                    Objects.equals(typeGUID, that.typeGUID) &&
+                    Objects.equals(properties, that.properties);
+        }
+
+
+        /**
+         * Return a hash code based on the values of this object.
+         *
+         * @return int hash code
+         */
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(keyType, userId, guid, typeGUID, properties, startingFrom, pageSize);
+        }
+    }
+
+
+    /**
+     * CacheSegment holds a share of the results in least recently used order together with the indexes
+     * used to find the results built from an instance.  All access is made while holding the segment's lock.
+     */
+    private static class CacheSegment
+    {
+        private int  maxEntries;
+        private long timeToLive;
+
+        private Map<CacheKey, CacheEntry>  entries        = new LinkedHashMap<>(16, 0.75f, true);
+        private Map<String, Set<CacheKey>> keysByGUID     = new HashMap<>();
+        private Map<String, Set<CacheKey>> keysByTypeGUID = new HashMap<>();
+
+        private long hitCount          = 0;
+        private long missCount         = 0;
+        private long evictionCount     = 0;
+        private long expiryCount       = 0;
+        private long invalidationCount = 0;
+
+
+        /**
+         * Set up the segment.
+         *
+         * @param maxEntries maximum number of results to hold in this segment
+         * @param timeToLive number of milliseconds that a result can be returned from the cache
+         */
+        CacheSegment(int  maxEntries,
+                     long timeToLive)
+        {
+            this.maxEntries = maxEntries;
+            this.timeToLive = timeToLive;
+        }
+
+
+        /**
+         * Return the value of a result that has not expired, maintaining the hit and miss counts.
+         *
+         * @param key key of the result
+         * @return cached value or null
+         */
+        Object getValue(CacheKey key)
+        {
+            CacheEntry entry = entries.get(key);
+
+            if (entry == null)
+            {
+                missCount ++;
+                return null;
+            }
+
+            if (entry.expiryTime < System.currentTimeMillis())
+            {
+                this.removeEntry(key);
+                expiryCount ++;
+                missCount ++;
+                return null;
+            }
+
+            hitCount ++;
+            return entry.value;
+        }
+
+
+        /**
+         * Add a result to the segment and evict the least recently used results if the segment is full.
+         *
+         * @param key key of the result
+         * @param value value of the result
+         * @param guids unique identifiers of the instances that the result is built from
+         */
+        void putValue(CacheKey    key,
+                      Object      value,
+                      Set<String> guids)
+        {
+            this.removeEntry(key);
+
+            entries.put(key, new CacheEntry(value, System.currentTimeMillis() + timeToLive, guids));
+
+            for (String guid : guids)
+            {
+                keysByGUID.computeIfAbsent(guid, newGUID -> new HashSet<>()).add(key);
+            }
+
+            if (key.keyType == CacheKeyType.UNIQUE_NAME)
+            {
+                keysByTypeGUID.computeIfAbsent(key.typeGUID, newTypeGUID -> new HashSet<>()).add(key);
+            }
+
+            Iterator<Map.Entry<CacheKey, CacheEntry>> leastRecentlyUsed = entries.entrySet().iterator();
+
+            while ((entries.size() > maxEntries) && (leastRecentlyUsed.hasNext()))
+            {
+                Map.Entry<CacheKey, CacheEntry> evictedEntry = leastRecentlyUsed.next();
+
+                leastRecentlyUsed.remove();
+                this.removeFromIndexes(evictedEntry.getKey(), evictedEntry.getValue());
+                evictionCount ++;
+            }
+        }
+
+
+        /**
+         * Remove a set of results because the instances they are built from have changed.
+         *
+         * @param keys keys of the results (may be null)
+         */
+        void removeKeys(Iterable<CacheKey> keys)
+        {
+            if (keys != null)
+            {
+                List<CacheKey> keysToRemove = new ArrayList<>();
+
+                for (CacheKey key : keys)
+                {
+                    keysToRemove.add(key);
+                }
+
+                for (CacheKey key : keysToRemove)
+                {
+                    if (this.removeEntry(key))
+                    {
+                        invalidationCount ++;
+                    }
+                }
+            }
+        }
+
+
+        /**
+         * Remove a result from the segment and its indexes.
+         *
+         * @param key key of the result
+         * @return whether the result was in the segment
+         */
+        private boolean removeEntry(CacheKey key)
+        {
+            CacheEntry entry = entries.remove(key);
+
+            if (entry != null)
+            {
+                this.removeFromIndexes(key, entry);
+                return true;
+            }
+
+            return false;
+        }
+
+
+        /**
+         * Remove a key from the indexes.
+         *
+         * @param key key of the result
+         * @param entry entry for the key
+         */
+        private void removeFromIndexes(CacheKey   key,
+                                       CacheEntry entry)
+        {
+            for (String guid : entry.guids)
+            {
+                Set<CacheKey> keys = keysByGUID.get(guid);
+
+                if (keys != null)
+                {
+                    keys.remove(key);
+
+                    if (keys.isEmpty())
+                    {
+                        keysByGUID.remove(guid);
+                    }
+                }
+            }
+
+            if (key.keyType == CacheKeyType.UNIQUE_NAME)
+            {
+                Set<CacheKey> keys = keysByTypeGUID.get(key.typeGUID);
+
+                if (keys != null)
+                {
+                    keys.remove(key);
+
+                    if (keys.isEmpty())
+                    {
+                        keysByTypeGUID.remove(key.typeGUID);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * CacheEntry holds a result and the information needed to remove it.
+     */
+    private static class CacheEntry
+    {
+        private Object      value;
+        private long        expiryTime;
+        private Set<String> guids;
+
+
+        /**
+         * Set up the entry.
+         *
+         * @param value cached result
+         * @param expiryTime time (in milliseconds) when the result is no longer valid
+         * @param guids unique identifiers of the instances the result is built from
+         */
+        CacheEntry(Object      value,
+                   long        expiryTime,
+                   Set<String> guids)
+        {
+            this.value = value;
+            this.expiryTime = expiryTime;
+            this.guids = guids;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+
+import java.util.List;
+
+/**
+ * RepositoryCacheEventListener receives the OMRS instance events from the enterprise OMRS topic and removes the
+ * results from the RepositoryCache that are built from the instances described in the events.
+ */
+public class RepositoryCacheEventListener extends OMRSTopicListenerBase
+{
+    private RepositoryCache repositoryCache;
+
+
+    /**
+     * Set up the listener.
+     *
+     * @param serviceName name of the service that owns the cache
+     * @param auditLog logging destination
+     * @param repositoryCache cache to maintain
+     */
+    public RepositoryCacheEventListener(String          serviceName,
+                                        AuditLog        auditLog,
+                                        RepositoryCache repositoryCache)
+    {
+        super(serviceName, auditLog);
+
+        this.repositoryCache = repositoryCache;
+    }
+
+
+    /**
+     * Remove the cached results built from the instances in the event.
+     *
+     * @param instanceEvent inbound event
+     */
+    @Override
+    public void processInstanceEvent(OMRSInstanceEvent instanceEvent)
+    {
+        if (instanceEvent == null)
+        {
+            return;
+        }
+
+        final String actionDescription = "processInstanceEvent";
+
+        try
+        {
+            OMRSInstanceEventType instanceEventType = instanceEvent.getInstanceEventType();
+
+            this.invalidateEntity(instanceEvent.getOriginalEntity());
+            this.invalidateEntity(instanceEvent.getEntity());
+
+            if (instanceEvent.getOriginalRelationship() != null)
+            {
+                repositoryCache.invalidateRelationship(instanceEvent.getOriginalRelationship());
+            }
+
+            if (instanceEvent.getRelationship() != null)
+            {
+                repositoryCache.invalidateRelationship(instanceEvent.getRelationship());
+            }
+
+            if ((instanceEvent.getEntity() == null) && (instanceEvent.getRelationship() == null))
+            {
+                if ((instanceEventType == OMRSInstanceEventType.PURGED_RELATIONSHIP_EVENT) ||
+                    (instanceEventType == OMRSInstanceEventType.DELETE_PURGED_RELATIONSHIP_EVENT))
+                {
+                    /*
+                     * The ends of the relationship are not known.
+                     */
+                    repositoryCache.invalidateRelationship(null);
+                }
+                else
+                {
+                    repositoryCache.invalidateEntity(instanceEvent.getInstanceGUID(), null);
+                }
+            }
+
+            if (instanceEvent.getOriginalInstanceGUID() != null)
+            {
+                repositoryCache.invalidateEntity(instanceEvent.getOriginalInstanceGUID(), null);
+            }
+
+            InstanceGraph instanceBatch = instanceEvent.getInstanceBatch();
+
+            if (instanceBatch != null)
+            {
+                List<EntityDetail> entities = instanceBatch.getEntities();
+
+                if (entities != null)
+                {
+                    for (EntityDetail entity : entities)
+                    {
+                        this.invalidateEntity(entity);
+                    }
+                }
+
+                List<Relationship> relationships = instanceBatch.getRelationships();
+
+                if (relationships != null)
+                {
+                    for (Relationship relationship : relationships)
+                    {
+                        if (relationship != null)
+                        {
+                            repositoryCache.invalidateRelationship(relationship);
+                        }
+                    }
+                }
+            }
+        }
+        catch (Throwable error)
+        {
+            /*
+             * The event is not understood so nothing in the cache can be trusted.
+             */
+            repositoryCache.clear();
+
+            if (auditLog != null)
+            {
+                auditLog.logException(actionDescription,
+                                      OMRSAuditCode.UNEXPECTED_EXCEPTION_FROM_SERVICE_LISTENER.getMessageDefinition(serviceName,
+                                                                                                                    error.getClass().getName(),
+                                                                                                                    error.getMessage()),
+                                      instanceEvent.toString(),
+                                      error);
+            }
+        }
+    }
+
+
+    /**
+     * Remove the cached results built from an entity.
+     *
+     * @param entity entity from the event (may be null)
+     */
+    private void invalidateEntity(EntityDetail entity)
+    {
+        if (entity != null)
+        {
+            repositoryCache.invalidateEntity(entity.getGUID(), entity.getType());
+        }
+    }
+}
@@ -26,6 +26,7 @@ public class RepositoryHandler
     private OMRSMetadataCollection metadataCollection;
     private int                    maxPageSize;
     private AuditLog               auditLog;
+    private RepositoryCache        repositoryCache = null;
 
     private static final Logger log = LoggerFactory.getLogger(RepositoryHandler.class);
 
@@ -50,6 +51,30 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Set up the cache for the results of the most common reads.  The cache is typically set up when
+     * the service is started, after the handlers are created.
+     *
+     * @param repositoryCache cache for retrieved entities (null for no caching)
+     */
+    public void setRepositoryCache(RepositoryCache repositoryCache)
+    {
+        this.repositoryCache = repositoryCache;
+    }
+
+
+    /**
+     * Return the cache for the results of the most common reads.  The cache maintains the statistics
+     * on its use.
+     *
+     * @return cache or null if results are not cached
+     */
+    public RepositoryCache getRepositoryCache()
+    {
+        return repositoryCache;
+    }
+
+
     /**
      * Validate that the supplied GUID is for a real entity and map exceptions if not
      *
@@ -550,6 +575,7 @@ public class RepositoryHandler
             EntityDetail newEntity = metadataCollection.updateEntityProperties(userId,
                                                                                entityGUID,
                                                                                properties);
+            this.invalidateCachedEntity(entityGUID);
 
             if (newEntity == null)
             {
@@ -596,6 +622,7 @@ public class RepositoryHandler
             EntityDetail newEntity = metadataCollection.updateEntityStatus(userId,
                                                                            entityGUID,
                                                                            instanceStatus);
+            this.invalidateCachedEntity(entityGUID);
 
             if (newEntity == null)
             {
@@ -643,6 +670,7 @@ public class RepositoryHandler
                                                                        entityGUID,
                                                                        classificationTypeName,
                                                                        properties);
+            this.invalidateCachedEntity(entityGUID);
 
             if (newEntity == null)
             {
@@ -691,6 +719,7 @@ public class RepositoryHandler
                                                                                    entityGUID,
                                                                                    classificationTypeName,
                                                                                    properties);
+            this.invalidateCachedEntity(entityGUID);
 
             if (newEntity == null)
             {
@@ -736,6 +765,7 @@ public class RepositoryHandler
             EntityDetail newEntity = metadataCollection.declassifyEntity(userId,
                                                                          entityGUID,
                                                                          classificationTypeName);
+            this.invalidateCachedEntity(entityGUID);
 
             if (newEntity == null)
             {
@@ -899,6 +929,7 @@ public class RepositoryHandler
         try
         {
             metadataCollection.deleteEntity(userId, entityTypeGUID, entityTypeName, obsoleteEntityGUID);
+            this.invalidateCachedEntity(obsoleteEntityGUID);
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException error)
         {
@@ -934,6 +965,7 @@ public class RepositoryHandler
         try
         {
             metadataCollection.purgeEntity(userId, entityTypeGUID, entityTypeName, obsoleteEntityGUID);
+            this.invalidateCachedEntity(obsoleteEntityGUID);
             auditLog.logMessage(methodName,
                                 RepositoryHandlerAuditCode.ENTITY_PURGED.getMessageDefinition(obsoleteEntityGUID,
                                                                                               entityTypeName,
@@ -1012,6 +1044,7 @@ public class RepositoryHandler
                                                 attachedEntityTypeGUID,
                                                 attachedEntityTypeName,
                                                 attachedEntityGUID);
+                this.invalidateCachedEntity(attachedEntityGUID);
             }
             catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException error)
             {
@@ -1138,7 +1171,26 @@ public class RepositoryHandler
                                                              String                 methodName) throws UserNotAuthorizedException,
                                                                                                        PropertyServerException
     {
-        List<EntityDetail> results = new ArrayList<>();
+        List<EntityDetail> results         = null;
+        long               cacheGeneration = 0;
+
+        if (repositoryCache != null)
+        {
+            cacheGeneration = repositoryCache.getGeneration();
+            results = repositoryCache.getRelatedEntities(userId, anchorEntityGUID, relationshipTypeGUID, startingFrom, pageSize);
+        }
+
+        if (results != null)
+        {
+            if (results.isEmpty())
+            {
+                return null;
+            }
+
+            return results;
+        }
+
+        results = new ArrayList<>();
 
         try
         {
@@ -1173,6 +1225,11 @@ public class RepositoryHandler
                                       " found for " + anchorEntityTypeName + " entity " + anchorEntityGUID);
                 }
             }
+
+            if (repositoryCache != null)
+            {
+                repositoryCache.putRelatedEntities(userId, anchorEntityGUID, relationshipTypeGUID, startingFrom, pageSize, results, cacheGeneration);
+            }
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException  error)
         {
@@ -1723,7 +1780,24 @@ public class RepositoryHandler
     {
         try
         {
-            EntityDetail entity = metadataCollection.getEntityDetail(userId, guid);
+            EntityDetail entity          = null;
+            long         cacheGeneration = 0;
+
+            if (repositoryCache != null)
+            {
+                cacheGeneration = repositoryCache.getGeneration();
+                entity = repositoryCache.getEntity(userId, guid);
+            }
+
+            if (entity == null)
+            {
+                entity = metadataCollection.getEntityDetail(userId, guid);
+
+                if (repositoryCache != null)
+                {
+                    repositoryCache.putEntity(userId, entity, cacheGeneration);
+                }
+            }
 
             errorHandler.validateInstanceType(userId, entity, guidParameterName, entityTypeName, methodName);
 
@@ -1971,6 +2045,20 @@ public class RepositoryHandler
     {
         try
         {
+            long cacheGeneration = 0;
+
+            if (repositoryCache != null)
+            {
+                cacheGeneration = repositoryCache.getGeneration();
+
+                EntityDetail cachedEntity = repositoryCache.getUniqueEntity(userId, entityTypeGUID, nameProperties);
+
+                if (cachedEntity != null)
+                {
+                    return cachedEntity;
+                }
+            }
+
             List<EntityDetail> returnedEntities = metadataCollection.findEntitiesByProperty(userId,
                                                                                             entityTypeGUID,
                                                                                             nameProperties,
@@ -1989,6 +2077,11 @@ public class RepositoryHandler
             }
             else if (returnedEntities.size() == 1)
             {
+                if (repositoryCache != null)
+                {
+                    repositoryCache.putUniqueEntity(userId, entityTypeGUID, nameProperties, returnedEntities.get(0), cacheGeneration);
+                }
+
                 return returnedEntities.get(0);
             }
             else
@@ -2269,6 +2362,67 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return all of the relationships connected to the anchor entity, whatever their type.  This is used when
+     * several types of relationship are needed.  It replaces a call to the repository for each type with
+     * a call for each page of relationships.
+     *
+     * @param userId  user making the request
+     * @param anchorEntityGUID  starting entity's GUID
+     * @param anchorEntityTypeName  starting entity's type name
+     * @param methodName  name of calling method
+     *
+     * @return retrieved relationships or null
+     *
+     * @throws UserNotAuthorizedException security access problem
+     * @throws PropertyServerException problem accessing the property server
+     */
+    public List<Relationship> getAllRelationshipsForEntity(String                 userId,
+                                                           String                 anchorEntityGUID,
+                                                           String                 anchorEntityTypeName,
+                                                           String                 methodName) throws UserNotAuthorizedException,
+                                                                                                     PropertyServerException
+    {
+        final String allRelationshipTypesName = "all";
+
+        List<Relationship> results      = new ArrayList<>();
+        int                startingFrom = 0;
+
+        while (true)
+        {
+            List<Relationship> relationships = this.getRelationshipsByType(userId,
+                                                                           anchorEntityGUID,
+                                                                           anchorEntityTypeName,
+                                                                           null,
+                                                                           allRelationshipTypesName,
+                                                                           startingFrom,
+                                                                           maxPageSize,
+                                                                           methodName);
+
+            if (relationships == null)
+            {
+                break;
+            }
+
+            results.addAll(relationships);
+
+            if ((maxPageSize == 0) || (relationships.size() < maxPageSize))
+            {
+                break;
+            }
+
+            startingFrom = startingFrom + maxPageSize;
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
     /**
      * Return the list of relationships of the requested type connected to the anchor entity.
      *
@@ -2482,6 +2636,7 @@ public class RepositoryHandler
                                                end1GUID,
                                                end2GUID,
                                                InstanceStatus.ACTIVE);
+            this.invalidateCachedRelationship(end1GUID, end2GUID);
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException  error)
         {
@@ -2580,6 +2735,7 @@ public class RepositoryHandler
                                                        end1GUID,
                                                        end2GUID,
                                                        InstanceStatus.ACTIVE);
+            this.invalidateCachedRelationship(end1GUID, end2GUID);
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException  error)
         {
@@ -2613,10 +2769,15 @@ public class RepositoryHandler
     {
         try
         {
-            metadataCollection.deleteRelationship(userId,
-                                                  relationshipTypeGUID,
-                                                  relationshipTypeName,
-                                                  relationshipGUID);
+            Relationship obsoleteRelationship = metadataCollection.deleteRelationship(userId,
+                                                                                      relationshipTypeGUID,
+                                                                                      relationshipTypeName,
+                                                                                      relationshipGUID);
+
+            if (repositoryCache != null)
+            {
+                repositoryCache.invalidateRelationship(obsoleteRelationship);
+            }
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException  error)
         {
@@ -2659,6 +2820,14 @@ public class RepositoryHandler
                                                  relationshipTypeName,
                                                  relationshipGUID);
 
+            if (repositoryCache != null)
+            {
+                /*
+                 * The ends of the purged relationship are not known.
+                 */
+                repositoryCache.invalidateRelationship(null);
+            }
+
             auditLog.logMessage(methodName,
                                 RepositoryHandlerAuditCode.RELATIONSHIP_PURGED.getMessageDefinition(relationshipGUID,
                                                                                                     relationshipTypeName,
@@ -2985,6 +3154,36 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Remove the cached results built from an entity that this handler has changed.
+     *
+     * @param entityGUID unique identifier of the changed entity
+     */
+    private void invalidateCachedEntity(String entityGUID)
+    {
+        if (repositoryCache != null)
+        {
+            repositoryCache.invalidateEntity(entityGUID, null);
+        }
+    }
+
+
+    /**
+     * Remove the cached results built from the entities at either end of a relationship that this handler has changed.
+     *
+     * @param end1GUID unique identifier of the entity at end 1
+     * @param end2GUID unique identifier of the entity at end 2
+     */
+    private void invalidateCachedRelationship(String end1GUID,
+                                              String end2GUID)
+    {
+        if (repositoryCache != null)
+        {
+            repositoryCache.invalidateRelationshipEnds(end1GUID, end2GUID);
+        }
+    }
+
+
     /**
      * Return the metadata collection for the repository.  This is used by services that need function that is not
      * supported by this class.
@@ -32,7 +32,30 @@ public enum RepositoryHandlerAuditCode implements AuditLogMessageSet
                   OMRSAuditLogRecordSeverity.INFO,
                   "The Open Metadata Service has purged relationship {0} of type {1} ({2}) during method {3} because its home repository {4} does not support soft-delete",
                   "Repository where this relationship is mastered does not support the soft-delete function and so a purge operation was performed. This means that the delete can not be undone.",
-                  "No specific action is required.  This message is to highlight that the relationship can no longer be restored.  If this behavior is unacceptable, then it is possible to re-home the relationship to a repository that supports soft-delete.")
+                  "No specific action is required.  This message is to highlight that the relationship can no longer be restored.  If this behavior is unacceptable, then it is possible to re-home the relationship to a repository that supports soft-delete."),
+
+    REPOSITORY_CACHE_ENABLED("OMAG-REPOSITORY-HANDLER-0003",
+                             OMRSAuditLogRecordSeverity.STARTUP,
+                             "The {0} service in server {1} is caching up to {2} retrieved entities for {3} seconds",
+                             "The entities retrieved by the service are returned from the cache until they change or their time to live is exceeded.  " +
+                                     "The cache is maintained from the OMRS instance events received from the enterprise OMRS topic.",
+                             "No action is required if the service should cache entities.  The cache is disabled by removing the RepositoryCacheSize " +
+                                     "property from the access service options."),
+
+    REPOSITORY_CACHE_NO_EVENTS("OMAG-REPOSITORY-HANDLER-0004",
+                               OMRSAuditLogRecordSeverity.ERROR,
+                               "The {0} service in server {1} is unable to receive OMRS instance events to maintain its cache of retrieved entities",
+                               "The service has no connector to the enterprise OMRS topic.  Changes made by other services and servers are " +
+                                       "not reflected in the cached entities until their time to live is exceeded.",
+                               "Review the other messages to determine why the enterprise OMRS topic is not available or reduce the time to " +
+                                       "live of the cached entities."),
+
+    REPOSITORY_CACHE_STATISTICS("OMAG-REPOSITORY-HANDLER-0005",
+                                OMRSAuditLogRecordSeverity.INFO,
+                                "The cache of retrieved entities for the {0} service in server {1} returned {2} results and missed {3} results " +
+                                        "(hit rate {4}%).  {5} results were evicted, {6} expired and {7} were removed because they changed",
+                                "The service is shutting down and the cache is being discarded.",
+                                "Use the hit rate to tune the RepositoryCacheSize and RepositoryCacheTimeToLive properties of the access service options.")
 
     ;
 
@@ -0,0 +1,128 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the repository cache returns the saved results, removes them when the instances change,
+ * and does not save a result that was read before an invalidation.
+ */
+public class RepositoryCacheTest
+{
+    private static final String userId     = "testUser";
+    private static final long   timeToLive = 60000;
+
+
+    /**
+     * Create an entity with the requested unique identifier.
+     *
+     * @param guid unique identifier
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+
+        return entity;
+    }
+
+
+    /**
+     * Saved results are returned until the entity is invalidated.
+     */
+    @Test public void testPutAndInvalidate()
+    {
+        RepositoryCache repositoryCache = new RepositoryCache(100, timeToLive);
+
+        repositoryCache.putEntity(userId, getEntity("guid1"), repositoryCache.getGeneration());
+        repositoryCache.putRelatedEntities(userId,
+                                           "guid2",
+                                           "relationshipTypeGUID",
+                                           0,
+                                           10,
+                                           Collections.singletonList(getEntity("guid1")),
+                                           repositoryCache.getGeneration());
+
+        assertNotNull(repositoryCache.getEntity(userId, "guid1"));
+        assertEquals(repositoryCache.getRelatedEntities(userId, "guid2", "relationshipTypeGUID", 0, 10).size(), 1);
+
+        repositoryCache.invalidateEntity("guid1", null);
+
+        assertNull(repositoryCache.getEntity(userId, "guid1"));
+        assertNull(repositoryCache.getRelatedEntities(userId, "guid2", "relationshipTypeGUID", 0, 10));
+        assertEquals(repositoryCache.getInvalidationCount(), 2);
+    }
+
+
+    /**
+     * A result read before an invalidation is not saved.
+     */
+    @Test public void testStalePutIsDropped()
+    {
+        RepositoryCache repositoryCache = new RepositoryCache(100, timeToLive);
+
+        long readGeneration = repositoryCache.getGeneration();
+
+        repositoryCache.invalidateEntity("guid1", null);
+        repositoryCache.putEntity(userId, getEntity("guid1"), readGeneration);
+
+        assertNull(repositoryCache.getEntity(userId, "guid1"));
+
+        readGeneration = repositoryCache.getGeneration();
+
+        Relationship relationship = new Relationship();
+        EntityProxy  end1         = new EntityProxy();
+
+        end1.setGUID("guid2");
+        relationship.setEntityOneProxy(end1);
+
+        repositoryCache.invalidateRelationship(relationship);
+        repositoryCache.putRelatedEntities(userId,
+                                           "guid2",
+                                           "relationshipTypeGUID",
+                                           0,
+                                           10,
+                                           Collections.emptyList(),
+                                           readGeneration);
+
+        assertNull(repositoryCache.getRelatedEntities(userId, "guid2", "relationshipTypeGUID", 0, 10));
+
+        repositoryCache.putEntity(userId, getEntity("guid1"), repositoryCache.getGeneration());
+
+        assertNotNull(repositoryCache.getEntity(userId, "guid1"));
+    }
+
+
+    /**
+     * The least recently used results are evicted from each segment and the cache stays within its bounds.
+     */
+    @Test public void testEviction()
+    {
+        final int maxEntries = 1000;
+
+        RepositoryCache repositoryCache = new RepositoryCache(maxEntries, timeToLive);
+
+        for (int i = 0; i < maxEntries * 2; i++)
+        {
+            repositoryCache.putEntity(userId, getEntity("guid" + i), repositoryCache.getGeneration());
+        }
+
+        assertEquals(repositoryCache.getSize() + repositoryCache.getEvictionCount(), maxEntries * 2);
+        assertTrue(repositoryCache.getSize() <= maxEntries);
+        assertNotNull(repositoryCache.getEntity(userId, "guid" + (maxEntries * 2 - 1)));
+    }
+}
@@ -246,7 +246,18 @@ public enum DiscoveryEngineServicesAuditCode implements AuditLogMessageSet
                                         "call to request that the discovery engine calls the Discovery Engine OMAS to refresh the configuration for" +
                                         " the discovery service."),
 
-
+    SCAN_ALL_ASSETS_QUEUED("DISCOVERY-ENGINE-SERVICES-0029",
+                           OMRSAuditLogRecordSeverity.INFO,
+                           "Discovery engine {0} has queued {2} discovery requests of type {1} from a scan of all assets",
+                           "The discovery requests run on the discovery engine's threads as they become free.",
+                           "No action is required.  The progress of the requests is shown in the discovery engine summary."),
+
+    SCAN_ALL_ASSETS_FAILED("DISCOVERY-ENGINE-SERVICES-0030",
+                           OMRSAuditLogRecordSeverity.EXCEPTION,
+                           "Discovery engine {0} stopped its scan of all assets for discovery request type {1} after queuing {2} " +
+                                   "requests.  The exception was {3} with error message {4}",
+                           "The requests that were queued before the error continue to run.  No further assets are scanned.",
+                           "Review the error messages and resolve the cause of the problem.  Then request the scan again."),
 
     ;
 
@@ -180,6 +180,19 @@ public enum DiscoveryEngineServicesErrorCode implements ExceptionMessageSet
                                      "The discovery engine is not able to run any discovery requests until it is able to retrieve its configuration.",
                                      "Use the configuration interface of the Discovery Engine OMAS to create a definition of at least one discovery" +
                                              " engine."),
+
+    DISCOVERY_REQUEST_QUEUE_FULL(503,"DISCOVERY-ENGINE-SERVICES-503-001 ",
+             "Discovery engine {0} in discovery server {1} is unable to accept discovery request for asset {2} because its queue of {3} " +
+                                         "waiting discovery requests is full",
+                                 "The discovery request is rejected.  No discovery analysis report is created.",
+                                 "Retry the request once the discovery engine has worked through some of its waiting discovery requests.  " +
+                                         "If this happens often, increase the maximum number of concurrent discovery requests or the size of " +
+                                         "the discovery request queue in the discovery server's configuration."),
+
+    DISCOVERY_REQUEST_INTERRUPTED(503,"DISCOVERY-ENGINE-SERVICES-503-002 ",
+             "Discovery engine {0} in discovery server {1} was interrupted while waiting to queue the discovery request for asset {2}",
+                                  "The discovery request is not run.  No further assets are scanned by this request.",
+                                  "This is normally caused by the discovery server shutting down.  Retry the request once the server is running again."),
     ;
 
 
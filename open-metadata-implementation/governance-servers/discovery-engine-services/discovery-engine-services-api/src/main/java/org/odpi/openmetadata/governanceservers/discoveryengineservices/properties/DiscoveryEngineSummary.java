@@ -29,6 +29,15 @@ public class DiscoveryEngineSummary implements Serializable
     private String                discoveryEngineDescription = null;
     private DiscoveryEngineStatus discoveryEngineStatus      = null;
     private List<String>          discoveryRequestTypes      = null;
+    private int                   maxConcurrentRequests      = 0;
+    private int                   requestQueueSize           = 0;
+    private int                   queuedRequestCount         = 0;
+    private int                   activeRequestCount         = 0;
+    private long                  completedRequestCount      = 0;
+    private long                  failedRequestCount         = 0;
+    private long                  rejectedRequestCount       = 0;
+    private long                  averageRequestTime         = 0;
+    private double                requestThroughput          = 0;
 
 
     /**
@@ -53,6 +62,15 @@ public class DiscoveryEngineSummary implements Serializable
             discoveryEngineDescription = template.getDiscoveryEngineDescription();
             discoveryEngineStatus = template.getDiscoveryEngineStatus();
             discoveryRequestTypes = template.getDiscoveryRequestTypes();
+            maxConcurrentRequests = template.getMaxConcurrentRequests();
+            requestQueueSize = template.getRequestQueueSize();
+            queuedRequestCount = template.getQueuedRequestCount();
+            activeRequestCount = template.getActiveRequestCount();
+            completedRequestCount = template.getCompletedRequestCount();
+            failedRequestCount = template.getFailedRequestCount();
+            rejectedRequestCount = template.getRejectedRequestCount();
+            averageRequestTime = template.getAverageRequestTime();
+            requestThroughput = template.getRequestThroughput();
         }
     }
 
@@ -176,6 +194,204 @@ public class DiscoveryEngineSummary implements Serializable
     }
 
 
+    /**
+     * Return the maximum number of discovery requests that the discovery engine runs at the same time.
+     *
+     * @return number of requests
+     */
+    public int getMaxConcurrentRequests()
+    {
+        return maxConcurrentRequests;
+    }
+
+
+    /**
+     * Set up the maximum number of discovery requests that the discovery engine runs at the same time.
+     *
+     * @param maxConcurrentRequests number of requests
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests)
+    {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+
+    /**
+     * Return the number of discovery requests that can wait for a free thread before new requests are rejected.
+     *
+     * @return number of requests
+     */
+    public int getRequestQueueSize()
+    {
+        return requestQueueSize;
+    }
+
+
+    /**
+     * Set up the number of discovery requests that can wait for a free thread before new requests are rejected.
+     *
+     * @param requestQueueSize number of requests
+     */
+    public void setRequestQueueSize(int requestQueueSize)
+    {
+        this.requestQueueSize = requestQueueSize;
+    }
+
+
+    /**
+     * Return the number of discovery requests that are waiting for a free thread.
+     *
+     * @return number of requests
+     */
+    public int getQueuedRequestCount()
+    {
+        return queuedRequestCount;
+    }
+
+
+    /**
+     * Set up the number of discovery requests that are waiting for a free thread.
+     *
+     * @param queuedRequestCount number of requests
+     */
+    public void setQueuedRequestCount(int queuedRequestCount)
+    {
+        this.queuedRequestCount = queuedRequestCount;
+    }
+
+
+    /**
+     * Return the number of discovery requests that are running.
+     *
+     * @return number of requests
+     */
+    public int getActiveRequestCount()
+    {
+        return activeRequestCount;
+    }
+
+
+    /**
+     * Set up the number of discovery requests that are running.
+     *
+     * @param activeRequestCount number of requests
+     */
+    public void setActiveRequestCount(int activeRequestCount)
+    {
+        this.activeRequestCount = activeRequestCount;
+    }
+
+
+    /**
+     * Return the number of discovery requests that have completed successfully since the discovery engine started.
+     *
+     * @return number of requests
+     */
+    public long getCompletedRequestCount()
+    {
+        return completedRequestCount;
+    }
+
+
+    /**
+     * Set up the number of discovery requests that have completed successfully since the discovery engine started.
+     *
+     * @param completedRequestCount number of requests
+     */
+    public void setCompletedRequestCount(long completedRequestCount)
+    {
+        this.completedRequestCount = completedRequestCount;
+    }
+
+
+    /**
+     * Return the number of discovery requests that have failed since the discovery engine started.
+     *
+     * @return number of requests
+     */
+    public long getFailedRequestCount()
+    {
+        return failedRequestCount;
+    }
+
+
+    /**
+     * Set up the number of discovery requests that have failed since the discovery engine started.
+     *
+     * @param failedRequestCount number of requests
+     */
+    public void setFailedRequestCount(long failedRequestCount)
+    {
+        this.failedRequestCount = failedRequestCount;
+    }
+
+
+    /**
+     * Return the number of discovery requests that were rejected because the queue was full.
+     *
+     * @return number of requests
+     */
+    public long getRejectedRequestCount()
+    {
+        return rejectedRequestCount;
+    }
+
+
+    /**
+     * Set up the number of discovery requests that were rejected because the queue was full.
+     *
+     * @param rejectedRequestCount number of requests
+     */
+    public void setRejectedRequestCount(long rejectedRequestCount)
+    {
+        this.rejectedRequestCount = rejectedRequestCount;
+    }
+
+
+    /**
+     * Return the average elapsed time of the discovery requests that have run.
+     *
+     * @return milliseconds
+     */
+    public long getAverageRequestTime()
+    {
+        return averageRequestTime;
+    }
+
+
+    /**
+     * Set up the average elapsed time of the discovery requests that have run.
+     *
+     * @param averageRequestTime milliseconds
+     */
+    public void setAverageRequestTime(long averageRequestTime)
+    {
+        this.averageRequestTime = averageRequestTime;
+    }
+
+
+    /**
+     * Return the number of discovery requests that have finished per minute since the discovery engine started.
+     *
+     * @return requests per minute
+     */
+    public double getRequestThroughput()
+    {
+        return requestThroughput;
+    }
+
+
+    /**
+     * Set up the number of discovery requests that have finished per minute since the discovery engine started.
+     *
+     * @param requestThroughput requests per minute
+     */
+    public void setRequestThroughput(double requestThroughput)
+    {
+        this.requestThroughput = requestThroughput;
+    }
+
+
     /**
      * JSON-style toString
      *
@@ -190,6 +406,15 @@ public class DiscoveryEngineSummary implements Serializable
                 ", discoveryEngineDescription='" + discoveryEngineDescription + '\'' +
                 ", discoveryEngineStatus=" + discoveryEngineStatus +
                 ", discoveryRequestTypes=" + discoveryRequestTypes +
+                ", maxConcurrentRequests=" + maxConcurrentRequests +
+                ", requestQueueSize=" + requestQueueSize +
+                ", queuedRequestCount=" + queuedRequestCount +
+                ", activeRequestCount=" + activeRequestCount +
+                ", completedRequestCount=" + completedRequestCount +
+                ", failedRequestCount=" + failedRequestCount +
+                ", rejectedRequestCount=" + rejectedRequestCount +
+                ", averageRequestTime=" + averageRequestTime +
+                ", requestThroughput=" + requestThroughput +
                 '}';
     }
 
@@ -216,6 +441,15 @@ public class DiscoveryEngineSummary implements Serializable
                 Objects.equals(discoveryEngineGUID, that.discoveryEngineGUID) &&
                 Objects.equals(discoveryEngineDescription, that.discoveryEngineDescription) &&
                 discoveryEngineStatus == that.discoveryEngineStatus &&
+                maxConcurrentRequests == that.maxConcurrentRequests &&
+                requestQueueSize == that.requestQueueSize &&
+                queuedRequestCount == that.queuedRequestCount &&
+                activeRequestCount == that.activeRequestCount &&
+                completedRequestCount == that.completedRequestCount &&
+                failedRequestCount == that.failedRequestCount &&
+                rejectedRequestCount == that.rejectedRequestCount &&
+                averageRequestTime == that.averageRequestTime &&
+                Double.compare(requestThroughput, that.requestThroughput) == 0 &&
                 Objects.equals(discoveryRequestTypes, that.discoveryRequestTypes);
     }
 
@@ -228,6 +462,8 @@ public class DiscoveryEngineSummary implements Serializable
    @Override
    public int hashCode()
    {
-       return Objects.hash(discoveryEngineName, discoveryEngineGUID, discoveryEngineDescription, discoveryEngineStatus, discoveryRequestTypes);
+       return Objects.hash(discoveryEngineName, discoveryEngineGUID, discoveryEngineDescription, discoveryEngineStatus, discoveryRequestTypes,
+                           maxConcurrentRequests, requestQueueSize, queuedRequestCount, activeRequestCount, completedRequestCount,
+                           failedRequestCount, rejectedRequestCount, averageRequestTime, requestThroughput);
    }
 }
@@ -195,7 +195,8 @@ public class DiscoveryServerEngineClient extends DiscoveryEngine
 
     /**
      * Explore each of the assets in the asset store.  A new instance of the discovery service is started for
-     * each retrieved asset.
+     * each retrieved asset.  The scan runs in the background in the discovery server so this method returns
+     * before the discovery requests are queued.
      *
      * @param userId identifier of calling user
      * @param discoveryRequestType identifier of the type of analysis - this determines which discovery service to run.
@@ -5,6 +5,7 @@ package org.odpi.openmetadata.governanceservers.discoveryengineservices.handlers
 import org.odpi.openmetadata.accessservices.discoveryengine.client.*;
 import org.odpi.openmetadata.adapters.connectors.discoveryservices.CSVDiscoveryServiceProvider;
 import org.odpi.openmetadata.adapters.connectors.discoveryservices.DuplicateSuspectDiscoveryProvider;
+import org.odpi.openmetadata.adapters.connectors.discoveryservices.ParallelDiscoveryPipelineProvider;
 import org.odpi.openmetadata.adapters.connectors.discoveryservices.SequentialDiscoveryPipelineProvider;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.governanceservers.discoveryengineservices.ffdc.DiscoveryEngineServicesAuditCode;
@@ -22,7 +23,8 @@ import java.util.*;
 /**
  * The DiscoveryEngineHandler is responsible for running discovery services on demand.  It is initialized
  * with the configuration for the discovery services it supports along with the clients to the
- * asset properties store and annotations store.
+ * asset properties store and annotations store.  The discovery requests run on a fixed pool of threads
+ * owned by the discovery engine.  Requests that arrive while all of the threads are busy wait in a bounded queue.
  */
 public class DiscoveryEngineHandler
 {
@@ -37,6 +39,9 @@ public class DiscoveryEngineHandler
     private String                    discoveryEngineGUID         = null;
     private DiscoveryEngineProperties discoveryEngineProperties   = null;
     private DiscoveryServiceCacheMap  discoveryServiceLookupTable = new DiscoveryServiceCacheMap();
+    private DiscoveryRequestQueue     requestQueue;                /* Initialized in constructor */
+
+    private static final int defaultRequestQueueSize = 100;
 
     /*
      * Ensure standard discovery services are available to the discovery engines.
@@ -44,6 +49,7 @@ public class DiscoveryEngineHandler
     private CSVDiscoveryServiceProvider         csvDiscoveryServiceProvider;
     private DuplicateSuspectDiscoveryProvider   duplicateSuspectDiscoveryProvider;
     private SequentialDiscoveryPipelineProvider sequentialDiscoveryPipelineProvider;
+    private ParallelDiscoveryPipelineProvider   parallelDiscoveryPipelineProvider;
 
 
     /**
@@ -56,6 +62,8 @@ public class DiscoveryEngineHandler
      * @param discoveryEngineClient REST client for direct REST Calls
      * @param auditLog logging destination
      * @param maxPageSize maximum number of results that can be returned in a single request
+     * @param maxConcurrentRequests maximum number of discovery requests to run at the same time (zero for the number of processors)
+     * @param requestQueueSize number of discovery requests that can wait for a free thread (zero for the default)
      */
     public DiscoveryEngineHandler(String                       discoveryEngineName,
                                   String                       serverName,
@@ -63,7 +71,9 @@ public class DiscoveryEngineHandler
                                   DiscoveryConfigurationClient configurationClient,
                                   DiscoveryEngineClient        discoveryEngineClient,
                                   AuditLog                     auditLog,
-                                  int                          maxPageSize)
+                                  int                          maxPageSize,
+                                  int                          maxConcurrentRequests,
+                                  int                          requestQueueSize)
     {
         this.discoveryEngineName = discoveryEngineName;
         this.serverName = serverName;
@@ -72,6 +82,18 @@ public class DiscoveryEngineHandler
         this.discoveryEngineClient = discoveryEngineClient;
         this.auditLog = auditLog;
         this.maxPageSize = maxPageSize;
+
+        if (maxConcurrentRequests <= 0)
+        {
+            maxConcurrentRequests = Runtime.getRuntime().availableProcessors();
+        }
+
+        if (requestQueueSize <= 0)
+        {
+            requestQueueSize = defaultRequestQueueSize;
+        }
+
+        this.requestQueue = new DiscoveryRequestQueue(discoveryEngineName, maxConcurrentRequests, requestQueueSize);
     }
 
 
@@ -115,6 +137,16 @@ public class DiscoveryEngineHandler
             mySummary.setDiscoveryEngineStatus(DiscoveryEngineStatus.RUNNING);
         }
 
+        mySummary.setMaxConcurrentRequests(requestQueue.getMaxConcurrentRequests());
+        mySummary.setRequestQueueSize(requestQueue.getRequestQueueSize());
+        mySummary.setQueuedRequestCount(requestQueue.getQueuedRequestCount());
+        mySummary.setActiveRequestCount(requestQueue.getActiveRequestCount());
+        mySummary.setCompletedRequestCount(requestQueue.getCompletedRequestCount());
+        mySummary.setFailedRequestCount(requestQueue.getFailedRequestCount());
+        mySummary.setRejectedRequestCount(requestQueue.getRejectedRequestCount());
+        mySummary.setAverageRequestTime(requestQueue.getAverageRequestTime());
+        mySummary.setRequestThroughput(requestQueue.getRequestThroughput());
+
         return mySummary;
     }
 
@@ -253,7 +285,8 @@ public class DiscoveryEngineHandler
 
 
     /**
-     * Request the execution of a discovery service to explore a specific asset.
+     * Request the execution of a discovery service to explore a specific asset.  The request is rejected if
+     * the discovery engine's queue is full.
      *
      * @param assetGUID identifier of the asset to analyze.
      * @param discoveryRequestType identifier of the type of discovery request to run - this determines which discovery service to run.
@@ -283,7 +316,7 @@ public class DiscoveryEngineHandler
 
         if (discoveryServiceCache != null)
         {
-            return runDiscoveryService(assetGUID, discoveryRequestType, analysisParameters, annotationTypes, discoveryServiceCache);
+            return runDiscoveryService(assetGUID, discoveryRequestType, analysisParameters, annotationTypes, discoveryServiceCache, false);
         }
 
         return null;
@@ -292,23 +325,19 @@ public class DiscoveryEngineHandler
 
     /**
      * Request the execution of a discovery service for each asset that is found (limited by the supported zones of the
-     * Discovery Engine OMAS).
+     * Discovery Engine OMAS).  The scan runs on the discovery engine's scan thread so this method returns once the
+     * scan is queued.  The scan waits for one of its own places in the discovery engine's queue before queuing each
+     * request, so it never fills the places needed by discoverAsset.
      *
      * @param discoveryRequestType identifier of the type of discovery to run - this determines which discovery service to run.
      * @param analysisParameters name value properties to control the analysis
      * @param annotationTypes list of the types of annotations to produce (and no others)
      *
-     * @throws InvalidParameterException one of the parameters is null or invalid.
-     * @throws UserNotAuthorizedException user not authorized to issue this request.
-     * @throws PropertyServerException there was a problem with connecting to the metadata server
      * @throws DiscoveryEngineException there is a problem with the set up of the discovery engine.
      */
     public  void scanAllAssets(String              discoveryRequestType,
                                Map<String, String> analysisParameters,
-                               List<String>        annotationTypes) throws InvalidParameterException,
-                                                                           UserNotAuthorizedException,
-                                                                           PropertyServerException,
-                                                                           DiscoveryEngineException
+                               List<String>        annotationTypes) throws DiscoveryEngineException
     {
         final String methodName = "scanAllAssets";
 
@@ -318,9 +347,33 @@ public class DiscoveryEngineHandler
 
         if (discoveryServiceCache != null)
         {
-            int      startingFrom = 0;
-            boolean  moreToReceive = true;
+            requestQueue.startScan(() -> scanAssets(discoveryRequestType, analysisParameters, annotationTypes, discoveryServiceCache));
+        }
+    }
+
+
+    /**
+     * Page through the assets and queue a discovery request for each one.  This runs on the discovery engine's
+     * scan thread.  A failure stops the scan and is recorded in the audit log.
+     *
+     * @param discoveryRequestType identifier of the type of discovery to run
+     * @param analysisParameters name value properties to control the analysis
+     * @param annotationTypes list of the types of annotations to produce (and no others)
+     * @param discoveryServiceCache factory for discovery services.
+     */
+    private void scanAssets(String                discoveryRequestType,
+                            Map<String, String>   analysisParameters,
+                            List<String>          annotationTypes,
+                            DiscoveryServiceCache discoveryServiceCache)
+    {
+        final String actionDescription = "Scan all assets";
 
+        int      startingFrom = 0;
+        int      requestCount = 0;
+        boolean  moreToReceive = true;
+
+        try
+        {
             while (moreToReceive)
             {
                 List<String> assets = discoveryEngineClient.getAssets(serverUserId, startingFrom, maxPageSize);
@@ -335,7 +388,9 @@ public class DiscoveryEngineHandler
                                                 discoveryRequestType,
                                                 analysisParameters,
                                                 annotationTypes,
-                                                discoveryServiceCache);
+                                                discoveryServiceCache,
+                                                true);
+                            requestCount++;
                         }
                     }
 
@@ -353,32 +408,134 @@ public class DiscoveryEngineHandler
                     moreToReceive = false;
                 }
             }
+
+            auditLog.logMessage(actionDescription,
+                                DiscoveryEngineServicesAuditCode.SCAN_ALL_ASSETS_QUEUED.getMessageDefinition(discoveryEngineName,
+                                                                                                             discoveryRequestType,
+                                                                                                             Integer.toString(requestCount)));
+        }
+        catch (Throwable error)
+        {
+            auditLog.logException(actionDescription,
+                                  DiscoveryEngineServicesAuditCode.SCAN_ALL_ASSETS_FAILED.getMessageDefinition(discoveryEngineName,
+                                                                                                               discoveryRequestType,
+                                                                                                               Integer.toString(requestCount),
+                                                                                                               error.getClass().getName(),
+                                                                                                               error.getMessage()),
+                                  error);
         }
     }
 
 
     /**
-     * Run an instance of a discovery service in its own thread.
+     * Run an instance of a discovery service on one of the discovery engine's threads.  A place in the discovery
+     * engine's queue is reserved before the discovery analysis report is created so that a rejected request
+     * leaves nothing behind in the metadata server.
      *
      * @param assetGUID unique identifier of the asset to analyse
      * @param discoveryRequestType type of discovery
      * @param suppliedAnalysisParameters parameters for the discovery
      * @param annotationTypes types of annotations that can be returned
      * @param discoveryServiceCache factory for discovery services.
+     * @param scanRequest is the request from a scan - scan requests wait for one of the scan's places in the
+     *                    queue rather than being rejected
      *
      * @return unique identifier for this request.
      *
      * @throws InvalidParameterException one of the parameters is null or invalid.
      * @throws UserNotAuthorizedException user not authorized to issue this request.
      * @throws PropertyServerException there was a problem detected by the discovery engine.
+     * @throws DiscoveryEngineException the discovery engine's queue is full or the wait for space was interrupted.
      */
     private String runDiscoveryService(String                assetGUID,
                                        String                discoveryRequestType,
                                        Map<String, String>   suppliedAnalysisParameters,
                                        List<String>          annotationTypes,
-                                       DiscoveryServiceCache discoveryServiceCache) throws InvalidParameterException,
-                                                                                           UserNotAuthorizedException,
-                                                                                           PropertyServerException
+                                       DiscoveryServiceCache discoveryServiceCache,
+                                       boolean               scanRequest) throws InvalidParameterException,
+                                                                                  UserNotAuthorizedException,
+                                                                                  PropertyServerException,
+                                                                                  DiscoveryEngineException
+    {
+        final String methodName = "runDiscoveryService";
+
+        if (scanRequest)
+        {
+            try
+            {
+                requestQueue.reserveScanRequest();
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+
+                throw new DiscoveryEngineException(DiscoveryEngineServicesErrorCode.DISCOVERY_REQUEST_INTERRUPTED.getMessageDefinition(discoveryEngineName,
+                                                                                                                                       serverName,
+                                                                                                                                       assetGUID),
+                                                   this.getClass().getName(),
+                                                   methodName,
+                                                   error);
+            }
+        }
+        else if (! requestQueue.tryReserve())
+        {
+            throw new DiscoveryEngineException(DiscoveryEngineServicesErrorCode.DISCOVERY_REQUEST_QUEUE_FULL.getMessageDefinition(discoveryEngineName,
+                                                                                                                                  serverName,
+                                                                                                                                  assetGUID,
+                                                                                                                                  Integer.toString(requestQueue.getRequestQueueSize())),
+                                               this.getClass().getName(),
+                                               methodName);
+        }
+
+        boolean queued = false;
+
+        try
+        {
+            String discoveryReportGUID = this.queueDiscoveryService(assetGUID,
+                                                                    discoveryRequestType,
+                                                                    suppliedAnalysisParameters,
+                                                                    annotationTypes,
+                                                                    discoveryServiceCache,
+                                                                    scanRequest);
+            queued = true;
+
+            return discoveryReportGUID;
+        }
+        finally
+        {
+            if (! queued)
+            {
+                requestQueue.cancelReservation(scanRequest);
+            }
+        }
+    }
+
+
+    /**
+     * Create the discovery analysis report and the discovery service for a request and pass them to the
+     * discovery engine's threads.  The caller has reserved a place in the queue.
+     *
+     * @param assetGUID unique identifier of the asset to analyse
+     * @param discoveryRequestType type of discovery
+     * @param suppliedAnalysisParameters parameters for the discovery
+     * @param annotationTypes types of annotations that can be returned
+     * @param discoveryServiceCache factory for discovery services.
+     * @param scanRequest is the place reserved from the scan's places
+     *
+     * @return unique identifier for this request.
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException there was a problem detected by the discovery engine.
+     */
+    private String queueDiscoveryService(String                assetGUID,
+                                         String                discoveryRequestType,
+                                         Map<String, String>   suppliedAnalysisParameters,
+                                         List<String>          annotationTypes,
+                                         DiscoveryServiceCache discoveryServiceCache,
+                                         boolean               scanRequest) throws InvalidParameterException,
+                                                                                             UserNotAuthorizedException,
+                                                                                             PropertyServerException
     {
         Date                creationTime = new Date();
         Map<String, String> analysisParameters = suppliedAnalysisParameters;
@@ -433,8 +590,7 @@ public class DiscoveryEngineHandler
                                                                                       discoveryServiceCache.getNextDiscoveryService(),
                                                                                       discoveryContext,
                                                                                       auditLog);
-        Thread thread = new Thread(discoveryServiceHandler, discoveryServiceCache.getDiscoveryServiceName() + assetGUID + new Date().toString());
-        thread.start();
+        requestQueue.run(discoveryServiceHandler, scanRequest);
 
         return discoveryAnalysisReportClient.getDiscoveryReportGUID();
     }
@@ -548,6 +704,7 @@ public class DiscoveryEngineHandler
 
         discoveryEngineProperties = null;
         discoveryServiceLookupTable.clear();
+        requestQueue.shutdown();
     }
 
 
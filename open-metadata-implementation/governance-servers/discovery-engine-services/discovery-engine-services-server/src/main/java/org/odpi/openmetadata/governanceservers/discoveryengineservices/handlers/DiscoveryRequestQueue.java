@@ -0,0 +1,309 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.discoveryengineservices.handlers;
+
+import org.odpi.openmetadata.frameworks.discovery.properties.DiscoveryRequestStatus;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DiscoveryRequestQueue runs the discovery requests for a discovery engine on a fixed pool of threads.
+ * Requests wait in a bounded queue when all of the threads are busy.  A request that arrives when the queue is
+ * full is rejected.  Requests from a scan of all assets have their own, smaller pool of places so a scan never
+ * takes the places needed by other requests.  The scan itself runs on a separate thread that waits for a place
+ * before queuing each request.  The queue also keeps the statistics that are reported in the discovery engine summary.
+ */
+class DiscoveryRequestQueue
+{
+    private final int                maxConcurrentRequests;
+    private final int                requestQueueSize;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService    scanExecutor;
+    private final Semaphore          admissions;
+    private final Semaphore          scanAdmissions;
+    private final long               startTime = System.currentTimeMillis();
+
+    private final AtomicLong completedRequestCount = new AtomicLong(0);
+    private final AtomicLong failedRequestCount    = new AtomicLong(0);
+    private final AtomicLong rejectedRequestCount  = new AtomicLong(0);
+    private final AtomicLong totalRequestTime      = new AtomicLong(0);
+
+
+    /**
+     * Create the threads for the discovery engine.
+     *
+     * @param discoveryEngineName name of the discovery engine - used to name the threads
+     * @param maxConcurrentRequests number of threads
+     * @param requestQueueSize number of requests that can wait for a thread
+     */
+    DiscoveryRequestQueue(String discoveryEngineName,
+                          int    maxConcurrentRequests,
+                          int    requestQueueSize)
+    {
+        final String        threadNamePrefix = "DiscoveryEngine-" + discoveryEngineName + "-";
+        final AtomicInteger threadCount      = new AtomicInteger(0);
+
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.requestQueueSize      = requestQueueSize;
+
+        /*
+         * The semaphores bound the number of requests that are running or waiting.  This means the
+         * executor's own queue never needs to reject a request.  A scan keeps at most one request per
+         * thread waiting so the other requests are not held up behind a long scan.
+         */
+        this.admissions     = new Semaphore(maxConcurrentRequests + requestQueueSize);
+        this.scanAdmissions = new Semaphore(maxConcurrentRequests);
+        this.executor   = new ThreadPoolExecutor(maxConcurrentRequests,
+                                                 maxConcurrentRequests,
+                                                 0L,
+                                                 TimeUnit.MILLISECONDS,
+                                                 new LinkedBlockingQueue<>(),
+                                                 (runnable) ->
+                                                 {
+                                                     Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+
+                                                     thread.setDaemon(true);
+                                                     return thread;
+                                                 });
+        this.scanExecutor = Executors.newSingleThreadExecutor((runnable) ->
+                                                              {
+                                                                  Thread thread = new Thread(runnable, threadNamePrefix + "scan");
+
+                                                                  thread.setDaemon(true);
+                                                                  return thread;
+                                                              });
+    }
+
+
+    /**
+     * Reserve a place for a discovery request without waiting.
+     *
+     * @return true if there is space for the request; false if it is rejected
+     */
+    boolean tryReserve()
+    {
+        if (admissions.tryAcquire())
+        {
+            return true;
+        }
+
+        rejectedRequestCount.incrementAndGet();
+        return false;
+    }
+
+
+    /**
+     * Reserve a place for a discovery request from a scan, waiting for one of the scan's places to be free.
+     *
+     * @throws InterruptedException the thread was interrupted while waiting
+     */
+    void reserveScanRequest() throws InterruptedException
+    {
+        scanAdmissions.acquire();
+    }
+
+
+    /**
+     * Run a discovery request for which a place has been reserved.  The place is released when the request finishes.
+     *
+     * @param discoveryRequest discovery service handler for the request
+     * @param scanRequest is the place reserved from the scan's places
+     */
+    void run(DiscoveryServiceHandler discoveryRequest,
+             boolean                 scanRequest)
+    {
+        executor.execute(() -> runRequest(discoveryRequest, scanRequest));
+    }
+
+
+    /**
+     * Release the place reserved for a discovery request that will not be run.
+     *
+     * @param scanRequest is the place reserved from the scan's places
+     */
+    void cancelReservation(boolean scanRequest)
+    {
+        getAdmissions(scanRequest).release();
+    }
+
+
+    /**
+     * Run a scan of assets on the scan thread.  Scans run one at a time in the order they are requested.
+     *
+     * @param scan the scan's paging loop
+     */
+    void startScan(Runnable scan)
+    {
+        scanExecutor.execute(scan);
+    }
+
+
+    /**
+     * Return the pool of places that a request reserves from.
+     *
+     * @param scanRequest is the request from a scan
+     * @return semaphore
+     */
+    private Semaphore getAdmissions(boolean scanRequest)
+    {
+        return scanRequest ? scanAdmissions : admissions;
+    }
+
+
+    /**
+     * Run a discovery request on one of the queue's threads and record its outcome.
+     *
+     * @param discoveryRequest discovery service handler for the request
+     * @param scanRequest is the place reserved from the scan's places
+     */
+    private void runRequest(DiscoveryServiceHandler discoveryRequest,
+                            boolean                 scanRequest)
+    {
+        long requestStartTime = System.currentTimeMillis();
+
+        try
+        {
+            discoveryRequest.run();
+        }
+        finally
+        {
+            totalRequestTime.addAndGet(System.currentTimeMillis() - requestStartTime);
+
+            if (discoveryRequest.getDiscoveryRequestStatus() == DiscoveryRequestStatus.COMPLETED)
+            {
+                completedRequestCount.incrementAndGet();
+            }
+            else
+            {
+                failedRequestCount.incrementAndGet();
+            }
+
+            getAdmissions(scanRequest).release();
+        }
+    }
+
+
+    /**
+     * Return the maximum number of discovery requests that run at the same time.
+     *
+     * @return number of requests
+     */
+    int getMaxConcurrentRequests()
+    {
+        return maxConcurrentRequests;
+    }
+
+
+    /**
+     * Return the number of discovery requests that can wait for a free thread.
+     *
+     * @return number of requests
+     */
+    int getRequestQueueSize()
+    {
+        return requestQueueSize;
+    }
+
+
+    /**
+     * Return the number of discovery requests that are waiting for a free thread.
+     *
+     * @return number of requests
+     */
+    int getQueuedRequestCount()
+    {
+        return executor.getQueue().size();
+    }
+
+
+    /**
+     * Return the number of discovery requests that are running.
+     *
+     * @return number of requests
+     */
+    int getActiveRequestCount()
+    {
+        return executor.getActiveCount();
+    }
+
+
+    /**
+     * Return the number of discovery requests that completed successfully.
+     *
+     * @return number of requests
+     */
+    long getCompletedRequestCount()
+    {
+        return completedRequestCount.get();
+    }
+
+
+    /**
+     * Return the number of discovery requests that failed.
+     *
+     * @return number of requests
+     */
+    long getFailedRequestCount()
+    {
+        return failedRequestCount.get();
+    }
+
+
+    /**
+     * Return the number of discovery requests that were rejected because the queue was full.
+     *
+     * @return number of requests
+     */
+    long getRejectedRequestCount()
+    {
+        return rejectedRequestCount.get();
+    }
+
+
+    /**
+     * Return the average elapsed time of the discovery requests that have finished.
+     *
+     * @return milliseconds
+     */
+    long getAverageRequestTime()
+    {
+        long finishedRequestCount = completedRequestCount.get() + failedRequestCount.get();
+
+        if (finishedRequestCount == 0)
+        {
+            return 0;
+        }
+
+        return totalRequestTime.get() / finishedRequestCount;
+    }
+
+
+    /**
+     * Return the number of discovery requests that have finished per minute since the queue was created.
+     *
+     * @return requests per minute
+     */
+    double getRequestThroughput()
+    {
+        long elapsedTime = Math.max(1, System.currentTimeMillis() - startTime);
+
+        return (completedRequestCount.get() + failedRequestCount.get()) * 60000.0 / elapsedTime;
+    }
+
+
+    /**
+     * Stop the threads.  Scans and requests that are waiting are discarded and running requests are interrupted.
+     */
+    void shutdown()
+    {
+        scanExecutor.shutdownNow();
+        executor.shutdownNow();
+    }
+}
@@ -24,6 +24,8 @@ public class DiscoveryServiceHandler implements Runnable
     private DiscoveryContext          discoveryContext;
     private AuditLog                  auditLog;
 
+    private volatile DiscoveryRequestStatus discoveryRequestStatus = DiscoveryRequestStatus.WAITING;
+
 
     /**
      * Constructor sets up the key parameters for running the discovery service.
@@ -53,6 +55,17 @@ public class DiscoveryServiceHandler implements Runnable
     }
 
 
+    /**
+     * Return the outcome of the discovery request.  This is WAITING until run() has finished.
+     *
+     * @return COMPLETED, FAILED or WAITING
+     */
+    DiscoveryRequestStatus getDiscoveryRequestStatus()
+    {
+        return discoveryRequestStatus;
+    }
+
+
     /**
      * This is the method that provides the behaviour of the thread.
      */
@@ -99,9 +112,13 @@ public class DiscoveryServiceHandler implements Runnable
 
             discoveryReport.setDiscoveryRequestStatus(DiscoveryRequestStatus.COMPLETED);
             discoveryService.disconnect();
+
+            discoveryRequestStatus = DiscoveryRequestStatus.COMPLETED;
         }
         catch (Throwable  error)
         {
+            discoveryRequestStatus = DiscoveryRequestStatus.FAILED;
+
             auditLog.logException(actionDescription,
                                   DiscoveryEngineServicesAuditCode.DISCOVERY_SERVICE_FAILED.getMessageDefinition(discoveryServiceName,
                                                                                                                  error.getClass().getName(),
@@ -140,7 +140,9 @@ public class DiscoveryServerOperationalServices
                                                                                                           accessServiceRootURL,
                                                                                                           accessServiceServerName,
                                                                                                           configurationClient,
-                                                                                                          restClient);
+                                                                                                          restClient,
+                                                                                                          discoveryEngineServicesConfig.getMaxConcurrentDiscoveryRequests(),
+                                                                                                          discoveryEngineServicesConfig.getDiscoveryRequestQueueSize());
 
             if (discoveryEngineHandlers == null)
             {
@@ -286,6 +288,8 @@ public class DiscoveryServerOperationalServices
      * @param accessServiceServerName Server Name for the Discovery Engine OMAS
      * @param configurationClient client to retrieve configuration from
      * @param odfRESTClient client for calling REST APIs
+     * @param maxConcurrentRequests maximum number of discovery requests that each discovery engine runs at the same time
+     * @param requestQueueSize number of discovery requests that can wait for a free thread in each discovery engine
      * @return map of discovery engine GUIDs to handlers
      * @throws OMAGConfigurationErrorException problem with config
      */
@@ -293,7 +297,9 @@ public class DiscoveryServerOperationalServices
                                                                             String                       accessServiceRootURL,
                                                                             String                       accessServiceServerName,
                                                                             DiscoveryConfigurationClient configurationClient,
-                                                                            ODFRESTClient                odfRESTClient) throws OMAGConfigurationErrorException
+                                                                            ODFRESTClient                odfRESTClient,
+                                                                            int                          maxConcurrentRequests,
+                                                                            int                          requestQueueSize) throws OMAGConfigurationErrorException
     {
         final String methodName        = "getDiscoveryEngineHandlers";
 
@@ -334,7 +340,9 @@ public class DiscoveryServerOperationalServices
                                                                              configurationClient,
                                                                              discoveryEngineClient,
                                                                              auditLog,
-                                                                             maxPageSize);
+                                                                             maxPageSize,
+                                                                             maxConcurrentRequests,
+                                                                             requestQueueSize);
 
                 discoveryEngineHandlers.put(discoveryEngineName, handler);
             }
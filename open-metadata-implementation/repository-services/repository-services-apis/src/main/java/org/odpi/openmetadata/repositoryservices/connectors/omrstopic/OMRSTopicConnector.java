@@ -2,7 +2,6 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
@@ -13,12 +12,19 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
+import org.odpi.openmetadata.repositoryservices.events.OMRSCompressedEventCodec;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventEncoding;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
 import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventSizeException;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEventType;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
 import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1RegistrySection;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
 import org.slf4j.Logger;
@@ -26,6 +32,9 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
@@ -53,6 +62,12 @@ import java.util.List;
  *         connectors that implement OpenMetadataTopic.
  *     </li>
  * </ul>
+ * <p>
+ *     Each inbound event is decoded once and then added to a queue for each registered listener.  Every
+ *     listener has its own thread, so a slow listener does not hold up the others or the thread receiving
+ *     events from the event bus.  The size of the queues and what happens when a queue is full are set in the
+ *     configuration properties of the connection.
+ * </p>
  */
 public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
                                                                  VirtualConnectorExtension,
@@ -63,13 +78,36 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
     private List<Connector> embeddedConnectors = null;
 
-    private List<OMRSTopicListener>          internalTopicListeners = new ArrayList<>();
+    private List<OMRSTopicListenerWrapper>   internalTopicListeners = new CopyOnWriteArrayList<>();
+    private List<OMRSTopicListenerQueue>     listenerQueues         = new CopyOnWriteArrayList<>();
     private List<OpenMetadataTopicConnector> eventBusConnectors     = new ArrayList<>();
 
+    /*
+     * The listener queues are created when the connector starts.  Until then, and when the queue size is 0,
+     * the events are passed to the listeners in turn on the thread that received them.
+     */
+    private          int                             listenerQueueSize      = OMRSTopicProvider.defaultListenerQueueSize;
+    private          OMRSTopicListenerOverflowPolicy listenerOverflowPolicy = OMRSTopicListenerOverflowPolicy.BLOCK;
+    private volatile boolean                         useListenerQueues      = false;
+
+    /*
+     * Incoming events that decode to more than this number of bytes are rejected.
+     */
+    private          int                             maxDecodedEventSize    = OMRSCompressedEventCodec.defaultMaxDecodedSize;
+
     private String                    connectionName       = OMRSAuditingComponent.OMRS_TOPIC_CONNECTOR.getComponentName();
     private String                    topicName = "<Unknown>";
     private OMRSEventProtocolVersion  eventProtocolVersion = OMRSEventProtocolVersion.V1;
 
+    /*
+     * The preferred encoding comes from the configuration.  It is only used for outbound events once every
+     * member that has sent a registry event on the topic has advertised that it can decode it.
+     */
+    private          OMRSEventEncoding         preferredEncoding = OMRSEventEncoding.JSON;
+    private volatile OMRSEventEncoding         outboundEncoding  = OMRSEventEncoding.JSON;
+    private final    Map<String, List<String>> memberEncodings   = new ConcurrentHashMap<>();
+    private final    List<String>              localEncodings    = new ArrayList<>();
+
     protected AuditLog auditLog = null;
 
 
@@ -79,6 +117,11 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     public OMRSTopicConnector()
     {
         super();
+
+        for (OMRSEventEncoding encoding : OMRSEventEncoding.values())
+        {
+            localEncodings.add(encoding.getName());
+        }
     }
 
 
@@ -131,7 +174,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener, auditLog));
+            this.addTopicListener(new OMRSTopicListenerWrapper(topicListener, auditLog));
         }
         else
         {
@@ -156,9 +199,9 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener,
-                                                                    serviceName,
-                                                                    auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)));
+            this.addTopicListener(new OMRSTopicListenerWrapper(topicListener,
+                                                               serviceName,
+                                                               auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)));
         }
         else
         {
@@ -171,6 +214,75 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Save a new listener.  If the listener queues are already running, the listener's queue is started straight away.
+     *
+     * @param topicListener wrapped listener
+     */
+    private synchronized void addTopicListener(OMRSTopicListenerWrapper topicListener)
+    {
+        internalTopicListeners.add(topicListener);
+
+        if (useListenerQueues)
+        {
+            this.startListenerQueue(topicListener);
+        }
+    }
+
+
+    /**
+     * Create and start the queue that passes events to a listener.
+     *
+     * @param topicListener wrapped listener
+     */
+    private void startListenerQueue(OMRSTopicListenerWrapper topicListener)
+    {
+        OMRSTopicListenerQueue listenerQueue = new OMRSTopicListenerQueue(topicListener,
+                                                                          topicListener.getServiceName(),
+                                                                          topicName,
+                                                                          listenerQueueSize,
+                                                                          listenerOverflowPolicy,
+                                                                          this::processOMRSEvent,
+                                                                          auditLog);
+        listenerQueue.start();
+        listenerQueues.add(listenerQueue);
+    }
+
+
+    /**
+     * Start a queue for each of the registered listeners.  From now on, events are passed to the listeners
+     * through their queues.
+     */
+    private synchronized void startListenerQueues()
+    {
+        if ((listenerQueueSize > 0) && (! useListenerQueues))
+        {
+            for (OMRSTopicListenerWrapper topicListener : internalTopicListeners)
+            {
+                this.startListenerQueue(topicListener);
+            }
+
+            useListenerQueues = true;
+        }
+    }
+
+
+    /**
+     * Stop the listener queues.
+     */
+    private synchronized void stopListenerQueues()
+    {
+        useListenerQueues = false;
+
+        for (OMRSTopicListenerQueue listenerQueue : listenerQueues)
+        {
+            listenerQueue.stop();
+        }
+
+        listenerQueues.clear();
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      * OMRSTopicConnector needs to pass on the start() to its embedded connectors.
@@ -190,6 +302,69 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
         log.debug("Initializing OMRSTopicConnector: " + connectionName);
 
+        if ((connectionProperties != null) && (connectionProperties.getConfigurationProperties() != null))
+        {
+            Object encodingName = connectionProperties.getConfigurationProperties().get(OMRSTopicProvider.eventEncodingPropertyName);
+
+            if (encodingName != null)
+            {
+                OMRSEventEncoding encoding = OMRSEventEncoding.getEncoding(encodingName.toString());
+
+                if (encoding != null)
+                {
+                    preferredEncoding = encoding;
+                }
+                else
+                {
+                    log.debug("Ignoring unknown event encoding " + encodingName);
+                }
+            }
+
+            Object queueSize = connectionProperties.getConfigurationProperties().get(OMRSTopicProvider.listenerQueueSizePropertyName);
+
+            if (queueSize != null)
+            {
+                try
+                {
+                    listenerQueueSize = Math.max(0, Integer.parseInt(queueSize.toString().trim()));
+                }
+                catch (NumberFormatException badQueueSize)
+                {
+                    log.debug("Ignoring invalid listener queue size " + queueSize);
+                }
+            }
+
+            Object maxDecodedSize = connectionProperties.getConfigurationProperties().get(OMRSTopicProvider.maxDecodedEventSizePropertyName);
+
+            if (maxDecodedSize != null)
+            {
+                try
+                {
+                    maxDecodedEventSize = Math.max(1, Integer.parseInt(maxDecodedSize.toString().trim()));
+                }
+                catch (NumberFormatException badMaxDecodedSize)
+                {
+                    log.debug("Ignoring invalid maximum decoded event size " + maxDecodedSize);
+                }
+            }
+
+            Object overflowPolicyName = connectionProperties.getConfigurationProperties().get(OMRSTopicProvider.listenerOverflowPolicyPropertyName);
+
+            if (overflowPolicyName != null)
+            {
+                OMRSTopicListenerOverflowPolicy overflowPolicy = OMRSTopicListenerOverflowPolicy.getOverflowPolicy(overflowPolicyName.toString());
+
+                if (overflowPolicy != null)
+                {
+                    listenerOverflowPolicy = overflowPolicy;
+                }
+                else
+                {
+                    log.debug("Ignoring unknown listener overflow policy " + overflowPolicyName);
+                }
+            }
+        }
+
         /*
          * Step through the embedded connectors, selecting only the OpenMetadataTopicConnectors
          * to use.
@@ -247,6 +422,8 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         }
         else
         {
+            this.startListenerQueues();
+
             for (OpenMetadataTopicConnector eventBusConnector : eventBusConnectors)
             {
                 eventBusConnector.start();
@@ -292,7 +469,17 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
         if (eventProtocolVersion == OMRSEventProtocolVersion.V1)
         {
-            this.sendEvent(registryEvent.getOMRSEventV1());
+            OMRSEventV1 event = registryEvent.getOMRSEventV1();
+
+            /*
+             * Tell the other members which encodings this server can decode.
+             */
+            if (event.getRegistryEventSection() != null)
+            {
+                event.getRegistryEventSection().setEventEncodings(localEncodings);
+            }
+
+            this.sendEvent(event);
         }
         else
         {
@@ -358,13 +545,20 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         {
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
+                OMRSEventEncoding encoding = outboundEncoding;
+
+                if (event.getEventCategory() == OMRSEventCategory.REGISTRY)
+                {
+                    encoding = OMRSEventEncoding.JSON;
+                }
+
+                String encodedEvent = encoding.getCodec().encode(event);
 
                 for (OpenMetadataTopicConnector eventBusConnector : eventBusConnectors)
                 {
                     if (eventBusConnector != null)
                     {
-                        eventBusConnector.sendEvent(objectMapper.writeValueAsString(event));
+                        eventBusConnector.sendEvent(encodedEvent);
                     }
                 }
             }
@@ -399,7 +593,9 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
     /**
      * Receives events from the real topic, parses them into event objects and passes them on to
-     * the OMRSTopicListeners registered with this connector.
+     * the OMRSTopicListeners registered with this connector.  When the listener queues are running,
+     * this method returns once the event is queued for each listener.  The listeners' processing is
+     * recorded in the event processing context of the calling thread.
      *
      * @param event inbound event
      */
@@ -413,13 +609,23 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
             OMRSEventBean   eventBean = null;
 
             /*
-             * Parse the string (JSON) event into a bean.
+             * Parse the string (JSON or one of the other encodings) event into a bean.
              */
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
+                eventBean = OMRSEventEncoding.getCodecForEvent(event).decode(event, maxDecodedEventSize);
+            }
+            catch (OMRSEventSizeException   exception)
+            {
+                log.debug("Rejecting an event that decodes to more than " + maxDecodedEventSize + " bytes");
 
-                eventBean = objectMapper.readValue(event, OMRSEventBean.class);
+                if (auditLog != null)
+                {
+                    auditLog.logMessage(actionDescription,
+                                        OMRSAuditCode.EVENT_TOO_LARGE.getMessageDefinition(connectionName,
+                                                                                           Integer.toString(event.length()),
+                                                                                           Integer.toString(maxDecodedEventSize)));
+                }
             }
             catch (Throwable   exception)
             {
@@ -437,28 +643,42 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
              */
             if (eventBean instanceof OMRSEventV1)
             {
-                OMRSEventBean finalEventBean = eventBean;
-                internalTopicListeners.parallelStream().forEach((topicListener) ->
+                if (((OMRSEventV1) eventBean).getEventCategory() == OMRSEventCategory.REGISTRY)
                 {
-                    try
+                    this.updateMemberEncodings((OMRSEventV1) eventBean);
+                }
+
+                if (useListenerQueues)
+                {
+                    for (OMRSTopicListenerQueue listenerQueue : listenerQueues)
                     {
-                        this.processOMRSEvent((OMRSEventV1) finalEventBean, topicListener);
+                        listenerQueue.addEvent((OMRSEventV1) eventBean);
                     }
-                    catch (Throwable  error)
+                }
+                else
+                {
+                    for (OMRSTopicListenerWrapper topicListener : internalTopicListeners)
                     {
-                        log.debug("Unable to pass event to one of the topic listeners");
-
-                        if (auditLog != null)
+                        try
+                        {
+                            this.processOMRSEvent((OMRSEventV1) eventBean, topicListener);
+                        }
+                        catch (Throwable  error)
                         {
-                            auditLog.logException(methodName,
-                                                  OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event,
-                                                                                                            error.toString(),
-                                                                                                            topicListener.toString()),
-                                                  event,
-                                                  error);
+                            log.debug("Unable to pass event to one of the topic listeners");
+
+                            if (auditLog != null)
+                            {
+                                auditLog.logException(methodName,
+                                                      OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event,
+                                                                                                                error.toString(),
+                                                                                                                topicListener.getServiceName()),
+                                                      event,
+                                                      error);
+                            }
                         }
                     }
-                });
+                }
             }
         }
         else
@@ -473,6 +693,71 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Record the event encodings supported by the member that sent a registry event and recalculate
+     * the encoding to use for outbound events.  A member that does not list any encodings only supports JSON.
+     *
+     * @param event inbound registry event
+     */
+    private synchronized void updateMemberEncodings(OMRSEventV1 event)
+    {
+        final String methodName = "updateMemberEncodings";
+
+        OMRSEventOriginator        originator      = event.getOriginator();
+        OMRSEventV1RegistrySection registrySection = event.getRegistryEventSection();
+
+        if ((originator == null) || (originator.getMetadataCollectionId() == null) || (registrySection == null))
+        {
+            return;
+        }
+
+        if (registrySection.getRegistryEventType() == OMRSRegistryEventType.UN_REGISTRATION_EVENT)
+        {
+            memberEncodings.remove(originator.getMetadataCollectionId());
+        }
+        else if (registrySection.getRegistryEventType() != OMRSRegistryEventType.REGISTRATION_ERROR_EVENT)
+        {
+            List<String> encodings = registrySection.getEventEncodings();
+
+            if (encodings == null)
+            {
+                encodings = new ArrayList<>();
+            }
+
+            memberEncodings.put(originator.getMetadataCollectionId(), encodings);
+        }
+
+        OMRSEventEncoding newEncoding = preferredEncoding;
+
+        if (memberEncodings.isEmpty())
+        {
+            newEncoding = OMRSEventEncoding.JSON;
+        }
+        else
+        {
+            for (List<String> encodings : memberEncodings.values())
+            {
+                if (! encodings.contains(preferredEncoding.getName()))
+                {
+                    newEncoding = OMRSEventEncoding.JSON;
+                    break;
+                }
+            }
+        }
+
+        if (newEncoding != outboundEncoding)
+        {
+            outboundEncoding = newEncoding;
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    OMRSAuditCode.OMRS_TOPIC_EVENT_ENCODING.getMessageDefinition(topicName, newEncoding.getName()));
+            }
+        }
+    }
+
+
     /**
      * Process the OMRS Event bean.  The processing is careful of nulls and ignores an event
      * that is incorrectly formatted.  The assumption is that the unformatted part of the message
@@ -554,6 +839,8 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
             eventBusConnector.disconnect();
         }
 
+        this.stopListenerQueues();
+
         if (auditLog != null)
         {
             auditLog.logMessage(actionDescription,
@@ -0,0 +1,111 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import java.io.Serializable;
+
+/**
+ * OMRSTopicListenerOverflowPolicy defines what the OMRSTopicConnector does with an event when the queue of one of its
+ * listeners is full.
+ */
+public enum OMRSTopicListenerOverflowPolicy implements Serializable
+{
+    BLOCK   (0, "BLOCK",   "The thread receiving events from the topic waits until the listener has space in its queue."),
+    DISCARD (1, "DISCARD", "The event is not passed to the listener and an audit log message is written.");
+
+    private static final long     serialVersionUID = 1L;
+
+    private int            ordinal;
+    private String         name;
+    private String         description;
+
+
+    /**
+     * Typical Constructor
+     *
+     * @param ordinal index number
+     * @param name short name
+     * @param description longer explanation
+     */
+    OMRSTopicListenerOverflowPolicy(int ordinal, String name, String description)
+    {
+        /*
+         * Save the values supplied
+         */
+        this.ordinal = ordinal;
+        this.name = name;
+        this.description = description;
+    }
+
+
+    /**
+     * Return the overflow policy with the supplied name (ignoring case).
+     *
+     * @param name name of the overflow policy
+     * @return overflow policy enum or null if the name is not recognized
+     */
+    public static OMRSTopicListenerOverflowPolicy getOverflowPolicy(String name)
+    {
+        if (name != null)
+        {
+            for (OMRSTopicListenerOverflowPolicy overflowPolicy : OMRSTopicListenerOverflowPolicy.values())
+            {
+                if (overflowPolicy.getName().equalsIgnoreCase(name.trim()))
+                {
+                    return overflowPolicy;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the code for this enum instance
+     *
+     * @return int code
+     */
+    public int getOrdinal()
+    {
+        return ordinal;
+    }
+
+
+    /**
+     * Return the default symbol for this enum instance.
+     *
+     * @return String default symbol
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the default description for this enum instance.
+     *
+     * @return String default description
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSTopicListenerOverflowPolicy{" +
+                "ordinal=" + ordinal +
+                ", name='" + name + '\'' +
+                ", description='" + description + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,277 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.future.DelegatableFuture;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+
+/**
+ * OMRSTopicListenerQueue passes the events received by the OMRSTopicConnector to one of its listeners.  Each listener
+ * has its own bounded queue and thread so a slow listener does not delay the others.  The events are passed to the
+ * listener in the order they were received, so the events for each instance are processed in sequence.
+ * <p>
+ *     The thread that receives the event registers a future with the OMRSEventProcessingContext for each queued event.
+ *     The future completes once the listener has processed the event, along with any asynchronous processing that the
+ *     listener registered while it processed it.  This means the event bus connector only marks the event as processed
+ *     once every listener has finished with it.
+ * </p>
+ */
+class OMRSTopicListenerQueue implements Runnable
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSTopicListenerQueue.class);
+
+    private static final String THREAD_NAME_DESCRIPTION = " OMRSTopicListenerQueue";
+    private static final long   pollInterval            = 1000;
+
+    private final OMRSTopicListener                          topicListener;
+    private final String                                     listenerName;
+    private final String                                     topicName;
+    private final int                                        queueSize;
+    private final OMRSTopicListenerOverflowPolicy            overflowPolicy;
+    private final BiConsumer<OMRSEventV1, OMRSTopicListener> eventProcessor;
+    private final AuditLog                                   auditLog;
+    private final BlockingQueue<QueuedEvent>                 queue;
+    private final AtomicLong                                 discardedEventCount = new AtomicLong(0);
+    private final AtomicBoolean                              discarding          = new AtomicBoolean(false);
+
+    private volatile boolean keepRunning = true;
+
+
+    /**
+     * Set up the queue for a listener.
+     *
+     * @param topicListener listener to receive the events
+     * @param listenerName name of the listener for messages and the thread name
+     * @param topicName name of the topic for messages
+     * @param queueSize maximum number of events waiting for the listener
+     * @param overflowPolicy what to do when the queue is full
+     * @param eventProcessor passes an event to the listener
+     * @param auditLog logging destination
+     */
+    OMRSTopicListenerQueue(OMRSTopicListener                          topicListener,
+                           String                                     listenerName,
+                           String                                     topicName,
+                           int                                        queueSize,
+                           OMRSTopicListenerOverflowPolicy            overflowPolicy,
+                           BiConsumer<OMRSEventV1, OMRSTopicListener> eventProcessor,
+                           AuditLog                                   auditLog)
+    {
+        this.topicListener  = topicListener;
+        this.listenerName   = listenerName;
+        this.topicName      = topicName;
+        this.queueSize      = queueSize;
+        this.overflowPolicy = overflowPolicy;
+        this.eventProcessor = eventProcessor;
+        this.auditLog       = auditLog;
+        this.queue          = new ArrayBlockingQueue<>(queueSize);
+    }
+
+
+    /**
+     * Start the thread that passes the events to the listener.
+     */
+    void start()
+    {
+        final String methodName = "start";
+
+        Thread thread = new Thread(this, listenerName + THREAD_NAME_DESCRIPTION);
+
+        thread.setDaemon(true);
+        thread.start();
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OMRSAuditCode.OMRS_TOPIC_LISTENER_QUEUE.getMessageDefinition(topicName,
+                                                                                             listenerName,
+                                                                                             Integer.toString(queueSize),
+                                                                                             overflowPolicy.getName()));
+        }
+    }
+
+
+    /**
+     * Add an event to the queue.  This is called on the thread that received the event so the future for the
+     * listener's processing is added to that thread's event processing context.
+     *
+     * @param event event to pass to the listener
+     */
+    void addEvent(OMRSEventV1 event)
+    {
+        final String methodName = "addEvent";
+
+        InternalOMRSEventProcessingContext context     = InternalOMRSEventProcessingContext.getInstance();
+        QueuedEvent                        queuedEvent = new QueuedEvent(event, context.getCurrentMessageId());
+        boolean                            queued      = false;
+
+        try
+        {
+            if (overflowPolicy == OMRSTopicListenerOverflowPolicy.BLOCK)
+            {
+                while ((keepRunning) && (! queued))
+                {
+                    queued = queue.offer(queuedEvent, pollInterval, TimeUnit.MILLISECONDS);
+                }
+            }
+            else
+            {
+                queued = queue.offer(queuedEvent);
+            }
+        }
+        catch (InterruptedException interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        if (queued)
+        {
+            discarding.set(false);
+            context.addAsyncProcessingResult(queuedEvent.processingResult);
+        }
+        else if (keepRunning)
+        {
+            long discardedEvents = discardedEventCount.incrementAndGet();
+
+            log.debug("Event discarded for listener " + listenerName);
+
+            /*
+             * Only the first event discarded each time the queue fills up is logged.
+             */
+            if ((auditLog != null) && (discarding.compareAndSet(false, true)))
+            {
+                auditLog.logMessage(methodName,
+                                    OMRSAuditCode.EVENTS_DISCARDED_FOR_LISTENER.getMessageDefinition(topicName,
+                                                                                                     listenerName,
+                                                                                                     Integer.toString(queueSize),
+                                                                                                     Long.toString(discardedEvents)));
+            }
+        }
+    }
+
+
+    /**
+     * Pass the queued events to the listener until the queue is stopped.
+     */
+    @Override
+    public void run()
+    {
+        while (keepRunning)
+        {
+            QueuedEvent queuedEvent = null;
+
+            try
+            {
+                queuedEvent = queue.poll(pollInterval, TimeUnit.MILLISECONDS);
+            }
+            catch (InterruptedException interrupted)
+            {
+                log.debug("Listener queue for " + listenerName + " interrupted");
+            }
+
+            if (queuedEvent != null)
+            {
+                this.processEvent(queuedEvent);
+            }
+        }
+
+        log.debug("Listener queue for " + listenerName + " stopped");
+    }
+
+
+    /**
+     * Pass an event to the listener.  The listener's asynchronous processing is recorded in this thread's event
+     * processing context and then linked to the future registered when the event was queued.
+     *
+     * @param queuedEvent event to process
+     */
+    private void processEvent(QueuedEvent queuedEvent)
+    {
+        final String methodName = "processEvent";
+
+        InternalOMRSEventProcessingContext.clear();
+        InternalOMRSEventProcessingContext.getInstance().setCurrentMessageId(queuedEvent.messageId);
+
+        try
+        {
+            eventProcessor.accept(queuedEvent.event, topicListener);
+        }
+        catch (Throwable error)
+        {
+            log.debug("Unable to pass event to topic listener " + listenerName);
+
+            if (auditLog != null)
+            {
+                auditLog.logException(methodName,
+                                      OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(queuedEvent.event.toString(),
+                                                                                                error.toString(),
+                                                                                                listenerName),
+                                      queuedEvent.event.toString(),
+                                      error);
+            }
+        }
+        finally
+        {
+            queuedEvent.processingResult.setDelegate(InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult());
+            InternalOMRSEventProcessingContext.clear();
+        }
+    }
+
+
+    /**
+     * Stop passing events to the listener.  The events still in the queue are not processed and their futures
+     * never complete, so the event bus connector does not mark them as processed.
+     */
+    void stop()
+    {
+        keepRunning = false;
+    }
+
+
+    /**
+     * Return the number of events that have been discarded because the queue was full.
+     *
+     * @return count
+     */
+    long getDiscardedEventCount()
+    {
+        return discardedEventCount.get();
+    }
+
+
+    /**
+     * QueuedEvent holds an event waiting for the listener along with the identifier of the message it came from
+     * and the future that completes when the listener has processed it.
+     */
+    private static class QueuedEvent
+    {
+        private final OMRSEventV1       event;
+        private final String            messageId;
+        private final DelegatableFuture processingResult = new DelegatableFuture();
+
+
+        /**
+         * Save the event.
+         *
+         * @param event event from the topic
+         * @param messageId identifier of the message from the event bus
+         */
+        QueuedEvent(OMRSEventV1 event,
+                    String      messageId)
+        {
+            this.event     = event;
+            this.messageId = messageId;
+        }
+    }
+}
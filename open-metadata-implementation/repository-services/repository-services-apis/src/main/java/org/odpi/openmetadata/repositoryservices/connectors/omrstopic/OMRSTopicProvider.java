@@ -11,6 +11,38 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
  */
 public class OMRSTopicProvider extends ConnectorProviderBase
 {
+    /**
+     * Name of the configuration property that sets the preferred encoding (an OMRSEventEncoding name) for
+     * the events sent on the cohort topic.  The default is JSON.  The preferred encoding is only used once every
+     * member of the cohort has advertised support for it.  COMPRESSED events are smaller but take more CPU
+     * to send and receive.
+     */
+    public static final String  eventEncodingPropertyName = "eventEncoding";
+
+    /**
+     * Name of the configuration property that sets the maximum number of events waiting for each listener.
+     * Each listener has its own queue and thread.  A value of 0 passes the events to the listeners in turn on
+     * the thread that received them.
+     */
+    public static final String  listenerQueueSizePropertyName = "listenerQueueSize";
+
+    /**
+     * Name of the configuration property that sets what happens to an event when the queue of a listener is
+     * full (an OMRSTopicListenerOverflowPolicy name).
+     */
+    public static final String  listenerOverflowPolicyPropertyName = "listenerOverflowPolicy";
+
+    /**
+     * Name of the configuration property that sets the maximum number of bytes that an incoming compressed
+     * event may decode to.  Larger events are rejected.  The default is OMRSCompressedEventCodec.defaultMaxDecodedSize.
+     */
+    public static final String  maxDecodedEventSizePropertyName = "maxDecodedEventSize";
+
+    /**
+     * Number of events that can wait for each listener when the listenerQueueSize property is not set.
+     */
+    public static final int     defaultListenerQueueSize = 1000;
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * OMRS Connector implementation.
@@ -122,10 +122,13 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
 
     /**
      * Pass an event that has been received on the topic to each of the registered listeners.
+     * Implementations that deliver events from their own threads (rather than returning them from
+     * checkForIncomingEvents()) call this method directly.  It may be called from more than one thread
+     * as long as the implementation preserves the order of events that must be processed in sequence.
      *
      * @param event OMRSEvent to distribute
      */
-    private void distributeEvent(IncomingEvent event)
+    protected void distributeEvent(IncomingEvent event)
     {
         //Initially clear the async event processing context to ensure that it will only
         //have results from processing this event
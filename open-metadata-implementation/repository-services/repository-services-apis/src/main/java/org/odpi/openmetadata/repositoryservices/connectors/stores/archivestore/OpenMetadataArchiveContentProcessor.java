@@ -0,0 +1,86 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+
+/**
+ * OpenMetadataArchiveContentProcessor receives the content of an open metadata archive one element at a time
+ * from OpenMetadataArchiveStoreConnector.streamArchiveContents().  This means a large archive can be
+ * processed without building the complete OpenMetadataArchive object in memory.
+ * <p>
+ * The elements are always passed in the following order, whatever the order of the sections in the stored archive:
+ * </p>
+ * <ul>
+ *     <li>The archive properties</li>
+ *     <li>The attribute type definitions (AttributeTypeDefs)</li>
+ *     <li>The new type definitions (TypeDefs)</li>
+ *     <li>The patches to type definitions (TypeDefPatches)</li>
+ *     <li>The entities</li>
+ *     <li>The relationships</li>
+ *     <li>The classifications</li>
+ * </ul>
+ */
+public interface OpenMetadataArchiveContentProcessor
+{
+    /**
+     * Process the header of the archive.
+     *
+     * @param archiveProperties properties describing the archive
+     */
+    void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties);
+
+
+    /**
+     * Process an attribute type definition from the archive's type store.
+     *
+     * @param attributeTypeDef attribute type definition
+     */
+    void processAttributeTypeDef(AttributeTypeDef attributeTypeDef);
+
+
+    /**
+     * Process a new type definition from the archive's type store.
+     *
+     * @param typeDef type definition
+     */
+    void processNewTypeDef(TypeDef typeDef);
+
+
+    /**
+     * Process a patch to a type definition from the archive's type store.
+     *
+     * @param typeDefPatch type definition patch
+     */
+    void processTypeDefPatch(TypeDefPatch typeDefPatch);
+
+
+    /**
+     * Process an entity from the archive's instance store.
+     *
+     * @param entity entity
+     */
+    void processEntity(EntityDetail entity);
+
+
+    /**
+     * Process a relationship from the archive's instance store.
+     *
+     * @param relationship relationship
+     */
+    void processRelationship(Relationship relationship);
+
+
+    /**
+     * Process a classification from the archive's instance store.
+     *
+     * @param classification classification and the entity it is attached to
+     */
+    void processClassification(ClassificationEntityExtension classification);
+}
@@ -5,6 +5,15 @@ package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
 
 
 /**
@@ -26,4 +35,89 @@ public abstract class OpenMetadataArchiveStoreConnector extends ConnectorBase im
     {
         this.auditLog = auditLog;
     }
+
+
+    /**
+     * Pass the contents of the archive, one element at a time, to the supplied processor.  The order of the
+     * elements is described in OpenMetadataArchiveContentProcessor.  This implementation retrieves the whole
+     * archive through getArchiveContents().  Connectors that can read their archive incrementally should
+     * override it so that large archives do not need to be held in memory.
+     *
+     * @param contentProcessor receiver of the archive's elements
+     * @return false if the archive has no content or could not be read; true otherwise
+     */
+    public boolean streamArchiveContents(OpenMetadataArchiveContentProcessor   contentProcessor)
+    {
+        OpenMetadataArchive archiveContent = this.getArchiveContents();
+
+        if (archiveContent == null)
+        {
+            return false;
+        }
+
+        if (archiveContent.getArchiveProperties() != null)
+        {
+            contentProcessor.processArchiveProperties(archiveContent.getArchiveProperties());
+        }
+
+        OpenMetadataArchiveTypeStore archiveTypeStore = archiveContent.getArchiveTypeStore();
+
+        if (archiveTypeStore != null)
+        {
+            if (archiveTypeStore.getAttributeTypeDefs() != null)
+            {
+                for (AttributeTypeDef attributeTypeDef : archiveTypeStore.getAttributeTypeDefs())
+                {
+                    contentProcessor.processAttributeTypeDef(attributeTypeDef);
+                }
+            }
+
+            if (archiveTypeStore.getNewTypeDefs() != null)
+            {
+                for (TypeDef typeDef : archiveTypeStore.getNewTypeDefs())
+                {
+                    contentProcessor.processNewTypeDef(typeDef);
+                }
+            }
+
+            if (archiveTypeStore.getTypeDefPatches() != null)
+            {
+                for (TypeDefPatch typeDefPatch : archiveTypeStore.getTypeDefPatches())
+                {
+                    contentProcessor.processTypeDefPatch(typeDefPatch);
+                }
+            }
+        }
+
+        OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContent.getArchiveInstanceStore();
+
+        if (archiveInstanceStore != null)
+        {
+            if (archiveInstanceStore.getEntities() != null)
+            {
+                for (EntityDetail entity : archiveInstanceStore.getEntities())
+                {
+                    contentProcessor.processEntity(entity);
+                }
+            }
+
+            if (archiveInstanceStore.getRelationships() != null)
+            {
+                for (Relationship relationship : archiveInstanceStore.getRelationships())
+                {
+                    contentProcessor.processRelationship(relationship);
+                }
+            }
+
+            if (archiveInstanceStore.getClassifications() != null)
+            {
+                for (ClassificationEntityExtension classification : archiveInstanceStore.getClassifications())
+                {
+                    contentProcessor.processClassification(classification);
+                }
+            }
+        }
+
+        return true;
+    }
 }
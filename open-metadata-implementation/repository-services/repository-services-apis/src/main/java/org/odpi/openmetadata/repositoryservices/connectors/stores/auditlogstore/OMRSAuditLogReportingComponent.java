@@ -29,6 +29,14 @@ public class OMRSAuditLogReportingComponent implements Serializable, ComponentDe
     private  String   componentWikiURL = null;
 
 
+    /**
+     * Default constructor used when the reporting component is read from JSON.
+     */
+    public OMRSAuditLogReportingComponent()
+    {
+    }
+
+
     /**
      * Construct the description of the reporting component.
      *
@@ -79,6 +87,17 @@ public class OMRSAuditLogReportingComponent implements Serializable, ComponentDe
     }
 
 
+    /**
+     * Set up the numerical code for this component.
+     *
+     * @param componentId int componentId
+     */
+    public void setComponentId(int componentId)
+    {
+        this.componentId = componentId;
+    }
+
+
     /**
      * Return the name of the component.  This is the name used in the audit log records.
      *
@@ -90,6 +109,17 @@ public class OMRSAuditLogReportingComponent implements Serializable, ComponentDe
     }
 
 
+    /**
+     * Set up the name of the component.
+     *
+     * @param componentName String component name
+     */
+    public void setComponentName(String componentName)
+    {
+        this.componentName = componentName;
+    }
+
+
     /**
      * Return the short description of the component. This is an English description.  Natural language support for
      * these values can be added to UIs using a resource bundle indexed with the component Id.  This value is
@@ -103,6 +133,17 @@ public class OMRSAuditLogReportingComponent implements Serializable, ComponentDe
     }
 
 
+    /**
+     * Set up the short description of the component.
+     *
+     * @param componentType String description
+     */
+    public void setComponentType(String componentType)
+    {
+        this.componentDescription = componentType;
+    }
+
+
     /**
      * URL link to the wiki page that describes this component.  This provides more information to the log reader
      * on the operation of the component.
@@ -115,6 +156,17 @@ public class OMRSAuditLogReportingComponent implements Serializable, ComponentDe
     }
 
 
+    /**
+     * Set up the URL link to the wiki page that describes this component.
+     *
+     * @param componentWikiURL String URL
+     */
+    public void setComponentWikiURL(String componentWikiURL)
+    {
+        this.componentWikiURL = componentWikiURL;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -2,11 +2,11 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectorTypeProperties;
+import org.odpi.openmetadata.repositoryservices.events.OpenMetadataEventSerializer;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
@@ -288,11 +288,9 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
     {
         final String parameterName = "logRecord";
 
-        ObjectMapper objectMapper = new ObjectMapper();
-
         try
         {
-            return objectMapper.writeValueAsString(logRecord);
+            return OpenMetadataEventSerializer.toJSON(logRecord);
         }
         catch (Throwable  exc)
         {
@@ -2,6 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.Future;
@@ -39,6 +40,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidEntityExce
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidRelationshipException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidTypeDefException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSCheckedExceptionBase;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PatchErrorException;
@@ -2059,6 +2061,259 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                UserNotAuthorizedException;
 
 
+    /**
+     * Create a batch of new entities.  Each entity in the list is a template for one new entity: the type GUID
+     * is taken from its instance type and the properties, classifications and status are taken from the
+     * corresponding attributes.  All other header values are ignored.  The result list has one entry for each
+     * template, in the same order.  It holds either the new entity or the exception that the item would
+     * have produced from addEntity.
+     *
+     * This default implementation calls addEntity for each template.  Repositories that are able to
+     * store the batch more efficiently should override it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities templates for the new entities.
+     * @return list of results, one for each template.
+     * @throws InvalidParameterException the user id or the list is null, or the list is empty.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> addEntities(String             userId,
+                                                 List<EntityDetail> newEntities) throws InvalidParameterException,
+                                                                                        RepositoryErrorException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String methodName = "addEntities";
+
+        this.validateBatchParameters(userId, newEntities, "newEntities", methodName);
+
+        List<InstanceBatchResult> results = new ArrayList<>(newEntities.size());
+
+        for (EntityDetail newEntity : newEntities)
+        {
+            try
+            {
+                results.add(new InstanceBatchResult(this.addEntity(userId,
+                                                                   getTemplateTypeGUID(newEntity),
+                                                                   newEntity == null ? null : newEntity.getProperties(),
+                                                                   newEntity == null ? null : newEntity.getClassifications(),
+                                                                   newEntity == null ? null : newEntity.getStatus())));
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                throw error;
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                results.add(getBatchErrorResult(error));
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Create a batch of new relationships.  Each relationship in the list is a template for one new
+     * relationship: the type GUID is taken from its instance type, the entity GUIDs from its entity proxies
+     * and the properties and status from the corresponding attributes.  All other header values are ignored.
+     * The result list has one entry for each template, in the same order.  It holds either the new
+     * relationship or the exception that the item would have produced from addRelationship.
+     *
+     * This default implementation calls addRelationship for each template.  Repositories that are able to
+     * store the batch more efficiently should override it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationships templates for the new relationships.
+     * @return list of results, one for each template.
+     * @throws InvalidParameterException the user id or the list is null, or the list is empty.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> addRelationships(String             userId,
+                                                      List<Relationship> newRelationships) throws InvalidParameterException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  FunctionNotSupportedException,
+                                                                                                  UserNotAuthorizedException
+    {
+        final String methodName = "addRelationships";
+
+        this.validateBatchParameters(userId, newRelationships, "newRelationships", methodName);
+
+        List<InstanceBatchResult> results = new ArrayList<>(newRelationships.size());
+
+        for (Relationship newRelationship : newRelationships)
+        {
+            try
+            {
+                results.add(new InstanceBatchResult(this.addRelationship(userId,
+                                                                         getTemplateTypeGUID(newRelationship),
+                                                                         newRelationship == null ? null : newRelationship.getProperties(),
+                                                                         newRelationship == null ? null : getTemplateEntityGUID(newRelationship.getEntityOneProxy()),
+                                                                         newRelationship == null ? null : getTemplateEntityGUID(newRelationship.getEntityTwoProxy()),
+                                                                         newRelationship == null ? null : newRelationship.getStatus())));
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                throw error;
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                results.add(getBatchErrorResult(error));
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Add the same classification to each of a list of entities.  The result list has one entry for each
+     * entity GUID, in the same order.  It holds either the classified entity or the exception that the item
+     * would have produced from classifyEntity.
+     *
+     * This default implementation calls classifyEntity for each entity.  Repositories that are able to
+     * update the batch more efficiently should override it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers (guids) of the entities to classify.
+     * @param classificationName String name for the classification.
+     * @param classificationProperties list of properties to set in each classification.
+     * @return list of results, one for each entity GUID.
+     * @throws InvalidParameterException the user id or the list is null, or the list is empty.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> classifyEntities(String             userId,
+                                                      List<String>       entityGUIDs,
+                                                      String             classificationName,
+                                                      InstanceProperties classificationProperties) throws InvalidParameterException,
+                                                                                                          RepositoryErrorException,
+                                                                                                          FunctionNotSupportedException,
+                                                                                                          UserNotAuthorizedException
+    {
+        final String methodName = "classifyEntities";
+
+        this.validateBatchParameters(userId, entityGUIDs, "entityGUIDs", methodName);
+
+        List<InstanceBatchResult> results = new ArrayList<>(entityGUIDs.size());
+
+        for (String entityGUID : entityGUIDs)
+        {
+            try
+            {
+                results.add(new InstanceBatchResult(this.classifyEntity(userId,
+                                                                        entityGUID,
+                                                                        classificationName,
+                                                                        classificationProperties)));
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                throw error;
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                results.add(getBatchErrorResult(error));
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Validate the parameters that are common to all of the batch methods.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param batch list of items in the batch
+     * @param batchParameterName name of the parameter that passed the list
+     * @param methodName name of the calling method
+     * @throws InvalidParameterException the user id or the list is null, or the list is empty.
+     */
+    protected void validateBatchParameters(String  userId,
+                                           List<?> batch,
+                                           String  batchParameterName,
+                                           String  methodName) throws InvalidParameterException
+    {
+        final String userIdParameterName = "userId";
+
+        if (userId == null)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NULL_USER_ID.getMessageDefinition(userIdParameterName,
+                                                                                                methodName,
+                                                                                                repositoryName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                userIdParameterName);
+        }
+
+        if ((batch == null) || (batch.isEmpty()))
+        {
+            throw new InvalidParameterException(OMRSErrorCode.NULL_INSTANCE_BATCH.getMessageDefinition(batchParameterName,
+                                                                                                       methodName,
+                                                                                                       repositoryName),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                batchParameterName);
+        }
+    }
+
+
+    /**
+     * Return the result for an item in a batch that failed.
+     *
+     * @param error exception that the item produced
+     * @return batch result describing the exception
+     */
+    protected InstanceBatchResult getBatchErrorResult(OMRSCheckedExceptionBase error)
+    {
+        return new InstanceBatchResult(error.getClass().getName(),
+                                       error.getReportedErrorMessageId(),
+                                       error.getReportedErrorMessage());
+    }
+
+
+    /**
+     * Return the type GUID from a template instance.
+     *
+     * @param instance template
+     * @return type GUID or null
+     */
+    protected String getTemplateTypeGUID(InstanceHeader instance)
+    {
+        if ((instance == null) || (instance.getType() == null))
+        {
+            return null;
+        }
+
+        return instance.getType().getTypeDefGUID();
+    }
+
+
+    /**
+     * Return the GUID of an entity proxy from a template relationship.
+     *
+     * @param entityProxy proxy
+     * @return GUID or null
+     */
+    protected String getTemplateEntityGUID(EntityProxy entityProxy)
+    {
+        if (entityProxy == null)
+        {
+            return null;
+        }
+
+        return entityProxy.getGUID();
+    }
+
+
     /* ======================================================================
      * Group 5: Change the control information in entities and relationships
      */
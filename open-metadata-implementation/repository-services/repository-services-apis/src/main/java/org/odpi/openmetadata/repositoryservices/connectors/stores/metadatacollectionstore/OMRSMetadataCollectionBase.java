@@ -11,6 +11,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSSearchPattern;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
@@ -506,6 +507,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     {
         if (typeDefName != null)
         {
+            OMRSSearchPattern     typeNamePattern = OMRSSearchPattern.compile(typeDefName);
             List<TypeDef>         matchedTypeDefs = new ArrayList<>();
 
             if (allTypeDefs != null)
@@ -514,7 +516,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
                 {
                     if (typeDef != null)
                     {
-                        if (typeDef.getName().matches(typeDefName))
+                        if (typeNamePattern.matches(typeDef.getName()))
                         {
                             matchedTypeDefs.add(typeDef);
                         }
@@ -530,7 +532,7 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
                 {
                     if (attributeTypeDef != null)
                     {
-                        if (attributeTypeDef.getName().matches(typeDefName))
+                        if (typeNamePattern.matches(attributeTypeDef.getName()))
                         {
                             matchedAttributeTypeDefs.add(attributeTypeDef);
                         }
@@ -967,13 +969,14 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     {
         if (allTypes != null)
         {
-            List<TypeDef> matchedTypeDefs = new ArrayList<>();
+            OMRSSearchPattern searchPattern   = OMRSSearchPattern.compile(searchCriteria);
+            List<TypeDef>     matchedTypeDefs = new ArrayList<>();
 
             for (TypeDef typeDef : allTypes)
             {
                 if (typeDef != null)
                 {
-                    if (typeDef.getName().matches(searchCriteria))
+                    if (searchPattern.matches(typeDef.getName()))
                     {
                         matchedTypeDefs.add(typeDef);
                     }
@@ -0,0 +1,274 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * InstanceBatchResult describes the outcome of one item of a batch request to the metadata collection such as
+ * addEntities or addRelationships.  The batch methods return one InstanceBatchResult for each item in the request,
+ * in the same order.  If the item was processed successfully, the result holds the entity or relationship that
+ * was created or updated.  Otherwise it holds the details of the exception that the item would have produced
+ * if it had been requested on its own.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class InstanceBatchResult extends InstanceElementHeader
+{
+    private static final long    serialVersionUID = 1L;
+
+    private EntityDetail entity                  = null;
+    private Relationship relationship            = null;
+    private String       exceptionClassName      = null;
+    private String       exceptionErrorMessageId = null;
+    private String       exceptionErrorMessage   = null;
+
+
+    /**
+     * Default constructor
+     */
+    public InstanceBatchResult()
+    {
+        super();
+    }
+
+
+    /**
+     * Constructor for a successfully processed entity.
+     *
+     * @param entity new or updated entity
+     */
+    public InstanceBatchResult(EntityDetail entity)
+    {
+        super();
+
+        this.entity = entity;
+    }
+
+
+    /**
+     * Constructor for a successfully processed relationship.
+     *
+     * @param relationship new or updated relationship
+     */
+    public InstanceBatchResult(Relationship relationship)
+    {
+        super();
+
+        this.relationship = relationship;
+    }
+
+
+    /**
+     * Constructor for an item that failed.
+     *
+     * @param exceptionClassName class name of the exception
+     * @param exceptionErrorMessageId identifier of the error message
+     * @param exceptionErrorMessage error message
+     */
+    public InstanceBatchResult(String exceptionClassName,
+                               String exceptionErrorMessageId,
+                               String exceptionErrorMessage)
+    {
+        super();
+
+        this.exceptionClassName = exceptionClassName;
+        this.exceptionErrorMessageId = exceptionErrorMessageId;
+        this.exceptionErrorMessage = exceptionErrorMessage;
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public InstanceBatchResult(InstanceBatchResult template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            entity = template.getEntity();
+            relationship = template.getRelationship();
+            exceptionClassName = template.getExceptionClassName();
+            exceptionErrorMessageId = template.getExceptionErrorMessageId();
+            exceptionErrorMessage = template.getExceptionErrorMessage();
+        }
+    }
+
+
+    /**
+     * Return the entity that was created or updated by this item.
+     *
+     * @return entity or null
+     */
+    public EntityDetail getEntity()
+    {
+        return entity;
+    }
+
+
+    /**
+     * Set up the entity that was created or updated by this item.
+     *
+     * @param entity entity
+     */
+    public void setEntity(EntityDetail entity)
+    {
+        this.entity = entity;
+    }
+
+
+    /**
+     * Return the relationship that was created or updated by this item.
+     *
+     * @return relationship or null
+     */
+    public Relationship getRelationship()
+    {
+        return relationship;
+    }
+
+
+    /**
+     * Set up the relationship that was created or updated by this item.
+     *
+     * @param relationship relationship
+     */
+    public void setRelationship(Relationship relationship)
+    {
+        this.relationship = relationship;
+    }
+
+
+    /**
+     * Return the class name of the exception that stopped this item being processed.  Null means the item
+     * was successful.
+     *
+     * @return class name
+     */
+    public String getExceptionClassName()
+    {
+        return exceptionClassName;
+    }
+
+
+    /**
+     * Set up the class name of the exception that stopped this item being processed.
+     *
+     * @param exceptionClassName class name
+     */
+    public void setExceptionClassName(String exceptionClassName)
+    {
+        this.exceptionClassName = exceptionClassName;
+    }
+
+
+    /**
+     * Return the identifier of the error message for the failure.
+     *
+     * @return message identifier
+     */
+    public String getExceptionErrorMessageId()
+    {
+        return exceptionErrorMessageId;
+    }
+
+
+    /**
+     * Set up the identifier of the error message for the failure.
+     *
+     * @param exceptionErrorMessageId message identifier
+     */
+    public void setExceptionErrorMessageId(String exceptionErrorMessageId)
+    {
+        this.exceptionErrorMessageId = exceptionErrorMessageId;
+    }
+
+
+    /**
+     * Return the error message for the failure.
+     *
+     * @return message text
+     */
+    public String getExceptionErrorMessage()
+    {
+        return exceptionErrorMessage;
+    }
+
+
+    /**
+     * Set up the error message for the failure.
+     *
+     * @param exceptionErrorMessage message text
+     */
+    public void setExceptionErrorMessage(String exceptionErrorMessage)
+    {
+        this.exceptionErrorMessage = exceptionErrorMessage;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "InstanceBatchResult{" +
+                "entity=" + entity +
+                ", relationship=" + relationship +
+                ", exceptionClassName='" + exceptionClassName + '\'' +
+                ", exceptionErrorMessageId='" + exceptionErrorMessageId + '\'' +
+                ", exceptionErrorMessage='" + exceptionErrorMessage + '\'' +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof InstanceBatchResult))
+        {
+            return false;
+        }
+        InstanceBatchResult that = (InstanceBatchResult) objectToCompare;
+        return Objects.equals(entity, that.entity) &&
+                Objects.equals(relationship, that.relationship) &&
+                Objects.equals(exceptionClassName, that.exceptionClassName) &&
+                Objects.equals(exceptionErrorMessageId, that.exceptionErrorMessageId) &&
+                Objects.equals(exceptionErrorMessage, that.exceptionErrorMessage);
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(entity, relationship, exceptionClassName, exceptionErrorMessageId, exceptionErrorMessage);
+    }
+}
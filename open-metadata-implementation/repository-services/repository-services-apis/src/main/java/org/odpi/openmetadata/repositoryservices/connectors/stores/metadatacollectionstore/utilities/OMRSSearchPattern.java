@@ -0,0 +1,366 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * OMRSSearchPattern is the compiled form of a search string (regular expression) used to match property values,
+ * type names and classification names.  It gives the same result as String.matches() but the expression is only
+ * analysed once, and the compiled patterns are cached so a search that tests the same expression against every
+ * candidate instance does not recompile it each time.
+ *
+ * The regular expressions built by the exact match, starts with, ends with and contains helper methods of
+ * OMRSRepositoryHelper (and plain strings with no regular expression characters) are recognized and
+ * matched as literal strings without using the regular expression engine.
+ */
+public class OMRSSearchPattern
+{
+    private static final int                             MAXIMUM_CACHE_SIZE = 1000;
+    private static final Map<String, OMRSSearchPattern>  cache              = new ConcurrentHashMap<>();
+
+    private static final String CASE_INSENSITIVE = "(?i)";
+    private static final String ANY_CHARACTERS   = ".*";
+    private static final String QUOTE_START      = "\\Q";
+    private static final String QUOTE_END        = "\\E";
+    private static final String REGEX_CHARACTERS = "\\^$.|?*+()[]{}";
+
+    private enum MatchType
+    {
+        EXACT,
+        STARTS_WITH,
+        ENDS_WITH,
+        CONTAINS,
+        REGEX
+    }
+
+    private final String    regex;
+    private final MatchType matchType;
+    private final String    literal;
+    private final boolean   caseInsensitive;
+    private volatile Pattern pattern = null;
+
+
+    /**
+     * Return the compiled form of the regular expression.  This may be a previously compiled pattern.
+     *
+     * @param regex regular expression
+     * @return compiled search pattern
+     * @throws java.util.regex.PatternSyntaxException the expression is not valid
+     */
+    public static OMRSSearchPattern compile(String regex)
+    {
+        if (regex == null)
+        {
+            throw new NullPointerException("null search pattern");
+        }
+
+        OMRSSearchPattern searchPattern = cache.get(regex);
+
+        if (searchPattern == null)
+        {
+            searchPattern = new OMRSSearchPattern(regex);
+
+            if (cache.size() >= MAXIMUM_CACHE_SIZE)
+            {
+                cache.clear();
+            }
+
+            cache.put(regex, searchPattern);
+        }
+
+        return searchPattern;
+    }
+
+
+    /**
+     * Analyse the regular expression.  It is compiled with the regular expression engine if it is not one
+     * of the literal forms.
+     *
+     * @param regex regular expression
+     */
+    private OMRSSearchPattern(String regex)
+    {
+        this.regex = regex;
+
+        String  body        = regex;
+        boolean insensitive = false;
+
+        if (body.startsWith(CASE_INSENSITIVE))
+        {
+            insensitive = true;
+            body = body.substring(CASE_INSENSITIVE.length());
+        }
+
+        boolean leadingWildcard  = false;
+        boolean trailingWildcard = false;
+
+        if (body.startsWith(ANY_CHARACTERS))
+        {
+            leadingWildcard = true;
+            body = body.substring(ANY_CHARACTERS.length());
+        }
+
+        if (body.endsWith(ANY_CHARACTERS) && ! body.endsWith("\\" + ANY_CHARACTERS))
+        {
+            trailingWildcard = true;
+            body = body.substring(0, body.length() - ANY_CHARACTERS.length());
+        }
+
+        String literalBody = getLiteral(body);
+
+        /*
+         * Case insensitive matching in the regular expression engine (without UNICODE_CASE) only applies to
+         * US-ASCII characters, so only ASCII literals use the case insensitive fast path.
+         */
+        if ((literalBody == null) || (insensitive && ! isASCII(literalBody)))
+        {
+            this.matchType = MatchType.REGEX;
+            this.literal = null;
+            this.caseInsensitive = false;
+            this.pattern = Pattern.compile(regex);
+        }
+        else
+        {
+            if (leadingWildcard && trailingWildcard)
+            {
+                this.matchType = MatchType.CONTAINS;
+            }
+            else if (leadingWildcard)
+            {
+                this.matchType = MatchType.ENDS_WITH;
+            }
+            else if (trailingWildcard)
+            {
+                this.matchType = MatchType.STARTS_WITH;
+            }
+            else
+            {
+                this.matchType = MatchType.EXACT;
+            }
+
+            this.literal = literalBody;
+            this.caseInsensitive = insensitive;
+        }
+    }
+
+
+    /**
+     * Return the literal string that the expression matches, or null if it is not a literal.  This is either a
+     * quoted string (\Q...\E) or a string with no regular expression characters.
+     *
+     * @param body expression without its case insensitive flag and wildcards
+     * @return literal or null
+     */
+    private static String getLiteral(String body)
+    {
+        if (body.startsWith(QUOTE_START) && body.endsWith(QUOTE_END)
+                && (body.length() >= QUOTE_START.length() + QUOTE_END.length())
+                && (body.indexOf(QUOTE_END, QUOTE_START.length()) == body.length() - QUOTE_END.length()))
+        {
+            return body.substring(QUOTE_START.length(), body.length() - QUOTE_END.length());
+        }
+
+        for (int i = 0; i < body.length(); i++)
+        {
+            if (REGEX_CHARACTERS.indexOf(body.charAt(i)) >= 0)
+            {
+                return null;
+            }
+        }
+
+        return body;
+    }
+
+
+    /**
+     * Return the regular expression this pattern was compiled from.
+     *
+     * @return regular expression
+     */
+    public String getRegex()
+    {
+        return regex;
+    }
+
+
+    /**
+     * Return whether the whole of the value matches the pattern - the equivalent of value.matches(regex).
+     *
+     * @param value value to test
+     * @return boolean
+     */
+    public boolean matches(String value)
+    {
+        if (value == null)
+        {
+            return false;
+        }
+
+        switch (matchType)
+        {
+            case EXACT:
+                return (value.length() == literal.length()) && regionMatches(value, 0);
+
+            case STARTS_WITH:
+                if (hasLineTerminator(value))
+                {
+                    break;
+                }
+                return (value.length() >= literal.length()) && regionMatches(value, 0);
+
+            case ENDS_WITH:
+                if (hasLineTerminator(value))
+                {
+                    break;
+                }
+                return (value.length() >= literal.length()) && regionMatches(value, value.length() - literal.length());
+
+            case CONTAINS:
+                if (hasLineTerminator(value))
+                {
+                    break;
+                }
+                if (! caseInsensitive)
+                {
+                    return value.contains(literal);
+                }
+                for (int offset = 0; offset <= value.length() - literal.length(); offset++)
+                {
+                    if (regionMatches(value, offset))
+                    {
+                        return true;
+                    }
+                }
+                return false;
+
+            default:
+                break;
+        }
+
+        /*
+         * The wildcard in the expression does not match line terminators so values that include them
+         * are left to the regular expression engine.
+         */
+        return getPattern().matcher(value).matches();
+    }
+
+
+    /**
+     * Return the compiled regular expression, compiling it on first use.
+     *
+     * @return pattern
+     */
+    private Pattern getPattern()
+    {
+        Pattern compiledPattern = pattern;
+
+        if (compiledPattern == null)
+        {
+            compiledPattern = Pattern.compile(regex);
+            pattern = compiledPattern;
+        }
+
+        return compiledPattern;
+    }
+
+
+    /**
+     * Return whether the literal appears in the value at the offset.
+     *
+     * @param value value to test
+     * @param offset starting position in the value
+     * @return boolean
+     */
+    private boolean regionMatches(String value, int offset)
+    {
+        if (! caseInsensitive)
+        {
+            return value.startsWith(literal, offset);
+        }
+
+        for (int i = 0; i < literal.length(); i++)
+        {
+            char valueChar   = value.charAt(offset + i);
+            char literalChar = literal.charAt(i);
+
+            if ((valueChar != literalChar) && (toASCIILowerCase(valueChar) != toASCIILowerCase(literalChar)))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Convert an upper case US-ASCII letter to lower case.  Other characters are unchanged.
+     *
+     * @param c character
+     * @return character
+     */
+    private static char toASCIILowerCase(char c)
+    {
+        return ((c >= 'A') && (c <= 'Z')) ? (char)(c + ('a' - 'A')) : c;
+    }
+
+
+    /**
+     * Return whether all of the characters in the string are US-ASCII.
+     *
+     * @param string string to test
+     * @return boolean
+     */
+    private static boolean isASCII(String string)
+    {
+        for (int i = 0; i < string.length(); i++)
+        {
+            if (string.charAt(i) > 127)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Return whether the value includes a character that the regular expression wildcard does not match.
+     *
+     * @param value value to test
+     * @return boolean
+     */
+    private static boolean hasLineTerminator(String value)
+    {
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+
+            if ((c == '\n') || (c == '\r') || (c == '\u0085') || (c == '\u2028') || (c == '\u2029'))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSSearchPattern{" +
+                "regex='" + regex + '\'' +
+                ", matchType=" + matchType +
+                '}';
+    }
+}
@@ -0,0 +1,217 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.events;
+
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * OMRSCompressedEventCodec sends the OMRS events as JSON that has been compressed with deflate and
+ * then Base64 encoded so that it can travel on the string based topics.  It only saves network bandwidth and
+ * topic storage: the event is still serialized to JSON and parsed from JSON, and the deflate, inflate and Base64
+ * steps add CPU on the sending server and on every server that receives the event.  It is therefore only
+ * used when a cohort is configured to prefer it (see OMRSTopicProvider.eventEncodingPropertyName), which is
+ * worthwhile when the topic or the network between the members is the bottleneck and large batch events are sent.
+ * <p>
+ * The compressor is primed with a dictionary of the property names, class names and enum values that appear in
+ * every OMRS event so that small events shrink too.  The payload starts with a prefix that identifies the format
+ * and the version of the dictionary.  The dictionary must never be changed for an existing prefix since servers
+ * with different levels of code need to decode the same events.  A new dictionary needs a new prefix.
+ * </p>
+ * <p>
+ * A payload can expand to many times its size when it is decoded, so decoding stops with an
+ * OMRSEventSizeException as soon as the decoded JSON passes the maximum size allowed for an event.
+ * </p>
+ */
+public class OMRSCompressedEventCodec implements OMRSEventCodec
+{
+    static final String prefix = "OMRSZ1:";
+
+    /**
+     * Maximum number of bytes that a compressed event may decode to when no other limit is supplied.
+     */
+    public static final int defaultMaxDecodedSize = 64 * 1024 * 1024;
+
+    private static final int    bufferSize = 8192;
+    private static final byte[] dictionary = ("\"OMRSEventV1\",\"protocolVersionId\":\"OMRS V1.0\",\"timestamp\":" +
+                                              "\"originator\":{\"metadataCollectionId\":\"\",\"serverName\":\"\",\"serverType\":\"\",\"organizationName\":\"" +
+                                              "\"eventCategory\":\"REGISTRY\"\"eventCategory\":\"TYPEDEF\"\"typeDefEventSection\":{\"typeDefEventType\":\"" +
+                                              "\"registryEventSection\":{\"registryEventType\":\"\"registrationTimestamp\":\"remoteConnection\":" +
+                                              "\"errorSection\":{\"errorCode\":\"errorMessage\":\"targetMetadataCollectionId\":" +
+                                              "\"eventCategory\":\"INSTANCE\",\"instanceEventSection\":{\"eventType\":\"" +
+                                              "NEW_ENTITY_EVENT\"UPDATED_ENTITY_EVENT\"DELETED_ENTITY_EVENT\"CLASSIFIED_ENTITY_EVENT\"" +
+                                              "NEW_RELATIONSHIP_EVENT\"UPDATED_RELATIONSHIP_EVENT\"DELETED_RELATIONSHIP_EVENT\"" +
+                                              "REFRESHED_ENTITY_EVENT\"REFRESHED_RELATIONSHIP_EVENT\"BATCH_INSTANCES_EVENT\"" +
+                                              "\"homeMetadataCollectionId\":\"\"originalHomeMetadataCollectionId\":\"\"originalInstanceGUID\":\"" +
+                                              "\"originalEntity\":\"originalRelationship\":\"instanceBatch\":{\"entities\":[\"relationships\":[" +
+                                              "\"typeDefVersion\":\"typeDefDescription\":\"typeDefDescriptionGUID\":" +
+                                              "\"validStatusList\":[\"ACTIVE\",\"DELETED\"],\"validInstanceProperties\":[\"" +
+                                              "\"typeDefSuperTypes\":[{\"headerVersion\":0,\"guid\":\"\",\"name\":\"" +
+                                              "\"maintainedBy\":[\"updatedBy\":\"updateTime\":\"replicatedBy\":\"instanceLicense\":" +
+                                              "\"instanceURL\":\"\"metadataCollectionName\":\"\"statusOnDelete\":\"\"mappingProperties\":" +
+                                              "\"class\":\"Relationship\",\"headerVersion\":0,\"relationship\":{" +
+                                              "\"entityOneProxy\":{\"class\":\"EntityProxy\",\"headerVersion\":0,\"entityTwoProxy\":{" +
+                                              "\"uniqueProperties\":{\"class\":\"InstanceProperties\",\"instanceProperties\":{" +
+                                              "\"class\":\"EnumPropertyValue\",\"instancePropertyCategory\":\"ENUM\",\"ordinal\":\"symbolicName\":\"" +
+                                              "\"class\":\"MapPropertyValue\",\"instancePropertyCategory\":\"MAP\",\"mapValues\":{" +
+                                              "\"class\":\"ArrayPropertyValue\",\"instancePropertyCategory\":\"ARRAY\",\"arrayCount\":\"arrayValues\":{" +
+                                              "\"class\":\"Classification\",\"headerVersion\":0,\"classificationOrigin\":\"ASSIGNED\",\"name\":\"" +
+                                              "\"classifications\":[{\"class\":\"Classification\",\"headerVersion\":0,\"type\":{" +
+                                              "\"typeDefCategory\":\"RELATIONSHIP_DEF\"\"typeDefCategory\":\"CLASSIFICATION_DEF\"" +
+                                              "\"class\":\"EntityDetail\",\"headerVersion\":0,\"type\":{\"class\":\"InstanceType\",\"typeDefCategory\":\"ENTITY_DEF\"," +
+                                              "\"typeDefGUID\":\"\",\"typeDefName\":\"\",\"instanceGUID\":\"\",\"entity\":{" +
+                                              "\"instanceProvenanceType\":\"LOCAL_COHORT\",\"metadataCollectionId\":\"\",\"createdBy\":\"\",\"createTime\":" +
+                                              ",\"version\":1,\"guid\":\"\"propertyNames\":[\"\"],\"propertyCount\":\"status\":\"ACTIVE\"}" +
+                                              "\"properties\":{\"class\":\"InstanceProperties\",\"instanceProperties\":{\"qualifiedName\":" +
+                                              "{\"class\":\"PrimitivePropertyValue\",\"instancePropertyCategory\":\"PRIMITIVE\"," +
+                                              "\"primitiveDefCategory\":\"OM_PRIMITIVE_TYPE_STRING\",\"primitiveValue\":\"" +
+                                              "{\"class\":\"OMRSEventV1\",\"protocolVersionId\":\"OMRS V1.0\",\"timestamp\":").getBytes(StandardCharsets.UTF_8);
+
+
+    /**
+     * Return the encoding that this codec implements.
+     *
+     * @return COMPRESSED
+     */
+    @Override
+    public OMRSEventEncoding getEncoding()
+    {
+        return OMRSEventEncoding.COMPRESSED;
+    }
+
+
+    /**
+     * Return whether the payload starts with the prefix of this encoding.
+     *
+     * @param event payload received from the topic
+     * @return boolean flag
+     */
+    @Override
+    public boolean isEncodedEvent(String event)
+    {
+        return event.startsWith(prefix);
+    }
+
+
+    /**
+     * Convert an event bean into compressed JSON.
+     *
+     * @param event event bean
+     * @return prefix followed by the Base64 encoded compressed JSON
+     * @throws IOException the event can not be converted to JSON
+     */
+    @Override
+    public String encode(OMRSEventBean event) throws IOException
+    {
+        byte[]   json     = OpenMetadataEventSerializer.toJSONBytes(event);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+        try
+        {
+            deflater.setDictionary(dictionary);
+            deflater.setInput(json);
+            deflater.finish();
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+            byte[]                buffer     = new byte[bufferSize];
+
+            while (! deflater.finished())
+            {
+                int length = deflater.deflate(buffer);
+                compressed.write(buffer, 0, length);
+            }
+
+            return prefix + Base64.getEncoder().encodeToString(compressed.toByteArray());
+        }
+        finally
+        {
+            deflater.end();
+        }
+    }
+
+
+    /**
+     * Convert a compressed payload received from the topic into an event bean, allowing it to decode
+     * to the default maximum size.
+     *
+     * @param event payload
+     * @return event bean
+     * @throws IOException the payload is not a valid compressed event or decodes to more than the default maximum size
+     */
+    @Override
+    public OMRSEventBean decode(String event) throws IOException
+    {
+        return decode(event, defaultMaxDecodedSize);
+    }
+
+
+    /**
+     * Convert a compressed payload received from the topic into an event bean.
+     *
+     * @param event payload
+     * @param maxDecodedSize maximum number of bytes that the payload may decode to
+     * @return event bean
+     * @throws OMRSEventSizeException the payload decodes to more than the maximum number of bytes
+     * @throws IOException the payload is not a valid compressed event
+     */
+    @Override
+    public OMRSEventBean decode(String event,
+                                int    maxDecodedSize) throws IOException
+    {
+        if (! isEncodedEvent(event))
+        {
+            throw new IOException("Event does not start with " + prefix);
+        }
+
+        Inflater inflater = new Inflater();
+
+        try
+        {
+            inflater.setInput(Base64.getDecoder().decode(event.substring(prefix.length())));
+
+            ByteArrayOutputStream json   = new ByteArrayOutputStream((int) Math.min(maxDecodedSize, event.length() * 4L));
+            byte[]                buffer = new byte[bufferSize];
+
+            while (! inflater.finished())
+            {
+                int length = inflater.inflate(buffer);
+
+                if (length == 0)
+                {
+                    if (inflater.needsDictionary())
+                    {
+                        inflater.setDictionary(dictionary);
+                    }
+                    else if (inflater.needsInput())
+                    {
+                        throw new IOException("Compressed event is truncated");
+                    }
+                }
+
+                if (json.size() + length > maxDecodedSize)
+                {
+                    throw new OMRSEventSizeException(maxDecodedSize);
+                }
+
+                json.write(buffer, 0, length);
+            }
+
+            return OpenMetadataEventSerializer.fromJSON(json.toByteArray(), OMRSEventBean.class);
+        }
+        catch (DataFormatException | IllegalArgumentException error)
+        {
+            throw new IOException("Compressed event is not valid: " + error.getMessage(), error);
+        }
+        finally
+        {
+            inflater.end();
+        }
+    }
+}
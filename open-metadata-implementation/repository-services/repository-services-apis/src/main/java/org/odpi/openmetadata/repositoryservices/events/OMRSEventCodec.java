@@ -0,0 +1,70 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.events;
+
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+
+import java.io.IOException;
+
+/**
+ * OMRSEventCodec converts the OMRS event beans to and from the string payload that is sent on a cohort topic.
+ * Each codec implements one of the encodings listed in OMRSEventEncoding.  A server is able to decode
+ * every encoding it knows about, so the sender chooses the encoding and the receiver detects it from the payload.
+ */
+public interface OMRSEventCodec
+{
+    /**
+     * Return the encoding that this codec implements.
+     *
+     * @return encoding enum
+     */
+    OMRSEventEncoding getEncoding();
+
+
+    /**
+     * Return whether the payload has been encoded by this codec.  This only examines the start of the
+     * payload, it does not check that the whole payload is valid.
+     *
+     * @param event payload received from the topic
+     * @return boolean flag
+     */
+    boolean isEncodedEvent(String event);
+
+
+    /**
+     * Convert an event bean into the payload to send on the topic.
+     *
+     * @param event event bean
+     * @return payload
+     * @throws IOException the event can not be encoded
+     */
+    String encode(OMRSEventBean event) throws IOException;
+
+
+    /**
+     * Convert a payload received from the topic into an event bean.
+     *
+     * @param event payload
+     * @return event bean
+     * @throws IOException the payload is not a valid event in this encoding
+     */
+    OMRSEventBean decode(String event) throws IOException;
+
+
+    /**
+     * Convert a payload received from the topic into an event bean, rejecting payloads that decode to more than
+     * the maximum number of bytes.  Encodings that do not expand the payload are already bounded by the size of
+     * the messages on the topic, so by default the limit is not checked.
+     *
+     * @param event payload
+     * @param maxDecodedSize maximum number of bytes that the payload may decode to
+     * @return event bean
+     * @throws OMRSEventSizeException the payload decodes to more than the maximum number of bytes
+     * @throws IOException the payload is not a valid event in this encoding
+     */
+    default OMRSEventBean decode(String event,
+                                 int    maxDecodedSize) throws IOException
+    {
+        return decode(event);
+    }
+}
@@ -0,0 +1,150 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.events;
+
+import java.io.Serializable;
+
+/**
+ * OMRSEventEncoding lists the encodings that can be used for the OMRS events sent on a cohort topic.  JSON is
+ * the default.  Another encoding is only used when it is set as the preferred encoding in the topic connector's
+ * configuration and every member of the cohort has advertised support for it in its registry events.
+ * Registry events themselves are always sent as JSON so that new members can read them.
+ */
+public enum OMRSEventEncoding implements Serializable
+{
+    JSON       (0, "JSON",       "Events are sent as plain JSON.", new OMRSJSONEventCodec()),
+    COMPRESSED (1, "COMPRESSED", "Events are sent as JSON compressed with deflate and Base64 encoded.  This reduces the size " +
+                                 "of the events on the topic at the cost of extra CPU to encode and decode each event.",
+                new OMRSCompressedEventCodec());
+
+    private static final long     serialVersionUID = 1L;
+
+    private int            ordinal;
+    private String         name;
+    private String         description;
+    private OMRSEventCodec codec;
+
+
+    /**
+     * Typical Constructor
+     *
+     * @param ordinal index number
+     * @param name short name
+     * @param description longer explanation
+     * @param codec codec that implements the encoding
+     */
+    OMRSEventEncoding(int ordinal, String name, String description, OMRSEventCodec codec)
+    {
+        /*
+         * Save the values supplied
+         */
+        this.ordinal = ordinal;
+        this.name = name;
+        this.description = description;
+        this.codec = codec;
+    }
+
+
+    /**
+     * Return the encoding with the supplied name (ignoring case).
+     *
+     * @param name name of the encoding
+     * @return encoding enum or null if the name is not recognized
+     */
+    public static OMRSEventEncoding getEncoding(String name)
+    {
+        if (name != null)
+        {
+            for (OMRSEventEncoding encoding : OMRSEventEncoding.values())
+            {
+                if (encoding.getName().equalsIgnoreCase(name.trim()))
+                {
+                    return encoding;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the codec that is able to decode the supplied payload.  Payloads that are not recognized
+     * are passed to the JSON codec which reports the parsing error.
+     *
+     * @param event payload received from the topic
+     * @return codec
+     */
+    public static OMRSEventCodec getCodecForEvent(String event)
+    {
+        for (OMRSEventEncoding encoding : OMRSEventEncoding.values())
+        {
+            if (encoding.getCodec().isEncodedEvent(event))
+            {
+                return encoding.getCodec();
+            }
+        }
+
+        return JSON.getCodec();
+    }
+
+
+    /**
+     * Return the code for this enum instance
+     *
+     * @return int code
+     */
+    public int getOrdinal()
+    {
+        return ordinal;
+    }
+
+
+    /**
+     * Return the default symbol for this enum instance.
+     *
+     * @return String default symbol
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the default description for this enum instance.
+     *
+     * @return String default description
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Return the codec that encodes and decodes events in this encoding.
+     *
+     * @return codec
+     */
+    public OMRSEventCodec getCodec()
+    {
+        return codec;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSEventEncoding{" +
+                "ordinal=" + ordinal +
+                ", name='" + name + '\'' +
+                ", description='" + description + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,41 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.events;
+
+import java.io.IOException;
+
+/**
+ * OMRSEventSizeException is thrown by a codec when a payload received from the topic decodes to more than
+ * the maximum number of bytes allowed for an event.  Decoding stops as soon as the limit is passed so a small
+ * payload that expands to a very large event can not exhaust the memory of the server.
+ */
+public class OMRSEventSizeException extends IOException
+{
+    private static final long    serialVersionUID = 1L;
+
+    private              int     maxDecodedSize;
+
+
+    /**
+     * Constructor for the exception.
+     *
+     * @param maxDecodedSize maximum number of bytes that the payload was allowed to decode to
+     */
+    public OMRSEventSizeException(int maxDecodedSize)
+    {
+        super("Event decodes to more than " + maxDecodedSize + " bytes");
+
+        this.maxDecodedSize = maxDecodedSize;
+    }
+
+
+    /**
+     * Return the maximum number of bytes that the payload was allowed to decode to.
+     *
+     * @return byte count
+     */
+    public int getMaxDecodedSize()
+    {
+        return maxDecodedSize;
+    }
+}
@@ -0,0 +1,76 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.events;
+
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+
+import java.io.IOException;
+
+/**
+ * OMRSJSONEventCodec sends the OMRS events as plain JSON.  This is the default encoding because
+ * every server in a cohort, whatever its level, is able to read it.
+ */
+public class OMRSJSONEventCodec implements OMRSEventCodec
+{
+    /**
+     * Return the encoding that this codec implements.
+     *
+     * @return JSON
+     */
+    @Override
+    public OMRSEventEncoding getEncoding()
+    {
+        return OMRSEventEncoding.JSON;
+    }
+
+
+    /**
+     * Return whether the payload is a JSON object.
+     *
+     * @param event payload received from the topic
+     * @return boolean flag
+     */
+    @Override
+    public boolean isEncodedEvent(String event)
+    {
+        for (int i = 0; i < event.length(); i++)
+        {
+            char character = event.charAt(i);
+
+            if (! Character.isWhitespace(character))
+            {
+                return character == '{';
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Convert an event bean into JSON.
+     *
+     * @param event event bean
+     * @return JSON string
+     * @throws IOException the event can not be converted to JSON
+     */
+    @Override
+    public String encode(OMRSEventBean event) throws IOException
+    {
+        return OpenMetadataEventSerializer.toJSON(event);
+    }
+
+
+    /**
+     * Convert JSON received from the topic into an event bean.
+     *
+     * @param event JSON string
+     * @return event bean
+     * @throws IOException the JSON is not a valid event
+     */
+    @Override
+    public OMRSEventBean decode(String event) throws IOException
+    {
+        return OpenMetadataEventSerializer.fromJSON(event, OMRSEventBean.class);
+    }
+}
@@ -0,0 +1,129 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OpenMetadataEventSerializer converts the beans that are sent through the open metadata topics and
+ * audit log (OMRS events, OMAS events and audit log records) to and from JSON.
+ * <p>
+ * It uses a single, shared ObjectMapper so that Jackson's serializer and deserializer caches are
+ * reused for every event, rather than being rebuilt each time a new ObjectMapper is created.  The ObjectReader
+ * and ObjectWriter for each bean class are created once and cached.  ObjectMapper, ObjectReader and ObjectWriter
+ * are all thread-safe once configured, so the methods can be called from any thread.
+ * </p>
+ */
+public final class OpenMetadataEventSerializer
+{
+    private static final ObjectMapper                     objectMapper = new ObjectMapper();
+    private static final Map<Class<?>, ObjectReader>      readers      = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter>      writers      = new ConcurrentHashMap<>();
+
+
+    /**
+     * No instances are needed because all of the methods are static.
+     */
+    private OpenMetadataEventSerializer()
+    {
+    }
+
+
+    /**
+     * Return the shared reader for a bean class.
+     *
+     * @param beanClass class of the bean to read
+     * @return reader
+     */
+    public static ObjectReader getReader(Class<?> beanClass)
+    {
+        return readers.computeIfAbsent(beanClass, objectMapper::readerFor);
+    }
+
+
+    /**
+     * Return the shared writer for a bean class.
+     *
+     * @param beanClass class of the bean to write
+     * @return writer
+     */
+    public static ObjectWriter getWriter(Class<?> beanClass)
+    {
+        return writers.computeIfAbsent(beanClass, objectMapper::writerFor);
+    }
+
+
+    /**
+     * Convert a bean to a JSON string.
+     *
+     * @param bean bean to convert
+     * @return JSON string ("null" if the bean is null)
+     * @throws IOException the bean can not be converted to JSON
+     */
+    public static String toJSON(Object bean) throws IOException
+    {
+        if (bean == null)
+        {
+            return objectMapper.writeValueAsString(null);
+        }
+
+        return getWriter(bean.getClass()).writeValueAsString(bean);
+    }
+
+
+    /**
+     * Convert a bean to JSON encoded as UTF-8 bytes.  This avoids building an intermediate string
+     * when the destination accepts bytes.
+     *
+     * @param bean bean to convert
+     * @return JSON bytes
+     * @throws IOException the bean can not be converted to JSON
+     */
+    public static byte[] toJSONBytes(Object bean) throws IOException
+    {
+        if (bean == null)
+        {
+            return objectMapper.writeValueAsBytes(null);
+        }
+
+        return getWriter(bean.getClass()).writeValueAsBytes(bean);
+    }
+
+
+    /**
+     * Convert a JSON string to a bean.
+     *
+     * @param json JSON string
+     * @param beanClass class of the bean
+     * @param <T> type of the bean
+     * @return bean
+     * @throws IOException the JSON can not be converted to the bean class
+     */
+    public static <T> T fromJSON(String   json,
+                                 Class<T> beanClass) throws IOException
+    {
+        return getReader(beanClass).readValue(json);
+    }
+
+
+    /**
+     * Convert JSON encoded as UTF-8 bytes to a bean.
+     *
+     * @param json JSON bytes
+     * @param beanClass class of the bean
+     * @param <T> type of the bean
+     * @return bean
+     * @throws IOException the JSON can not be converted to the bean class
+     */
+    public static <T> T fromJSON(byte[]   json,
+                                 Class<T> beanClass) throws IOException
+    {
+        return getReader(beanClass).readValue(json);
+    }
+}
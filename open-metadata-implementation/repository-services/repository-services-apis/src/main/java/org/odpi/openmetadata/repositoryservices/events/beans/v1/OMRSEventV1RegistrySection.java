@@ -10,6 +10,7 @@ import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEventType;
 
 import java.io.Serializable;
 import java.util.Date;
+import java.util.List;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
@@ -28,6 +29,7 @@ public class OMRSEventV1RegistrySection implements Serializable
     private Date                  registrationTimestamp  = null;
     private String                metadataCollectionName = null;
     private Connection            remoteConnection       = null;
+    private List<String>          eventEncodings         = null;
 
 
     public OMRSEventV1RegistrySection()
@@ -81,4 +83,27 @@ public class OMRSEventV1RegistrySection implements Serializable
     {
         this.remoteConnection = remoteConnection;
     }
+
+
+    /**
+     * Return the names of the event encodings that the sending server is able to decode.  Null means
+     * the server only supports JSON.
+     *
+     * @return list of OMRSEventEncoding names
+     */
+    public List<String> getEventEncodings()
+    {
+        return eventEncodings;
+    }
+
+
+    /**
+     * Set up the names of the event encodings that the sending server is able to decode.
+     *
+     * @param eventEncodings list of OMRSEventEncoding names
+     */
+    public void setEventEncodings(List<String> eventEncodings)
+    {
+        this.eventEncodings = eventEncodings;
+    }
 }
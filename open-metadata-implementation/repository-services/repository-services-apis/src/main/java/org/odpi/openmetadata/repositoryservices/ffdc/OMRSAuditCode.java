@@ -370,6 +370,30 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                        "The local server has completed the processing of the open metadata archive.",
                        "Verify that the expected content has loaded into the local repository."),
 
+    LOADED_ARCHIVE_TYPES("OMRS-AUDIT-0054",
+                       OMRSAuditLogRecordSeverity.INFO,
+                       "The Open Metadata Repository Services (OMRS) has processed {0} types from open metadata archive {1} and is " +
+                               "about to process its instances",
+                       "The local server has processed the type definitions from the open metadata archive.  The instances " +
+                               "are processed next.",
+                       "No action is required.  This is part of the normal operation of the server."),
+
+    ARCHIVE_LOAD_PROGRESS("OMRS-AUDIT-0055",
+                       OMRSAuditLogRecordSeverity.INFO,
+                       "The Open Metadata Repository Services (OMRS) has processed {0} instances so far from open metadata archive {1}",
+                       "The local server is processing the instances from a large open metadata archive in batches.  " +
+                               "This message is logged after each batch.",
+                       "No action is required.  This is part of the normal operation of the server."),
+
+    UNREADABLE_ARCHIVE("OMRS-AUDIT-0056",
+                       OMRSAuditLogRecordSeverity.EXCEPTION,
+                       "The Open Metadata Repository Services (OMRS) is unable to read open metadata archive {0} because of " +
+                               "a {1} exception with message {2}",
+                       "The local server stops processing the open metadata archive.  Any types and instances that were read " +
+                               "before the error have already been passed to the local repository.",
+                       "Check that the archive file exists, that the server can read it and that it contains complete, valid JSON.  " +
+                               "Request a new version of the archive or remove it from the server's archive list."),
+
     REGISTERED_WITH_COHORT("OMRS-AUDIT-0060",
                            OMRSAuditLogRecordSeverity.COHORT,
                            "Registering with open metadata repository cohort {0} using metadata collection id {1}",
@@ -407,6 +431,42 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                          "The local server has started up the logging destinations defined in the configuration document.",
                          "Validate that all of the logging destinations are working."),
 
+    OMRS_TOPIC_EVENT_ENCODING("OMRS-AUDIT-0065",
+                         OMRSAuditLogRecordSeverity.COHORT,
+                         "The OMRS Topic Connector for topic {0} is sending events using the {1} encoding",
+                         "The encoding is chosen from the preferred encoding in the topic connector's configuration and the " +
+                                 "encodings that the members of the cohort have advertised in their registry events.  Registry " +
+                                 "events are always sent as JSON.",
+                         "No action is required.  A member that does not support the preferred encoding causes the connector " +
+                                 "to send JSON events until the member leaves the cohort or is upgraded."),
+
+    OMRS_TOPIC_LISTENER_QUEUE("OMRS-AUDIT-0066",
+                         OMRSAuditLogRecordSeverity.STARTUP,
+                         "The OMRS Topic Connector for topic {0} is passing events to listener {1} through a queue of {2} events " +
+                                 "with the {3} overflow policy",
+                         "The listener processes the events from the topic on its own thread so that it does not delay the " +
+                                 "other listeners.  The events are passed to the listener in the order they are received.",
+                         "No action is required.  The size of the queue and the overflow policy are set in the configuration " +
+                                 "properties of the topic connector's connection."),
+
+    INSTANCE_EVENT_SHARDS("OMRS-AUDIT-0067",
+                         OMRSAuditLogRecordSeverity.STARTUP,
+                         "The local repository of server {0} is applying incoming instance events on {1} threads, each with a queue of {2} events",
+                         "Each incoming instance event is passed to the thread chosen from the unique identifier of its instance, so the " +
+                                 "events for an instance are applied in the order they are received.  Events that affect more than one " +
+                                 "instance are applied once all of the earlier events have been applied.",
+                         "No action is required.  The number of threads and the size of their queues are set in the configuration " +
+                                 "properties of the local repository's connection.  Only use more than one thread with repositories " +
+                                 "that support concurrent updates."),
+
+    INSTANCE_EVENT_SHARD_STATISTICS("OMRS-AUDIT-0068",
+                         OMRSAuditLogRecordSeverity.PERFMON,
+                         "Instance event thread {0} of the local repository of server {1} has applied {2} events with an average " +
+                                 "time of {3} ms and a maximum time of {4} ms; {5} events are waiting",
+                         "The statistics are logged when the thread's queue fills up and when the local repository shuts down.",
+                         "No action is required.  If the queues are often full, review the performance of the local repository " +
+                                 "or increase the number of threads if the repository supports concurrent updates."),
+
     EVENT_PARSING_ERROR("OMRS-AUDIT-0100",
                       OMRSAuditLogRecordSeverity.EXCEPTION,
                       "Unable parse an incoming event {0} due to exception {1}",
@@ -425,6 +485,22 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                       "The OMRS Topic Connector was passed a null event by the event bus.",
                       "Review the exception to determine the source of the error and correct it."),
 
+    EVENTS_DISCARDED_FOR_LISTENER("OMRS-AUDIT-0103",
+                      OMRSAuditLogRecordSeverity.ERROR,
+                      "The OMRS Topic Connector for topic {0} is discarding events for listener {1} because its queue of {2} " +
+                              "events is full.  A total of {3} events have been discarded for this listener",
+                      "The discarded events are not passed to the listener.  The other listeners still receive them.",
+                      "Determine why the listener is not keeping up with the events from the topic.  Increase the size of the " +
+                              "queue or change the overflow policy to BLOCK if the listener must receive every event."),
+
+    EVENT_TOO_LARGE("OMRS-AUDIT-0104",
+                      OMRSAuditLogRecordSeverity.ERROR,
+                      "Connector {0} rejected an incoming event of {1} characters because it decodes to more than {2} bytes",
+                      "The event is discarded before it is fully decoded so that it can not exhaust the memory of the server.  " +
+                              "The information in the event is not available to the server.",
+                      "Determine which member of the cohort sent the event.  If the events from this member are genuinely " +
+                              "this large, increase the maxDecodedEventSize property of the OMRS Topic Connector."),
+
     SEND_REGISTRY_EVENT_ERROR("OMRS-AUDIT-0105",
                       OMRSAuditLogRecordSeverity.EXCEPTION,
                       "Unable to send a registry event for cohort {0} due to an error in the OMRS Topic Connector",
@@ -363,6 +363,10 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The provided subtype {0} is not a subtype of typedef {1}.",
             "The system is unable to process the requested search because the specified subtype is not a known subtype of the provided type.",
             "Review the request payload and ensure that the list of subtypes includes only valid subtypes for the provided entity type."),
+    NULL_INSTANCE_BATCH(400, "OMRS-REPOSITORY-400-080",
+            "A null or empty list of instances has been passed as the {0} parameter on a {1} request to open metadata repository {2}",
+            "The system is unable to process the batch request because there is nothing to process.",
+            "The list of instances is supplied by the caller to the API. This call needs to be corrected before the server can operate correctly."),
     NULL_USER_NAME(400, "OMRS-REST-API-400-001",
             "The OMRS REST API for server {0} has been called with a null user name (userId)",
             "The system is unable to access the local metadata repository.",
@@ -552,6 +556,14 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The system is unable to store the log record to this destination because it is not able to" +
                                               " convert its contents into a suitable format.",
             "Investigate and correct the cause of the conversion failure."),
+    INVALID_AUDIT_LOG_PAGING(400, "OMRS-AUDIT-LOG-400-009",
+            "The {0} query to Audit Log destination {1} has an offset of {2} and a maximum records of {3}, but neither may be negative",
+            "The system is unable to process the query request and throws the PagingErrorException.",
+            "Correct the caller's code and retry the request."),
+    INVALID_AUDIT_LOG_TIME_PERIOD(400, "OMRS-AUDIT-LOG-400-010",
+            "The {0} query to Audit Log destination {1} has a start date of {2} that is after its end date of {3}",
+            "The system is unable to process the query request and throws the InvalidParameterException.",
+            "Correct the caller's code and retry the request."),
     REPOSITORY_NOT_AVAILABLE(404, "OMRS-REPOSITORY-404-001",
             "The open metadata repository connector for server {0} is not active and is unable to service the {1} request",
             "The system is unable to retrieve any metadata properties from this repository.",
@@ -825,6 +837,10 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The enterprise repository services has detected a repository connector from cohort {0} for metadata collection identifier {1} that has a null metadata collection API object.",
             "There is an internal error in the OMRS Repository Connector implementation.",
             "Raise a Github issue to get this fixed."),
+    FEDERATED_REQUEST_TIMEOUT(503, "OMRS-ENTERPRISE-REPOSITORY-503-004",
+            "The enterprise repository services gave up waiting for method {0} from the repository with metadata collection identifier {1} after {2} milliseconds.",
+            "The request to this repository has been cancelled and the results from the other repositories are returned.",
+            "Check that the repository is running and is able to respond within the configured federation member timeout."),
     NULL_CONTENT_MANAGER(503, "OMRS-LOCAL-REPOSITORY-503-001",
             "A null repository content manager has been passed to one of the local repository's components on method {0}.",
             "There is an internal error in the OMRS Local Repository Connector implementation, or the way it has been initialized.",
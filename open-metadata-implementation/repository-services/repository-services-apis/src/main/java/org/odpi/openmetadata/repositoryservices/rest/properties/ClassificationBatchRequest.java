@@ -0,0 +1,139 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * ClassificationBatchRequest carries the list of entities to classify along with the properties for
+ * the new classification.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class ClassificationBatchRequest extends InstancePropertiesRequest
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<String> entityGUIDs = null;
+
+
+    /**
+     * Default constructor
+     */
+    public ClassificationBatchRequest()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public ClassificationBatchRequest(ClassificationBatchRequest template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.entityGUIDs = template.getEntityGUIDs();
+        }
+    }
+
+
+    /**
+     * Return the unique identifiers of the entities to classify.
+     *
+     * @return list of guids
+     */
+    public List<String> getEntityGUIDs()
+    {
+        if (entityGUIDs == null)
+        {
+            return null;
+        }
+        else if (entityGUIDs.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(entityGUIDs);
+        }
+    }
+
+
+    /**
+     * Set up the unique identifiers of the entities to classify.
+     *
+     * @param entityGUIDs list of guids
+     */
+    public void setEntityGUIDs(List<String> entityGUIDs)
+    {
+        this.entityGUIDs = entityGUIDs;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "ClassificationBatchRequest{" +
+                "entityGUIDs=" + entityGUIDs +
+                ", instanceProperties=" + getInstanceProperties() +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof ClassificationBatchRequest))
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        ClassificationBatchRequest that = (ClassificationBatchRequest) objectToCompare;
+        return Objects.equals(getEntityGUIDs(), that.getEntityGUIDs());
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), getEntityGUIDs());
+    }
+}
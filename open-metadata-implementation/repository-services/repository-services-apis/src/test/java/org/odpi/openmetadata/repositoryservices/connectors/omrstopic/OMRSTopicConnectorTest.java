@@ -0,0 +1,332 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventEncoding;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
+import org.odpi.openmetadata.repositoryservices.events.future.OMRSFuture;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Verify that the OMRSTopicConnector passes the events to each listener in order on the listener's own thread,
+ * and that the event is only reported as processed once every listener has finished with it.
+ */
+public class OMRSTopicConnectorTest
+{
+    private static final int EVENT_COUNT = 5;
+
+    private final List<String> messageIds = Collections.synchronizedList(new ArrayList<>());
+
+
+    @Test
+    public void testSlowListenerDoesNotDelayOthers() throws Exception
+    {
+        CountDownLatch     releaseSlowListener = new CountDownLatch(1);
+        RecordingListener  slowListener        = new RecordingListener(releaseSlowListener);
+        RecordingListener  fastListener        = new RecordingListener(null);
+        OMRSTopicConnector topicConnector      = getTopicConnector("10", "BLOCK");
+
+        topicConnector.registerListener(slowListener, "SlowService");
+        topicConnector.registerListener(fastListener, "FastService");
+        topicConnector.start();
+
+        List<OMRSFuture> processingResults = new ArrayList<>();
+
+        for (int i = 0; i < EVENT_COUNT; i++)
+        {
+            processingResults.add(sendEvent(topicConnector, "guid-" + i));
+        }
+
+        assertTrue(fastListener.awaitEvents(EVENT_COUNT));
+        assertEquals(fastListener.getInstanceGUIDs(), getExpectedGUIDs());
+
+        for (OMRSFuture processingResult : processingResults)
+        {
+            assertFalse(processingResult.isDone());
+        }
+
+        releaseSlowListener.countDown();
+
+        assertTrue(slowListener.awaitEvents(EVENT_COUNT));
+        assertEquals(slowListener.getInstanceGUIDs(), getExpectedGUIDs());
+
+        for (OMRSFuture processingResult : processingResults)
+        {
+            long timeout = System.currentTimeMillis() + 10000;
+
+            while ((! processingResult.isDone()) && (System.currentTimeMillis() < timeout))
+            {
+                Thread.sleep(10);
+            }
+
+            assertTrue(processingResult.isDone());
+        }
+
+        topicConnector.disconnect();
+    }
+
+
+    @Test
+    public void testDiscardWhenQueueIsFull() throws Exception
+    {
+        CountDownLatch     releaseSlowListener = new CountDownLatch(1);
+        RecordingListener  slowListener        = new RecordingListener(releaseSlowListener);
+        OMRSTopicConnector topicConnector      = getTopicConnector("1", "discard");
+
+        topicConnector.registerListener(slowListener, "SlowService");
+        topicConnector.start();
+
+        /*
+         * The first event is being processed, the second is queued and the rest are discarded.
+         */
+        sendEvent(topicConnector, "guid-0");
+        assertTrue(slowListener.awaitStarted());
+
+        for (int i = 1; i < EVENT_COUNT; i++)
+        {
+            sendEvent(topicConnector, "guid-" + i);
+        }
+
+        releaseSlowListener.countDown();
+
+        assertTrue(slowListener.awaitEvents(2));
+        assertEquals(slowListener.getInstanceGUIDs(), getExpectedGUIDs().subList(0, 2));
+        assertTrue(messageIds.contains(OMRSAuditCode.EVENTS_DISCARDED_FOR_LISTENER.getMessageDefinition().getMessageId()));
+
+        topicConnector.disconnect();
+    }
+
+
+    @Test
+    public void testNoListenerQueues() throws Exception
+    {
+        RecordingListener  listener       = new RecordingListener(null);
+        OMRSTopicConnector topicConnector = getTopicConnector("0", null);
+
+        topicConnector.registerListener(listener, "TestService");
+        topicConnector.start();
+
+        for (int i = 0; i < EVENT_COUNT; i++)
+        {
+            assertTrue(sendEvent(topicConnector, "guid-" + i).isDone());
+        }
+
+        assertEquals(listener.getInstanceGUIDs(), getExpectedGUIDs());
+
+        topicConnector.disconnect();
+    }
+
+
+    /**
+     * Create a topic connector with a single event bus connector that does nothing.
+     *
+     * @param queueSize value for the listener queue size property
+     * @param overflowPolicy value for the overflow policy property
+     * @return started connector
+     */
+    private OMRSTopicConnector getTopicConnector(String queueSize,
+                                                 String overflowPolicy)
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(OMRSTopicProvider.listenerQueueSizePropertyName, queueSize);
+
+        if (overflowPolicy != null)
+        {
+            configurationProperties.put(OMRSTopicProvider.listenerOverflowPolicyPropertyName, overflowPolicy);
+        }
+
+        Connection connection = new Connection();
+
+        connection.setConfigurationProperties(configurationProperties);
+
+        OMRSTopicConnector topicConnector = new OMRSTopicConnector();
+
+        topicConnector.initialize("testConnector", new ConnectionProperties(connection));
+        topicConnector.setAuditLog(new AuditLog(new RecordingAuditLogDestination(), 0, "Test", "Test", null));
+        topicConnector.initializeEmbeddedConnectors(Collections.singletonList((Connector) new MockEventBusConnector()));
+
+        return topicConnector;
+    }
+
+
+    /**
+     * Pass an instance event to the connector in the same way as the event bus connector.
+     *
+     * @param topicConnector connector to receive the event
+     * @param instanceGUID instance identifier for the event
+     * @return processing result for the event
+     * @throws Exception the event could not be encoded
+     */
+    private OMRSFuture sendEvent(OMRSTopicConnector topicConnector,
+                                 String             instanceGUID) throws Exception
+    {
+        OMRSEventV1                instanceEvent   = new OMRSEventV1();
+        OMRSEventV1InstanceSection instanceSection = new OMRSEventV1InstanceSection();
+
+        instanceSection.setEventType(OMRSInstanceEventType.UPDATED_ENTITY_EVENT);
+        instanceSection.setInstanceGUID(instanceGUID);
+        instanceEvent.setEventCategory(OMRSEventCategory.INSTANCE);
+        instanceEvent.setInstanceEventSection(instanceSection);
+
+        InternalOMRSEventProcessingContext.clear();
+        InternalOMRSEventProcessingContext.getInstance().setCurrentMessageId(instanceGUID);
+
+        topicConnector.processEvent(OMRSEventEncoding.JSON.getCodec().encode(instanceEvent));
+
+        return InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult();
+    }
+
+
+    /**
+     * Return the instance identifiers in the order the events are sent.
+     *
+     * @return list of guids
+     */
+    private List<String> getExpectedGUIDs()
+    {
+        List<String> instanceGUIDs = new ArrayList<>();
+
+        for (int i = 0; i < EVENT_COUNT; i++)
+        {
+            instanceGUIDs.add("guid-" + i);
+        }
+
+        return instanceGUIDs;
+    }
+
+
+    /**
+     * RecordingListener records the instance events it receives.  It can be made to wait before processing
+     * each event.
+     */
+    private static class RecordingListener extends OMRSTopicListenerBase
+    {
+        private final CountDownLatch release;
+        private final CountDownLatch started       = new CountDownLatch(1);
+        private final List<String>   instanceGUIDs = Collections.synchronizedList(new ArrayList<>());
+
+
+        RecordingListener(CountDownLatch release)
+        {
+            super("RecordingListener");
+
+            this.release = release;
+        }
+
+
+        @Override
+        public void processInstanceEvent(OMRSInstanceEvent event)
+        {
+            started.countDown();
+
+            try
+            {
+                if (release != null)
+                {
+                    release.await();
+                }
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            instanceGUIDs.add(event.getInstanceGUID());
+        }
+
+
+        boolean awaitStarted() throws InterruptedException
+        {
+            return started.await(10, TimeUnit.SECONDS);
+        }
+
+
+        boolean awaitEvents(int eventCount) throws InterruptedException
+        {
+            long timeout = System.currentTimeMillis() + 10000;
+
+            while ((instanceGUIDs.size() < eventCount) && (System.currentTimeMillis() < timeout))
+            {
+                Thread.sleep(10);
+            }
+
+            return instanceGUIDs.size() == eventCount;
+        }
+
+
+        List<String> getInstanceGUIDs()
+        {
+            return new ArrayList<>(instanceGUIDs);
+        }
+    }
+
+
+    /**
+     * RecordingAuditLogDestination saves the message identifiers of the audit log records.
+     */
+    private class RecordingAuditLogDestination extends AuditLogDestination
+    {
+        RecordingAuditLogDestination()
+        {
+            super(null);
+        }
+
+
+        @Override
+        public void addLogRecord(AuditLogRecord logRecord)
+        {
+            messageIds.add(logRecord.getMessageId());
+        }
+    }
+
+
+    /**
+     * MockEventBusConnector stands in for a real event bus.  The test passes the events to the topic
+     * connector directly.
+     */
+    private static class MockEventBusConnector extends OpenMetadataTopicConnector
+    {
+        @Override
+        public void start()
+        {
+        }
+
+
+        @Override
+        public void sendEvent(String event)
+        {
+        }
+
+
+        @Override
+        public void disconnect()
+        {
+        }
+    }
+}
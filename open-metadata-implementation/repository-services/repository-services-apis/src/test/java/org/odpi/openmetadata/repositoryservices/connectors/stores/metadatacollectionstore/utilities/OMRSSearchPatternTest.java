@@ -0,0 +1,102 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities;
+
+import org.testng.annotations.Test;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Verify that OMRSSearchPattern gives the same results as String.matches for the forms of regular
+ * expression produced by the repository helper and for general regular expressions.
+ */
+public class OMRSSearchPatternTest
+{
+    private static final String[] literals = { "Asset", "coco-asset-123", "a.b", "", "Été", "x\\Ey" };
+
+    private static final String[] values = { "Asset", "asset", "ASSET", "MyAsset", "AssetOne", "My asset one",
+                                             "coco-asset-123", "COCO-ASSET-123", "aXb", "a.b", "A.B", "",
+                                             "Asset\nOne", "été", "Été", "x\\Ey", "KssKt" };
+
+    private static final String[] regexes = { "Asset.*", ".*set", "coco-asset-[0-9]+", "(?i)coco.*", "a.b", ".*",
+                                              "\\Qa.b", "Asset\\.*", "(?i).*SSET.*",
+                                              "Asset", "coco-asset-123", "" };
+
+
+    /**
+     * Check the literal forms built by the repository helper (exact, starts with, ends with and contains, each with
+     * and without case insensitivity).
+     */
+    @Test public void testLiteralForms()
+    {
+        for (String literal : literals)
+        {
+            String quoted = Pattern.quote(literal);
+
+            String[] forms = { quoted, quoted + ".*", ".*" + quoted, ".*" + quoted + ".*" };
+
+            for (String form : forms)
+            {
+                checkMatches(form);
+                checkMatches("(?i)" + form);
+            }
+        }
+    }
+
+
+    /**
+     * Check general regular expressions that are passed to the regular expression engine.
+     */
+    @Test public void testRegularExpressions()
+    {
+        for (String regex : regexes)
+        {
+            checkMatches(regex);
+        }
+    }
+
+
+    /**
+     * Check that compiled patterns are reused and that null values do not match.
+     */
+    @Test public void testCache()
+    {
+        OMRSSearchPattern pattern = OMRSSearchPattern.compile("(?i)\\QAsset\\E");
+
+        assertSame(OMRSSearchPattern.compile("(?i)\\QAsset\\E"), pattern);
+        assertEquals(pattern.getRegex(), "(?i)\\QAsset\\E");
+        assertFalse(pattern.matches(null));
+    }
+
+
+    /**
+     * Check that invalid regular expressions are rejected in the same way as String.matches.
+     */
+    @Test(expectedExceptions = PatternSyntaxException.class)
+    public void testInvalidExpression()
+    {
+        OMRSSearchPattern.compile("Asset[").matches("Asset");
+    }
+
+
+    /**
+     * Compare the result of the search pattern with String.matches for every test value.
+     *
+     * @param regex regular expression
+     */
+    private void checkMatches(String regex)
+    {
+        OMRSSearchPattern pattern = OMRSSearchPattern.compile(regex);
+
+        for (String value : values)
+        {
+            assertEquals(pattern.matches(value), value.matches(regex), regex + " against " + value);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.events;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import static org.testng.Assert.*;
+
+
+/**
+ * Verify that the compressed event encoding round trips the OMRS events, that it is detected from the
+ * payload and that it is much smaller than JSON for batch events.
+ */
+public class OMRSCompressedEventCodecTest
+{
+    private static final int ENTITY_COUNT = 200;
+
+
+    @Test
+    public void testBatchEventRoundTrip() throws Exception
+    {
+        OMRSEventV1 event = getBatchEvent();
+
+        String json       = OMRSEventEncoding.JSON.getCodec().encode(event);
+        String compressed = OMRSEventEncoding.COMPRESSED.getCodec().encode(event);
+
+        assertTrue(compressed.length() * 4 < json.length(), "compressed=" + compressed.length() + " json=" + json.length());
+
+        assertSame(OMRSEventEncoding.getCodecForEvent(json).getEncoding(), OMRSEventEncoding.JSON);
+        assertSame(OMRSEventEncoding.getCodecForEvent(compressed).getEncoding(), OMRSEventEncoding.COMPRESSED);
+
+        OMRSEventBean decoded = OMRSEventEncoding.getCodecForEvent(compressed).decode(compressed);
+
+        assertTrue(decoded instanceof OMRSEventV1);
+        assertEquals(OMRSEventEncoding.JSON.getCodec().encode(decoded), json);
+
+        InstanceGraph batch = ((OMRSEventV1) decoded).getInstanceEventSection().getInstanceBatch();
+
+        assertEquals(batch.getEntities().size(), ENTITY_COUNT);
+        assertEquals(batch.getEntities().get(ENTITY_COUNT - 1).getGUID(), "guid-" + (ENTITY_COUNT - 1));
+    }
+
+
+    @Test
+    public void testInvalidCompressedEvent()
+    {
+        OMRSEventCodec codec = OMRSEventEncoding.COMPRESSED.getCodec();
+
+        assertThrows(IOException.class, () -> codec.decode("{\"class\":\"OMRSEventV1\"}"));
+        assertThrows(IOException.class, () -> codec.decode(OMRSCompressedEventCodec.prefix + "not base64!"));
+        assertThrows(IOException.class, () -> codec.decode(OMRSCompressedEventCodec.prefix + "eJwLycgsVgCi4vzcVIWS1OISAD"));
+    }
+
+
+    @Test
+    public void testDecodedSizeLimit() throws Exception
+    {
+        OMRSEventV1    event      = getBatchEvent();
+        OMRSEventCodec codec      = OMRSEventEncoding.COMPRESSED.getCodec();
+        String         json       = OMRSEventEncoding.JSON.getCodec().encode(event);
+        String         compressed = codec.encode(event);
+
+        assertNotNull(codec.decode(compressed, json.length()));
+        assertThrows(OMRSEventSizeException.class, () -> codec.decode(compressed, json.length() - 1));
+
+        /*
+         * 16MB of zeros compress to a few kilobytes.  Decoding stops once the limit is passed.
+         */
+        byte[]   buffer   = new byte[64 * 1024];
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+
+        deflater.setInput(new byte[16 * 1024 * 1024]);
+        deflater.finish();
+
+        int length = deflater.deflate(buffer);
+
+        assertTrue(deflater.finished());
+        deflater.end();
+
+        String bomb = OMRSCompressedEventCodec.prefix + Base64.getEncoder().encodeToString(Arrays.copyOf(buffer, length));
+
+        OMRSEventSizeException error = expectThrows(OMRSEventSizeException.class, () -> codec.decode(bomb, 1024 * 1024));
+
+        assertEquals(error.getMaxDecodedSize(), 1024 * 1024);
+    }
+
+
+    @Test
+    public void testEncodingNames()
+    {
+        assertSame(OMRSEventEncoding.getEncoding("compressed"), OMRSEventEncoding.COMPRESSED);
+        assertSame(OMRSEventEncoding.getEncoding(" JSON "), OMRSEventEncoding.JSON);
+        assertNull(OMRSEventEncoding.getEncoding("Avro"));
+        assertNull(OMRSEventEncoding.getEncoding(null));
+    }
+
+
+    /**
+     * Build a batch instance event containing entities of the same type.
+     *
+     * @return event
+     */
+    private OMRSEventV1 getBatchEvent()
+    {
+        InstanceType type = new InstanceType();
+        type.setTypeDefCategory(TypeDefCategory.ENTITY_DEF);
+        type.setTypeDefGUID("0db3e6ec-f5ef-4d75-ae38-b7ee6fd6ec0a");
+        type.setTypeDefName("GlossaryTerm");
+        type.setTypeDefVersion(1L);
+        type.setTypeDefSuperTypes(Collections.emptyList());
+        type.setValidStatusList(List.of(InstanceStatus.ACTIVE, InstanceStatus.DELETED));
+        type.setValidInstanceProperties(List.of("qualifiedName", "displayName", "summary", "description"));
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (int i = 0; i < ENTITY_COUNT; i++)
+        {
+            InstanceProperties properties = new InstanceProperties();
+
+            for (String propertyName : type.getValidInstanceProperties())
+            {
+                PrimitivePropertyValue value = new PrimitivePropertyValue();
+                value.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                value.setPrimitiveValue(propertyName + " of term " + i);
+
+                properties.setProperty(propertyName, value);
+            }
+
+            EntityDetail entity = new EntityDetail();
+            entity.setGUID("guid-" + i);
+            entity.setType(type);
+            entity.setVersion(1L);
+            entity.setCreatedBy("garygeeke");
+            entity.setCreateTime(new Date(1000L + i));
+            entity.setMetadataCollectionId("d2bb7f09-6ad2-4ce4-a5d4-8e3a9c33e9b0");
+            entity.setMetadataCollectionName("cocoMDS1");
+            entity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+            entity.setStatus(InstanceStatus.ACTIVE);
+            entity.setProperties(properties);
+
+            entities.add(entity);
+        }
+
+        InstanceGraph batch = new InstanceGraph();
+        batch.setEntities(entities);
+
+        OMRSInstanceEvent instanceEvent = new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT, batch);
+
+        return instanceEvent.getOMRSEventV1();
+    }
+}
@@ -0,0 +1,164 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+
+/**
+ * Verify that OpenMetadataEventSerializer produces the same JSON as a newly created ObjectMapper and
+ * that it can be shared between threads.
+ */
+public class OpenMetadataEventSerializerTest
+{
+    private static final int PROPERTY_COUNT       = 30;
+    private static final int CLASSIFICATION_COUNT = 3;
+    private static final int THREAD_COUNT         = 8;
+    private static final int EVENTS_PER_THREAD    = 500;
+
+
+    @Test
+    public void testInstanceEventRoundTrip() throws Exception
+    {
+        OMRSEventV1 event = getInstanceEvent("1234");
+
+        String json = OpenMetadataEventSerializer.toJSON(event);
+
+        assertEquals(json, new ObjectMapper().writeValueAsString(event));
+        assertEquals(OpenMetadataEventSerializer.toJSONBytes(event), new ObjectMapper().writeValueAsBytes(event));
+
+        OMRSEventBean eventBean = OpenMetadataEventSerializer.fromJSON(json, OMRSEventBean.class);
+
+        assertTrue(eventBean instanceof OMRSEventV1);
+
+        EntityDetail entity = ((OMRSEventV1) eventBean).getInstanceEventSection().getEntity();
+
+        assertEquals(entity.getGUID(), "1234");
+        assertEquals(entity.getProperties().getPropertyCount(), PROPERTY_COUNT);
+        assertEquals(entity.getClassifications().size(), CLASSIFICATION_COUNT);
+
+        assertEquals(OpenMetadataEventSerializer.toJSON(OpenMetadataEventSerializer.fromJSON(OpenMetadataEventSerializer.toJSONBytes(event),
+                                                                                             OMRSEventBean.class)),
+                     json);
+    }
+
+
+    @Test
+    public void testConcurrentSerialization() throws Exception
+    {
+        ExecutorService      executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Future<String>> results  = new ArrayList<>();
+
+        for (int thread = 0; thread < THREAD_COUNT; thread++)
+        {
+            final String guid = "guid-" + thread;
+
+            results.add(executor.submit(() ->
+            {
+                String expected = new ObjectMapper().writeValueAsString(getInstanceEvent(guid));
+
+                for (int i = 0; i < EVENTS_PER_THREAD; i++)
+                {
+                    String json = OpenMetadataEventSerializer.toJSON(getInstanceEvent(guid));
+
+                    if (! expected.equals(json))
+                    {
+                        return json;
+                    }
+
+                    OMRSEventV1 event = (OMRSEventV1) OpenMetadataEventSerializer.fromJSON(json, OMRSEventBean.class);
+
+                    if (! guid.equals(event.getInstanceEventSection().getEntity().getGUID()))
+                    {
+                        return json;
+                    }
+                }
+
+                return null;
+            }));
+        }
+
+        for (Future<String> result : results)
+        {
+            assertNull(result.get(60, TimeUnit.SECONDS));
+        }
+
+        executor.shutdown();
+    }
+
+
+    /**
+     * Build an instance event with an entity of a realistic size.
+     *
+     * @param guid unique identifier for the entity
+     * @return event
+     */
+    private OMRSEventV1 getInstanceEvent(String guid)
+    {
+        InstanceType type = new InstanceType();
+        type.setTypeDefGUID("type-guid");
+        type.setTypeDefName("GlossaryTerm");
+        type.setTypeDefSuperTypes(Collections.emptyList());
+
+        InstanceProperties properties = new InstanceProperties();
+
+        for (int i = 0; i < PROPERTY_COUNT; i++)
+        {
+            PrimitivePropertyValue value = new PrimitivePropertyValue();
+            value.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+            value.setPrimitiveValue("value of property " + i + " for " + guid);
+
+            properties.setProperty("property" + i, value);
+        }
+
+        List<Classification> classifications = new ArrayList<>();
+
+        for (int i = 0; i < CLASSIFICATION_COUNT; i++)
+        {
+            Classification classification = new Classification();
+            classification.setName("Classification" + i);
+            classification.setClassificationOrigin(ClassificationOrigin.ASSIGNED);
+            classifications.add(classification);
+        }
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setType(type);
+        entity.setVersion(3L);
+        entity.setCreatedBy("user");
+        entity.setCreateTime(new Date(1000L));
+        entity.setMetadataCollectionId("collection-id");
+        entity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setProperties(properties);
+        entity.setClassifications(classifications);
+
+        OMRSEventV1InstanceSection instanceSection = new OMRSEventV1InstanceSection();
+        instanceSection.setEventType(OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        instanceSection.setTypeDefGUID(type.getTypeDefGUID());
+        instanceSection.setTypeDefName(type.getTypeDefName());
+        instanceSection.setInstanceGUID(guid);
+        instanceSection.setEntity(entity);
+
+        OMRSEventV1 event = new OMRSEventV1();
+        event.setTimestamp(new Date(2000L));
+        event.setEventCategory(OMRSEventCategory.INSTANCE);
+        event.setInstanceEventSection(instanceSection);
+
+        return event;
+    }
+}
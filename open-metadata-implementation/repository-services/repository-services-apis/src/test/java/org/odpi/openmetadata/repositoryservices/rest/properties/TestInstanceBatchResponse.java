@@ -0,0 +1,197 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.rest.properties;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceBatchResult;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that the InstanceBatchResponse bean can be cloned, compared, serialized, deserialized and printed as a String.
+ */
+public class TestInstanceBatchResponse
+{
+    /**
+     * Default constructor
+     */
+    public TestInstanceBatchResponse()
+    {
+
+    }
+
+
+    /**
+     * Set up an example object to test.  It has one successful item and one failed item.
+     *
+     * @return filled in object
+     */
+    private InstanceBatchResponse getTestObject()
+    {
+        InstanceBatchResponse     testObject = new InstanceBatchResponse();
+        List<InstanceBatchResult> results    = new ArrayList<>();
+        EntityDetail              entity     = new EntityDetail();
+
+        entity.setGUID("TestGUID");
+
+        results.add(new InstanceBatchResult(entity));
+        results.add(new InstanceBatchResult(InvalidParameterException.class.getName(),
+                                            "TestErrorMessageId",
+                                            "TestErrorMessage"));
+
+        testObject.setResults(results);
+
+        return testObject;
+    }
+
+
+    /**
+     * Validate that the object that comes out of the test has the same content as the original test object.
+     *
+     * @param resultObject object returned by the test
+     */
+    private void validateResultObject(InstanceBatchResponse  resultObject)
+    {
+        List<InstanceBatchResult> results = resultObject.getResults();
+
+        assertTrue(results != null);
+        assertTrue(results.size() == 2);
+
+        assertTrue(results.get(0).getEntity() != null);
+        assertTrue("TestGUID".equals(results.get(0).getEntity().getGUID()));
+        assertTrue(results.get(0).getExceptionClassName() == null);
+
+        assertTrue(results.get(1).getEntity() == null);
+        assertTrue(InvalidParameterException.class.getName().equals(results.get(1).getExceptionClassName()));
+        assertTrue("TestErrorMessageId".equals(results.get(1).getExceptionErrorMessageId()));
+        assertTrue("TestErrorMessage".equals(results.get(1).getExceptionErrorMessage()));
+
+        assertTrue(resultObject.getRelatedHTTPCode() == 200);
+    }
+
+
+    /**
+     * Validate that the object is initialized properly
+     */
+    @Test public void testNullObject()
+    {
+        InstanceBatchResponse    nullObject = new InstanceBatchResponse();
+
+        assertTrue(nullObject.getRelatedHTTPCode() == 200);
+        assertTrue(nullObject.getResults() == null);
+
+        nullObject = new InstanceBatchResponse(null);
+
+        assertTrue(nullObject.getRelatedHTTPCode() == 200);
+        assertTrue(nullObject.getResults() == null);
+    }
+
+
+    /**
+     * Validate that 2 different objects with the same content are evaluated as equal.
+     * Also that different objects are considered not equal.
+     */
+    @Test public void testEquals()
+    {
+        assertFalse(getTestObject().equals(null));
+        assertFalse(getTestObject().equals("DummyString"));
+        assertTrue(getTestObject().equals(getTestObject()));
+
+        InstanceBatchResponse  sameObject = getTestObject();
+        assertTrue(sameObject.equals(sameObject));
+
+        InstanceBatchResponse  differentObject = getTestObject();
+        differentObject.setResults(null);
+        assertFalse(getTestObject().equals(differentObject));
+    }
+
+
+    /**
+     *  Validate that 2 different objects with the same content have the same hash code.
+     */
+    @Test public void testHashCode()
+    {
+        assertTrue(getTestObject().hashCode() == getTestObject().hashCode());
+    }
+
+
+    /**
+     *  Validate that an object cloned from another object has the same content as the original
+     */
+    @Test public void testClone()
+    {
+        validateResultObject(new InstanceBatchResponse(getTestObject()));
+    }
+
+
+    /**
+     * Validate that an object generated from a JSON String has the same content as the object used to
+     * create the JSON String.
+     */
+    @Test public void testJSON()
+    {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String       jsonString   = null;
+
+        /*
+         * This class
+         */
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(getTestObject());
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            validateResultObject(objectMapper.readValue(jsonString, InstanceBatchResponse.class));
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        /*
+         * Through superclass
+         */
+        OMRSAPIResponse superObject = getTestObject();
+
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(superObject);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            validateResultObject((InstanceBatchResponse) objectMapper.readValue(jsonString, OMRSAPIResponse.class));
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+    }
+
+
+    /**
+     * Test that toString is overridden.
+     */
+    @Test public void testToString()
+    {
+        assertTrue(getTestObject().toString().contains("InstanceBatchResponse"));
+    }
+}
@@ -20,6 +20,8 @@ import org.odpi.openmetadata.repositoryservices.rest.properties.*;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * The MetadataCollectionServicesClient represents a remote metadata repository that supports the OMRS Repository REST API.
@@ -1170,6 +1172,55 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                                                            userId,
                                                                            guid);
 
+        return this.getEntityDetailFromRESTResult(methodName, restResult);
+    }
+
+
+    /**
+     * Return the header, classifications and properties of a specific entity without blocking the calling thread.
+     * This is used by callers that retrieve many entities, or call many repositories, at once.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guid   String unique identifier for the entity.
+     * @return future for the EntityDetail structure.  It completes exceptionally with the exceptions of
+     * {@link #getEntityDetail(String, String)}.
+     */
+    public CompletableFuture<EntityDetail> getEntityDetailAsync(String userId,
+                                                                String guid)
+    {
+        final String methodName  = "getEntityDetail";
+        final String operationSpecificURL = "instances/entity/{1}";
+
+        return this.handleRESTResultAsync(this.callGetRESTCallAsync(methodName,
+                                                                    EntityDetailResponse.class,
+                                                                    restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                    userId,
+                                                                    guid),
+                                          restResult -> this.getEntityDetailFromRESTResult(methodName, restResult));
+    }
+
+
+    /**
+     * Extract the entity from the response of a request to retrieve an entity, throwing the exception returned
+     * by the remote repository, if any.
+     *
+     * @param methodName calling method
+     * @param restResult response from the remote repository
+     * @return EntityDetail structure.
+     * @throws InvalidParameterException  the guid is null.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws EntityNotKnownException    the requested entity instance is not known in the metadata collection.
+     * @throws EntityProxyOnlyException   the requested entity instance is only a proxy in the metadata collection.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private EntityDetail getEntityDetailFromRESTResult(String               methodName,
+                                                       EntityDetailResponse restResult) throws InvalidParameterException,
+                                                                                               RepositoryErrorException,
+                                                                                               EntityNotKnownException,
+                                                                                               EntityProxyOnlyException,
+                                                                                               UserNotAuthorizedException
+    {
         this.detectAndThrowInvalidParameterException(methodName, restResult);
         this.detectAndThrowEntityNotKnownException(methodName, restResult);
         this.detectAndThrowEntityProxyOnlyException(methodName, restResult);
@@ -1493,60 +1544,94 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                                                                                 UserNotAuthorizedException
     {
         final String       methodName = "findEntitiesByProperty";
-        EntityListResponse restResult;
 
-        if (asOfTime == null)
-        {
-            final String              operationSpecificURL           = "instances/entities/by-property";
-            EntityPropertyFindRequest findRequestParameters = new EntityPropertyFindRequest();
+        EntityListResponse restResult = this.callEntityListPostRESTCall(methodName,
+                                                                        this.getFindEntitiesByPropertyURL(asOfTime),
+                                                                        this.getEntityPropertyFindRequest(entityTypeGUID,
+                                                                                                          matchProperties,
+                                                                                                          matchCriteria,
+                                                                                                          fromEntityElement,
+                                                                                                          limitResultsByStatus,
+                                                                                                          limitResultsByClassification,
+                                                                                                          asOfTime,
+                                                                                                          sequencingProperty,
+                                                                                                          sequencingOrder,
+                                                                                                          pageSize),
+                                                                        userId);
 
-            findRequestParameters.setTypeGUID(entityTypeGUID);
-            findRequestParameters.setMatchProperties(matchProperties);
-            findRequestParameters.setMatchCriteria(matchCriteria);
-            findRequestParameters.setOffset(fromEntityElement);
-            findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
-            findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
-            findRequestParameters.setSequencingOrder(sequencingOrder);
-            findRequestParameters.setSequencingProperty(sequencingProperty);
-            findRequestParameters.setPageSize(pageSize);
+        return this.getEntitiesFromRESTResult(methodName, restResult);
+    }
 
-            restResult = this.callEntityListPostRESTCall(methodName,
-                                                         restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
-                                                         findRequestParameters,
-                                                         userId);
-        }
-        else
-        {
-            final String                        operationSpecificURL = "instances/entities/by-property/history";
-            EntityPropertyHistoricalFindRequest findRequestParameters = new EntityPropertyHistoricalFindRequest();
 
-            findRequestParameters.setTypeGUID(entityTypeGUID);
-            findRequestParameters.setMatchProperties(matchProperties);
-            findRequestParameters.setMatchCriteria(matchCriteria);
-            findRequestParameters.setAsOfTime(asOfTime);
-            findRequestParameters.setOffset(fromEntityElement);
-            findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
-            findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
-            findRequestParameters.setSequencingOrder(sequencingOrder);
-            findRequestParameters.setSequencingProperty(sequencingProperty);
-            findRequestParameters.setPageSize(pageSize);
+    /**
+     * Return a list of entities that match the supplied properties without blocking the calling thread.
+     * This is used by callers that issue many queries, or query many repositories, at once.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties list of entity properties to match (where any String property's value should
+     *                        be defined as a Java regular expression, even if it should be an exact match).
+     * @param matchCriteria Enum defining how the match properties should be matched to the entities in the repository.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return future for the list of entities matching the supplied criteria.  It completes exceptionally with the
+     * exceptions of {@link #findEntitiesByProperty}.
+     */
+    public CompletableFuture<List<EntityDetail>> findEntitiesByPropertyAsync(String                    userId,
+                                                                             String                    entityTypeGUID,
+                                                                             InstanceProperties        matchProperties,
+                                                                             MatchCriteria             matchCriteria,
+                                                                             int                       fromEntityElement,
+                                                                             List<InstanceStatus>      limitResultsByStatus,
+                                                                             List<String>              limitResultsByClassification,
+                                                                             Date                      asOfTime,
+                                                                             String                    sequencingProperty,
+                                                                             SequencingOrder           sequencingOrder,
+                                                                             int                       pageSize)
+    {
+        final String       methodName = "findEntitiesByProperty";
 
-            restResult = this.callEntityListPostRESTCall(methodName,
-                                                         restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
-                                                         findRequestParameters,
-                                                         userId);
+        return this.handleRESTResultAsync(this.callPostRESTCallAsync(methodName,
+                                                                     EntityListResponse.class,
+                                                                     this.getFindEntitiesByPropertyURL(asOfTime),
+                                                                     this.getEntityPropertyFindRequest(entityTypeGUID,
+                                                                                                       matchProperties,
+                                                                                                       matchCriteria,
+                                                                                                       fromEntityElement,
+                                                                                                       limitResultsByStatus,
+                                                                                                       limitResultsByClassification,
+                                                                                                       asOfTime,
+                                                                                                       sequencingProperty,
+                                                                                                       sequencingOrder,
+                                                                                                       pageSize),
+                                                                     userId),
+                                          restResult -> this.getEntitiesFromRESTResult(methodName, restResult));
+    }
 
-        }
 
-        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
-        this.detectAndThrowInvalidParameterException(methodName, restResult);
-        this.detectAndThrowTypeErrorException(methodName, restResult);
-        this.detectAndThrowPropertyErrorException(methodName, restResult);
-        this.detectAndThrowPagingErrorException(methodName, restResult);
-        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
-        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+    /**
+     * Return the URL for a find entities by property request.
+     *
+     * @param asOfTime time of a historical query; null for the current values
+     * @return URL template
+     */
+    private String getFindEntitiesByPropertyURL(Date asOfTime)
+    {
+        final String operationSpecificURL = "instances/entities/by-property";
+        final String historyURL           = "/history";
 
-        return restResult.getEntities();
+        return restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL + (asOfTime == null ? "" : historyURL);
     }
 
 
@@ -1718,52 +1803,184 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
                                                                                                   UserNotAuthorizedException
     {
         final String methodName  = "findEntitiesByPropertyValue";
-        EntityListResponse restResult;
 
-        if (asOfTime == null)
-        {
-            final String               operationSpecificURL = "instances/entities/by-property-value?searchCriteria={1}";
-            EntityPropertyFindRequest  findRequestParameters = new EntityPropertyFindRequest();
+        EntityListResponse restResult = this.callEntityListPostRESTCall(methodName,
+                                                                        this.getFindEntitiesByPropertyValueURL(asOfTime),
+                                                                        this.getEntityPropertyFindRequest(entityTypeGUID,
+                                                                                                          null,
+                                                                                                          null,
+                                                                                                          fromEntityElement,
+                                                                                                          limitResultsByStatus,
+                                                                                                          limitResultsByClassification,
+                                                                                                          asOfTime,
+                                                                                                          sequencingProperty,
+                                                                                                          sequencingOrder,
+                                                                                                          pageSize),
+                                                                        userId,
+                                                                        searchCriteria);
 
-            findRequestParameters.setTypeGUID(entityTypeGUID);
-            findRequestParameters.setOffset(fromEntityElement);
-            findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
-            findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
-            findRequestParameters.setSequencingOrder(sequencingOrder);
-            findRequestParameters.setSequencingProperty(sequencingProperty);
-            findRequestParameters.setPageSize(pageSize);
+        return this.getEntitiesFromRESTResult(methodName, restResult);
+    }
 
-            restResult = this.callEntityListPostRESTCall(methodName,
-                                                         restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
-                                                         findRequestParameters,
-                                                         userId,
-                                                         searchCriteria);
+
+    /**
+     * Return a list of entities whose string based property values match the search criteria without blocking
+     * the calling thread.  This is used by callers that issue many queries, or query many repositories, at once.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String expression contained in any of the property values within the entities
+     *                       of the supplied type, (with a String property's value defined as a Java regular expression).
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return future for the list of entities matching the supplied criteria.  It completes exceptionally with the
+     * exceptions of {@link #findEntitiesByPropertyValue}.
+     */
+    public  CompletableFuture<List<EntityDetail>> findEntitiesByPropertyValueAsync(String                userId,
+                                                                                   String                entityTypeGUID,
+                                                                                   String                searchCriteria,
+                                                                                   int                   fromEntityElement,
+                                                                                   List<InstanceStatus>  limitResultsByStatus,
+                                                                                   List<String>          limitResultsByClassification,
+                                                                                   Date                  asOfTime,
+                                                                                   String                sequencingProperty,
+                                                                                   SequencingOrder       sequencingOrder,
+                                                                                   int                   pageSize)
+    {
+        final String methodName  = "findEntitiesByPropertyValue";
+
+        return this.handleRESTResultAsync(this.callPostRESTCallAsync(methodName,
+                                                                     EntityListResponse.class,
+                                                                     this.getFindEntitiesByPropertyValueURL(asOfTime),
+                                                                     this.getEntityPropertyFindRequest(entityTypeGUID,
+                                                                                                       null,
+                                                                                                       null,
+                                                                                                       fromEntityElement,
+                                                                                                       limitResultsByStatus,
+                                                                                                       limitResultsByClassification,
+                                                                                                       asOfTime,
+                                                                                                       sequencingProperty,
+                                                                                                       sequencingOrder,
+                                                                                                       pageSize),
+                                                                     userId,
+                                                                     searchCriteria),
+                                          restResult -> this.getEntitiesFromRESTResult(methodName, restResult));
+    }
+
+
+    /**
+     * Return the URL for a find entities by property value request.
+     *
+     * @param asOfTime time of a historical query; null for the current values
+     * @return URL template
+     */
+    private String getFindEntitiesByPropertyValueURL(Date asOfTime)
+    {
+        final String operationSpecificURL = "instances/entities/by-property-value";
+        final String historyURL           = "/history";
+        final String searchCriteriaURL    = "?searchCriteria={1}";
+
+        return restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL + (asOfTime == null ? "" : historyURL) + searchCriteriaURL;
+    }
+
+
+    /**
+     * Build the request body for a find entities by property or property value request.
+     *
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties list of entity properties to match (null for a property value search).
+     * @param matchCriteria Enum defining how the match properties should be matched (null for a property value search).
+     * @param fromEntityElement the starting element number of the entities to return.
+     * @param limitResultsByStatus statuses to restrict the results to.  Null means all status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.
+     * @return request body
+     */
+    private EntityPropertyFindRequest getEntityPropertyFindRequest(String                    entityTypeGUID,
+                                                                   InstanceProperties        matchProperties,
+                                                                   MatchCriteria             matchCriteria,
+                                                                   int                       fromEntityElement,
+                                                                   List<InstanceStatus>      limitResultsByStatus,
+                                                                   List<String>              limitResultsByClassification,
+                                                                   Date                      asOfTime,
+                                                                   String                    sequencingProperty,
+                                                                   SequencingOrder           sequencingOrder,
+                                                                   int                       pageSize)
+    {
+        EntityPropertyFindRequest findRequestParameters;
+
+        if (asOfTime == null)
+        {
+            findRequestParameters = new EntityPropertyFindRequest();
         }
         else
         {
-            final String                         operationSpecificURL = "instances/entities/by-property-value/history?searchCriteria={1}";
-            EntityPropertyHistoricalFindRequest  findRequestParameters = new EntityPropertyHistoricalFindRequest();
+            EntityPropertyHistoricalFindRequest historicalFindRequestParameters = new EntityPropertyHistoricalFindRequest();
 
-            findRequestParameters.setTypeGUID(entityTypeGUID);
-            findRequestParameters.setAsOfTime(asOfTime);
-            findRequestParameters.setOffset(fromEntityElement);
-            findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
-            findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
-            findRequestParameters.setSequencingOrder(sequencingOrder);
-            findRequestParameters.setSequencingProperty(sequencingProperty);
-            findRequestParameters.setPageSize(pageSize);
-
-            restResult = this.callEntityListPostRESTCall(methodName,
-                                                         restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
-                                                         findRequestParameters,
-                                                         userId,
-                                                         searchCriteria);
+            historicalFindRequestParameters.setAsOfTime(asOfTime);
+            findRequestParameters = historicalFindRequestParameters;
         }
 
+        findRequestParameters.setTypeGUID(entityTypeGUID);
+        findRequestParameters.setMatchProperties(matchProperties);
+        findRequestParameters.setMatchCriteria(matchCriteria);
+        findRequestParameters.setOffset(fromEntityElement);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setLimitResultsByClassification(limitResultsByClassification);
+        findRequestParameters.setSequencingOrder(sequencingOrder);
+        findRequestParameters.setSequencingProperty(sequencingProperty);
+        findRequestParameters.setPageSize(pageSize);
+
+        return findRequestParameters;
+    }
+
+
+    /**
+     * Extract the entities from the response of a find entities request, throwing the exception returned
+     * by the remote repository, if any.
+     *
+     * @param methodName calling method
+     * @param restResult response from the remote repository
+     * @return a list of entities matching the supplied criteria; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private List<EntityDetail> getEntitiesFromRESTResult(String             methodName,
+                                                         EntityListResponse restResult) throws InvalidParameterException,
+                                                                                               TypeErrorException,
+                                                                                               RepositoryErrorException,
+                                                                                               PropertyErrorException,
+                                                                                               PagingErrorException,
+                                                                                               FunctionNotSupportedException,
+                                                                                               UserNotAuthorizedException
+    {
         this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
         this.detectAndThrowInvalidParameterException(methodName, restResult);
-        this.detectAndThrowPropertyErrorException(methodName, restResult);
         this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
         this.detectAndThrowPagingErrorException(methodName, restResult);
         this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
         this.detectAndThrowRepositoryErrorException(methodName, restResult);
@@ -3499,6 +3716,132 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Create a batch of new entities.  Each entity in the list is a template for one new entity: the type GUID
+     * is taken from its instance type and the properties, classifications and status are taken from the
+     * corresponding attributes.  The result list has one entry for each template, in the same order.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities templates for the new entities.
+     * @return list of results, one for each template.
+     * @throws InvalidParameterException the user id or the list is null, or the list is empty.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> addEntities(String             userId,
+                                                 List<EntityDetail> newEntities) throws InvalidParameterException,
+                                                                                        RepositoryErrorException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String methodName  = "addEntities";
+        final String operationSpecificURL = "instances/entities/batch";
+
+        InstanceGraphRequest requestBody = new InstanceGraphRequest();
+        requestBody.setEntityElementList(newEntities);
+
+        InstanceBatchResponse restResult = this.callInstanceBatchPostRESTCall(methodName,
+                                                                              restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                              requestBody,
+                                                                              userId);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getResults();
+    }
+
+
+    /**
+     * Create a batch of new relationships.  Each relationship in the list is a template for one new
+     * relationship: the type GUID is taken from its instance type, the entity GUIDs from its entity proxies
+     * and the properties and status from the corresponding attributes.  The result list has one entry for
+     * each template, in the same order.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationships templates for the new relationships.
+     * @return list of results, one for each template.
+     * @throws InvalidParameterException the user id or the list is null, or the list is empty.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> addRelationships(String             userId,
+                                                      List<Relationship> newRelationships) throws InvalidParameterException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  FunctionNotSupportedException,
+                                                                                                  UserNotAuthorizedException
+    {
+        final String methodName  = "addRelationships";
+        final String operationSpecificURL = "instances/relationships/batch";
+
+        InstanceGraphRequest requestBody = new InstanceGraphRequest();
+        requestBody.setRelationshipElementList(newRelationships);
+
+        InstanceBatchResponse restResult = this.callInstanceBatchPostRESTCall(methodName,
+                                                                              restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                              requestBody,
+                                                                              userId);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getResults();
+    }
+
+
+    /**
+     * Add the same classification to each of a list of entities.  The result list has one entry for each
+     * entity GUID, in the same order.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers (guids) of the entities to classify.
+     * @param classificationName String name for the classification.
+     * @param classificationProperties list of properties to set in each classification.
+     * @return list of results, one for each entity GUID.
+     * @throws InvalidParameterException the user id or the list is null, or the list is empty.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> classifyEntities(String             userId,
+                                                      List<String>       entityGUIDs,
+                                                      String             classificationName,
+                                                      InstanceProperties classificationProperties) throws InvalidParameterException,
+                                                                                                          RepositoryErrorException,
+                                                                                                          FunctionNotSupportedException,
+                                                                                                          UserNotAuthorizedException
+    {
+        final String methodName  = "classifyEntities";
+        final String operationSpecificURL = "instances/entities/classification/{1}/batch";
+
+        ClassificationBatchRequest requestBody = new ClassificationBatchRequest();
+        requestBody.setEntityGUIDs(entityGUIDs);
+        requestBody.setInstanceProperties(classificationProperties);
+
+        InstanceBatchResponse restResult = this.callInstanceBatchPostRESTCall(methodName,
+                                                                              restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                              requestBody,
+                                                                              userId,
+                                                                              classificationName);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getResults();
+    }
+
+
     /* ======================================================================
      * Group 5: Change the control information in entities and relationships
      */
@@ -4769,6 +5112,29 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Issue a POST REST call that returns a InstanceBatchResponse object.
+     *
+     * @param methodName name of the method being called
+     * @param operationSpecificURL template of the URL for the REST API call with place-holders for the parameters
+     * @param requestBody request body object
+     * @param params a list of parameters that are slotted into the url template
+     * @return InstanceBatchResponse
+     * @throws RepositoryErrorException something went wrong with the REST call stack.
+     */
+    private InstanceBatchResponse callInstanceBatchPostRESTCall(String    methodName,
+                                                                String    operationSpecificURL,
+                                                                Object    requestBody,
+                                                                Object... params) throws RepositoryErrorException
+    {
+        return this.callPostRESTCall(methodName,
+                                     InstanceBatchResponse.class,
+                                     operationSpecificURL,
+                                     requestBody,
+                                     params);
+    }
+
+
     /**
      * Issue a POST REST call that returns a RelationshipResponse object.
      *
@@ -5033,6 +5399,140 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Issue a GET REST call without blocking the calling thread.
+     *
+     * @param <T> class name
+     * @param methodName  name of the method being called
+     * @param returnClass class name of response object
+     * @param operationSpecificURL  template of the URL for the REST API call with place-holders for the parameters
+     * @param params  a list of parameters that are slotted into the url template
+     * @return future for the response object.  It completes exceptionally with RepositoryErrorException if
+     * something went wrong with the REST call stack.
+     */
+    private <T> CompletableFuture<T> callGetRESTCallAsync(String    methodName,
+                                                          Class<T>  returnClass,
+                                                          String    operationSpecificURL,
+                                                          Object... params)
+    {
+        return this.mapRESTClientErrorAsync(methodName,
+                                            restClient.callGetRESTCallAsync(methodName,
+                                                                            returnClass,
+                                                                            operationSpecificURL,
+                                                                            params));
+    }
+
+
+    /**
+     * Issue a POST REST call without blocking the calling thread.
+     *
+     * @param <T> class name
+     * @param methodName name of the method being called
+     * @param returnClass class name of response object
+     * @param operationSpecificURL template of the URL for the REST API call with place-holders for the parameters
+     * @param request request body object
+     * @param params a list of parameters that are slotted into the url template
+     * @return future for the response object.  It completes exceptionally with RepositoryErrorException if
+     * something went wrong with the REST call stack.
+     */
+    private <T> CompletableFuture<T> callPostRESTCallAsync(String    methodName,
+                                                           Class<T>  returnClass,
+                                                           String    operationSpecificURL,
+                                                           Object    request,
+                                                           Object... params)
+    {
+        return this.mapRESTClientErrorAsync(methodName,
+                                            restClient.callPostRESTCallAsync(methodName,
+                                                                             returnClass,
+                                                                             operationSpecificURL,
+                                                                             request,
+                                                                             params));
+    }
+
+
+    /**
+     * Replace a failure of the REST client with the RepositoryErrorException that the blocking calls throw.
+     *
+     * @param <T> class name
+     * @param methodName name of the method being called
+     * @param restCall future for the REST call
+     * @return future for the response object
+     */
+    private <T> CompletableFuture<T> mapRESTClientErrorAsync(String               methodName,
+                                                             CompletableFuture<T> restCall)
+    {
+        CompletableFuture<T> response = new CompletableFuture<>();
+
+        restCall.whenComplete((restResult, error) ->
+        {
+            if (error == null)
+            {
+                response.complete(restResult);
+            }
+            else
+            {
+                Throwable cause = ((error instanceof CompletionException) && (error.getCause() != null)) ? error.getCause() : error;
+
+                response.completeExceptionally(new RepositoryErrorException(OMRSErrorCode.CLIENT_SIDE_REST_API_ERROR.getMessageDefinition(methodName,
+                                                                                                                                            repositoryName,
+                                                                                                                                            cause.getMessage()),
+                                                                            this.getClass().getName(),
+                                                                            methodName,
+                                                                            cause));
+            }
+        });
+
+        return response;
+    }
+
+
+    /**
+     * Convert the response of a non-blocking REST call to the result of the request.  Any exception returned by
+     * the remote repository completes the returned future exceptionally.
+     *
+     * @param <T> class of the response object
+     * @param <R> class of the result
+     * @param restCall future for the REST call
+     * @param resultHandler extracts the result from the response object
+     * @return future for the result
+     */
+    private <T, R> CompletableFuture<R> handleRESTResultAsync(CompletableFuture<T>    restCall,
+                                                              RESTResultHandler<T, R> resultHandler)
+    {
+        return restCall.thenApply(restResult ->
+        {
+            try
+            {
+                return resultHandler.getResult(restResult);
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                throw new CompletionException(error);
+            }
+        });
+    }
+
+
+    /**
+     * RESTResultHandler extracts the result of a request from the response object returned by the remote repository.
+     *
+     * @param <T> class of the response object
+     * @param <R> class of the result
+     */
+    @FunctionalInterface
+    private interface RESTResultHandler<T, R>
+    {
+        /**
+         * Extract the result from the response object.
+         *
+         * @param restResult response object
+         * @return result
+         * @throws OMRSCheckedExceptionBase the exception returned by the remote repository
+         */
+        R getResult(T restResult) throws OMRSCheckedExceptionBase;
+    }
+
+
     /*
      * ============================================
      * Extracting complex types from REST results
@@ -86,6 +86,8 @@ public class OMRSOperationalServices
     private OMRSEnterpriseConnectorManager enterpriseConnectorManager       = null;
     private String                         enterpriseMetadataCollectionId   = null;
     private String                         enterpriseMetadataCollectionName = null;
+    private int                            maxFederationWorkerThreads       = 0;
+    private long                           federationMemberTimeout          = 0;
     private OMRSTopicConnector             enterpriseOMRSTopicConnector     = null;
     private LocalOMRSRepositoryConnector   localRepositoryConnector         = null;
     private OMRSArchiveManager             archiveManager                   = null;
@@ -168,6 +170,8 @@ public class OMRSOperationalServices
 
                 omrsRepositoryConnector.setCallingServiceName(callingServiceName);
                 omrsRepositoryConnector.setMaxPageSize(maxPageSize);
+                omrsRepositoryConnector.setMaxFederationWorkerThreads(maxFederationWorkerThreads);
+                omrsRepositoryConnector.setFederationMemberTimeout(federationMemberTimeout);
 
                 auditLog.logMessage(actionDescription, OMRSAuditCode.NEW_ENTERPRISE_CONNECTOR.getMessageDefinition(callingServiceName));
 
@@ -658,6 +662,8 @@ public class OMRSOperationalServices
              */
             enterpriseMetadataCollectionId = enterpriseAccessConfig.getEnterpriseMetadataCollectionId();
             enterpriseMetadataCollectionName = enterpriseAccessConfig.getEnterpriseMetadataCollectionName();
+            maxFederationWorkerThreads = enterpriseAccessConfig.getMaxFederationWorkerThreads();
+            federationMemberTimeout = enterpriseAccessConfig.getFederationMemberTimeout();
         }
 
         return enterpriseConnectorManager;
@@ -11,6 +11,7 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorInterface;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
@@ -28,6 +29,13 @@ import java.util.List;
  */
 public class OMRSArchiveManager
 {
+    /*
+     * Instances from an archive store are passed to the local repository in batches.  Progress is
+     * reported to the audit log every few batches.
+     */
+    private static final int INSTANCE_BATCH_SIZE         = 1000;
+    private static final int BATCHES_PER_PROGRESS_REPORT = 10;
+
     private List<OpenMetadataArchiveStoreConnector> openMetadataArchiveStores   = new ArrayList<>();
     private OMRSRepositoryContentManager            repositoryContentManager    = null;
     private OMRSInstanceEventProcessorInterface     localInstanceEventProcessor = null;
@@ -156,21 +164,31 @@ public class OMRSArchiveManager
     {
         if (archiveStore != null)
         {
+            final String     actionDescription = "Process Open Metadata Archive";
+
             /*
              * Each archive store has a header, a section of new type definitions (TypeDefs) and a section of
-             * metadata instances.
+             * metadata instances.  The archive store passes these to the loader one element at a time (header first,
+             * then types, then instances) so the archive does not need to be held in memory.
              */
-            OpenMetadataArchive archiveContent = archiveStore.getArchiveContents();
+            ArchiveContentLoader archiveContentLoader = new ArchiveContentLoader(typeDefProcessor, instanceProcessor);
 
-            if (archiveContent == null)
+            if (! archiveStore.streamArchiveContents(archiveContentLoader))
             {
-                final String     actionDescription = "Process Open Metadata Archive";
-
                 auditLog.logMessage(actionDescription, OMRSAuditCode.EMPTY_ARCHIVE.getMessageDefinition(archiveSource));
             }
+            else if (archiveContentLoader.getArchiveProperties() == null)
+            {
+                auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE.getMessageDefinition(archiveSource));
+            }
             else
             {
-                processOpenMetadataArchive(archiveContent, archiveSource, typeDefProcessor, instanceProcessor);
+                archiveContentLoader.complete();
+
+                auditLog.logMessage(actionDescription,
+                                    OMRSAuditCode.COMPLETED_ARCHIVE.getMessageDefinition(Integer.toString(archiveContentLoader.getTypeCount()),
+                                                                                         Integer.toString(archiveContentLoader.getInstanceCount()),
+                                                                                         archiveContentLoader.getArchiveProperties().getArchiveName()));
             }
         }
     }
@@ -528,4 +546,308 @@ public class OMRSArchiveManager
             instance.setInstanceLicense(originatorLicense);
         }
     }
+
+
+    /**
+     * ArchiveContentLoader receives the elements of an archive store as they are read.  The types are gathered
+     * and passed to the local repository before the first instance.  The instances are passed to the
+     * local repository in batches, with progress recorded in the audit log.
+     */
+    private class ArchiveContentLoader implements OpenMetadataArchiveContentProcessor
+    {
+        private static final String actionDescription = "Process Open Metadata Archive";
+
+        private OMRSTypeDefEventProcessorInterface  typeDefProcessor;
+        private OMRSInstanceEventProcessorInterface instanceProcessor;
+
+        private OpenMetadataArchiveProperties       archiveProperties = null;
+        private OpenMetadataArchiveTypeStore        typeStore         = null;
+        private OpenMetadataArchiveInstanceStore    instanceBatch     = null;
+        private int                                 instanceBatchSize = 0;
+        private int                                 batchCount        = 0;
+        private int                                 typeCount         = 0;
+        private int                                 instanceCount     = 0;
+
+
+        /**
+         * Constructor
+         *
+         * @param typeDefProcessor processor of type definitions found in the archive
+         * @param instanceProcessor processor of instances found in the archive
+         */
+        ArchiveContentLoader(OMRSTypeDefEventProcessorInterface  typeDefProcessor,
+                             OMRSInstanceEventProcessorInterface instanceProcessor)
+        {
+            this.typeDefProcessor = typeDefProcessor;
+            this.instanceProcessor = instanceProcessor;
+        }
+
+
+        /**
+         * Return the header of the archive, or null if the archive did not have one.
+         *
+         * @return archive properties
+         */
+        OpenMetadataArchiveProperties getArchiveProperties()
+        {
+            return archiveProperties;
+        }
+
+
+        /**
+         * Return the number of types processed.
+         *
+         * @return count
+         */
+        int getTypeCount()
+        {
+            return typeCount;
+        }
+
+
+        /**
+         * Return the number of instances processed.
+         *
+         * @return count
+         */
+        int getInstanceCount()
+        {
+            return instanceCount;
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+        {
+            this.archiveProperties = archiveProperties;
+
+            auditLog.logMessage(actionDescription, OMRSAuditCode.PROCESSING_ARCHIVE.getMessageDefinition(archiveProperties.getArchiveName()));
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void processAttributeTypeDef(AttributeTypeDef attributeTypeDef)
+        {
+            if ((archiveProperties != null) && (attributeTypeDef != null))
+            {
+                OpenMetadataArchiveTypeStore pendingTypes = getTypeStore();
+
+                if (pendingTypes.getAttributeTypeDefs() == null)
+                {
+                    pendingTypes.setAttributeTypeDefs(new ArrayList<>());
+                }
+
+                pendingTypes.getAttributeTypeDefs().add(attributeTypeDef);
+            }
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void processNewTypeDef(TypeDef typeDef)
+        {
+            if ((archiveProperties != null) && (typeDef != null))
+            {
+                OpenMetadataArchiveTypeStore pendingTypes = getTypeStore();
+
+                if (pendingTypes.getNewTypeDefs() == null)
+                {
+                    pendingTypes.setNewTypeDefs(new ArrayList<>());
+                }
+
+                pendingTypes.getNewTypeDefs().add(typeDef);
+            }
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void processTypeDefPatch(TypeDefPatch typeDefPatch)
+        {
+            if ((archiveProperties != null) && (typeDefPatch != null))
+            {
+                OpenMetadataArchiveTypeStore pendingTypes = getTypeStore();
+
+                if (pendingTypes.getTypeDefPatches() == null)
+                {
+                    pendingTypes.setTypeDefPatches(new ArrayList<>());
+                }
+
+                pendingTypes.getTypeDefPatches().add(typeDefPatch);
+            }
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void processEntity(EntityDetail entity)
+        {
+            if ((archiveProperties != null) && (entity != null))
+            {
+                OpenMetadataArchiveInstanceStore batch = getInstanceBatch();
+
+                if (batch.getEntities() == null)
+                {
+                    batch.setEntities(new ArrayList<>());
+                }
+
+                batch.getEntities().add(entity);
+                addedToBatch();
+            }
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void processRelationship(Relationship relationship)
+        {
+            if ((archiveProperties != null) && (relationship != null))
+            {
+                OpenMetadataArchiveInstanceStore batch = getInstanceBatch();
+
+                if (batch.getRelationships() == null)
+                {
+                    batch.setRelationships(new ArrayList<>());
+                }
+
+                batch.getRelationships().add(relationship);
+                addedToBatch();
+            }
+        }
+
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void processClassification(ClassificationEntityExtension classification)
+        {
+            if ((archiveProperties != null) && (classification != null))
+            {
+                OpenMetadataArchiveInstanceStore batch = getInstanceBatch();
+
+                if (batch.getClassifications() == null)
+                {
+                    batch.setClassifications(new ArrayList<>());
+                }
+
+                batch.getClassifications().add(classification);
+                addedToBatch();
+            }
+        }
+
+
+        /**
+         * Pass any remaining types and instances to the local repository.  This is called once the
+         * whole archive has been read.
+         */
+        void complete()
+        {
+            completeTypes();
+
+            if (instanceBatch != null)
+            {
+                processInstanceBatch();
+            }
+        }
+
+
+        /**
+         * Return the store that is gathering the types.
+         *
+         * @return type store
+         */
+        private OpenMetadataArchiveTypeStore getTypeStore()
+        {
+            if (typeStore == null)
+            {
+                typeStore = new OpenMetadataArchiveTypeStore();
+            }
+
+            return typeStore;
+        }
+
+
+        /**
+         * Return the current batch of instances.  The types must be in place before the first instance is
+         * processed so any gathered types are passed to the local repository first.
+         *
+         * @return instance store for the batch
+         */
+        private OpenMetadataArchiveInstanceStore getInstanceBatch()
+        {
+            completeTypes();
+
+            if (instanceBatch == null)
+            {
+                instanceBatch = new OpenMetadataArchiveInstanceStore();
+            }
+
+            return instanceBatch;
+        }
+
+
+        /**
+         * Pass the gathered types (if any) to the local repository.
+         */
+        private void completeTypes()
+        {
+            if (typeStore != null)
+            {
+                typeCount = typeCount + processTypeDefStore(archiveProperties, typeStore, typeDefProcessor);
+                typeStore = null;
+
+                auditLog.logMessage(actionDescription,
+                                    OMRSAuditCode.LOADED_ARCHIVE_TYPES.getMessageDefinition(Integer.toString(typeCount),
+                                                                                            archiveProperties.getArchiveName()));
+            }
+        }
+
+
+        /**
+         * Count an instance added to the current batch and process the batch when it is full.
+         */
+        private void addedToBatch()
+        {
+            instanceBatchSize++;
+
+            if (instanceBatchSize >= INSTANCE_BATCH_SIZE)
+            {
+                processInstanceBatch();
+            }
+        }
+
+
+        /**
+         * Pass the current batch of instances to the local repository.
+         */
+        private void processInstanceBatch()
+        {
+            instanceCount = instanceCount + processInstanceStore(archiveProperties, instanceBatch, instanceProcessor);
+            instanceBatch = null;
+            instanceBatchSize = 0;
+            batchCount++;
+
+            if (batchCount % BATCHES_PER_PROGRESS_REPORT == 0)
+            {
+                auditLog.logMessage(actionDescription,
+                                    OMRSAuditCode.ARCHIVE_LOAD_PROGRESS.getMessageDefinition(Integer.toString(instanceCount),
+                                                                                             archiveProperties.getArchiveName()));
+            }
+        }
+    }
 }
@@ -136,7 +136,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationWorkerPool(), methodName);
         GetAllTypesExecutor executor = new GetAllTypesExecutor(userId,
                                                                methodName,
                                                                localMetadataCollectionId,
@@ -1111,7 +1111,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationWorkerPool(), methodName);
         GetRelationshipsForEntityExecutor executor          = new GetRelationshipsForEntityExecutor(userId,
                                                                                                     entityGUID,
                                                                                                     relationshipTypeGUID,
@@ -1216,7 +1216,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationWorkerPool(), methodName);
         FindEntitiesByPropertyExecutor    executor          = new FindEntitiesByPropertyExecutor(userId,
                                                                                                  entityTypeGUID,
                                                                                                  matchProperties,
@@ -1291,7 +1291,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationWorkerPool(), methodName);
         FindEntitiesExecutor executor       = new FindEntitiesExecutor(userId,
                                                                        entityTypeGUID,
                                                                        entitySubtypeGUIDs,
@@ -1403,7 +1403,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                       federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                       federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationWorkerPool(), methodName);
         FindEntitiesByClassificationExecutor    executor          = new FindEntitiesByClassificationExecutor(userId,
                                                                                                              entityTypeGUID,
                                                                                                              classificationName,
@@ -1510,7 +1510,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationWorkerPool(), methodName);
         FindEntitiesByPropertyValueExecutor executor          = new FindEntitiesByPropertyValueExecutor(userId,
                                                                                                         entityTypeGUID,
                                                                                                         searchCriteria,
@@ -1727,7 +1727,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl         federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl         federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationWorkerPool(), methodName);
         FindRelationshipsExecutor executor          = new FindRelationshipsExecutor(userId,
                                                                                     relationshipTypeGUID,
                                                                                     relationshipSubtypeGUIDs,
@@ -1831,7 +1831,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationWorkerPool(), methodName);
         FindRelationshipsByPropertyExecutor executor          = new FindRelationshipsByPropertyExecutor(userId,
                                                                                                         relationshipTypeGUID,
                                                                                                         matchProperties,
@@ -1934,7 +1934,7 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                        federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                        federationControl = new ParallelFederationControl(userId, cohortConnectors, enterpriseParentConnector.getFederationWorkerPool(), methodName);
         FindRelationshipsByPropertyValueExecutor executor          = new FindRelationshipsByPropertyValueExecutor(userId,
                                                                                                                   relationshipTypeGUID,
                                                                                                                   searchCriteria,
@@ -4,6 +4,8 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederatedMemberStatistics;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederationWorkerPool;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.OMRSInstanceRetrievalEventProcessor;
 import org.slf4j.Logger;
@@ -22,6 +24,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeExcept
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * EnterpriseOMRSRepositoryConnector supports federating calls to multiple metadata repositories.  As a result,
@@ -49,6 +52,10 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
 
     private String callingServiceName = null;
 
+    private int                  maxFederationWorkerThreads = 0;
+    private long                 federationMemberTimeout    = 0;
+    private FederationWorkerPool federationWorkerPool       = null;
+
     private static final Logger       log      = LoggerFactory.getLogger(EnterpriseOMRSRepositoryConnector.class);
 
     /**
@@ -97,6 +104,60 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     }
 
 
+    /**
+     * Set up the maximum number of cohort members that are called concurrently by a federated query.
+     * Zero means use the default.
+     *
+     * @param maxFederationWorkerThreads number of worker threads
+     */
+    public void setMaxFederationWorkerThreads(int maxFederationWorkerThreads)
+    {
+        this.maxFederationWorkerThreads = maxFederationWorkerThreads;
+    }
+
+
+    /**
+     * Set up the number of milliseconds that a federated query waits for each cohort member.
+     * Zero means use the default.
+     *
+     * @param federationMemberTimeout milliseconds
+     */
+    public void setFederationMemberTimeout(long federationMemberTimeout)
+    {
+        this.federationMemberTimeout = federationMemberTimeout;
+    }
+
+
+    /**
+     * Return the worker threads used to call the cohort members concurrently.  This is null if the
+     * connector is not started.
+     *
+     * @return worker pool
+     */
+    FederationWorkerPool getFederationWorkerPool()
+    {
+        return federationWorkerPool;
+    }
+
+
+    /**
+     * Return the response time statistics for each cohort member called by the federated queries.
+     *
+     * @return map of metadata collection identifier to statistics
+     */
+    public Map<String, FederatedMemberStatistics> getFederatedMemberStatistics()
+    {
+        FederationWorkerPool workerPool = federationWorkerPool;
+
+        if (workerPool == null)
+        {
+            return null;
+        }
+
+        return workerPool.getMemberStatistics();
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      *
@@ -113,6 +174,10 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
             auditLog.logMessage(actionDescription, OMRSAuditCode.STARTING_ENTERPRISE_CONNECTOR.getMessageDefinition(callingServiceName));
         }
 
+        federationWorkerPool = new FederationWorkerPool("Enterprise federation worker for " + callingServiceName,
+                                                        maxFederationWorkerThreads,
+                                                        federationMemberTimeout);
+
         if (connectorManager != null)
         {
             this.connectorConsumerId = connectorManager.registerConnectorConsumer(this);
@@ -149,6 +214,12 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
             connectorManager.unregisterConnectorConsumer(connectorConsumerId);
         }
 
+        if (federationWorkerPool != null)
+        {
+            federationWorkerPool.shutdown();
+            federationWorkerPool = null;
+        }
+
         localConnector = null;
         remoteCohortConnectors = new ArrayList<>();
     }
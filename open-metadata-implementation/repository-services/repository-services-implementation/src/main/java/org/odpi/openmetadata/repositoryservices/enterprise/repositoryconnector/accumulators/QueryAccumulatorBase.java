@@ -8,7 +8,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * QueryAccumulatorBase acts as a base class to the accumulators that need to visit each repository and
@@ -22,7 +24,8 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
 
     private int                  responsesRequired  = 0;
     private Map<String, Integer> resultsContributed = new HashMap<>();
-    private boolean              resultsReturned = false;
+    private Set<String>          closedMembers      = new HashSet<>();
+    private volatile boolean     resultsReturned = false;
 
 
     /**
@@ -79,6 +82,35 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     }
 
 
+    /**
+     * Record that the request to a repository did not complete within the time allowed and stop accepting
+     * results from this repository.  The request may still be running, and anything it adds once the
+     * caller has stopped waiting for it is ignored so that the results already returned do not change.
+     *
+     * @param metadataCollectionId identifier of repository's metadata collection
+     * @param exception exception describing the timeout
+     */
+    public synchronized void captureTimeout(String                   metadataCollectionId,
+                                            RepositoryErrorException exception)
+    {
+        captureException(metadataCollectionId, exception);
+        closedMembers.add(metadataCollectionId);
+    }
+
+
+    /**
+     * Return whether the results from a repository are no longer accepted because the caller
+     * has stopped waiting for them.
+     *
+     * @param metadataCollectionId identifier of repository's metadata collection
+     * @return boolean flag
+     */
+    synchronized boolean isMemberClosed(String metadataCollectionId)
+    {
+        return closedMembers.contains(metadataCollectionId);
+    }
+
+
     /**
      * This records the completion of the request to a single repository.
      *
@@ -89,6 +121,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     synchronized void setResultsReturned(String      metadataCollectionId,
                                          int         numberOfElements)
     {
+        if (isMemberClosed(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, numberOfElements);
         resultsReturned = true;
     }
@@ -118,6 +155,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                          metadataCollectionId,
                                               ClassificationErrorException    exception)
     {
+        if (isMemberClosed(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         classificationErrorException = exception;
     }
@@ -132,6 +174,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               EntityNotKnownException    exception)
     {
+        if (isMemberClosed(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         entityNotKnownException = exception;
     }
@@ -147,6 +194,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                           metadataCollectionId,
                                               FunctionNotSupportedException    exception)
     {
+        if (isMemberClosed(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         functionNotSupportedException = exception;
     }
@@ -161,6 +213,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               InvalidParameterException  exception)
     {
+        if (isMemberClosed(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         invalidParameterException = exception;
     }
@@ -175,6 +232,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               PagingErrorException     exception)
     {
+        if (isMemberClosed(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         pagingErrorException = exception;
     }
@@ -189,6 +251,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               PropertyErrorException     exception)
     {
+        if (isMemberClosed(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         propertyErrorException = exception;
     }
@@ -203,6 +270,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                        metadataCollectionId,
                                               RelationshipNotKnownException exception)
     {
+        if (isMemberClosed(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         relationshipNotKnownException = exception;
     }
@@ -217,6 +289,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               RepositoryErrorException   exception)
     {
+        if (isMemberClosed(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         repositoryErrorException = exception;
     }
@@ -231,6 +308,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String               metadataCollectionId,
                                               TypeErrorException   exception)
     {
+        if (isMemberClosed(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         typeErrorException = exception;
     }
@@ -245,6 +327,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               UserNotAuthorizedException exception)
     {
+        if (isMemberClosed(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         userNotAuthorizedException = exception;
     }
@@ -259,6 +346,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureGenericException(String     metadataCollectionId,
                                                      Throwable  exception)
     {
+        if (isMemberClosed(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         anotherException = exception;
     }
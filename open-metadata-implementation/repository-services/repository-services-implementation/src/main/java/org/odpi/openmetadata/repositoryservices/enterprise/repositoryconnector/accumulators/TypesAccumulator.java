@@ -104,6 +104,11 @@ public class TypesAccumulator extends QueryAccumulatorBase
     public synchronized void addTypeDefGallery(TypeDefGallery types,
                                                String         metadataCollectionId)
     {
+        if (super.isMemberClosed(metadataCollectionId))
+        {
+            return;
+        }
+
         int numberOrAttributeTypeDefs = 0;
         int numberOfTypeDefs = 0;
 
@@ -0,0 +1,149 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FederatedMemberStatistics records the response times of a single cohort member for the requests
+ * issued by the parallel federation control.  It is updated from the federation worker threads so
+ * each value is maintained independently with atomic counters.
+ */
+public class FederatedMemberStatistics
+{
+    private String     metadataCollectionId;
+    private AtomicLong requestCount      = new AtomicLong(0);
+    private AtomicLong timeoutCount      = new AtomicLong(0);
+    private AtomicLong totalResponseTime = new AtomicLong(0);
+    private AtomicLong maxResponseTime   = new AtomicLong(0);
+    private AtomicLong lastResponseTime  = new AtomicLong(0);
+
+
+    /**
+     * Constructor for a single cohort member.
+     *
+     * @param metadataCollectionId unique identifier of the member's metadata collection
+     */
+    FederatedMemberStatistics(String metadataCollectionId)
+    {
+        this.metadataCollectionId = metadataCollectionId;
+    }
+
+
+    /**
+     * Record a completed request.
+     *
+     * @param responseTime number of milliseconds taken by the member to respond
+     */
+    void recordResponse(long responseTime)
+    {
+        requestCount.incrementAndGet();
+        totalResponseTime.addAndGet(responseTime);
+        lastResponseTime.set(responseTime);
+        maxResponseTime.accumulateAndGet(responseTime, Math::max);
+    }
+
+
+    /**
+     * Record a request that was abandoned because the member did not respond in time.
+     *
+     * @param timeout number of milliseconds waited before the request was abandoned
+     */
+    void recordTimeout(long timeout)
+    {
+        timeoutCount.incrementAndGet();
+        recordResponse(timeout);
+    }
+
+
+    /**
+     * Return the unique identifier of the member's metadata collection.
+     *
+     * @return guid
+     */
+    public String getMetadataCollectionId()
+    {
+        return metadataCollectionId;
+    }
+
+
+    /**
+     * Return the number of requests issued to this member (including those that timed out).
+     *
+     * @return count
+     */
+    public long getRequestCount()
+    {
+        return requestCount.get();
+    }
+
+
+    /**
+     * Return the number of requests that were abandoned because the member did not respond in time.
+     *
+     * @return count
+     */
+    public long getTimeoutCount()
+    {
+        return timeoutCount.get();
+    }
+
+
+    /**
+     * Return the average response time in milliseconds.
+     *
+     * @return milliseconds
+     */
+    public long getAverageResponseTime()
+    {
+        long count = requestCount.get();
+
+        if (count == 0)
+        {
+            return 0;
+        }
+
+        return totalResponseTime.get() / count;
+    }
+
+
+    /**
+     * Return the longest response time in milliseconds.
+     *
+     * @return milliseconds
+     */
+    public long getMaxResponseTime()
+    {
+        return maxResponseTime.get();
+    }
+
+
+    /**
+     * Return the response time of the most recent request in milliseconds.
+     *
+     * @return milliseconds
+     */
+    public long getLastResponseTime()
+    {
+        return lastResponseTime.get();
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "FederatedMemberStatistics{" +
+                "metadataCollectionId='" + metadataCollectionId + '\'' +
+                ", requestCount=" + getRequestCount() +
+                ", timeoutCount=" + getTimeoutCount() +
+                ", averageResponseTime=" + getAverageResponseTime() +
+                ", maxResponseTime=" + getMaxResponseTime() +
+                ", lastResponseTime=" + getLastResponseTime() +
+                '}';
+    }
+}
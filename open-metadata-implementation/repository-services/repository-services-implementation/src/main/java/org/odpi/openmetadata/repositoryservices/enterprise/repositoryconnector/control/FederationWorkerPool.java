@@ -0,0 +1,181 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FederationWorkerPool manages the worker threads used by the ParallelFederationControl to call the
+ * members of the cohort(s) concurrently.  There is one pool for each enterprise repository connector.
+ * The pool is bounded - once all of the workers are busy and the queue is full, the calling thread
+ * issues the request itself.  Idle worker threads are released so an unused pool holds no threads.
+ *
+ * The pool also records the response time of each cohort member.
+ */
+public class FederationWorkerPool
+{
+    public static final int  DEFAULT_MAX_WORKER_THREADS = 10;
+    public static final long DEFAULT_MEMBER_TIMEOUT     = 60000;
+
+    private static final long idleWorkerKeepAlive = 60;
+
+    private ThreadPoolExecutor                     workers;
+    private long                                   memberTimeout;
+    private Map<String, FederatedMemberStatistics> memberStatistics = new HashMap<>();
+
+
+    /**
+     * Create the worker pool.
+     *
+     * @param workerThreadName name used as the prefix of each worker thread's name
+     * @param maxWorkerThreads maximum number of concurrent requests to cohort members; zero or less means use the default
+     * @param memberTimeout number of milliseconds to wait for each cohort member; zero or less means use the default
+     */
+    public FederationWorkerPool(String workerThreadName,
+                                int    maxWorkerThreads,
+                                long   memberTimeout)
+    {
+        int workerCount = DEFAULT_MAX_WORKER_THREADS;
+
+        if (maxWorkerThreads > 0)
+        {
+            workerCount = maxWorkerThreads;
+        }
+
+        if (memberTimeout > 0)
+        {
+            this.memberTimeout = memberTimeout;
+        }
+        else
+        {
+            this.memberTimeout = DEFAULT_MEMBER_TIMEOUT;
+        }
+
+        this.workers = new ThreadPoolExecutor(workerCount,
+                                              workerCount,
+                                              idleWorkerKeepAlive,
+                                              TimeUnit.SECONDS,
+                                              new ArrayBlockingQueue<>(workerCount * 10),
+                                              new WorkerThreadFactory(workerThreadName),
+                                              new ThreadPoolExecutor.CallerRunsPolicy());
+        this.workers.allowCoreThreadTimeOut(true);
+    }
+
+
+    /**
+     * Return the number of milliseconds to wait for a response from a cohort member.
+     *
+     * @return milliseconds
+     */
+    public long getMemberTimeout()
+    {
+        return memberTimeout;
+    }
+
+
+    /**
+     * Queue a request to a cohort member.
+     *
+     * @param request request to run
+     * @return future for the result of the request
+     */
+    Future<Boolean> submit(Callable<Boolean> request)
+    {
+        return workers.submit(request);
+    }
+
+
+    /**
+     * Record the response time of a completed request.
+     *
+     * @param metadataCollectionId identifier of the cohort member's metadata collection
+     * @param responseTime number of milliseconds taken by the request
+     */
+    void recordResponse(String metadataCollectionId,
+                        long   responseTime)
+    {
+        if (metadataCollectionId != null)
+        {
+            this.getStatisticsForMember(metadataCollectionId).recordResponse(responseTime);
+        }
+    }
+
+
+    /**
+     * Record a request that was abandoned because the cohort member did not respond in time.
+     *
+     * @param metadataCollectionId identifier of the cohort member's metadata collection
+     */
+    void recordTimeout(String metadataCollectionId)
+    {
+        if (metadataCollectionId != null)
+        {
+            this.getStatisticsForMember(metadataCollectionId).recordTimeout(memberTimeout);
+        }
+    }
+
+
+    /**
+     * Return the statistics object for a cohort member, creating it if this is the first request.
+     *
+     * @param metadataCollectionId identifier of the cohort member's metadata collection
+     * @return statistics object
+     */
+    private synchronized FederatedMemberStatistics getStatisticsForMember(String metadataCollectionId)
+    {
+        return memberStatistics.computeIfAbsent(metadataCollectionId, FederatedMemberStatistics::new);
+    }
+
+
+    /**
+     * Return the response time statistics for each cohort member that has been called through this pool.
+     *
+     * @return map of metadata collection identifier to statistics
+     */
+    public synchronized Map<String, FederatedMemberStatistics> getMemberStatistics()
+    {
+        return new HashMap<>(memberStatistics);
+    }
+
+
+    /**
+     * Stop accepting new requests and release the worker threads.  Requests that are in progress
+     * are allowed to complete.
+     */
+    public void shutdown()
+    {
+        workers.shutdown();
+    }
+
+
+    /**
+     * WorkerThreadFactory creates named daemon threads so that an outstanding request does not
+     * prevent the server from shutting down.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory
+    {
+        private String        workerThreadName;
+        private AtomicInteger threadNumber = new AtomicInteger(1);
+
+        WorkerThreadFactory(String workerThreadName)
+        {
+            this.workerThreadName = workerThreadName;
+        }
+
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, workerThreadName + "-" + threadNumber.getAndIncrement());
+
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -4,33 +4,68 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.CloneableRepositoryExecutor;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * ParallelFederationControl uses multiple worker threads to perform the calls to different systems in parallel.
+ * Each cohort member is called through a clone of the supplied executor.  The clones share the executor's
+ * accumulator so the results are combined as they arrive.  The calling thread waits for each member up to the
+ * member timeout of the worker pool.  A member that does not respond in time is recorded in the accumulator as
+ * a repository error and the results from the other members are returned.  The accumulator ignores anything
+ * that a timed out member adds later so the results do not change after they have been returned.
+ *
+ * If there is no worker pool, or the executor can not be cloned, each member is called in turn on the
+ * calling thread.
  */
 public class ParallelFederationControl extends FederationControlBase
 {
-    // todo at this point the parallel federation control uses a sequential since the
-    // todo worker threads are not implemented.
+    private static final Logger log = LoggerFactory.getLogger(ParallelFederationControl.class);
+
+    private FederationWorkerPool workerPool;
+
+
+    /**
+     * Constructor for a federated query that calls each member in turn on the calling thread.
+     *
+     * @param userId calling user
+     * @param cohortConnectors list of connectors to call
+     * @param methodName calling method
+     */
+    public ParallelFederationControl(String                        userId,
+                                     List<OMRSRepositoryConnector> cohortConnectors,
+                                     String                        methodName)
+    {
+        this(userId, cohortConnectors, null, methodName);
+    }
 
 
     /**
-     * Constructor for a federated query
+     * Constructor for a federated query that calls the members concurrently.
      *
      * @param userId calling user
      * @param cohortConnectors list of connectors to call
+     * @param workerPool worker threads for calling the cohort members
      * @param methodName calling method
      */
     public ParallelFederationControl(String                        userId,
                                      List<OMRSRepositoryConnector> cohortConnectors,
+                                     FederationWorkerPool          workerPool,
                                      String                        methodName)
     {
         super(userId, cohortConnectors, methodName);
 
+        this.workerPool = workerPool;
     }
 
 
@@ -45,17 +80,154 @@ public class ParallelFederationControl extends FederationControlBase
     {
         if (super.cohortConnectors != null)
         {
-            for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+            if ((workerPool != null) && (executor instanceof CloneableRepositoryExecutor) && (cohortConnectors.size() > 1))
             {
-                if (cohortConnector != null)
+                this.executeCommandInParallel((CloneableRepositoryExecutor)executor);
+            }
+            else
+            {
+                for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
                 {
-                    OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+                    if (cohortConnector != null)
+                    {
+                        OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
 
-                    String metadataCollectionId = this.validateMetadataCollection(metadataCollection, methodName);
+                        String metadataCollectionId = this.validateMetadataCollection(metadataCollection, methodName);
 
-                    executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+                        this.issueTimedRequest(executor, metadataCollectionId, metadataCollection);
+                    }
                 }
             }
         }
     }
+
+
+    /**
+     * Issue a clone of the executor to each cohort member through the worker pool and wait for them to complete.
+     *
+     * @param executor command to execute
+     * @throws RepositoryErrorException problem with the state of one of the repositories.
+     */
+    private void executeCommandInParallel(CloneableRepositoryExecutor executor) throws RepositoryErrorException
+    {
+        List<MemberRequest> memberRequests = new ArrayList<>();
+
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if (cohortConnector != null)
+            {
+                OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+                String metadataCollectionId = this.validateMetadataCollection(metadataCollection, methodName);
+
+                CloneableRepositoryExecutor memberExecutor = executor.getClone();
+                long                        deadline       = System.currentTimeMillis() + workerPool.getMemberTimeout();
+
+                memberRequests.add(new MemberRequest(metadataCollectionId,
+                                                     memberExecutor,
+                                                     deadline,
+                                                     workerPool.submit(() -> issueTimedRequest(memberExecutor,
+                                                                                               metadataCollectionId,
+                                                                                               metadataCollection))));
+            }
+        }
+
+        long memberTimeout = workerPool.getMemberTimeout();
+
+        for (MemberRequest memberRequest : memberRequests)
+        {
+            long remainingTime = memberRequest.deadline - System.currentTimeMillis();
+
+            try
+            {
+                memberRequest.future.get(Math.max(remainingTime, 0), TimeUnit.MILLISECONDS);
+            }
+            catch (TimeoutException error)
+            {
+                log.debug("Federated request {} to {} timed out after {} ms",
+                          methodName, memberRequest.metadataCollectionId, memberTimeout);
+
+                /*
+                 * The member is closed in the accumulator before the request is cancelled so
+                 * the interrupted request can not add its results.
+                 */
+                memberRequest.executor.captureTimeout(memberRequest.metadataCollectionId, memberTimeout);
+                memberRequest.future.cancel(true);
+                workerPool.recordTimeout(memberRequest.metadataCollectionId);
+            }
+            catch (InterruptedException error)
+            {
+                /*
+                 * The calling thread is being shut down so abandon the outstanding requests.
+                 * They are closed in the accumulator so that they can not add results once
+                 * the caller has moved on.
+                 */
+                for (MemberRequest outstandingRequest : memberRequests)
+                {
+                    if (! outstandingRequest.future.isDone())
+                    {
+                        outstandingRequest.executor.captureTimeout(outstandingRequest.metadataCollectionId, memberTimeout);
+                        outstandingRequest.future.cancel(true);
+                    }
+                }
+
+                Thread.currentThread().interrupt();
+                return;
+            }
+            catch (ExecutionException error)
+            {
+                /*
+                 * The executors capture their own exceptions in the accumulator so this is unexpected.
+                 */
+                log.debug("Federated request {} to {} failed", methodName, memberRequest.metadataCollectionId, error.getCause());
+            }
+        }
+    }
+
+
+    /**
+     * Issue the request to a single cohort member and record how long it took.
+     *
+     * @param executor command to execute
+     * @param metadataCollectionId identifier of the cohort member's metadata collection
+     * @param metadataCollection cohort member's metadata collection
+     * @return boolean true means that the required results have been achieved
+     */
+    private boolean issueTimedRequest(RepositoryExecutor     executor,
+                                      String                 metadataCollectionId,
+                                      OMRSMetadataCollection metadataCollection)
+    {
+        long    startTime = System.currentTimeMillis();
+        boolean result    = executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+
+        if (workerPool != null)
+        {
+            workerPool.recordResponse(metadataCollectionId, System.currentTimeMillis() - startTime);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * MemberRequest links the outstanding request to a cohort member with the executor clone that is running it.
+     */
+    private static class MemberRequest
+    {
+        private String                      metadataCollectionId;
+        private CloneableRepositoryExecutor executor;
+        private Future<Boolean>             future;
+        private long                        deadline;
+
+        MemberRequest(String                      metadataCollectionId,
+                      CloneableRepositoryExecutor executor,
+                      long                        deadline,
+                      Future<Boolean>             future)
+        {
+            this.metadataCollectionId = metadataCollectionId;
+            this.executor = executor;
+            this.deadline = deadline;
+            this.future = future;
+        }
+    }
 }
@@ -6,7 +6,7 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
  * CloneableRepositoryExecutor describes the interface for a repository executor that can be cloned to run
  * in parallel.  They use a shared accumulator to gather and assemble the result.
  */
-public interface CloneableRepositoryExecutor
+public interface CloneableRepositoryExecutor extends RepositoryExecutor
 {
     /**
      * Return a clone of this executor with the same command parameters and accumulator instance.
@@ -14,4 +14,16 @@ public interface CloneableRepositoryExecutor
      * @return clone of this executor
      */
     CloneableRepositoryExecutor getClone();
+
+
+    /**
+     * Record that the request to a repository did not complete within the time allowed.  This is
+     * passed to the shared accumulator so that it is returned if no repository produces a valid result.
+     * Any results that the request adds to the accumulator after this call are ignored.
+     *
+     * @param metadataCollectionId identifier for the metadata collection that did not respond
+     * @param timeout number of milliseconds that the caller waited for the response
+     */
+    void captureTimeout(String metadataCollectionId,
+                        long   timeout);
 }
@@ -4,6 +4,8 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.QueryAccumulatorBase;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
 
 /**
@@ -12,12 +14,38 @@ import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.a
  */
 abstract class CloneableRepositoryExecutorBase extends RepositoryExecutorBase implements CloneableRepositoryExecutor
 {
+    private QueryAccumulatorBase sharedAccumulator;
+
     CloneableRepositoryExecutorBase(String               userId,
                                     String               methodName,
                                     QueryAccumulatorBase accumulator)
     {
         super(userId, methodName);
 
+        this.sharedAccumulator = accumulator;
+
         accumulator.registerExecutor();
     }
+
+
+    /**
+     * Record that the request to a repository did not complete within the time allowed.  This is
+     * passed to the shared accumulator so that it is returned if no repository produces a valid result.
+     * Any results that the request adds to the accumulator after this call are ignored.
+     *
+     * @param metadataCollectionId identifier for the metadata collection that did not respond
+     * @param timeout number of milliseconds that the caller waited for the response
+     */
+    public void captureTimeout(String metadataCollectionId,
+                               long   timeout)
+    {
+        RepositoryErrorException error =
+                new RepositoryErrorException(OMRSErrorCode.FEDERATED_REQUEST_TIMEOUT.getMessageDefinition(methodName,
+                                                                                                          metadataCollectionId,
+                                                                                                          Long.toString(timeout)),
+                                             this.getClass().getName(),
+                                             methodName);
+
+        sharedAccumulator.captureTimeout(metadataCollectionId, error);
+    }
 }
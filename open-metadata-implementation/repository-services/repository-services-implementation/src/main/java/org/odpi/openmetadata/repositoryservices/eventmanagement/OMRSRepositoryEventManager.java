@@ -300,21 +300,26 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
     		List<EntityDetail> validEntities = new ArrayList<>();
     		List<Relationship> validRelationships = new ArrayList<>();
     		
-    		for (EntityDetail entity: eventEntities)
+    		if (eventEntities != null)
     		{
-    			if(exchangeRule.processInstanceEvent(entity))
-    			{
-    				validEntities.add(entity);
-    			}
+    		    for (EntityDetail entity: eventEntities)
+    		    {
+    			    if(exchangeRule.processInstanceEvent(entity))
+    			    {
+    				    validEntities.add(entity);
+    			    }
+    		    }
     		}
     		
-    		
-    		for (Relationship relationship: eventRelationships)
+    		if (eventRelationships != null)
     		{
-    			if (exchangeRule.processInstanceEvent(relationship))
-    			{
-    				validRelationships.add(relationship);
-    			}
+    		    for (Relationship relationship: eventRelationships)
+    		    {
+    			    if (exchangeRule.processInstanceEvent(relationship))
+    			    {
+    				    validRelationships.add(relationship);
+    			    }
+    		    }
     		}
     		
     		if (validEntities.size() > 0 || validRelationships.size() > 0)
@@ -27,6 +27,25 @@ import java.util.UUID;
  */
 public class LocalOMRSConnectorProvider extends ConnectorProvider
 {
+    /**
+     * Name of the configuration property in the connection for the real local repository that sets the number
+     * of threads applying incoming instance events.  Events for the same instance are always applied by the same
+     * thread.  A value of 0 or 1 applies the events on the thread that received them.  Only set this property
+     * when the real local repository supports concurrent updates.
+     */
+    public static final String  instanceEventShardsPropertyName = "instanceEventShards";
+
+    /**
+     * Name of the configuration property in the connection for the real local repository that sets the maximum
+     * number of incoming instance events waiting for each thread.
+     */
+    public static final String  instanceEventShardQueueSizePropertyName = "instanceEventShardQueueSize";
+
+    /**
+     * Number of events that can wait for each thread when the instanceEventShardQueueSize property is not set.
+     */
+    public static final int     defaultInstanceEventShardQueueSize = 1000;
+
     private String                             localMetadataCollectionId       = null;
     private Connection                         localRepositoryRemoteConnection = null;
     private OMRSRepositoryEventMapperConnector realEventMapper                 = null;
@@ -54,6 +54,11 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
      */
     private AuditLog auditLog;
 
+    /*
+     * Set when incoming instance events are applied in parallel.
+     */
+    private volatile LocalOMRSInstanceEventShards instanceEventShards = null;
+
     private static final Logger log = LoggerFactory.getLogger(LocalOMRSInstanceEventProcessor.class);
 
 
@@ -167,13 +172,116 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
 
 
     /**
-     * Unpack and process the incoming event
+     * Process the incoming event.  If instance event shards are running, the event is passed to the shard
+     * for its instance; otherwise it is applied to the local repository on the calling thread.
      *
      * @param cohortName source of the event
      * @param instanceEvent the event to process
      */
     public void   sendInstanceEvent(String            cohortName,
                                     OMRSInstanceEvent instanceEvent)
+    {
+        LocalOMRSInstanceEventShards currentInstanceEventShards = instanceEventShards;
+
+        if ((currentInstanceEventShards == null) || (instanceEvent == null))
+        {
+            this.applyInstanceEvent(cohortName, instanceEvent);
+        }
+        else
+        {
+            currentInstanceEventShards.addEvent(this.getShardingGUID(instanceEvent),
+                                                instanceEvent,
+                                                () -> applyInstanceEvent(cohortName, instanceEvent));
+        }
+    }
+
+
+    /**
+     * Return the unique identifier of the instance that the event affects.  This determines the shard that
+     * applies the event.  Null is returned for events that affect more than one instance, or where the
+     * instance is not known, so they are applied once the events before them have been applied.
+     *
+     * @param instanceEvent the event to process
+     * @return unique identifier or null
+     */
+    private String getShardingGUID(OMRSInstanceEvent instanceEvent)
+    {
+        OMRSInstanceEventType instanceEventType = instanceEvent.getInstanceEventType();
+
+        if (instanceEventType == null)
+        {
+            return null;
+        }
+
+        switch (instanceEventType)
+        {
+            case RE_IDENTIFIED_ENTITY_EVENT:
+            case RE_IDENTIFIED_RELATIONSHIP_EVENT:
+            case BATCH_INSTANCES_EVENT:
+            case INSTANCE_ERROR_EVENT:
+            case UNKNOWN_INSTANCE_EVENT:
+                return null;
+
+            default:
+                if (instanceEvent.getEntity() != null)
+                {
+                    return instanceEvent.getEntity().getGUID();
+                }
+                else if (instanceEvent.getRelationship() != null)
+                {
+                    return instanceEvent.getRelationship().getGUID();
+                }
+
+                return instanceEvent.getInstanceGUID();
+        }
+    }
+
+
+    /**
+     * Start the threads that apply incoming instance events in parallel.  Events for the same instance are
+     * always applied by the same thread, in the order they are received.  This is only suitable for repositories
+     * that support concurrent updates.
+     *
+     * @param shardCount number of threads - values less than 2 leave the events to be applied on the calling thread
+     * @param queueSize maximum number of events waiting for each thread
+     */
+    synchronized void startInstanceEventShards(int shardCount,
+                                               int queueSize)
+    {
+        if ((shardCount > 1) && (queueSize > 0) && (instanceEventShards == null))
+        {
+            LocalOMRSInstanceEventShards newInstanceEventShards = new LocalOMRSInstanceEventShards(localServerName,
+                                                                                                   localOMRSInstanceEventProcessorName,
+                                                                                                   shardCount,
+                                                                                                   queueSize,
+                                                                                                   auditLog);
+            newInstanceEventShards.start();
+            instanceEventShards = newInstanceEventShards;
+        }
+    }
+
+
+    /**
+     * Stop the threads that apply incoming instance events.  Any later events are applied on the calling thread.
+     */
+    synchronized void stopInstanceEventShards()
+    {
+        if (instanceEventShards != null)
+        {
+            instanceEventShards.stop();
+            instanceEventShards = null;
+        }
+    }
+
+
+    /**
+     * Unpack the incoming event and apply it to the local repository.
+     *
+     * @param cohortName source of the event
+     * @param instanceEvent the event to process
+     */
+    private void applyInstanceEvent(String            cohortName,
+                                    OMRSInstanceEvent instanceEvent)
     {
         final String methodName = "sendInstanceEvent";
 
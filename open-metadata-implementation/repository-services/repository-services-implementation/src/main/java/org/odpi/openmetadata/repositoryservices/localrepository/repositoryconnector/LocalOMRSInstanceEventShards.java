@@ -0,0 +1,452 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.InternalOMRSEventProcessingContext;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.future.DelegatableFuture;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LocalOMRSInstanceEventShards applies incoming instance events to the local repository on a fixed number of
+ * threads.  Each thread (shard) has its own queue.  An event is passed to the shard chosen from the unique identifier
+ * of its instance, so the events for an instance are applied in the order they are received while the events for
+ * different instances are applied in parallel.  An event that affects more than one instance is applied on the
+ * receiving thread once every shard has applied the events queued before it.
+ *
+ * The receiving thread waits when a shard's queue is full rather than discarding the event, since a missing
+ * event would leave an out of date reference copy in the local repository.
+ */
+class LocalOMRSInstanceEventShards
+{
+    private static final Logger log = LoggerFactory.getLogger(LocalOMRSInstanceEventShards.class);
+
+    private static final String THREAD_NAME_DESCRIPTION = " LocalOMRSInstanceEventShard-";
+    private static final long   pollInterval            = 1000;
+
+    private final String   localServerName;
+    private final String   eventProcessorName;
+    private final int      queueSize;
+    private final AuditLog auditLog;
+    private final Shard[]  shards;
+
+    private volatile boolean keepRunning = true;
+
+
+    /**
+     * Set up the shards.  The threads start when start() is called.
+     *
+     * @param localServerName name of the local server for messages and the thread names
+     * @param eventProcessorName name of the event processor for error messages
+     * @param shardCount number of threads
+     * @param queueSize maximum number of events waiting for each thread
+     * @param auditLog logging destination
+     */
+    LocalOMRSInstanceEventShards(String   localServerName,
+                                 String   eventProcessorName,
+                                 int      shardCount,
+                                 int      queueSize,
+                                 AuditLog auditLog)
+    {
+        this.localServerName    = localServerName;
+        this.eventProcessorName = eventProcessorName;
+        this.queueSize          = queueSize;
+        this.auditLog           = auditLog;
+        this.shards             = new Shard[shardCount];
+
+        for (int shardNumber = 0; shardNumber < shardCount; shardNumber++)
+        {
+            shards[shardNumber] = new Shard(shardNumber);
+        }
+    }
+
+
+    /**
+     * Start the threads that apply the events.
+     */
+    void start()
+    {
+        final String methodName = "start";
+
+        for (Shard shard : shards)
+        {
+            Thread thread = new Thread(shard, localServerName + THREAD_NAME_DESCRIPTION + shard.shardNumber);
+
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                OMRSAuditCode.INSTANCE_EVENT_SHARDS.getMessageDefinition(localServerName,
+                                                                                         Integer.toString(shards.length),
+                                                                                         Integer.toString(queueSize)));
+        }
+    }
+
+
+    /**
+     * Pass an event to the shard for its instance.  This is called on the thread that received the event, so the
+     * future for the shard's processing is added to that thread's event processing context.
+     *
+     * @param instanceGUID unique identifier of the instance that the event affects, or null if it affects more than one
+     * @param instanceEvent event for error messages
+     * @param eventAction applies the event to the local repository
+     */
+    void addEvent(String            instanceGUID,
+                  OMRSInstanceEvent instanceEvent,
+                  Runnable          eventAction)
+    {
+        if (instanceGUID == null)
+        {
+            this.waitForShards();
+            eventAction.run();
+        }
+        else
+        {
+            InternalOMRSEventProcessingContext context      = InternalOMRSEventProcessingContext.getInstance();
+            ShardedEvent                       shardedEvent = new ShardedEvent(instanceEvent,
+                                                                               eventAction,
+                                                                               context.getCurrentMessageId());
+
+            if (shards[(instanceGUID.hashCode() & Integer.MAX_VALUE) % shards.length].addEvent(shardedEvent))
+            {
+                context.addAsyncProcessingResult(shardedEvent.processingResult);
+            }
+        }
+    }
+
+
+    /**
+     * Wait until every shard has applied the events queued before this call.
+     */
+    private void waitForShards()
+    {
+        CountDownLatch barrier = new CountDownLatch(shards.length);
+
+        for (Shard shard : shards)
+        {
+            if (! shard.addEvent(new ShardedEvent(null, barrier::countDown, null)))
+            {
+                return;
+            }
+        }
+
+        try
+        {
+            while ((keepRunning) && (! barrier.await(pollInterval, TimeUnit.MILLISECONDS)))
+            {
+                log.debug("Waiting for instance event shards to apply earlier events");
+            }
+        }
+        catch (InterruptedException interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Stop applying events and log the statistics for each shard.  The events still in the queues are not applied
+     * and their futures never complete, so the event bus connector does not mark them as processed.
+     */
+    void stop()
+    {
+        keepRunning = false;
+
+        for (Shard shard : shards)
+        {
+            shard.logStatistics("stop");
+        }
+    }
+
+
+    /**
+     * Return the number of shards.
+     *
+     * @return count
+     */
+    int getShardCount()
+    {
+        return shards.length;
+    }
+
+
+    /**
+     * Return the number of events waiting for a shard.
+     *
+     * @param shardNumber shard
+     * @return count
+     */
+    int getBacklog(int shardNumber)
+    {
+        return shards[shardNumber].queue.size();
+    }
+
+
+    /**
+     * Return the number of events applied by a shard.
+     *
+     * @param shardNumber shard
+     * @return count
+     */
+    long getAppliedEventCount(int shardNumber)
+    {
+        return shards[shardNumber].appliedEventCount.get();
+    }
+
+
+    /**
+     * Return the average time a shard has taken to apply an event.
+     *
+     * @param shardNumber shard
+     * @return nanoseconds
+     */
+    long getAverageApplyTime(int shardNumber)
+    {
+        return shards[shardNumber].getAverageApplyTime();
+    }
+
+
+    /**
+     * Return the longest time a shard has taken to apply an event.
+     *
+     * @param shardNumber shard
+     * @return nanoseconds
+     */
+    long getMaxApplyTime(int shardNumber)
+    {
+        return shards[shardNumber].maxApplyTime.get();
+    }
+
+
+    /**
+     * Shard holds the queue for one thread along with its statistics.
+     */
+    private class Shard implements Runnable
+    {
+        private final int                         shardNumber;
+        private final BlockingQueue<ShardedEvent> queue             = new ArrayBlockingQueue<>(queueSize);
+        private final AtomicLong                  appliedEventCount = new AtomicLong(0);
+        private final AtomicLong                  totalApplyTime    = new AtomicLong(0);
+        private final AtomicLong                  maxApplyTime      = new AtomicLong(0);
+        private final AtomicBoolean               full              = new AtomicBoolean(false);
+
+
+        /**
+         * Set up the shard.
+         *
+         * @param shardNumber position of the shard
+         */
+        Shard(int shardNumber)
+        {
+            this.shardNumber = shardNumber;
+        }
+
+
+        /**
+         * Add an event to the queue, waiting while the queue is full.
+         *
+         * @param shardedEvent event to apply
+         * @return true if the event is queued; false if the shards are stopping
+         */
+        boolean addEvent(ShardedEvent shardedEvent)
+        {
+            final String methodName = "addEvent";
+
+            boolean queued = queue.offer(shardedEvent);
+
+            if (queued)
+            {
+                full.set(false);
+                return true;
+            }
+
+            /*
+             * Only the first time the queue fills up in a run of full queues is logged.
+             */
+            if (full.compareAndSet(false, true))
+            {
+                this.logStatistics(methodName);
+            }
+
+            try
+            {
+                while ((keepRunning) && (! queued))
+                {
+                    queued = queue.offer(shardedEvent, pollInterval, TimeUnit.MILLISECONDS);
+                }
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            return queued;
+        }
+
+
+        /**
+         * Apply the queued events until the shards are stopped.
+         */
+        @Override
+        public void run()
+        {
+            while (keepRunning)
+            {
+                ShardedEvent shardedEvent = null;
+
+                try
+                {
+                    shardedEvent = queue.poll(pollInterval, TimeUnit.MILLISECONDS);
+                }
+                catch (InterruptedException interrupted)
+                {
+                    log.debug("Instance event shard " + shardNumber + " interrupted");
+                }
+
+                if (shardedEvent != null)
+                {
+                    this.applyEvent(shardedEvent);
+                }
+            }
+
+            log.debug("Instance event shard " + shardNumber + " stopped");
+        }
+
+
+        /**
+         * Apply an event.  Any asynchronous processing is recorded in this thread's event processing context and
+         * then linked to the future registered when the event was queued.
+         *
+         * @param shardedEvent event to apply
+         */
+        private void applyEvent(ShardedEvent shardedEvent)
+        {
+            final String methodName = "applyEvent";
+
+            if (shardedEvent.instanceEvent == null)
+            {
+                /*
+                 * Barrier used by events that affect more than one instance.
+                 */
+                shardedEvent.eventAction.run();
+                return;
+            }
+
+            InternalOMRSEventProcessingContext.clear();
+            InternalOMRSEventProcessingContext.getInstance().setCurrentMessageId(shardedEvent.messageId);
+
+            long startTime = System.nanoTime();
+
+            try
+            {
+                shardedEvent.eventAction.run();
+            }
+            catch (Throwable error)
+            {
+                log.debug("Unable to apply instance event in shard " + shardNumber);
+
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                                          OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(shardedEvent.instanceEvent.toString(),
+                                                                                                    error.toString(),
+                                                                                                    eventProcessorName),
+                                          shardedEvent.instanceEvent.toString(),
+                                          error);
+                }
+            }
+            finally
+            {
+                long applyTime = System.nanoTime() - startTime;
+
+                appliedEventCount.incrementAndGet();
+                totalApplyTime.addAndGet(applyTime);
+                maxApplyTime.accumulateAndGet(applyTime, Math::max);
+
+                shardedEvent.processingResult.setDelegate(InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult());
+                InternalOMRSEventProcessingContext.clear();
+            }
+        }
+
+
+        /**
+         * Return the average time taken to apply an event.
+         *
+         * @return nanoseconds
+         */
+        long getAverageApplyTime()
+        {
+            long appliedEvents = appliedEventCount.get();
+
+            if (appliedEvents == 0)
+            {
+                return 0;
+            }
+
+            return totalApplyTime.get() / appliedEvents;
+        }
+
+
+        /**
+         * Log the statistics for the shard.
+         *
+         * @param methodName calling method
+         */
+        void logStatistics(String methodName)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    OMRSAuditCode.INSTANCE_EVENT_SHARD_STATISTICS.getMessageDefinition(Integer.toString(shardNumber),
+                                                                                                       localServerName,
+                                                                                                       Long.toString(appliedEventCount.get()),
+                                                                                                       Double.toString(getAverageApplyTime() / 1000000.0),
+                                                                                                       Double.toString(maxApplyTime.get() / 1000000.0),
+                                                                                                       Integer.toString(queue.size())));
+            }
+        }
+    }
+
+
+    /**
+     * ShardedEvent holds an event waiting for its shard along with the identifier of the message it came from
+     * and the future that completes when the event has been applied.  Barriers have no event.
+     */
+    private static class ShardedEvent
+    {
+        private final OMRSInstanceEvent instanceEvent;
+        private final Runnable          eventAction;
+        private final String            messageId;
+        private final DelegatableFuture processingResult = new DelegatableFuture();
+
+
+        /**
+         * Save the event.
+         *
+         * @param instanceEvent event from the cohort (null for a barrier)
+         * @param eventAction applies the event
+         * @param messageId identifier of the message from the event bus
+         */
+        ShardedEvent(OMRSInstanceEvent instanceEvent,
+                     Runnable          eventAction,
+                     String            messageId)
+        {
+            this.instanceEvent = instanceEvent;
+            this.eventAction   = eventAction;
+            this.messageId     = messageId;
+        }
+    }
+}
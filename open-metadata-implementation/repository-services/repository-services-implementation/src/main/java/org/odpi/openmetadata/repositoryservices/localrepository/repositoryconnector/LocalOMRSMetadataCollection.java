@@ -20,8 +20,11 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSTypeDefManager;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Date;
+import java.util.Map;
 
 /**
  * LocalOMRSMetadataCollection provides a wrapper around the metadata collection for the real local repository.
@@ -5089,6 +5092,356 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Create a batch of new entities.  Each template is validated and checked with the security verifier
+     * before the valid templates are passed to the real repository in a single call.  Each new entity is
+     * sent to the cohort in a new entity event, as it is for addEntity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities templates for the new entities.
+     * @return list of results, one for each template.
+     * @throws InvalidParameterException the user id or the list is null, or the list is empty.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> addEntities(String             userId,
+                                                 List<EntityDetail> newEntities) throws InvalidParameterException,
+                                                                                        RepositoryErrorException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String  methodName  = "addEntities";
+
+        super.validateBatchParameters(userId, newEntities, "newEntities", methodName);
+
+        InstanceBatchResult[] results       = new InstanceBatchResult[newEntities.size()];
+        List<Integer>         validIndexes  = new ArrayList<>();
+        List<EntityDetail>    validEntities = new ArrayList<>();
+
+        for (int index = 0; index < newEntities.size(); index++)
+        {
+            EntityDetail newEntity = newEntities.get(index);
+
+            try
+            {
+                String               entityTypeGUID         = super.getTemplateTypeGUID(newEntity);
+                InstanceProperties   initialProperties      = newEntity == null ? null : newEntity.getProperties();
+                List<Classification> initialClassifications = newEntity == null ? null : newEntity.getClassifications();
+                InstanceStatus       initialStatus          = newEntity == null ? null : newEntity.getStatus();
+
+                super.addEntityParameterValidation(userId,
+                                                   entityTypeGUID,
+                                                   initialProperties,
+                                                   initialClassifications,
+                                                   initialStatus,
+                                                   methodName);
+
+                securityVerifier.validateUserForEntityCreate(userId,
+                                                             metadataCollectionName,
+                                                             entityTypeGUID,
+                                                             initialProperties,
+                                                             initialClassifications,
+                                                             initialStatus);
+
+                validIndexes.add(index);
+                validEntities.add(newEntity);
+            }
+            catch (org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException  error)
+            {
+                results[index] = super.getBatchErrorResult(new UserNotAuthorizedException(error));
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                results[index] = super.getBatchErrorResult(error);
+            }
+        }
+
+        if (! validEntities.isEmpty())
+        {
+            this.completeBatch(results, validIndexes, realMetadataCollection.addEntities(userId, validEntities), false);
+        }
+
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+
+    /**
+     * Create a batch of new relationships.  Each template is validated and checked with the security verifier
+     * before the valid templates are passed to the real repository in a single call.  Each new relationship
+     * is sent to the cohort in a new relationship event, as it is for addRelationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationships templates for the new relationships.
+     * @return list of results, one for each template.
+     * @throws InvalidParameterException the user id or the list is null, or the list is empty.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> addRelationships(String             userId,
+                                                      List<Relationship> newRelationships) throws InvalidParameterException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  FunctionNotSupportedException,
+                                                                                                  UserNotAuthorizedException
+    {
+        final String  methodName = "addRelationships";
+
+        super.validateBatchParameters(userId, newRelationships, "newRelationships", methodName);
+
+        InstanceBatchResult[]      results            = new InstanceBatchResult[newRelationships.size()];
+        List<Integer>              validIndexes       = new ArrayList<>();
+        List<Relationship>         validRelationships = new ArrayList<>();
+        Map<String, EntitySummary> entityEnds         = new HashMap<>();
+
+        for (int index = 0; index < newRelationships.size(); index++)
+        {
+            Relationship newRelationship = newRelationships.get(index);
+
+            try
+            {
+                String             relationshipTypeGUID = super.getTemplateTypeGUID(newRelationship);
+                InstanceProperties initialProperties    = newRelationship == null ? null : newRelationship.getProperties();
+                String             entityOneGUID        = newRelationship == null ? null : super.getTemplateEntityGUID(newRelationship.getEntityOneProxy());
+                String             entityTwoGUID        = newRelationship == null ? null : super.getTemplateEntityGUID(newRelationship.getEntityTwoProxy());
+                InstanceStatus     initialStatus        = newRelationship == null ? null : newRelationship.getStatus();
+
+                super.addRelationshipParameterValidation(userId,
+                                                         relationshipTypeGUID,
+                                                         initialProperties,
+                                                         entityOneGUID,
+                                                         entityTwoGUID,
+                                                         initialStatus,
+                                                         methodName);
+
+                /*
+                 * Bulk loads typically link many instances to the same few entities so the ends are
+                 * only retrieved once for the batch.
+                 */
+                EntitySummary end1 = this.getBatchEntitySummary(userId, entityOneGUID, entityEnds);
+                EntitySummary end2 = this.getBatchEntitySummary(userId, entityTwoGUID, entityEnds);
+
+                securityVerifier.validateUserForRelationshipCreate(userId,
+                                                                   metadataCollectionName,
+                                                                   relationshipTypeGUID,
+                                                                   initialProperties,
+                                                                   end1,
+                                                                   end2,
+                                                                   initialStatus);
+
+                validIndexes.add(index);
+                validRelationships.add(newRelationship);
+            }
+            catch (org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException  error)
+            {
+                results[index] = super.getBatchErrorResult(new UserNotAuthorizedException(error));
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                results[index] = super.getBatchErrorResult(error);
+            }
+        }
+
+        if (! validRelationships.isEmpty())
+        {
+            this.completeBatch(results, validIndexes, realMetadataCollection.addRelationships(userId, validRelationships), false);
+        }
+
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+
+    /**
+     * Add the same classification to each of a list of entities.  Each entity is validated and checked with
+     * the security verifier before the valid entities are passed to the real repository in a single call.
+     * Each classified entity is sent to the cohort in a classified entity event, as it is for classifyEntity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers (guids) of the entities to classify.
+     * @param classificationName String name for the classification.
+     * @param classificationProperties list of properties to set in each classification.
+     * @return list of results, one for each entity GUID.
+     * @throws InvalidParameterException the user id or the list is null, or the list is empty.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<InstanceBatchResult> classifyEntities(String             userId,
+                                                      List<String>       entityGUIDs,
+                                                      String             classificationName,
+                                                      InstanceProperties classificationProperties) throws InvalidParameterException,
+                                                                                                          RepositoryErrorException,
+                                                                                                          FunctionNotSupportedException,
+                                                                                                          UserNotAuthorizedException
+    {
+        final String methodName = "classifyEntities";
+
+        super.validateBatchParameters(userId, entityGUIDs, "entityGUIDs", methodName);
+
+        InstanceBatchResult[] results          = new InstanceBatchResult[entityGUIDs.size()];
+        List<Integer>         validIndexes     = new ArrayList<>();
+        List<String>          validEntityGUIDs = new ArrayList<>();
+
+        for (int index = 0; index < entityGUIDs.size(); index++)
+        {
+            String entityGUID = entityGUIDs.get(index);
+
+            try
+            {
+                this.classifyEntityParameterValidation(userId, entityGUID, classificationName, classificationProperties, methodName);
+
+                EntityDetail currentEntity = this.validateEntityCanBeClassified(userId, entityGUID, methodName);
+
+                securityVerifier.validateUserForEntityClassificationAdd(userId,
+                                                                        metadataCollectionName,
+                                                                        currentEntity,
+                                                                        classificationName,
+                                                                        classificationProperties);
+
+                validIndexes.add(index);
+                validEntityGUIDs.add(entityGUID);
+            }
+            catch (org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException  error)
+            {
+                results[index] = super.getBatchErrorResult(new UserNotAuthorizedException(error));
+            }
+            catch (OMRSCheckedExceptionBase error)
+            {
+                results[index] = super.getBatchErrorResult(error);
+            }
+        }
+
+        if (! validEntityGUIDs.isEmpty())
+        {
+            this.completeBatch(results,
+                               validIndexes,
+                               realMetadataCollection.classifyEntities(userId,
+                                                                       validEntityGUIDs,
+                                                                       classificationName,
+                                                                       classificationProperties),
+                               true);
+        }
+
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+
+    /**
+     * Return the summary of an entity at the end of a new relationship, using the entities already
+     * retrieved for the batch where possible.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID unique identifier of the entity
+     * @param entityEnds entities retrieved for the batch so far
+     * @return entity summary
+     * @throws InvalidParameterException the guid is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws EntityNotKnownException the entity is not known.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private EntitySummary getBatchEntitySummary(String                     userId,
+                                                String                     entityGUID,
+                                                Map<String, EntitySummary> entityEnds) throws InvalidParameterException,
+                                                                                              RepositoryErrorException,
+                                                                                              EntityNotKnownException,
+                                                                                              UserNotAuthorizedException
+    {
+        EntitySummary entitySummary = entityEnds.get(entityGUID);
+
+        if (entitySummary == null)
+        {
+            entitySummary = realMetadataCollection.getEntitySummary(userId, entityGUID);
+            entityEnds.put(entityGUID, entitySummary);
+        }
+
+        return entitySummary;
+    }
+
+
+    /**
+     * Slot the results from the real repository into the results for the whole batch, set up the local
+     * provenance of the new instances and send out the same event for each instance as the single-instance
+     * method would.  The OMAS listeners only process the single-instance events so a batch event would
+     * hide these instances from them.
+     *
+     * @param results results for the whole batch; the entries for the items that failed validation are already set
+     * @param validIndexes positions of the items that were passed to the real repository
+     * @param realResults results from the real repository
+     * @param classified are the entities in the results existing entities that have been classified
+     */
+    private void completeBatch(InstanceBatchResult[]     results,
+                               List<Integer>             validIndexes,
+                               List<InstanceBatchResult> realResults,
+                               boolean                   classified)
+    {
+        for (int index = 0; index < validIndexes.size(); index++)
+        {
+            InstanceBatchResult result = null;
+
+            if ((realResults != null) && (index < realResults.size()))
+            {
+                result = realResults.get(index);
+            }
+
+            if (result != null)
+            {
+                EntityDetail entity       = result.getEntity();
+                Relationship relationship = result.getRelationship();
+
+                if (entity != null)
+                {
+                    setLocalProvenance(entity);
+
+                    /*
+                     * OK to send out
+                     */
+                    if ((produceEventsForRealConnector) && (classified))
+                    {
+                        outboundRepositoryEventProcessor.processClassifiedEntityEvent(repositoryName,
+                                                                                      metadataCollectionId,
+                                                                                      localServerName,
+                                                                                      localServerType,
+                                                                                      localOrganizationName,
+                                                                                      entity);
+                    }
+                    else if (produceEventsForRealConnector)
+                    {
+                        outboundRepositoryEventProcessor.processNewEntityEvent(repositoryName,
+                                                                               metadataCollectionId,
+                                                                               localServerName,
+                                                                               localServerType,
+                                                                               localOrganizationName,
+                                                                               entity);
+                    }
+                }
+
+                if (relationship != null)
+                {
+                    setLocalProvenanceThroughoutRelationship(relationship);
+
+                    /*
+                     * OK to send out
+                     */
+                    if (produceEventsForRealConnector)
+                    {
+                        outboundRepositoryEventProcessor.processNewRelationshipEvent(repositoryName,
+                                                                                     metadataCollectionId,
+                                                                                     localServerName,
+                                                                                     localServerType,
+                                                                                     localOrganizationName,
+                                                                                     relationship);
+                    }
+                }
+            }
+
+            results[validIndexes.get(index)] = result;
+        }
+    }
+
+
     /* ======================================================================
      * Group 5: Change the control information in entities and relationships
      */
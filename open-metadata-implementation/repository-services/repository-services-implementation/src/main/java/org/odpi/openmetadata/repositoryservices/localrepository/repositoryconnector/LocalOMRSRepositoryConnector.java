@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
 
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityVerifier;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
@@ -40,6 +41,7 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     private OMRSTypeDefManager                  typeDefManager;
     private OMRSTypeDefEventProcessor           incomingTypeDefEventProcessor;
     private OMRSInstanceEventProcessor          incomingInstanceEventProcessor   = null;
+    private LocalOMRSInstanceEventProcessor     localInstanceEventProcessor      = null;
     private OMRSInstanceRetrievalEventProcessor instanceRetrievalEventProcessor  = null;
     private OMRSRepositoryEventManager          outboundRepositoryEventManager;
     private OMRSRepositoryEventExchangeRule     saveExchangeRule;
@@ -147,6 +149,47 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
         {
             realEventMapper.start();
         }
+
+        if ((localInstanceEventProcessor != null) && (realLocalConnector != null))
+        {
+            localInstanceEventProcessor.startInstanceEventShards(this.getIntegerProperty(LocalOMRSConnectorProvider.instanceEventShardsPropertyName,
+                                                                                         0),
+                                                                 this.getIntegerProperty(LocalOMRSConnectorProvider.instanceEventShardQueueSizePropertyName,
+                                                                                         LocalOMRSConnectorProvider.defaultInstanceEventShardQueueSize));
+        }
+    }
+
+
+    /**
+     * Return an integer configuration property from the connection for the real local repository.
+     *
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or is not an integer
+     * @return property value
+     */
+    private int getIntegerProperty(String propertyName,
+                                   int    defaultValue)
+    {
+        ConnectionProperties realLocalConnection = realLocalConnector.getConnection();
+
+        if ((realLocalConnection != null) && (realLocalConnection.getConfigurationProperties() != null))
+        {
+            Object propertyValue = realLocalConnection.getConfigurationProperties().get(propertyName);
+
+            if (propertyValue != null)
+            {
+                try
+                {
+                    return Integer.parseInt(propertyValue.toString().trim());
+                }
+                catch (NumberFormatException badValue)
+                {
+                    return defaultValue;
+                }
+            }
+        }
+
+        return defaultValue;
     }
 
 
@@ -159,6 +202,11 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     {
         super.disconnect();
 
+        if (localInstanceEventProcessor != null)
+        {
+            localInstanceEventProcessor.stopInstanceEventShards();
+        }
+
         if (realLocalConnector  != null)
         {
             realLocalConnector.disconnect();
@@ -386,6 +434,7 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
                                                           auditLog.createNewAuditLog(OMRSAuditingComponent.INSTANCE_EVENT_PROCESSOR));
 
             this.incomingInstanceEventProcessor = localOMRSInstanceEventProcessor;
+            this.localInstanceEventProcessor = localOMRSInstanceEventProcessor;
             this.instanceRetrievalEventProcessor = localOMRSInstanceEventProcessor;
         }
         catch (Throwable   error)
@@ -56,10 +56,16 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     private Map<String, TypeDef>            activeTypeDefNames             = new HashMap<>();
     private Map<String, AttributeTypeDef>   activeAttributeTypeDefGUIDs    = new HashMap<>();
     private Map<String, AttributeTypeDef>   activeAttributeTypeDefNames    = new HashMap<>();
-    private Map<String, List<TypeDefLink>>  typeDefSuperTypes              = new HashMap<>();
-    private Map<String, InstanceType>       knownInstanceTypes             = new HashMap<>();
     private Map<String, String>             metadataCollectionNames        = new HashMap<>();
 
+    /*
+     * The type catalogue holds the precalculated type hierarchy and property definitions used when validating
+     * instances.  It is discarded whenever the known TypeDefs change and rebuilt on the next request so that
+     * a series of type updates (such as loading an archive) only causes one rebuild.
+     */
+    private volatile OMRSTypeDefCatalogue   typeDefCatalogue               = null;
+    private long                            typeDefCatalogueVersion        = 0;
+
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -144,10 +150,11 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param newTypeDef TypeDef structure describing the new TypeDef.
      * @param isLocallySupported indicates whether the TypeDef is supported by the local repository.
      */
-    private void cacheTypeDef(String  sourceName, TypeDef      newTypeDef, boolean isLocallySupported)
+    private synchronized void cacheTypeDef(String  sourceName, TypeDef      newTypeDef, boolean isLocallySupported)
     {
         knownTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
         knownTypeDefNames.put(newTypeDef.getName(), newTypeDef);
+        typeDefCatalogue = null;
 
         if (isLocallySupported)
         {
@@ -170,13 +177,14 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param obsoleteTypeDefName unique name for the type.
      * @param isLocallySupported indicates whether the TypeDef is supported by the local repository.
      */
-    private void uncacheTypeDef(String  sourceName,
-                                String  obsoleteTypeDefGUID,
-                                String  obsoleteTypeDefName,
-                                boolean isLocallySupported)
+    private synchronized void uncacheTypeDef(String  sourceName,
+                                             String  obsoleteTypeDefGUID,
+                                             String  obsoleteTypeDefName,
+                                             boolean isLocallySupported)
     {
         knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
         knownTypeDefNames.remove(obsoleteTypeDefName);
+        typeDefCatalogue = null;
 
         if (isLocallySupported)
         {
@@ -251,14 +259,15 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param obsoleteTypeDefGUID String unique identifier for the TypeDef.
      * @param obsoleteTypeDefName String unique name for the TypeDef.
      */
-    public void deleteTypeDef(String    sourceName,
-                              String    obsoleteTypeDefGUID,
-                              String    obsoleteTypeDefName)
+    public synchronized void deleteTypeDef(String    sourceName,
+                                           String    obsoleteTypeDefGUID,
+                                           String    obsoleteTypeDefName)
     {
         if (this.validTypeId(sourceName, obsoleteTypeDefGUID, obsoleteTypeDefName))
         {
             knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
             knownTypeDefNames.remove(obsoleteTypeDefName);
+            typeDefCatalogue = null;
 
             if (localRepositoryConnector != null)
             {
@@ -412,95 +421,65 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
 
     /**
-     * Evaluate the superTypes for a type.  The results are cached in typeDefSuperTypes.
+     * Return the current type catalogue, building a new one if the TypeDefs have changed since it was last used.
+     * The catalogue is immutable so it can be used without locking once retrieved.
      *
-     * @param sourceName source of the request (used for logging)
-     * @param typeName name of type to process
-     * @param methodName calling method
-     * @return list of supertype links or null if top level
+     * @return type catalogue
      */
-    private List<TypeDefLink>   getSuperTypes(String    sourceName,
-                                              String    typeName,
-                                              String    methodName)
+    private OMRSTypeDefCatalogue getTypeDefCatalogue()
     {
-        final String  thisMethodName = "getSuperTypes";
+        OMRSTypeDefCatalogue catalogue = typeDefCatalogue;
 
-        List<TypeDefLink>   typeHierarchy = typeDefSuperTypes.get(typeName);
-
-        if (typeHierarchy == null)
+        if (catalogue == null)
         {
-            /*
-             * The type hierarchy is not known at this time (it is evaluated lazily).
-             */
-            typeHierarchy = new ArrayList<>();
-
-            TypeDef typeDef = knownTypeDefNames.get(typeName);
-
-            if (typeDef != null)
-            {
-                TypeDefLink superTypeLink = typeDef.getSuperType();
+            catalogue = this.buildTypeDefCatalogue();
+        }
 
-                while (superTypeLink != null)
-                {
-                    String superTypeName = superTypeLink.getName();
+        return catalogue;
+    }
 
-                    if (superTypeName != null)
-                    {
-                        log.debug(typeName + " has super type " + superTypeName);
 
-                        typeHierarchy.add(superTypeLink);
+    /**
+     * Build a new type catalogue from the known TypeDefs.  This is synchronized with the methods that change
+     * the TypeDefs so the catalogue is built from a consistent set of types.
+     *
+     * @return type catalogue
+     */
+    private synchronized OMRSTypeDefCatalogue buildTypeDefCatalogue()
+    {
+        if (typeDefCatalogue == null)
+        {
+            typeDefCatalogueVersion++;
+            typeDefCatalogue = new OMRSTypeDefCatalogue(typeDefCatalogueVersion, knownTypeDefNames);
+        }
 
-                        /*
-                         * Retrieve the TypeDef for this super type
-                         */
-                        TypeDef superTypeDef = knownTypeDefNames.get(superTypeName);
+        return typeDefCatalogue;
+    }
 
-                        if (superTypeDef != null)
-                        {
-                            /*
-                             * Retrieve the super type for this super typeDef.  It will be null if the type is top-level.
-                             */
-                            superTypeLink = superTypeDef.getSuperType();
-                        }
-                        else
-                        {
-                            log.error(superTypeName + " supertype is not known in TypeDef cache");
-                            throwContentManagerLogicError(sourceName, methodName, thisMethodName);
-                        }
-                    }
-                    else
-                    {
-                        log.error("Corrupted TypeDef cache, no name for " + superTypeLink.toString());
-                        throwContentManagerLogicError(sourceName, methodName, thisMethodName);
-                    }
-                }
 
-                /*
-                 * Cache the resulting superType list
-                 */
-                typeDefSuperTypes.put(typeName, typeHierarchy);
-            }
-            else
-            {
-                log.error(typeName + " type is not known in TypeDef cache");
-                throwContentManagerLogicError(sourceName, methodName, thisMethodName);
-            }
-        }
+    /**
+     * Return the superTypes for a type from the type catalogue.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param catalogue current type catalogue
+     * @param typeName name of type to process
+     * @param methodName calling method
+     * @return list of supertype links or null if top level
+     */
+    private List<TypeDefLink>   getSuperTypes(String               sourceName,
+                                              OMRSTypeDefCatalogue catalogue,
+                                              String               typeName,
+                                              String               methodName)
+    {
+        final String  thisMethodName = "getSuperTypes";
 
-        if (typeHierarchy.isEmpty())
+        if (! catalogue.hasValidHierarchy(typeName))
         {
-            /*
-             * The type hierarchy has been evaluated and this type has no supertypes.
-             */
-            return null;
-        }
-        else
-        {
-            /*
-             * The type hierarchy is known and can be returned directly.
-             */
-            return typeHierarchy;
+            log.error(typeName + " type or one of its super types is not known in TypeDef cache");
+            throwContentManagerLogicError(sourceName, methodName, thisMethodName);
         }
+
+        return catalogue.getSuperTypes(typeName);
     }
 
 
@@ -519,7 +498,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         final String methodName = "isTypeOf";
 
-        log.debug("IsTypeOf: sourceName = " + sourceName + "; actualTypeName = " + actualTypeName + "; expectedTypeName = " + expectedTypeName);
+        log.debug("IsTypeOf: sourceName = {}; actualTypeName = {}; expectedTypeName = {}", sourceName, actualTypeName, expectedTypeName);
 
         if ((expectedTypeName != null) && (actualTypeName != null))
         {
@@ -535,22 +514,14 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             /*
              * Looking for a match in the superTypes.
              */
-            List<TypeDefLink>   typeHierarchy = this.getSuperTypes(sourceName, actualTypeName, methodName);
+            OMRSTypeDefCatalogue catalogue = this.getTypeDefCatalogue();
+
+            this.getSuperTypes(sourceName, catalogue, actualTypeName, methodName);
 
-            if (typeHierarchy != null)
+            if (catalogue.isTypeOf(actualTypeName, expectedTypeName))
             {
-                for (TypeDefLink superType : typeHierarchy)
-                {
-                    if (superType != null)
-                    {
-                        if (expectedTypeName.equals(superType.getName()))
-                        {
-                            log.debug("SuperType match success");
-                            return true;
-                        }
-                        log.debug("No match with " + superType.getName());
-                    }
-                }
+                log.debug("SuperType match success");
+                return true;
             }
         }
 
@@ -575,7 +546,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         final String methodName = "isTypeOfByGUID";
 
-        log.debug("IsTypeOfByGUID: sourceName = " + sourceName + "; actualTypeName = " + actualTypeName + "; expectedTypeGUID = " + expectedTypeGUID);
+        log.debug("IsTypeOfByGUID: sourceName = {}; actualTypeName = {}; expectedTypeGUID = {}", sourceName, actualTypeName, expectedTypeGUID);
 
         if ((expectedTypeGUID != null) && (actualTypeGUID != null))
         {
@@ -591,22 +562,14 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             /*
              * Looking for a match in the superTypes.
              */
-           List<TypeDefLink>   typeHierarchy = this.getSuperTypes(sourceName, actualTypeName, methodName);
+            OMRSTypeDefCatalogue catalogue = this.getTypeDefCatalogue();
+
+            this.getSuperTypes(sourceName, catalogue, actualTypeName, methodName);
 
-            if (typeHierarchy != null)
+            if (catalogue.isTypeOfByGUID(actualTypeName, expectedTypeGUID))
             {
-                for (TypeDefLink superType : typeHierarchy)
-                {
-                    if (superType != null)
-                    {
-                        if (expectedTypeGUID.equals(superType.getGUID()))
-                        {
-                            log.debug("SuperType match success");
-                            return true;
-                        }
-                        log.debug("No match with " + superType.getGUID());
-                    }
-                }
+                log.debug("SuperType match success");
+                return true;
             }
         }
 
@@ -614,6 +577,29 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     }
 
 
+    /**
+     * Return the list of type names for all of the subtypes of a type.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param superTypeName name of the super type - this value is not included in the result.
+     * @return list of type names (a null means the type is not know or it has no sub types)
+     */
+    List<String>  getSubTypesOf(String sourceName,
+                                String superTypeName)
+    {
+        List<String> subTypeNames = this.getTypeDefCatalogue().getSubTypeNames(superTypeName);
+
+        log.debug("Subtypes of {} from {} are {}", superTypeName, sourceName, subTypeNames);
+
+        if (subTypeNames == null)
+        {
+            return null;
+        }
+
+        return new ArrayList<>(subTypeNames);
+    }
+
+
     /**
      * Return the InstanceType that matches the supplied type name.  If the type name is not recognized,
      * of the category is incorrect, a logic exception is thrown.
@@ -636,7 +622,8 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
         if (isValidTypeCategory(sourceName, category, typeName, methodName))
         {
-            InstanceType    instanceType = knownInstanceTypes.get(typeName);
+            OMRSTypeDefCatalogue catalogue    = this.getTypeDefCatalogue();
+            InstanceType         instanceType = catalogue.getInstanceType(typeName);
 
             if (instanceType != null)
             {
@@ -658,7 +645,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 instanceType.setTypeDefVersion(typeDef.getVersion());
                 instanceType.setTypeDefDescription(typeDef.getDescription());
                 instanceType.setTypeDefDescriptionGUID(typeDef.getDescriptionGUID());
-                instanceType.setTypeDefSuperTypes(this.getSuperTypes(sourceName, typeName, methodName));
+                instanceType.setTypeDefSuperTypes(this.getSuperTypes(sourceName, catalogue, typeName, methodName));
 
                 /*
                  * Extract the properties for this TypeDef.  These will be augmented with property names
@@ -735,9 +722,9 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 }
 
                 /*
-                 * Cache the instance type for next time
+                 * Cache the instance type for next time.  It is discarded if the types change.
                  */
-                knownInstanceTypes.put(typeName, instanceType);
+                catalogue.saveInstanceType(typeName, instanceType);
 
                 return instanceType;
             }
@@ -864,24 +851,14 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                          * ClassificationDefs with supertypes then we need to account for any entities that the ClassificationDef
                          * supertype can introduce.
                          */
-                        Set<String> entityTypes = new HashSet<>();
-                        TypeDef typeDef = getTypeDefByName(entityTypeName);
-                        entityTypes.add(entityTypeName);
-
-                        while (typeDef.getSuperType() !=null)
-                        {
-                            TypeDefLink superTypeLink=typeDef.getSuperType();
-                            String parentName= superTypeLink.getName();
-                            entityTypes.add(parentName);
-                            typeDef  = this.knownTypeDefGUIDs.get(superTypeLink.getGUID());
-                        }
+                        OMRSTypeDefCatalogue catalogue = this.getTypeDefCatalogue();
 
                         for (TypeDefLink  allowedEntityDefLink : entityDefs)
                         {
                             if (allowedEntityDefLink != null)
                             {
                                 String allowedTypeName = allowedEntityDefLink.getName();
-                                if (entityTypes.contains(allowedTypeName))
+                                if (catalogue.isTypeOf(entityTypeName, allowedTypeName))
                                 {
                                     return true;
                                 }
@@ -1308,6 +1285,13 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             return null;
         }
 
+        OMRSTypeDefCatalogue catalogue = this.getTypeDefCatalogue();
+
+        if (this.isCatalogued(catalogue, typeDef))
+        {
+            return new ArrayList<>(catalogue.getAllProperties(typeDef.getName()));
+        }
+
         List<TypeDefAttribute>    propertiesDefinition = typeDef.getPropertiesDefinition();
 
         /*
@@ -1341,6 +1325,69 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     }
 
 
+    /**
+     * Return the map of property name to property type for all of the properties in the supplied TypeDef and
+     * all of its super-types.  The property type is null if the property's definition does not include it.
+     *
+     * @param sourceName name of caller.
+     * @param typeDef TypeDef to query.
+     * @param methodName calling method.
+     * @return map of property names to property types
+     */
+    Map<String, AttributeTypeDef> getPropertyTypesForTypeDef(String  sourceName,
+                                                             TypeDef typeDef,
+                                                             String  methodName)
+    {
+        OMRSTypeDefCatalogue catalogue = this.getTypeDefCatalogue();
+
+        if ((typeDef != null) && (this.isCatalogued(catalogue, typeDef)))
+        {
+            return catalogue.getPropertyTypes(typeDef.getName());
+        }
+
+        List<TypeDefAttribute>        propertiesDefinition = this.getAllPropertiesForTypeDef(sourceName, typeDef, methodName);
+        Map<String, AttributeTypeDef> propertyTypes        = new HashMap<>();
+
+        if (propertiesDefinition != null)
+        {
+            for (TypeDefAttribute propertyDefinition : propertiesDefinition)
+            {
+                if ((propertyDefinition != null) && (propertyDefinition.getAttributeName() != null))
+                {
+                    propertyTypes.put(propertyDefinition.getAttributeName(), propertyDefinition.getAttributeType());
+                }
+            }
+        }
+
+        return propertyTypes;
+    }
+
+
+    /**
+     * Return whether the supplied TypeDef is the version held in the type catalogue.  If it is not (for
+     * example it is a different version of the type supplied by a caller) the catalogue can not be used to
+     * answer questions about it.
+     *
+     * @param catalogue current type catalogue
+     * @param typeDef TypeDef to test
+     * @return boolean
+     */
+    private boolean isCatalogued(OMRSTypeDefCatalogue catalogue,
+                                 TypeDef              typeDef)
+    {
+        TypeDef cataloguedTypeDef = catalogue.getTypeDef(typeDef.getName());
+
+        if ((cataloguedTypeDef == null) || (! catalogue.hasValidHierarchy(typeDef.getName())))
+        {
+            return false;
+        }
+
+        return (cataloguedTypeDef == typeDef) ||
+               ((Objects.equals(cataloguedTypeDef.getGUID(), typeDef.getGUID())) &&
+                (cataloguedTypeDef.getVersion() == typeDef.getVersion()));
+    }
+
+
     /**
      * Return a boolean flag indicating whether the list of TypeDefs passed are compatible with the
      * all known typedefs.
@@ -1353,9 +1400,9 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param methodName name of calling method
      * @throws RepositoryErrorException a conflicting or invalid TypeDef has been returned
      */
-    void   validateEnterpriseTypeDefs(String        sourceName,
-                                      List<TypeDef> typeDefs,
-                                      String        methodName) throws RepositoryErrorException
+    synchronized void   validateEnterpriseTypeDefs(String        sourceName,
+                                                   List<TypeDef> typeDefs,
+                                                   String        methodName) throws RepositoryErrorException
     {
         for (TypeDef typeDef : typeDefs)
         {
@@ -1364,6 +1411,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 if (!isKnownType(sourceName, typeDef.getGUID(), typeDef.getName()))
                 {
                     knownTypeDefNames.put(typeDef.getName(), typeDef);
+                    typeDefCatalogue = null;
                 }
             }
             else
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconte
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRepositoryPropertiesUtilities;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSSearchPattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
@@ -1969,11 +1970,11 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             typeDefCategoryName = typeDef.getCategory().getName();
         }
 
-        List<TypeDefAttribute> typeDefAttributes = repositoryContentManager.getAllPropertiesForTypeDef(sourceName,
-                                                                                                       typeDef,
-                                                                                                       methodName);
+        Map<String, AttributeTypeDef> propertyTypes = repositoryContentManager.getPropertyTypesForTypeDef(sourceName,
+                                                                                                          typeDef,
+                                                                                                          methodName);
 
-        if (typeDefAttributes == null)
+        if (propertyTypes == null)
         {
             /*
              * Error is thrown because properties is not null so properties have been provided for this instance.
@@ -2004,32 +2005,18 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                                                  methodName);
             }
 
-            AttributeTypeDefCategory  propertyDefinitionType = null;
-            AttributeTypeDef          attributeTypeDef = null;
-            boolean                   recognizedProperty = false;
+            AttributeTypeDefCategory  propertyDefinitionType;
+            AttributeTypeDef          attributeTypeDef = propertyTypes.get(propertyName);
 
-            for (TypeDefAttribute typeDefAttribute : typeDefAttributes)
+            if (attributeTypeDef != null)
             {
-                if (typeDefAttribute != null)
-                {
-                    if (propertyName.equals(typeDefAttribute.getAttributeName()))
-                    {
-                        recognizedProperty = true;
-
-                        attributeTypeDef = typeDefAttribute.getAttributeType();
-                        if (attributeTypeDef == null)
-                        {
-                            propertyDefinitionType = AttributeTypeDefCategory.UNKNOWN_DEF;
-                        }
-                        else
-                        {
-                            propertyDefinitionType = attributeTypeDef.getCategory();
-                        }
-                    }
-                }
+                propertyDefinitionType = attributeTypeDef.getCategory();
             }
-
-            if (! recognizedProperty)
+            else if (propertyTypes.containsKey(propertyName))
+            {
+                propertyDefinitionType = AttributeTypeDefCategory.UNKNOWN_DEF;
+            }
+            else
             {
                 throw new PropertyErrorException(OMRSErrorCode.BAD_PROPERTY_FOR_TYPE.getMessageDefinition(propertyName,
                                                                                                           typeDefCategoryName,
@@ -3608,7 +3595,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                                                 {
                                                     try
                                                     {
-                                                        if (instancePropertyValueString.matches(matchPropertyValueString))
+                                                        if (OMRSSearchPattern.compile(matchPropertyValueString).matches(instancePropertyValueString))
                                                         {
                                                             matchingProperties++;
                                                         }
@@ -3667,7 +3654,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                     if (matchValue != null)
                     {
-                        if (matchValue.matches(expectedValue))
+                        if (OMRSSearchPattern.compile(expectedValue).matches(matchValue))
                         {
                             result = true;
                         }
@@ -4005,7 +3992,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                         else
                         {
                             String actual = actualValue.valueAsString();
-                            matchesProperties = actual.matches(test);
+                            matchesProperties = OMRSSearchPattern.compile(test).matches(actual);
                         }
                     }
                     else
@@ -4213,6 +4200,45 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                                                                InstanceProperties  properties,
                                                                String              searchCriteria,
                                                                String              methodName) throws RepositoryErrorException
+    {
+        if ((properties == null) || (properties.getPropertyCount() == 0))
+        {
+            return false;
+        }
+
+        OMRSSearchPattern searchPattern;
+
+        try
+        {
+            searchPattern = OMRSSearchPattern.compile(searchCriteria);
+        }
+        catch (Throwable   error)
+        {
+            throw new RepositoryErrorException(OMRSErrorCode.BAD_PROPERTY_FOR_INSTANCE.getMessageDefinition(sourceName, methodName),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               error);
+        }
+
+        return verifyInstancePropertiesMatchSearchCriteria(sourceName, properties, searchPattern, methodName);
+    }
+
+
+    /**
+     * Search for property values matching the compiled search criteria.  The search criteria is compiled once
+     * and then used for all of the nested properties.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param properties list of properties associated with the in instance
+     * @param searchPattern compiled regular expression for testing the property values
+     * @param methodName name of the method requiring the search.
+     * @return boolean indicating whether the search criteria is located in any of the string parameter values.
+     * @throws RepositoryErrorException the properties are not properly set up in the instance
+     */
+    private boolean verifyInstancePropertiesMatchSearchCriteria(String              sourceName,
+                                                                InstanceProperties  properties,
+                                                                OMRSSearchPattern   searchPattern,
+                                                                String              methodName) throws RepositoryErrorException
     {
         if (properties == null)
         {
@@ -4237,7 +4263,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                             if (stringProperty != null)
                             {
-                                if (stringProperty.matches(searchCriteria))
+                                if (searchPattern.matches(stringProperty))
                                 {
                                     return true;
                                 }
@@ -4251,7 +4277,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                         String  enumValue = enumPropertyValue.getSymbolicName();
                         if (enumValue != null)
                         {
-                            if (enumValue.matches(searchCriteria))
+                            if (searchPattern.matches(enumValue))
                             {
                                 return true;
                             }
@@ -4263,7 +4289,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                         if (verifyInstancePropertiesMatchSearchCriteria(sourceName,
                                                                         structPropertyValue.getAttributes(),
-                                                                        searchCriteria,
+                                                                        searchPattern,
                                                                         methodName))
                         {
                             return true;
@@ -4275,7 +4301,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                         if (verifyInstancePropertiesMatchSearchCriteria(sourceName,
                                                                         arrayPropertyValue.getArrayValues(),
-                                                                        searchCriteria,
+                                                                        searchPattern,
                                                                         methodName))
                         {
                             return true;
@@ -4287,7 +4313,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                         if (verifyInstancePropertiesMatchSearchCriteria(sourceName,
                                                                         mapPropertyValue.getMapValues(),
-                                                                        searchCriteria,
+                                                                        searchPattern,
                                                                         methodName))
                         {
                             return true;
@@ -0,0 +1,418 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * OMRSTypeDefCatalogue is an immutable snapshot of the type hierarchy known to the OMRSRepositoryContentManager.
+ * For each TypeDef it holds the full list of supertypes, the names and GUIDs of the type and all of its
+ * supertypes, the names of all of its subtypes and the complete set of properties (including those inherited
+ * from the supertypes).  These are calculated once when the catalogue is built so that the instance validation
+ * that runs on every create and update is a simple lookup rather than a walk up the supertype chain.
+ *
+ * A new catalogue is built by the content manager each time the TypeDefs change.  The instance types
+ * returned by getInstanceType() are created lazily but are held in the catalogue so they are discarded along
+ * with it when the types change.  They are stored in a copy-on-write map because each type is only added once
+ * and then read on every request.
+ */
+class OMRSTypeDefCatalogue
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSTypeDefCatalogue.class);
+
+    private final long                       version;
+    private final Map<String, CatalogueEntry> entries;
+    private volatile Map<String, InstanceType> instanceTypes = Collections.emptyMap();
+
+
+    /**
+     * Build the catalogue from the TypeDefs known to the content manager.
+     *
+     * @param version version number of this catalogue - it increases each time the types change
+     * @param knownTypeDefNames map of type name to TypeDef
+     */
+    OMRSTypeDefCatalogue(long                 version,
+                         Map<String, TypeDef> knownTypeDefNames)
+    {
+        this.version = version;
+
+        Map<String, CatalogueEntry>  newEntries  = new HashMap<>();
+        Map<String, List<String>>    subTypeNames = new HashMap<>();
+
+        for (String typeName : knownTypeDefNames.keySet())
+        {
+            TypeDef typeDef = knownTypeDefNames.get(typeName);
+
+            if ((typeName != null) && (typeDef != null))
+            {
+                CatalogueEntry entry = new CatalogueEntry(typeName, typeDef, knownTypeDefNames);
+
+                newEntries.put(typeName, entry);
+
+                if (entry.superTypes != null)
+                {
+                    for (TypeDefLink superType : entry.superTypes)
+                    {
+                        subTypeNames.computeIfAbsent(superType.getName(), k -> new ArrayList<>()).add(typeName);
+                    }
+                }
+            }
+        }
+
+        for (String superTypeName : subTypeNames.keySet())
+        {
+            CatalogueEntry entry = newEntries.get(superTypeName);
+
+            if (entry != null)
+            {
+                entry.subTypeNames = Collections.unmodifiableList(subTypeNames.get(superTypeName));
+            }
+        }
+
+        this.entries = newEntries;
+
+        log.debug("TypeDef catalogue version " + version + " built with " + newEntries.size() + " types");
+    }
+
+
+    /**
+     * Return the version of this catalogue.
+     *
+     * @return version number
+     */
+    long getVersion()
+    {
+        return version;
+    }
+
+
+    /**
+     * Return whether the type is known to the catalogue.
+     *
+     * @param typeName name of the type
+     * @return boolean
+     */
+    boolean isKnownType(String typeName)
+    {
+        return (typeName != null) && (entries.get(typeName) != null);
+    }
+
+
+    /**
+     * Return whether all of the supertypes of the named type are known to the catalogue.
+     *
+     * @param typeName name of the type
+     * @return boolean - false if the type is not known or one of its supertypes is missing
+     */
+    boolean hasValidHierarchy(String typeName)
+    {
+        CatalogueEntry entry = getEntry(typeName);
+
+        return (entry != null) && (entry.validHierarchy);
+    }
+
+
+    /**
+     * Return the supertypes of the named type, nearest first.
+     *
+     * @param typeName name of the type
+     * @return list of type links or null if it is a top level type (or not known)
+     */
+    List<TypeDefLink> getSuperTypes(String typeName)
+    {
+        CatalogueEntry entry = getEntry(typeName);
+
+        if (entry == null)
+        {
+            return null;
+        }
+
+        return entry.superTypes;
+    }
+
+
+    /**
+     * Return whether the actual type is the expected type or one of its subtypes.
+     *
+     * @param actualTypeName name of the type to test
+     * @param expectedTypeName name of the type it should be
+     * @return boolean
+     */
+    boolean isTypeOf(String actualTypeName,
+                     String expectedTypeName)
+    {
+        CatalogueEntry entry = getEntry(actualTypeName);
+
+        return (entry != null) && (entry.typeNames.contains(expectedTypeName));
+    }
+
+
+    /**
+     * Return whether the actual type is the expected type or one of its subtypes.
+     *
+     * @param actualTypeName name of the type to test
+     * @param expectedTypeGUID unique identifier of the type it should be
+     * @return boolean
+     */
+    boolean isTypeOfByGUID(String actualTypeName,
+                           String expectedTypeGUID)
+    {
+        CatalogueEntry entry = getEntry(actualTypeName);
+
+        return (entry != null) && (entry.typeGUIDs.contains(expectedTypeGUID));
+    }
+
+
+    /**
+     * Return the names of all of the types that inherit from the named type.  The named type is not included.
+     *
+     * @param superTypeName name of the type
+     * @return list of type names or null if there are no subtypes
+     */
+    List<String> getSubTypeNames(String superTypeName)
+    {
+        CatalogueEntry entry = getEntry(superTypeName);
+
+        if (entry == null)
+        {
+            return null;
+        }
+
+        return entry.subTypeNames;
+    }
+
+
+    /**
+     * Return the TypeDef that the catalogue entry was built from.
+     *
+     * @param typeName name of the type
+     * @return TypeDef or null
+     */
+    TypeDef getTypeDef(String typeName)
+    {
+        CatalogueEntry entry = getEntry(typeName);
+
+        if (entry == null)
+        {
+            return null;
+        }
+
+        return entry.typeDef;
+    }
+
+
+    /**
+     * Return the properties of the type and all of its supertypes, the type's own properties first.
+     *
+     * @param typeName name of the type
+     * @return unmodifiable list of property definitions (empty if there are no properties)
+     */
+    List<TypeDefAttribute> getAllProperties(String typeName)
+    {
+        CatalogueEntry entry = getEntry(typeName);
+
+        if (entry == null)
+        {
+            return null;
+        }
+
+        return entry.allProperties;
+    }
+
+
+    /**
+     * Return the map of property name to the property's type for all of the properties valid for the type.
+     * The value is null if the property definition does not include its type.
+     *
+     * @param typeName name of the type
+     * @return unmodifiable map of property name to attribute type
+     */
+    Map<String, AttributeTypeDef> getPropertyTypes(String typeName)
+    {
+        CatalogueEntry entry = getEntry(typeName);
+
+        if (entry == null)
+        {
+            return null;
+        }
+
+        return entry.propertyTypes;
+    }
+
+
+    /**
+     * Return the instance type previously saved for the type.
+     *
+     * @param typeName name of the type
+     * @return instance type or null
+     */
+    InstanceType getInstanceType(String typeName)
+    {
+        if (typeName == null)
+        {
+            return null;
+        }
+
+        return instanceTypes.get(typeName);
+    }
+
+
+    /**
+     * Save the instance type created for the type so it can be reused while this catalogue is current.
+     *
+     * @param typeName name of the type
+     * @param instanceType instance type
+     */
+    void saveInstanceType(String       typeName,
+                          InstanceType instanceType)
+    {
+        if ((typeName != null) && (instanceType != null))
+        {
+            synchronized (this)
+            {
+                if (! instanceTypes.containsKey(typeName))
+                {
+                    Map<String, InstanceType> newInstanceTypes = new HashMap<>(instanceTypes);
+
+                    newInstanceTypes.put(typeName, instanceType);
+                    instanceTypes = newInstanceTypes;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the entry for the named type.
+     *
+     * @param typeName name of the type
+     * @return entry or null
+     */
+    private CatalogueEntry getEntry(String typeName)
+    {
+        if (typeName == null)
+        {
+            return null;
+        }
+
+        return entries.get(typeName);
+    }
+
+
+    /**
+     * CatalogueEntry holds the precalculated information for a single type.
+     */
+    private static class CatalogueEntry
+    {
+        private final TypeDef                       typeDef;
+        private final List<TypeDefLink>             superTypes;
+        private final Set<String>                   typeNames;
+        private final Set<String>                   typeGUIDs;
+        private final List<TypeDefAttribute>        allProperties;
+        private final Map<String, AttributeTypeDef> propertyTypes;
+        private final boolean                       validHierarchy;
+        private       List<String>                  subTypeNames = null;
+
+
+        /**
+         * Walk up the supertype chain once, collecting the supertypes and the properties.
+         *
+         * @param typeName name of the type
+         * @param typeDef definition of the type
+         * @param knownTypeDefNames all of the known types
+         */
+        CatalogueEntry(String               typeName,
+                       TypeDef              typeDef,
+                       Map<String, TypeDef> knownTypeDefNames)
+        {
+            List<TypeDefLink>      superTypeList  = new ArrayList<>();
+            Set<String>            names          = new HashSet<>();
+            Set<String>            guids          = new HashSet<>();
+            List<TypeDefAttribute> properties     = new ArrayList<>();
+            boolean                validChain     = true;
+
+            names.add(typeName);
+
+            if (typeDef.getGUID() != null)
+            {
+                guids.add(typeDef.getGUID());
+            }
+
+            if (typeDef.getPropertiesDefinition() != null)
+            {
+                properties.addAll(typeDef.getPropertiesDefinition());
+            }
+
+            TypeDefLink superTypeLink = typeDef.getSuperType();
+
+            while (superTypeLink != null)
+            {
+                String  superTypeName = superTypeLink.getName();
+
+                if ((superTypeName == null) || (names.contains(superTypeName)))
+                {
+                    /*
+                     * Either the link is corrupt or the types form a loop.
+                     */
+                    log.error("Invalid super type link " + superTypeLink + " for " + typeName);
+                    validChain = false;
+                    break;
+                }
+
+                superTypeList.add(superTypeLink);
+                names.add(superTypeName);
+
+                if (superTypeLink.getGUID() != null)
+                {
+                    guids.add(superTypeLink.getGUID());
+                }
+
+                TypeDef superTypeDef = knownTypeDefNames.get(superTypeName);
+
+                if (superTypeDef == null)
+                {
+                    log.error(superTypeName + " supertype of " + typeName + " is not known in TypeDef cache");
+                    validChain = false;
+                    break;
+                }
+
+                if (superTypeDef.getPropertiesDefinition() != null)
+                {
+                    properties.addAll(superTypeDef.getPropertiesDefinition());
+                }
+
+                superTypeLink = superTypeDef.getSuperType();
+            }
+
+            /*
+             * The supertype properties are added after the type's own properties so, as with a linear search of
+             * the property list, a supertype's definition of a property takes precedence.
+             */
+            Map<String, AttributeTypeDef> types = new HashMap<>();
+
+            for (TypeDefAttribute property : properties)
+            {
+                if ((property != null) && (property.getAttributeName() != null))
+                {
+                    types.put(property.getAttributeName(), property.getAttributeType());
+                }
+            }
+
+            this.typeDef = typeDef;
+            this.superTypes = superTypeList.isEmpty() ? null : Collections.unmodifiableList(superTypeList);
+            this.typeNames = names;
+            this.typeGUIDs = guids;
+            this.allProperties = Collections.unmodifiableList(properties);
+            this.propertyTypes = Collections.unmodifiableMap(types);
+            this.validHierarchy = validChain;
+        }
+    }
+}
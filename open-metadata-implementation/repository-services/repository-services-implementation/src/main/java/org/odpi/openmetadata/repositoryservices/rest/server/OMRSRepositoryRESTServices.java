@@ -6473,6 +6473,203 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Create a batch of new entities.  Each entity in the request is a template for one new entity.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody templates for the new entities in the entity list
+     * @return InstanceBatchResponse:
+     * one result for each template containing the new entity or the exception for the item or
+     * InvalidParameterException the user id or the list of templates is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceBatchResponse addEntities(String               serverName,
+                                             String               userId,
+                                             InstanceGraphRequest requestBody)
+    {
+        final  String   methodName = "addEntities";
+
+        log.debug("Calling method: " + methodName);
+
+        List<EntityDetail>    newEntities = null;
+        InstanceBatchResponse response    = new InstanceBatchResponse();
+
+        if (requestBody != null)
+        {
+            newEntities = requestBody.getEntityElementList();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            response.setResults(metadataCollection.addEntities(userId, newEntities));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: {} with response: {}", methodName, response);
+
+        return response;
+    }
+
+
+    /**
+     * Create a batch of new relationships.  Each relationship in the request is a template for one
+     * new relationship.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody templates for the new relationships in the relationship list
+     * @return InstanceBatchResponse:
+     * one result for each template containing the new relationship or the exception for the item or
+     * InvalidParameterException the user id or the list of templates is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceBatchResponse addRelationships(String               serverName,
+                                                  String               userId,
+                                                  InstanceGraphRequest requestBody)
+    {
+        final  String   methodName = "addRelationships";
+
+        log.debug("Calling method: " + methodName);
+
+        List<Relationship>    newRelationships = null;
+        InstanceBatchResponse response         = new InstanceBatchResponse();
+
+        if (requestBody != null)
+        {
+            newRelationships = requestBody.getRelationshipElementList();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            response.setResults(metadataCollection.addRelationships(userId, newRelationships));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: {} with response: {}", methodName, response);
+
+        return response;
+    }
+
+
+    /**
+     * Add the same classification to each of a list of entities.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param classificationName String name for the classification.
+     * @param requestBody list of entity guids and the properties to set in each classification.
+     * @return InstanceBatchResponse:
+     * one result for each entity guid containing the classified entity or the exception for the item or
+     * InvalidParameterException the user id or the list of entity guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceBatchResponse classifyEntities(String                     serverName,
+                                                  String                     userId,
+                                                  String                     classificationName,
+                                                  ClassificationBatchRequest requestBody)
+    {
+        final  String   methodName = "classifyEntities";
+
+        log.debug("Calling method: " + methodName);
+
+        List<String>          entityGUIDs              = null;
+        InstanceProperties    classificationProperties = null;
+        InstanceBatchResponse response                 = new InstanceBatchResponse();
+
+        if (requestBody != null)
+        {
+            entityGUIDs = requestBody.getEntityGUIDs();
+            classificationProperties = requestBody.getInstanceProperties();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            response.setResults(metadataCollection.classifyEntities(userId,
+                                                                    entityGUIDs,
+                                                                    classificationName,
+                                                                    classificationProperties));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (Throwable error)
+        {
+            captureThrowable(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: {} with response: {}", methodName, response);
+
+        return response;
+    }
+
+
     /* ======================================================================
      * Group 5: Change the control information in entities and relationships
      */
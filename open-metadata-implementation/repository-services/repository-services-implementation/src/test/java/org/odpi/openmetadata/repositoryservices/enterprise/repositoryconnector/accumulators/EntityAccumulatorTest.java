@@ -0,0 +1,127 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Validate that the entity accumulator merges the results and exceptions from several repositories and
+ * ignores anything added by a repository after it has timed out.
+ */
+public class EntityAccumulatorTest
+{
+    private static final String methodName = "testMethod";
+
+
+    private EntityDetail getEntity(String guid, long version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    private Map<String, EntityDetail> getResultMap(EntityAccumulator accumulator)
+    {
+        Map<String, EntityDetail> resultMap = new HashMap<>();
+        List<EntityDetail>        results   = accumulator.getResults(null);
+
+        if (results != null)
+        {
+            for (EntityDetail entity : results)
+            {
+                resultMap.put(entity.getGUID(), entity);
+            }
+        }
+
+        return resultMap;
+    }
+
+
+    @Test
+    void testMerge() throws Exception
+    {
+        EntityAccumulator accumulator = new EntityAccumulator(null, null, null);
+
+        accumulator.addEntities(Collections.singletonList(getEntity("guid1", 1)), "member1");
+        accumulator.addEntities(Arrays.asList(getEntity("guid1", 2), getEntity("guid2", 1)), "member2");
+        accumulator.captureException("member3",
+                                     new EntityNotKnownException(OMRSErrorCode.ENTITY_NOT_KNOWN.getMessageDefinition("guid3",
+                                                                                                                      methodName,
+                                                                                                                      "member3"),
+                                                                 this.getClass().getName(),
+                                                                 methodName));
+
+        Map<String, EntityDetail> results = getResultMap(accumulator);
+
+        assertEquals(results.size(), 2);
+        assertEquals(results.get("guid1").getVersion(), 2);
+        assertTrue(results.containsKey("guid2"));
+        assertTrue(accumulator.resultsReturned());
+        accumulator.throwCapturedRepositoryErrorException();
+
+        try
+        {
+            accumulator.throwCapturedEntityNotKnownException();
+            fail("Captured exception not returned");
+        }
+        catch (EntityNotKnownException error)
+        {
+            // expected
+        }
+    }
+
+
+    @Test
+    void testLateResultsIgnored() throws Exception
+    {
+        EntityAccumulator        accumulator = new EntityAccumulator(null, null, null);
+        RepositoryErrorException timeout     = new RepositoryErrorException(OMRSErrorCode.FEDERATED_REQUEST_TIMEOUT.getMessageDefinition(methodName,
+                                                                                                                                       "member2",
+                                                                                                                                       "100"),
+                                                                            this.getClass().getName(),
+                                                                            methodName);
+
+        accumulator.addEntities(Collections.singletonList(getEntity("guid1", 1)), "member1");
+        accumulator.captureTimeout("member2", timeout);
+
+        accumulator.addEntities(Arrays.asList(getEntity("guid1", 5), getEntity("guid2", 1)), "member2");
+        accumulator.captureException("member2",
+                                     new EntityNotKnownException(OMRSErrorCode.ENTITY_NOT_KNOWN.getMessageDefinition("guid3",
+                                                                                                                      methodName,
+                                                                                                                      "member2"),
+                                                                 this.getClass().getName(),
+                                                                 methodName));
+
+        Map<String, EntityDetail> results = getResultMap(accumulator);
+
+        assertEquals(results.size(), 1);
+        assertEquals(results.get("guid1").getVersion(), 1);
+        accumulator.throwCapturedEntityNotKnownException();
+
+        try
+        {
+            accumulator.throwCapturedRepositoryErrorException();
+            fail("Timeout not returned");
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertSame(error, timeout);
+        }
+    }
+}
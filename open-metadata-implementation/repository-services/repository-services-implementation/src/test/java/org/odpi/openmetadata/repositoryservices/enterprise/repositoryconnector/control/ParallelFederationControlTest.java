@@ -0,0 +1,241 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.EntityAccumulator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.CloneableRepositoryExecutor;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * Validate that the parallel federation control calls the cohort members concurrently and that a member
+ * that does not respond in time is recorded as a timeout without changing the results that are returned.
+ */
+public class ParallelFederationControlTest
+{
+    private static final String userId     = "testUser";
+    private static final String methodName = "testMethod";
+
+    private FederationWorkerPool workerPool = null;
+
+
+    @BeforeMethod
+    void createWorkerPool()
+    {
+        workerPool = new FederationWorkerPool("ParallelFederationControlTest", 4, 500);
+    }
+
+
+    @AfterMethod
+    void shutdownWorkerPool()
+    {
+        workerPool.shutdown();
+    }
+
+
+    private List<OMRSRepositoryConnector> getCohortConnectors(String ... metadataCollectionIds)
+    {
+        List<OMRSRepositoryConnector> cohortConnectors = new ArrayList<>();
+
+        for (String metadataCollectionId : metadataCollectionIds)
+        {
+            cohortConnectors.add(new TestRepositoryConnector(metadataCollectionId));
+        }
+
+        return cohortConnectors;
+    }
+
+
+    @Test
+    void testParallelDispatch() throws Exception
+    {
+        EntityAccumulator accumulator  = new EntityAccumulator(null, null, null);
+        CountDownLatch    allStarted   = new CountDownLatch(3);
+        TestExecutor      executor     = new TestExecutor(accumulator, allStarted, null, Collections.emptySet());
+
+        ParallelFederationControl control = new ParallelFederationControl(userId,
+                                                                          getCohortConnectors("member1", "member2", "member3"),
+                                                                          workerPool,
+                                                                          methodName);
+
+        control.executeCommand(executor);
+
+        /*
+         * Each member only returns its entity once all three members have been called, so every entity
+         * is only present if the members ran at the same time.
+         */
+        List<EntityDetail> results = accumulator.getResults(null);
+
+        assertNotNull(results);
+        assertEquals(results.size(), 3);
+        accumulator.throwCapturedRepositoryErrorException();
+        assertEquals(workerPool.getMemberStatistics().size(), 3);
+    }
+
+
+    @Test
+    void testMemberTimeout() throws Exception
+    {
+        EntityAccumulator accumulator = new EntityAccumulator(null, null, null);
+        CountDownLatch    lateWrite   = new CountDownLatch(1);
+        TestExecutor      executor    = new TestExecutor(accumulator, null, lateWrite, Collections.singleton("slowMember"));
+
+        ParallelFederationControl control = new ParallelFederationControl(userId,
+                                                                          getCohortConnectors("member1", "slowMember"),
+                                                                          workerPool,
+                                                                          methodName);
+
+        control.executeCommand(executor);
+
+        List<EntityDetail> results = accumulator.getResults(null);
+
+        assertNotNull(results);
+        assertEquals(results.size(), 1);
+        assertEquals(results.get(0).getGUID(), "member1");
+        assertEquals(workerPool.getMemberStatistics().get("slowMember").getTimeoutCount(), 1);
+
+        try
+        {
+            accumulator.throwCapturedRepositoryErrorException();
+            fail("Timeout not recorded");
+        }
+        catch (RepositoryErrorException error)
+        {
+            // expected
+        }
+
+        /*
+         * The slow member adds its entity once it is cancelled.  This must not change the results.
+         */
+        assertTrue(lateWrite.await(5, TimeUnit.SECONDS));
+        assertEquals(accumulator.getResults(null).size(), 1);
+    }
+
+
+    /**
+     * TestExecutor adds an entity named after the member to the accumulator.  Slow members wait until
+     * they are cancelled before adding their entity.
+     */
+    private static class TestExecutor implements CloneableRepositoryExecutor
+    {
+        private EntityAccumulator accumulator;
+        private CountDownLatch    allStarted;
+        private CountDownLatch    lateWrite;
+        private Set<String>       slowMembers;
+
+        TestExecutor(EntityAccumulator accumulator,
+                     CountDownLatch    allStarted,
+                     CountDownLatch    lateWrite,
+                     Set<String>       slowMembers)
+        {
+            this.accumulator = accumulator;
+            this.allStarted = allStarted;
+            this.lateWrite = lateWrite;
+            this.slowMembers = new HashSet<>(slowMembers);
+        }
+
+        public CloneableRepositoryExecutor getClone()
+        {
+            return new TestExecutor(accumulator, allStarted, lateWrite, slowMembers);
+        }
+
+        public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                                OMRSMetadataCollection metadataCollection)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(metadataCollectionId);
+
+            try
+            {
+                if (slowMembers.contains(metadataCollectionId))
+                {
+                    Thread.sleep(60000);
+                }
+                else if (allStarted != null)
+                {
+                    allStarted.countDown();
+
+                    if (! allStarted.await(5, TimeUnit.SECONDS))
+                    {
+                        return false;
+                    }
+                }
+            }
+            catch (InterruptedException error)
+            {
+                // cancelled by the federation control
+            }
+
+            accumulator.addEntities(Collections.singletonList(entity), metadataCollectionId);
+
+            if (slowMembers.contains(metadataCollectionId))
+            {
+                lateWrite.countDown();
+            }
+
+            return false;
+        }
+
+        public void captureTimeout(String metadataCollectionId,
+                                   long   timeout)
+        {
+            accumulator.captureTimeout(metadataCollectionId,
+                                       new RepositoryErrorException(OMRSErrorCode.FEDERATED_REQUEST_TIMEOUT.getMessageDefinition(methodName,
+                                                                                                                                 metadataCollectionId,
+                                                                                                                                 Long.toString(timeout)),
+                                                                    this.getClass().getName(),
+                                                                    methodName));
+        }
+    }
+
+
+    /**
+     * TestRepositoryConnector supplies a metadata collection with the requested identifier.
+     */
+    private static class TestRepositoryConnector extends OMRSRepositoryConnector
+    {
+        TestRepositoryConnector(String metadataCollectionId)
+        {
+            super();
+
+            super.metadataCollection = new TestMetadataCollection(this, metadataCollectionId);
+        }
+    }
+
+
+    /**
+     * TestMetadataCollection returns its identifier without checking that the connector is active.
+     */
+    private static class TestMetadataCollection extends OMRSMetadataCollectionBase
+    {
+        TestMetadataCollection(OMRSRepositoryConnector parentConnector,
+                               String                  metadataCollectionId)
+        {
+            super(parentConnector, "TestRepository", null, null, metadataCollectionId);
+        }
+
+        @Override
+        public String getMetadataCollectionId(String userId)
+        {
+            return metadataCollectionId;
+        }
+    }
+}
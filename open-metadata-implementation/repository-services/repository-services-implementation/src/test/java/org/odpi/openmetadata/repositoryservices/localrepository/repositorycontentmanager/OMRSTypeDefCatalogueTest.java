@@ -0,0 +1,119 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * Validate the supertype and subtype closures and property maps calculated by the type catalogue.
+ */
+public class OMRSTypeDefCatalogueTest
+{
+    private EntityDef getEntityDef(String guid, String name, EntityDef superType, String ... propertyNames)
+    {
+        EntityDef entityDef = new EntityDef();
+
+        entityDef.setGUID(guid);
+        entityDef.setName(name);
+
+        if (superType != null)
+        {
+            TypeDefLink superTypeLink = new TypeDefLink();
+
+            superTypeLink.setGUID(superType.getGUID());
+            superTypeLink.setName(superType.getName());
+            entityDef.setSuperType(superTypeLink);
+        }
+
+        if (propertyNames.length > 0)
+        {
+            PrimitiveDef stringDef = new PrimitiveDef(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+            List<TypeDefAttribute> properties = new ArrayList<>();
+
+            for (String propertyName : propertyNames)
+            {
+                TypeDefAttribute property = new TypeDefAttribute();
+
+                property.setAttributeName(propertyName);
+                property.setAttributeType(stringDef);
+                properties.add(property);
+            }
+
+            entityDef.setPropertiesDefinition(properties);
+        }
+
+        return entityDef;
+    }
+
+
+    private Map<String, TypeDef> getTypes(TypeDef ... typeDefs)
+    {
+        Map<String, TypeDef> types = new HashMap<>();
+
+        for (TypeDef typeDef : typeDefs)
+        {
+            types.put(typeDef.getName(), typeDef);
+        }
+
+        return types;
+    }
+
+
+    @Test
+    void testHierarchy()
+    {
+        EntityDef referenceable = getEntityDef("1", "Referenceable", null, "qualifiedName");
+        EntityDef asset         = getEntityDef("2", "Asset", referenceable, "name", "owner");
+        EntityDef dataSet       = getEntityDef("3", "DataSet", asset);
+        EntityDef process       = getEntityDef("4", "Process", asset, "formula");
+
+        OMRSTypeDefCatalogue catalogue = new OMRSTypeDefCatalogue(1, getTypes(referenceable, asset, dataSet, process));
+
+        assertEquals(catalogue.getVersion(), 1);
+
+        assertTrue(catalogue.isTypeOf("DataSet", "DataSet"));
+        assertTrue(catalogue.isTypeOf("DataSet", "Asset"));
+        assertTrue(catalogue.isTypeOf("DataSet", "Referenceable"));
+        assertFalse(catalogue.isTypeOf("DataSet", "Process"));
+        assertFalse(catalogue.isTypeOf("Referenceable", "Asset"));
+        assertFalse(catalogue.isTypeOf("Unknown", "Asset"));
+        assertTrue(catalogue.isTypeOfByGUID("Process", "1"));
+        assertFalse(catalogue.isTypeOfByGUID("Process", "3"));
+
+        List<TypeDefLink> superTypes = catalogue.getSuperTypes("DataSet");
+        assertEquals(superTypes.size(), 2);
+        assertEquals(superTypes.get(0).getName(), "Asset");
+        assertEquals(superTypes.get(1).getName(), "Referenceable");
+        assertNull(catalogue.getSuperTypes("Referenceable"));
+
+        assertEquals(new HashSet<>(catalogue.getSubTypeNames("Referenceable")),
+                     new HashSet<>(Arrays.asList("Asset", "DataSet", "Process")));
+        assertEquals(new HashSet<>(catalogue.getSubTypeNames("Asset")),
+                     new HashSet<>(Arrays.asList("DataSet", "Process")));
+        assertNull(catalogue.getSubTypeNames("DataSet"));
+
+        assertEquals(catalogue.getAllProperties("Process").size(), 4);
+        assertEquals(catalogue.getAllProperties("Process").get(0).getAttributeName(), "formula");
+        assertEquals(catalogue.getPropertyTypes("DataSet").keySet(),
+                     new HashSet<>(Arrays.asList("qualifiedName", "name", "owner")));
+    }
+
+
+    @Test
+    void testMissingSuperType()
+    {
+        EntityDef referenceable = getEntityDef("1", "Referenceable", null);
+        EntityDef asset         = getEntityDef("2", "Asset", referenceable);
+
+        OMRSTypeDefCatalogue catalogue = new OMRSTypeDefCatalogue(2, getTypes(asset));
+
+        assertTrue(catalogue.isKnownType("Asset"));
+        assertFalse(catalogue.hasValidHierarchy("Asset"));
+        assertFalse(catalogue.hasValidHierarchy("Referenceable"));
+    }
+}
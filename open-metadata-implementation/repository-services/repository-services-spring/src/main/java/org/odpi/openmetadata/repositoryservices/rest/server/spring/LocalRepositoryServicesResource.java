@@ -2063,6 +2063,81 @@ public class LocalRepositoryServicesResource
     }
 
 
+    /**
+     * Create a batch of new entities.  Each entity in the request is a template for one new entity.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody templates for the new entities in the entity list
+     * @return InstanceBatchResponse:
+     * one result for each template containing the new entity or the exception for the item or
+     * InvalidParameterException the user id or the list of templates is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entities/batch")
+
+    public InstanceBatchResponse addEntities(@PathVariable String               serverName,
+                                             @PathVariable String               userId,
+                                             @RequestBody  InstanceGraphRequest requestBody)
+    {
+        return restAPI.addEntities(serverName, userId, requestBody);
+    }
+
+
+    /**
+     * Create a batch of new relationships.  Each relationship in the request is a template for one
+     * new relationship.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param requestBody templates for the new relationships in the relationship list
+     * @return InstanceBatchResponse:
+     * one result for each template containing the new relationship or the exception for the item or
+     * InvalidParameterException the user id or the list of templates is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/relationships/batch")
+
+    public InstanceBatchResponse addRelationships(@PathVariable String               serverName,
+                                                  @PathVariable String               userId,
+                                                  @RequestBody  InstanceGraphRequest requestBody)
+    {
+        return restAPI.addRelationships(serverName, userId, requestBody);
+    }
+
+
+    /**
+     * Add the same classification to each of a list of entities.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param classificationName String name for the classification.
+     * @param requestBody list of entity guids and the properties to set in each classification.
+     * @return InstanceBatchResponse:
+     * one result for each entity guid containing the classified entity or the exception for the item or
+     * InvalidParameterException the user id or the list of entity guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * FunctionNotSupportedException the repository does not support maintenance of metadata.
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entities/classification/{classificationName}/batch")
+
+    public InstanceBatchResponse classifyEntities(@PathVariable String                     serverName,
+                                                  @PathVariable String                     userId,
+                                                  @PathVariable String                     classificationName,
+                                                  @RequestBody  ClassificationBatchRequest requestBody)
+    {
+        return restAPI.classifyEntities(serverName, userId, classificationName, requestBody);
+    }
+
+
     /* ======================================================================
      * Group 5: Change the control information in entities and relationships
      */
@@ -0,0 +1,146 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.classifications.AnalyticsEngine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.*;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveAccessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+
+/**
+ * Static mapping methods to map between AnalyticsEngine and the omrs equivalents.
+ */
+public class AnalyticsEngineMapper {
+    private static final Logger log = LoggerFactory.getLogger( AnalyticsEngineMapper.class);
+    private static final String className = AnalyticsEngineMapper.class.getName();
+   /**
+    * @param omrsClassification - the supplied omrs classification
+    * @return equivalent AnalyticsEngine
+    */
+   static public AnalyticsEngine mapOmrsToBean(Classification omrsClassification){
+        String classificationTypeName = omrsClassification.getName();
+        if ("AnalyticsEngine".equals(classificationTypeName)) {
+                AnalyticsEngine analyticsEngine = new AnalyticsEngine();
+                //set core attributes
+                SystemAttributes systemAttributes = new SystemAttributes();
+
+                systemAttributes.setStatus(omrsClassification.getStatus());
+                systemAttributes.setCreatedBy(omrsClassification.getCreatedBy());
+                systemAttributes.setUpdatedBy(omrsClassification.getUpdatedBy());
+                systemAttributes.setCreateTime(omrsClassification.getCreateTime());
+                systemAttributes.setUpdateTime(omrsClassification.getUpdateTime());
+                systemAttributes.setVersion(omrsClassification.getVersion());
+                analyticsEngine.setSystemAttributes(systemAttributes);
+
+
+                // Set properties
+                InstanceProperties omrsClassificationProperties = omrsClassification.getProperties();
+                if (omrsClassificationProperties !=null) {
+                  omrsClassificationProperties.setEffectiveFromTime(analyticsEngine.getEffectiveFromTime());
+                  omrsClassificationProperties.setEffectiveToTime(analyticsEngine.getEffectiveToTime());
+                  Iterator omrsPropertyIterator = omrsClassificationProperties.getPropertyNames();
+                  while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsClassificationProperties.getPropertyValue(name);
+
+                    // supplied guid matches the expected type
+
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                        case PRIMITIVE:
+                            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                            actualValue = primitivePropertyValue.getPrimitiveValue();
+                            if (AnalyticsEngine.getAttributePropertyNames().contains(name)) {
+                            } else {
+                                // put out the omrs value object
+                                if (null==analyticsEngine.getExtraAttributes())  {
+                                     analyticsEngine.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                               analyticsEngine.getExtraAttributes().put(name, primitivePropertyValue);
+                            }
+                            break;
+                        case ENUM:
+                            EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                            String symbolicName = enumPropertyValue.getSymbolicName();
+                            if (AnalyticsEngine.getEnumPropertyNames().contains(name)) {
+                            } else {
+                                // put out the omrs value object
+                                if (null==analyticsEngine.getExtraAttributes())  {
+                                     analyticsEngine.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                                 analyticsEngine.getExtraAttributes().put(name, enumPropertyValue);
+                             }
+
+                            break;
+                        case MAP:
+                            if (AnalyticsEngine.getMapPropertyNames().contains(name)) {
+                                 MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                 InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                               }
+                               break;
+                        case ARRAY:
+                        case STRUCT:
+                        case UNKNOWN:
+                            // error
+                            break;
+                    }
+
+                  }   // end while
+                }
+                return analyticsEngine;
+            } else {
+                // TODO wrong type
+            }
+            return null;
+    }
+    /**
+     * Map (convert) the supplied AnalyticsEngine to an omrs Classification.
+     * @param  analyticsEngine  supplied AnalyticsEngine
+     * @return  classificationDetail equivalent to analyticsEngine
+     */
+    static public Classification mapBeanToOmrs(AnalyticsEngine analyticsEngine) {
+            Classification omrsClassification = new Classification();
+            SystemAttributes systemAttributes = analyticsEngine.getSystemAttributes();
+            if (systemAttributes!=null) {
+                   if (systemAttributes.getCreatedBy()!=null)
+                        omrsClassification.setCreatedBy(systemAttributes.getCreatedBy());
+                   if (systemAttributes.getUpdatedBy()!=null)
+                        omrsClassification.setUpdatedBy(systemAttributes.getUpdatedBy());
+                   if (systemAttributes.getCreateTime()!=null)
+                        omrsClassification.setCreateTime(systemAttributes.getCreateTime());
+                   if (systemAttributes.getUpdateTime()!=null)
+                        omrsClassification.setUpdateTime(systemAttributes.getUpdateTime());
+                   if (systemAttributes.getVersion()!=null)
+                        omrsClassification.setVersion(systemAttributes.getVersion());
+                   if (systemAttributes.getStatus()!=null) {
+                        omrsClassification.setStatus(systemAttributes.getStatus());
+                   }
+            }
+
+            InstanceProperties instanceProperties = new InstanceProperties();
+            // primitives
+
+            omrsClassification.setProperties(instanceProperties);
+            // set the type in the classification
+            OpenMetadataTypesArchiveAccessor archiveAccessor = OpenMetadataTypesArchiveAccessor.getInstance();
+            TypeDef typeDef = archiveAccessor.getEntityDefByName("AnalyticsEngine");
+            InstanceType template =  archiveAccessor.createTemplateFromTypeDef(typeDef);
+            InstanceType instanceType = new InstanceType(template);
+            omrsClassification.setType(instanceType);
+            return omrsClassification;
+    }
+
+}
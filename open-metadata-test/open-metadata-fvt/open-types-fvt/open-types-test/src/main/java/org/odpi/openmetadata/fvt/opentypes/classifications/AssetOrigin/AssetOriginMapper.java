@@ -0,0 +1,191 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.classifications.AssetOrigin;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.*;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveAccessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+
+/**
+ * Static mapping methods to map between AssetOrigin and the omrs equivalents.
+ */
+public class AssetOriginMapper {
+    private static final Logger log = LoggerFactory.getLogger( AssetOriginMapper.class);
+    private static final String className = AssetOriginMapper.class.getName();
+   /**
+    * @param omrsClassification - the supplied omrs classification
+    * @return equivalent AssetOrigin
+    */
+   static public AssetOrigin mapOmrsToBean(Classification omrsClassification){
+        String classificationTypeName = omrsClassification.getName();
+        if ("AssetOrigin".equals(classificationTypeName)) {
+                AssetOrigin assetOrigin = new AssetOrigin();
+                //set core attributes
+                SystemAttributes systemAttributes = new SystemAttributes();
+
+                systemAttributes.setStatus(omrsClassification.getStatus());
+                systemAttributes.setCreatedBy(omrsClassification.getCreatedBy());
+                systemAttributes.setUpdatedBy(omrsClassification.getUpdatedBy());
+                systemAttributes.setCreateTime(omrsClassification.getCreateTime());
+                systemAttributes.setUpdateTime(omrsClassification.getUpdateTime());
+                systemAttributes.setVersion(omrsClassification.getVersion());
+                assetOrigin.setSystemAttributes(systemAttributes);
+
+
+                // Set properties
+                InstanceProperties omrsClassificationProperties = omrsClassification.getProperties();
+                if (omrsClassificationProperties !=null) {
+                  omrsClassificationProperties.setEffectiveFromTime(assetOrigin.getEffectiveFromTime());
+                  omrsClassificationProperties.setEffectiveToTime(assetOrigin.getEffectiveToTime());
+                  Iterator omrsPropertyIterator = omrsClassificationProperties.getPropertyNames();
+                  while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsClassificationProperties.getPropertyValue(name);
+
+                    // supplied guid matches the expected type
+
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                        case PRIMITIVE:
+                            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                            actualValue = primitivePropertyValue.getPrimitiveValue();
+                            if (AssetOrigin.getAttributePropertyNames().contains(name)) {
+                               if (name.equals("organization")) {
+                                  assetOrigin.setOrganization((String)actualValue);
+                               }
+                               if (name.equals("businessCapability")) {
+                                  assetOrigin.setBusinessCapability((String)actualValue);
+                               }
+                            } else {
+                                // put out the omrs value object
+                                if (null==assetOrigin.getExtraAttributes())  {
+                                     assetOrigin.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                               assetOrigin.getExtraAttributes().put(name, primitivePropertyValue);
+                            }
+                            break;
+                        case ENUM:
+                            EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                            String symbolicName = enumPropertyValue.getSymbolicName();
+                            if (AssetOrigin.getEnumPropertyNames().contains(name)) {
+                            } else {
+                                // put out the omrs value object
+                                if (null==assetOrigin.getExtraAttributes())  {
+                                     assetOrigin.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                                 assetOrigin.getExtraAttributes().put(name, enumPropertyValue);
+                             }
+
+                            break;
+                        case MAP:
+                            if (AssetOrigin.getMapPropertyNames().contains(name)) {
+                                 MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                 InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                                 if (name.equals("otherOriginValues")) {
+
+                                       // Only support Map<String,String> as that is what is in the archive types at this time.
+                                       Map<String, String> actualMap = new HashMap();
+                                       Iterator iter = instancePropertyForMap.getPropertyNames();
+                                       while (iter.hasNext()) {
+                                           String mapkey = (String) iter.next();
+                                           PrimitivePropertyValue primitivePropertyMapValue = (PrimitivePropertyValue) instancePropertyForMap.getPropertyValue(mapkey);
+                                           String mapvalue = (String) primitivePropertyMapValue.getPrimitiveValue();
+                                           actualMap.put(mapkey, mapvalue);
+                                       }
+                                       assetOrigin.setOtherOriginValues(actualMap);
+                                 }
+                               }
+                               break;
+                        case ARRAY:
+                        case STRUCT:
+                        case UNKNOWN:
+                            // error
+                            break;
+                    }
+
+                  }   // end while
+                }
+                return assetOrigin;
+            } else {
+                // TODO wrong type
+            }
+            return null;
+    }
+    /**
+     * Map (convert) the supplied AssetOrigin to an omrs Classification.
+     * @param  assetOrigin  supplied AssetOrigin
+     * @return  classificationDetail equivalent to assetOrigin
+     */
+    static public Classification mapBeanToOmrs(AssetOrigin assetOrigin) {
+            Classification omrsClassification = new Classification();
+            SystemAttributes systemAttributes = assetOrigin.getSystemAttributes();
+            if (systemAttributes!=null) {
+                   if (systemAttributes.getCreatedBy()!=null)
+                        omrsClassification.setCreatedBy(systemAttributes.getCreatedBy());
+                   if (systemAttributes.getUpdatedBy()!=null)
+                        omrsClassification.setUpdatedBy(systemAttributes.getUpdatedBy());
+                   if (systemAttributes.getCreateTime()!=null)
+                        omrsClassification.setCreateTime(systemAttributes.getCreateTime());
+                   if (systemAttributes.getUpdateTime()!=null)
+                        omrsClassification.setUpdateTime(systemAttributes.getUpdateTime());
+                   if (systemAttributes.getVersion()!=null)
+                        omrsClassification.setVersion(systemAttributes.getVersion());
+                   if (systemAttributes.getStatus()!=null) {
+                        omrsClassification.setStatus(systemAttributes.getStatus());
+                   }
+            }
+
+            InstanceProperties instanceProperties = new InstanceProperties();
+            // primitives
+
+            if (assetOrigin.getOrganization()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(assetOrigin.getOrganization());
+                instanceProperties.setProperty("organization", primitivePropertyValue);
+            }
+            if (assetOrigin.getBusinessCapability()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(assetOrigin.getBusinessCapability());
+                instanceProperties.setProperty("businessCapability", primitivePropertyValue);
+            }
+            if (assetOrigin.getOtherOriginValues()!=null) {
+
+                Map<String,String> map =assetOrigin.getOtherOriginValues();
+                MapPropertyValue mapPropertyValue = new MapPropertyValue();
+
+                for (String key:map.keySet()) {
+                   PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                   primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                   primitivePropertyValue.setPrimitiveValue(map.get(key));
+                   mapPropertyValue.setMapValue(key,primitivePropertyValue);
+                }
+
+                instanceProperties.setProperty("otherOriginValues", mapPropertyValue);
+            }
+            omrsClassification.setProperties(instanceProperties);
+            // set the type in the classification
+            OpenMetadataTypesArchiveAccessor archiveAccessor = OpenMetadataTypesArchiveAccessor.getInstance();
+            TypeDef typeDef = archiveAccessor.getEntityDefByName("AssetOrigin");
+            InstanceType template =  archiveAccessor.createTemplateFromTypeDef(typeDef);
+            InstanceType instanceType = new InstanceType(template);
+            omrsClassification.setType(instanceType);
+            return omrsClassification;
+    }
+
+}
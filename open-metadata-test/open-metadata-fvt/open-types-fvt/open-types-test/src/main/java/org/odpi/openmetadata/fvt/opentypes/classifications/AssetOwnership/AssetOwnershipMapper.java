@@ -0,0 +1,166 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.classifications.AssetOwnership;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.*;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveAccessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+
+/**
+ * Static mapping methods to map between AssetOwnership and the omrs equivalents.
+ */
+public class AssetOwnershipMapper {
+    private static final Logger log = LoggerFactory.getLogger( AssetOwnershipMapper.class);
+    private static final String className = AssetOwnershipMapper.class.getName();
+   /**
+    * @param omrsClassification - the supplied omrs classification
+    * @return equivalent AssetOwnership
+    */
+   static public AssetOwnership mapOmrsToBean(Classification omrsClassification){
+        String classificationTypeName = omrsClassification.getName();
+        if ("AssetOwnership".equals(classificationTypeName)) {
+                AssetOwnership assetOwnership = new AssetOwnership();
+                //set core attributes
+                SystemAttributes systemAttributes = new SystemAttributes();
+
+                systemAttributes.setStatus(omrsClassification.getStatus());
+                systemAttributes.setCreatedBy(omrsClassification.getCreatedBy());
+                systemAttributes.setUpdatedBy(omrsClassification.getUpdatedBy());
+                systemAttributes.setCreateTime(omrsClassification.getCreateTime());
+                systemAttributes.setUpdateTime(omrsClassification.getUpdateTime());
+                systemAttributes.setVersion(omrsClassification.getVersion());
+                assetOwnership.setSystemAttributes(systemAttributes);
+
+
+                // Set properties
+                InstanceProperties omrsClassificationProperties = omrsClassification.getProperties();
+                if (omrsClassificationProperties !=null) {
+                  omrsClassificationProperties.setEffectiveFromTime(assetOwnership.getEffectiveFromTime());
+                  omrsClassificationProperties.setEffectiveToTime(assetOwnership.getEffectiveToTime());
+                  Iterator omrsPropertyIterator = omrsClassificationProperties.getPropertyNames();
+                  while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsClassificationProperties.getPropertyValue(name);
+
+                    // supplied guid matches the expected type
+
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                        case PRIMITIVE:
+                            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                            actualValue = primitivePropertyValue.getPrimitiveValue();
+                            if (AssetOwnership.getAttributePropertyNames().contains(name)) {
+                               if (name.equals("owner")) {
+                                  assetOwnership.setOwner((String)actualValue);
+                               }
+                            } else {
+                                // put out the omrs value object
+                                if (null==assetOwnership.getExtraAttributes())  {
+                                     assetOwnership.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                               assetOwnership.getExtraAttributes().put(name, primitivePropertyValue);
+                            }
+                            break;
+                        case ENUM:
+                            EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                            String symbolicName = enumPropertyValue.getSymbolicName();
+                            if (AssetOwnership.getEnumPropertyNames().contains(name)) {
+                                 if (name.equals("ownerType")) {
+                                       AssetOwnerType ownerType = AssetOwnerType.valueOf(symbolicName);
+                                      assetOwnership.setOwnerType(ownerType);
+                                 }
+                            } else {
+                                // put out the omrs value object
+                                if (null==assetOwnership.getExtraAttributes())  {
+                                     assetOwnership.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                                 assetOwnership.getExtraAttributes().put(name, enumPropertyValue);
+                             }
+
+                            break;
+                        case MAP:
+                            if (AssetOwnership.getMapPropertyNames().contains(name)) {
+                                 MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                 InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                               }
+                               break;
+                        case ARRAY:
+                        case STRUCT:
+                        case UNKNOWN:
+                            // error
+                            break;
+                    }
+
+                  }   // end while
+                }
+                return assetOwnership;
+            } else {
+                // TODO wrong type
+            }
+            return null;
+    }
+    /**
+     * Map (convert) the supplied AssetOwnership to an omrs Classification.
+     * @param  assetOwnership  supplied AssetOwnership
+     * @return  classificationDetail equivalent to assetOwnership
+     */
+    static public Classification mapBeanToOmrs(AssetOwnership assetOwnership) {
+            Classification omrsClassification = new Classification();
+            SystemAttributes systemAttributes = assetOwnership.getSystemAttributes();
+            if (systemAttributes!=null) {
+                   if (systemAttributes.getCreatedBy()!=null)
+                        omrsClassification.setCreatedBy(systemAttributes.getCreatedBy());
+                   if (systemAttributes.getUpdatedBy()!=null)
+                        omrsClassification.setUpdatedBy(systemAttributes.getUpdatedBy());
+                   if (systemAttributes.getCreateTime()!=null)
+                        omrsClassification.setCreateTime(systemAttributes.getCreateTime());
+                   if (systemAttributes.getUpdateTime()!=null)
+                        omrsClassification.setUpdateTime(systemAttributes.getUpdateTime());
+                   if (systemAttributes.getVersion()!=null)
+                        omrsClassification.setVersion(systemAttributes.getVersion());
+                   if (systemAttributes.getStatus()!=null) {
+                        omrsClassification.setStatus(systemAttributes.getStatus());
+                   }
+            }
+
+            InstanceProperties instanceProperties = new InstanceProperties();
+            // primitives
+
+            if (assetOwnership.getOwner()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(assetOwnership.getOwner());
+                instanceProperties.setProperty("owner", primitivePropertyValue);
+            }
+            if (assetOwnership.getOwnerType()!=null) {
+                AssetOwnerType enumType = assetOwnership.getOwnerType();
+                EnumPropertyValue enumPropertyValue = new EnumPropertyValue();
+                enumPropertyValue.setOrdinal(enumType.ordinal());
+                enumPropertyValue.setSymbolicName(enumType.name());
+                instanceProperties.setProperty("ownerType", enumPropertyValue);
+            }
+            omrsClassification.setProperties(instanceProperties);
+            // set the type in the classification
+            OpenMetadataTypesArchiveAccessor archiveAccessor = OpenMetadataTypesArchiveAccessor.getInstance();
+            TypeDef typeDef = archiveAccessor.getEntityDefByName("AssetOwnership");
+            InstanceType template =  archiveAccessor.createTemplateFromTypeDef(typeDef);
+            InstanceType instanceType = new InstanceType(template);
+            omrsClassification.setType(instanceType);
+            return omrsClassification;
+    }
+
+}
@@ -0,0 +1,146 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.classifications.AssetZoneMembership;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.*;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveAccessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+
+/**
+ * Static mapping methods to map between AssetZoneMembership and the omrs equivalents.
+ */
+public class AssetZoneMembershipMapper {
+    private static final Logger log = LoggerFactory.getLogger( AssetZoneMembershipMapper.class);
+    private static final String className = AssetZoneMembershipMapper.class.getName();
+   /**
+    * @param omrsClassification - the supplied omrs classification
+    * @return equivalent AssetZoneMembership
+    */
+   static public AssetZoneMembership mapOmrsToBean(Classification omrsClassification){
+        String classificationTypeName = omrsClassification.getName();
+        if ("AssetZoneMembership".equals(classificationTypeName)) {
+                AssetZoneMembership assetZoneMembership = new AssetZoneMembership();
+                //set core attributes
+                SystemAttributes systemAttributes = new SystemAttributes();
+
+                systemAttributes.setStatus(omrsClassification.getStatus());
+                systemAttributes.setCreatedBy(omrsClassification.getCreatedBy());
+                systemAttributes.setUpdatedBy(omrsClassification.getUpdatedBy());
+                systemAttributes.setCreateTime(omrsClassification.getCreateTime());
+                systemAttributes.setUpdateTime(omrsClassification.getUpdateTime());
+                systemAttributes.setVersion(omrsClassification.getVersion());
+                assetZoneMembership.setSystemAttributes(systemAttributes);
+
+
+                // Set properties
+                InstanceProperties omrsClassificationProperties = omrsClassification.getProperties();
+                if (omrsClassificationProperties !=null) {
+                  omrsClassificationProperties.setEffectiveFromTime(assetZoneMembership.getEffectiveFromTime());
+                  omrsClassificationProperties.setEffectiveToTime(assetZoneMembership.getEffectiveToTime());
+                  Iterator omrsPropertyIterator = omrsClassificationProperties.getPropertyNames();
+                  while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsClassificationProperties.getPropertyValue(name);
+
+                    // supplied guid matches the expected type
+
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                        case PRIMITIVE:
+                            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                            actualValue = primitivePropertyValue.getPrimitiveValue();
+                            if (AssetZoneMembership.getAttributePropertyNames().contains(name)) {
+                            } else {
+                                // put out the omrs value object
+                                if (null==assetZoneMembership.getExtraAttributes())  {
+                                     assetZoneMembership.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                               assetZoneMembership.getExtraAttributes().put(name, primitivePropertyValue);
+                            }
+                            break;
+                        case ENUM:
+                            EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                            String symbolicName = enumPropertyValue.getSymbolicName();
+                            if (AssetZoneMembership.getEnumPropertyNames().contains(name)) {
+                            } else {
+                                // put out the omrs value object
+                                if (null==assetZoneMembership.getExtraAttributes())  {
+                                     assetZoneMembership.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                                 assetZoneMembership.getExtraAttributes().put(name, enumPropertyValue);
+                             }
+
+                            break;
+                        case MAP:
+                            if (AssetZoneMembership.getMapPropertyNames().contains(name)) {
+                                 MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                 InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                               }
+                               break;
+                        case ARRAY:
+                        case STRUCT:
+                        case UNKNOWN:
+                            // error
+                            break;
+                    }
+
+                  }   // end while
+                }
+                return assetZoneMembership;
+            } else {
+                // TODO wrong type
+            }
+            return null;
+    }
+    /**
+     * Map (convert) the supplied AssetZoneMembership to an omrs Classification.
+     * @param  assetZoneMembership  supplied AssetZoneMembership
+     * @return  classificationDetail equivalent to assetZoneMembership
+     */
+    static public Classification mapBeanToOmrs(AssetZoneMembership assetZoneMembership) {
+            Classification omrsClassification = new Classification();
+            SystemAttributes systemAttributes = assetZoneMembership.getSystemAttributes();
+            if (systemAttributes!=null) {
+                   if (systemAttributes.getCreatedBy()!=null)
+                        omrsClassification.setCreatedBy(systemAttributes.getCreatedBy());
+                   if (systemAttributes.getUpdatedBy()!=null)
+                        omrsClassification.setUpdatedBy(systemAttributes.getUpdatedBy());
+                   if (systemAttributes.getCreateTime()!=null)
+                        omrsClassification.setCreateTime(systemAttributes.getCreateTime());
+                   if (systemAttributes.getUpdateTime()!=null)
+                        omrsClassification.setUpdateTime(systemAttributes.getUpdateTime());
+                   if (systemAttributes.getVersion()!=null)
+                        omrsClassification.setVersion(systemAttributes.getVersion());
+                   if (systemAttributes.getStatus()!=null) {
+                        omrsClassification.setStatus(systemAttributes.getStatus());
+                   }
+            }
+
+            InstanceProperties instanceProperties = new InstanceProperties();
+            // primitives
+
+            omrsClassification.setProperties(instanceProperties);
+            // set the type in the classification
+            OpenMetadataTypesArchiveAccessor archiveAccessor = OpenMetadataTypesArchiveAccessor.getInstance();
+            TypeDef typeDef = archiveAccessor.getEntityDefByName("AssetZoneMembership");
+            InstanceType template =  archiveAccessor.createTemplateFromTypeDef(typeDef);
+            InstanceType instanceType = new InstanceType(template);
+            omrsClassification.setType(instanceType);
+            return omrsClassification;
+    }
+
+}
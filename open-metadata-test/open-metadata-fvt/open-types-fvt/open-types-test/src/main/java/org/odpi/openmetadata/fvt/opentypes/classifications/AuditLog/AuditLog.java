@@ -0,0 +1,192 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.fvt.opentypes.classifications.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.odpi.openmetadata.fvt.opentypes.common.ClassificationBean;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EnumPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.MapPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import java.io.Serializable;
+import java.util.*;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+
+/**
+ * A data set of related audit log records.
+ */
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AuditLog extends ClassificationBean {
+    private static final Logger log = LoggerFactory.getLogger( AuditLog.class);
+    private static final String className =  AuditLog.class.getName();
+    private Map<String, Object> extraAttributes;
+
+
+ private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+        "notes",
+        "process",
+        "source",
+
+    // Terminate the list
+        null
+    };
+    private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+        "notes",
+        "process",
+        "source",
+
+     // Terminate the list
+        null
+    };
+    private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+         // Terminate the list
+          null
+    };
+    private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+         // Terminate the list
+         null
+    };
+    // note the below definitions needs to be fully qualified
+    private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+    /**
+     * Default constructor
+     */
+    public AuditLog() {
+            super.classificationName="AuditLog";
+    }
+    @Override
+    public InstanceProperties obtainInstanceProperties() {
+        final String methodName = "obtainInstanceProperties";
+        if (log.isDebugEnabled()) {
+               log.debug("==> Method: " + methodName);
+        }
+        InstanceProperties instanceProperties = new InstanceProperties();
+        EnumPropertyValue enumPropertyValue=null;
+        MapPropertyValue mapPropertyValue=null;
+        PrimitivePropertyValue primitivePropertyValue=null;
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(notes);
+        instanceProperties.setProperty("notes",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(process);
+        instanceProperties.setProperty("process",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(source);
+        instanceProperties.setProperty("source",primitivePropertyValue);
+        if (log.isDebugEnabled()) {
+               log.debug("<== Method: " + methodName);
+        }
+        return instanceProperties;
+    }
+
+       private String notes;
+       /**
+        * {@literal Notes on usage, purpose and type of exception backlog. }
+        * @return {$$PropertyTypeJavadoc$$ }
+        */
+       public String getNotes() {
+           return this.notes;
+       }
+       public void setNotes(String notes)  {
+           this.notes = notes;
+       }
+
+
+       private String process;
+       /**
+        * {@literal Unique identifier of the automated process that processes this exception backlog. }
+        * @return {$$PropertyTypeJavadoc$$ }
+        */
+       public String getProcess() {
+           return this.process;
+       }
+       public void setProcess(String process)  {
+           this.process = process;
+       }
+
+
+       private String source;
+       /**
+        * {@literal Source of the exception backlog. }
+        * @return {$$PropertyTypeJavadoc$$ }
+        */
+       public String getSource() {
+           return this.source;
+       }
+       public void setSource(String source)  {
+           this.source = source;
+       }
+
+
+
+    /**
+     * AuditLog property names
+     * @return Set of Strings of the AuditLog property names
+     */
+    public static java.util.Set<String> getPropertyNames() {
+         return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * AuditLog map property names
+     * @return Set of Strings of the AuditLog map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return MAP_NAMES_SET;
+    }
+
+    /**
+     * AuditLog enum property names
+     * @return Set of Strings of the AuditLog enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * AuditLog attribute property names
+     * @return Set of Strings of the AuditLog attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+
+
+    /**
+      * Get the extra attributes - ones that are in addition to the standard types.
+      * @return extra attributes
+      */
+    public Map<String, Object> getExtraAttributes() {
+          return extraAttributes;
+    }
+    public void setExtraAttributes(Map<String, Object> extraAttributes) {
+          this.extraAttributes = extraAttributes;
+    }
+}
@@ -0,0 +1,204 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.classifications.Confidence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.*;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveAccessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+
+/**
+ * Static mapping methods to map between Confidence and the omrs equivalents.
+ */
+public class ConfidenceMapper {
+    private static final Logger log = LoggerFactory.getLogger( ConfidenceMapper.class);
+    private static final String className = ConfidenceMapper.class.getName();
+   /**
+    * @param omrsClassification - the supplied omrs classification
+    * @return equivalent Confidence
+    */
+   static public Confidence mapOmrsToBean(Classification omrsClassification){
+        String classificationTypeName = omrsClassification.getName();
+        if ("Confidence".equals(classificationTypeName)) {
+                Confidence confidence = new Confidence();
+                //set core attributes
+                SystemAttributes systemAttributes = new SystemAttributes();
+
+                systemAttributes.setStatus(omrsClassification.getStatus());
+                systemAttributes.setCreatedBy(omrsClassification.getCreatedBy());
+                systemAttributes.setUpdatedBy(omrsClassification.getUpdatedBy());
+                systemAttributes.setCreateTime(omrsClassification.getCreateTime());
+                systemAttributes.setUpdateTime(omrsClassification.getUpdateTime());
+                systemAttributes.setVersion(omrsClassification.getVersion());
+                confidence.setSystemAttributes(systemAttributes);
+
+
+                // Set properties
+                InstanceProperties omrsClassificationProperties = omrsClassification.getProperties();
+                if (omrsClassificationProperties !=null) {
+                  omrsClassificationProperties.setEffectiveFromTime(confidence.getEffectiveFromTime());
+                  omrsClassificationProperties.setEffectiveToTime(confidence.getEffectiveToTime());
+                  Iterator omrsPropertyIterator = omrsClassificationProperties.getPropertyNames();
+                  while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsClassificationProperties.getPropertyValue(name);
+
+                    // supplied guid matches the expected type
+
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                        case PRIMITIVE:
+                            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                            actualValue = primitivePropertyValue.getPrimitiveValue();
+                            if (Confidence.getAttributePropertyNames().contains(name)) {
+                               if (name.equals("confidence")) {
+                                  confidence.setConfidence((Integer)actualValue);
+                               }
+                               if (name.equals("steward")) {
+                                  confidence.setSteward((String)actualValue);
+                               }
+                               if (name.equals("source")) {
+                                  confidence.setSource((String)actualValue);
+                               }
+                               if (name.equals("notes")) {
+                                  confidence.setNotes((String)actualValue);
+                               }
+                            } else {
+                                // put out the omrs value object
+                                if (null==confidence.getExtraAttributes())  {
+                                     confidence.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                               confidence.getExtraAttributes().put(name, primitivePropertyValue);
+                            }
+                            break;
+                        case ENUM:
+                            EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                            String symbolicName = enumPropertyValue.getSymbolicName();
+                            if (Confidence.getEnumPropertyNames().contains(name)) {
+                                 if (name.equals("status")) {
+                                       GovernanceClassificationStatus status = GovernanceClassificationStatus.valueOf(symbolicName);
+                                      confidence.setStatus(status);
+                                 }
+                                 if (name.equals("level")) {
+                                       ConfidenceLevel level = ConfidenceLevel.valueOf(symbolicName);
+                                      confidence.setLevel(level);
+                                 }
+                            } else {
+                                // put out the omrs value object
+                                if (null==confidence.getExtraAttributes())  {
+                                     confidence.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                                 confidence.getExtraAttributes().put(name, enumPropertyValue);
+                             }
+
+                            break;
+                        case MAP:
+                            if (Confidence.getMapPropertyNames().contains(name)) {
+                                 MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                 InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                               }
+                               break;
+                        case ARRAY:
+                        case STRUCT:
+                        case UNKNOWN:
+                            // error
+                            break;
+                    }
+
+                  }   // end while
+                }
+                return confidence;
+            } else {
+                // TODO wrong type
+            }
+            return null;
+    }
+    /**
+     * Map (convert) the supplied Confidence to an omrs Classification.
+     * @param  confidence  supplied Confidence
+     * @return  classificationDetail equivalent to confidence
+     */
+    static public Classification mapBeanToOmrs(Confidence confidence) {
+            Classification omrsClassification = new Classification();
+            SystemAttributes systemAttributes = confidence.getSystemAttributes();
+            if (systemAttributes!=null) {
+                   if (systemAttributes.getCreatedBy()!=null)
+                        omrsClassification.setCreatedBy(systemAttributes.getCreatedBy());
+                   if (systemAttributes.getUpdatedBy()!=null)
+                        omrsClassification.setUpdatedBy(systemAttributes.getUpdatedBy());
+                   if (systemAttributes.getCreateTime()!=null)
+                        omrsClassification.setCreateTime(systemAttributes.getCreateTime());
+                   if (systemAttributes.getUpdateTime()!=null)
+                        omrsClassification.setUpdateTime(systemAttributes.getUpdateTime());
+                   if (systemAttributes.getVersion()!=null)
+                        omrsClassification.setVersion(systemAttributes.getVersion());
+                   if (systemAttributes.getStatus()!=null) {
+                        omrsClassification.setStatus(systemAttributes.getStatus());
+                   }
+            }
+
+            InstanceProperties instanceProperties = new InstanceProperties();
+            // primitives
+
+            if (confidence.getConfidence()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT);
+                primitivePropertyValue.setPrimitiveValue(confidence.getConfidence());
+                instanceProperties.setProperty("confidence", primitivePropertyValue);
+            }
+            if (confidence.getSteward()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(confidence.getSteward());
+                instanceProperties.setProperty("steward", primitivePropertyValue);
+            }
+            if (confidence.getSource()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(confidence.getSource());
+                instanceProperties.setProperty("source", primitivePropertyValue);
+            }
+            if (confidence.getNotes()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(confidence.getNotes());
+                instanceProperties.setProperty("notes", primitivePropertyValue);
+            }
+            if (confidence.getStatus()!=null) {
+                GovernanceClassificationStatus enumType = confidence.getStatus();
+                EnumPropertyValue enumPropertyValue = new EnumPropertyValue();
+                enumPropertyValue.setOrdinal(enumType.ordinal());
+                enumPropertyValue.setSymbolicName(enumType.name());
+                instanceProperties.setProperty("status", enumPropertyValue);
+            }
+            if (confidence.getLevel()!=null) {
+                ConfidenceLevel enumType = confidence.getLevel();
+                EnumPropertyValue enumPropertyValue = new EnumPropertyValue();
+                enumPropertyValue.setOrdinal(enumType.ordinal());
+                enumPropertyValue.setSymbolicName(enumType.name());
+                instanceProperties.setProperty("level", enumPropertyValue);
+            }
+            omrsClassification.setProperties(instanceProperties);
+            // set the type in the classification
+            OpenMetadataTypesArchiveAccessor archiveAccessor = OpenMetadataTypesArchiveAccessor.getInstance();
+            TypeDef typeDef = archiveAccessor.getEntityDefByName("Confidence");
+            InstanceType template =  archiveAccessor.createTemplateFromTypeDef(typeDef);
+            InstanceType instanceType = new InstanceType(template);
+            omrsClassification.setType(instanceType);
+            return omrsClassification;
+    }
+
+}
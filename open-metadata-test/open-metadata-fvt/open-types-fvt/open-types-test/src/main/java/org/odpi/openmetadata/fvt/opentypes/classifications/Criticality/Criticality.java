@@ -0,0 +1,254 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.fvt.opentypes.classifications.Criticality;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.odpi.openmetadata.fvt.opentypes.common.ClassificationBean;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EnumPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.MapPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import java.io.Serializable;
+import java.util.*;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+
+/**
+ * Defines how critical the related data items are to the organization.
+ */
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class Criticality extends ClassificationBean {
+    private static final Logger log = LoggerFactory.getLogger( Criticality.class);
+    private static final String className =  Criticality.class.getName();
+    private Map<String, Object> extraAttributes;
+
+
+ private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+        "status",
+        "confidence",
+        "steward",
+        "source",
+        "notes",
+        "level",
+
+    // Terminate the list
+        null
+    };
+    private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+        "confidence",
+        "steward",
+        "source",
+        "notes",
+
+     // Terminate the list
+        null
+    };
+    private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+         "status",
+         "level",
+
+         // Terminate the list
+          null
+    };
+    private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+         // Terminate the list
+         null
+    };
+    // note the below definitions needs to be fully qualified
+    private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+    /**
+     * Default constructor
+     */
+    public Criticality() {
+            super.classificationName="Criticality";
+    }
+    @Override
+    public InstanceProperties obtainInstanceProperties() {
+        final String methodName = "obtainInstanceProperties";
+        if (log.isDebugEnabled()) {
+               log.debug("==> Method: " + methodName);
+        }
+        InstanceProperties instanceProperties = new InstanceProperties();
+        EnumPropertyValue enumPropertyValue=null;
+        enumPropertyValue = new EnumPropertyValue();
+        // status of this classification.
+        if (status !=null) {
+            enumPropertyValue.setOrdinal(status.ordinal());
+            enumPropertyValue.setSymbolicName(status.name());
+            instanceProperties.setProperty("status",enumPropertyValue);
+        }
+        enumPropertyValue = new EnumPropertyValue();
+        // how critical is this data to the organization.
+        if (level !=null) {
+            enumPropertyValue.setOrdinal(level.ordinal());
+            enumPropertyValue.setSymbolicName(level.name());
+            instanceProperties.setProperty("level",enumPropertyValue);
+        }
+        MapPropertyValue mapPropertyValue=null;
+        PrimitivePropertyValue primitivePropertyValue=null;
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(confidence);
+        instanceProperties.setProperty("confidence",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(steward);
+        instanceProperties.setProperty("steward",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(source);
+        instanceProperties.setProperty("source",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(notes);
+        instanceProperties.setProperty("notes",primitivePropertyValue);
+        if (log.isDebugEnabled()) {
+               log.debug("<== Method: " + methodName);
+        }
+        return instanceProperties;
+    }
+
+       private GovernanceClassificationStatus status;
+       /**
+        * {@literal Status of this classification. }
+        * @return {$$PropertyTypeJavadoc$$ }
+        */
+       public GovernanceClassificationStatus getStatus() {
+           return this.status;
+       }
+       public void setStatus(GovernanceClassificationStatus status)  {
+           this.status = status;
+       }
+
+
+       private Integer confidence;
+       /**
+        * {@literal Level of confidence in the classification (0=none -> 100=excellent). }
+        * @return {$$PropertyTypeJavadoc$$ }
+        */
+       public Integer getConfidence() {
+           return this.confidence;
+       }
+       public void setConfidence(Integer confidence)  {
+           this.confidence = confidence;
+       }
+
+
+       private String steward;
+       /**
+        * {@literal Person responsible for maintaining this classification. }
+        * @return {$$PropertyTypeJavadoc$$ }
+        */
+       public String getSteward() {
+           return this.steward;
+       }
+       public void setSteward(String steward)  {
+           this.steward = steward;
+       }
+
+
+       private String source;
+       /**
+        * {@literal Source of the classification. }
+        * @return {$$PropertyTypeJavadoc$$ }
+        */
+       public String getSource() {
+           return this.source;
+       }
+       public void setSource(String source)  {
+           this.source = source;
+       }
+
+
+       private String notes;
+       /**
+        * {@literal Information relating to the classification. }
+        * @return {$$PropertyTypeJavadoc$$ }
+        */
+       public String getNotes() {
+           return this.notes;
+       }
+       public void setNotes(String notes)  {
+           this.notes = notes;
+       }
+
+
+       private CriticalityLevel level;
+       /**
+        * {@literal How critical is this data to the organization. }
+        * @return {$$PropertyTypeJavadoc$$ }
+        */
+       public CriticalityLevel getLevel() {
+           return this.level;
+       }
+       public void setLevel(CriticalityLevel level)  {
+           this.level = level;
+       }
+
+
+
+    /**
+     * Criticality property names
+     * @return Set of Strings of the Criticality property names
+     */
+    public static java.util.Set<String> getPropertyNames() {
+         return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * Criticality map property names
+     * @return Set of Strings of the Criticality map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return MAP_NAMES_SET;
+    }
+
+    /**
+     * Criticality enum property names
+     * @return Set of Strings of the Criticality enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * Criticality attribute property names
+     * @return Set of Strings of the Criticality attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+
+
+    /**
+      * Get the extra attributes - ones that are in addition to the standard types.
+      * @return extra attributes
+      */
+    public Map<String, Object> getExtraAttributes() {
+          return extraAttributes;
+    }
+    public void setExtraAttributes(Map<String, Object> extraAttributes) {
+          this.extraAttributes = extraAttributes;
+    }
+}
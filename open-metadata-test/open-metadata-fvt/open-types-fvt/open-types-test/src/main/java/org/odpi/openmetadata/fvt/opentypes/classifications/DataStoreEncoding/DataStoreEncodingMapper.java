@@ -0,0 +1,200 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.classifications.DataStoreEncoding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.util.*;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveAccessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+
+/**
+ * Static mapping methods to map between DataStoreEncoding and the omrs equivalents.
+ */
+public class DataStoreEncodingMapper {
+    private static final Logger log = LoggerFactory.getLogger( DataStoreEncodingMapper.class);
+    private static final String className = DataStoreEncodingMapper.class.getName();
+   /**
+    * @param omrsClassification - the supplied omrs classification
+    * @return equivalent DataStoreEncoding
+    */
+   static public DataStoreEncoding mapOmrsToBean(Classification omrsClassification){
+        String classificationTypeName = omrsClassification.getName();
+        if ("DataStoreEncoding".equals(classificationTypeName)) {
+                DataStoreEncoding dataStoreEncoding = new DataStoreEncoding();
+                //set core attributes
+                SystemAttributes systemAttributes = new SystemAttributes();
+
+                systemAttributes.setStatus(omrsClassification.getStatus());
+                systemAttributes.setCreatedBy(omrsClassification.getCreatedBy());
+                systemAttributes.setUpdatedBy(omrsClassification.getUpdatedBy());
+                systemAttributes.setCreateTime(omrsClassification.getCreateTime());
+                systemAttributes.setUpdateTime(omrsClassification.getUpdateTime());
+                systemAttributes.setVersion(omrsClassification.getVersion());
+                dataStoreEncoding.setSystemAttributes(systemAttributes);
+
+
+                // Set properties
+                InstanceProperties omrsClassificationProperties = omrsClassification.getProperties();
+                if (omrsClassificationProperties !=null) {
+                  omrsClassificationProperties.setEffectiveFromTime(dataStoreEncoding.getEffectiveFromTime());
+                  omrsClassificationProperties.setEffectiveToTime(dataStoreEncoding.getEffectiveToTime());
+                  Iterator omrsPropertyIterator = omrsClassificationProperties.getPropertyNames();
+                  while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsClassificationProperties.getPropertyValue(name);
+
+                    // supplied guid matches the expected type
+
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                        case PRIMITIVE:
+                            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                            actualValue = primitivePropertyValue.getPrimitiveValue();
+                            if (DataStoreEncoding.getAttributePropertyNames().contains(name)) {
+                               if (name.equals("encoding")) {
+                                  dataStoreEncoding.setEncoding((String)actualValue);
+                               }
+                               if (name.equals("language")) {
+                                  dataStoreEncoding.setLanguage((String)actualValue);
+                               }
+                               if (name.equals("description")) {
+                                  dataStoreEncoding.setDescription((String)actualValue);
+                               }
+                            } else {
+                                // put out the omrs value object
+                                if (null==dataStoreEncoding.getExtraAttributes())  {
+                                     dataStoreEncoding.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                               dataStoreEncoding.getExtraAttributes().put(name, primitivePropertyValue);
+                            }
+                            break;
+                        case ENUM:
+                            EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                            String symbolicName = enumPropertyValue.getSymbolicName();
+                            if (DataStoreEncoding.getEnumPropertyNames().contains(name)) {
+                            } else {
+                                // put out the omrs value object
+                                if (null==dataStoreEncoding.getExtraAttributes())  {
+                                     dataStoreEncoding.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                                 dataStoreEncoding.getExtraAttributes().put(name, enumPropertyValue);
+                             }
+
+                            break;
+                        case MAP:
+                            if (DataStoreEncoding.getMapPropertyNames().contains(name)) {
+                                 MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                 InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                                 if (name.equals("properties")) {
+
+                                       // Only support Map<String,String> as that is what is in the archive types at this time.
+                                       Map<String, String> actualMap = new HashMap();
+                                       Iterator iter = instancePropertyForMap.getPropertyNames();
+                                       while (iter.hasNext()) {
+                                           String mapkey = (String) iter.next();
+                                           PrimitivePropertyValue primitivePropertyMapValue = (PrimitivePropertyValue) instancePropertyForMap.getPropertyValue(mapkey);
+                                           String mapvalue = (String) primitivePropertyMapValue.getPrimitiveValue();
+                                           actualMap.put(mapkey, mapvalue);
+                                       }
+                                       dataStoreEncoding.setProperties(actualMap);
+                                 }
+                               }
+                               break;
+                        case ARRAY:
+                        case STRUCT:
+                        case UNKNOWN:
+                            // error
+                            break;
+                    }
+
+                  }   // end while
+                }
+                return dataStoreEncoding;
+            } else {
+                // TODO wrong type
+            }
+            return null;
+    }
+    /**
+     * Map (convert) the supplied DataStoreEncoding to an omrs Classification.
+     * @param  dataStoreEncoding  supplied DataStoreEncoding
+     * @return  classificationDetail equivalent to dataStoreEncoding
+     */
+    static public Classification mapBeanToOmrs(DataStoreEncoding dataStoreEncoding) {
+            Classification omrsClassification = new Classification();
+            SystemAttributes systemAttributes = dataStoreEncoding.getSystemAttributes();
+            if (systemAttributes!=null) {
+                   if (systemAttributes.getCreatedBy()!=null)
+                        omrsClassification.setCreatedBy(systemAttributes.getCreatedBy());
+                   if (systemAttributes.getUpdatedBy()!=null)
+                        omrsClassification.setUpdatedBy(systemAttributes.getUpdatedBy());
+                   if (systemAttributes.getCreateTime()!=null)
+                        omrsClassification.setCreateTime(systemAttributes.getCreateTime());
+                   if (systemAttributes.getUpdateTime()!=null)
+                        omrsClassification.setUpdateTime(systemAttributes.getUpdateTime());
+                   if (systemAttributes.getVersion()!=null)
+                        omrsClassification.setVersion(systemAttributes.getVersion());
+                   if (systemAttributes.getStatus()!=null) {
+                        omrsClassification.setStatus(systemAttributes.getStatus());
+                   }
+            }
+
+            InstanceProperties instanceProperties = new InstanceProperties();
+            // primitives
+
+            if (dataStoreEncoding.getEncoding()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(dataStoreEncoding.getEncoding());
+                instanceProperties.setProperty("encoding", primitivePropertyValue);
+            }
+            if (dataStoreEncoding.getLanguage()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(dataStoreEncoding.getLanguage());
+                instanceProperties.setProperty("language", primitivePropertyValue);
+            }
+            if (dataStoreEncoding.getDescription()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(dataStoreEncoding.getDescription());
+                instanceProperties.setProperty("description", primitivePropertyValue);
+            }
+            if (dataStoreEncoding.getProperties()!=null) {
+
+                Map<String,String> map =dataStoreEncoding.getProperties();
+                MapPropertyValue mapPropertyValue = new MapPropertyValue();
+
+                for (String key:map.keySet()) {
+                   PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                   primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                   primitivePropertyValue.setPrimitiveValue(map.get(key));
+                   mapPropertyValue.setMapValue(key,primitivePropertyValue);
+                }
+
+                instanceProperties.setProperty("properties", mapPropertyValue);
+            }
+            omrsClassification.setProperties(instanceProperties);
+            // set the type in the classification
+            OpenMetadataTypesArchiveAccessor archiveAccessor = OpenMetadataTypesArchiveAccessor.getInstance();
+            TypeDef typeDef = archiveAccessor.getEntityDefByName("DataStoreEncoding");
+            InstanceType template =  archiveAccessor.createTemplateFromTypeDef(typeDef);
+            InstanceType instanceType = new InstanceType(template);
+            omrsClassification.setType(instanceType);
+            return omrsClassification;
+    }
+
+}
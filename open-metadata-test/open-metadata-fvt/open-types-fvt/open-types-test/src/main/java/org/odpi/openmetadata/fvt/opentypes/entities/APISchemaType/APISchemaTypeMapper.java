@@ -0,0 +1,312 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.entities.APISchemaType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveAccessor;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.classifications.ClassificationBeanFactory;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+/**
+ * Static mapping methods to map between APISchemaType and the omrs equivalents.
+ */
+public class APISchemaTypeMapper {
+    private static final Logger log = LoggerFactory.getLogger( APISchemaTypeMapper.class);
+    private static final String className = APISchemaTypeMapper.class.getName();
+   /**
+    * @param omrsEntityDetail the supplied EntityDetail
+    * @return equivalent APISchemaType
+    */
+   static public APISchemaType mapOmrsEntityDetailToAPISchemaType(EntityDetail omrsEntityDetail) throws InvalidParameterException {
+        String entityTypeName = omrsEntityDetail.getType().getTypeDefName();
+        if ("APISchemaType".equals(entityTypeName)) {
+                APISchemaType aPISchemaType = new APISchemaType();
+                //set core attributes
+                SystemAttributes systemAttributes = new SystemAttributes();
+                systemAttributes.setStatus(omrsEntityDetail.getStatus());
+
+                systemAttributes.setCreatedBy(omrsEntityDetail.getCreatedBy());
+                systemAttributes.setUpdatedBy(omrsEntityDetail.getUpdatedBy());
+                systemAttributes.setCreateTime(omrsEntityDetail.getCreateTime());
+                systemAttributes.setUpdateTime(omrsEntityDetail.getUpdateTime());
+                systemAttributes.setVersion(omrsEntityDetail.getVersion());
+                systemAttributes.setGUID(omrsEntityDetail.getGUID());
+                aPISchemaType.setSystemAttributes(systemAttributes);
+
+                // Set properties
+                InstanceProperties omrsEntityDetailProperties = omrsEntityDetail.getProperties();
+                if (omrsEntityDetailProperties!=null) {
+                  omrsEntityDetailProperties.setEffectiveFromTime(aPISchemaType.getEffectiveFromTime());
+                  omrsEntityDetailProperties.setEffectiveToTime(aPISchemaType.getEffectiveToTime());
+                  Iterator omrsPropertyIterator = omrsEntityDetailProperties.getPropertyNames();
+
+                  while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsEntityDetailProperties.getPropertyValue(name);
+
+                    // supplied guid matches the expected type
+
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                        case PRIMITIVE:
+                            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                            actualValue = primitivePropertyValue.getPrimitiveValue();
+                            if (APISchemaType.getAttributePropertyNames().contains(name)) {
+                               if (name.equals("namespace")) {
+                                   aPISchemaType.setNamespace((String)actualValue);
+                               }
+                               if (name.equals("versionNumber")) {
+                                   aPISchemaType.setVersionNumber((String)actualValue);
+                               }
+                               if (name.equals("author")) {
+                                   aPISchemaType.setAuthor((String)actualValue);
+                               }
+                               if (name.equals("usage")) {
+                                   aPISchemaType.setUsage((String)actualValue);
+                               }
+                               if (name.equals("encodingStandard")) {
+                                   aPISchemaType.setEncodingStandard((String)actualValue);
+                               }
+                               if (name.equals("anchorGUID")) {
+                                   aPISchemaType.setAnchorGUID((String)actualValue);
+                               }
+                               if (name.equals("displayName")) {
+                                   aPISchemaType.setDisplayName((String)actualValue);
+                               }
+                               if (name.equals("description")) {
+                                   aPISchemaType.setDescription((String)actualValue);
+                               }
+                               if (name.equals("qualifiedName")) {
+                                   aPISchemaType.setQualifiedName((String)actualValue);
+                               }
+                            } else {
+                                // put out the omrs value object
+                                if (null==aPISchemaType.getExtraAttributes())  {
+                                     aPISchemaType.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                               aPISchemaType.getExtraAttributes().put(name, primitivePropertyValue);
+                            }
+                            break;
+                        case ENUM:
+                            EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                            String symbolicName = enumPropertyValue.getSymbolicName();
+                            if (APISchemaType.getEnumPropertyNames().contains(name)) {
+                            } else {
+                                // put out the omrs value object
+                                if (null==aPISchemaType.getExtraAttributes())  {
+                                     aPISchemaType.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                                 aPISchemaType.getExtraAttributes().put(name, enumPropertyValue);
+                             }
+
+                            break;
+                        case MAP:
+                            if (APISchemaType.getMapPropertyNames().contains(name)) {
+                                 MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                 InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                                 if (name.equals("additionalProperties")) {
+
+                                       // Only support Map<String,String> as that is what is in the archive types at this time.
+                                       Map<String, String> actualMap = new HashMap();
+                                       Iterator iter = instancePropertyForMap.getPropertyNames();
+                                       while (iter.hasNext()) {
+                                           String mapkey = (String) iter.next();
+                                           PrimitivePropertyValue primitivePropertyMapValue = (PrimitivePropertyValue) instancePropertyForMap.getPropertyValue(mapkey);
+                                           String mapvalue = (String) primitivePropertyMapValue.getPrimitiveValue();
+                                           actualMap.put(mapkey, mapvalue);
+                                       }
+                                       aPISchemaType.setAdditionalProperties(actualMap);
+                                 }
+                               }
+                               break;
+                        case ARRAY:
+                        case STRUCT:
+                        case UNKNOWN:
+                            // error
+                            break;
+                    }
+
+                  }   // end while
+                }
+                 // set classifications
+                 List<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> omrsclassifications = omrsEntityDetail.getClassifications() ;
+                 if (omrsclassifications != null && !omrsclassifications.isEmpty()){
+                    for (org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification omrsClassification:omrsclassifications) {
+                        String omrsClassificationName = omrsClassification.getName();
+                        ClassificationBean classificationBean = ClassificationBeanFactory.getClassificationBean(omrsClassificationName,omrsClassification);
+                        if (classificationBean !=null) {
+                            // this is a classification we know about.
+                            if ( aPISchemaType.classifications==null) {
+                                 aPISchemaType.classifications = new ArrayList<>();
+                            }
+                            aPISchemaType.classifications.add(classificationBean);
+
+                        } else {
+                            if (null==aPISchemaType.getExtraClassificationBeans())  {
+                                 aPISchemaType.setExtraClassificationBeans(new HashMap<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification>());
+                            }
+                            aPISchemaType.getExtraClassificationBeans().put(omrsClassificationName,omrsClassification);
+                        }
+                    }
+                 }
+                 return aPISchemaType;
+            } else {
+                // TODO wrong entity type for this guid
+            }
+            return null;
+    }
+    /**
+     * Map (convert) the supplied APISchemaType to an entityDetails.
+     * @param  aPISchemaType  supplied APISchemaType
+     * @return  entityDetails equivalent to aPISchemaType
+     */
+    static public EntityDetail mapAPISchemaTypeToOmrsEntityDetail(APISchemaType aPISchemaType) {
+            EntityDetail omrsEntityDetail = new EntityDetail();
+            SystemAttributes systemAttributes = aPISchemaType.getSystemAttributes();
+            if (systemAttributes!=null) {
+                   if (systemAttributes.getCreatedBy()!=null)
+                        omrsEntityDetail.setCreatedBy(systemAttributes.getCreatedBy());
+                   if (systemAttributes.getUpdatedBy()!=null)
+                        omrsEntityDetail.setUpdatedBy(systemAttributes.getUpdatedBy());
+                   if (systemAttributes.getCreateTime()!=null)
+                        omrsEntityDetail.setCreateTime(systemAttributes.getCreateTime());
+                   if (systemAttributes.getUpdateTime()!=null)
+                        omrsEntityDetail.setUpdateTime(systemAttributes.getUpdateTime());
+                   if (systemAttributes.getVersion()!=null)
+                        omrsEntityDetail.setVersion(systemAttributes.getVersion());
+                   if (systemAttributes.getGUID()!=null)
+                        omrsEntityDetail.setGUID(systemAttributes.getGUID());
+                   if (systemAttributes.getStatus()!=null) {
+                        omrsEntityDetail.setStatus(systemAttributes.getStatus());
+                   }
+            }
+
+            InstanceProperties instanceProperties = new InstanceProperties();
+            instanceProperties.setEffectiveFromTime(aPISchemaType.getEffectiveFromTime());
+            instanceProperties.setEffectiveToTime(aPISchemaType.getEffectiveToTime());
+            // primitives
+
+            if (aPISchemaType.getNamespace()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(aPISchemaType.getNamespace());
+                instanceProperties.setProperty("namespace", primitivePropertyValue);
+            }
+            if (aPISchemaType.getVersionNumber()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(aPISchemaType.getVersionNumber());
+                instanceProperties.setProperty("versionNumber", primitivePropertyValue);
+            }
+            if (aPISchemaType.getAuthor()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(aPISchemaType.getAuthor());
+                instanceProperties.setProperty("author", primitivePropertyValue);
+            }
+            if (aPISchemaType.getUsage()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(aPISchemaType.getUsage());
+                instanceProperties.setProperty("usage", primitivePropertyValue);
+            }
+            if (aPISchemaType.getEncodingStandard()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(aPISchemaType.getEncodingStandard());
+                instanceProperties.setProperty("encodingStandard", primitivePropertyValue);
+            }
+            if (aPISchemaType.getAnchorGUID()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(aPISchemaType.getAnchorGUID());
+                instanceProperties.setProperty("anchorGUID", primitivePropertyValue);
+            }
+            if (aPISchemaType.getDisplayName()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(aPISchemaType.getDisplayName());
+                instanceProperties.setProperty("displayName", primitivePropertyValue);
+            }
+            if (aPISchemaType.getDescription()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(aPISchemaType.getDescription());
+                instanceProperties.setProperty("description", primitivePropertyValue);
+            }
+            if (aPISchemaType.getQualifiedName()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(aPISchemaType.getQualifiedName());
+                instanceProperties.setProperty("qualifiedName", primitivePropertyValue);
+            }
+            if (aPISchemaType.getAdditionalProperties()!=null) {
+
+                Map<String,String> map =aPISchemaType.getAdditionalProperties();
+                MapPropertyValue mapPropertyValue = new MapPropertyValue();
+
+                for (String key:map.keySet()) {
+                   PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                   primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                   primitivePropertyValue.setPrimitiveValue(map.get(key));
+                   mapPropertyValue.setMapValue(key,primitivePropertyValue);
+                }
+
+                instanceProperties.setProperty("additionalProperties", mapPropertyValue);
+            }
+            omrsEntityDetail.setProperties(instanceProperties);
+            // set the type in the entity
+            OpenMetadataTypesArchiveAccessor archiveAccessor = OpenMetadataTypesArchiveAccessor.getInstance();
+            TypeDef typeDef = archiveAccessor.getEntityDefByName("APISchemaType");
+            InstanceType template = archiveAccessor.createTemplateFromTypeDef(typeDef);
+            InstanceType instanceType = new InstanceType(template);
+            omrsEntityDetail.setType(instanceType);
+
+            // map the classifications
+            populateOmrsEntityWithClassificationBeans(omrsEntityDetail,(List<ClassificationBean>)aPISchemaType.getClassificationBeans());
+            return omrsEntityDetail;
+    }
+
+    private static void populateOmrsEntityWithClassificationBeans(EntityDetail omrsEntityDetail, List<ClassificationBean> classificationBeans) {
+        if (classificationBeans!= null && classificationBeans.size()>0) {
+            ArrayList<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> omrsClassifications = new ArrayList<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification>();
+            for (ClassificationBean classificationBean : classificationBeans) {
+                SystemAttributes systemAttributes = classificationBean.getSystemAttributes();
+                org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification omrsClassification = new org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification();
+
+                if (systemAttributes != null) {
+                    if (systemAttributes.getCreatedBy() != null)
+                        omrsClassification.setCreatedBy(systemAttributes.getCreatedBy());
+                    if (systemAttributes.getUpdatedBy() != null)
+                        omrsClassification.setUpdatedBy(systemAttributes.getUpdatedBy());
+                    if (systemAttributes.getCreateTime() != null)
+                        omrsClassification.setCreateTime(systemAttributes.getCreateTime());
+                    if (systemAttributes.getUpdateTime() != null)
+                        omrsClassification.setUpdateTime(systemAttributes.getUpdateTime());
+                    if (systemAttributes.getVersion() != null)
+                        omrsClassification.setVersion(systemAttributes.getVersion());
+                }
+                // copy over the classification name
+                omrsClassification.setName(classificationBean.getClassificationName());
+                // copy over the classification properties
+                omrsClassification.setProperties( classificationBean.obtainInstanceProperties());
+                omrsClassifications.add(omrsClassification);
+            }
+            omrsEntityDetail.setClassifications(omrsClassifications);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.entities.ActorProfile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveAccessor;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.classifications.ClassificationBeanFactory;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+/**
+ * Static mapping methods to map between ActorProfile and the omrs equivalents.
+ */
+public class ActorProfileMapper {
+    private static final Logger log = LoggerFactory.getLogger( ActorProfileMapper.class);
+    private static final String className = ActorProfileMapper.class.getName();
+   /**
+    * @param omrsEntityDetail the supplied EntityDetail
+    * @return equivalent ActorProfile
+    */
+   static public ActorProfile mapOmrsEntityDetailToActorProfile(EntityDetail omrsEntityDetail) throws InvalidParameterException {
+        String entityTypeName = omrsEntityDetail.getType().getTypeDefName();
+        if ("ActorProfile".equals(entityTypeName)) {
+                ActorProfile actorProfile = new ActorProfile();
+                //set core attributes
+                SystemAttributes systemAttributes = new SystemAttributes();
+                systemAttributes.setStatus(omrsEntityDetail.getStatus());
+
+                systemAttributes.setCreatedBy(omrsEntityDetail.getCreatedBy());
+                systemAttributes.setUpdatedBy(omrsEntityDetail.getUpdatedBy());
+                systemAttributes.setCreateTime(omrsEntityDetail.getCreateTime());
+                systemAttributes.setUpdateTime(omrsEntityDetail.getUpdateTime());
+                systemAttributes.setVersion(omrsEntityDetail.getVersion());
+                systemAttributes.setGUID(omrsEntityDetail.getGUID());
+                actorProfile.setSystemAttributes(systemAttributes);
+
+                // Set properties
+                InstanceProperties omrsEntityDetailProperties = omrsEntityDetail.getProperties();
+                if (omrsEntityDetailProperties!=null) {
+                  omrsEntityDetailProperties.setEffectiveFromTime(actorProfile.getEffectiveFromTime());
+                  omrsEntityDetailProperties.setEffectiveToTime(actorProfile.getEffectiveToTime());
+                  Iterator omrsPropertyIterator = omrsEntityDetailProperties.getPropertyNames();
+
+                  while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsEntityDetailProperties.getPropertyValue(name);
+
+                    // supplied guid matches the expected type
+
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                        case PRIMITIVE:
+                            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                            actualValue = primitivePropertyValue.getPrimitiveValue();
+                            if (ActorProfile.getAttributePropertyNames().contains(name)) {
+                               if (name.equals("name")) {
+                                   actorProfile.setName((String)actualValue);
+                               }
+                               if (name.equals("description")) {
+                                   actorProfile.setDescription((String)actualValue);
+                               }
+                               if (name.equals("qualifiedName")) {
+                                   actorProfile.setQualifiedName((String)actualValue);
+                               }
+                            } else {
+                                // put out the omrs value object
+                                if (null==actorProfile.getExtraAttributes())  {
+                                     actorProfile.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                               actorProfile.getExtraAttributes().put(name, primitivePropertyValue);
+                            }
+                            break;
+                        case ENUM:
+                            EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                            String symbolicName = enumPropertyValue.getSymbolicName();
+                            if (ActorProfile.getEnumPropertyNames().contains(name)) {
+                            } else {
+                                // put out the omrs value object
+                                if (null==actorProfile.getExtraAttributes())  {
+                                     actorProfile.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                                 actorProfile.getExtraAttributes().put(name, enumPropertyValue);
+                             }
+
+                            break;
+                        case MAP:
+                            if (ActorProfile.getMapPropertyNames().contains(name)) {
+                                 MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                 InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                                 if (name.equals("additionalProperties")) {
+
+                                       // Only support Map<String,String> as that is what is in the archive types at this time.
+                                       Map<String, String> actualMap = new HashMap();
+                                       Iterator iter = instancePropertyForMap.getPropertyNames();
+                                       while (iter.hasNext()) {
+                                           String mapkey = (String) iter.next();
+                                           PrimitivePropertyValue primitivePropertyMapValue = (PrimitivePropertyValue) instancePropertyForMap.getPropertyValue(mapkey);
+                                           String mapvalue = (String) primitivePropertyMapValue.getPrimitiveValue();
+                                           actualMap.put(mapkey, mapvalue);
+                                       }
+                                       actorProfile.setAdditionalProperties(actualMap);
+                                 }
+                               }
+                               break;
+                        case ARRAY:
+                        case STRUCT:
+                        case UNKNOWN:
+                            // error
+                            break;
+                    }
+
+                  }   // end while
+                }
+                 // set classifications
+                 List<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> omrsclassifications = omrsEntityDetail.getClassifications() ;
+                 if (omrsclassifications != null && !omrsclassifications.isEmpty()){
+                    for (org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification omrsClassification:omrsclassifications) {
+                        String omrsClassificationName = omrsClassification.getName();
+                        ClassificationBean classificationBean = ClassificationBeanFactory.getClassificationBean(omrsClassificationName,omrsClassification);
+                        if (classificationBean !=null) {
+                            // this is a classification we know about.
+                            if ( actorProfile.classifications==null) {
+                                 actorProfile.classifications = new ArrayList<>();
+                            }
+                            actorProfile.classifications.add(classificationBean);
+
+                        } else {
+                            if (null==actorProfile.getExtraClassificationBeans())  {
+                                 actorProfile.setExtraClassificationBeans(new HashMap<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification>());
+                            }
+                            actorProfile.getExtraClassificationBeans().put(omrsClassificationName,omrsClassification);
+                        }
+                    }
+                 }
+                 return actorProfile;
+            } else {
+                // TODO wrong entity type for this guid
+            }
+            return null;
+    }
+    /**
+     * Map (convert) the supplied ActorProfile to an entityDetails.
+     * @param  actorProfile  supplied ActorProfile
+     * @return  entityDetails equivalent to actorProfile
+     */
+    static public EntityDetail mapActorProfileToOmrsEntityDetail(ActorProfile actorProfile) {
+            EntityDetail omrsEntityDetail = new EntityDetail();
+            SystemAttributes systemAttributes = actorProfile.getSystemAttributes();
+            if (systemAttributes!=null) {
+                   if (systemAttributes.getCreatedBy()!=null)
+                        omrsEntityDetail.setCreatedBy(systemAttributes.getCreatedBy());
+                   if (systemAttributes.getUpdatedBy()!=null)
+                        omrsEntityDetail.setUpdatedBy(systemAttributes.getUpdatedBy());
+                   if (systemAttributes.getCreateTime()!=null)
+                        omrsEntityDetail.setCreateTime(systemAttributes.getCreateTime());
+                   if (systemAttributes.getUpdateTime()!=null)
+                        omrsEntityDetail.setUpdateTime(systemAttributes.getUpdateTime());
+                   if (systemAttributes.getVersion()!=null)
+                        omrsEntityDetail.setVersion(systemAttributes.getVersion());
+                   if (systemAttributes.getGUID()!=null)
+                        omrsEntityDetail.setGUID(systemAttributes.getGUID());
+                   if (systemAttributes.getStatus()!=null) {
+                        omrsEntityDetail.setStatus(systemAttributes.getStatus());
+                   }
+            }
+
+            InstanceProperties instanceProperties = new InstanceProperties();
+            instanceProperties.setEffectiveFromTime(actorProfile.getEffectiveFromTime());
+            instanceProperties.setEffectiveToTime(actorProfile.getEffectiveToTime());
+            // primitives
+
+            if (actorProfile.getName()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(actorProfile.getName());
+                instanceProperties.setProperty("name", primitivePropertyValue);
+            }
+            if (actorProfile.getDescription()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(actorProfile.getDescription());
+                instanceProperties.setProperty("description", primitivePropertyValue);
+            }
+            if (actorProfile.getQualifiedName()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(actorProfile.getQualifiedName());
+                instanceProperties.setProperty("qualifiedName", primitivePropertyValue);
+            }
+            if (actorProfile.getAdditionalProperties()!=null) {
+
+                Map<String,String> map =actorProfile.getAdditionalProperties();
+                MapPropertyValue mapPropertyValue = new MapPropertyValue();
+
+                for (String key:map.keySet()) {
+                   PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                   primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                   primitivePropertyValue.setPrimitiveValue(map.get(key));
+                   mapPropertyValue.setMapValue(key,primitivePropertyValue);
+                }
+
+                instanceProperties.setProperty("additionalProperties", mapPropertyValue);
+            }
+            omrsEntityDetail.setProperties(instanceProperties);
+            // set the type in the entity
+            OpenMetadataTypesArchiveAccessor archiveAccessor = OpenMetadataTypesArchiveAccessor.getInstance();
+            TypeDef typeDef = archiveAccessor.getEntityDefByName("ActorProfile");
+            InstanceType template = archiveAccessor.createTemplateFromTypeDef(typeDef);
+            InstanceType instanceType = new InstanceType(template);
+            omrsEntityDetail.setType(instanceType);
+
+            // map the classifications
+            populateOmrsEntityWithClassificationBeans(omrsEntityDetail,(List<ClassificationBean>)actorProfile.getClassificationBeans());
+            return omrsEntityDetail;
+    }
+
+    private static void populateOmrsEntityWithClassificationBeans(EntityDetail omrsEntityDetail, List<ClassificationBean> classificationBeans) {
+        if (classificationBeans!= null && classificationBeans.size()>0) {
+            ArrayList<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> omrsClassifications = new ArrayList<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification>();
+            for (ClassificationBean classificationBean : classificationBeans) {
+                SystemAttributes systemAttributes = classificationBean.getSystemAttributes();
+                org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification omrsClassification = new org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification();
+
+                if (systemAttributes != null) {
+                    if (systemAttributes.getCreatedBy() != null)
+                        omrsClassification.setCreatedBy(systemAttributes.getCreatedBy());
+                    if (systemAttributes.getUpdatedBy() != null)
+                        omrsClassification.setUpdatedBy(systemAttributes.getUpdatedBy());
+                    if (systemAttributes.getCreateTime() != null)
+                        omrsClassification.setCreateTime(systemAttributes.getCreateTime());
+                    if (systemAttributes.getUpdateTime() != null)
+                        omrsClassification.setUpdateTime(systemAttributes.getUpdateTime());
+                    if (systemAttributes.getVersion() != null)
+                        omrsClassification.setVersion(systemAttributes.getVersion());
+                }
+                // copy over the classification name
+                omrsClassification.setName(classificationBean.getClassificationName());
+                // copy over the classification properties
+                omrsClassification.setProperties( classificationBean.obtainInstanceProperties());
+                omrsClassifications.add(omrsClassification);
+            }
+            omrsEntityDetail.setClassifications(omrsClassifications);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.entities.Annotation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveAccessor;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.classifications.ClassificationBeanFactory;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+/**
+ * Static mapping methods to map between Annotation and the omrs equivalents.
+ */
+public class AnnotationMapper {
+    private static final Logger log = LoggerFactory.getLogger( AnnotationMapper.class);
+    private static final String className = AnnotationMapper.class.getName();
+   /**
+    * @param omrsEntityDetail the supplied EntityDetail
+    * @return equivalent Annotation
+    */
+   static public Annotation mapOmrsEntityDetailToAnnotation(EntityDetail omrsEntityDetail) throws InvalidParameterException {
+        String entityTypeName = omrsEntityDetail.getType().getTypeDefName();
+        if ("Annotation".equals(entityTypeName)) {
+                Annotation annotation = new Annotation();
+                //set core attributes
+                SystemAttributes systemAttributes = new SystemAttributes();
+                systemAttributes.setStatus(omrsEntityDetail.getStatus());
+
+                systemAttributes.setCreatedBy(omrsEntityDetail.getCreatedBy());
+                systemAttributes.setUpdatedBy(omrsEntityDetail.getUpdatedBy());
+                systemAttributes.setCreateTime(omrsEntityDetail.getCreateTime());
+                systemAttributes.setUpdateTime(omrsEntityDetail.getUpdateTime());
+                systemAttributes.setVersion(omrsEntityDetail.getVersion());
+                systemAttributes.setGUID(omrsEntityDetail.getGUID());
+                annotation.setSystemAttributes(systemAttributes);
+
+                // Set properties
+                InstanceProperties omrsEntityDetailProperties = omrsEntityDetail.getProperties();
+                if (omrsEntityDetailProperties!=null) {
+                  omrsEntityDetailProperties.setEffectiveFromTime(annotation.getEffectiveFromTime());
+                  omrsEntityDetailProperties.setEffectiveToTime(annotation.getEffectiveToTime());
+                  Iterator omrsPropertyIterator = omrsEntityDetailProperties.getPropertyNames();
+
+                  while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsEntityDetailProperties.getPropertyValue(name);
+
+                    // supplied guid matches the expected type
+
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                        case PRIMITIVE:
+                            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                            actualValue = primitivePropertyValue.getPrimitiveValue();
+                            if (Annotation.getAttributePropertyNames().contains(name)) {
+                               if (name.equals("annotationType")) {
+                                   annotation.setAnnotationType((String)actualValue);
+                               }
+                               if (name.equals("summary")) {
+                                   annotation.setSummary((String)actualValue);
+                               }
+                               if (name.equals("confidenceLevel")) {
+                                   annotation.setConfidenceLevel((Integer)actualValue);
+                               }
+                               if (name.equals("expression")) {
+                                   annotation.setExpression((String)actualValue);
+                               }
+                               if (name.equals("explanation")) {
+                                   annotation.setExplanation((String)actualValue);
+                               }
+                               if (name.equals("analysisStep")) {
+                                   annotation.setAnalysisStep((String)actualValue);
+                               }
+                               if (name.equals("jsonProperties")) {
+                                   annotation.setJsonProperties((String)actualValue);
+                               }
+                               if (name.equals("anchorGUID")) {
+                                   annotation.setAnchorGUID((String)actualValue);
+                               }
+                            } else {
+                                // put out the omrs value object
+                                if (null==annotation.getExtraAttributes())  {
+                                     annotation.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                               annotation.getExtraAttributes().put(name, primitivePropertyValue);
+                            }
+                            break;
+                        case ENUM:
+                            EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                            String symbolicName = enumPropertyValue.getSymbolicName();
+                            if (Annotation.getEnumPropertyNames().contains(name)) {
+                            } else {
+                                // put out the omrs value object
+                                if (null==annotation.getExtraAttributes())  {
+                                     annotation.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                                 annotation.getExtraAttributes().put(name, enumPropertyValue);
+                             }
+
+                            break;
+                        case MAP:
+                            if (Annotation.getMapPropertyNames().contains(name)) {
+                                 MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                 InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                                 if (name.equals("additionalProperties")) {
+
+                                       // Only support Map<String,String> as that is what is in the archive types at this time.
+                                       Map<String, String> actualMap = new HashMap();
+                                       Iterator iter = instancePropertyForMap.getPropertyNames();
+                                       while (iter.hasNext()) {
+                                           String mapkey = (String) iter.next();
+                                           PrimitivePropertyValue primitivePropertyMapValue = (PrimitivePropertyValue) instancePropertyForMap.getPropertyValue(mapkey);
+                                           String mapvalue = (String) primitivePropertyMapValue.getPrimitiveValue();
+                                           actualMap.put(mapkey, mapvalue);
+                                       }
+                                       annotation.setAdditionalProperties(actualMap);
+                                 }
+                               }
+                               break;
+                        case ARRAY:
+                        case STRUCT:
+                        case UNKNOWN:
+                            // error
+                            break;
+                    }
+
+                  }   // end while
+                }
+                 // set classifications
+                 List<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> omrsclassifications = omrsEntityDetail.getClassifications() ;
+                 if (omrsclassifications != null && !omrsclassifications.isEmpty()){
+                    for (org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification omrsClassification:omrsclassifications) {
+                        String omrsClassificationName = omrsClassification.getName();
+                        ClassificationBean classificationBean = ClassificationBeanFactory.getClassificationBean(omrsClassificationName,omrsClassification);
+                        if (classificationBean !=null) {
+                            // this is a classification we know about.
+                            if ( annotation.classifications==null) {
+                                 annotation.classifications = new ArrayList<>();
+                            }
+                            annotation.classifications.add(classificationBean);
+
+                        } else {
+                            if (null==annotation.getExtraClassificationBeans())  {
+                                 annotation.setExtraClassificationBeans(new HashMap<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification>());
+                            }
+                            annotation.getExtraClassificationBeans().put(omrsClassificationName,omrsClassification);
+                        }
+                    }
+                 }
+                 return annotation;
+            } else {
+                // TODO wrong entity type for this guid
+            }
+            return null;
+    }
+    /**
+     * Map (convert) the supplied Annotation to an entityDetails.
+     * @param  annotation  supplied Annotation
+     * @return  entityDetails equivalent to annotation
+     */
+    static public EntityDetail mapAnnotationToOmrsEntityDetail(Annotation annotation) {
+            EntityDetail omrsEntityDetail = new EntityDetail();
+            SystemAttributes systemAttributes = annotation.getSystemAttributes();
+            if (systemAttributes!=null) {
+                   if (systemAttributes.getCreatedBy()!=null)
+                        omrsEntityDetail.setCreatedBy(systemAttributes.getCreatedBy());
+                   if (systemAttributes.getUpdatedBy()!=null)
+                        omrsEntityDetail.setUpdatedBy(systemAttributes.getUpdatedBy());
+                   if (systemAttributes.getCreateTime()!=null)
+                        omrsEntityDetail.setCreateTime(systemAttributes.getCreateTime());
+                   if (systemAttributes.getUpdateTime()!=null)
+                        omrsEntityDetail.setUpdateTime(systemAttributes.getUpdateTime());
+                   if (systemAttributes.getVersion()!=null)
+                        omrsEntityDetail.setVersion(systemAttributes.getVersion());
+                   if (systemAttributes.getGUID()!=null)
+                        omrsEntityDetail.setGUID(systemAttributes.getGUID());
+                   if (systemAttributes.getStatus()!=null) {
+                        omrsEntityDetail.setStatus(systemAttributes.getStatus());
+                   }
+            }
+
+            InstanceProperties instanceProperties = new InstanceProperties();
+            instanceProperties.setEffectiveFromTime(annotation.getEffectiveFromTime());
+            instanceProperties.setEffectiveToTime(annotation.getEffectiveToTime());
+            // primitives
+
+            if (annotation.getAnnotationType()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(annotation.getAnnotationType());
+                instanceProperties.setProperty("annotationType", primitivePropertyValue);
+            }
+            if (annotation.getSummary()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(annotation.getSummary());
+                instanceProperties.setProperty("summary", primitivePropertyValue);
+            }
+            if (annotation.getConfidenceLevel()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT);
+                primitivePropertyValue.setPrimitiveValue(annotation.getConfidenceLevel());
+                instanceProperties.setProperty("confidenceLevel", primitivePropertyValue);
+            }
+            if (annotation.getExpression()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(annotation.getExpression());
+                instanceProperties.setProperty("expression", primitivePropertyValue);
+            }
+            if (annotation.getExplanation()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(annotation.getExplanation());
+                instanceProperties.setProperty("explanation", primitivePropertyValue);
+            }
+            if (annotation.getAnalysisStep()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(annotation.getAnalysisStep());
+                instanceProperties.setProperty("analysisStep", primitivePropertyValue);
+            }
+            if (annotation.getJsonProperties()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(annotation.getJsonProperties());
+                instanceProperties.setProperty("jsonProperties", primitivePropertyValue);
+            }
+            if (annotation.getAnchorGUID()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(annotation.getAnchorGUID());
+                instanceProperties.setProperty("anchorGUID", primitivePropertyValue);
+            }
+            if (annotation.getAdditionalProperties()!=null) {
+
+                Map<String,String> map =annotation.getAdditionalProperties();
+                MapPropertyValue mapPropertyValue = new MapPropertyValue();
+
+                for (String key:map.keySet()) {
+                   PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                   primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                   primitivePropertyValue.setPrimitiveValue(map.get(key));
+                   mapPropertyValue.setMapValue(key,primitivePropertyValue);
+                }
+
+                instanceProperties.setProperty("additionalProperties", mapPropertyValue);
+            }
+            omrsEntityDetail.setProperties(instanceProperties);
+            // set the type in the entity
+            OpenMetadataTypesArchiveAccessor archiveAccessor = OpenMetadataTypesArchiveAccessor.getInstance();
+            TypeDef typeDef = archiveAccessor.getEntityDefByName("Annotation");
+            InstanceType template = archiveAccessor.createTemplateFromTypeDef(typeDef);
+            InstanceType instanceType = new InstanceType(template);
+            omrsEntityDetail.setType(instanceType);
+
+            // map the classifications
+            populateOmrsEntityWithClassificationBeans(omrsEntityDetail,(List<ClassificationBean>)annotation.getClassificationBeans());
+            return omrsEntityDetail;
+    }
+
+    private static void populateOmrsEntityWithClassificationBeans(EntityDetail omrsEntityDetail, List<ClassificationBean> classificationBeans) {
+        if (classificationBeans!= null && classificationBeans.size()>0) {
+            ArrayList<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> omrsClassifications = new ArrayList<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification>();
+            for (ClassificationBean classificationBean : classificationBeans) {
+                SystemAttributes systemAttributes = classificationBean.getSystemAttributes();
+                org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification omrsClassification = new org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification();
+
+                if (systemAttributes != null) {
+                    if (systemAttributes.getCreatedBy() != null)
+                        omrsClassification.setCreatedBy(systemAttributes.getCreatedBy());
+                    if (systemAttributes.getUpdatedBy() != null)
+                        omrsClassification.setUpdatedBy(systemAttributes.getUpdatedBy());
+                    if (systemAttributes.getCreateTime() != null)
+                        omrsClassification.setCreateTime(systemAttributes.getCreateTime());
+                    if (systemAttributes.getUpdateTime() != null)
+                        omrsClassification.setUpdateTime(systemAttributes.getUpdateTime());
+                    if (systemAttributes.getVersion() != null)
+                        omrsClassification.setVersion(systemAttributes.getVersion());
+                }
+                // copy over the classification name
+                omrsClassification.setName(classificationBean.getClassificationName());
+                // copy over the classification properties
+                omrsClassification.setProperties( classificationBean.obtainInstanceProperties());
+                omrsClassifications.add(omrsClassification);
+            }
+            omrsEntityDetail.setClassifications(omrsClassifications);
+        }
+    }
+}
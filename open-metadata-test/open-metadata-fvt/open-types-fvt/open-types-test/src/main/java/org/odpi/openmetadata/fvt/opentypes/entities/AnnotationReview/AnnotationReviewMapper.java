@@ -0,0 +1,231 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.entities.AnnotationReview;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveAccessor;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.classifications.ClassificationBeanFactory;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+/**
+ * Static mapping methods to map between AnnotationReview and the omrs equivalents.
+ */
+public class AnnotationReviewMapper {
+    private static final Logger log = LoggerFactory.getLogger( AnnotationReviewMapper.class);
+    private static final String className = AnnotationReviewMapper.class.getName();
+   /**
+    * @param omrsEntityDetail the supplied EntityDetail
+    * @return equivalent AnnotationReview
+    */
+   static public AnnotationReview mapOmrsEntityDetailToAnnotationReview(EntityDetail omrsEntityDetail) throws InvalidParameterException {
+        String entityTypeName = omrsEntityDetail.getType().getTypeDefName();
+        if ("AnnotationReview".equals(entityTypeName)) {
+                AnnotationReview annotationReview = new AnnotationReview();
+                //set core attributes
+                SystemAttributes systemAttributes = new SystemAttributes();
+                systemAttributes.setStatus(omrsEntityDetail.getStatus());
+
+                systemAttributes.setCreatedBy(omrsEntityDetail.getCreatedBy());
+                systemAttributes.setUpdatedBy(omrsEntityDetail.getUpdatedBy());
+                systemAttributes.setCreateTime(omrsEntityDetail.getCreateTime());
+                systemAttributes.setUpdateTime(omrsEntityDetail.getUpdateTime());
+                systemAttributes.setVersion(omrsEntityDetail.getVersion());
+                systemAttributes.setGUID(omrsEntityDetail.getGUID());
+                annotationReview.setSystemAttributes(systemAttributes);
+
+                // Set properties
+                InstanceProperties omrsEntityDetailProperties = omrsEntityDetail.getProperties();
+                if (omrsEntityDetailProperties!=null) {
+                  omrsEntityDetailProperties.setEffectiveFromTime(annotationReview.getEffectiveFromTime());
+                  omrsEntityDetailProperties.setEffectiveToTime(annotationReview.getEffectiveToTime());
+                  Iterator omrsPropertyIterator = omrsEntityDetailProperties.getPropertyNames();
+
+                  while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsEntityDetailProperties.getPropertyValue(name);
+
+                    // supplied guid matches the expected type
+
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                        case PRIMITIVE:
+                            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                            actualValue = primitivePropertyValue.getPrimitiveValue();
+                            if (AnnotationReview.getAttributePropertyNames().contains(name)) {
+                               if (name.equals("reviewDate")) {
+                                   annotationReview.setReviewDate((java.util.Date)actualValue);
+                               }
+                               if (name.equals("steward")) {
+                                   annotationReview.setSteward((String)actualValue);
+                               }
+                               if (name.equals("comment")) {
+                                   annotationReview.setComment((String)actualValue);
+                               }
+                            } else {
+                                // put out the omrs value object
+                                if (null==annotationReview.getExtraAttributes())  {
+                                     annotationReview.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                               annotationReview.getExtraAttributes().put(name, primitivePropertyValue);
+                            }
+                            break;
+                        case ENUM:
+                            EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                            String symbolicName = enumPropertyValue.getSymbolicName();
+                            if (AnnotationReview.getEnumPropertyNames().contains(name)) {
+                            } else {
+                                // put out the omrs value object
+                                if (null==annotationReview.getExtraAttributes())  {
+                                     annotationReview.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                                 annotationReview.getExtraAttributes().put(name, enumPropertyValue);
+                             }
+
+                            break;
+                        case MAP:
+                            if (AnnotationReview.getMapPropertyNames().contains(name)) {
+                                 MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                 InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                               }
+                               break;
+                        case ARRAY:
+                        case STRUCT:
+                        case UNKNOWN:
+                            // error
+                            break;
+                    }
+
+                  }   // end while
+                }
+                 // set classifications
+                 List<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> omrsclassifications = omrsEntityDetail.getClassifications() ;
+                 if (omrsclassifications != null && !omrsclassifications.isEmpty()){
+                    for (org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification omrsClassification:omrsclassifications) {
+                        String omrsClassificationName = omrsClassification.getName();
+                        ClassificationBean classificationBean = ClassificationBeanFactory.getClassificationBean(omrsClassificationName,omrsClassification);
+                        if (classificationBean !=null) {
+                            // this is a classification we know about.
+                            if ( annotationReview.classifications==null) {
+                                 annotationReview.classifications = new ArrayList<>();
+                            }
+                            annotationReview.classifications.add(classificationBean);
+
+                        } else {
+                            if (null==annotationReview.getExtraClassificationBeans())  {
+                                 annotationReview.setExtraClassificationBeans(new HashMap<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification>());
+                            }
+                            annotationReview.getExtraClassificationBeans().put(omrsClassificationName,omrsClassification);
+                        }
+                    }
+                 }
+                 return annotationReview;
+            } else {
+                // TODO wrong entity type for this guid
+            }
+            return null;
+    }
+    /**
+     * Map (convert) the supplied AnnotationReview to an entityDetails.
+     * @param  annotationReview  supplied AnnotationReview
+     * @return  entityDetails equivalent to annotationReview
+     */
+    static public EntityDetail mapAnnotationReviewToOmrsEntityDetail(AnnotationReview annotationReview) {
+            EntityDetail omrsEntityDetail = new EntityDetail();
+            SystemAttributes systemAttributes = annotationReview.getSystemAttributes();
+            if (systemAttributes!=null) {
+                   if (systemAttributes.getCreatedBy()!=null)
+                        omrsEntityDetail.setCreatedBy(systemAttributes.getCreatedBy());
+                   if (systemAttributes.getUpdatedBy()!=null)
+                        omrsEntityDetail.setUpdatedBy(systemAttributes.getUpdatedBy());
+                   if (systemAttributes.getCreateTime()!=null)
+                        omrsEntityDetail.setCreateTime(systemAttributes.getCreateTime());
+                   if (systemAttributes.getUpdateTime()!=null)
+                        omrsEntityDetail.setUpdateTime(systemAttributes.getUpdateTime());
+                   if (systemAttributes.getVersion()!=null)
+                        omrsEntityDetail.setVersion(systemAttributes.getVersion());
+                   if (systemAttributes.getGUID()!=null)
+                        omrsEntityDetail.setGUID(systemAttributes.getGUID());
+                   if (systemAttributes.getStatus()!=null) {
+                        omrsEntityDetail.setStatus(systemAttributes.getStatus());
+                   }
+            }
+
+            InstanceProperties instanceProperties = new InstanceProperties();
+            instanceProperties.setEffectiveFromTime(annotationReview.getEffectiveFromTime());
+            instanceProperties.setEffectiveToTime(annotationReview.getEffectiveToTime());
+            // primitives
+
+            if (annotationReview.getReviewDate()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_DATE);
+                primitivePropertyValue.setPrimitiveValue(annotationReview.getReviewDate());
+                instanceProperties.setProperty("reviewDate", primitivePropertyValue);
+            }
+            if (annotationReview.getSteward()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(annotationReview.getSteward());
+                instanceProperties.setProperty("steward", primitivePropertyValue);
+            }
+            if (annotationReview.getComment()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(annotationReview.getComment());
+                instanceProperties.setProperty("comment", primitivePropertyValue);
+            }
+            omrsEntityDetail.setProperties(instanceProperties);
+            // set the type in the entity
+            OpenMetadataTypesArchiveAccessor archiveAccessor = OpenMetadataTypesArchiveAccessor.getInstance();
+            TypeDef typeDef = archiveAccessor.getEntityDefByName("AnnotationReview");
+            InstanceType template = archiveAccessor.createTemplateFromTypeDef(typeDef);
+            InstanceType instanceType = new InstanceType(template);
+            omrsEntityDetail.setType(instanceType);
+
+            // map the classifications
+            populateOmrsEntityWithClassificationBeans(omrsEntityDetail,(List<ClassificationBean>)annotationReview.getClassificationBeans());
+            return omrsEntityDetail;
+    }
+
+    private static void populateOmrsEntityWithClassificationBeans(EntityDetail omrsEntityDetail, List<ClassificationBean> classificationBeans) {
+        if (classificationBeans!= null && classificationBeans.size()>0) {
+            ArrayList<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> omrsClassifications = new ArrayList<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification>();
+            for (ClassificationBean classificationBean : classificationBeans) {
+                SystemAttributes systemAttributes = classificationBean.getSystemAttributes();
+                org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification omrsClassification = new org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification();
+
+                if (systemAttributes != null) {
+                    if (systemAttributes.getCreatedBy() != null)
+                        omrsClassification.setCreatedBy(systemAttributes.getCreatedBy());
+                    if (systemAttributes.getUpdatedBy() != null)
+                        omrsClassification.setUpdatedBy(systemAttributes.getUpdatedBy());
+                    if (systemAttributes.getCreateTime() != null)
+                        omrsClassification.setCreateTime(systemAttributes.getCreateTime());
+                    if (systemAttributes.getUpdateTime() != null)
+                        omrsClassification.setUpdateTime(systemAttributes.getUpdateTime());
+                    if (systemAttributes.getVersion() != null)
+                        omrsClassification.setVersion(systemAttributes.getVersion());
+                }
+                // copy over the classification name
+                omrsClassification.setName(classificationBean.getClassificationName());
+                // copy over the classification properties
+                omrsClassification.setProperties( classificationBean.obtainInstanceProperties());
+                omrsClassifications.add(omrsClassification);
+            }
+            omrsEntityDetail.setClassifications(omrsClassifications);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.entities.Application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveAccessor;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.classifications.ClassificationBeanFactory;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+/**
+ * Static mapping methods to map between Application and the omrs equivalents.
+ */
+public class ApplicationMapper {
+    private static final Logger log = LoggerFactory.getLogger( ApplicationMapper.class);
+    private static final String className = ApplicationMapper.class.getName();
+   /**
+    * @param omrsEntityDetail the supplied EntityDetail
+    * @return equivalent Application
+    */
+   static public Application mapOmrsEntityDetailToApplication(EntityDetail omrsEntityDetail) throws InvalidParameterException {
+        String entityTypeName = omrsEntityDetail.getType().getTypeDefName();
+        if ("Application".equals(entityTypeName)) {
+                Application application = new Application();
+                //set core attributes
+                SystemAttributes systemAttributes = new SystemAttributes();
+                systemAttributes.setStatus(omrsEntityDetail.getStatus());
+
+                systemAttributes.setCreatedBy(omrsEntityDetail.getCreatedBy());
+                systemAttributes.setUpdatedBy(omrsEntityDetail.getUpdatedBy());
+                systemAttributes.setCreateTime(omrsEntityDetail.getCreateTime());
+                systemAttributes.setUpdateTime(omrsEntityDetail.getUpdateTime());
+                systemAttributes.setVersion(omrsEntityDetail.getVersion());
+                systemAttributes.setGUID(omrsEntityDetail.getGUID());
+                application.setSystemAttributes(systemAttributes);
+
+                // Set properties
+                InstanceProperties omrsEntityDetailProperties = omrsEntityDetail.getProperties();
+                if (omrsEntityDetailProperties!=null) {
+                  omrsEntityDetailProperties.setEffectiveFromTime(application.getEffectiveFromTime());
+                  omrsEntityDetailProperties.setEffectiveToTime(application.getEffectiveToTime());
+                  Iterator omrsPropertyIterator = omrsEntityDetailProperties.getPropertyNames();
+
+                  while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsEntityDetailProperties.getPropertyValue(name);
+
+                    // supplied guid matches the expected type
+
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                        case PRIMITIVE:
+                            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                            actualValue = primitivePropertyValue.getPrimitiveValue();
+                            if (Application.getAttributePropertyNames().contains(name)) {
+                               if (name.equals("name")) {
+                                   application.setName((String)actualValue);
+                               }
+                               if (name.equals("description")) {
+                                   application.setDescription((String)actualValue);
+                               }
+                               if (name.equals("type")) {
+                                   application.setType((String)actualValue);
+                               }
+                               if (name.equals("version")) {
+                                   application.setVersion((String)actualValue);
+                               }
+                               if (name.equals("patchLevel")) {
+                                   application.setPatchLevel((String)actualValue);
+                               }
+                               if (name.equals("source")) {
+                                   application.setSource((String)actualValue);
+                               }
+                               if (name.equals("qualifiedName")) {
+                                   application.setQualifiedName((String)actualValue);
+                               }
+                            } else {
+                                // put out the omrs value object
+                                if (null==application.getExtraAttributes())  {
+                                     application.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                               application.getExtraAttributes().put(name, primitivePropertyValue);
+                            }
+                            break;
+                        case ENUM:
+                            EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                            String symbolicName = enumPropertyValue.getSymbolicName();
+                            if (Application.getEnumPropertyNames().contains(name)) {
+                            } else {
+                                // put out the omrs value object
+                                if (null==application.getExtraAttributes())  {
+                                     application.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                                 application.getExtraAttributes().put(name, enumPropertyValue);
+                             }
+
+                            break;
+                        case MAP:
+                            if (Application.getMapPropertyNames().contains(name)) {
+                                 MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                 InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                                 if (name.equals("additionalProperties")) {
+
+                                       // Only support Map<String,String> as that is what is in the archive types at this time.
+                                       Map<String, String> actualMap = new HashMap();
+                                       Iterator iter = instancePropertyForMap.getPropertyNames();
+                                       while (iter.hasNext()) {
+                                           String mapkey = (String) iter.next();
+                                           PrimitivePropertyValue primitivePropertyMapValue = (PrimitivePropertyValue) instancePropertyForMap.getPropertyValue(mapkey);
+                                           String mapvalue = (String) primitivePropertyMapValue.getPrimitiveValue();
+                                           actualMap.put(mapkey, mapvalue);
+                                       }
+                                       application.setAdditionalProperties(actualMap);
+                                 }
+                               }
+                               break;
+                        case ARRAY:
+                        case STRUCT:
+                        case UNKNOWN:
+                            // error
+                            break;
+                    }
+
+                  }   // end while
+                }
+                 // set classifications
+                 List<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> omrsclassifications = omrsEntityDetail.getClassifications() ;
+                 if (omrsclassifications != null && !omrsclassifications.isEmpty()){
+                    for (org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification omrsClassification:omrsclassifications) {
+                        String omrsClassificationName = omrsClassification.getName();
+                        ClassificationBean classificationBean = ClassificationBeanFactory.getClassificationBean(omrsClassificationName,omrsClassification);
+                        if (classificationBean !=null) {
+                            // this is a classification we know about.
+                            if ( application.classifications==null) {
+                                 application.classifications = new ArrayList<>();
+                            }
+                            application.classifications.add(classificationBean);
+
+                        } else {
+                            if (null==application.getExtraClassificationBeans())  {
+                                 application.setExtraClassificationBeans(new HashMap<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification>());
+                            }
+                            application.getExtraClassificationBeans().put(omrsClassificationName,omrsClassification);
+                        }
+                    }
+                 }
+                 return application;
+            } else {
+                // TODO wrong entity type for this guid
+            }
+            return null;
+    }
+    /**
+     * Map (convert) the supplied Application to an entityDetails.
+     * @param  application  supplied Application
+     * @return  entityDetails equivalent to application
+     */
+    static public EntityDetail mapApplicationToOmrsEntityDetail(Application application) {
+            EntityDetail omrsEntityDetail = new EntityDetail();
+            SystemAttributes systemAttributes = application.getSystemAttributes();
+            if (systemAttributes!=null) {
+                   if (systemAttributes.getCreatedBy()!=null)
+                        omrsEntityDetail.setCreatedBy(systemAttributes.getCreatedBy());
+                   if (systemAttributes.getUpdatedBy()!=null)
+                        omrsEntityDetail.setUpdatedBy(systemAttributes.getUpdatedBy());
+                   if (systemAttributes.getCreateTime()!=null)
+                        omrsEntityDetail.setCreateTime(systemAttributes.getCreateTime());
+                   if (systemAttributes.getUpdateTime()!=null)
+                        omrsEntityDetail.setUpdateTime(systemAttributes.getUpdateTime());
+                   if (systemAttributes.getVersion()!=null)
+                        omrsEntityDetail.setVersion(systemAttributes.getVersion());
+                   if (systemAttributes.getGUID()!=null)
+                        omrsEntityDetail.setGUID(systemAttributes.getGUID());
+                   if (systemAttributes.getStatus()!=null) {
+                        omrsEntityDetail.setStatus(systemAttributes.getStatus());
+                   }
+            }
+
+            InstanceProperties instanceProperties = new InstanceProperties();
+            instanceProperties.setEffectiveFromTime(application.getEffectiveFromTime());
+            instanceProperties.setEffectiveToTime(application.getEffectiveToTime());
+            // primitives
+
+            if (application.getName()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(application.getName());
+                instanceProperties.setProperty("name", primitivePropertyValue);
+            }
+            if (application.getDescription()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(application.getDescription());
+                instanceProperties.setProperty("description", primitivePropertyValue);
+            }
+            if (application.getType()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(application.getType());
+                instanceProperties.setProperty("type", primitivePropertyValue);
+            }
+            if (application.getVersion()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(application.getVersion());
+                instanceProperties.setProperty("version", primitivePropertyValue);
+            }
+            if (application.getPatchLevel()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(application.getPatchLevel());
+                instanceProperties.setProperty("patchLevel", primitivePropertyValue);
+            }
+            if (application.getSource()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(application.getSource());
+                instanceProperties.setProperty("source", primitivePropertyValue);
+            }
+            if (application.getQualifiedName()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(application.getQualifiedName());
+                instanceProperties.setProperty("qualifiedName", primitivePropertyValue);
+            }
+            if (application.getAdditionalProperties()!=null) {
+
+                Map<String,String> map =application.getAdditionalProperties();
+                MapPropertyValue mapPropertyValue = new MapPropertyValue();
+
+                for (String key:map.keySet()) {
+                   PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                   primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                   primitivePropertyValue.setPrimitiveValue(map.get(key));
+                   mapPropertyValue.setMapValue(key,primitivePropertyValue);
+                }
+
+                instanceProperties.setProperty("additionalProperties", mapPropertyValue);
+            }
+            omrsEntityDetail.setProperties(instanceProperties);
+            // set the type in the entity
+            OpenMetadataTypesArchiveAccessor archiveAccessor = OpenMetadataTypesArchiveAccessor.getInstance();
+            TypeDef typeDef = archiveAccessor.getEntityDefByName("Application");
+            InstanceType template = archiveAccessor.createTemplateFromTypeDef(typeDef);
+            InstanceType instanceType = new InstanceType(template);
+            omrsEntityDetail.setType(instanceType);
+
+            // map the classifications
+            populateOmrsEntityWithClassificationBeans(omrsEntityDetail,(List<ClassificationBean>)application.getClassificationBeans());
+            return omrsEntityDetail;
+    }
+
+    private static void populateOmrsEntityWithClassificationBeans(EntityDetail omrsEntityDetail, List<ClassificationBean> classificationBeans) {
+        if (classificationBeans!= null && classificationBeans.size()>0) {
+            ArrayList<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> omrsClassifications = new ArrayList<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification>();
+            for (ClassificationBean classificationBean : classificationBeans) {
+                SystemAttributes systemAttributes = classificationBean.getSystemAttributes();
+                org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification omrsClassification = new org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification();
+
+                if (systemAttributes != null) {
+                    if (systemAttributes.getCreatedBy() != null)
+                        omrsClassification.setCreatedBy(systemAttributes.getCreatedBy());
+                    if (systemAttributes.getUpdatedBy() != null)
+                        omrsClassification.setUpdatedBy(systemAttributes.getUpdatedBy());
+                    if (systemAttributes.getCreateTime() != null)
+                        omrsClassification.setCreateTime(systemAttributes.getCreateTime());
+                    if (systemAttributes.getUpdateTime() != null)
+                        omrsClassification.setUpdateTime(systemAttributes.getUpdateTime());
+                    if (systemAttributes.getVersion() != null)
+                        omrsClassification.setVersion(systemAttributes.getVersion());
+                }
+                // copy over the classification name
+                omrsClassification.setName(classificationBean.getClassificationName());
+                // copy over the classification properties
+                omrsClassification.setProperties( classificationBean.obtainInstanceProperties());
+                omrsClassifications.add(omrsClassification);
+            }
+            omrsEntityDetail.setClassifications(omrsClassifications);
+        }
+    }
+}
@@ -0,0 +1,486 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.entities.BoundedSchemaType;
+
+import java.io.Serializable;
+import java.util.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.odpi.openmetadata.fvt.opentypes.common.SystemAttributes;
+import org.odpi.openmetadata.fvt.opentypes.common.ClassificationBean;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EnumPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.MapPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+
+/**
+ * BoundedSchemaType entity.
+   A schema type that limits the number of values that can be stored.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class  BoundedSchemaType implements Serializable {
+    private static final Logger log = LoggerFactory.getLogger(BoundedSchemaType.class);
+    private static final String className = BoundedSchemaType.class.getName();
+    private SystemAttributes systemAttributes = null;
+    private Date effectiveFromTime = null;
+    private Date effectiveToTime = null;
+    List<ClassificationBean> classifications = null;
+
+    private Map<String, Object> extraAttributes =null;
+    private Map<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> extraClassificationBeans =null;
+
+
+    /**
+     * Get the system attributes
+     * @return SystemAttributes if populated, null otherwise.
+     */
+    public SystemAttributes getSystemAttributes() {
+        return systemAttributes;
+    }
+
+    public void setSystemAttributes(SystemAttributes systemAttributes) {
+        this.systemAttributes = systemAttributes;
+    }
+
+    // attributes
+    private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+        "maximumElements",
+        "namespace",
+        "versionNumber",
+        "author",
+        "usage",
+        "encodingStandard",
+        "anchorGUID",
+        "displayName",
+        "description",
+        "qualifiedName",
+        "additionalProperties",
+
+    // Terminate the list
+        null
+    };
+    private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+        "maximumElements",
+        "namespace",
+        "versionNumber",
+        "author",
+        "usage",
+        "encodingStandard",
+        "anchorGUID",
+        "displayName",
+        "description",
+        "qualifiedName",
+
+     // Terminate the list
+        null
+    };
+    private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+         // Terminate the list
+          null
+    };
+    private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+         "additionalProperties",
+
+         // Terminate the list
+         null
+    };
+    private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    InstanceProperties obtainInstanceProperties() {
+        final String methodName = "obtainInstanceProperties";
+        if (log.isDebugEnabled()) {
+               log.debug("==> Method: " + methodName);
+        }
+        InstanceProperties instanceProperties = new InstanceProperties();
+        EnumPropertyValue enumPropertyValue=null;
+        MapPropertyValue mapPropertyValue=null;
+        // Additional properties for the element.
+        mapPropertyValue = new MapPropertyValue();
+        PrimitivePropertyValue primitivePropertyValue=null;
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(maximumElements);
+        instanceProperties.setProperty("maximumElements",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(namespace);
+        instanceProperties.setProperty("namespace",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(versionNumber);
+        instanceProperties.setProperty("versionNumber",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(author);
+        instanceProperties.setProperty("author",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(usage);
+        instanceProperties.setProperty("usage",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(encodingStandard);
+        instanceProperties.setProperty("encodingStandard",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(anchorGUID);
+        instanceProperties.setProperty("anchorGUID",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(displayName);
+        instanceProperties.setProperty("displayName",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(description);
+        instanceProperties.setProperty("description",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(qualifiedName);
+        instanceProperties.setProperty("qualifiedName",primitivePropertyValue);
+        if (log.isDebugEnabled()) {
+               log.debug("<== Method: " + methodName);
+        }
+        return instanceProperties;
+    }
+
+       private Integer maximumElements;
+       /**
+        * {@literal Maximum number of values that can be stored - zero for no limit. }
+        * @return {@code Integer }
+        */
+       public Integer getMaximumElements() {
+           return this.maximumElements;
+       }
+       public void setMaximumElements(Integer maximumElements)  {
+           this.maximumElements = maximumElements;
+       }
+       private String namespace;
+       /**
+        * {@literal Prefix for element names to ensure uniqueness. }
+        * @return {@code String }
+        */
+       public String getNamespace() {
+           return this.namespace;
+       }
+       public void setNamespace(String namespace)  {
+           this.namespace = namespace;
+       }
+       private String versionNumber;
+       /**
+        * {@literal Version of the schema type. }
+        * @return {@code String }
+        */
+       public String getVersionNumber() {
+           return this.versionNumber;
+       }
+       public void setVersionNumber(String versionNumber)  {
+           this.versionNumber = versionNumber;
+       }
+       private String author;
+       /**
+        * {@literal User name of the person or process that created the schema type. }
+        * @return {@code String }
+        */
+       public String getAuthor() {
+           return this.author;
+       }
+       public void setAuthor(String author)  {
+           this.author = author;
+       }
+       private String usage;
+       /**
+        * {@literal Guidance on how the schema should be used. }
+        * @return {@code String }
+        */
+       public String getUsage() {
+           return this.usage;
+       }
+       public void setUsage(String usage)  {
+           this.usage = usage;
+       }
+       private String encodingStandard;
+       /**
+        * {@literal Format of the schema. }
+        * @return {@code String }
+        */
+       public String getEncodingStandard() {
+           return this.encodingStandard;
+       }
+       public void setEncodingStandard(String encodingStandard)  {
+           this.encodingStandard = encodingStandard;
+       }
+       private String anchorGUID;
+       /**
+        * {@literal Optional identification of the referenceable that this schema element is a part of. }
+        * @return {@code String }
+        */
+       public String getAnchorGUID() {
+           return this.anchorGUID;
+       }
+       public void setAnchorGUID(String anchorGUID)  {
+           this.anchorGUID = anchorGUID;
+       }
+       private String displayName;
+       /**
+        * {@literal Display name for the element. }
+        * @return {@code String }
+        */
+       public String getDisplayName() {
+           return this.displayName;
+       }
+       public void setDisplayName(String displayName)  {
+           this.displayName = displayName;
+       }
+       private String description;
+       /**
+        * {@literal Description of the element. }
+        * @return {@code String }
+        */
+       public String getDescription() {
+           return this.description;
+       }
+       public void setDescription(String description)  {
+           this.description = description;
+       }
+       private String qualifiedName;
+       /**
+        * {@literal Unique identifier for the entity. }
+        * @return {@code String }
+        */
+       public String getQualifiedName() {
+           return this.qualifiedName;
+       }
+       public void setQualifiedName(String qualifiedName)  {
+           this.qualifiedName = qualifiedName;
+       }
+       private Map<String,String> additionalProperties;
+       /**
+        * {@literal Additional properties for the element. }
+        * @return {@code {@code Map<String,String> } }
+        */
+       public Map<String,String> getAdditionalProperties() {
+           return this.additionalProperties;
+       }
+       public void setAdditionalProperties(Map<String,String> additionalProperties)  {
+           this.additionalProperties = additionalProperties;
+       }
+
+   /**
+    * BoundedSchemaType property names
+    * @return Set of Strings of the BoundedSchemaType property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * BoundedSchemaType enum property names
+     * @return Set of Strings of the BoundedSchemaType enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * BoundedSchemaType map property names
+     * @return Set of Strings of the BoundedSchemaType map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * BoundedSchemaType attribute property names
+     * @return Set of Strings of the BoundedSchemaType attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+
+    /**
+     * Return the date/time that this BoundedSchemaType should start to be used (null means it can be used from creationTime).
+     * @return Date the BoundedSchemaType becomes effective.
+     */
+    public Date getEffectiveFromTime()
+    {
+        return effectiveFromTime;
+    }
+
+    public void setEffectiveFromTime(Date effectiveFromTime)
+    {
+        this.effectiveFromTime = effectiveFromTime;
+    }
+    /**
+     * Return the date/time that this BoundedSchemaType should no longer be used.
+     *
+     * @return Date the BoundedSchemaType stops being effective.
+     */
+    public Date getEffectiveToTime()
+    {
+        return effectiveToTime;
+    }
+    public void setEffectiveToTime(Date effectiveToTime)
+    {
+        this.effectiveToTime = effectiveToTime;
+    }
+
+    public void setExtraAttributes(Map<String, Object> extraAttributes) {
+        this.extraAttributes = extraAttributes;
+    }
+
+    public void setClassificationBeans(List<ClassificationBean> classifications) {
+        this.classifications = classifications;
+    }
+
+    /**
+     * Get the extra attributes - ones that are in addition to the standard types.
+     * @return map of attributes, null if there are none
+     */
+    public Map<String, Object> getExtraAttributes() {
+        return extraAttributes;
+    }
+
+     /**
+     * ClassificationBeans
+     * @return List of ClassificationBeans, null if there are none
+     */
+    public List<ClassificationBean> getClassificationBeans() {
+        return classifications;
+    }
+    /**
+      * Extra classifications are classifications that are not in the open metadata model - we include the OMRS ClassificationBeans.
+      * @return Map of classifications with the classification Name as the map key
+      */
+    public Map<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> getExtraClassificationBeans() {
+        return extraClassificationBeans;
+    }
+
+    public void setExtraClassificationBeans(Map<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> extraClassificationBeans) {
+        this.extraClassificationBeans = extraClassificationBeans;
+    }
+
+    public StringBuilder toString(StringBuilder sb) {
+        if (sb == null) {
+            sb = new StringBuilder();
+        }
+
+        sb.append("BoundedSchemaType{");
+        if (systemAttributes !=null) {
+            sb.append("systemAttributes='").append(systemAttributes.toString()).append('\'');
+        }
+        sb.append("BoundedSchemaType Attributes{");
+    	sb.append("MaximumElements=" +this.maximumElements);
+    	sb.append("Namespace=" +this.namespace);
+    	sb.append("VersionNumber=" +this.versionNumber);
+    	sb.append("Author=" +this.author);
+    	sb.append("Usage=" +this.usage);
+    	sb.append("EncodingStandard=" +this.encodingStandard);
+    	sb.append("AnchorGUID=" +this.anchorGUID);
+    	sb.append("DisplayName=" +this.displayName);
+    	sb.append("Description=" +this.description);
+    	sb.append("QualifiedName=" +this.qualifiedName);
+    	sb.append("AdditionalProperties=" +this.additionalProperties);
+
+        sb.append('}');
+        if (classifications != null) {
+        sb.append(", classifications=[");
+            for (ClassificationBean classification:classifications) {
+                sb.append(classification.toString()).append(", ");
+            }
+            sb.append(" ],");
+        }
+        sb.append(", extraAttributes=[");
+        if (extraAttributes !=null) {
+            for (String attrname: extraAttributes.keySet()) {
+                sb.append(attrname).append(":");
+                sb.append(extraAttributes.get(attrname)).append(", ");
+            }
+        }
+        sb.append(" ]");
+
+        sb.append('}');
+
+        return sb;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        if (!super.equals(o)) { return false; }
+
+        BoundedSchemaType that = (BoundedSchemaType) o;
+        if (this.maximumElements != null && !Objects.equals(this.maximumElements,that.getMaximumElements())) {
+             return false;
+        }
+        if (this.namespace != null && !Objects.equals(this.namespace,that.getNamespace())) {
+             return false;
+        }
+        if (this.versionNumber != null && !Objects.equals(this.versionNumber,that.getVersionNumber())) {
+             return false;
+        }
+        if (this.author != null && !Objects.equals(this.author,that.getAuthor())) {
+             return false;
+        }
+        if (this.usage != null && !Objects.equals(this.usage,that.getUsage())) {
+             return false;
+        }
+        if (this.encodingStandard != null && !Objects.equals(this.encodingStandard,that.getEncodingStandard())) {
+             return false;
+        }
+        if (this.anchorGUID != null && !Objects.equals(this.anchorGUID,that.getAnchorGUID())) {
+             return false;
+        }
+        if (this.displayName != null && !Objects.equals(this.displayName,that.getDisplayName())) {
+             return false;
+        }
+        if (this.description != null && !Objects.equals(this.description,that.getDescription())) {
+             return false;
+        }
+        if (this.qualifiedName != null && !Objects.equals(this.qualifiedName,that.getQualifiedName())) {
+             return false;
+        }
+        if (this.additionalProperties != null && !Objects.equals(this.additionalProperties,that.getAdditionalProperties())) {
+             return false;
+        }
+
+        // We view boundedSchemaTypes as logically equal by checking the properties that the OMAS knows about - i.e. without accounting for extra attributes and references from the org.odpi.openmetadata.accessservices.subjectarea.server.
+        return Objects.equals(systemAttributes, that.systemAttributes) &&
+                Objects.equals(classifications, that.classifications) ;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(),
+         systemAttributes.hashCode(),
+         classifications.hashCode()
+          , this.maximumElements
+          , this.namespace
+          , this.versionNumber
+          , this.author
+          , this.usage
+          , this.encodingStandard
+          , this.anchorGUID
+          , this.displayName
+          , this.description
+          , this.qualifiedName
+          , this.additionalProperties
+        );
+    }
+
+    @Override
+    public String toString() {
+        return toString(new StringBuilder()).toString();
+    }
+}
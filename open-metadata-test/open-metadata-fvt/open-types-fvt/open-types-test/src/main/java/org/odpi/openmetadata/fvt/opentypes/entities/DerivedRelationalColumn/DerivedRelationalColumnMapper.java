@@ -0,0 +1,386 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.entities.DerivedRelationalColumn;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveAccessor;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.classifications.ClassificationBeanFactory;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+/**
+ * Static mapping methods to map between DerivedRelationalColumn and the omrs equivalents.
+ */
+public class DerivedRelationalColumnMapper {
+    private static final Logger log = LoggerFactory.getLogger( DerivedRelationalColumnMapper.class);
+    private static final String className = DerivedRelationalColumnMapper.class.getName();
+   /**
+    * @param omrsEntityDetail the supplied EntityDetail
+    * @return equivalent DerivedRelationalColumn
+    */
+   static public DerivedRelationalColumn mapOmrsEntityDetailToDerivedRelationalColumn(EntityDetail omrsEntityDetail) throws InvalidParameterException {
+        String entityTypeName = omrsEntityDetail.getType().getTypeDefName();
+        if ("DerivedRelationalColumn".equals(entityTypeName)) {
+                DerivedRelationalColumn derivedRelationalColumn = new DerivedRelationalColumn();
+                //set core attributes
+                SystemAttributes systemAttributes = new SystemAttributes();
+                systemAttributes.setStatus(omrsEntityDetail.getStatus());
+
+                systemAttributes.setCreatedBy(omrsEntityDetail.getCreatedBy());
+                systemAttributes.setUpdatedBy(omrsEntityDetail.getUpdatedBy());
+                systemAttributes.setCreateTime(omrsEntityDetail.getCreateTime());
+                systemAttributes.setUpdateTime(omrsEntityDetail.getUpdateTime());
+                systemAttributes.setVersion(omrsEntityDetail.getVersion());
+                systemAttributes.setGUID(omrsEntityDetail.getGUID());
+                derivedRelationalColumn.setSystemAttributes(systemAttributes);
+
+                // Set properties
+                InstanceProperties omrsEntityDetailProperties = omrsEntityDetail.getProperties();
+                if (omrsEntityDetailProperties!=null) {
+                  omrsEntityDetailProperties.setEffectiveFromTime(derivedRelationalColumn.getEffectiveFromTime());
+                  omrsEntityDetailProperties.setEffectiveToTime(derivedRelationalColumn.getEffectiveToTime());
+                  Iterator omrsPropertyIterator = omrsEntityDetailProperties.getPropertyNames();
+
+                  while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsEntityDetailProperties.getPropertyValue(name);
+
+                    // supplied guid matches the expected type
+
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                        case PRIMITIVE:
+                            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                            actualValue = primitivePropertyValue.getPrimitiveValue();
+                            if (DerivedRelationalColumn.getAttributePropertyNames().contains(name)) {
+                               if (name.equals("formula")) {
+                                   derivedRelationalColumn.setFormula((String)actualValue);
+                               }
+                               if (name.equals("comment")) {
+                                   derivedRelationalColumn.setComment((String)actualValue);
+                               }
+                               if (name.equals("id")) {
+                                   derivedRelationalColumn.setId((String)actualValue);
+                               }
+                               if (name.equals("aggregatingFunction")) {
+                                   derivedRelationalColumn.setAggregatingFunction((String)actualValue);
+                               }
+                               if (name.equals("position")) {
+                                   derivedRelationalColumn.setPosition((Integer)actualValue);
+                               }
+                               if (name.equals("minCardinality")) {
+                                   derivedRelationalColumn.setMinCardinality((Integer)actualValue);
+                               }
+                               if (name.equals("maxCardinality")) {
+                                   derivedRelationalColumn.setMaxCardinality((Integer)actualValue);
+                               }
+                               if (name.equals("allowsDuplicateValues")) {
+                                   derivedRelationalColumn.setAllowsDuplicateValues((Boolean)actualValue);
+                               }
+                               if (name.equals("orderedValues")) {
+                                   derivedRelationalColumn.setOrderedValues((Boolean)actualValue);
+                               }
+                               if (name.equals("defaultValueOverride")) {
+                                   derivedRelationalColumn.setDefaultValueOverride((String)actualValue);
+                               }
+                               if (name.equals("nativeClass")) {
+                                   derivedRelationalColumn.setNativeClass((String)actualValue);
+                               }
+                               if (name.equals("name")) {
+                                   derivedRelationalColumn.setName((String)actualValue);
+                               }
+                               if (name.equals("anchorGUID")) {
+                                   derivedRelationalColumn.setAnchorGUID((String)actualValue);
+                               }
+                               if (name.equals("displayName")) {
+                                   derivedRelationalColumn.setDisplayName((String)actualValue);
+                               }
+                               if (name.equals("description")) {
+                                   derivedRelationalColumn.setDescription((String)actualValue);
+                               }
+                               if (name.equals("qualifiedName")) {
+                                   derivedRelationalColumn.setQualifiedName((String)actualValue);
+                               }
+                            } else {
+                                // put out the omrs value object
+                                if (null==derivedRelationalColumn.getExtraAttributes())  {
+                                     derivedRelationalColumn.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                               derivedRelationalColumn.getExtraAttributes().put(name, primitivePropertyValue);
+                            }
+                            break;
+                        case ENUM:
+                            EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                            String symbolicName = enumPropertyValue.getSymbolicName();
+                            if (DerivedRelationalColumn.getEnumPropertyNames().contains(name)) {
+                                 if (name.equals("sortOrder")) {
+                                      DataItemSortOrder sortOrder = DataItemSortOrder.valueOf(symbolicName);
+                                      derivedRelationalColumn.setSortOrder(sortOrder);
+                                 }
+                            } else {
+                                // put out the omrs value object
+                                if (null==derivedRelationalColumn.getExtraAttributes())  {
+                                     derivedRelationalColumn.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                                 derivedRelationalColumn.getExtraAttributes().put(name, enumPropertyValue);
+                             }
+
+                            break;
+                        case MAP:
+                            if (DerivedRelationalColumn.getMapPropertyNames().contains(name)) {
+                                 MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                 InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                                 if (name.equals("additionalProperties")) {
+
+                                       // Only support Map<String,String> as that is what is in the archive types at this time.
+                                       Map<String, String> actualMap = new HashMap();
+                                       Iterator iter = instancePropertyForMap.getPropertyNames();
+                                       while (iter.hasNext()) {
+                                           String mapkey = (String) iter.next();
+                                           PrimitivePropertyValue primitivePropertyMapValue = (PrimitivePropertyValue) instancePropertyForMap.getPropertyValue(mapkey);
+                                           String mapvalue = (String) primitivePropertyMapValue.getPrimitiveValue();
+                                           actualMap.put(mapkey, mapvalue);
+                                       }
+                                       derivedRelationalColumn.setAdditionalProperties(actualMap);
+                                 }
+                               }
+                               break;
+                        case ARRAY:
+                        case STRUCT:
+                        case UNKNOWN:
+                            // error
+                            break;
+                    }
+
+                  }   // end while
+                }
+                 // set classifications
+                 List<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> omrsclassifications = omrsEntityDetail.getClassifications() ;
+                 if (omrsclassifications != null && !omrsclassifications.isEmpty()){
+                    for (org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification omrsClassification:omrsclassifications) {
+                        String omrsClassificationName = omrsClassification.getName();
+                        ClassificationBean classificationBean = ClassificationBeanFactory.getClassificationBean(omrsClassificationName,omrsClassification);
+                        if (classificationBean !=null) {
+                            // this is a classification we know about.
+                            if ( derivedRelationalColumn.classifications==null) {
+                                 derivedRelationalColumn.classifications = new ArrayList<>();
+                            }
+                            derivedRelationalColumn.classifications.add(classificationBean);
+
+                        } else {
+                            if (null==derivedRelationalColumn.getExtraClassificationBeans())  {
+                                 derivedRelationalColumn.setExtraClassificationBeans(new HashMap<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification>());
+                            }
+                            derivedRelationalColumn.getExtraClassificationBeans().put(omrsClassificationName,omrsClassification);
+                        }
+                    }
+                 }
+                 return derivedRelationalColumn;
+            } else {
+                // TODO wrong entity type for this guid
+            }
+            return null;
+    }
+    /**
+     * Map (convert) the supplied DerivedRelationalColumn to an entityDetails.
+     * @param  derivedRelationalColumn  supplied DerivedRelationalColumn
+     * @return  entityDetails equivalent to derivedRelationalColumn
+     */
+    static public EntityDetail mapDerivedRelationalColumnToOmrsEntityDetail(DerivedRelationalColumn derivedRelationalColumn) {
+            EntityDetail omrsEntityDetail = new EntityDetail();
+            SystemAttributes systemAttributes = derivedRelationalColumn.getSystemAttributes();
+            if (systemAttributes!=null) {
+                   if (systemAttributes.getCreatedBy()!=null)
+                        omrsEntityDetail.setCreatedBy(systemAttributes.getCreatedBy());
+                   if (systemAttributes.getUpdatedBy()!=null)
+                        omrsEntityDetail.setUpdatedBy(systemAttributes.getUpdatedBy());
+                   if (systemAttributes.getCreateTime()!=null)
+                        omrsEntityDetail.setCreateTime(systemAttributes.getCreateTime());
+                   if (systemAttributes.getUpdateTime()!=null)
+                        omrsEntityDetail.setUpdateTime(systemAttributes.getUpdateTime());
+                   if (systemAttributes.getVersion()!=null)
+                        omrsEntityDetail.setVersion(systemAttributes.getVersion());
+                   if (systemAttributes.getGUID()!=null)
+                        omrsEntityDetail.setGUID(systemAttributes.getGUID());
+                   if (systemAttributes.getStatus()!=null) {
+                        omrsEntityDetail.setStatus(systemAttributes.getStatus());
+                   }
+            }
+
+            InstanceProperties instanceProperties = new InstanceProperties();
+            instanceProperties.setEffectiveFromTime(derivedRelationalColumn.getEffectiveFromTime());
+            instanceProperties.setEffectiveToTime(derivedRelationalColumn.getEffectiveToTime());
+            // primitives
+
+            if (derivedRelationalColumn.getFormula()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getFormula());
+                instanceProperties.setProperty("formula", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getComment()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getComment());
+                instanceProperties.setProperty("comment", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getId()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getId());
+                instanceProperties.setProperty("id", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getAggregatingFunction()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getAggregatingFunction());
+                instanceProperties.setProperty("aggregatingFunction", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getPosition()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getPosition());
+                instanceProperties.setProperty("position", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getMinCardinality()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getMinCardinality());
+                instanceProperties.setProperty("minCardinality", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getMaxCardinality()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getMaxCardinality());
+                instanceProperties.setProperty("maxCardinality", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getAllowsDuplicateValues()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_BOOLEAN);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getAllowsDuplicateValues());
+                instanceProperties.setProperty("allowsDuplicateValues", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getOrderedValues()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_BOOLEAN);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getOrderedValues());
+                instanceProperties.setProperty("orderedValues", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getDefaultValueOverride()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getDefaultValueOverride());
+                instanceProperties.setProperty("defaultValueOverride", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getNativeClass()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getNativeClass());
+                instanceProperties.setProperty("nativeClass", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getName()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getName());
+                instanceProperties.setProperty("name", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getAnchorGUID()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getAnchorGUID());
+                instanceProperties.setProperty("anchorGUID", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getDisplayName()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getDisplayName());
+                instanceProperties.setProperty("displayName", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getDescription()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getDescription());
+                instanceProperties.setProperty("description", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getQualifiedName()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedRelationalColumn.getQualifiedName());
+                instanceProperties.setProperty("qualifiedName", primitivePropertyValue);
+            }
+            if (derivedRelationalColumn.getSortOrder()!=null) {
+                DataItemSortOrder enumType = derivedRelationalColumn.getSortOrder();
+                EnumPropertyValue enumPropertyValue = new EnumPropertyValue();
+                enumPropertyValue.setOrdinal(enumType.ordinal());
+                enumPropertyValue.setSymbolicName(enumType.name());
+                instanceProperties.setProperty("sortOrder", enumPropertyValue);
+            }
+            if (derivedRelationalColumn.getAdditionalProperties()!=null) {
+
+                Map<String,String> map =derivedRelationalColumn.getAdditionalProperties();
+                MapPropertyValue mapPropertyValue = new MapPropertyValue();
+
+                for (String key:map.keySet()) {
+                   PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                   primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                   primitivePropertyValue.setPrimitiveValue(map.get(key));
+                   mapPropertyValue.setMapValue(key,primitivePropertyValue);
+                }
+
+                instanceProperties.setProperty("additionalProperties", mapPropertyValue);
+            }
+            omrsEntityDetail.setProperties(instanceProperties);
+            // set the type in the entity
+            OpenMetadataTypesArchiveAccessor archiveAccessor = OpenMetadataTypesArchiveAccessor.getInstance();
+            TypeDef typeDef = archiveAccessor.getEntityDefByName("DerivedRelationalColumn");
+            InstanceType template = archiveAccessor.createTemplateFromTypeDef(typeDef);
+            InstanceType instanceType = new InstanceType(template);
+            omrsEntityDetail.setType(instanceType);
+
+            // map the classifications
+            populateOmrsEntityWithClassificationBeans(omrsEntityDetail,(List<ClassificationBean>)derivedRelationalColumn.getClassificationBeans());
+            return omrsEntityDetail;
+    }
+
+    private static void populateOmrsEntityWithClassificationBeans(EntityDetail omrsEntityDetail, List<ClassificationBean> classificationBeans) {
+        if (classificationBeans!= null && classificationBeans.size()>0) {
+            ArrayList<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> omrsClassifications = new ArrayList<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification>();
+            for (ClassificationBean classificationBean : classificationBeans) {
+                SystemAttributes systemAttributes = classificationBean.getSystemAttributes();
+                org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification omrsClassification = new org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification();
+
+                if (systemAttributes != null) {
+                    if (systemAttributes.getCreatedBy() != null)
+                        omrsClassification.setCreatedBy(systemAttributes.getCreatedBy());
+                    if (systemAttributes.getUpdatedBy() != null)
+                        omrsClassification.setUpdatedBy(systemAttributes.getUpdatedBy());
+                    if (systemAttributes.getCreateTime() != null)
+                        omrsClassification.setCreateTime(systemAttributes.getCreateTime());
+                    if (systemAttributes.getUpdateTime() != null)
+                        omrsClassification.setUpdateTime(systemAttributes.getUpdateTime());
+                    if (systemAttributes.getVersion() != null)
+                        omrsClassification.setVersion(systemAttributes.getVersion());
+                }
+                // copy over the classification name
+                omrsClassification.setName(classificationBean.getClassificationName());
+                // copy over the classification properties
+                omrsClassification.setProperties( classificationBean.obtainInstanceProperties());
+                omrsClassifications.add(omrsClassification);
+            }
+            omrsEntityDetail.setClassifications(omrsClassifications);
+        }
+    }
+}
@@ -0,0 +1,386 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.entities.DerivedSchemaAttribute;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveAccessor;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.classifications.ClassificationBeanFactory;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+/**
+ * Static mapping methods to map between DerivedSchemaAttribute and the omrs equivalents.
+ */
+public class DerivedSchemaAttributeMapper {
+    private static final Logger log = LoggerFactory.getLogger( DerivedSchemaAttributeMapper.class);
+    private static final String className = DerivedSchemaAttributeMapper.class.getName();
+   /**
+    * @param omrsEntityDetail the supplied EntityDetail
+    * @return equivalent DerivedSchemaAttribute
+    */
+   static public DerivedSchemaAttribute mapOmrsEntityDetailToDerivedSchemaAttribute(EntityDetail omrsEntityDetail) throws InvalidParameterException {
+        String entityTypeName = omrsEntityDetail.getType().getTypeDefName();
+        if ("DerivedSchemaAttribute".equals(entityTypeName)) {
+                DerivedSchemaAttribute derivedSchemaAttribute = new DerivedSchemaAttribute();
+                //set core attributes
+                SystemAttributes systemAttributes = new SystemAttributes();
+                systemAttributes.setStatus(omrsEntityDetail.getStatus());
+
+                systemAttributes.setCreatedBy(omrsEntityDetail.getCreatedBy());
+                systemAttributes.setUpdatedBy(omrsEntityDetail.getUpdatedBy());
+                systemAttributes.setCreateTime(omrsEntityDetail.getCreateTime());
+                systemAttributes.setUpdateTime(omrsEntityDetail.getUpdateTime());
+                systemAttributes.setVersion(omrsEntityDetail.getVersion());
+                systemAttributes.setGUID(omrsEntityDetail.getGUID());
+                derivedSchemaAttribute.setSystemAttributes(systemAttributes);
+
+                // Set properties
+                InstanceProperties omrsEntityDetailProperties = omrsEntityDetail.getProperties();
+                if (omrsEntityDetailProperties!=null) {
+                  omrsEntityDetailProperties.setEffectiveFromTime(derivedSchemaAttribute.getEffectiveFromTime());
+                  omrsEntityDetailProperties.setEffectiveToTime(derivedSchemaAttribute.getEffectiveToTime());
+                  Iterator omrsPropertyIterator = omrsEntityDetailProperties.getPropertyNames();
+
+                  while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsEntityDetailProperties.getPropertyValue(name);
+
+                    // supplied guid matches the expected type
+
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                        case PRIMITIVE:
+                            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                            actualValue = primitivePropertyValue.getPrimitiveValue();
+                            if (DerivedSchemaAttribute.getAttributePropertyNames().contains(name)) {
+                               if (name.equals("formula")) {
+                                   derivedSchemaAttribute.setFormula((String)actualValue);
+                               }
+                               if (name.equals("comment")) {
+                                   derivedSchemaAttribute.setComment((String)actualValue);
+                               }
+                               if (name.equals("id")) {
+                                   derivedSchemaAttribute.setId((String)actualValue);
+                               }
+                               if (name.equals("aggregatingFunction")) {
+                                   derivedSchemaAttribute.setAggregatingFunction((String)actualValue);
+                               }
+                               if (name.equals("position")) {
+                                   derivedSchemaAttribute.setPosition((Integer)actualValue);
+                               }
+                               if (name.equals("minCardinality")) {
+                                   derivedSchemaAttribute.setMinCardinality((Integer)actualValue);
+                               }
+                               if (name.equals("maxCardinality")) {
+                                   derivedSchemaAttribute.setMaxCardinality((Integer)actualValue);
+                               }
+                               if (name.equals("allowsDuplicateValues")) {
+                                   derivedSchemaAttribute.setAllowsDuplicateValues((Boolean)actualValue);
+                               }
+                               if (name.equals("orderedValues")) {
+                                   derivedSchemaAttribute.setOrderedValues((Boolean)actualValue);
+                               }
+                               if (name.equals("defaultValueOverride")) {
+                                   derivedSchemaAttribute.setDefaultValueOverride((String)actualValue);
+                               }
+                               if (name.equals("nativeClass")) {
+                                   derivedSchemaAttribute.setNativeClass((String)actualValue);
+                               }
+                               if (name.equals("name")) {
+                                   derivedSchemaAttribute.setName((String)actualValue);
+                               }
+                               if (name.equals("anchorGUID")) {
+                                   derivedSchemaAttribute.setAnchorGUID((String)actualValue);
+                               }
+                               if (name.equals("displayName")) {
+                                   derivedSchemaAttribute.setDisplayName((String)actualValue);
+                               }
+                               if (name.equals("description")) {
+                                   derivedSchemaAttribute.setDescription((String)actualValue);
+                               }
+                               if (name.equals("qualifiedName")) {
+                                   derivedSchemaAttribute.setQualifiedName((String)actualValue);
+                               }
+                            } else {
+                                // put out the omrs value object
+                                if (null==derivedSchemaAttribute.getExtraAttributes())  {
+                                     derivedSchemaAttribute.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                               derivedSchemaAttribute.getExtraAttributes().put(name, primitivePropertyValue);
+                            }
+                            break;
+                        case ENUM:
+                            EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                            String symbolicName = enumPropertyValue.getSymbolicName();
+                            if (DerivedSchemaAttribute.getEnumPropertyNames().contains(name)) {
+                                 if (name.equals("sortOrder")) {
+                                      DataItemSortOrder sortOrder = DataItemSortOrder.valueOf(symbolicName);
+                                      derivedSchemaAttribute.setSortOrder(sortOrder);
+                                 }
+                            } else {
+                                // put out the omrs value object
+                                if (null==derivedSchemaAttribute.getExtraAttributes())  {
+                                     derivedSchemaAttribute.setExtraAttributes(new HashMap<String, Object>());
+                                }
+                                 derivedSchemaAttribute.getExtraAttributes().put(name, enumPropertyValue);
+                             }
+
+                            break;
+                        case MAP:
+                            if (DerivedSchemaAttribute.getMapPropertyNames().contains(name)) {
+                                 MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                 InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                                 if (name.equals("additionalProperties")) {
+
+                                       // Only support Map<String,String> as that is what is in the archive types at this time.
+                                       Map<String, String> actualMap = new HashMap();
+                                       Iterator iter = instancePropertyForMap.getPropertyNames();
+                                       while (iter.hasNext()) {
+                                           String mapkey = (String) iter.next();
+                                           PrimitivePropertyValue primitivePropertyMapValue = (PrimitivePropertyValue) instancePropertyForMap.getPropertyValue(mapkey);
+                                           String mapvalue = (String) primitivePropertyMapValue.getPrimitiveValue();
+                                           actualMap.put(mapkey, mapvalue);
+                                       }
+                                       derivedSchemaAttribute.setAdditionalProperties(actualMap);
+                                 }
+                               }
+                               break;
+                        case ARRAY:
+                        case STRUCT:
+                        case UNKNOWN:
+                            // error
+                            break;
+                    }
+
+                  }   // end while
+                }
+                 // set classifications
+                 List<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> omrsclassifications = omrsEntityDetail.getClassifications() ;
+                 if (omrsclassifications != null && !omrsclassifications.isEmpty()){
+                    for (org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification omrsClassification:omrsclassifications) {
+                        String omrsClassificationName = omrsClassification.getName();
+                        ClassificationBean classificationBean = ClassificationBeanFactory.getClassificationBean(omrsClassificationName,omrsClassification);
+                        if (classificationBean !=null) {
+                            // this is a classification we know about.
+                            if ( derivedSchemaAttribute.classifications==null) {
+                                 derivedSchemaAttribute.classifications = new ArrayList<>();
+                            }
+                            derivedSchemaAttribute.classifications.add(classificationBean);
+
+                        } else {
+                            if (null==derivedSchemaAttribute.getExtraClassificationBeans())  {
+                                 derivedSchemaAttribute.setExtraClassificationBeans(new HashMap<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification>());
+                            }
+                            derivedSchemaAttribute.getExtraClassificationBeans().put(omrsClassificationName,omrsClassification);
+                        }
+                    }
+                 }
+                 return derivedSchemaAttribute;
+            } else {
+                // TODO wrong entity type for this guid
+            }
+            return null;
+    }
+    /**
+     * Map (convert) the supplied DerivedSchemaAttribute to an entityDetails.
+     * @param  derivedSchemaAttribute  supplied DerivedSchemaAttribute
+     * @return  entityDetails equivalent to derivedSchemaAttribute
+     */
+    static public EntityDetail mapDerivedSchemaAttributeToOmrsEntityDetail(DerivedSchemaAttribute derivedSchemaAttribute) {
+            EntityDetail omrsEntityDetail = new EntityDetail();
+            SystemAttributes systemAttributes = derivedSchemaAttribute.getSystemAttributes();
+            if (systemAttributes!=null) {
+                   if (systemAttributes.getCreatedBy()!=null)
+                        omrsEntityDetail.setCreatedBy(systemAttributes.getCreatedBy());
+                   if (systemAttributes.getUpdatedBy()!=null)
+                        omrsEntityDetail.setUpdatedBy(systemAttributes.getUpdatedBy());
+                   if (systemAttributes.getCreateTime()!=null)
+                        omrsEntityDetail.setCreateTime(systemAttributes.getCreateTime());
+                   if (systemAttributes.getUpdateTime()!=null)
+                        omrsEntityDetail.setUpdateTime(systemAttributes.getUpdateTime());
+                   if (systemAttributes.getVersion()!=null)
+                        omrsEntityDetail.setVersion(systemAttributes.getVersion());
+                   if (systemAttributes.getGUID()!=null)
+                        omrsEntityDetail.setGUID(systemAttributes.getGUID());
+                   if (systemAttributes.getStatus()!=null) {
+                        omrsEntityDetail.setStatus(systemAttributes.getStatus());
+                   }
+            }
+
+            InstanceProperties instanceProperties = new InstanceProperties();
+            instanceProperties.setEffectiveFromTime(derivedSchemaAttribute.getEffectiveFromTime());
+            instanceProperties.setEffectiveToTime(derivedSchemaAttribute.getEffectiveToTime());
+            // primitives
+
+            if (derivedSchemaAttribute.getFormula()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getFormula());
+                instanceProperties.setProperty("formula", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getComment()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getComment());
+                instanceProperties.setProperty("comment", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getId()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getId());
+                instanceProperties.setProperty("id", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getAggregatingFunction()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getAggregatingFunction());
+                instanceProperties.setProperty("aggregatingFunction", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getPosition()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getPosition());
+                instanceProperties.setProperty("position", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getMinCardinality()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getMinCardinality());
+                instanceProperties.setProperty("minCardinality", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getMaxCardinality()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getMaxCardinality());
+                instanceProperties.setProperty("maxCardinality", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getAllowsDuplicateValues()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_BOOLEAN);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getAllowsDuplicateValues());
+                instanceProperties.setProperty("allowsDuplicateValues", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getOrderedValues()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_BOOLEAN);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getOrderedValues());
+                instanceProperties.setProperty("orderedValues", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getDefaultValueOverride()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getDefaultValueOverride());
+                instanceProperties.setProperty("defaultValueOverride", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getNativeClass()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getNativeClass());
+                instanceProperties.setProperty("nativeClass", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getName()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getName());
+                instanceProperties.setProperty("name", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getAnchorGUID()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getAnchorGUID());
+                instanceProperties.setProperty("anchorGUID", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getDisplayName()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getDisplayName());
+                instanceProperties.setProperty("displayName", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getDescription()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getDescription());
+                instanceProperties.setProperty("description", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getQualifiedName()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(derivedSchemaAttribute.getQualifiedName());
+                instanceProperties.setProperty("qualifiedName", primitivePropertyValue);
+            }
+            if (derivedSchemaAttribute.getSortOrder()!=null) {
+                DataItemSortOrder enumType = derivedSchemaAttribute.getSortOrder();
+                EnumPropertyValue enumPropertyValue = new EnumPropertyValue();
+                enumPropertyValue.setOrdinal(enumType.ordinal());
+                enumPropertyValue.setSymbolicName(enumType.name());
+                instanceProperties.setProperty("sortOrder", enumPropertyValue);
+            }
+            if (derivedSchemaAttribute.getAdditionalProperties()!=null) {
+
+                Map<String,String> map =derivedSchemaAttribute.getAdditionalProperties();
+                MapPropertyValue mapPropertyValue = new MapPropertyValue();
+
+                for (String key:map.keySet()) {
+                   PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                   primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                   primitivePropertyValue.setPrimitiveValue(map.get(key));
+                   mapPropertyValue.setMapValue(key,primitivePropertyValue);
+                }
+
+                instanceProperties.setProperty("additionalProperties", mapPropertyValue);
+            }
+            omrsEntityDetail.setProperties(instanceProperties);
+            // set the type in the entity
+            OpenMetadataTypesArchiveAccessor archiveAccessor = OpenMetadataTypesArchiveAccessor.getInstance();
+            TypeDef typeDef = archiveAccessor.getEntityDefByName("DerivedSchemaAttribute");
+            InstanceType template = archiveAccessor.createTemplateFromTypeDef(typeDef);
+            InstanceType instanceType = new InstanceType(template);
+            omrsEntityDetail.setType(instanceType);
+
+            // map the classifications
+            populateOmrsEntityWithClassificationBeans(omrsEntityDetail,(List<ClassificationBean>)derivedSchemaAttribute.getClassificationBeans());
+            return omrsEntityDetail;
+    }
+
+    private static void populateOmrsEntityWithClassificationBeans(EntityDetail omrsEntityDetail, List<ClassificationBean> classificationBeans) {
+        if (classificationBeans!= null && classificationBeans.size()>0) {
+            ArrayList<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> omrsClassifications = new ArrayList<org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification>();
+            for (ClassificationBean classificationBean : classificationBeans) {
+                SystemAttributes systemAttributes = classificationBean.getSystemAttributes();
+                org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification omrsClassification = new org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification();
+
+                if (systemAttributes != null) {
+                    if (systemAttributes.getCreatedBy() != null)
+                        omrsClassification.setCreatedBy(systemAttributes.getCreatedBy());
+                    if (systemAttributes.getUpdatedBy() != null)
+                        omrsClassification.setUpdatedBy(systemAttributes.getUpdatedBy());
+                    if (systemAttributes.getCreateTime() != null)
+                        omrsClassification.setCreateTime(systemAttributes.getCreateTime());
+                    if (systemAttributes.getUpdateTime() != null)
+                        omrsClassification.setUpdateTime(systemAttributes.getUpdateTime());
+                    if (systemAttributes.getVersion() != null)
+                        omrsClassification.setVersion(systemAttributes.getVersion());
+                }
+                // copy over the classification name
+                omrsClassification.setName(classificationBean.getClassificationName());
+                // copy over the classification properties
+                omrsClassification.setProperties( classificationBean.obtainInstanceProperties());
+                omrsClassifications.add(omrsClassification);
+            }
+            omrsEntityDetail.setClassifications(omrsClassifications);
+        }
+    }
+}
@@ -0,0 +1,465 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.entities.DesignPattern;
+
+import java.io.Serializable;
+import java.util.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.odpi.openmetadata.fvt.opentypes.common.SystemAttributes;
+import org.odpi.openmetadata.fvt.opentypes.common.ClassificationBean;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EnumPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.MapPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+
+/**
+ * DesignPattern entity.
+   A description of a common solution with details of the problems it solves and its pros and cons.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class  DesignPattern implements Serializable {
+    private static final Logger log = LoggerFactory.getLogger(DesignPattern.class);
+    private static final String className = DesignPattern.class.getName();
+    private SystemAttributes systemAttributes = null;
+    private Date effectiveFromTime = null;
+    private Date effectiveToTime = null;
+    List<ClassificationBean> classifications = null;
+
+    private Map<String, Object> extraAttributes =null;
+    private Map<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> extraClassificationBeans =null;
+
+
+    /**
+     * Get the system attributes
+     * @return SystemAttributes if populated, null otherwise.
+     */
+    public SystemAttributes getSystemAttributes() {
+        return systemAttributes;
+    }
+
+    public void setSystemAttributes(SystemAttributes systemAttributes) {
+        this.systemAttributes = systemAttributes;
+    }
+
+    // attributes
+    private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+        "context",
+        "forces",
+        "problemStatement",
+        "problemExample",
+        "solutionDescription",
+        "solutionExample",
+        "benefits",
+        "liabilities",
+        "qualifiedName",
+        "additionalProperties",
+
+    // Terminate the list
+        null
+    };
+    private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+        "context",
+        "forces",
+        "problemStatement",
+        "problemExample",
+        "solutionDescription",
+        "solutionExample",
+        "benefits",
+        "liabilities",
+        "qualifiedName",
+
+     // Terminate the list
+        null
+    };
+    private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+         // Terminate the list
+          null
+    };
+    private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+         "additionalProperties",
+
+         // Terminate the list
+         null
+    };
+    private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    InstanceProperties obtainInstanceProperties() {
+        final String methodName = "obtainInstanceProperties";
+        if (log.isDebugEnabled()) {
+               log.debug("==> Method: " + methodName);
+        }
+        InstanceProperties instanceProperties = new InstanceProperties();
+        EnumPropertyValue enumPropertyValue=null;
+        MapPropertyValue mapPropertyValue=null;
+        // Additional properties for the element.
+        mapPropertyValue = new MapPropertyValue();
+        PrimitivePropertyValue primitivePropertyValue=null;
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(context);
+        instanceProperties.setProperty("context",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(forces);
+        instanceProperties.setProperty("forces",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(problemStatement);
+        instanceProperties.setProperty("problemStatement",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(problemExample);
+        instanceProperties.setProperty("problemExample",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(solutionDescription);
+        instanceProperties.setProperty("solutionDescription",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(solutionExample);
+        instanceProperties.setProperty("solutionExample",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(benefits);
+        instanceProperties.setProperty("benefits",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(liabilities);
+        instanceProperties.setProperty("liabilities",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(qualifiedName);
+        instanceProperties.setProperty("qualifiedName",primitivePropertyValue);
+        if (log.isDebugEnabled()) {
+               log.debug("<== Method: " + methodName);
+        }
+        return instanceProperties;
+    }
+
+       private String context;
+       /**
+        * {@literal Description of the situation where this pattern may be useful. }
+        * @return {@code String }
+        */
+       public String getContext() {
+           return this.context;
+       }
+       public void setContext(String context)  {
+           this.context = context;
+       }
+       private String forces;
+       /**
+        * {@literal Description of the aspects of the situation that make the problem hard to solve. }
+        * @return {@code String }
+        */
+       public String getForces() {
+           return this.forces;
+       }
+       public void setForces(String forces)  {
+           this.forces = forces;
+       }
+       private String problemStatement;
+       /**
+        * {@literal Description of the types of problem that this design pattern provides a solution to. }
+        * @return {@code String }
+        */
+       public String getProblemStatement() {
+           return this.problemStatement;
+       }
+       public void setProblemStatement(String problemStatement)  {
+           this.problemStatement = problemStatement;
+       }
+       private String problemExample;
+       /**
+        * {@literal One or more examples of the problem and its consequences. }
+        * @return {@code String }
+        */
+       public String getProblemExample() {
+           return this.problemExample;
+       }
+       public void setProblemExample(String problemExample)  {
+           this.problemExample = problemExample;
+       }
+       private String solutionDescription;
+       /**
+        * {@literal Description of how the solution works. }
+        * @return {@code String }
+        */
+       public String getSolutionDescription() {
+           return this.solutionDescription;
+       }
+       public void setSolutionDescription(String solutionDescription)  {
+           this.solutionDescription = solutionDescription;
+       }
+       private String solutionExample;
+       /**
+        * {@literal Illustrations of how the solution resolves the problem examples. }
+        * @return {@code String }
+        */
+       public String getSolutionExample() {
+           return this.solutionExample;
+       }
+       public void setSolutionExample(String solutionExample)  {
+           this.solutionExample = solutionExample;
+       }
+       private List<String> benefits;
+       /**
+        * {@literal The positive outcomes from using this pattern. }
+        * @return {@code {@code List<String> } }
+        */
+       public List<String> getBenefits() {
+           return this.benefits;
+       }
+       public void setBenefits(List<String> benefits)  {
+           this.benefits = benefits;
+       }
+       private List<String> liabilities;
+       /**
+        * {@literal The additional issues that need to be considered when using this pattern. }
+        * @return {@code {@code List<String> } }
+        */
+       public List<String> getLiabilities() {
+           return this.liabilities;
+       }
+       public void setLiabilities(List<String> liabilities)  {
+           this.liabilities = liabilities;
+       }
+       private String qualifiedName;
+       /**
+        * {@literal Unique identifier for the entity. }
+        * @return {@code String }
+        */
+       public String getQualifiedName() {
+           return this.qualifiedName;
+       }
+       public void setQualifiedName(String qualifiedName)  {
+           this.qualifiedName = qualifiedName;
+       }
+       private Map<String,String> additionalProperties;
+       /**
+        * {@literal Additional properties for the element. }
+        * @return {@code {@code Map<String,String> } }
+        */
+       public Map<String,String> getAdditionalProperties() {
+           return this.additionalProperties;
+       }
+       public void setAdditionalProperties(Map<String,String> additionalProperties)  {
+           this.additionalProperties = additionalProperties;
+       }
+
+   /**
+    * DesignPattern property names
+    * @return Set of Strings of the DesignPattern property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * DesignPattern enum property names
+     * @return Set of Strings of the DesignPattern enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * DesignPattern map property names
+     * @return Set of Strings of the DesignPattern map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * DesignPattern attribute property names
+     * @return Set of Strings of the DesignPattern attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+
+    /**
+     * Return the date/time that this DesignPattern should start to be used (null means it can be used from creationTime).
+     * @return Date the DesignPattern becomes effective.
+     */
+    public Date getEffectiveFromTime()
+    {
+        return effectiveFromTime;
+    }
+
+    public void setEffectiveFromTime(Date effectiveFromTime)
+    {
+        this.effectiveFromTime = effectiveFromTime;
+    }
+    /**
+     * Return the date/time that this DesignPattern should no longer be used.
+     *
+     * @return Date the DesignPattern stops being effective.
+     */
+    public Date getEffectiveToTime()
+    {
+        return effectiveToTime;
+    }
+    public void setEffectiveToTime(Date effectiveToTime)
+    {
+        this.effectiveToTime = effectiveToTime;
+    }
+
+    public void setExtraAttributes(Map<String, Object> extraAttributes) {
+        this.extraAttributes = extraAttributes;
+    }
+
+    public void setClassificationBeans(List<ClassificationBean> classifications) {
+        this.classifications = classifications;
+    }
+
+    /**
+     * Get the extra attributes - ones that are in addition to the standard types.
+     * @return map of attributes, null if there are none
+     */
+    public Map<String, Object> getExtraAttributes() {
+        return extraAttributes;
+    }
+
+     /**
+     * ClassificationBeans
+     * @return List of ClassificationBeans, null if there are none
+     */
+    public List<ClassificationBean> getClassificationBeans() {
+        return classifications;
+    }
+    /**
+      * Extra classifications are classifications that are not in the open metadata model - we include the OMRS ClassificationBeans.
+      * @return Map of classifications with the classification Name as the map key
+      */
+    public Map<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> getExtraClassificationBeans() {
+        return extraClassificationBeans;
+    }
+
+    public void setExtraClassificationBeans(Map<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> extraClassificationBeans) {
+        this.extraClassificationBeans = extraClassificationBeans;
+    }
+
+    public StringBuilder toString(StringBuilder sb) {
+        if (sb == null) {
+            sb = new StringBuilder();
+        }
+
+        sb.append("DesignPattern{");
+        if (systemAttributes !=null) {
+            sb.append("systemAttributes='").append(systemAttributes.toString()).append('\'');
+        }
+        sb.append("DesignPattern Attributes{");
+    	sb.append("Context=" +this.context);
+    	sb.append("Forces=" +this.forces);
+    	sb.append("ProblemStatement=" +this.problemStatement);
+    	sb.append("ProblemExample=" +this.problemExample);
+    	sb.append("SolutionDescription=" +this.solutionDescription);
+    	sb.append("SolutionExample=" +this.solutionExample);
+    	sb.append("Benefits=" +this.benefits);
+    	sb.append("Liabilities=" +this.liabilities);
+    	sb.append("QualifiedName=" +this.qualifiedName);
+    	sb.append("AdditionalProperties=" +this.additionalProperties);
+
+        sb.append('}');
+        if (classifications != null) {
+        sb.append(", classifications=[");
+            for (ClassificationBean classification:classifications) {
+                sb.append(classification.toString()).append(", ");
+            }
+            sb.append(" ],");
+        }
+        sb.append(", extraAttributes=[");
+        if (extraAttributes !=null) {
+            for (String attrname: extraAttributes.keySet()) {
+                sb.append(attrname).append(":");
+                sb.append(extraAttributes.get(attrname)).append(", ");
+            }
+        }
+        sb.append(" ]");
+
+        sb.append('}');
+
+        return sb;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        if (!super.equals(o)) { return false; }
+
+        DesignPattern that = (DesignPattern) o;
+        if (this.context != null && !Objects.equals(this.context,that.getContext())) {
+             return false;
+        }
+        if (this.forces != null && !Objects.equals(this.forces,that.getForces())) {
+             return false;
+        }
+        if (this.problemStatement != null && !Objects.equals(this.problemStatement,that.getProblemStatement())) {
+             return false;
+        }
+        if (this.problemExample != null && !Objects.equals(this.problemExample,that.getProblemExample())) {
+             return false;
+        }
+        if (this.solutionDescription != null && !Objects.equals(this.solutionDescription,that.getSolutionDescription())) {
+             return false;
+        }
+        if (this.solutionExample != null && !Objects.equals(this.solutionExample,that.getSolutionExample())) {
+             return false;
+        }
+        if (this.benefits != null && !Objects.equals(this.benefits,that.getBenefits())) {
+             return false;
+        }
+        if (this.liabilities != null && !Objects.equals(this.liabilities,that.getLiabilities())) {
+             return false;
+        }
+        if (this.qualifiedName != null && !Objects.equals(this.qualifiedName,that.getQualifiedName())) {
+             return false;
+        }
+        if (this.additionalProperties != null && !Objects.equals(this.additionalProperties,that.getAdditionalProperties())) {
+             return false;
+        }
+
+        // We view designPatterns as logically equal by checking the properties that the OMAS knows about - i.e. without accounting for extra attributes and references from the org.odpi.openmetadata.accessservices.subjectarea.server.
+        return Objects.equals(systemAttributes, that.systemAttributes) &&
+                Objects.equals(classifications, that.classifications) ;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(),
+         systemAttributes.hashCode(),
+         classifications.hashCode()
+          , this.context
+          , this.forces
+          , this.problemStatement
+          , this.problemExample
+          , this.solutionDescription
+          , this.solutionExample
+          , this.benefits
+          , this.liabilities
+          , this.qualifiedName
+          , this.additionalProperties
+        );
+    }
+
+    @Override
+    public String toString() {
+        return toString(new StringBuilder()).toString();
+    }
+}
@@ -0,0 +1,82 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.fvt.opentypes.enums;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * Defines the progress or completion of a discovery request.
+ */
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum DiscoveryRequestStatus implements Serializable {
+    /**
+      * Discovery request is waiting to execute.
+      */
+    Waiting(0, "Discovery request is waiting to execute.")
+,
+    /**
+      * Discovery request is executing.
+      */
+    InProgress(1, "Discovery request is executing.")
+,
+    /**
+      * Discovery request has failed.
+      */
+    Failed(2, "Discovery request has failed.")
+,
+    /**
+      * Discovery request has completed successfully.
+      */
+    Completed(3, "Discovery request has completed successfully.")
+,
+    /**
+      * Discovery request status is unknown.
+      */
+    Unknown(99, "Discovery request status is unknown.")
+;
+    private final int ordinal;
+    private final String description ;
+    /**
+     * Default constructor sets up the specific values for an DiscoveryRequestStatus enum instance.
+     *
+     * @param ordinal int enum value ordinal
+     * @param description String description
+     */
+    DiscoveryRequestStatus(int ordinal, String description) {
+        this.ordinal = ordinal;
+        this.description = description;
+    }
+
+    /**
+     * Return the numerical value for the enum.
+     *
+     * @return int enum value ordinal
+     */
+    public int getOrdinal() { return this.ordinal; }
+    /**
+     * Return the description for the enum.
+     *
+     * @return String description
+     */
+    public String getDescription() { return this.description; }
+    /**
+     * Return the descriptive name for the DiscoveryRequestStatus enum instance
+     *
+     * @return String name
+     */
+    public String getName() { return this.name(); }
+}
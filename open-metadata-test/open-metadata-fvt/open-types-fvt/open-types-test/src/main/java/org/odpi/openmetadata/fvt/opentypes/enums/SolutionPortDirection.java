@@ -0,0 +1,87 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.fvt.opentypes.enums;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * Defines the direction of flow of information through a solution port.
+ */
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum SolutionPortDirection implements Serializable {
+    /**
+      * The direction of flow is unknown.
+      */
+    Unknown(0, "The direction of flow is unknown.")
+,
+    /**
+      * The process is producing information through this port.
+      */
+    Output(1, "The process is producing information through this port.")
+,
+    /**
+      * The process is consuming information through this port.
+      */
+    Input(2, "The process is consuming information through this port.")
+,
+    /**
+      * The process has a call interface attached to this port.
+      */
+    InOut(3, "The process has a call interface attached to this port.")
+,
+    /**
+      * The process is issuing a call to an external API through this port.
+      */
+    OutIn(4, "The process is issuing a call to an external API through this port.")
+,
+    /**
+      * Another direction.
+      */
+    Other(99, "Another direction.")
+;
+    private final int ordinal;
+    private final String description ;
+    /**
+     * Default constructor sets up the specific values for an SolutionPortDirection enum instance.
+     *
+     * @param ordinal int enum value ordinal
+     * @param description String description
+     */
+    SolutionPortDirection(int ordinal, String description) {
+        this.ordinal = ordinal;
+        this.description = description;
+    }
+
+    /**
+     * Return the numerical value for the enum.
+     *
+     * @return int enum value ordinal
+     */
+    public int getOrdinal() { return this.ordinal; }
+    /**
+     * Return the description for the enum.
+     *
+     * @return String description
+     */
+    public String getDescription() { return this.description; }
+    /**
+     * Return the descriptive name for the SolutionPortDirection enum instance
+     *
+     * @return String name
+     */
+    public String getName() { return this.name(); }
+}
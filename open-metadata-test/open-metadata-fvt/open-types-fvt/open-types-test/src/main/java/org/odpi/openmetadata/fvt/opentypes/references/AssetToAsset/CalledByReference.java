@@ -0,0 +1,207 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.references.AssetToAsset;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.entities.Asset.Asset;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * This is a reference, which is a view of a relationships from the perspective of one of the ends. A relationships is
+ * the link between 2 OMAS entities.
+ *
+ * A reference is used when working with OMAS entity APIs. An OMAS entity has attributes, classifications
+ * and references.
+ *
+ * This Reference is called CalledByReference. It is used in type Asset to represent a
+ * reference to an OMAS entity of type asset. The reference also contains information
+ * about the relationships; the relationships guid, name, relationships attributes and a list of unique attributes.
+ * Relationship attributes are attributes of the relationships.
+ *
+ * It is possible to work with the relationships itself using the OMAS API using the relationships guid
+ * contained in this reference.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class CalledByReference extends Reference implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final Logger log = LoggerFactory.getLogger(CalledByReference.class);
+    private static final String className = CalledByReference.class.getName();
+
+    final static private String relationship_Type = "ProcessCall";
+    private Asset asset =null;
+
+
+
+    public Asset getAsset() {
+        return  asset;
+    }
+    public void setAsset(Asset asset) {
+        this.asset = asset;
+    }
+    private String description;
+    /**
+     * Description and purpose of the call.
+     * @return Description
+     */
+    public String getDescription() {
+        return this.description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+
+    public CalledByReference() {
+        this(null, null, (Map<String, Object>) null);
+    }
+
+    public CalledByReference(String guid) {
+        this(guid, null, (Map<String, Object>) null);
+    }
+
+    public CalledByReference(String guid, String relatedEndType) {
+        this(guid, relatedEndType, (Map<String, Object>) null);
+    }
+
+    public CalledByReference(String relatedEndType, Map<String, Object> uniqueAttributes) {
+        this(null, relatedEndType, uniqueAttributes);
+    }
+
+    public CalledByReference(String guid, String relatedEndType, Map<String, Object> uniqueAttributes) {
+        setRelationshipGuid(guid);
+        setRelatedEndType(relatedEndType);
+        setUniqueAttributes(uniqueAttributes);
+    }
+
+    public CalledByReference(Reference other) {
+        if (other != null) {
+            setRelationshipGuid(other.getRelationshipGuid());
+            setRelatedEndGuid(other.getRelatedEndGuid());
+            setRelatedEndType(other.getRelatedEndType());
+            setUniqueAttributes(other.getUniqueAttributes());
+        }
+    }
+    
+      /**
+       * Populate the reference from a relationships
+       * @param entityGuid String entity Guid
+       * @param line OMRSLine
+       */
+    public CalledByReference(String entityGuid, OMRSLine line) {
+        setRelationshipGuid(line.getGuid());
+        if (entityGuid.equals(line.getEntity1Guid())) {
+            setRelatedEndGuid(line.getEntity2Guid());
+            setRelatedEndType(line.getEntity2Type());
+            // TODO UniqueAttributes
+            //setUniqueAttributes(line.get
+        } else {
+            setRelatedEndGuid(line.getEntity1Guid());
+            setRelatedEndType(line.getEntity1Type());
+            // TODO UniqueAttributes
+            //setUniqueAttributes(line.get
+        }
+    }    
+
+    public CalledByReference(Map objIdMap) {
+        if (objIdMap != null) {
+            Object reg = objIdMap.get(KEY_RELATED_END_GUID);
+            Object rg = objIdMap.get(KEY_RELATIONSHIP_GUID);
+            Object t = objIdMap.get(KEY_TYPENAME);
+            Object u = objIdMap.get(KEY_UNIQUE_ATTRIBUTES);
+
+            if (reg != null) {
+                setRelatedEndGuid(reg.toString());
+            }
+            if (rg != null) {
+                setRelationshipGuid(rg.toString());
+            }
+
+
+            if (t != null) {
+                setRelatedEndType(t.toString());
+            }
+
+            if (u != null && u instanceof Map) {
+                setUniqueAttributes((Map) u);
+            }
+        }
+    }
+
+    public StringBuilder toString(StringBuilder sb) {
+        if (sb == null) {
+            sb = new StringBuilder();
+        }
+
+        sb.append("Reference{");
+        sb.append("relatedEndGuid='").append(getRelatedEndGuid()).append('\'');
+        sb.append("relationshipGuid='").append(getRelationshipGuid()).append('\'');
+        sb.append("relatedEndType='").append(getRelatedEndType()).append('\'');
+        sb.append(", uniqueAttributes={");
+//  AtlasBaseTypeDef.dumpObjects(uniqueAttributes, sb);
+        sb.append("}");
+ 	sb.append("{");
+	sb.append("this.description ");
+ 	sb.append('}');
+
+
+        sb.append('}');
+
+        return sb;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        Reference that = (Reference) o;
+
+        if (relatedEndGuid != null && !Objects.equals(relatedEndGuid, that.getRelatedEndGuid())) {
+            return false;
+        }
+        if (relationshipGuid != null && !Objects.equals(relationshipGuid, that.getRelationshipGuid())) {
+            return false;
+        }
+        CalledByReference typedThat =(CalledByReference)that;
+        if (this.description != null && !Objects.equals(this.description,typedThat.getDescription())) {
+            return false;
+        }
+
+        return Objects.equals(relatedEndType, that.getRelatedEndType()) &&
+                Objects.equals(uniqueAttributes, that.getUniqueAttributes());
+    }
+
+
+    @Override
+    public int hashCode() {
+        return relatedEndGuid != null ? Objects.hash(relatedEndGuid) : Objects.hash(relatedEndType, uniqueAttributes
+, this.description
+);
+    }
+}
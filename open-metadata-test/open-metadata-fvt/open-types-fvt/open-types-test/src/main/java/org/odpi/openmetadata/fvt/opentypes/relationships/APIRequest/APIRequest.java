@@ -0,0 +1,162 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.APIRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * APIRequest is a relationships between an entity of type APIOperation and an entity of type SchemaType.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has usedAsAPIRequest as the proxy name for entity type APIOperation.
+ * The second entity proxy has apiRequest as the proxy name for entity type SchemaType.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ Link between an API operation and its request structure.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class APIRequest extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(APIRequest.class);
+    private static final String className = APIRequest.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public APIRequest() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "APIRequest";
+       entity1Name = "usedAsAPIRequest";
+       entity1Type = "APIOperation";
+       entity2Name = "apiRequest";
+       entity2Type = "SchemaType";
+       typeDefGuid = "4ab3b466-31bd-48ea-8aa2-75623476f2e2";
+    }
+
+    public APIRequest(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public APIRequest(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public APIRequest(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+
+   /**
+    * APIRequest property names
+    * @return Set of Strings of the APIRequest property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * APIRequest enum property names
+     * @return Set of Strings of the APIRequest enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * APIRequest map property names
+     * @return Set of Strings of the APIRequest map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * APIRequest attribute property names
+     * @return Set of Strings of the APIRequest attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" APIRequest=");
+             sb.append(super.toString(sb));
+             sb.append(" APIRequest Attributes{");
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}
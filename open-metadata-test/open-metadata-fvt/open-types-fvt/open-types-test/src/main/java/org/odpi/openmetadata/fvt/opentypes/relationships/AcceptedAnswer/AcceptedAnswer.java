@@ -0,0 +1,180 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.AcceptedAnswer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * AcceptedAnswer is a relationships between an entity of type Comment and an entity of type Comment.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has answeredQuestions as the proxy name for entity type Comment.
+ * The second entity proxy has acceptedAnswers as the proxy name for entity type Comment.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ Identifies a comment as answering a question asked in another comment.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AcceptedAnswer extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(AcceptedAnswer.class);
+    private static final String className = AcceptedAnswer.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "isPublic",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+          "isPublic",
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public AcceptedAnswer() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "AcceptedAnswer";
+       entity1Name = "answeredQuestions";
+       entity1Type = "Comment";
+       entity2Name = "acceptedAnswers";
+       entity2Type = "Comment";
+       typeDefGuid = "ecf1a3ca-adc5-4747-82cf-10ec590c5c69";
+    }
+
+    public AcceptedAnswer(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public AcceptedAnswer(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public AcceptedAnswer(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("isPublic",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private Boolean isPublic;
+        /**
+            * {@literal Is the attached answer visible to more than the originator? }
+            * @return {@code Boolean }
+            */
+         public Boolean getIsPublic() {
+             return this.isPublic;
+         }
+         public void setIsPublic(Boolean isPublic)  {
+            this.isPublic = isPublic;
+        }
+
+   /**
+    * AcceptedAnswer property names
+    * @return Set of Strings of the AcceptedAnswer property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * AcceptedAnswer enum property names
+     * @return Set of Strings of the AcceptedAnswer enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * AcceptedAnswer map property names
+     * @return Set of Strings of the AcceptedAnswer map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * AcceptedAnswer attribute property names
+     * @return Set of Strings of the AcceptedAnswer attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" AcceptedAnswer=");
+             sb.append(super.toString(sb));
+             sb.append(" AcceptedAnswer Attributes{");
+             sb.append("isPublic=" + this.isPublic +",");
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}
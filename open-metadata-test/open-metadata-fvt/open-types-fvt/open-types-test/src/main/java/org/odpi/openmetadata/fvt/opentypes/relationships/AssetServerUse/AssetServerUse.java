@@ -0,0 +1,205 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.AssetServerUse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * AssetServerUse is a relationships between an entity of type SoftwareServerCapability and an entity of type Asset.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has consumedBy as the proxy name for entity type SoftwareServerCapability.
+ * The second entity proxy has consumedAsset as the proxy name for entity type Asset.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ Defines that a server capability is using an asset.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AssetServerUse extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(AssetServerUse.class);
+    private static final String className = AssetServerUse.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "useType",
+          "description",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+          "description",
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+           "useType",
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public AssetServerUse() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "AssetServerUse";
+       entity1Name = "consumedBy";
+       entity1Type = "SoftwareServerCapability";
+       entity2Name = "consumedAsset";
+       entity2Type = "Asset";
+       typeDefGuid = "92b75926-8e9a-46c7-9d98-89009f622397";
+    }
+
+    public AssetServerUse(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public AssetServerUse(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public AssetServerUse(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          enumPropertyValue = new EnumPropertyValue();
+          // describes how the software server capability uses the asset.
+          enumPropertyValue.setOrdinal(useType.ordinal());
+          enumPropertyValue.setSymbolicName(useType.name());
+          instanceProperties.setProperty("useType",enumPropertyValue);
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("useType",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("description",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private ServerAssetUseType useType;
+        /**
+            * {@literal Describes how the software server capability uses the asset. }
+            * @return {@code ServerAssetUseType }
+            */
+         public ServerAssetUseType getUseType() {
+             return this.useType;
+         }
+         public void setUseType(ServerAssetUseType useType)  {
+            this.useType = useType;
+        }
+         private String description;
+        /**
+            * {@literal Additional information on how the asset is use by the software server capability. }
+            * @return {@code String }
+            */
+         public String getDescription() {
+             return this.description;
+         }
+         public void setDescription(String description)  {
+            this.description = description;
+        }
+
+   /**
+    * AssetServerUse property names
+    * @return Set of Strings of the AssetServerUse property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * AssetServerUse enum property names
+     * @return Set of Strings of the AssetServerUse enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * AssetServerUse map property names
+     * @return Set of Strings of the AssetServerUse map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * AssetServerUse attribute property names
+     * @return Set of Strings of the AssetServerUse attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" AssetServerUse=");
+             sb.append(super.toString(sb));
+             sb.append(" AssetServerUse Attributes{");
+             sb.append("description=" + this.description +",");
+             if ( useType!=null) {
+                 sb.append("useType=" + useType.name());
+             }
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}
@@ -0,0 +1,180 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.DiscoveredNestedDataField;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * DiscoveredNestedDataField is a relationships between an entity of type DataField and an entity of type DataField.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has parentDataField as the proxy name for entity type DataField.
+ * The second entity proxy has nestedDataFields as the proxy name for entity type DataField.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ Nested data fields under a single parent node.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class DiscoveredNestedDataField extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(DiscoveredNestedDataField.class);
+    private static final String className = DiscoveredNestedDataField.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "dataFieldPosition",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+          "dataFieldPosition",
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public DiscoveredNestedDataField() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "DiscoveredNestedDataField";
+       entity1Name = "parentDataField";
+       entity1Type = "DataField";
+       entity2Name = "nestedDataFields";
+       entity2Type = "DataField";
+       typeDefGuid = "60f2d263-e24d-4f20-8c0d-b5e12356cd54";
+    }
+
+    public DiscoveredNestedDataField(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public DiscoveredNestedDataField(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public DiscoveredNestedDataField(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("dataFieldPosition",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private Integer dataFieldPosition;
+        /**
+            * {@literal Positional order of the data field with its parent data field. }
+            * @return {@code Integer }
+            */
+         public Integer getDataFieldPosition() {
+             return this.dataFieldPosition;
+         }
+         public void setDataFieldPosition(Integer dataFieldPosition)  {
+            this.dataFieldPosition = dataFieldPosition;
+        }
+
+   /**
+    * DiscoveredNestedDataField property names
+    * @return Set of Strings of the DiscoveredNestedDataField property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * DiscoveredNestedDataField enum property names
+     * @return Set of Strings of the DiscoveredNestedDataField enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * DiscoveredNestedDataField map property names
+     * @return Set of Strings of the DiscoveredNestedDataField map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * DiscoveredNestedDataField attribute property names
+     * @return Set of Strings of the DiscoveredNestedDataField attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" DiscoveredNestedDataField=");
+             sb.append(super.toString(sb));
+             sb.append(" DiscoveredNestedDataField Attributes{");
+             sb.append("dataFieldPosition=" + this.dataFieldPosition +",");
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}
@@ -0,0 +1,180 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.MetadataCohortPeer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * MetadataCohortPeer is a relationships between an entity of type MetadataRepositoryCohort and an entity of type CohortMember.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has registeredWithCohorts as the proxy name for entity type MetadataRepositoryCohort.
+ * The second entity proxy has cohortMembership as the proxy name for entity type CohortMember.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ A metadata repository's registration with an open metadata cohort.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class MetadataCohortPeer extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(MetadataCohortPeer.class);
+    private static final String className = MetadataCohortPeer.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "registrationDate",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+          "registrationDate",
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public MetadataCohortPeer() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "MetadataCohortPeer";
+       entity1Name = "registeredWithCohorts";
+       entity1Type = "MetadataRepositoryCohort";
+       entity2Name = "cohortMembership";
+       entity2Type = "CohortMember";
+       typeDefGuid = "954cdba1-3d69-4db1-bf0e-d59fd2c25a27";
+    }
+
+    public MetadataCohortPeer(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public MetadataCohortPeer(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public MetadataCohortPeer(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("registrationDate",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private Date registrationDate;
+        /**
+            * {@literal Date first registered with the cohort. }
+            * @return {@code Date }
+            */
+         public Date getRegistrationDate() {
+             return this.registrationDate;
+         }
+         public void setRegistrationDate(Date registrationDate)  {
+            this.registrationDate = registrationDate;
+        }
+
+   /**
+    * MetadataCohortPeer property names
+    * @return Set of Strings of the MetadataCohortPeer property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * MetadataCohortPeer enum property names
+     * @return Set of Strings of the MetadataCohortPeer enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * MetadataCohortPeer map property names
+     * @return Set of Strings of the MetadataCohortPeer map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * MetadataCohortPeer attribute property names
+     * @return Set of Strings of the MetadataCohortPeer attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" MetadataCohortPeer=");
+             sb.append(super.toString(sb));
+             sb.append(" MetadataCohortPeer Attributes{");
+             sb.append("registrationDate=" + this.registrationDate +",");
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}
@@ -0,0 +1,259 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.PreferredTerm;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * PreferredTerm is a relationships between an entity of type GlossaryTerm and an entity of type GlossaryTerm.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has alternateTerms as the proxy name for entity type GlossaryTerm.
+ * The second entity proxy has preferredTerms as the proxy name for entity type GlossaryTerm.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ Link to an alternative term that the organization prefer is used.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class PreferredTerm extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(PreferredTerm.class);
+    private static final String className = PreferredTerm.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "description",
+          "expression",
+          "status",
+          "steward",
+          "source",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+          "description",
+          "expression",
+          "steward",
+          "source",
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+           "status",
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public PreferredTerm() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "PreferredTerm";
+       entity1Name = "alternateTerms";
+       entity1Type = "GlossaryTerm";
+       entity2Name = "preferredTerms";
+       entity2Type = "GlossaryTerm";
+       typeDefGuid = "8ac8f9de-9cdd-4103-8a33-4cb204b78c2a";
+    }
+
+    public PreferredTerm(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public PreferredTerm(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public PreferredTerm(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          enumPropertyValue = new EnumPropertyValue();
+          // the status of or confidence in the relationship.
+          enumPropertyValue.setOrdinal(status.ordinal());
+          enumPropertyValue.setSymbolicName(status.name());
+          instanceProperties.setProperty("status",enumPropertyValue);
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("description",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("expression",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("status",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("steward",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("source",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private String description;
+        /**
+            * {@literal Description of the relationship. }
+            * @return {@code String }
+            */
+         public String getDescription() {
+             return this.description;
+         }
+         public void setDescription(String description)  {
+            this.description = description;
+        }
+         private String expression;
+        /**
+            * {@literal An expression that explains the relationship. }
+            * @return {@code String }
+            */
+         public String getExpression() {
+             return this.expression;
+         }
+         public void setExpression(String expression)  {
+            this.expression = expression;
+        }
+         private TermRelationshipStatus status;
+        /**
+            * {@literal The status of or confidence in the relationship. }
+            * @return {@code TermRelationshipStatus }
+            */
+         public TermRelationshipStatus getStatus() {
+             return this.status;
+         }
+         public void setStatus(TermRelationshipStatus status)  {
+            this.status = status;
+        }
+         private String steward;
+        /**
+            * {@literal Person responsible for the relationship. }
+            * @return {@code String }
+            */
+         public String getSteward() {
+             return this.steward;
+         }
+         public void setSteward(String steward)  {
+            this.steward = steward;
+        }
+         private String source;
+        /**
+            * {@literal Person, organization or automated process that created the relationship. }
+            * @return {@code String }
+            */
+         public String getSource() {
+             return this.source;
+         }
+         public void setSource(String source)  {
+            this.source = source;
+        }
+
+   /**
+    * PreferredTerm property names
+    * @return Set of Strings of the PreferredTerm property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * PreferredTerm enum property names
+     * @return Set of Strings of the PreferredTerm enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * PreferredTerm map property names
+     * @return Set of Strings of the PreferredTerm map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * PreferredTerm attribute property names
+     * @return Set of Strings of the PreferredTerm attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" PreferredTerm=");
+             sb.append(super.toString(sb));
+             sb.append(" PreferredTerm Attributes{");
+             sb.append("description=" + this.description +",");
+             sb.append("expression=" + this.expression +",");
+             sb.append("steward=" + this.steward +",");
+             sb.append("source=" + this.source +",");
+             if ( status!=null) {
+                 sb.append("status=" + status.name());
+             }
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}
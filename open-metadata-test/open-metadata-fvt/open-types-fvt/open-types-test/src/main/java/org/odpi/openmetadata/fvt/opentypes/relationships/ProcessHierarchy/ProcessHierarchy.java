@@ -0,0 +1,187 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.ProcessHierarchy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * ProcessHierarchy is a relationships between an entity of type Process and an entity of type Process.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has parentProcess as the proxy name for entity type Process.
+ * The second entity proxy has childProcess as the proxy name for entity type Process.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ A hierarchical relationship between processes.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class ProcessHierarchy extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(ProcessHierarchy.class);
+    private static final String className = ProcessHierarchy.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "containmentType",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+           "containmentType",
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public ProcessHierarchy() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "ProcessHierarchy";
+       entity1Name = "parentProcess";
+       entity1Type = "Process";
+       entity2Name = "childProcess";
+       entity2Type = "Process";
+       typeDefGuid = "70dbbda3-903f-49f7-9782-32b503c43e0e";
+    }
+
+    public ProcessHierarchy(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public ProcessHierarchy(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public ProcessHierarchy(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          enumPropertyValue = new EnumPropertyValue();
+          // the type of containment that exists between the related processes.
+          enumPropertyValue.setOrdinal(containmentType.ordinal());
+          enumPropertyValue.setSymbolicName(containmentType.name());
+          instanceProperties.setProperty("containmentType",enumPropertyValue);
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("containmentType",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private ProcessContainmentType containmentType;
+        /**
+            * {@literal The type of containment that exists between the related processes. }
+            * @return {@code ProcessContainmentType }
+            */
+         public ProcessContainmentType getContainmentType() {
+             return this.containmentType;
+         }
+         public void setContainmentType(ProcessContainmentType containmentType)  {
+            this.containmentType = containmentType;
+        }
+
+   /**
+    * ProcessHierarchy property names
+    * @return Set of Strings of the ProcessHierarchy property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * ProcessHierarchy enum property names
+     * @return Set of Strings of the ProcessHierarchy enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * ProcessHierarchy map property names
+     * @return Set of Strings of the ProcessHierarchy map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * ProcessHierarchy attribute property names
+     * @return Set of Strings of the ProcessHierarchy attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" ProcessHierarchy=");
+             sb.append(super.toString(sb));
+             sb.append(" ProcessHierarchy Attributes{");
+             if ( containmentType!=null) {
+                 sb.append("containmentType=" + containmentType.name());
+             }
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}
@@ -0,0 +1,180 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.SupportedDiscoveryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * SupportedDiscoveryService is a relationships between an entity of type OpenDiscoveryService and an entity of type OpenDiscoveryEngine.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has supportedDiscoveryServices as the proxy name for entity type OpenDiscoveryService.
+ * The second entity proxy has calledFromDiscoveryEngines as the proxy name for entity type OpenDiscoveryEngine.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ A discovery service that is supported by a discovery engine.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class SupportedDiscoveryService extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(SupportedDiscoveryService.class);
+    private static final String className = SupportedDiscoveryService.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "assetTypes",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+          "assetTypes",
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public SupportedDiscoveryService() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "SupportedDiscoveryService";
+       entity1Name = "supportedDiscoveryServices";
+       entity1Type = "OpenDiscoveryService";
+       entity2Name = "calledFromDiscoveryEngines";
+       entity2Type = "OpenDiscoveryEngine";
+       typeDefGuid = "dff45aeb-c65e-428c-9ab3-d756bc5d8dbb";
+    }
+
+    public SupportedDiscoveryService(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public SupportedDiscoveryService(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public SupportedDiscoveryService(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("assetTypes",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private List<String> assetTypes;
+        /**
+            * {@literal List of asset types that the discovery engine passed to the discovery service to analyze. }
+            * @return {@code {@code List<String> } }
+            */
+         public List<String> getAssetTypes() {
+             return this.assetTypes;
+         }
+         public void setAssetTypes(List<String> assetTypes)  {
+            this.assetTypes = assetTypes;
+        }
+
+   /**
+    * SupportedDiscoveryService property names
+    * @return Set of Strings of the SupportedDiscoveryService property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * SupportedDiscoveryService enum property names
+     * @return Set of Strings of the SupportedDiscoveryService enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * SupportedDiscoveryService map property names
+     * @return Set of Strings of the SupportedDiscoveryService map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * SupportedDiscoveryService attribute property names
+     * @return Set of Strings of the SupportedDiscoveryService attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" SupportedDiscoveryService=");
+             sb.append(super.toString(sb));
+             sb.append(" SupportedDiscoveryService Attributes{");
+             sb.append("assetTypes=" + this.assetTypes +",");
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}
@@ -0,0 +1,188 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.TermTYPEDBYRelationship;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.fvt.opentypes.relationships.TermTYPEDBYRelationship.TermTYPEDBYRelationship;
+
+import java.util.*;
+
+/**
+ * Static mapping methods to map between TermTYPEDBYRelationship and the omrs Relationship.
+ */
+public class TermTYPEDBYRelationshipMapper {
+       private static final Logger log = LoggerFactory.getLogger(TermTYPEDBYRelationshipMapper.class);
+       private static final String className = TermTYPEDBYRelationshipMapper.class.getName();
+
+       public static TermTYPEDBYRelationship mapOmrsRelationshipToTermTYPEDBYRelationship(Relationship omrsRelationship) {
+                String methodName = "mapOmrsRelationshipToTermTYPEDBYRelationship";
+               TermTYPEDBYRelationship termTYPEDBYRelationship = new TermTYPEDBYRelationship(omrsRelationship);
+               SystemAttributes systemAttributes = new SystemAttributes();
+               systemAttributes.setStatus(omrsRelationship.getStatus());
+               systemAttributes.setCreatedBy(omrsRelationship.getCreatedBy());
+               systemAttributes.setUpdatedBy(omrsRelationship.getUpdatedBy());
+               systemAttributes.setCreateTime(omrsRelationship.getCreateTime());
+               systemAttributes.setUpdateTime(omrsRelationship.getUpdateTime());
+               systemAttributes.setVersion(omrsRelationship.getVersion());
+               systemAttributes.setGUID(omrsRelationship.getGUID());
+               termTYPEDBYRelationship.setGuid(omrsRelationship.getGUID());
+               termTYPEDBYRelationship.setSystemAttributes(systemAttributes);
+
+               InstanceProperties omrsRelationshipProperties = omrsRelationship.getProperties();
+               if (omrsRelationshipProperties !=null) {
+                 omrsRelationshipProperties.setEffectiveFromTime(termTYPEDBYRelationship.getEffectiveFromTime());
+                 omrsRelationshipProperties.setEffectiveToTime(termTYPEDBYRelationship.getEffectiveToTime());
+                 Iterator omrsPropertyIterator = omrsRelationshipProperties.getPropertyNames();
+                 while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsRelationshipProperties.getPropertyValue(name);
+                    // supplied guid matches the expected type
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                                               case PRIMITIVE:
+                                                   PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                                                   actualValue = primitivePropertyValue.getPrimitiveValue();
+                                                   if (TermTYPEDBYRelationship.getAttributePropertyNames().contains(name)) {
+                                                      if (name.equals("description")) {
+                                                           termTYPEDBYRelationship.setDescription((String)actualValue);
+                                                      }
+                                                      if (name.equals("steward")) {
+                                                           termTYPEDBYRelationship.setSteward((String)actualValue);
+                                                      }
+                                                      if (name.equals("source")) {
+                                                           termTYPEDBYRelationship.setSource((String)actualValue);
+                                                      }
+                                                   } else {
+                                                       // put out the omrs value object
+                                                       if (termTYPEDBYRelationship.getExtraAttributes() ==null) {
+                                                            Map<String, Object> extraAttributes = new HashMap();
+                                                            termTYPEDBYRelationship.setExtraAttributes(extraAttributes);
+                                                        }
+                                                      termTYPEDBYRelationship.getExtraAttributes().put(name, primitivePropertyValue);
+                                                   }
+                                                   break;
+                                               case ENUM:
+                                                   EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                                                   String symbolicName = enumPropertyValue.getSymbolicName();
+                                                   if (TermTYPEDBYRelationship.getEnumPropertyNames().contains(name)) {
+                                                        if (name.equals("status")) {
+                                                              TermRelationshipStatus status = TermRelationshipStatus.valueOf(symbolicName);
+                                                             termTYPEDBYRelationship.setStatus(status);
+                                                        }
+                                                   } else {
+                                                       // put out the omrs value object
+                                                        if (termTYPEDBYRelationship.getExtraAttributes() ==null) {
+                                                            Map<String, Object> extraAttributes = new HashMap();
+                                                            termTYPEDBYRelationship.setExtraAttributes(extraAttributes);
+                                                        }
+
+                                                        termTYPEDBYRelationship.getExtraAttributes().put(name, enumPropertyValue);
+                                                    }
+                       
+                                                   break;
+                                               case MAP:
+                                                    if (TermTYPEDBYRelationship.getMapPropertyNames().contains(name)) {
+                                                        MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                                        InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                                                    }
+                                                    break;
+                                               case ARRAY:
+                                               case STRUCT:
+                                               case UNKNOWN:
+                                                   // error
+                                                   break;
+                    }
+                 }   // end while
+               }
+               return termTYPEDBYRelationship;
+       }
+       public static Relationship mapTermTYPEDBYRelationshipToOmrsRelationship(TermTYPEDBYRelationship termTYPEDBYRelationship) {
+           Relationship omrsRelationship = Line.createOmrsRelationship(termTYPEDBYRelationship);
+
+           SystemAttributes systemAttributes = termTYPEDBYRelationship.getSystemAttributes();
+           if (systemAttributes!=null) {
+               if (systemAttributes.getCreatedBy()!=null)
+                   omrsRelationship.setCreatedBy(systemAttributes.getCreatedBy());
+               if (systemAttributes.getUpdatedBy()!=null)
+                   omrsRelationship.setUpdatedBy(systemAttributes.getUpdatedBy());
+               if (systemAttributes.getCreateTime()!=null)
+                   omrsRelationship.setCreateTime(systemAttributes.getCreateTime());
+               if (systemAttributes.getUpdateTime()!=null)
+                   omrsRelationship.setUpdateTime(systemAttributes.getUpdateTime());
+               if (systemAttributes.getVersion()!=null)
+                   omrsRelationship.setVersion(systemAttributes.getVersion());
+                if (systemAttributes.getGUID()!=null)
+                   omrsRelationship.setGUID(systemAttributes.getGUID());
+               if (systemAttributes.getStatus()!=null)
+                   omrsRelationship.setStatus(systemAttributes.getStatus());
+           }
+           //set proxy 1
+           EntityProxy entityOne = new EntityProxy();
+           entityOne.setGUID(termTYPEDBYRelationship.getEntity1Guid());
+           String type1 = termTYPEDBYRelationship.getEntity1Type();
+           InstanceType instancetype1 = new InstanceType();
+           instancetype1.setTypeDefName(type1);
+           entityOne.setType(instancetype1);
+           //set proxy 2
+           EntityProxy entityTwo = new EntityProxy();
+           entityTwo.setGUID(termTYPEDBYRelationship.getEntity2Guid());
+           String type2 = termTYPEDBYRelationship.getEntity2Type();
+           InstanceType instancetype2 = new InstanceType();
+           instancetype2.setTypeDefName(type2);
+           entityTwo.setType(instancetype2);
+           // set relationshipType
+           InstanceType relationshipType = new InstanceType();
+           relationshipType.setTypeDefGUID(termTYPEDBYRelationship.getTypeDefGuid());
+           relationshipType.setTypeDefName("TermTYPEDBYRelationship");
+           omrsRelationship.setType(relationshipType);           
+   
+           omrsRelationship.setEntityOneProxy(entityOne);
+           omrsRelationship.setEntityTwoProxy(entityTwo);           
+           if (omrsRelationship.getGUID() == null) {
+               omrsRelationship.setGUID(termTYPEDBYRelationship.getGuid());
+           }
+
+           InstanceProperties instanceProperties = new InstanceProperties();
+           // primitives
+
+            if (termTYPEDBYRelationship.getDescription()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(termTYPEDBYRelationship.getDescription());
+                instanceProperties.setProperty("description", primitivePropertyValue);
+            }
+            if (termTYPEDBYRelationship.getSteward()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(termTYPEDBYRelationship.getSteward());
+                instanceProperties.setProperty("steward", primitivePropertyValue);
+            }
+            if (termTYPEDBYRelationship.getSource()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(termTYPEDBYRelationship.getSource());
+                instanceProperties.setProperty("source", primitivePropertyValue);
+            }
+            if (termTYPEDBYRelationship.getStatus()!=null) {
+                TermRelationshipStatus enumType = termTYPEDBYRelationship.getStatus();
+                EnumPropertyValue enumPropertyValue = new EnumPropertyValue();
+                enumPropertyValue.setOrdinal(enumType.ordinal());
+                enumPropertyValue.setSymbolicName(enumType.name());
+                instanceProperties.setProperty("status", enumPropertyValue);
+            }
+            omrsRelationship.setProperties(instanceProperties);
+
+           return omrsRelationship;
+       }
+}